@@ -208,6 +208,17 @@ export interface EmitterOptionsDev {
   "use-object-for-unknown"?: boolean;
   "float32-as-double"?: boolean;
   "uuid-as-string"?: boolean;
+  "lazy-typed-headers"?: boolean;
+  "generate-polling-scheduler"?: boolean;
+  "enable-page-prefetch"?: boolean;
+  "typed-unions"?: boolean;
+  "use-date-time-codec"?: boolean;
+  "use-byte-array-for-base64url"?: boolean;
+  "validate-in-serialization"?: boolean;
+  "jsonl-streaming"?: boolean;
+  "generate-file-upload-overloads"?: boolean;
+  "stream-response-deserialization"?: boolean;
+  "conditional-request-cache"?: boolean;
   polling?: any;
 
   // versioning
@@ -1512,6 +1523,12 @@ export class CodeModelBuilder {
           }
         }
       }
+      if (param.kind === "path" && (param.style !== "simple" || param.allowReserved)) {
+        // RFC 6570 expansion of path parameter, e.g. "{.param*}", "{;param}" or "{+param}"
+        // "path" and "fragment" are not in SerializationStyle of codemodel, generator accepts them as-is
+        style = param.style as unknown as SerializationStyle;
+        explode = param.explode;
+      }
 
       let parameterName = param.name;
       const parameterOnClient = param.onClient;
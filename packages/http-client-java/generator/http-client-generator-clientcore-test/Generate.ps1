@@ -28,6 +28,14 @@ $generateScript = {
   # for each test run. We do this by appending a random number to the output directory.
   # Without this, we could have multiple runs trying to write to the same directory which introduces race conditions.
   $tspOptions = "--option ""@typespec/http-client-java.emitter-output-dir={project-root}/tsp-output/$(Get-Random)"""
+  if ($tspFile -match "payload[\\/]pageable[\\/]") {
+    # test for enable-page-prefetch
+    $tspOptions += " --option ""@typespec/http-client-java.enable-page-prefetch=true"""
+  }
+  if ($tspFile -match "type[\\/]file[\\/]") {
+    # test for generate-file-upload-overloads
+    $tspOptions += " --option ""@typespec/http-client-java.generate-file-upload-overloads=true"""
+  }
 
   $tspTrace = "--trace import-resolution --trace projection --trace http-client-java"
   $tspCommand = "npx --no tsp compile $tspFile $tspOptions $tspTrace"
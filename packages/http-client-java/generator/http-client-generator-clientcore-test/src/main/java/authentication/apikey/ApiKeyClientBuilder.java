@@ -50,6 +50,13 @@ public final class ApiKeyClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the ApiKeyClientBuilder.
      */
@@ -70,6 +77,7 @@ public final class ApiKeyClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ApiKeyClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -86,6 +94,7 @@ public final class ApiKeyClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ApiKeyClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -96,6 +105,7 @@ public final class ApiKeyClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ApiKeyClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -113,6 +123,7 @@ public final class ApiKeyClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ApiKeyClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -129,6 +140,7 @@ public final class ApiKeyClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ApiKeyClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -145,6 +157,7 @@ public final class ApiKeyClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ApiKeyClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -161,6 +174,7 @@ public final class ApiKeyClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ApiKeyClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -177,6 +191,7 @@ public final class ApiKeyClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ApiKeyClientBuilder credential(KeyCredential keyCredential) {
+        this.createdHttpPipeline = null;
         this.keyCredential = keyCredential;
         return this;
     }
@@ -193,6 +208,7 @@ public final class ApiKeyClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ApiKeyClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -215,7 +231,7 @@ public final class ApiKeyClientBuilder
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        ApiKeyClientImpl client = new ApiKeyClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        ApiKeyClientImpl client = new ApiKeyClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -245,6 +261,15 @@ public final class ApiKeyClientBuilder
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of ApiKeyClient class.
      * 
@@ -13,7 +13,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * Initializes a new instance of the ApiKeyClient type.
@@ -86,15 +85,7 @@ public final class ApiKeyClientImpl {
     @ServiceInterface(name = "ApiKeyClient", host = "{endpoint}")
     public interface ApiKeyClientService {
         static ApiKeyClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("authentication.apikey.implementation.ApiKeyClientServiceImpl");
-                return (ApiKeyClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return authentication.apikey.implementation.ApiKeyClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
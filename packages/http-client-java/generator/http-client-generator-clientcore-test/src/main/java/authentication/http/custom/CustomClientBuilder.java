@@ -51,6 +51,13 @@ public final class CustomClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the CustomClientBuilder.
      */
@@ -71,6 +78,7 @@ public final class CustomClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public CustomClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -87,6 +95,7 @@ public final class CustomClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public CustomClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -97,6 +106,7 @@ public final class CustomClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public CustomClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -114,6 +124,7 @@ public final class CustomClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public CustomClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -130,6 +141,7 @@ public final class CustomClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public CustomClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -146,6 +158,7 @@ public final class CustomClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public CustomClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -162,6 +175,7 @@ public final class CustomClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public CustomClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -178,6 +192,7 @@ public final class CustomClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public CustomClientBuilder credential(KeyCredential keyCredential) {
+        this.createdHttpPipeline = null;
         this.keyCredential = keyCredential;
         return this;
     }
@@ -194,6 +209,7 @@ public final class CustomClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public CustomClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -216,7 +232,7 @@ public final class CustomClientBuilder
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        CustomClientImpl client = new CustomClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        CustomClientImpl client = new CustomClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -246,6 +262,15 @@ public final class CustomClientBuilder
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of CustomClient class.
      * 
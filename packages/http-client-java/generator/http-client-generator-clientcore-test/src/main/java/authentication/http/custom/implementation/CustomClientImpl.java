@@ -13,7 +13,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * Initializes a new instance of the CustomClient type.
@@ -86,15 +85,7 @@ public final class CustomClientImpl {
     @ServiceInterface(name = "CustomClient", host = "{endpoint}")
     public interface CustomClientService {
         static CustomClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("authentication.http.custom.implementation.CustomClientServiceImpl");
-                return (CustomClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return authentication.http.custom.implementation.CustomClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
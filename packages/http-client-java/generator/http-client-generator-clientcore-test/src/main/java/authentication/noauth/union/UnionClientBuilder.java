@@ -55,6 +55,13 @@ public final class UnionClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the UnionClientBuilder.
      */
@@ -75,6 +82,7 @@ public final class UnionClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -91,6 +99,7 @@ public final class UnionClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -101,6 +110,7 @@ public final class UnionClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -118,6 +128,7 @@ public final class UnionClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -134,6 +145,7 @@ public final class UnionClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -150,6 +162,7 @@ public final class UnionClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -166,6 +179,7 @@ public final class UnionClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -182,6 +196,7 @@ public final class UnionClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder credential(OAuthTokenCredential tokenCredential) {
+        this.createdHttpPipeline = null;
         this.tokenCredential = tokenCredential;
         return this;
     }
@@ -198,6 +213,7 @@ public final class UnionClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -220,7 +236,7 @@ public final class UnionClientBuilder
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        UnionClientImpl client = new UnionClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        UnionClientImpl client = new UnionClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -252,6 +268,15 @@ public final class UnionClientBuilder
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of UnionClient class.
      * 
@@ -12,7 +12,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * Initializes a new instance of the UnionClient type.
@@ -85,15 +84,7 @@ public final class UnionClientImpl {
     @ServiceInterface(name = "UnionClient", host = "{endpoint}")
     public interface UnionClientService {
         static UnionClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("authentication.union.implementation.UnionClientServiceImpl");
-                return (UnionClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return authentication.union.implementation.UnionClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
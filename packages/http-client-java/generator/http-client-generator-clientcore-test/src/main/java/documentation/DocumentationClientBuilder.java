@@ -47,6 +47,13 @@ public final class DocumentationClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the DocumentationClientBuilder.
      */
@@ -67,6 +74,7 @@ public final class DocumentationClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DocumentationClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -83,6 +91,7 @@ public final class DocumentationClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DocumentationClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -93,6 +102,7 @@ public final class DocumentationClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DocumentationClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -110,6 +120,7 @@ public final class DocumentationClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DocumentationClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -143,6 +154,7 @@ public final class DocumentationClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DocumentationClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -159,6 +171,7 @@ public final class DocumentationClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DocumentationClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -175,6 +188,7 @@ public final class DocumentationClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DocumentationClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -198,7 +212,7 @@ public final class DocumentationClientBuilder
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
         DocumentationClientImpl client
-            = new DocumentationClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+            = new DocumentationClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -225,6 +239,15 @@ public final class DocumentationClientBuilder
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of ListsClient class.
      * 
@@ -52,7 +52,7 @@ public final class DocumentationClientImpl {
     /**
      * The ListsImpl object to access its operations.
      */
-    private final ListsImpl lists;
+    private volatile ListsImpl lists;
 
     /**
      * Gets the ListsImpl object to access its operations.
@@ -60,13 +60,23 @@ public final class DocumentationClientImpl {
      * @return the ListsImpl object.
      */
     public ListsImpl getLists() {
-        return this.lists;
+        ListsImpl localLists = this.lists;
+        if (localLists == null) {
+            synchronized (this) {
+                localLists = this.lists;
+                if (localLists == null) {
+                    localLists = new ListsImpl(this);
+                    this.lists = localLists;
+                }
+            }
+        }
+        return localLists;
     }
 
     /**
      * The TextFormattingsImpl object to access its operations.
      */
-    private final TextFormattingsImpl textFormattings;
+    private volatile TextFormattingsImpl textFormattings;
 
     /**
      * Gets the TextFormattingsImpl object to access its operations.
@@ -74,7 +84,17 @@ public final class DocumentationClientImpl {
      * @return the TextFormattingsImpl object.
      */
     public TextFormattingsImpl getTextFormattings() {
-        return this.textFormattings;
+        TextFormattingsImpl localTextFormattings = this.textFormattings;
+        if (localTextFormattings == null) {
+            synchronized (this) {
+                localTextFormattings = this.textFormattings;
+                if (localTextFormattings == null) {
+                    localTextFormattings = new TextFormattingsImpl(this);
+                    this.textFormattings = localTextFormattings;
+                }
+            }
+        }
+        return localTextFormattings;
     }
 
     /**
@@ -88,7 +108,5 @@ public final class DocumentationClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.lists = new ListsImpl(this);
-        this.textFormattings = new TextFormattingsImpl(this);
     }
 }
@@ -16,7 +16,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in Lists.
@@ -55,14 +54,7 @@ public final class ListsImpl {
     @ServiceInterface(name = "DocumentationClientLists", host = "{endpoint}")
     public interface ListsService {
         static ListsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("documentation.implementation.ListsServiceImpl");
-                return (ListsService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return documentation.implementation.ListsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
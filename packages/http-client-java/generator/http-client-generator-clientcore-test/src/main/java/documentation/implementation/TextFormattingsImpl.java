@@ -12,7 +12,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in TextFormattings.
@@ -51,15 +50,7 @@ public final class TextFormattingsImpl {
     @ServiceInterface(name = "DocumentationClientTextFormattings", host = "{endpoint}")
     public interface TextFormattingsService {
         static TextFormattingsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("documentation.implementation.TextFormattingsServiceImpl");
-                return (TextFormattingsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return documentation.implementation.TextFormattingsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
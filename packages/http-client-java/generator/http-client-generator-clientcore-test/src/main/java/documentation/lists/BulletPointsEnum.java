@@ -1,5 +1,9 @@
 package documentation.lists;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * This tests really long bullet points in enum documentation to see how wrapping and formatting are handled. This
  * should wrap around correctly and maintain proper indentation for each line.
@@ -56,6 +60,17 @@ public enum BulletPointsEnum {
         this.value = value;
     }
 
+    private static final Map<String, BulletPointsEnum> VALUES = new HashMap<>();
+
+    private static final Map<String, BulletPointsEnum> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (BulletPointsEnum item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a BulletPointsEnum instance.
      * 
@@ -66,13 +81,8 @@ public enum BulletPointsEnum {
         if (value == null) {
             return null;
         }
-        BulletPointsEnum[] items = BulletPointsEnum.values();
-        for (BulletPointsEnum item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        BulletPointsEnum item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
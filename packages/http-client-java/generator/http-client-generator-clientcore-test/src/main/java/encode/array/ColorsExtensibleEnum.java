@@ -10,36 +10,40 @@ import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for ColorsExtensibleEnum.
  */
 public final class ColorsExtensibleEnum implements ExpandableEnum<String>, JsonSerializable<ColorsExtensibleEnum> {
-    private static final Map<String, ColorsExtensibleEnum> VALUES = new ConcurrentHashMap<>();
-
-    private static final Function<String, ColorsExtensibleEnum> NEW_INSTANCE = ColorsExtensibleEnum::new;
+    private static final Map<String, ColorsExtensibleEnum> VALUES = new HashMap<>();
 
     /**
      * Static value blue for ColorsExtensibleEnum.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ColorsExtensibleEnum BLUE = fromValue("blue");
+    public static final ColorsExtensibleEnum BLUE = addKnownValue("blue");
 
     /**
      * Static value red for ColorsExtensibleEnum.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ColorsExtensibleEnum RED = fromValue("red");
+    public static final ColorsExtensibleEnum RED = addKnownValue("red");
 
     /**
      * Static value green for ColorsExtensibleEnum.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ColorsExtensibleEnum GREEN = fromValue("green");
+    public static final ColorsExtensibleEnum GREEN = addKnownValue("green");
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static ColorsExtensibleEnum addKnownValue(String value) {
+        ColorsExtensibleEnum knownValue = new ColorsExtensibleEnum(value);
+        VALUES.put(value, knownValue);
+        return knownValue;
+    }
 
     private final String value;
 
@@ -48,7 +52,7 @@ public final class ColorsExtensibleEnum implements ExpandableEnum<String>, JsonS
     }
 
     /**
-     * Creates or finds a ColorsExtensibleEnum.
+     * Finds a known ColorsExtensibleEnum, or creates a new ColorsExtensibleEnum if the value is not known.
      * 
      * @param value a value to look for.
      * @return the corresponding ColorsExtensibleEnum.
@@ -59,7 +63,8 @@ public final class ColorsExtensibleEnum implements ExpandableEnum<String>, JsonS
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        ColorsExtensibleEnum knownValue = VALUES.get(value);
+        return knownValue != null ? knownValue : new ColorsExtensibleEnum(value);
     }
 
     /**
@@ -123,7 +128,8 @@ public final class ColorsExtensibleEnum implements ExpandableEnum<String>, JsonS
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj
+            || (obj instanceof ColorsExtensibleEnum && Objects.equals(this.value, ((ColorsExtensibleEnum) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
@@ -52,7 +52,7 @@ public final class BytesClientImpl {
     /**
      * The QueriesImpl object to access its operations.
      */
-    private final QueriesImpl queries;
+    private volatile QueriesImpl queries;
 
     /**
      * Gets the QueriesImpl object to access its operations.
@@ -60,13 +60,23 @@ public final class BytesClientImpl {
      * @return the QueriesImpl object.
      */
     public QueriesImpl getQueries() {
-        return this.queries;
+        QueriesImpl localQueries = this.queries;
+        if (localQueries == null) {
+            synchronized (this) {
+                localQueries = this.queries;
+                if (localQueries == null) {
+                    localQueries = new QueriesImpl(this);
+                    this.queries = localQueries;
+                }
+            }
+        }
+        return localQueries;
     }
 
     /**
      * The PropertiesImpl object to access its operations.
      */
-    private final PropertiesImpl properties;
+    private volatile PropertiesImpl properties;
 
     /**
      * Gets the PropertiesImpl object to access its operations.
@@ -74,13 +84,23 @@ public final class BytesClientImpl {
      * @return the PropertiesImpl object.
      */
     public PropertiesImpl getProperties() {
-        return this.properties;
+        PropertiesImpl localProperties = this.properties;
+        if (localProperties == null) {
+            synchronized (this) {
+                localProperties = this.properties;
+                if (localProperties == null) {
+                    localProperties = new PropertiesImpl(this);
+                    this.properties = localProperties;
+                }
+            }
+        }
+        return localProperties;
     }
 
     /**
      * The HeadersImpl object to access its operations.
      */
-    private final HeadersImpl headers;
+    private volatile HeadersImpl headers;
 
     /**
      * Gets the HeadersImpl object to access its operations.
@@ -88,13 +108,23 @@ public final class BytesClientImpl {
      * @return the HeadersImpl object.
      */
     public HeadersImpl getHeaders() {
-        return this.headers;
+        HeadersImpl localHeaders = this.headers;
+        if (localHeaders == null) {
+            synchronized (this) {
+                localHeaders = this.headers;
+                if (localHeaders == null) {
+                    localHeaders = new HeadersImpl(this);
+                    this.headers = localHeaders;
+                }
+            }
+        }
+        return localHeaders;
     }
 
     /**
      * The RequestBodiesImpl object to access its operations.
      */
-    private final RequestBodiesImpl requestBodies;
+    private volatile RequestBodiesImpl requestBodies;
 
     /**
      * Gets the RequestBodiesImpl object to access its operations.
@@ -102,13 +132,23 @@ public final class BytesClientImpl {
      * @return the RequestBodiesImpl object.
      */
     public RequestBodiesImpl getRequestBodies() {
-        return this.requestBodies;
+        RequestBodiesImpl localRequestBodies = this.requestBodies;
+        if (localRequestBodies == null) {
+            synchronized (this) {
+                localRequestBodies = this.requestBodies;
+                if (localRequestBodies == null) {
+                    localRequestBodies = new RequestBodiesImpl(this);
+                    this.requestBodies = localRequestBodies;
+                }
+            }
+        }
+        return localRequestBodies;
     }
 
     /**
      * The ResponseBodiesImpl object to access its operations.
      */
-    private final ResponseBodiesImpl responseBodies;
+    private volatile ResponseBodiesImpl responseBodies;
 
     /**
      * Gets the ResponseBodiesImpl object to access its operations.
@@ -116,7 +156,17 @@ public final class BytesClientImpl {
      * @return the ResponseBodiesImpl object.
      */
     public ResponseBodiesImpl getResponseBodies() {
-        return this.responseBodies;
+        ResponseBodiesImpl localResponseBodies = this.responseBodies;
+        if (localResponseBodies == null) {
+            synchronized (this) {
+                localResponseBodies = this.responseBodies;
+                if (localResponseBodies == null) {
+                    localResponseBodies = new ResponseBodiesImpl(this);
+                    this.responseBodies = localResponseBodies;
+                }
+            }
+        }
+        return localResponseBodies;
     }
 
     /**
@@ -130,10 +180,5 @@ public final class BytesClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.queries = new QueriesImpl(this);
-        this.properties = new PropertiesImpl(this);
-        this.headers = new HeadersImpl(this);
-        this.requestBodies = new RequestBodiesImpl(this);
-        this.responseBodies = new ResponseBodiesImpl(this);
     }
 }
@@ -16,7 +16,6 @@ import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.models.binarydata.BinaryData;
 import io.clientcore.core.utils.Base64Uri;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in RequestBodies.
@@ -55,15 +54,7 @@ public final class RequestBodiesImpl {
     @ServiceInterface(name = "BytesClientRequestBodies", host = "{endpoint}")
     public interface RequestBodiesService {
         static RequestBodiesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("encode.bytes.implementation.RequestBodiesServiceImpl");
-                return (RequestBodiesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return encode.bytes.implementation.RequestBodiesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -15,7 +15,6 @@ import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.models.binarydata.BinaryData;
 import io.clientcore.core.utils.Base64Uri;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in ResponseBodies.
@@ -54,15 +53,7 @@ public final class ResponseBodiesImpl {
     @ServiceInterface(name = "BytesClientResponseBodies", host = "{endpoint}")
     public interface ResponseBodiesService {
         static ResponseBodiesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("encode.bytes.implementation.ResponseBodiesServiceImpl");
-                return (ResponseBodiesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return encode.bytes.implementation.ResponseBodiesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -47,6 +47,13 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the DatetimeClientBuilder.
      */
@@ -67,6 +74,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DatetimeClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -83,6 +91,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DatetimeClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -93,6 +102,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DatetimeClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -110,6 +120,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DatetimeClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -126,6 +137,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DatetimeClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -142,6 +154,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DatetimeClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -158,6 +171,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DatetimeClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -174,6 +188,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DatetimeClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -196,7 +211,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        DatetimeClientImpl client = new DatetimeClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        DatetimeClientImpl client = new DatetimeClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -223,6 +238,15 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of QueryClient class.
      * 
@@ -13,11 +13,10 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import io.clientcore.core.models.binarydata.BinaryData;
 import io.clientcore.core.utils.DateTimeRfc1123;
-import java.lang.reflect.InvocationTargetException;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -57,14 +56,7 @@ public final class QueriesImpl {
     @ServiceInterface(name = "DatetimeClientQueries", host = "{endpoint}")
     public interface QueriesService {
         static QueriesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("encode.datetime.implementation.QueriesServiceImpl");
-                return (QueriesService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return encode.datetime.implementation.QueriesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -198,35 +190,7 @@ public final class QueriesImpl {
             updatedContext -> {
                 String valueConverted = value.stream()
                     .map(paramItemValue -> paramItemValue.toEpochSecond())
-                    .collect(Collectors.toList())
-                    .stream()
-                    .map(paramItemValue -> {
-                        if (paramItemValue == null) {
-                            return "";
-                        } else {
-                            String itemValueString = BinaryData.fromObject(paramItemValue).toString();
-                            int strLength = itemValueString.length();
-                            int startOffset = 0;
-                            while (startOffset < strLength) {
-                                if (itemValueString.charAt(startOffset) != '"') {
-                                    break;
-                                }
-                                startOffset++;
-                            }
-                            if (startOffset == strLength) {
-                                return "";
-                            }
-                            int endOffset = strLength - 1;
-                            while (endOffset >= 0) {
-                                if (itemValueString.charAt(endOffset) != '"') {
-                                    break;
-                                }
-
-                                endOffset--;
-                            }
-                            return itemValueString.substring(startOffset, endOffset + 1);
-                        }
-                    })
+                    .map(paramItemValue -> Objects.toString(paramItemValue, ""))
                     .collect(Collectors.joining(","));
                 return service.unixTimestampArray(this.client.getEndpoint(), valueConverted, updatedContext);
             });
@@ -12,7 +12,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in ResponseHeaders.
@@ -51,15 +50,7 @@ public final class ResponseHeadersImpl {
     @ServiceInterface(name = "DatetimeClientResponseHeaders", host = "{endpoint}")
     public interface ResponseHeadersService {
         static ResponseHeadersService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("encode.datetime.implementation.ResponseHeadersServiceImpl");
-                return (ResponseHeadersService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return encode.datetime.implementation.ResponseHeadersServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -52,7 +52,7 @@ public final class DurationClientImpl {
     /**
      * The QueriesImpl object to access its operations.
      */
-    private final QueriesImpl queries;
+    private volatile QueriesImpl queries;
 
     /**
      * Gets the QueriesImpl object to access its operations.
@@ -60,13 +60,23 @@ public final class DurationClientImpl {
      * @return the QueriesImpl object.
      */
     public QueriesImpl getQueries() {
-        return this.queries;
+        QueriesImpl localQueries = this.queries;
+        if (localQueries == null) {
+            synchronized (this) {
+                localQueries = this.queries;
+                if (localQueries == null) {
+                    localQueries = new QueriesImpl(this);
+                    this.queries = localQueries;
+                }
+            }
+        }
+        return localQueries;
     }
 
     /**
      * The PropertiesImpl object to access its operations.
      */
-    private final PropertiesImpl properties;
+    private volatile PropertiesImpl properties;
 
     /**
      * Gets the PropertiesImpl object to access its operations.
@@ -74,13 +84,23 @@ public final class DurationClientImpl {
      * @return the PropertiesImpl object.
      */
     public PropertiesImpl getProperties() {
-        return this.properties;
+        PropertiesImpl localProperties = this.properties;
+        if (localProperties == null) {
+            synchronized (this) {
+                localProperties = this.properties;
+                if (localProperties == null) {
+                    localProperties = new PropertiesImpl(this);
+                    this.properties = localProperties;
+                }
+            }
+        }
+        return localProperties;
     }
 
     /**
      * The HeadersImpl object to access its operations.
      */
-    private final HeadersImpl headers;
+    private volatile HeadersImpl headers;
 
     /**
      * Gets the HeadersImpl object to access its operations.
@@ -88,7 +108,17 @@ public final class DurationClientImpl {
      * @return the HeadersImpl object.
      */
     public HeadersImpl getHeaders() {
-        return this.headers;
+        HeadersImpl localHeaders = this.headers;
+        if (localHeaders == null) {
+            synchronized (this) {
+                localHeaders = this.headers;
+                if (localHeaders == null) {
+                    localHeaders = new HeadersImpl(this);
+                    this.headers = localHeaders;
+                }
+            }
+        }
+        return localHeaders;
     }
 
     /**
@@ -102,8 +132,5 @@ public final class DurationClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.queries = new QueriesImpl(this);
-        this.properties = new PropertiesImpl(this);
-        this.headers = new HeadersImpl(this);
     }
 }
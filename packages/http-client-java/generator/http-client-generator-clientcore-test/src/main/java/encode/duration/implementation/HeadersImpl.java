@@ -13,10 +13,9 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import io.clientcore.core.models.binarydata.BinaryData;
-import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -56,14 +55,7 @@ public final class HeadersImpl {
     @ServiceInterface(name = "DurationClientHeaders", host = "{endpoint}")
     public interface HeadersService {
         static HeadersService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("encode.duration.implementation.HeadersServiceImpl");
-                return (HeadersService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return encode.duration.implementation.HeadersServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -229,33 +221,9 @@ public final class HeadersImpl {
     public Response<Void> iso8601ArrayWithResponse(List<Duration> duration, RequestContext requestContext) {
         return this.instrumentation.instrumentWithResponse("Encode.Duration.Header.iso8601Array", requestContext,
             updatedContext -> {
-                String durationConverted = duration.stream().map(paramItemValue -> {
-                    if (paramItemValue == null) {
-                        return "";
-                    } else {
-                        String itemValueString = BinaryData.fromObject(paramItemValue).toString();
-                        int strLength = itemValueString.length();
-                        int startOffset = 0;
-                        while (startOffset < strLength) {
-                            if (itemValueString.charAt(startOffset) != '"') {
-                                break;
-                            }
-                            startOffset++;
-                        }
-                        if (startOffset == strLength) {
-                            return "";
-                        }
-                        int endOffset = strLength - 1;
-                        while (endOffset >= 0) {
-                            if (itemValueString.charAt(endOffset) != '"') {
-                                break;
-                            }
-
-                            endOffset--;
-                        }
-                        return itemValueString.substring(startOffset, endOffset + 1);
-                    }
-                }).collect(Collectors.joining(","));
+                String durationConverted = duration.stream()
+                    .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+                    .collect(Collectors.joining(","));
                 return service.iso8601Array(this.client.getEndpoint(), durationConverted, updatedContext);
             });
     }
@@ -468,35 +436,7 @@ public final class HeadersImpl {
             requestContext, updatedContext -> {
                 String durationConverted = duration.stream()
                     .map(paramItemValue -> paramItemValue.toMillis())
-                    .collect(Collectors.toList())
-                    .stream()
-                    .map(paramItemValue -> {
-                        if (paramItemValue == null) {
-                            return "";
-                        } else {
-                            String itemValueString = BinaryData.fromObject(paramItemValue).toString();
-                            int strLength = itemValueString.length();
-                            int startOffset = 0;
-                            while (startOffset < strLength) {
-                                if (itemValueString.charAt(startOffset) != '"') {
-                                    break;
-                                }
-                                startOffset++;
-                            }
-                            if (startOffset == strLength) {
-                                return "";
-                            }
-                            int endOffset = strLength - 1;
-                            while (endOffset >= 0) {
-                                if (itemValueString.charAt(endOffset) != '"') {
-                                    break;
-                                }
-
-                                endOffset--;
-                            }
-                            return itemValueString.substring(startOffset, endOffset + 1);
-                        }
-                    })
+                    .map(paramItemValue -> Objects.toString(paramItemValue, ""))
                     .collect(Collectors.joining(","));
                 return service.int32MillisecondsArray(this.client.getEndpoint(), durationConverted, updatedContext);
             });
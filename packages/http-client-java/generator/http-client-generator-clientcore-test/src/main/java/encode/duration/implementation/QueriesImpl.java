@@ -13,10 +13,9 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import io.clientcore.core.models.binarydata.BinaryData;
-import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -56,14 +55,7 @@ public final class QueriesImpl {
     @ServiceInterface(name = "DurationClientQueries", host = "{endpoint}")
     public interface QueriesService {
         static QueriesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("encode.duration.implementation.QueriesServiceImpl");
-                return (QueriesService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return encode.duration.implementation.QueriesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -421,35 +413,7 @@ public final class QueriesImpl {
             updatedContext -> {
                 String inputConverted = input.stream()
                     .map(paramItemValue -> paramItemValue.getSeconds())
-                    .collect(Collectors.toList())
-                    .stream()
-                    .map(paramItemValue -> {
-                        if (paramItemValue == null) {
-                            return "";
-                        } else {
-                            String itemValueString = BinaryData.fromObject(paramItemValue).toString();
-                            int strLength = itemValueString.length();
-                            int startOffset = 0;
-                            while (startOffset < strLength) {
-                                if (itemValueString.charAt(startOffset) != '"') {
-                                    break;
-                                }
-                                startOffset++;
-                            }
-                            if (startOffset == strLength) {
-                                return "";
-                            }
-                            int endOffset = strLength - 1;
-                            while (endOffset >= 0) {
-                                if (itemValueString.charAt(endOffset) != '"') {
-                                    break;
-                                }
-
-                                endOffset--;
-                            }
-                            return itemValueString.substring(startOffset, endOffset + 1);
-                        }
-                    })
+                    .map(paramItemValue -> Objects.toString(paramItemValue, ""))
                     .collect(Collectors.joining(","));
                 return service.int32SecondsArray(this.client.getEndpoint(), inputConverted, updatedContext);
             });
@@ -471,35 +435,7 @@ public final class QueriesImpl {
             requestContext, updatedContext -> {
                 String inputConverted = input.stream()
                     .map(paramItemValue -> paramItemValue.toMillis())
-                    .collect(Collectors.toList())
-                    .stream()
-                    .map(paramItemValue -> {
-                        if (paramItemValue == null) {
-                            return "";
-                        } else {
-                            String itemValueString = BinaryData.fromObject(paramItemValue).toString();
-                            int strLength = itemValueString.length();
-                            int startOffset = 0;
-                            while (startOffset < strLength) {
-                                if (itemValueString.charAt(startOffset) != '"') {
-                                    break;
-                                }
-                                startOffset++;
-                            }
-                            if (startOffset == strLength) {
-                                return "";
-                            }
-                            int endOffset = strLength - 1;
-                            while (endOffset >= 0) {
-                                if (itemValueString.charAt(endOffset) != '"') {
-                                    break;
-                                }
-
-                                endOffset--;
-                            }
-                            return itemValueString.substring(startOffset, endOffset + 1);
-                        }
-                    })
+                    .map(paramItemValue -> Objects.toString(paramItemValue, ""))
                     .collect(Collectors.joining(","));
                 return service.int32MillisecondsArray(this.client.getEndpoint(), inputConverted, updatedContext);
             });
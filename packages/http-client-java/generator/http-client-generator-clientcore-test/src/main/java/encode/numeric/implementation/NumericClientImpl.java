@@ -52,7 +52,7 @@ public final class NumericClientImpl {
     /**
      * The PropertiesImpl object to access its operations.
      */
-    private final PropertiesImpl properties;
+    private volatile PropertiesImpl properties;
 
     /**
      * Gets the PropertiesImpl object to access its operations.
@@ -60,7 +60,17 @@ public final class NumericClientImpl {
      * @return the PropertiesImpl object.
      */
     public PropertiesImpl getProperties() {
-        return this.properties;
+        PropertiesImpl localProperties = this.properties;
+        if (localProperties == null) {
+            synchronized (this) {
+                localProperties = this.properties;
+                if (localProperties == null) {
+                    localProperties = new PropertiesImpl(this);
+                    this.properties = localProperties;
+                }
+            }
+        }
+        return localProperties;
     }
 
     /**
@@ -74,6 +84,5 @@ public final class NumericClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.properties = new PropertiesImpl(this);
     }
 }
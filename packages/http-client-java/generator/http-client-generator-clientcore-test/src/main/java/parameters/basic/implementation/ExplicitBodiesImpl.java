@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import parameters.basic.explicitbody.User;
 
 /**
@@ -54,15 +53,7 @@ public final class ExplicitBodiesImpl {
     @ServiceInterface(name = "BasicClientExplicitBodies", host = "{endpoint}")
     public interface ExplicitBodiesService {
         static ExplicitBodiesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("parameters.basic.implementation.ExplicitBodiesServiceImpl");
-                return (ExplicitBodiesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return parameters.basic.implementation.ExplicitBodiesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
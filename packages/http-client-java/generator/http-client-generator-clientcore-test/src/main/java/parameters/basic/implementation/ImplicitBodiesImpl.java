@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import parameters.basic.implicitbody.implementation.SimpleRequest;
 
 /**
@@ -54,15 +53,7 @@ public final class ImplicitBodiesImpl {
     @ServiceInterface(name = "BasicClientImplicitBodies", host = "{endpoint}")
     public interface ImplicitBodiesService {
         static ImplicitBodiesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("parameters.basic.implementation.ImplicitBodiesServiceImpl");
-                return (ImplicitBodiesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return parameters.basic.implementation.ImplicitBodiesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
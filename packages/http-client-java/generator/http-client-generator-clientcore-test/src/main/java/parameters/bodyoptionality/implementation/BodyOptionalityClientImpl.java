@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import parameters.bodyoptionality.BodyModel;
 
 /**
@@ -71,7 +70,7 @@ public final class BodyOptionalityClientImpl {
     /**
      * The OptionalExplicitsImpl object to access its operations.
      */
-    private final OptionalExplicitsImpl optionalExplicits;
+    private volatile OptionalExplicitsImpl optionalExplicits;
 
     /**
      * Gets the OptionalExplicitsImpl object to access its operations.
@@ -79,7 +78,17 @@ public final class BodyOptionalityClientImpl {
      * @return the OptionalExplicitsImpl object.
      */
     public OptionalExplicitsImpl getOptionalExplicits() {
-        return this.optionalExplicits;
+        OptionalExplicitsImpl localOptionalExplicits = this.optionalExplicits;
+        if (localOptionalExplicits == null) {
+            synchronized (this) {
+                localOptionalExplicits = this.optionalExplicits;
+                if (localOptionalExplicits == null) {
+                    localOptionalExplicits = new OptionalExplicitsImpl(this);
+                    this.optionalExplicits = localOptionalExplicits;
+                }
+            }
+        }
+        return localOptionalExplicits;
     }
 
     /**
@@ -93,7 +102,6 @@ public final class BodyOptionalityClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.optionalExplicits = new OptionalExplicitsImpl(this);
         this.service = BodyOptionalityClientService.getNewInstance(this.httpPipeline);
     }
 
@@ -104,16 +112,7 @@ public final class BodyOptionalityClientImpl {
     @ServiceInterface(name = "BodyOptionalityClient", host = "{endpoint}")
     public interface BodyOptionalityClientService {
         static BodyOptionalityClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("parameters.bodyoptionality.implementation.BodyOptionalityClientServiceImpl");
-                return (BodyOptionalityClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return parameters.bodyoptionality.implementation.BodyOptionalityClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
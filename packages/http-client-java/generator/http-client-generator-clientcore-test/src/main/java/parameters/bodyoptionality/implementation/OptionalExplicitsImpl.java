@@ -13,7 +13,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import parameters.bodyoptionality.BodyModel;
 
 /**
@@ -53,16 +52,7 @@ public final class OptionalExplicitsImpl {
     @ServiceInterface(name = "BodyOptionalityClientOptionalExplicits", host = "{endpoint}")
     public interface OptionalExplicitsService {
         static OptionalExplicitsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("parameters.bodyoptionality.implementation.OptionalExplicitsServiceImpl");
-                return (OptionalExplicitsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return parameters.bodyoptionality.implementation.OptionalExplicitsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
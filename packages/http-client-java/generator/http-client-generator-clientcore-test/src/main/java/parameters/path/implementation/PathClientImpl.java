@@ -13,7 +13,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * Initializes a new instance of the PathClient type.
@@ -86,14 +85,7 @@ public final class PathClientImpl {
     @ServiceInterface(name = "PathClient", host = "{endpoint}")
     public interface PathClientService {
         static PathClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("parameters.path.implementation.PathClientServiceImpl");
-                return (PathClientService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return parameters.path.implementation.PathClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
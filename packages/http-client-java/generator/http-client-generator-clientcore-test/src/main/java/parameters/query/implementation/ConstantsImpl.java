@@ -13,7 +13,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in Constants.
@@ -52,14 +51,7 @@ public final class ConstantsImpl {
     @ServiceInterface(name = "QueryClientConstants", host = "{endpoint}")
     public interface ConstantsService {
         static ConstantsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("parameters.query.implementation.ConstantsServiceImpl");
-                return (ConstantsService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return parameters.query.implementation.ConstantsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -15,7 +15,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import parameters.spread.alias.implementation.SpreadAsRequestBodyRequest;
 
@@ -56,14 +55,7 @@ public final class AliasImpl {
     @ServiceInterface(name = "SpreadClientAlias", host = "{endpoint}")
     public interface AliasService {
         static AliasService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("parameters.spread.implementation.AliasServiceImpl");
-                return (AliasService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return parameters.spread.implementation.AliasServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
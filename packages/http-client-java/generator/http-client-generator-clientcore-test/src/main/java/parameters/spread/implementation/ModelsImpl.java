@@ -15,7 +15,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import parameters.spread.model.BodyParameter;
 
 /**
@@ -55,14 +54,7 @@ public final class ModelsImpl {
     @ServiceInterface(name = "SpreadClientModels", host = "{endpoint}")
     public interface ModelsService {
         static ModelsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("parameters.spread.implementation.ModelsServiceImpl");
-                return (ModelsService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return parameters.spread.implementation.ModelsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
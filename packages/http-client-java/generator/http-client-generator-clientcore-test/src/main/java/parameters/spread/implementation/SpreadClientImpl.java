@@ -52,7 +52,7 @@ public final class SpreadClientImpl {
     /**
      * The ModelsImpl object to access its operations.
      */
-    private final ModelsImpl models;
+    private volatile ModelsImpl models;
 
     /**
      * Gets the ModelsImpl object to access its operations.
@@ -60,13 +60,23 @@ public final class SpreadClientImpl {
      * @return the ModelsImpl object.
      */
     public ModelsImpl getModels() {
-        return this.models;
+        ModelsImpl localModels = this.models;
+        if (localModels == null) {
+            synchronized (this) {
+                localModels = this.models;
+                if (localModels == null) {
+                    localModels = new ModelsImpl(this);
+                    this.models = localModels;
+                }
+            }
+        }
+        return localModels;
     }
 
     /**
      * The AliasImpl object to access its operations.
      */
-    private final AliasImpl alias;
+    private volatile AliasImpl alias;
 
     /**
      * Gets the AliasImpl object to access its operations.
@@ -74,7 +84,17 @@ public final class SpreadClientImpl {
      * @return the AliasImpl object.
      */
     public AliasImpl getAlias() {
-        return this.alias;
+        AliasImpl localAlias = this.alias;
+        if (localAlias == null) {
+            synchronized (this) {
+                localAlias = this.alias;
+                if (localAlias == null) {
+                    localAlias = new AliasImpl(this);
+                    this.alias = localAlias;
+                }
+            }
+        }
+        return localAlias;
     }
 
     /**
@@ -88,7 +108,5 @@ public final class SpreadClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.models = new ModelsImpl(this);
-        this.alias = new AliasImpl(this);
     }
 }
@@ -123,11 +123,9 @@ public final class SpreadWithMultipleParametersRequest
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("requiredString", this.requiredString);
-        jsonWriter.writeArrayField("requiredIntList", this.requiredIntList,
-            (writer, element) -> writer.writeInt(element));
+        jsonWriter.writeArrayField("requiredIntList", this.requiredIntList, JsonWriter::writeInt);
         jsonWriter.writeNumberField("optionalInt", this.optionalInt);
-        jsonWriter.writeArrayField("optionalStringList", this.optionalStringList,
-            (writer, element) -> writer.writeString(element));
+        jsonWriter.writeArrayField("optionalStringList", this.optionalStringList, JsonWriter::writeString);
         return jsonWriter.writeEndObject();
     }
 
@@ -154,11 +152,11 @@ public final class SpreadWithMultipleParametersRequest
                 if ("requiredString".equals(fieldName)) {
                     requiredString = reader.getString();
                 } else if ("requiredIntList".equals(fieldName)) {
-                    requiredIntList = reader.readArray(reader1 -> reader1.getInt());
+                    requiredIntList = reader.readArray(JsonReader::getInt);
                 } else if ("optionalInt".equals(fieldName)) {
                     optionalInt = reader.getNullable(JsonReader::getInt);
                 } else if ("optionalStringList".equals(fieldName)) {
-                    optionalStringList = reader.readArray(reader1 -> reader1.getString());
+                    optionalStringList = reader.readArray(JsonReader::getString);
                 } else {
                     reader.skipChildren();
                 }
@@ -52,7 +52,7 @@ public final class ContentNegotiationClientImpl {
     /**
      * The SameBodiesImpl object to access its operations.
      */
-    private final SameBodiesImpl sameBodies;
+    private volatile SameBodiesImpl sameBodies;
 
     /**
      * Gets the SameBodiesImpl object to access its operations.
@@ -60,13 +60,23 @@ public final class ContentNegotiationClientImpl {
      * @return the SameBodiesImpl object.
      */
     public SameBodiesImpl getSameBodies() {
-        return this.sameBodies;
+        SameBodiesImpl localSameBodies = this.sameBodies;
+        if (localSameBodies == null) {
+            synchronized (this) {
+                localSameBodies = this.sameBodies;
+                if (localSameBodies == null) {
+                    localSameBodies = new SameBodiesImpl(this);
+                    this.sameBodies = localSameBodies;
+                }
+            }
+        }
+        return localSameBodies;
     }
 
     /**
      * The DifferentBodiesImpl object to access its operations.
      */
-    private final DifferentBodiesImpl differentBodies;
+    private volatile DifferentBodiesImpl differentBodies;
 
     /**
      * Gets the DifferentBodiesImpl object to access its operations.
@@ -74,7 +84,17 @@ public final class ContentNegotiationClientImpl {
      * @return the DifferentBodiesImpl object.
      */
     public DifferentBodiesImpl getDifferentBodies() {
-        return this.differentBodies;
+        DifferentBodiesImpl localDifferentBodies = this.differentBodies;
+        if (localDifferentBodies == null) {
+            synchronized (this) {
+                localDifferentBodies = this.differentBodies;
+                if (localDifferentBodies == null) {
+                    localDifferentBodies = new DifferentBodiesImpl(this);
+                    this.differentBodies = localDifferentBodies;
+                }
+            }
+        }
+        return localDifferentBodies;
     }
 
     /**
@@ -88,7 +108,5 @@ public final class ContentNegotiationClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.sameBodies = new SameBodiesImpl(this);
-        this.differentBodies = new DifferentBodiesImpl(this);
     }
 }
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.models.binarydata.BinaryData;
-import java.lang.reflect.InvocationTargetException;
 import payload.contentnegotiation.differentbody.PngImageAsJson;
 
 /**
@@ -54,15 +53,7 @@ public final class DifferentBodiesImpl {
     @ServiceInterface(name = "ContentNegotiationClientDifferentBodies", host = "{endpoint}")
     public interface DifferentBodiesService {
         static DifferentBodiesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.contentnegotiation.implementation.DifferentBodiesServiceImpl");
-                return (DifferentBodiesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.contentnegotiation.implementation.DifferentBodiesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.models.binarydata.BinaryData;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in SameBodies.
@@ -53,14 +52,7 @@ public final class SameBodiesImpl {
     @ServiceInterface(name = "ContentNegotiationClientSameBodies", host = "{endpoint}")
     public interface SameBodiesService {
         static SameBodiesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.contentnegotiation.implementation.SameBodiesServiceImpl");
-                return (SameBodiesService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.contentnegotiation.implementation.SameBodiesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -12,7 +12,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * Initializes a new instance of the HeadClient type.
@@ -85,14 +84,7 @@ public final class HeadClientImpl {
     @ServiceInterface(name = "HeadClient", host = "{endpoint}")
     public interface HeadClientService {
         static HeadClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.head.implementation.HeadClientServiceImpl");
-                return (HeadClientService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.head.implementation.HeadClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.jsonmergepatch.Resource;
 import payload.jsonmergepatch.ResourcePatch;
 
@@ -90,15 +89,7 @@ public final class JsonMergePatchClientImpl {
     @ServiceInterface(name = "JsonMergePatchClient", host = "{endpoint}")
     public interface JsonMergePatchClientService {
         static JsonMergePatchClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.jsonmergepatch.implementation.JsonMergePatchClientServiceImpl");
-                return (JsonMergePatchClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.jsonmergepatch.implementation.JsonMergePatchClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
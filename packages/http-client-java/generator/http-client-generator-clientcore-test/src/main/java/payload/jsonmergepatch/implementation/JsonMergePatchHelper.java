@@ -1,5 +1,7 @@
 package payload.jsonmergepatch.implementation;
 
+import io.clientcore.core.serialization.json.JsonWriter;
+import java.io.IOException;
 import payload.jsonmergepatch.InnerModel;
 import payload.jsonmergepatch.ResourcePatch;
 
@@ -13,6 +15,8 @@ public class JsonMergePatchHelper {
         InnerModel prepareModelForJsonMergePatch(InnerModel innerModel, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(InnerModel innerModel);
+
+        JsonWriter toJsonMergePatch(InnerModel innerModel, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setInnerModelAccessor(InnerModelAccessor accessor) {
@@ -29,6 +33,8 @@ public class JsonMergePatchHelper {
         ResourcePatch prepareModelForJsonMergePatch(ResourcePatch resourcePatch, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(ResourcePatch resourcePatch);
+
+        JsonWriter toJsonMergePatch(ResourcePatch resourcePatch, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setResourcePatchAccessor(ResourcePatchAccessor accessor) {
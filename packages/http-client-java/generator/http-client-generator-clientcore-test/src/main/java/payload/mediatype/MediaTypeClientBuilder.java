@@ -47,6 +47,13 @@ public final class MediaTypeClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the MediaTypeClientBuilder.
      */
@@ -67,6 +74,7 @@ public final class MediaTypeClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MediaTypeClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -83,6 +91,7 @@ public final class MediaTypeClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MediaTypeClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -93,6 +102,7 @@ public final class MediaTypeClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MediaTypeClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -110,6 +120,7 @@ public final class MediaTypeClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MediaTypeClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -126,6 +137,7 @@ public final class MediaTypeClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MediaTypeClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -142,6 +154,7 @@ public final class MediaTypeClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MediaTypeClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -158,6 +171,7 @@ public final class MediaTypeClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MediaTypeClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -174,6 +188,7 @@ public final class MediaTypeClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MediaTypeClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -196,7 +211,7 @@ public final class MediaTypeClientBuilder
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        MediaTypeClientImpl client = new MediaTypeClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        MediaTypeClientImpl client = new MediaTypeClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -223,6 +238,15 @@ public final class MediaTypeClientBuilder
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of MediaTypeClient class.
      * 
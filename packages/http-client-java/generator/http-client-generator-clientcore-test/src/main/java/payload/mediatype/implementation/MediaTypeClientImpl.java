@@ -52,7 +52,7 @@ public final class MediaTypeClientImpl {
     /**
      * The StringBodiesImpl object to access its operations.
      */
-    private final StringBodiesImpl stringBodies;
+    private volatile StringBodiesImpl stringBodies;
 
     /**
      * Gets the StringBodiesImpl object to access its operations.
@@ -60,7 +60,17 @@ public final class MediaTypeClientImpl {
      * @return the StringBodiesImpl object.
      */
     public StringBodiesImpl getStringBodies() {
-        return this.stringBodies;
+        StringBodiesImpl localStringBodies = this.stringBodies;
+        if (localStringBodies == null) {
+            synchronized (this) {
+                localStringBodies = this.stringBodies;
+                if (localStringBodies == null) {
+                    localStringBodies = new StringBodiesImpl(this);
+                    this.stringBodies = localStringBodies;
+                }
+            }
+        }
+        return localStringBodies;
     }
 
     /**
@@ -74,6 +84,5 @@ public final class MediaTypeClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.stringBodies = new StringBodiesImpl(this);
     }
 }
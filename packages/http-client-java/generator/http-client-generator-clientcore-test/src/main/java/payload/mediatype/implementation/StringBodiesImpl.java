@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in StringBodies.
@@ -53,15 +52,7 @@ public final class StringBodiesImpl {
     @ServiceInterface(name = "MediaTypeClientStringBodies", host = "{endpoint}")
     public interface StringBodiesService {
         static StringBodiesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.mediatype.implementation.StringBodiesServiceImpl");
-                return (StringBodiesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.mediatype.implementation.StringBodiesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -53,6 +53,13 @@ public final class MultiPartClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the MultiPartClientBuilder.
      */
@@ -73,6 +80,7 @@ public final class MultiPartClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultiPartClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -89,6 +97,7 @@ public final class MultiPartClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultiPartClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -99,6 +108,7 @@ public final class MultiPartClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultiPartClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -116,6 +126,7 @@ public final class MultiPartClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultiPartClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -132,6 +143,7 @@ public final class MultiPartClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultiPartClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -148,6 +160,7 @@ public final class MultiPartClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultiPartClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -164,6 +177,7 @@ public final class MultiPartClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultiPartClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -180,6 +194,7 @@ public final class MultiPartClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultiPartClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -202,7 +217,7 @@ public final class MultiPartClientBuilder
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        MultiPartClientImpl client = new MultiPartClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        MultiPartClientImpl client = new MultiPartClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -229,6 +244,15 @@ public final class MultiPartClientBuilder
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of FormDataClient class.
      * 
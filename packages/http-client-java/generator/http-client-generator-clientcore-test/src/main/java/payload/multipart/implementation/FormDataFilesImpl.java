@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.multipart.formdata.file.UploadFileArrayRequest;
 import payload.multipart.formdata.file.UploadFileRequiredFilenameRequest;
 import payload.multipart.formdata.file.UploadFileSpecificContentTypeRequest;
@@ -56,15 +55,7 @@ public final class FormDataFilesImpl {
     @ServiceInterface(name = "MultiPartClientFormDataFiles", host = "{endpoint}")
     public interface FormDataFilesService {
         static FormDataFilesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.multipart.implementation.FormDataFilesServiceImpl");
-                return (FormDataFilesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.multipart.implementation.FormDataFilesServiceImpl.getNewInstance(pipeline);
         }
 
         // @Multipart not supported by RestProxy
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.multipart.FileWithHttpPartOptionalContentTypeRequest;
 import payload.multipart.FileWithHttpPartRequiredContentTypeRequest;
 import payload.multipart.FileWithHttpPartSpecificContentTypeRequest;
@@ -56,16 +55,7 @@ public final class FormDataHttpPartsContentTypesImpl {
     @ServiceInterface(name = "MultiPartClientFormDataHttpPartsContentTypes", host = "{endpoint}")
     public interface FormDataHttpPartsContentTypesService {
         static FormDataHttpPartsContentTypesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("payload.multipart.implementation.FormDataHttpPartsContentTypesServiceImpl");
-                return (FormDataHttpPartsContentTypesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.multipart.implementation.FormDataHttpPartsContentTypesServiceImpl.getNewInstance(pipeline);
         }
 
         // @Multipart not supported by RestProxy
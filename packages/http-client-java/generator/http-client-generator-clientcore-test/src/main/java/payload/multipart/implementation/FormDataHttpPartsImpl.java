@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.multipart.ComplexHttpPartsModelRequest;
 
 /**
@@ -54,15 +53,7 @@ public final class FormDataHttpPartsImpl {
     @ServiceInterface(name = "MultiPartClientFormDataHttpParts", host = "{endpoint}")
     public interface FormDataHttpPartsService {
         static FormDataHttpPartsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.multipart.implementation.FormDataHttpPartsServiceImpl");
-                return (FormDataHttpPartsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.multipart.implementation.FormDataHttpPartsServiceImpl.getNewInstance(pipeline);
         }
 
         // @Multipart not supported by RestProxy
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.multipart.formdata.httpparts.nonstring.FloatRequest;
 
 /**
@@ -54,16 +53,7 @@ public final class FormDataHttpPartsNonStringsImpl {
     @ServiceInterface(name = "MultiPartClientFormDataHttpPartsNonStrings", host = "{endpoint}")
     public interface FormDataHttpPartsNonStringsService {
         static FormDataHttpPartsNonStringsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("payload.multipart.implementation.FormDataHttpPartsNonStringsServiceImpl");
-                return (FormDataHttpPartsNonStringsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.multipart.implementation.FormDataHttpPartsNonStringsServiceImpl.getNewInstance(pipeline);
         }
 
         // @Multipart not supported by RestProxy
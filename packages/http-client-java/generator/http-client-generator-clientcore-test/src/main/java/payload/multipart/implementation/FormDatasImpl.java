@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.multipart.BinaryArrayPartsRequest;
 import payload.multipart.ComplexPartsRequest;
 import payload.multipart.JsonPartRequest;
@@ -61,14 +60,7 @@ public final class FormDatasImpl {
     @ServiceInterface(name = "MultiPartClientFormDatas", host = "{endpoint}")
     public interface FormDatasService {
         static FormDatasService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.multipart.implementation.FormDatasServiceImpl");
-                return (FormDatasService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.multipart.implementation.FormDatasServiceImpl.getNewInstance(pipeline);
         }
 
         // @Multipart not supported by RestProxy
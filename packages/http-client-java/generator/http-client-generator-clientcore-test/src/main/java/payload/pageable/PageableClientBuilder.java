@@ -52,6 +52,13 @@ public final class PageableClientBuilder implements HttpTrait<PageableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the PageableClientBuilder.
      */
@@ -72,6 +79,7 @@ public final class PageableClientBuilder implements HttpTrait<PageableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public PageableClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -88,6 +96,7 @@ public final class PageableClientBuilder implements HttpTrait<PageableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public PageableClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -98,6 +107,7 @@ public final class PageableClientBuilder implements HttpTrait<PageableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public PageableClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -115,6 +125,7 @@ public final class PageableClientBuilder implements HttpTrait<PageableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public PageableClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -131,6 +142,7 @@ public final class PageableClientBuilder implements HttpTrait<PageableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public PageableClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -147,6 +159,7 @@ public final class PageableClientBuilder implements HttpTrait<PageableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public PageableClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -163,6 +176,7 @@ public final class PageableClientBuilder implements HttpTrait<PageableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public PageableClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -179,6 +193,7 @@ public final class PageableClientBuilder implements HttpTrait<PageableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public PageableClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -201,7 +216,7 @@ public final class PageableClientBuilder implements HttpTrait<PageableClientBuil
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        PageableClientImpl client = new PageableClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        PageableClientImpl client = new PageableClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -228,6 +243,15 @@ public final class PageableClientBuilder implements HttpTrait<PageableClientBuil
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of ServerDrivenPaginationClient class.
      * 
@@ -17,7 +17,6 @@ import io.clientcore.core.http.paging.PagedResponse;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.instrumentation.logging.ClientLogger;
-import java.lang.reflect.InvocationTargetException;
 import payload.pageable.Pet;
 import payload.pageable.pagesize.implementation.ListWithPageSizeResponse;
 import payload.pageable.pagesize.implementation.ListWithoutContinuationResponse;
@@ -59,14 +58,7 @@ public final class PageSizesImpl {
     @ServiceInterface(name = "PageableClientPageSizes", host = "{endpoint}")
     public interface PageSizesService {
         static PageSizesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.pageable.implementation.PageSizesServiceImpl");
-                return (PageSizesService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.pageable.implementation.PageSizesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -52,7 +52,7 @@ public final class PageableClientImpl {
     /**
      * The ServerDrivenPaginationsImpl object to access its operations.
      */
-    private final ServerDrivenPaginationsImpl serverDrivenPaginations;
+    private volatile ServerDrivenPaginationsImpl serverDrivenPaginations;
 
     /**
      * Gets the ServerDrivenPaginationsImpl object to access its operations.
@@ -60,13 +60,23 @@ public final class PageableClientImpl {
      * @return the ServerDrivenPaginationsImpl object.
      */
     public ServerDrivenPaginationsImpl getServerDrivenPaginations() {
-        return this.serverDrivenPaginations;
+        ServerDrivenPaginationsImpl localServerDrivenPaginations = this.serverDrivenPaginations;
+        if (localServerDrivenPaginations == null) {
+            synchronized (this) {
+                localServerDrivenPaginations = this.serverDrivenPaginations;
+                if (localServerDrivenPaginations == null) {
+                    localServerDrivenPaginations = new ServerDrivenPaginationsImpl(this);
+                    this.serverDrivenPaginations = localServerDrivenPaginations;
+                }
+            }
+        }
+        return localServerDrivenPaginations;
     }
 
     /**
      * The ServerDrivenPaginationAlternateInitialVerbsImpl object to access its operations.
      */
-    private final ServerDrivenPaginationAlternateInitialVerbsImpl serverDrivenPaginationAlternateInitialVerbs;
+    private volatile ServerDrivenPaginationAlternateInitialVerbsImpl serverDrivenPaginationAlternateInitialVerbs;
 
     /**
      * Gets the ServerDrivenPaginationAlternateInitialVerbsImpl object to access its operations.
@@ -74,13 +84,25 @@ public final class PageableClientImpl {
      * @return the ServerDrivenPaginationAlternateInitialVerbsImpl object.
      */
     public ServerDrivenPaginationAlternateInitialVerbsImpl getServerDrivenPaginationAlternateInitialVerbs() {
-        return this.serverDrivenPaginationAlternateInitialVerbs;
+        ServerDrivenPaginationAlternateInitialVerbsImpl localServerDrivenPaginationAlternateInitialVerbs
+            = this.serverDrivenPaginationAlternateInitialVerbs;
+        if (localServerDrivenPaginationAlternateInitialVerbs == null) {
+            synchronized (this) {
+                localServerDrivenPaginationAlternateInitialVerbs = this.serverDrivenPaginationAlternateInitialVerbs;
+                if (localServerDrivenPaginationAlternateInitialVerbs == null) {
+                    localServerDrivenPaginationAlternateInitialVerbs
+                        = new ServerDrivenPaginationAlternateInitialVerbsImpl(this);
+                    this.serverDrivenPaginationAlternateInitialVerbs = localServerDrivenPaginationAlternateInitialVerbs;
+                }
+            }
+        }
+        return localServerDrivenPaginationAlternateInitialVerbs;
     }
 
     /**
      * The ServerDrivenPaginationContinuationTokensImpl object to access its operations.
      */
-    private final ServerDrivenPaginationContinuationTokensImpl serverDrivenPaginationContinuationTokens;
+    private volatile ServerDrivenPaginationContinuationTokensImpl serverDrivenPaginationContinuationTokens;
 
     /**
      * Gets the ServerDrivenPaginationContinuationTokensImpl object to access its operations.
@@ -88,13 +110,25 @@ public final class PageableClientImpl {
      * @return the ServerDrivenPaginationContinuationTokensImpl object.
      */
     public ServerDrivenPaginationContinuationTokensImpl getServerDrivenPaginationContinuationTokens() {
-        return this.serverDrivenPaginationContinuationTokens;
+        ServerDrivenPaginationContinuationTokensImpl localServerDrivenPaginationContinuationTokens
+            = this.serverDrivenPaginationContinuationTokens;
+        if (localServerDrivenPaginationContinuationTokens == null) {
+            synchronized (this) {
+                localServerDrivenPaginationContinuationTokens = this.serverDrivenPaginationContinuationTokens;
+                if (localServerDrivenPaginationContinuationTokens == null) {
+                    localServerDrivenPaginationContinuationTokens
+                        = new ServerDrivenPaginationContinuationTokensImpl(this);
+                    this.serverDrivenPaginationContinuationTokens = localServerDrivenPaginationContinuationTokens;
+                }
+            }
+        }
+        return localServerDrivenPaginationContinuationTokens;
     }
 
     /**
      * The PageSizesImpl object to access its operations.
      */
-    private final PageSizesImpl pageSizes;
+    private volatile PageSizesImpl pageSizes;
 
     /**
      * Gets the PageSizesImpl object to access its operations.
@@ -102,13 +136,23 @@ public final class PageableClientImpl {
      * @return the PageSizesImpl object.
      */
     public PageSizesImpl getPageSizes() {
-        return this.pageSizes;
+        PageSizesImpl localPageSizes = this.pageSizes;
+        if (localPageSizes == null) {
+            synchronized (this) {
+                localPageSizes = this.pageSizes;
+                if (localPageSizes == null) {
+                    localPageSizes = new PageSizesImpl(this);
+                    this.pageSizes = localPageSizes;
+                }
+            }
+        }
+        return localPageSizes;
     }
 
     /**
      * The XmlPaginationsImpl object to access its operations.
      */
-    private final XmlPaginationsImpl xmlPaginations;
+    private volatile XmlPaginationsImpl xmlPaginations;
 
     /**
      * Gets the XmlPaginationsImpl object to access its operations.
@@ -116,7 +160,17 @@ public final class PageableClientImpl {
      * @return the XmlPaginationsImpl object.
      */
     public XmlPaginationsImpl getXmlPaginations() {
-        return this.xmlPaginations;
+        XmlPaginationsImpl localXmlPaginations = this.xmlPaginations;
+        if (localXmlPaginations == null) {
+            synchronized (this) {
+                localXmlPaginations = this.xmlPaginations;
+                if (localXmlPaginations == null) {
+                    localXmlPaginations = new XmlPaginationsImpl(this);
+                    this.xmlPaginations = localXmlPaginations;
+                }
+            }
+        }
+        return localXmlPaginations;
     }
 
     /**
@@ -130,10 +184,5 @@ public final class PageableClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.serverDrivenPaginations = new ServerDrivenPaginationsImpl(this);
-        this.serverDrivenPaginationAlternateInitialVerbs = new ServerDrivenPaginationAlternateInitialVerbsImpl(this);
-        this.serverDrivenPaginationContinuationTokens = new ServerDrivenPaginationContinuationTokensImpl(this);
-        this.pageSizes = new PageSizesImpl(this);
-        this.xmlPaginations = new XmlPaginationsImpl(this);
     }
 }
@@ -49,7 +49,7 @@ public final class RequestHeaderResponseHeaderResponse
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("pets", this.pets, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("pets", this.pets, JsonWriter::writeJson);
         return jsonWriter.writeEndObject();
     }
 
@@ -71,7 +71,7 @@ public final class RequestHeaderResponseHeaderResponse
                 reader.nextToken();
 
                 if ("pets".equals(fieldName)) {
-                    pets = reader.readArray(reader1 -> Pet.fromJson(reader1));
+                    pets = reader.readArray(Pet::fromJson);
                 } else {
                     reader.skipChildren();
                 }
@@ -144,7 +144,7 @@ public final class ServerDrivenPaginationAlternateInitialVerbsImpl {
      */
     @ServiceMethod(returns = ReturnType.COLLECTION)
     public PagedIterable<Pet> post(Filter body) {
-        return new PagedIterable<>((pagingOptions) -> {
+        return PagePrefetcher.pagedIterable((pagingOptions) -> {
             if (pagingOptions.getOffset() != null) {
                 throw LOGGER.throwableAtError()
                     .addKeyValue("propertyName", "offset")
@@ -186,7 +186,7 @@ public final class ServerDrivenPaginationAlternateInitialVerbsImpl {
     @ServiceMethod(returns = ReturnType.COLLECTION)
     public PagedIterable<Pet> post(Filter body, RequestContext requestContext) {
         RequestContext requestContextForNextPage = requestContext != null ? requestContext : RequestContext.none();
-        return new PagedIterable<>((pagingOptions) -> {
+        return PagePrefetcher.pagedIterable((pagingOptions) -> {
             if (pagingOptions.getOffset() != null) {
                 throw LOGGER.throwableAtError()
                     .addKeyValue("propertyName", "offset")
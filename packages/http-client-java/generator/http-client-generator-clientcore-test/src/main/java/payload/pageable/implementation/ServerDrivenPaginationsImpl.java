@@ -17,7 +17,6 @@ import io.clientcore.core.http.paging.PagedResponse;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.instrumentation.logging.ClientLogger;
-import java.lang.reflect.InvocationTargetException;
 import payload.pageable.Pet;
 import payload.pageable.serverdrivenpagination.implementation.LinkResponse;
 import payload.pageable.serverdrivenpagination.implementation.LinkStringResponse;
@@ -60,15 +59,7 @@ public final class ServerDrivenPaginationsImpl {
     @ServiceInterface(name = "PageableClientServerDrivenPaginations", host = "{endpoint}")
     public interface ServerDrivenPaginationsService {
         static ServerDrivenPaginationsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.pageable.implementation.ServerDrivenPaginationsServiceImpl");
-                return (ServerDrivenPaginationsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.pageable.implementation.ServerDrivenPaginationsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -166,7 +157,7 @@ public final class ServerDrivenPaginationsImpl {
     @ServiceMethod(returns = ReturnType.COLLECTION)
     public PagedIterable<Pet> link(RequestContext requestContext) {
         RequestContext requestContextForNextPage = requestContext != null ? requestContext : RequestContext.none();
-        return new PagedIterable<>((pagingOptions) -> {
+        return PagePrefetcher.pagedIterable((pagingOptions) -> {
             if (pagingOptions.getOffset() != null) {
                 throw LOGGER.throwableAtError()
                     .addKeyValue("propertyName", "offset")
@@ -249,7 +240,7 @@ public final class ServerDrivenPaginationsImpl {
     @ServiceMethod(returns = ReturnType.COLLECTION)
     public PagedIterable<Pet> linkString(RequestContext requestContext) {
         RequestContext requestContextForNextPage = requestContext != null ? requestContext : RequestContext.none();
-        return new PagedIterable<>((pagingOptions) -> {
+        return PagePrefetcher.pagedIterable((pagingOptions) -> {
             if (pagingOptions.getOffset() != null) {
                 throw LOGGER.throwableAtError()
                     .addKeyValue("propertyName", "offset")
@@ -338,7 +329,7 @@ public final class ServerDrivenPaginationsImpl {
     @ServiceMethod(returns = ReturnType.COLLECTION)
     public PagedIterable<Pet> nestedLink(RequestContext requestContext) {
         RequestContext requestContextForNextPage = requestContext != null ? requestContext : RequestContext.none();
-        return new PagedIterable<>((pagingOptions) -> {
+        return PagePrefetcher.pagedIterable((pagingOptions) -> {
             if (pagingOptions.getOffset() != null) {
                 throw LOGGER.throwableAtError()
                     .addKeyValue("propertyName", "offset")
@@ -18,7 +18,6 @@ import io.clientcore.core.http.paging.PagedResponse;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.instrumentation.logging.ClientLogger;
-import java.lang.reflect.InvocationTargetException;
 import payload.pageable.XmlPet;
 
 /**
@@ -58,15 +57,7 @@ public final class XmlPaginationsImpl {
     @ServiceInterface(name = "PageableClientXmlPaginations", host = "{endpoint}")
     public interface XmlPaginationsService {
         static XmlPaginationsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.pageable.implementation.XmlPaginationsServiceImpl");
-                return (XmlPaginationsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.pageable.implementation.XmlPaginationsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -263,7 +254,7 @@ public final class XmlPaginationsImpl {
     @ServiceMethod(returns = ReturnType.COLLECTION)
     public PagedIterable<XmlPet> listWithNextLink(RequestContext requestContext) {
         RequestContext requestContextForNextPage = requestContext != null ? requestContext : RequestContext.none();
-        return new PagedIterable<>((pagingOptions) -> {
+        return PagePrefetcher.pagedIterable((pagingOptions) -> {
             if (pagingOptions.getOffset() != null) {
                 throw LOGGER.throwableAtError()
                     .addKeyValue("propertyName", "offset")
@@ -48,7 +48,7 @@ public final class ListWithoutContinuationResponse implements JsonSerializable<L
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("pets", this.pets, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("pets", this.pets, JsonWriter::writeJson);
         return jsonWriter.writeEndObject();
     }
 
@@ -70,7 +70,7 @@ public final class ListWithoutContinuationResponse implements JsonSerializable<L
                 reader.nextToken();
 
                 if ("pets".equals(fieldName)) {
-                    pets = reader.readArray(reader1 -> Pet.fromJson(reader1));
+                    pets = reader.readArray(Pet::fromJson);
                 } else {
                     reader.skipChildren();
                 }
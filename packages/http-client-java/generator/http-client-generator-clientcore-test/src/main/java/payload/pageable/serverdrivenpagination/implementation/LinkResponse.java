@@ -64,7 +64,7 @@ public final class LinkResponse implements JsonSerializable<LinkResponse> {
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("pets", this.pets, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("pets", this.pets, JsonWriter::writeJson);
         jsonWriter.writeStringField("next", this.next);
         return jsonWriter.writeEndObject();
     }
@@ -88,7 +88,7 @@ public final class LinkResponse implements JsonSerializable<LinkResponse> {
                 reader.nextToken();
 
                 if ("pets".equals(fieldName)) {
-                    pets = reader.readArray(reader1 -> Pet.fromJson(reader1));
+                    pets = reader.readArray(Pet::fromJson);
                 } else if ("next".equals(fieldName)) {
                     next = reader.getString();
                 } else {
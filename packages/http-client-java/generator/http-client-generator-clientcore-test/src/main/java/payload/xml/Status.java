@@ -10,36 +10,40 @@ import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Status values for the model with enum.
  */
 public final class Status implements ExpandableEnum<String>, JsonSerializable<Status> {
-    private static final Map<String, Status> VALUES = new ConcurrentHashMap<>();
-
-    private static final Function<String, Status> NEW_INSTANCE = Status::new;
+    private static final Map<String, Status> VALUES = new HashMap<>();
 
     /**
      * Pending status.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final Status PENDING = fromValue("pending");
+    public static final Status PENDING = addKnownValue("pending");
 
     /**
      * Success status.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final Status SUCCESS = fromValue("success");
+    public static final Status SUCCESS = addKnownValue("success");
 
     /**
      * Error status.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final Status ERROR = fromValue("error");
+    public static final Status ERROR = addKnownValue("error");
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static Status addKnownValue(String value) {
+        Status knownValue = new Status(value);
+        VALUES.put(value, knownValue);
+        return knownValue;
+    }
 
     private final String value;
 
@@ -48,7 +52,7 @@ public final class Status implements ExpandableEnum<String>, JsonSerializable<St
     }
 
     /**
-     * Creates or finds a Status.
+     * Finds a known Status, or creates a new Status if the value is not known.
      * 
      * @param value a value to look for.
      * @return the corresponding Status.
@@ -59,7 +63,8 @@ public final class Status implements ExpandableEnum<String>, JsonSerializable<St
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        Status knownValue = VALUES.get(value);
+        return knownValue != null ? knownValue : new Status(value);
     }
 
     /**
@@ -123,7 +128,7 @@ public final class Status implements ExpandableEnum<String>, JsonSerializable<St
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj || (obj instanceof Status && Objects.equals(this.value, ((Status) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
@@ -73,6 +73,13 @@ public final class XmlClientBuilder implements HttpTrait<XmlClientBuilder>, Prox
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the XmlClientBuilder.
      */
@@ -93,6 +100,7 @@ public final class XmlClientBuilder implements HttpTrait<XmlClientBuilder>, Prox
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public XmlClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -109,6 +117,7 @@ public final class XmlClientBuilder implements HttpTrait<XmlClientBuilder>, Prox
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public XmlClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -119,6 +128,7 @@ public final class XmlClientBuilder implements HttpTrait<XmlClientBuilder>, Prox
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public XmlClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -136,6 +146,7 @@ public final class XmlClientBuilder implements HttpTrait<XmlClientBuilder>, Prox
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public XmlClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -152,6 +163,7 @@ public final class XmlClientBuilder implements HttpTrait<XmlClientBuilder>, Prox
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public XmlClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -168,6 +180,7 @@ public final class XmlClientBuilder implements HttpTrait<XmlClientBuilder>, Prox
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public XmlClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -184,6 +197,7 @@ public final class XmlClientBuilder implements HttpTrait<XmlClientBuilder>, Prox
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public XmlClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -200,6 +214,7 @@ public final class XmlClientBuilder implements HttpTrait<XmlClientBuilder>, Prox
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public XmlClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -222,7 +237,7 @@ public final class XmlClientBuilder implements HttpTrait<XmlClientBuilder>, Prox
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        XmlClientImpl client = new XmlClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        XmlClientImpl client = new XmlClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -249,6 +264,15 @@ public final class XmlClientBuilder implements HttpTrait<XmlClientBuilder>, Prox
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of SimpleModelValueClient class.
      * 
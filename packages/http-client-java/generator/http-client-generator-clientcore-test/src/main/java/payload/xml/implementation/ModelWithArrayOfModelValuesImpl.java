@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithArrayOfModel;
 
 /**
@@ -54,15 +53,7 @@ public final class ModelWithArrayOfModelValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithArrayOfModelValues", host = "{endpoint}")
     public interface ModelWithArrayOfModelValuesService {
         static ModelWithArrayOfModelValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.xml.implementation.ModelWithArrayOfModelValuesServiceImpl");
-                return (ModelWithArrayOfModelValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithArrayOfModelValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
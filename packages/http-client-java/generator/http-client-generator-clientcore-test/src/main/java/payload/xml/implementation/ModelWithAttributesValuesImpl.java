@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithAttributes;
 
 /**
@@ -54,15 +53,7 @@ public final class ModelWithAttributesValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithAttributesValues", host = "{endpoint}")
     public interface ModelWithAttributesValuesService {
         static ModelWithAttributesValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.xml.implementation.ModelWithAttributesValuesServiceImpl");
-                return (ModelWithAttributesValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithAttributesValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithDatetime;
 
 /**
@@ -54,15 +53,7 @@ public final class ModelWithDatetimeValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithDatetimeValues", host = "{endpoint}")
     public interface ModelWithDatetimeValuesService {
         static ModelWithDatetimeValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.xml.implementation.ModelWithDatetimeValuesServiceImpl");
-                return (ModelWithDatetimeValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithDatetimeValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithEncodedNames;
 
 /**
@@ -54,15 +53,7 @@ public final class ModelWithEncodedNamesValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithEncodedNamesValues", host = "{endpoint}")
     public interface ModelWithEncodedNamesValuesService {
         static ModelWithEncodedNamesValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.xml.implementation.ModelWithEncodedNamesValuesServiceImpl");
-                return (ModelWithEncodedNamesValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithEncodedNamesValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
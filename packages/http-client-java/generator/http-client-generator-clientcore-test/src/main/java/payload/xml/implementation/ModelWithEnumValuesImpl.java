@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithEnum;
 
 /**
@@ -54,15 +53,7 @@ public final class ModelWithEnumValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithEnumValues", host = "{endpoint}")
     public interface ModelWithEnumValuesService {
         static ModelWithEnumValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.xml.implementation.ModelWithEnumValuesServiceImpl");
-                return (ModelWithEnumValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithEnumValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithNamespaceOnProperties;
 
 /**
@@ -54,17 +53,7 @@ public final class ModelWithNamespaceOnPropertiesValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithNamespaceOnPropertiesValues", host = "{endpoint}")
     public interface ModelWithNamespaceOnPropertiesValuesService {
         static ModelWithNamespaceOnPropertiesValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("payload.xml.implementation.ModelWithNamespaceOnPropertiesValuesServiceImpl");
-                return (ModelWithNamespaceOnPropertiesValuesService) clazz
-                    .getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithNamespaceOnPropertiesValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithNestedModel;
 
 /**
@@ -54,15 +53,7 @@ public final class ModelWithNestedModelValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithNestedModelValues", host = "{endpoint}")
     public interface ModelWithNestedModelValuesService {
         static ModelWithNestedModelValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.xml.implementation.ModelWithNestedModelValuesServiceImpl");
-                return (ModelWithNestedModelValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithNestedModelValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithOptionalField;
 
 /**
@@ -54,15 +53,7 @@ public final class ModelWithOptionalFieldValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithOptionalFieldValues", host = "{endpoint}")
     public interface ModelWithOptionalFieldValuesService {
         static ModelWithOptionalFieldValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.xml.implementation.ModelWithOptionalFieldValuesServiceImpl");
-                return (ModelWithOptionalFieldValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithOptionalFieldValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
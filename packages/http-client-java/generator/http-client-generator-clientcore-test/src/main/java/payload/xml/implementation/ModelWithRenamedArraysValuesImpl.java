@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithRenamedArrays;
 
 /**
@@ -54,15 +53,7 @@ public final class ModelWithRenamedArraysValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithRenamedArraysValues", host = "{endpoint}")
     public interface ModelWithRenamedArraysValuesService {
         static ModelWithRenamedArraysValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.xml.implementation.ModelWithRenamedArraysValuesServiceImpl");
-                return (ModelWithRenamedArraysValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithRenamedArraysValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
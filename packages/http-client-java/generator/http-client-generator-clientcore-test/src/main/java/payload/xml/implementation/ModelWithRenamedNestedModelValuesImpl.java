@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithRenamedNestedModel;
 
 /**
@@ -54,16 +53,7 @@ public final class ModelWithRenamedNestedModelValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithRenamedNestedModelValues", host = "{endpoint}")
     public interface ModelWithRenamedNestedModelValuesService {
         static ModelWithRenamedNestedModelValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("payload.xml.implementation.ModelWithRenamedNestedModelValuesServiceImpl");
-                return (ModelWithRenamedNestedModelValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithRenamedNestedModelValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithRenamedWrappedModelArray;
 
 /**
@@ -54,17 +53,8 @@ public final class ModelWithRenamedWrappedModelArrayValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithRenamedWrappedModelArrayValues", host = "{endpoint}")
     public interface ModelWithRenamedWrappedModelArrayValuesService {
         static ModelWithRenamedWrappedModelArrayValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("payload.xml.implementation.ModelWithRenamedWrappedModelArrayValuesServiceImpl");
-                return (ModelWithRenamedWrappedModelArrayValuesService) clazz
-                    .getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithRenamedWrappedModelArrayValuesServiceImpl
+                .getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithSimpleArrays;
 
 /**
@@ -54,15 +53,7 @@ public final class ModelWithSimpleArraysValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithSimpleArraysValues", host = "{endpoint}")
     public interface ModelWithSimpleArraysValuesService {
         static ModelWithSimpleArraysValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.xml.implementation.ModelWithSimpleArraysValuesServiceImpl");
-                return (ModelWithSimpleArraysValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithSimpleArraysValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithUnwrappedArray;
 
 /**
@@ -54,15 +53,7 @@ public final class ModelWithUnwrappedArrayValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithUnwrappedArrayValues", host = "{endpoint}")
     public interface ModelWithUnwrappedArrayValuesService {
         static ModelWithUnwrappedArrayValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.xml.implementation.ModelWithUnwrappedArrayValuesServiceImpl");
-                return (ModelWithUnwrappedArrayValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithUnwrappedArrayValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
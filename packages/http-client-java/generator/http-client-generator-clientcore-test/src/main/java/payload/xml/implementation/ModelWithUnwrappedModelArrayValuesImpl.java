@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.ModelWithUnwrappedModelArray;
 
 /**
@@ -54,16 +53,7 @@ public final class ModelWithUnwrappedModelArrayValuesImpl {
     @ServiceInterface(name = "XmlClientModelWithUnwrappedModelArrayValues", host = "{endpoint}")
     public interface ModelWithUnwrappedModelArrayValuesService {
         static ModelWithUnwrappedModelArrayValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("payload.xml.implementation.ModelWithUnwrappedModelArrayValuesServiceImpl");
-                return (ModelWithUnwrappedModelArrayValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.ModelWithUnwrappedModelArrayValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
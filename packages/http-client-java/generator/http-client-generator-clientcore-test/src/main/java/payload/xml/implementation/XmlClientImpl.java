@@ -52,7 +52,7 @@ public final class XmlClientImpl {
     /**
      * The SimpleModelValuesImpl object to access its operations.
      */
-    private final SimpleModelValuesImpl simpleModelValues;
+    private volatile SimpleModelValuesImpl simpleModelValues;
 
     /**
      * Gets the SimpleModelValuesImpl object to access its operations.
@@ -60,13 +60,23 @@ public final class XmlClientImpl {
      * @return the SimpleModelValuesImpl object.
      */
     public SimpleModelValuesImpl getSimpleModelValues() {
-        return this.simpleModelValues;
+        SimpleModelValuesImpl localSimpleModelValues = this.simpleModelValues;
+        if (localSimpleModelValues == null) {
+            synchronized (this) {
+                localSimpleModelValues = this.simpleModelValues;
+                if (localSimpleModelValues == null) {
+                    localSimpleModelValues = new SimpleModelValuesImpl(this);
+                    this.simpleModelValues = localSimpleModelValues;
+                }
+            }
+        }
+        return localSimpleModelValues;
     }
 
     /**
      * The ModelWithRenamedPropertyValuesImpl object to access its operations.
      */
-    private final ModelWithRenamedPropertyValuesImpl modelWithRenamedPropertyValues;
+    private volatile ModelWithRenamedPropertyValuesImpl modelWithRenamedPropertyValues;
 
     /**
      * Gets the ModelWithRenamedPropertyValuesImpl object to access its operations.
@@ -74,13 +84,23 @@ public final class XmlClientImpl {
      * @return the ModelWithRenamedPropertyValuesImpl object.
      */
     public ModelWithRenamedPropertyValuesImpl getModelWithRenamedPropertyValues() {
-        return this.modelWithRenamedPropertyValues;
+        ModelWithRenamedPropertyValuesImpl localModelWithRenamedPropertyValues = this.modelWithRenamedPropertyValues;
+        if (localModelWithRenamedPropertyValues == null) {
+            synchronized (this) {
+                localModelWithRenamedPropertyValues = this.modelWithRenamedPropertyValues;
+                if (localModelWithRenamedPropertyValues == null) {
+                    localModelWithRenamedPropertyValues = new ModelWithRenamedPropertyValuesImpl(this);
+                    this.modelWithRenamedPropertyValues = localModelWithRenamedPropertyValues;
+                }
+            }
+        }
+        return localModelWithRenamedPropertyValues;
     }
 
     /**
      * The ModelWithRenamedFieldsValuesImpl object to access its operations.
      */
-    private final ModelWithRenamedFieldsValuesImpl modelWithRenamedFieldsValues;
+    private volatile ModelWithRenamedFieldsValuesImpl modelWithRenamedFieldsValues;
 
     /**
      * Gets the ModelWithRenamedFieldsValuesImpl object to access its operations.
@@ -88,13 +108,23 @@ public final class XmlClientImpl {
      * @return the ModelWithRenamedFieldsValuesImpl object.
      */
     public ModelWithRenamedFieldsValuesImpl getModelWithRenamedFieldsValues() {
-        return this.modelWithRenamedFieldsValues;
+        ModelWithRenamedFieldsValuesImpl localModelWithRenamedFieldsValues = this.modelWithRenamedFieldsValues;
+        if (localModelWithRenamedFieldsValues == null) {
+            synchronized (this) {
+                localModelWithRenamedFieldsValues = this.modelWithRenamedFieldsValues;
+                if (localModelWithRenamedFieldsValues == null) {
+                    localModelWithRenamedFieldsValues = new ModelWithRenamedFieldsValuesImpl(this);
+                    this.modelWithRenamedFieldsValues = localModelWithRenamedFieldsValues;
+                }
+            }
+        }
+        return localModelWithRenamedFieldsValues;
     }
 
     /**
      * The ModelWithNestedModelValuesImpl object to access its operations.
      */
-    private final ModelWithNestedModelValuesImpl modelWithNestedModelValues;
+    private volatile ModelWithNestedModelValuesImpl modelWithNestedModelValues;
 
     /**
      * Gets the ModelWithNestedModelValuesImpl object to access its operations.
@@ -102,13 +132,23 @@ public final class XmlClientImpl {
      * @return the ModelWithNestedModelValuesImpl object.
      */
     public ModelWithNestedModelValuesImpl getModelWithNestedModelValues() {
-        return this.modelWithNestedModelValues;
+        ModelWithNestedModelValuesImpl localModelWithNestedModelValues = this.modelWithNestedModelValues;
+        if (localModelWithNestedModelValues == null) {
+            synchronized (this) {
+                localModelWithNestedModelValues = this.modelWithNestedModelValues;
+                if (localModelWithNestedModelValues == null) {
+                    localModelWithNestedModelValues = new ModelWithNestedModelValuesImpl(this);
+                    this.modelWithNestedModelValues = localModelWithNestedModelValues;
+                }
+            }
+        }
+        return localModelWithNestedModelValues;
     }
 
     /**
      * The ModelWithRenamedNestedModelValuesImpl object to access its operations.
      */
-    private final ModelWithRenamedNestedModelValuesImpl modelWithRenamedNestedModelValues;
+    private volatile ModelWithRenamedNestedModelValuesImpl modelWithRenamedNestedModelValues;
 
     /**
      * Gets the ModelWithRenamedNestedModelValuesImpl object to access its operations.
@@ -116,13 +156,24 @@ public final class XmlClientImpl {
      * @return the ModelWithRenamedNestedModelValuesImpl object.
      */
     public ModelWithRenamedNestedModelValuesImpl getModelWithRenamedNestedModelValues() {
-        return this.modelWithRenamedNestedModelValues;
+        ModelWithRenamedNestedModelValuesImpl localModelWithRenamedNestedModelValues
+            = this.modelWithRenamedNestedModelValues;
+        if (localModelWithRenamedNestedModelValues == null) {
+            synchronized (this) {
+                localModelWithRenamedNestedModelValues = this.modelWithRenamedNestedModelValues;
+                if (localModelWithRenamedNestedModelValues == null) {
+                    localModelWithRenamedNestedModelValues = new ModelWithRenamedNestedModelValuesImpl(this);
+                    this.modelWithRenamedNestedModelValues = localModelWithRenamedNestedModelValues;
+                }
+            }
+        }
+        return localModelWithRenamedNestedModelValues;
     }
 
     /**
      * The ModelWithSimpleArraysValuesImpl object to access its operations.
      */
-    private final ModelWithSimpleArraysValuesImpl modelWithSimpleArraysValues;
+    private volatile ModelWithSimpleArraysValuesImpl modelWithSimpleArraysValues;
 
     /**
      * Gets the ModelWithSimpleArraysValuesImpl object to access its operations.
@@ -130,13 +181,23 @@ public final class XmlClientImpl {
      * @return the ModelWithSimpleArraysValuesImpl object.
      */
     public ModelWithSimpleArraysValuesImpl getModelWithSimpleArraysValues() {
-        return this.modelWithSimpleArraysValues;
+        ModelWithSimpleArraysValuesImpl localModelWithSimpleArraysValues = this.modelWithSimpleArraysValues;
+        if (localModelWithSimpleArraysValues == null) {
+            synchronized (this) {
+                localModelWithSimpleArraysValues = this.modelWithSimpleArraysValues;
+                if (localModelWithSimpleArraysValues == null) {
+                    localModelWithSimpleArraysValues = new ModelWithSimpleArraysValuesImpl(this);
+                    this.modelWithSimpleArraysValues = localModelWithSimpleArraysValues;
+                }
+            }
+        }
+        return localModelWithSimpleArraysValues;
     }
 
     /**
      * The ModelWithUnwrappedArrayValuesImpl object to access its operations.
      */
-    private final ModelWithUnwrappedArrayValuesImpl modelWithUnwrappedArrayValues;
+    private volatile ModelWithUnwrappedArrayValuesImpl modelWithUnwrappedArrayValues;
 
     /**
      * Gets the ModelWithUnwrappedArrayValuesImpl object to access its operations.
@@ -144,13 +205,23 @@ public final class XmlClientImpl {
      * @return the ModelWithUnwrappedArrayValuesImpl object.
      */
     public ModelWithUnwrappedArrayValuesImpl getModelWithUnwrappedArrayValues() {
-        return this.modelWithUnwrappedArrayValues;
+        ModelWithUnwrappedArrayValuesImpl localModelWithUnwrappedArrayValues = this.modelWithUnwrappedArrayValues;
+        if (localModelWithUnwrappedArrayValues == null) {
+            synchronized (this) {
+                localModelWithUnwrappedArrayValues = this.modelWithUnwrappedArrayValues;
+                if (localModelWithUnwrappedArrayValues == null) {
+                    localModelWithUnwrappedArrayValues = new ModelWithUnwrappedArrayValuesImpl(this);
+                    this.modelWithUnwrappedArrayValues = localModelWithUnwrappedArrayValues;
+                }
+            }
+        }
+        return localModelWithUnwrappedArrayValues;
     }
 
     /**
      * The ModelWithRenamedArraysValuesImpl object to access its operations.
      */
-    private final ModelWithRenamedArraysValuesImpl modelWithRenamedArraysValues;
+    private volatile ModelWithRenamedArraysValuesImpl modelWithRenamedArraysValues;
 
     /**
      * Gets the ModelWithRenamedArraysValuesImpl object to access its operations.
@@ -158,7 +229,17 @@ public final class XmlClientImpl {
      * @return the ModelWithRenamedArraysValuesImpl object.
      */
     public ModelWithRenamedArraysValuesImpl getModelWithRenamedArraysValues() {
-        return this.modelWithRenamedArraysValues;
+        ModelWithRenamedArraysValuesImpl localModelWithRenamedArraysValues = this.modelWithRenamedArraysValues;
+        if (localModelWithRenamedArraysValues == null) {
+            synchronized (this) {
+                localModelWithRenamedArraysValues = this.modelWithRenamedArraysValues;
+                if (localModelWithRenamedArraysValues == null) {
+                    localModelWithRenamedArraysValues = new ModelWithRenamedArraysValuesImpl(this);
+                    this.modelWithRenamedArraysValues = localModelWithRenamedArraysValues;
+                }
+            }
+        }
+        return localModelWithRenamedArraysValues;
     }
 
     /**
@@ -178,7 +259,7 @@ public final class XmlClientImpl {
     /**
      * The ModelWithArrayOfModelValuesImpl object to access its operations.
      */
-    private final ModelWithArrayOfModelValuesImpl modelWithArrayOfModelValues;
+    private volatile ModelWithArrayOfModelValuesImpl modelWithArrayOfModelValues;
 
     /**
      * Gets the ModelWithArrayOfModelValuesImpl object to access its operations.
@@ -186,13 +267,23 @@ public final class XmlClientImpl {
      * @return the ModelWithArrayOfModelValuesImpl object.
      */
     public ModelWithArrayOfModelValuesImpl getModelWithArrayOfModelValues() {
-        return this.modelWithArrayOfModelValues;
+        ModelWithArrayOfModelValuesImpl localModelWithArrayOfModelValues = this.modelWithArrayOfModelValues;
+        if (localModelWithArrayOfModelValues == null) {
+            synchronized (this) {
+                localModelWithArrayOfModelValues = this.modelWithArrayOfModelValues;
+                if (localModelWithArrayOfModelValues == null) {
+                    localModelWithArrayOfModelValues = new ModelWithArrayOfModelValuesImpl(this);
+                    this.modelWithArrayOfModelValues = localModelWithArrayOfModelValues;
+                }
+            }
+        }
+        return localModelWithArrayOfModelValues;
     }
 
     /**
      * The ModelWithUnwrappedModelArrayValuesImpl object to access its operations.
      */
-    private final ModelWithUnwrappedModelArrayValuesImpl modelWithUnwrappedModelArrayValues;
+    private volatile ModelWithUnwrappedModelArrayValuesImpl modelWithUnwrappedModelArrayValues;
 
     /**
      * Gets the ModelWithUnwrappedModelArrayValuesImpl object to access its operations.
@@ -200,13 +291,24 @@ public final class XmlClientImpl {
      * @return the ModelWithUnwrappedModelArrayValuesImpl object.
      */
     public ModelWithUnwrappedModelArrayValuesImpl getModelWithUnwrappedModelArrayValues() {
-        return this.modelWithUnwrappedModelArrayValues;
+        ModelWithUnwrappedModelArrayValuesImpl localModelWithUnwrappedModelArrayValues
+            = this.modelWithUnwrappedModelArrayValues;
+        if (localModelWithUnwrappedModelArrayValues == null) {
+            synchronized (this) {
+                localModelWithUnwrappedModelArrayValues = this.modelWithUnwrappedModelArrayValues;
+                if (localModelWithUnwrappedModelArrayValues == null) {
+                    localModelWithUnwrappedModelArrayValues = new ModelWithUnwrappedModelArrayValuesImpl(this);
+                    this.modelWithUnwrappedModelArrayValues = localModelWithUnwrappedModelArrayValues;
+                }
+            }
+        }
+        return localModelWithUnwrappedModelArrayValues;
     }
 
     /**
      * The ModelWithRenamedWrappedModelArrayValuesImpl object to access its operations.
      */
-    private final ModelWithRenamedWrappedModelArrayValuesImpl modelWithRenamedWrappedModelArrayValues;
+    private volatile ModelWithRenamedWrappedModelArrayValuesImpl modelWithRenamedWrappedModelArrayValues;
 
     /**
      * Gets the ModelWithRenamedWrappedModelArrayValuesImpl object to access its operations.
@@ -214,13 +316,25 @@ public final class XmlClientImpl {
      * @return the ModelWithRenamedWrappedModelArrayValuesImpl object.
      */
     public ModelWithRenamedWrappedModelArrayValuesImpl getModelWithRenamedWrappedModelArrayValues() {
-        return this.modelWithRenamedWrappedModelArrayValues;
+        ModelWithRenamedWrappedModelArrayValuesImpl localModelWithRenamedWrappedModelArrayValues
+            = this.modelWithRenamedWrappedModelArrayValues;
+        if (localModelWithRenamedWrappedModelArrayValues == null) {
+            synchronized (this) {
+                localModelWithRenamedWrappedModelArrayValues = this.modelWithRenamedWrappedModelArrayValues;
+                if (localModelWithRenamedWrappedModelArrayValues == null) {
+                    localModelWithRenamedWrappedModelArrayValues
+                        = new ModelWithRenamedWrappedModelArrayValuesImpl(this);
+                    this.modelWithRenamedWrappedModelArrayValues = localModelWithRenamedWrappedModelArrayValues;
+                }
+            }
+        }
+        return localModelWithRenamedWrappedModelArrayValues;
     }
 
     /**
      * The ModelWithRenamedUnwrappedModelArrayValuesImpl object to access its operations.
      */
-    private final ModelWithRenamedUnwrappedModelArrayValuesImpl modelWithRenamedUnwrappedModelArrayValues;
+    private volatile ModelWithRenamedUnwrappedModelArrayValuesImpl modelWithRenamedUnwrappedModelArrayValues;
 
     /**
      * Gets the ModelWithRenamedUnwrappedModelArrayValuesImpl object to access its operations.
@@ -228,7 +342,19 @@ public final class XmlClientImpl {
      * @return the ModelWithRenamedUnwrappedModelArrayValuesImpl object.
      */
     public ModelWithRenamedUnwrappedModelArrayValuesImpl getModelWithRenamedUnwrappedModelArrayValues() {
-        return this.modelWithRenamedUnwrappedModelArrayValues;
+        ModelWithRenamedUnwrappedModelArrayValuesImpl localModelWithRenamedUnwrappedModelArrayValues
+            = this.modelWithRenamedUnwrappedModelArrayValues;
+        if (localModelWithRenamedUnwrappedModelArrayValues == null) {
+            synchronized (this) {
+                localModelWithRenamedUnwrappedModelArrayValues = this.modelWithRenamedUnwrappedModelArrayValues;
+                if (localModelWithRenamedUnwrappedModelArrayValues == null) {
+                    localModelWithRenamedUnwrappedModelArrayValues
+                        = new ModelWithRenamedUnwrappedModelArrayValuesImpl(this);
+                    this.modelWithRenamedUnwrappedModelArrayValues = localModelWithRenamedUnwrappedModelArrayValues;
+                }
+            }
+        }
+        return localModelWithRenamedUnwrappedModelArrayValues;
     }
 
     /**
@@ -248,7 +374,7 @@ public final class XmlClientImpl {
     /**
      * The ModelWithAttributesValuesImpl object to access its operations.
      */
-    private final ModelWithAttributesValuesImpl modelWithAttributesValues;
+    private volatile ModelWithAttributesValuesImpl modelWithAttributesValues;
 
     /**
      * Gets the ModelWithAttributesValuesImpl object to access its operations.
@@ -256,13 +382,23 @@ public final class XmlClientImpl {
      * @return the ModelWithAttributesValuesImpl object.
      */
     public ModelWithAttributesValuesImpl getModelWithAttributesValues() {
-        return this.modelWithAttributesValues;
+        ModelWithAttributesValuesImpl localModelWithAttributesValues = this.modelWithAttributesValues;
+        if (localModelWithAttributesValues == null) {
+            synchronized (this) {
+                localModelWithAttributesValues = this.modelWithAttributesValues;
+                if (localModelWithAttributesValues == null) {
+                    localModelWithAttributesValues = new ModelWithAttributesValuesImpl(this);
+                    this.modelWithAttributesValues = localModelWithAttributesValues;
+                }
+            }
+        }
+        return localModelWithAttributesValues;
     }
 
     /**
      * The ModelWithRenamedAttributeValuesImpl object to access its operations.
      */
-    private final ModelWithRenamedAttributeValuesImpl modelWithRenamedAttributeValues;
+    private volatile ModelWithRenamedAttributeValuesImpl modelWithRenamedAttributeValues;
 
     /**
      * Gets the ModelWithRenamedAttributeValuesImpl object to access its operations.
@@ -270,13 +406,23 @@ public final class XmlClientImpl {
      * @return the ModelWithRenamedAttributeValuesImpl object.
      */
     public ModelWithRenamedAttributeValuesImpl getModelWithRenamedAttributeValues() {
-        return this.modelWithRenamedAttributeValues;
+        ModelWithRenamedAttributeValuesImpl localModelWithRenamedAttributeValues = this.modelWithRenamedAttributeValues;
+        if (localModelWithRenamedAttributeValues == null) {
+            synchronized (this) {
+                localModelWithRenamedAttributeValues = this.modelWithRenamedAttributeValues;
+                if (localModelWithRenamedAttributeValues == null) {
+                    localModelWithRenamedAttributeValues = new ModelWithRenamedAttributeValuesImpl(this);
+                    this.modelWithRenamedAttributeValues = localModelWithRenamedAttributeValues;
+                }
+            }
+        }
+        return localModelWithRenamedAttributeValues;
     }
 
     /**
      * The ModelWithNamespaceValuesImpl object to access its operations.
      */
-    private final ModelWithNamespaceValuesImpl modelWithNamespaceValues;
+    private volatile ModelWithNamespaceValuesImpl modelWithNamespaceValues;
 
     /**
      * Gets the ModelWithNamespaceValuesImpl object to access its operations.
@@ -284,13 +430,23 @@ public final class XmlClientImpl {
      * @return the ModelWithNamespaceValuesImpl object.
      */
     public ModelWithNamespaceValuesImpl getModelWithNamespaceValues() {
-        return this.modelWithNamespaceValues;
+        ModelWithNamespaceValuesImpl localModelWithNamespaceValues = this.modelWithNamespaceValues;
+        if (localModelWithNamespaceValues == null) {
+            synchronized (this) {
+                localModelWithNamespaceValues = this.modelWithNamespaceValues;
+                if (localModelWithNamespaceValues == null) {
+                    localModelWithNamespaceValues = new ModelWithNamespaceValuesImpl(this);
+                    this.modelWithNamespaceValues = localModelWithNamespaceValues;
+                }
+            }
+        }
+        return localModelWithNamespaceValues;
     }
 
     /**
      * The ModelWithNamespaceOnPropertiesValuesImpl object to access its operations.
      */
-    private final ModelWithNamespaceOnPropertiesValuesImpl modelWithNamespaceOnPropertiesValues;
+    private volatile ModelWithNamespaceOnPropertiesValuesImpl modelWithNamespaceOnPropertiesValues;
 
     /**
      * Gets the ModelWithNamespaceOnPropertiesValuesImpl object to access its operations.
@@ -298,13 +454,24 @@ public final class XmlClientImpl {
      * @return the ModelWithNamespaceOnPropertiesValuesImpl object.
      */
     public ModelWithNamespaceOnPropertiesValuesImpl getModelWithNamespaceOnPropertiesValues() {
-        return this.modelWithNamespaceOnPropertiesValues;
+        ModelWithNamespaceOnPropertiesValuesImpl localModelWithNamespaceOnPropertiesValues
+            = this.modelWithNamespaceOnPropertiesValues;
+        if (localModelWithNamespaceOnPropertiesValues == null) {
+            synchronized (this) {
+                localModelWithNamespaceOnPropertiesValues = this.modelWithNamespaceOnPropertiesValues;
+                if (localModelWithNamespaceOnPropertiesValues == null) {
+                    localModelWithNamespaceOnPropertiesValues = new ModelWithNamespaceOnPropertiesValuesImpl(this);
+                    this.modelWithNamespaceOnPropertiesValues = localModelWithNamespaceOnPropertiesValues;
+                }
+            }
+        }
+        return localModelWithNamespaceOnPropertiesValues;
     }
 
     /**
      * The ModelWithTextValuesImpl object to access its operations.
      */
-    private final ModelWithTextValuesImpl modelWithTextValues;
+    private volatile ModelWithTextValuesImpl modelWithTextValues;
 
     /**
      * Gets the ModelWithTextValuesImpl object to access its operations.
@@ -312,13 +479,23 @@ public final class XmlClientImpl {
      * @return the ModelWithTextValuesImpl object.
      */
     public ModelWithTextValuesImpl getModelWithTextValues() {
-        return this.modelWithTextValues;
+        ModelWithTextValuesImpl localModelWithTextValues = this.modelWithTextValues;
+        if (localModelWithTextValues == null) {
+            synchronized (this) {
+                localModelWithTextValues = this.modelWithTextValues;
+                if (localModelWithTextValues == null) {
+                    localModelWithTextValues = new ModelWithTextValuesImpl(this);
+                    this.modelWithTextValues = localModelWithTextValues;
+                }
+            }
+        }
+        return localModelWithTextValues;
     }
 
     /**
      * The ModelWithOptionalFieldValuesImpl object to access its operations.
      */
-    private final ModelWithOptionalFieldValuesImpl modelWithOptionalFieldValues;
+    private volatile ModelWithOptionalFieldValuesImpl modelWithOptionalFieldValues;
 
     /**
      * Gets the ModelWithOptionalFieldValuesImpl object to access its operations.
@@ -326,13 +503,23 @@ public final class XmlClientImpl {
      * @return the ModelWithOptionalFieldValuesImpl object.
      */
     public ModelWithOptionalFieldValuesImpl getModelWithOptionalFieldValues() {
-        return this.modelWithOptionalFieldValues;
+        ModelWithOptionalFieldValuesImpl localModelWithOptionalFieldValues = this.modelWithOptionalFieldValues;
+        if (localModelWithOptionalFieldValues == null) {
+            synchronized (this) {
+                localModelWithOptionalFieldValues = this.modelWithOptionalFieldValues;
+                if (localModelWithOptionalFieldValues == null) {
+                    localModelWithOptionalFieldValues = new ModelWithOptionalFieldValuesImpl(this);
+                    this.modelWithOptionalFieldValues = localModelWithOptionalFieldValues;
+                }
+            }
+        }
+        return localModelWithOptionalFieldValues;
     }
 
     /**
      * The ModelWithEmptyArrayValuesImpl object to access its operations.
      */
-    private final ModelWithEmptyArrayValuesImpl modelWithEmptyArrayValues;
+    private volatile ModelWithEmptyArrayValuesImpl modelWithEmptyArrayValues;
 
     /**
      * Gets the ModelWithEmptyArrayValuesImpl object to access its operations.
@@ -340,13 +527,23 @@ public final class XmlClientImpl {
      * @return the ModelWithEmptyArrayValuesImpl object.
      */
     public ModelWithEmptyArrayValuesImpl getModelWithEmptyArrayValues() {
-        return this.modelWithEmptyArrayValues;
+        ModelWithEmptyArrayValuesImpl localModelWithEmptyArrayValues = this.modelWithEmptyArrayValues;
+        if (localModelWithEmptyArrayValues == null) {
+            synchronized (this) {
+                localModelWithEmptyArrayValues = this.modelWithEmptyArrayValues;
+                if (localModelWithEmptyArrayValues == null) {
+                    localModelWithEmptyArrayValues = new ModelWithEmptyArrayValuesImpl(this);
+                    this.modelWithEmptyArrayValues = localModelWithEmptyArrayValues;
+                }
+            }
+        }
+        return localModelWithEmptyArrayValues;
     }
 
     /**
      * The ModelWithDictionaryValuesImpl object to access its operations.
      */
-    private final ModelWithDictionaryValuesImpl modelWithDictionaryValues;
+    private volatile ModelWithDictionaryValuesImpl modelWithDictionaryValues;
 
     /**
      * Gets the ModelWithDictionaryValuesImpl object to access its operations.
@@ -354,13 +551,23 @@ public final class XmlClientImpl {
      * @return the ModelWithDictionaryValuesImpl object.
      */
     public ModelWithDictionaryValuesImpl getModelWithDictionaryValues() {
-        return this.modelWithDictionaryValues;
+        ModelWithDictionaryValuesImpl localModelWithDictionaryValues = this.modelWithDictionaryValues;
+        if (localModelWithDictionaryValues == null) {
+            synchronized (this) {
+                localModelWithDictionaryValues = this.modelWithDictionaryValues;
+                if (localModelWithDictionaryValues == null) {
+                    localModelWithDictionaryValues = new ModelWithDictionaryValuesImpl(this);
+                    this.modelWithDictionaryValues = localModelWithDictionaryValues;
+                }
+            }
+        }
+        return localModelWithDictionaryValues;
     }
 
     /**
      * The ModelWithEncodedNamesValuesImpl object to access its operations.
      */
-    private final ModelWithEncodedNamesValuesImpl modelWithEncodedNamesValues;
+    private volatile ModelWithEncodedNamesValuesImpl modelWithEncodedNamesValues;
 
     /**
      * Gets the ModelWithEncodedNamesValuesImpl object to access its operations.
@@ -368,13 +575,23 @@ public final class XmlClientImpl {
      * @return the ModelWithEncodedNamesValuesImpl object.
      */
     public ModelWithEncodedNamesValuesImpl getModelWithEncodedNamesValues() {
-        return this.modelWithEncodedNamesValues;
+        ModelWithEncodedNamesValuesImpl localModelWithEncodedNamesValues = this.modelWithEncodedNamesValues;
+        if (localModelWithEncodedNamesValues == null) {
+            synchronized (this) {
+                localModelWithEncodedNamesValues = this.modelWithEncodedNamesValues;
+                if (localModelWithEncodedNamesValues == null) {
+                    localModelWithEncodedNamesValues = new ModelWithEncodedNamesValuesImpl(this);
+                    this.modelWithEncodedNamesValues = localModelWithEncodedNamesValues;
+                }
+            }
+        }
+        return localModelWithEncodedNamesValues;
     }
 
     /**
      * The ModelWithEnumValuesImpl object to access its operations.
      */
-    private final ModelWithEnumValuesImpl modelWithEnumValues;
+    private volatile ModelWithEnumValuesImpl modelWithEnumValues;
 
     /**
      * Gets the ModelWithEnumValuesImpl object to access its operations.
@@ -382,13 +599,23 @@ public final class XmlClientImpl {
      * @return the ModelWithEnumValuesImpl object.
      */
     public ModelWithEnumValuesImpl getModelWithEnumValues() {
-        return this.modelWithEnumValues;
+        ModelWithEnumValuesImpl localModelWithEnumValues = this.modelWithEnumValues;
+        if (localModelWithEnumValues == null) {
+            synchronized (this) {
+                localModelWithEnumValues = this.modelWithEnumValues;
+                if (localModelWithEnumValues == null) {
+                    localModelWithEnumValues = new ModelWithEnumValuesImpl(this);
+                    this.modelWithEnumValues = localModelWithEnumValues;
+                }
+            }
+        }
+        return localModelWithEnumValues;
     }
 
     /**
      * The ModelWithDatetimeValuesImpl object to access its operations.
      */
-    private final ModelWithDatetimeValuesImpl modelWithDatetimeValues;
+    private volatile ModelWithDatetimeValuesImpl modelWithDatetimeValues;
 
     /**
      * Gets the ModelWithDatetimeValuesImpl object to access its operations.
@@ -396,13 +623,23 @@ public final class XmlClientImpl {
      * @return the ModelWithDatetimeValuesImpl object.
      */
     public ModelWithDatetimeValuesImpl getModelWithDatetimeValues() {
-        return this.modelWithDatetimeValues;
+        ModelWithDatetimeValuesImpl localModelWithDatetimeValues = this.modelWithDatetimeValues;
+        if (localModelWithDatetimeValues == null) {
+            synchronized (this) {
+                localModelWithDatetimeValues = this.modelWithDatetimeValues;
+                if (localModelWithDatetimeValues == null) {
+                    localModelWithDatetimeValues = new ModelWithDatetimeValuesImpl(this);
+                    this.modelWithDatetimeValues = localModelWithDatetimeValues;
+                }
+            }
+        }
+        return localModelWithDatetimeValues;
     }
 
     /**
      * The XmlErrorValuesImpl object to access its operations.
      */
-    private final XmlErrorValuesImpl xmlErrorValues;
+    private volatile XmlErrorValuesImpl xmlErrorValues;
 
     /**
      * Gets the XmlErrorValuesImpl object to access its operations.
@@ -410,7 +647,17 @@ public final class XmlClientImpl {
      * @return the XmlErrorValuesImpl object.
      */
     public XmlErrorValuesImpl getXmlErrorValues() {
-        return this.xmlErrorValues;
+        XmlErrorValuesImpl localXmlErrorValues = this.xmlErrorValues;
+        if (localXmlErrorValues == null) {
+            synchronized (this) {
+                localXmlErrorValues = this.xmlErrorValues;
+                if (localXmlErrorValues == null) {
+                    localXmlErrorValues = new XmlErrorValuesImpl(this);
+                    this.xmlErrorValues = localXmlErrorValues;
+                }
+            }
+        }
+        return localXmlErrorValues;
     }
 
     /**
@@ -424,33 +671,9 @@ public final class XmlClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.simpleModelValues = new SimpleModelValuesImpl(this);
-        this.modelWithRenamedPropertyValues = new ModelWithRenamedPropertyValuesImpl(this);
-        this.modelWithRenamedFieldsValues = new ModelWithRenamedFieldsValuesImpl(this);
-        this.modelWithNestedModelValues = new ModelWithNestedModelValuesImpl(this);
-        this.modelWithRenamedNestedModelValues = new ModelWithRenamedNestedModelValuesImpl(this);
-        this.modelWithSimpleArraysValues = new ModelWithSimpleArraysValuesImpl(this);
-        this.modelWithUnwrappedArrayValues = new ModelWithUnwrappedArrayValuesImpl(this);
-        this.modelWithRenamedArraysValues = new ModelWithRenamedArraysValuesImpl(this);
         this.modelWithWrappedPrimitiveCustomItemNamesValues
             = new ModelWithWrappedPrimitiveCustomItemNamesValuesImpl(this);
-        this.modelWithArrayOfModelValues = new ModelWithArrayOfModelValuesImpl(this);
-        this.modelWithUnwrappedModelArrayValues = new ModelWithUnwrappedModelArrayValuesImpl(this);
-        this.modelWithRenamedWrappedModelArrayValues = new ModelWithRenamedWrappedModelArrayValuesImpl(this);
-        this.modelWithRenamedUnwrappedModelArrayValues = new ModelWithRenamedUnwrappedModelArrayValuesImpl(this);
         this.modelWithRenamedWrappedAndItemModelArrayValues
             = new ModelWithRenamedWrappedAndItemModelArrayValuesImpl(this);
-        this.modelWithAttributesValues = new ModelWithAttributesValuesImpl(this);
-        this.modelWithRenamedAttributeValues = new ModelWithRenamedAttributeValuesImpl(this);
-        this.modelWithNamespaceValues = new ModelWithNamespaceValuesImpl(this);
-        this.modelWithNamespaceOnPropertiesValues = new ModelWithNamespaceOnPropertiesValuesImpl(this);
-        this.modelWithTextValues = new ModelWithTextValuesImpl(this);
-        this.modelWithOptionalFieldValues = new ModelWithOptionalFieldValuesImpl(this);
-        this.modelWithEmptyArrayValues = new ModelWithEmptyArrayValuesImpl(this);
-        this.modelWithDictionaryValues = new ModelWithDictionaryValuesImpl(this);
-        this.modelWithEncodedNamesValues = new ModelWithEncodedNamesValuesImpl(this);
-        this.modelWithEnumValues = new ModelWithEnumValuesImpl(this);
-        this.modelWithDatetimeValues = new ModelWithDatetimeValuesImpl(this);
-        this.xmlErrorValues = new XmlErrorValuesImpl(this);
     }
 }
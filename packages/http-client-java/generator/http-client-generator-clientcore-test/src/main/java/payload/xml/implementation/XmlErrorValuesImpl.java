@@ -13,7 +13,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import payload.xml.SimpleModel;
 import payload.xml.XmlErrorBody;
 
@@ -54,15 +53,7 @@ public final class XmlErrorValuesImpl {
     @ServiceInterface(name = "XmlClientXmlErrorValues", host = "{endpoint}")
     public interface XmlErrorValuesService {
         static XmlErrorValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("payload.xml.implementation.XmlErrorValuesServiceImpl");
-                return (XmlErrorValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return payload.xml.implementation.XmlErrorValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(method = HttpMethod.GET, path = "/payload/xml/error", expectedStatusCodes = { 200 })
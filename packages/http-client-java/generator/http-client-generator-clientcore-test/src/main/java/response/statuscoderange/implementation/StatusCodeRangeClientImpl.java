@@ -12,7 +12,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import response.statuscoderange.DefaultError;
 import response.statuscoderange.ErrorInRange;
 import response.statuscoderange.NotFoundError;
@@ -90,16 +89,7 @@ public final class StatusCodeRangeClientImpl {
     @ServiceInterface(name = "StatusCodeRangeClient", host = "{endpoint}")
     public interface StatusCodeRangeClientService {
         static StatusCodeRangeClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("response.statuscoderange.implementation.StatusCodeRangeClientServiceImpl");
-                return (StatusCodeRangeClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return response.statuscoderange.implementation.StatusCodeRangeClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -64,6 +64,13 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the RoutesClientBuilder.
      */
@@ -84,6 +91,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public RoutesClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -100,6 +108,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public RoutesClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -110,6 +119,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public RoutesClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -127,6 +137,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public RoutesClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -143,6 +154,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public RoutesClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -159,6 +171,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public RoutesClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -175,6 +188,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public RoutesClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -191,6 +205,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public RoutesClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -213,7 +228,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        RoutesClientImpl client = new RoutesClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        RoutesClientImpl client = new RoutesClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -240,6 +255,15 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of RoutesClient class.
      * 
@@ -13,7 +13,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in PathParameters.
@@ -52,15 +51,7 @@ public final class PathParametersImpl {
     @ServiceInterface(name = "RoutesClientPathParameters", host = "{endpoint}")
     public interface PathParametersService {
         static PathParametersService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("routes.implementation.PathParametersServiceImpl");
-                return (PathParametersService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return routes.implementation.PathParametersServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
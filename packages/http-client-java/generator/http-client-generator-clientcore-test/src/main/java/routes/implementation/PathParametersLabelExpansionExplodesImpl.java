@@ -13,11 +13,8 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * An instance of this class provides access to all the operations defined in PathParametersLabelExpansionExplodes.
@@ -56,16 +53,7 @@ public final class PathParametersLabelExpansionExplodesImpl {
     @ServiceInterface(name = "RoutesClientPathParametersLabelExpansionExplodes", host = "{endpoint}")
     public interface PathParametersLabelExpansionExplodesService {
         static PathParametersLabelExpansionExplodesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("routes.implementation.PathParametersLabelExpansionExplodesServiceImpl");
-                return (PathParametersLabelExpansionExplodesService) clazz
-                    .getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return routes.implementation.PathParametersLabelExpansionExplodesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -73,24 +61,24 @@ public final class PathParametersLabelExpansionExplodesImpl {
             path = "/routes/path/label/explode/primitive{param}",
             expectedStatusCodes = { 204 })
         @UnexpectedResponseExceptionDetail
-        Response<Void> primitive(@HostParam("endpoint") String endpoint, @PathParam("param") String param,
-            RequestContext requestContext);
+        Response<Void> primitive(@HostParam("endpoint") String endpoint,
+            @PathParam(value = "param", encoded = true) String param, RequestContext requestContext);
 
         @HttpRequestInformation(
             method = HttpMethod.GET,
             path = "/routes/path/label/explode/array{param}",
             expectedStatusCodes = { 204 })
         @UnexpectedResponseExceptionDetail
-        Response<Void> array(@HostParam("endpoint") String endpoint, @PathParam("param") String param,
-            RequestContext requestContext);
+        Response<Void> array(@HostParam("endpoint") String endpoint,
+            @PathParam(value = "param", encoded = true) String param, RequestContext requestContext);
 
         @HttpRequestInformation(
             method = HttpMethod.GET,
             path = "/routes/path/label/explode/record{param}",
             expectedStatusCodes = { 204 })
         @UnexpectedResponseExceptionDetail
-        Response<Void> record(@HostParam("endpoint") String endpoint, @PathParam("param") Map<String, Integer> param,
-            RequestContext requestContext);
+        Response<Void> record(@HostParam("endpoint") String endpoint,
+            @PathParam(value = "param", encoded = true) String param, RequestContext requestContext);
     }
 
     /**
@@ -107,7 +95,8 @@ public final class PathParametersLabelExpansionExplodesImpl {
     public Response<Void> primitiveWithResponse(String param, RequestContext requestContext) {
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.LabelExpansion.Explode.primitive",
             requestContext, updatedContext -> {
-                return service.primitive(this.client.getEndpoint(), param, updatedContext);
+                String paramConverted = UriExpander.label(param, true);
+                return service.primitive(this.client.getEndpoint(), paramConverted, updatedContext);
             });
     }
 
@@ -125,9 +114,7 @@ public final class PathParametersLabelExpansionExplodesImpl {
     public Response<Void> arrayWithResponse(List<String> param, RequestContext requestContext) {
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.LabelExpansion.Explode.array",
             requestContext, updatedContext -> {
-                String paramConverted = param.stream()
-                    .map(paramItemValue -> Objects.toString(paramItemValue, ""))
-                    .collect(Collectors.joining(","));
+                String paramConverted = UriExpander.label(param, true);
                 return service.array(this.client.getEndpoint(), paramConverted, updatedContext);
             });
     }
@@ -146,7 +133,8 @@ public final class PathParametersLabelExpansionExplodesImpl {
     public Response<Void> recordWithResponse(Map<String, Integer> param, RequestContext requestContext) {
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.LabelExpansion.Explode.record",
             requestContext, updatedContext -> {
-                return service.record(this.client.getEndpoint(), param, updatedContext);
+                String paramConverted = UriExpander.label(param, true);
+                return service.record(this.client.getEndpoint(), paramConverted, updatedContext);
             });
     }
 }
@@ -13,11 +13,8 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * An instance of this class provides access to all the operations defined in PathParametersMatrixExpansionExplodes.
@@ -56,17 +53,7 @@ public final class PathParametersMatrixExpansionExplodesImpl {
     @ServiceInterface(name = "RoutesClientPathParametersMatrixExpansionExplodes", host = "{endpoint}")
     public interface PathParametersMatrixExpansionExplodesService {
         static PathParametersMatrixExpansionExplodesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("routes.implementation.PathParametersMatrixExpansionExplodesServiceImpl");
-                return (PathParametersMatrixExpansionExplodesService) clazz
-                    .getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return routes.implementation.PathParametersMatrixExpansionExplodesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -74,24 +61,24 @@ public final class PathParametersMatrixExpansionExplodesImpl {
             path = "/routes/path/matrix/explode/primitive{param}",
             expectedStatusCodes = { 204 })
         @UnexpectedResponseExceptionDetail
-        Response<Void> primitive(@HostParam("endpoint") String endpoint, @PathParam("param") String param,
-            RequestContext requestContext);
+        Response<Void> primitive(@HostParam("endpoint") String endpoint,
+            @PathParam(value = "param", encoded = true) String param, RequestContext requestContext);
 
         @HttpRequestInformation(
             method = HttpMethod.GET,
             path = "/routes/path/matrix/explode/array{param}",
             expectedStatusCodes = { 204 })
         @UnexpectedResponseExceptionDetail
-        Response<Void> array(@HostParam("endpoint") String endpoint, @PathParam("param") String param,
-            RequestContext requestContext);
+        Response<Void> array(@HostParam("endpoint") String endpoint,
+            @PathParam(value = "param", encoded = true) String param, RequestContext requestContext);
 
         @HttpRequestInformation(
             method = HttpMethod.GET,
             path = "/routes/path/matrix/explode/record{param}",
             expectedStatusCodes = { 204 })
         @UnexpectedResponseExceptionDetail
-        Response<Void> record(@HostParam("endpoint") String endpoint, @PathParam("param") Map<String, Integer> param,
-            RequestContext requestContext);
+        Response<Void> record(@HostParam("endpoint") String endpoint,
+            @PathParam(value = "param", encoded = true) String param, RequestContext requestContext);
     }
 
     /**
@@ -108,7 +95,8 @@ public final class PathParametersMatrixExpansionExplodesImpl {
     public Response<Void> primitiveWithResponse(String param, RequestContext requestContext) {
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.MatrixExpansion.Explode.primitive",
             requestContext, updatedContext -> {
-                return service.primitive(this.client.getEndpoint(), param, updatedContext);
+                String paramConverted = UriExpander.matrix("param", param, true);
+                return service.primitive(this.client.getEndpoint(), paramConverted, updatedContext);
             });
     }
 
@@ -126,9 +114,7 @@ public final class PathParametersMatrixExpansionExplodesImpl {
     public Response<Void> arrayWithResponse(List<String> param, RequestContext requestContext) {
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.MatrixExpansion.Explode.array",
             requestContext, updatedContext -> {
-                String paramConverted = param.stream()
-                    .map(paramItemValue -> Objects.toString(paramItemValue, ""))
-                    .collect(Collectors.joining(","));
+                String paramConverted = UriExpander.matrix("param", param, true);
                 return service.array(this.client.getEndpoint(), paramConverted, updatedContext);
             });
     }
@@ -147,7 +133,8 @@ public final class PathParametersMatrixExpansionExplodesImpl {
     public Response<Void> recordWithResponse(Map<String, Integer> param, RequestContext requestContext) {
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.MatrixExpansion.Explode.record",
             requestContext, updatedContext -> {
-                return service.record(this.client.getEndpoint(), param, updatedContext);
+                String paramConverted = UriExpander.matrix("param", param, true);
+                return service.record(this.client.getEndpoint(), paramConverted, updatedContext);
             });
     }
 }
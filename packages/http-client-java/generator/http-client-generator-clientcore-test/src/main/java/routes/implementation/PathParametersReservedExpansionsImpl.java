@@ -13,7 +13,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in PathParametersReservedExpansions.
@@ -52,15 +51,7 @@ public final class PathParametersReservedExpansionsImpl {
     @ServiceInterface(name = "RoutesClientPathParametersReservedExpansions", host = "{endpoint}")
     public interface PathParametersReservedExpansionsService {
         static PathParametersReservedExpansionsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("routes.implementation.PathParametersReservedExpansionsServiceImpl");
-                return (PathParametersReservedExpansionsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return routes.implementation.PathParametersReservedExpansionsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -94,7 +85,8 @@ public final class PathParametersReservedExpansionsImpl {
     public Response<Void> templateWithResponse(String param, RequestContext requestContext) {
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.ReservedExpansion.template",
             requestContext, updatedContext -> {
-                return service.template(this.client.getEndpoint(), param, updatedContext);
+                String paramConverted = UriExpander.reserved(param, false);
+                return service.template(this.client.getEndpoint(), paramConverted, updatedContext);
             });
     }
 
@@ -112,7 +104,8 @@ public final class PathParametersReservedExpansionsImpl {
     public Response<Void> annotationWithResponse(String param, RequestContext requestContext) {
         return this.instrumentation.instrumentWithResponse("Routes.PathParameters.ReservedExpansion.annotation",
             requestContext, updatedContext -> {
-                return service.annotation(this.client.getEndpoint(), param, updatedContext);
+                String paramConverted = UriExpander.reserved(param, false);
+                return service.annotation(this.client.getEndpoint(), paramConverted, updatedContext);
             });
     }
 }
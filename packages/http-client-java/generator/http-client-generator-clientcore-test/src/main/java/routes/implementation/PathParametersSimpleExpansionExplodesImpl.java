@@ -13,7 +13,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -56,17 +55,7 @@ public final class PathParametersSimpleExpansionExplodesImpl {
     @ServiceInterface(name = "RoutesClientPathParametersSimpleExpansionExplodes", host = "{endpoint}")
     public interface PathParametersSimpleExpansionExplodesService {
         static PathParametersSimpleExpansionExplodesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("routes.implementation.PathParametersSimpleExpansionExplodesServiceImpl");
-                return (PathParametersSimpleExpansionExplodesService) clazz
-                    .getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return routes.implementation.PathParametersSimpleExpansionExplodesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -13,7 +13,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in QueryParameters.
@@ -52,15 +51,7 @@ public final class QueryParametersImpl {
     @ServiceInterface(name = "RoutesClientQueryParameters", host = "{endpoint}")
     public interface QueryParametersService {
         static QueryParametersService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("routes.implementation.QueryParametersServiceImpl");
-                return (QueryParametersService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return routes.implementation.QueryParametersServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
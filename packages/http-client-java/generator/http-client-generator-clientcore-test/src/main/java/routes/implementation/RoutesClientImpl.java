@@ -12,7 +12,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * Initializes a new instance of the RoutesClient type.
@@ -68,7 +67,7 @@ public final class RoutesClientImpl {
     /**
      * The PathParametersImpl object to access its operations.
      */
-    private final PathParametersImpl pathParameters;
+    private volatile PathParametersImpl pathParameters;
 
     /**
      * Gets the PathParametersImpl object to access its operations.
@@ -76,13 +75,23 @@ public final class RoutesClientImpl {
      * @return the PathParametersImpl object.
      */
     public PathParametersImpl getPathParameters() {
-        return this.pathParameters;
+        PathParametersImpl localPathParameters = this.pathParameters;
+        if (localPathParameters == null) {
+            synchronized (this) {
+                localPathParameters = this.pathParameters;
+                if (localPathParameters == null) {
+                    localPathParameters = new PathParametersImpl(this);
+                    this.pathParameters = localPathParameters;
+                }
+            }
+        }
+        return localPathParameters;
     }
 
     /**
      * The PathParametersReservedExpansionsImpl object to access its operations.
      */
-    private final PathParametersReservedExpansionsImpl pathParametersReservedExpansions;
+    private volatile PathParametersReservedExpansionsImpl pathParametersReservedExpansions;
 
     /**
      * Gets the PathParametersReservedExpansionsImpl object to access its operations.
@@ -90,13 +99,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersReservedExpansionsImpl object.
      */
     public PathParametersReservedExpansionsImpl getPathParametersReservedExpansions() {
-        return this.pathParametersReservedExpansions;
+        PathParametersReservedExpansionsImpl localPathParametersReservedExpansions
+            = this.pathParametersReservedExpansions;
+        if (localPathParametersReservedExpansions == null) {
+            synchronized (this) {
+                localPathParametersReservedExpansions = this.pathParametersReservedExpansions;
+                if (localPathParametersReservedExpansions == null) {
+                    localPathParametersReservedExpansions = new PathParametersReservedExpansionsImpl(this);
+                    this.pathParametersReservedExpansions = localPathParametersReservedExpansions;
+                }
+            }
+        }
+        return localPathParametersReservedExpansions;
     }
 
     /**
      * The PathParametersSimpleExpansionStandardsImpl object to access its operations.
      */
-    private final PathParametersSimpleExpansionStandardsImpl pathParametersSimpleExpansionStandards;
+    private volatile PathParametersSimpleExpansionStandardsImpl pathParametersSimpleExpansionStandards;
 
     /**
      * Gets the PathParametersSimpleExpansionStandardsImpl object to access its operations.
@@ -104,13 +124,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersSimpleExpansionStandardsImpl object.
      */
     public PathParametersSimpleExpansionStandardsImpl getPathParametersSimpleExpansionStandards() {
-        return this.pathParametersSimpleExpansionStandards;
+        PathParametersSimpleExpansionStandardsImpl localPathParametersSimpleExpansionStandards
+            = this.pathParametersSimpleExpansionStandards;
+        if (localPathParametersSimpleExpansionStandards == null) {
+            synchronized (this) {
+                localPathParametersSimpleExpansionStandards = this.pathParametersSimpleExpansionStandards;
+                if (localPathParametersSimpleExpansionStandards == null) {
+                    localPathParametersSimpleExpansionStandards = new PathParametersSimpleExpansionStandardsImpl(this);
+                    this.pathParametersSimpleExpansionStandards = localPathParametersSimpleExpansionStandards;
+                }
+            }
+        }
+        return localPathParametersSimpleExpansionStandards;
     }
 
     /**
      * The PathParametersSimpleExpansionExplodesImpl object to access its operations.
      */
-    private final PathParametersSimpleExpansionExplodesImpl pathParametersSimpleExpansionExplodes;
+    private volatile PathParametersSimpleExpansionExplodesImpl pathParametersSimpleExpansionExplodes;
 
     /**
      * Gets the PathParametersSimpleExpansionExplodesImpl object to access its operations.
@@ -118,13 +149,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersSimpleExpansionExplodesImpl object.
      */
     public PathParametersSimpleExpansionExplodesImpl getPathParametersSimpleExpansionExplodes() {
-        return this.pathParametersSimpleExpansionExplodes;
+        PathParametersSimpleExpansionExplodesImpl localPathParametersSimpleExpansionExplodes
+            = this.pathParametersSimpleExpansionExplodes;
+        if (localPathParametersSimpleExpansionExplodes == null) {
+            synchronized (this) {
+                localPathParametersSimpleExpansionExplodes = this.pathParametersSimpleExpansionExplodes;
+                if (localPathParametersSimpleExpansionExplodes == null) {
+                    localPathParametersSimpleExpansionExplodes = new PathParametersSimpleExpansionExplodesImpl(this);
+                    this.pathParametersSimpleExpansionExplodes = localPathParametersSimpleExpansionExplodes;
+                }
+            }
+        }
+        return localPathParametersSimpleExpansionExplodes;
     }
 
     /**
      * The PathParametersPathExpansionStandardsImpl object to access its operations.
      */
-    private final PathParametersPathExpansionStandardsImpl pathParametersPathExpansionStandards;
+    private volatile PathParametersPathExpansionStandardsImpl pathParametersPathExpansionStandards;
 
     /**
      * Gets the PathParametersPathExpansionStandardsImpl object to access its operations.
@@ -132,13 +174,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersPathExpansionStandardsImpl object.
      */
     public PathParametersPathExpansionStandardsImpl getPathParametersPathExpansionStandards() {
-        return this.pathParametersPathExpansionStandards;
+        PathParametersPathExpansionStandardsImpl localPathParametersPathExpansionStandards
+            = this.pathParametersPathExpansionStandards;
+        if (localPathParametersPathExpansionStandards == null) {
+            synchronized (this) {
+                localPathParametersPathExpansionStandards = this.pathParametersPathExpansionStandards;
+                if (localPathParametersPathExpansionStandards == null) {
+                    localPathParametersPathExpansionStandards = new PathParametersPathExpansionStandardsImpl(this);
+                    this.pathParametersPathExpansionStandards = localPathParametersPathExpansionStandards;
+                }
+            }
+        }
+        return localPathParametersPathExpansionStandards;
     }
 
     /**
      * The PathParametersPathExpansionExplodesImpl object to access its operations.
      */
-    private final PathParametersPathExpansionExplodesImpl pathParametersPathExpansionExplodes;
+    private volatile PathParametersPathExpansionExplodesImpl pathParametersPathExpansionExplodes;
 
     /**
      * Gets the PathParametersPathExpansionExplodesImpl object to access its operations.
@@ -146,13 +199,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersPathExpansionExplodesImpl object.
      */
     public PathParametersPathExpansionExplodesImpl getPathParametersPathExpansionExplodes() {
-        return this.pathParametersPathExpansionExplodes;
+        PathParametersPathExpansionExplodesImpl localPathParametersPathExpansionExplodes
+            = this.pathParametersPathExpansionExplodes;
+        if (localPathParametersPathExpansionExplodes == null) {
+            synchronized (this) {
+                localPathParametersPathExpansionExplodes = this.pathParametersPathExpansionExplodes;
+                if (localPathParametersPathExpansionExplodes == null) {
+                    localPathParametersPathExpansionExplodes = new PathParametersPathExpansionExplodesImpl(this);
+                    this.pathParametersPathExpansionExplodes = localPathParametersPathExpansionExplodes;
+                }
+            }
+        }
+        return localPathParametersPathExpansionExplodes;
     }
 
     /**
      * The PathParametersLabelExpansionStandardsImpl object to access its operations.
      */
-    private final PathParametersLabelExpansionStandardsImpl pathParametersLabelExpansionStandards;
+    private volatile PathParametersLabelExpansionStandardsImpl pathParametersLabelExpansionStandards;
 
     /**
      * Gets the PathParametersLabelExpansionStandardsImpl object to access its operations.
@@ -160,13 +224,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersLabelExpansionStandardsImpl object.
      */
     public PathParametersLabelExpansionStandardsImpl getPathParametersLabelExpansionStandards() {
-        return this.pathParametersLabelExpansionStandards;
+        PathParametersLabelExpansionStandardsImpl localPathParametersLabelExpansionStandards
+            = this.pathParametersLabelExpansionStandards;
+        if (localPathParametersLabelExpansionStandards == null) {
+            synchronized (this) {
+                localPathParametersLabelExpansionStandards = this.pathParametersLabelExpansionStandards;
+                if (localPathParametersLabelExpansionStandards == null) {
+                    localPathParametersLabelExpansionStandards = new PathParametersLabelExpansionStandardsImpl(this);
+                    this.pathParametersLabelExpansionStandards = localPathParametersLabelExpansionStandards;
+                }
+            }
+        }
+        return localPathParametersLabelExpansionStandards;
     }
 
     /**
      * The PathParametersLabelExpansionExplodesImpl object to access its operations.
      */
-    private final PathParametersLabelExpansionExplodesImpl pathParametersLabelExpansionExplodes;
+    private volatile PathParametersLabelExpansionExplodesImpl pathParametersLabelExpansionExplodes;
 
     /**
      * Gets the PathParametersLabelExpansionExplodesImpl object to access its operations.
@@ -174,13 +249,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersLabelExpansionExplodesImpl object.
      */
     public PathParametersLabelExpansionExplodesImpl getPathParametersLabelExpansionExplodes() {
-        return this.pathParametersLabelExpansionExplodes;
+        PathParametersLabelExpansionExplodesImpl localPathParametersLabelExpansionExplodes
+            = this.pathParametersLabelExpansionExplodes;
+        if (localPathParametersLabelExpansionExplodes == null) {
+            synchronized (this) {
+                localPathParametersLabelExpansionExplodes = this.pathParametersLabelExpansionExplodes;
+                if (localPathParametersLabelExpansionExplodes == null) {
+                    localPathParametersLabelExpansionExplodes = new PathParametersLabelExpansionExplodesImpl(this);
+                    this.pathParametersLabelExpansionExplodes = localPathParametersLabelExpansionExplodes;
+                }
+            }
+        }
+        return localPathParametersLabelExpansionExplodes;
     }
 
     /**
      * The PathParametersMatrixExpansionStandardsImpl object to access its operations.
      */
-    private final PathParametersMatrixExpansionStandardsImpl pathParametersMatrixExpansionStandards;
+    private volatile PathParametersMatrixExpansionStandardsImpl pathParametersMatrixExpansionStandards;
 
     /**
      * Gets the PathParametersMatrixExpansionStandardsImpl object to access its operations.
@@ -188,13 +274,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersMatrixExpansionStandardsImpl object.
      */
     public PathParametersMatrixExpansionStandardsImpl getPathParametersMatrixExpansionStandards() {
-        return this.pathParametersMatrixExpansionStandards;
+        PathParametersMatrixExpansionStandardsImpl localPathParametersMatrixExpansionStandards
+            = this.pathParametersMatrixExpansionStandards;
+        if (localPathParametersMatrixExpansionStandards == null) {
+            synchronized (this) {
+                localPathParametersMatrixExpansionStandards = this.pathParametersMatrixExpansionStandards;
+                if (localPathParametersMatrixExpansionStandards == null) {
+                    localPathParametersMatrixExpansionStandards = new PathParametersMatrixExpansionStandardsImpl(this);
+                    this.pathParametersMatrixExpansionStandards = localPathParametersMatrixExpansionStandards;
+                }
+            }
+        }
+        return localPathParametersMatrixExpansionStandards;
     }
 
     /**
      * The PathParametersMatrixExpansionExplodesImpl object to access its operations.
      */
-    private final PathParametersMatrixExpansionExplodesImpl pathParametersMatrixExpansionExplodes;
+    private volatile PathParametersMatrixExpansionExplodesImpl pathParametersMatrixExpansionExplodes;
 
     /**
      * Gets the PathParametersMatrixExpansionExplodesImpl object to access its operations.
@@ -202,13 +299,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersMatrixExpansionExplodesImpl object.
      */
     public PathParametersMatrixExpansionExplodesImpl getPathParametersMatrixExpansionExplodes() {
-        return this.pathParametersMatrixExpansionExplodes;
+        PathParametersMatrixExpansionExplodesImpl localPathParametersMatrixExpansionExplodes
+            = this.pathParametersMatrixExpansionExplodes;
+        if (localPathParametersMatrixExpansionExplodes == null) {
+            synchronized (this) {
+                localPathParametersMatrixExpansionExplodes = this.pathParametersMatrixExpansionExplodes;
+                if (localPathParametersMatrixExpansionExplodes == null) {
+                    localPathParametersMatrixExpansionExplodes = new PathParametersMatrixExpansionExplodesImpl(this);
+                    this.pathParametersMatrixExpansionExplodes = localPathParametersMatrixExpansionExplodes;
+                }
+            }
+        }
+        return localPathParametersMatrixExpansionExplodes;
     }
 
     /**
      * The QueryParametersImpl object to access its operations.
      */
-    private final QueryParametersImpl queryParameters;
+    private volatile QueryParametersImpl queryParameters;
 
     /**
      * Gets the QueryParametersImpl object to access its operations.
@@ -216,13 +324,23 @@ public final class RoutesClientImpl {
      * @return the QueryParametersImpl object.
      */
     public QueryParametersImpl getQueryParameters() {
-        return this.queryParameters;
+        QueryParametersImpl localQueryParameters = this.queryParameters;
+        if (localQueryParameters == null) {
+            synchronized (this) {
+                localQueryParameters = this.queryParameters;
+                if (localQueryParameters == null) {
+                    localQueryParameters = new QueryParametersImpl(this);
+                    this.queryParameters = localQueryParameters;
+                }
+            }
+        }
+        return localQueryParameters;
     }
 
     /**
      * The QueryParametersQueryExpansionStandardsImpl object to access its operations.
      */
-    private final QueryParametersQueryExpansionStandardsImpl queryParametersQueryExpansionStandards;
+    private volatile QueryParametersQueryExpansionStandardsImpl queryParametersQueryExpansionStandards;
 
     /**
      * Gets the QueryParametersQueryExpansionStandardsImpl object to access its operations.
@@ -230,13 +348,24 @@ public final class RoutesClientImpl {
      * @return the QueryParametersQueryExpansionStandardsImpl object.
      */
     public QueryParametersQueryExpansionStandardsImpl getQueryParametersQueryExpansionStandards() {
-        return this.queryParametersQueryExpansionStandards;
+        QueryParametersQueryExpansionStandardsImpl localQueryParametersQueryExpansionStandards
+            = this.queryParametersQueryExpansionStandards;
+        if (localQueryParametersQueryExpansionStandards == null) {
+            synchronized (this) {
+                localQueryParametersQueryExpansionStandards = this.queryParametersQueryExpansionStandards;
+                if (localQueryParametersQueryExpansionStandards == null) {
+                    localQueryParametersQueryExpansionStandards = new QueryParametersQueryExpansionStandardsImpl(this);
+                    this.queryParametersQueryExpansionStandards = localQueryParametersQueryExpansionStandards;
+                }
+            }
+        }
+        return localQueryParametersQueryExpansionStandards;
     }
 
     /**
      * The QueryParametersQueryExpansionExplodesImpl object to access its operations.
      */
-    private final QueryParametersQueryExpansionExplodesImpl queryParametersQueryExpansionExplodes;
+    private volatile QueryParametersQueryExpansionExplodesImpl queryParametersQueryExpansionExplodes;
 
     /**
      * Gets the QueryParametersQueryExpansionExplodesImpl object to access its operations.
@@ -244,13 +373,24 @@ public final class RoutesClientImpl {
      * @return the QueryParametersQueryExpansionExplodesImpl object.
      */
     public QueryParametersQueryExpansionExplodesImpl getQueryParametersQueryExpansionExplodes() {
-        return this.queryParametersQueryExpansionExplodes;
+        QueryParametersQueryExpansionExplodesImpl localQueryParametersQueryExpansionExplodes
+            = this.queryParametersQueryExpansionExplodes;
+        if (localQueryParametersQueryExpansionExplodes == null) {
+            synchronized (this) {
+                localQueryParametersQueryExpansionExplodes = this.queryParametersQueryExpansionExplodes;
+                if (localQueryParametersQueryExpansionExplodes == null) {
+                    localQueryParametersQueryExpansionExplodes = new QueryParametersQueryExpansionExplodesImpl(this);
+                    this.queryParametersQueryExpansionExplodes = localQueryParametersQueryExpansionExplodes;
+                }
+            }
+        }
+        return localQueryParametersQueryExpansionExplodes;
     }
 
     /**
      * The QueryParametersQueryContinuationStandardsImpl object to access its operations.
      */
-    private final QueryParametersQueryContinuationStandardsImpl queryParametersQueryContinuationStandards;
+    private volatile QueryParametersQueryContinuationStandardsImpl queryParametersQueryContinuationStandards;
 
     /**
      * Gets the QueryParametersQueryContinuationStandardsImpl object to access its operations.
@@ -258,13 +398,25 @@ public final class RoutesClientImpl {
      * @return the QueryParametersQueryContinuationStandardsImpl object.
      */
     public QueryParametersQueryContinuationStandardsImpl getQueryParametersQueryContinuationStandards() {
-        return this.queryParametersQueryContinuationStandards;
+        QueryParametersQueryContinuationStandardsImpl localQueryParametersQueryContinuationStandards
+            = this.queryParametersQueryContinuationStandards;
+        if (localQueryParametersQueryContinuationStandards == null) {
+            synchronized (this) {
+                localQueryParametersQueryContinuationStandards = this.queryParametersQueryContinuationStandards;
+                if (localQueryParametersQueryContinuationStandards == null) {
+                    localQueryParametersQueryContinuationStandards
+                        = new QueryParametersQueryContinuationStandardsImpl(this);
+                    this.queryParametersQueryContinuationStandards = localQueryParametersQueryContinuationStandards;
+                }
+            }
+        }
+        return localQueryParametersQueryContinuationStandards;
     }
 
     /**
      * The QueryParametersQueryContinuationExplodesImpl object to access its operations.
      */
-    private final QueryParametersQueryContinuationExplodesImpl queryParametersQueryContinuationExplodes;
+    private volatile QueryParametersQueryContinuationExplodesImpl queryParametersQueryContinuationExplodes;
 
     /**
      * Gets the QueryParametersQueryContinuationExplodesImpl object to access its operations.
@@ -272,13 +424,25 @@ public final class RoutesClientImpl {
      * @return the QueryParametersQueryContinuationExplodesImpl object.
      */
     public QueryParametersQueryContinuationExplodesImpl getQueryParametersQueryContinuationExplodes() {
-        return this.queryParametersQueryContinuationExplodes;
+        QueryParametersQueryContinuationExplodesImpl localQueryParametersQueryContinuationExplodes
+            = this.queryParametersQueryContinuationExplodes;
+        if (localQueryParametersQueryContinuationExplodes == null) {
+            synchronized (this) {
+                localQueryParametersQueryContinuationExplodes = this.queryParametersQueryContinuationExplodes;
+                if (localQueryParametersQueryContinuationExplodes == null) {
+                    localQueryParametersQueryContinuationExplodes
+                        = new QueryParametersQueryContinuationExplodesImpl(this);
+                    this.queryParametersQueryContinuationExplodes = localQueryParametersQueryContinuationExplodes;
+                }
+            }
+        }
+        return localQueryParametersQueryContinuationExplodes;
     }
 
     /**
      * The InInterfacesImpl object to access its operations.
      */
-    private final InInterfacesImpl inInterfaces;
+    private volatile InInterfacesImpl inInterfaces;
 
     /**
      * Gets the InInterfacesImpl object to access its operations.
@@ -286,7 +450,17 @@ public final class RoutesClientImpl {
      * @return the InInterfacesImpl object.
      */
     public InInterfacesImpl getInInterfaces() {
-        return this.inInterfaces;
+        InInterfacesImpl localInInterfaces = this.inInterfaces;
+        if (localInInterfaces == null) {
+            synchronized (this) {
+                localInInterfaces = this.inInterfaces;
+                if (localInInterfaces == null) {
+                    localInInterfaces = new InInterfacesImpl(this);
+                    this.inInterfaces = localInInterfaces;
+                }
+            }
+        }
+        return localInInterfaces;
     }
 
     /**
@@ -300,22 +474,6 @@ public final class RoutesClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.pathParameters = new PathParametersImpl(this);
-        this.pathParametersReservedExpansions = new PathParametersReservedExpansionsImpl(this);
-        this.pathParametersSimpleExpansionStandards = new PathParametersSimpleExpansionStandardsImpl(this);
-        this.pathParametersSimpleExpansionExplodes = new PathParametersSimpleExpansionExplodesImpl(this);
-        this.pathParametersPathExpansionStandards = new PathParametersPathExpansionStandardsImpl(this);
-        this.pathParametersPathExpansionExplodes = new PathParametersPathExpansionExplodesImpl(this);
-        this.pathParametersLabelExpansionStandards = new PathParametersLabelExpansionStandardsImpl(this);
-        this.pathParametersLabelExpansionExplodes = new PathParametersLabelExpansionExplodesImpl(this);
-        this.pathParametersMatrixExpansionStandards = new PathParametersMatrixExpansionStandardsImpl(this);
-        this.pathParametersMatrixExpansionExplodes = new PathParametersMatrixExpansionExplodesImpl(this);
-        this.queryParameters = new QueryParametersImpl(this);
-        this.queryParametersQueryExpansionStandards = new QueryParametersQueryExpansionStandardsImpl(this);
-        this.queryParametersQueryExpansionExplodes = new QueryParametersQueryExpansionExplodesImpl(this);
-        this.queryParametersQueryContinuationStandards = new QueryParametersQueryContinuationStandardsImpl(this);
-        this.queryParametersQueryContinuationExplodes = new QueryParametersQueryContinuationExplodesImpl(this);
-        this.inInterfaces = new InInterfacesImpl(this);
         this.service = RoutesClientService.getNewInstance(this.httpPipeline);
     }
 
@@ -325,15 +483,7 @@ public final class RoutesClientImpl {
     @ServiceInterface(name = "RoutesClient", host = "{endpoint}")
     public interface RoutesClientService {
         static RoutesClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("routes.implementation.RoutesClientServiceImpl");
-                return (RoutesClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return routes.implementation.RoutesClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(method = HttpMethod.GET, path = "/routes/fixed", expectedStatusCodes = { 204 })
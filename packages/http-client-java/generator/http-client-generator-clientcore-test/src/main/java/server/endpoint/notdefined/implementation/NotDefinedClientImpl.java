@@ -12,7 +12,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * Initializes a new instance of the NotDefinedClient type.
@@ -86,15 +85,7 @@ public final class NotDefinedClientImpl {
     @ServiceInterface(name = "NotDefinedClient", host = "{endpoint}")
     public interface NotDefinedClientService {
         static NotDefinedClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("server.endpoint.notdefined.implementation.NotDefinedClientServiceImpl");
-                return (NotDefinedClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return server.endpoint.notdefined.implementation.NotDefinedClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
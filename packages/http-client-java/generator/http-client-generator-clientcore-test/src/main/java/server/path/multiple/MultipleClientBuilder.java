@@ -46,6 +46,13 @@ public final class MultipleClientBuilder implements HttpTrait<MultipleClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the MultipleClientBuilder.
      */
@@ -66,6 +73,7 @@ public final class MultipleClientBuilder implements HttpTrait<MultipleClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultipleClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -82,6 +90,7 @@ public final class MultipleClientBuilder implements HttpTrait<MultipleClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultipleClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -92,6 +101,7 @@ public final class MultipleClientBuilder implements HttpTrait<MultipleClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultipleClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -109,6 +119,7 @@ public final class MultipleClientBuilder implements HttpTrait<MultipleClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultipleClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -125,6 +136,7 @@ public final class MultipleClientBuilder implements HttpTrait<MultipleClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultipleClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -141,6 +153,7 @@ public final class MultipleClientBuilder implements HttpTrait<MultipleClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultipleClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -157,6 +170,7 @@ public final class MultipleClientBuilder implements HttpTrait<MultipleClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultipleClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -173,6 +187,7 @@ public final class MultipleClientBuilder implements HttpTrait<MultipleClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public MultipleClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -191,6 +206,7 @@ public final class MultipleClientBuilder implements HttpTrait<MultipleClientBuil
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public MultipleClientBuilder serviceVersion(MultipleServiceVersion serviceVersion) {
+        this.createdHttpPipeline = null;
         this.serviceVersion = serviceVersion;
         return this;
     }
@@ -215,7 +231,7 @@ public final class MultipleClientBuilder implements HttpTrait<MultipleClientBuil
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
         MultipleClientImpl client
-            = new MultipleClientImpl(createHttpPipeline(), instrumentation, this.endpoint, localServiceVersion);
+            = new MultipleClientImpl(getOrCreateHttpPipeline(), instrumentation, this.endpoint, localServiceVersion);
         return client;
     }
 
@@ -243,6 +259,15 @@ public final class MultipleClientBuilder implements HttpTrait<MultipleClientBuil
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of MultipleClient class.
      * 
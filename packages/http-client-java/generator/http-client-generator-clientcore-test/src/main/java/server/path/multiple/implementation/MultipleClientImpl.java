@@ -13,7 +13,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import server.path.multiple.MultipleServiceVersion;
 
 /**
@@ -104,15 +103,7 @@ public final class MultipleClientImpl {
     @ServiceInterface(name = "MultipleClient", host = "{endpoint}/server/path/multiple/{apiVersion}")
     public interface MultipleClientService {
         static MultipleClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("server.path.multiple.implementation.MultipleClientServiceImpl");
-                return (MultipleClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return server.path.multiple.implementation.MultipleClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(method = HttpMethod.GET, path = "/", expectedStatusCodes = { 204 })
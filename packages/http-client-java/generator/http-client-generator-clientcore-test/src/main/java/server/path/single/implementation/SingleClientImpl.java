@@ -12,7 +12,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * Initializes a new instance of the SingleClient type.
@@ -85,15 +84,7 @@ public final class SingleClientImpl {
     @ServiceInterface(name = "SingleClient", host = "{endpoint}")
     public interface SingleClientService {
         static SingleClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("server.path.single.implementation.SingleClientServiceImpl");
-                return (SingleClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return server.path.single.implementation.SingleClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -48,6 +48,13 @@ public final class VersionedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the VersionedClientBuilder.
      */
@@ -68,6 +75,7 @@ public final class VersionedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VersionedClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -84,6 +92,7 @@ public final class VersionedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VersionedClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -94,6 +103,7 @@ public final class VersionedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VersionedClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -111,6 +121,7 @@ public final class VersionedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VersionedClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -127,6 +138,7 @@ public final class VersionedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VersionedClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -143,6 +155,7 @@ public final class VersionedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VersionedClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -159,6 +172,7 @@ public final class VersionedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VersionedClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -175,6 +189,7 @@ public final class VersionedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VersionedClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -193,6 +208,7 @@ public final class VersionedClientBuilder
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public VersionedClientBuilder serviceVersion(VersionedServiceVersion serviceVersion) {
+        this.createdHttpPipeline = null;
         this.serviceVersion = serviceVersion;
         return this;
     }
@@ -217,7 +233,7 @@ public final class VersionedClientBuilder
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
         VersionedClientImpl client
-            = new VersionedClientImpl(createHttpPipeline(), instrumentation, this.endpoint, localServiceVersion);
+            = new VersionedClientImpl(getOrCreateHttpPipeline(), instrumentation, this.endpoint, localServiceVersion);
         return client;
     }
 
@@ -245,6 +261,15 @@ public final class VersionedClientBuilder
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of VersionedClient class.
      * 
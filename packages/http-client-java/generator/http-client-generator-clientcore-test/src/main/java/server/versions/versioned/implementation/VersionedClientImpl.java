@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import server.versions.versioned.VersionedServiceVersion;
 
 /**
@@ -106,15 +105,7 @@ public final class VersionedClientImpl {
     @ServiceInterface(name = "VersionedClient", host = "{endpoint}")
     public interface VersionedClientService {
         static VersionedClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("server.versions.versioned.implementation.VersionedClientServiceImpl");
-                return (VersionedClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return server.versions.versioned.implementation.VersionedClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.utils.DateTimeRfc1123;
-import java.lang.reflect.InvocationTargetException;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
@@ -90,16 +89,7 @@ public final class RepeatabilityClientImpl {
     @ServiceInterface(name = "RepeatabilityClient", host = "{endpoint}")
     public interface RepeatabilityClientService {
         static RepeatabilityClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("specialheaders.repeatability.implementation.RepeatabilityClientServiceImpl");
-                return (RepeatabilityClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return specialheaders.repeatability.implementation.RepeatabilityClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
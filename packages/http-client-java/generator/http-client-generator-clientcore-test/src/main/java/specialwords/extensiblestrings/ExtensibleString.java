@@ -10,216 +10,220 @@ import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Verify enum member names that are special words using extensible enum (union).
  */
 public final class ExtensibleString implements ExpandableEnum<String>, JsonSerializable<ExtensibleString> {
-    private static final Map<String, ExtensibleString> VALUES = new ConcurrentHashMap<>();
-
-    private static final Function<String, ExtensibleString> NEW_INSTANCE = ExtensibleString::new;
+    private static final Map<String, ExtensibleString> VALUES = new HashMap<>();
 
     /**
      * Static value and for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString AND = fromValue("and");
+    public static final ExtensibleString AND = addKnownValue("and");
 
     /**
      * Static value as for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString AS = fromValue("as");
+    public static final ExtensibleString AS = addKnownValue("as");
 
     /**
      * Static value assert for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString ASSERT = fromValue("assert");
+    public static final ExtensibleString ASSERT = addKnownValue("assert");
 
     /**
      * Static value async for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString ASYNC = fromValue("async");
+    public static final ExtensibleString ASYNC = addKnownValue("async");
 
     /**
      * Static value await for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString AWAIT = fromValue("await");
+    public static final ExtensibleString AWAIT = addKnownValue("await");
 
     /**
      * Static value break for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString BREAK = fromValue("break");
+    public static final ExtensibleString BREAK = addKnownValue("break");
 
     /**
      * Static value class for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString CLASS = fromValue("class");
+    public static final ExtensibleString CLASS = addKnownValue("class");
 
     /**
      * Static value constructor for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString CONSTRUCTOR = fromValue("constructor");
+    public static final ExtensibleString CONSTRUCTOR = addKnownValue("constructor");
 
     /**
      * Static value continue for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString CONTINUE = fromValue("continue");
+    public static final ExtensibleString CONTINUE = addKnownValue("continue");
 
     /**
      * Static value def for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString DEF = fromValue("def");
+    public static final ExtensibleString DEF = addKnownValue("def");
 
     /**
      * Static value del for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString DEL = fromValue("del");
+    public static final ExtensibleString DEL = addKnownValue("del");
 
     /**
      * Static value elif for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString ELIF = fromValue("elif");
+    public static final ExtensibleString ELIF = addKnownValue("elif");
 
     /**
      * Static value else for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString ELSE = fromValue("else");
+    public static final ExtensibleString ELSE = addKnownValue("else");
 
     /**
      * Static value except for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString EXCEPT = fromValue("except");
+    public static final ExtensibleString EXCEPT = addKnownValue("except");
 
     /**
      * Static value exec for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString EXEC = fromValue("exec");
+    public static final ExtensibleString EXEC = addKnownValue("exec");
 
     /**
      * Static value finally for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString FINALLY = fromValue("finally");
+    public static final ExtensibleString FINALLY = addKnownValue("finally");
 
     /**
      * Static value for for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString FOR = fromValue("for");
+    public static final ExtensibleString FOR = addKnownValue("for");
 
     /**
      * Static value from for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString FROM = fromValue("from");
+    public static final ExtensibleString FROM = addKnownValue("from");
 
     /**
      * Static value global for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString GLOBAL = fromValue("global");
+    public static final ExtensibleString GLOBAL = addKnownValue("global");
 
     /**
      * Static value if for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString IF = fromValue("if");
+    public static final ExtensibleString IF = addKnownValue("if");
 
     /**
      * Static value import for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString IMPORT = fromValue("import");
+    public static final ExtensibleString IMPORT = addKnownValue("import");
 
     /**
      * Static value in for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString IN = fromValue("in");
+    public static final ExtensibleString IN = addKnownValue("in");
 
     /**
      * Static value is for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString IS = fromValue("is");
+    public static final ExtensibleString IS = addKnownValue("is");
 
     /**
      * Static value lambda for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString LAMBDA = fromValue("lambda");
+    public static final ExtensibleString LAMBDA = addKnownValue("lambda");
 
     /**
      * Static value not for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString NOT = fromValue("not");
+    public static final ExtensibleString NOT = addKnownValue("not");
 
     /**
      * Static value or for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString OR = fromValue("or");
+    public static final ExtensibleString OR = addKnownValue("or");
 
     /**
      * Static value pass for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString PASS = fromValue("pass");
+    public static final ExtensibleString PASS = addKnownValue("pass");
 
     /**
      * Static value raise for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString RAISE = fromValue("raise");
+    public static final ExtensibleString RAISE = addKnownValue("raise");
 
     /**
      * Static value return for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString RETURN = fromValue("return");
+    public static final ExtensibleString RETURN = addKnownValue("return");
 
     /**
      * Static value try for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString TRY = fromValue("try");
+    public static final ExtensibleString TRY = addKnownValue("try");
 
     /**
      * Static value while for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString WHILE = fromValue("while");
+    public static final ExtensibleString WHILE = addKnownValue("while");
 
     /**
      * Static value with for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString WITH = fromValue("with");
+    public static final ExtensibleString WITH = addKnownValue("with");
 
     /**
      * Static value yield for ExtensibleString.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtensibleString YIELD = fromValue("yield");
+    public static final ExtensibleString YIELD = addKnownValue("yield");
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static ExtensibleString addKnownValue(String value) {
+        ExtensibleString knownValue = new ExtensibleString(value);
+        VALUES.put(value, knownValue);
+        return knownValue;
+    }
 
     private final String value;
 
@@ -228,7 +232,7 @@ public final class ExtensibleString implements ExpandableEnum<String>, JsonSeria
     }
 
     /**
-     * Creates or finds a ExtensibleString.
+     * Finds a known ExtensibleString, or creates a new ExtensibleString if the value is not known.
      * 
      * @param value a value to look for.
      * @return the corresponding ExtensibleString.
@@ -239,7 +243,8 @@ public final class ExtensibleString implements ExpandableEnum<String>, JsonSeria
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        ExtensibleString knownValue = VALUES.get(value);
+        return knownValue != null ? knownValue : new ExtensibleString(value);
     }
 
     /**
@@ -303,7 +308,8 @@ public final class ExtensibleString implements ExpandableEnum<String>, JsonSeria
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj
+            || (obj instanceof ExtensibleString && Objects.equals(this.value, ((ExtensibleString) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
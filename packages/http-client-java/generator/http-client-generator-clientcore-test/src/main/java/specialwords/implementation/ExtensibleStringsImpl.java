@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import specialwords.extensiblestrings.ExtensibleString;
 
 /**
@@ -54,15 +53,7 @@ public final class ExtensibleStringsImpl {
     @ServiceInterface(name = "SpecialWordsClientExtensibleStrings", host = "{endpoint}")
     public interface ExtensibleStringsService {
         static ExtensibleStringsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("specialwords.implementation.ExtensibleStringsServiceImpl");
-                return (ExtensibleStringsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return specialwords.implementation.ExtensibleStringsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
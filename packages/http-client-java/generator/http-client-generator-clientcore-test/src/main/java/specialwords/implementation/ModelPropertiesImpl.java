@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import specialwords.modelproperties.DictMethods;
 import specialwords.modelproperties.ModelWithList;
 import specialwords.modelproperties.SameAsModel;
@@ -56,15 +55,7 @@ public final class ModelPropertiesImpl {
     @ServiceInterface(name = "SpecialWordsClientModelProperties", host = "{endpoint}")
     public interface ModelPropertiesService {
         static ModelPropertiesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("specialwords.implementation.ModelPropertiesServiceImpl");
-                return (ModelPropertiesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return specialwords.implementation.ModelPropertiesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
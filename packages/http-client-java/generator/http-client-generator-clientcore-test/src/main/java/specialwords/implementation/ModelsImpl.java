@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import specialwords.models.And;
 import specialwords.models.As;
 import specialwords.models.Assert;
@@ -86,14 +85,7 @@ public final class ModelsImpl {
     @ServiceInterface(name = "SpecialWordsClientModels", host = "{endpoint}")
     public interface ModelsService {
         static ModelsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("specialwords.implementation.ModelsServiceImpl");
-                return (ModelsService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return specialwords.implementation.ModelsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
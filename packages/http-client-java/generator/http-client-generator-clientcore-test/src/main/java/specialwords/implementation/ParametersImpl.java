@@ -13,7 +13,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in Parameters.
@@ -52,14 +51,7 @@ public final class ParametersImpl {
     @ServiceInterface(name = "SpecialWordsClientParameters", host = "{endpoint}")
     public interface ParametersService {
         static ParametersService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("specialwords.implementation.ParametersServiceImpl");
-                return (ParametersService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return specialwords.implementation.ParametersServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import specialwords.reservedoperationbodyparams.implementation.WithItemsRequest;
 
@@ -55,15 +54,7 @@ public final class ReservedOperationBodyParamsImpl {
     @ServiceInterface(name = "SpecialWordsClientReservedOperationBodyParams", host = "{endpoint}")
     public interface ReservedOperationBodyParamsService {
         static ReservedOperationBodyParamsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("specialwords.implementation.ReservedOperationBodyParamsServiceImpl");
-                return (ReservedOperationBodyParamsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return specialwords.implementation.ReservedOperationBodyParamsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -52,7 +52,7 @@ public final class SpecialWordsClientImpl {
     /**
      * The ModelsImpl object to access its operations.
      */
-    private final ModelsImpl models;
+    private volatile ModelsImpl models;
 
     /**
      * Gets the ModelsImpl object to access its operations.
@@ -60,13 +60,23 @@ public final class SpecialWordsClientImpl {
      * @return the ModelsImpl object.
      */
     public ModelsImpl getModels() {
-        return this.models;
+        ModelsImpl localModels = this.models;
+        if (localModels == null) {
+            synchronized (this) {
+                localModels = this.models;
+                if (localModels == null) {
+                    localModels = new ModelsImpl(this);
+                    this.models = localModels;
+                }
+            }
+        }
+        return localModels;
     }
 
     /**
      * The ModelPropertiesImpl object to access its operations.
      */
-    private final ModelPropertiesImpl modelProperties;
+    private volatile ModelPropertiesImpl modelProperties;
 
     /**
      * Gets the ModelPropertiesImpl object to access its operations.
@@ -74,13 +84,23 @@ public final class SpecialWordsClientImpl {
      * @return the ModelPropertiesImpl object.
      */
     public ModelPropertiesImpl getModelProperties() {
-        return this.modelProperties;
+        ModelPropertiesImpl localModelProperties = this.modelProperties;
+        if (localModelProperties == null) {
+            synchronized (this) {
+                localModelProperties = this.modelProperties;
+                if (localModelProperties == null) {
+                    localModelProperties = new ModelPropertiesImpl(this);
+                    this.modelProperties = localModelProperties;
+                }
+            }
+        }
+        return localModelProperties;
     }
 
     /**
      * The ReservedOperationBodyParamsImpl object to access its operations.
      */
-    private final ReservedOperationBodyParamsImpl reservedOperationBodyParams;
+    private volatile ReservedOperationBodyParamsImpl reservedOperationBodyParams;
 
     /**
      * Gets the ReservedOperationBodyParamsImpl object to access its operations.
@@ -88,13 +108,23 @@ public final class SpecialWordsClientImpl {
      * @return the ReservedOperationBodyParamsImpl object.
      */
     public ReservedOperationBodyParamsImpl getReservedOperationBodyParams() {
-        return this.reservedOperationBodyParams;
+        ReservedOperationBodyParamsImpl localReservedOperationBodyParams = this.reservedOperationBodyParams;
+        if (localReservedOperationBodyParams == null) {
+            synchronized (this) {
+                localReservedOperationBodyParams = this.reservedOperationBodyParams;
+                if (localReservedOperationBodyParams == null) {
+                    localReservedOperationBodyParams = new ReservedOperationBodyParamsImpl(this);
+                    this.reservedOperationBodyParams = localReservedOperationBodyParams;
+                }
+            }
+        }
+        return localReservedOperationBodyParams;
     }
 
     /**
      * The ExtensibleStringsImpl object to access its operations.
      */
-    private final ExtensibleStringsImpl extensibleStrings;
+    private volatile ExtensibleStringsImpl extensibleStrings;
 
     /**
      * Gets the ExtensibleStringsImpl object to access its operations.
@@ -102,13 +132,23 @@ public final class SpecialWordsClientImpl {
      * @return the ExtensibleStringsImpl object.
      */
     public ExtensibleStringsImpl getExtensibleStrings() {
-        return this.extensibleStrings;
+        ExtensibleStringsImpl localExtensibleStrings = this.extensibleStrings;
+        if (localExtensibleStrings == null) {
+            synchronized (this) {
+                localExtensibleStrings = this.extensibleStrings;
+                if (localExtensibleStrings == null) {
+                    localExtensibleStrings = new ExtensibleStringsImpl(this);
+                    this.extensibleStrings = localExtensibleStrings;
+                }
+            }
+        }
+        return localExtensibleStrings;
     }
 
     /**
      * The OperationsImpl object to access its operations.
      */
-    private final OperationsImpl operations;
+    private volatile OperationsImpl operations;
 
     /**
      * Gets the OperationsImpl object to access its operations.
@@ -116,13 +156,23 @@ public final class SpecialWordsClientImpl {
      * @return the OperationsImpl object.
      */
     public OperationsImpl getOperations() {
-        return this.operations;
+        OperationsImpl localOperations = this.operations;
+        if (localOperations == null) {
+            synchronized (this) {
+                localOperations = this.operations;
+                if (localOperations == null) {
+                    localOperations = new OperationsImpl(this);
+                    this.operations = localOperations;
+                }
+            }
+        }
+        return localOperations;
     }
 
     /**
      * The ParametersImpl object to access its operations.
      */
-    private final ParametersImpl parameters;
+    private volatile ParametersImpl parameters;
 
     /**
      * Gets the ParametersImpl object to access its operations.
@@ -130,7 +180,17 @@ public final class SpecialWordsClientImpl {
      * @return the ParametersImpl object.
      */
     public ParametersImpl getParameters() {
-        return this.parameters;
+        ParametersImpl localParameters = this.parameters;
+        if (localParameters == null) {
+            synchronized (this) {
+                localParameters = this.parameters;
+                if (localParameters == null) {
+                    localParameters = new ParametersImpl(this);
+                    this.parameters = localParameters;
+                }
+            }
+        }
+        return localParameters;
     }
 
     /**
@@ -144,11 +204,5 @@ public final class SpecialWordsClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.models = new ModelsImpl(this);
-        this.modelProperties = new ModelPropertiesImpl(this);
-        this.reservedOperationBodyParams = new ReservedOperationBodyParamsImpl(this);
-        this.extensibleStrings = new ExtensibleStringsImpl(this);
-        this.operations = new OperationsImpl(this);
-        this.parameters = new ParametersImpl(this);
     }
 }
@@ -47,7 +47,7 @@ public final class WithItemsRequest implements JsonSerializable<WithItemsRequest
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("items", this.items, (writer, element) -> writer.writeString(element));
+        jsonWriter.writeArrayField("items", this.items, JsonWriter::writeString);
         return jsonWriter.writeEndObject();
     }
 
@@ -69,7 +69,7 @@ public final class WithItemsRequest implements JsonSerializable<WithItemsRequest
                 reader.nextToken();
 
                 if ("items".equals(fieldName)) {
-                    items = reader.readArray(reader1 -> reader1.getString());
+                    items = reader.readArray(JsonReader::getString);
                 } else {
                     reader.skipChildren();
                 }
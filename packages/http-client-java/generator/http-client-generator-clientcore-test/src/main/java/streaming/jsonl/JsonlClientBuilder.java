@@ -46,6 +46,13 @@ public final class JsonlClientBuilder implements HttpTrait<JsonlClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the JsonlClientBuilder.
      */
@@ -66,6 +73,7 @@ public final class JsonlClientBuilder implements HttpTrait<JsonlClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public JsonlClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -82,6 +90,7 @@ public final class JsonlClientBuilder implements HttpTrait<JsonlClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public JsonlClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -92,6 +101,7 @@ public final class JsonlClientBuilder implements HttpTrait<JsonlClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public JsonlClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -109,6 +119,7 @@ public final class JsonlClientBuilder implements HttpTrait<JsonlClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public JsonlClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -125,6 +136,7 @@ public final class JsonlClientBuilder implements HttpTrait<JsonlClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public JsonlClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -141,6 +153,7 @@ public final class JsonlClientBuilder implements HttpTrait<JsonlClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public JsonlClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -157,6 +170,7 @@ public final class JsonlClientBuilder implements HttpTrait<JsonlClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public JsonlClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -173,6 +187,7 @@ public final class JsonlClientBuilder implements HttpTrait<JsonlClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public JsonlClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -195,7 +210,7 @@ public final class JsonlClientBuilder implements HttpTrait<JsonlClientBuilder>,
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        JsonlClientImpl client = new JsonlClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        JsonlClientImpl client = new JsonlClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -222,6 +237,15 @@ public final class JsonlClientBuilder implements HttpTrait<JsonlClientBuilder>,
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of JsonlClient class.
      * 
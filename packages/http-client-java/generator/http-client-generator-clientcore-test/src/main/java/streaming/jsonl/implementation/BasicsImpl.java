@@ -15,7 +15,6 @@ import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.models.binarydata.BinaryData;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in Basics.
@@ -54,14 +53,7 @@ public final class BasicsImpl {
     @ServiceInterface(name = "JsonlClientBasics", host = "{endpoint}")
     public interface BasicsService {
         static BasicsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("streaming.jsonl.implementation.BasicsServiceImpl");
-                return (BasicsService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return streaming.jsonl.implementation.BasicsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
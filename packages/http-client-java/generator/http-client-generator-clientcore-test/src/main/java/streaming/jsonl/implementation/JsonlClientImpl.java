@@ -52,7 +52,7 @@ public final class JsonlClientImpl {
     /**
      * The BasicsImpl object to access its operations.
      */
-    private final BasicsImpl basics;
+    private volatile BasicsImpl basics;
 
     /**
      * Gets the BasicsImpl object to access its operations.
@@ -60,7 +60,17 @@ public final class JsonlClientImpl {
      * @return the BasicsImpl object.
      */
     public BasicsImpl getBasics() {
-        return this.basics;
+        BasicsImpl localBasics = this.basics;
+        if (localBasics == null) {
+            synchronized (this) {
+                localBasics = this.basics;
+                if (localBasics == null) {
+                    localBasics = new BasicsImpl(this);
+                    this.basics = localBasics;
+                }
+            }
+        }
+        return localBasics;
     }
 
     /**
@@ -74,6 +84,5 @@ public final class JsonlClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.basics = new BasicsImpl(this);
     }
 }
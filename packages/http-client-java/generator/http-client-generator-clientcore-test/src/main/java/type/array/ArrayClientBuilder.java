@@ -61,6 +61,13 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the ArrayClientBuilder.
      */
@@ -81,6 +88,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ArrayClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -97,6 +105,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ArrayClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -107,6 +116,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ArrayClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -124,6 +134,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ArrayClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -140,6 +151,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ArrayClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -156,6 +168,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ArrayClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -172,6 +185,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ArrayClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -188,6 +202,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ArrayClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -210,7 +225,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        ArrayClientImpl client = new ArrayClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        ArrayClientImpl client = new ArrayClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -237,6 +252,15 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of Int32ValueClient class.
      * 
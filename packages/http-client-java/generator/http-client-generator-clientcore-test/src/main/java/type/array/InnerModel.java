@@ -76,7 +76,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("property", this.property);
-        jsonWriter.writeArrayField("children", this.children, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("children", this.children, JsonWriter::writeJson);
         return jsonWriter.writeEndObject();
     }
 
@@ -101,7 +101,7 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
                 if ("property".equals(fieldName)) {
                     property = reader.getString();
                 } else if ("children".equals(fieldName)) {
-                    children = reader.readArray(reader1 -> InnerModel.fromJson(reader1));
+                    children = reader.readArray(InnerModel::fromJson);
                 } else {
                     reader.skipChildren();
                 }
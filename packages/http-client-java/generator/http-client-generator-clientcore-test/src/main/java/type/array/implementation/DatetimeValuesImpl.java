@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.time.OffsetDateTime;
 import java.util.List;
 
@@ -55,15 +54,7 @@ public final class DatetimeValuesImpl {
     @ServiceInterface(name = "ArrayClientDatetimeValues", host = "{endpoint}")
     public interface DatetimeValuesService {
         static DatetimeValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.array.implementation.DatetimeValuesServiceImpl");
-                return (DatetimeValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.array.implementation.DatetimeValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.util.List;
 
@@ -55,15 +54,7 @@ public final class DurationValuesImpl {
     @ServiceInterface(name = "ArrayClientDurationValues", host = "{endpoint}")
     public interface DurationValuesService {
         static DurationValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.array.implementation.DurationValuesServiceImpl");
-                return (DurationValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.array.implementation.DurationValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(method = HttpMethod.GET, path = "/type/array/duration", expectedStatusCodes = { 200 })
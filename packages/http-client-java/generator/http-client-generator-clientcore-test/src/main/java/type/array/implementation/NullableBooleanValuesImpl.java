@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
 /**
@@ -54,15 +53,7 @@ public final class NullableBooleanValuesImpl {
     @ServiceInterface(name = "ArrayClientNullableBooleanValues", host = "{endpoint}")
     public interface NullableBooleanValuesService {
         static NullableBooleanValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.array.implementation.NullableBooleanValuesServiceImpl");
-                return (NullableBooleanValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.array.implementation.NullableBooleanValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import type.array.InnerModel;
 
@@ -55,15 +54,7 @@ public final class NullableModelValuesImpl {
     @ServiceInterface(name = "ArrayClientNullableModelValues", host = "{endpoint}")
     public interface NullableModelValuesService {
         static NullableModelValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.array.implementation.NullableModelValuesServiceImpl");
-                return (NullableModelValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.array.implementation.NullableModelValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
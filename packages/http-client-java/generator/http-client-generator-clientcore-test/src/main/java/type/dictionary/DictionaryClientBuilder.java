@@ -59,6 +59,13 @@ public final class DictionaryClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the DictionaryClientBuilder.
      */
@@ -79,6 +86,7 @@ public final class DictionaryClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DictionaryClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -95,6 +103,7 @@ public final class DictionaryClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DictionaryClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -105,6 +114,7 @@ public final class DictionaryClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DictionaryClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -122,6 +132,7 @@ public final class DictionaryClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DictionaryClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -138,6 +149,7 @@ public final class DictionaryClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DictionaryClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -154,6 +166,7 @@ public final class DictionaryClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DictionaryClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -170,6 +183,7 @@ public final class DictionaryClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DictionaryClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -186,6 +200,7 @@ public final class DictionaryClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DictionaryClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -208,7 +223,8 @@ public final class DictionaryClientBuilder
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        DictionaryClientImpl client = new DictionaryClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        DictionaryClientImpl client
+            = new DictionaryClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -235,6 +251,15 @@ public final class DictionaryClientBuilder
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of Int32ValueClient class.
      * 
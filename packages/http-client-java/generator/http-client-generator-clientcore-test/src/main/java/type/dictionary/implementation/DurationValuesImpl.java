@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.util.Map;
 
@@ -55,15 +54,7 @@ public final class DurationValuesImpl {
     @ServiceInterface(name = "DictionaryClientDurationValues", host = "{endpoint}")
     public interface DurationValuesService {
         static DurationValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.dictionary.implementation.DurationValuesServiceImpl");
-                return (DurationValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.dictionary.implementation.DurationValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 
 /**
@@ -54,15 +53,7 @@ public final class Float32ValuesImpl {
     @ServiceInterface(name = "DictionaryClientFloat32Values", host = "{endpoint}")
     public interface Float32ValuesService {
         static Float32ValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.dictionary.implementation.Float32ValuesServiceImpl");
-                return (Float32ValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.dictionary.implementation.Float32ValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
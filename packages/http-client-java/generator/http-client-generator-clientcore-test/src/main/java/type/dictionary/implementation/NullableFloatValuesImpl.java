@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 
 /**
@@ -54,15 +53,7 @@ public final class NullableFloatValuesImpl {
     @ServiceInterface(name = "DictionaryClientNullableFloatValues", host = "{endpoint}")
     public interface NullableFloatValuesService {
         static NullableFloatValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.dictionary.implementation.NullableFloatValuesServiceImpl");
-                return (NullableFloatValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.dictionary.implementation.NullableFloatValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
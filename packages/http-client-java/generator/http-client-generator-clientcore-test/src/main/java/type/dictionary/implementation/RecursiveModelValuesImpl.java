@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 import type.dictionary.InnerModel;
 
@@ -55,15 +54,7 @@ public final class RecursiveModelValuesImpl {
     @ServiceInterface(name = "DictionaryClientRecursiveModelValues", host = "{endpoint}")
     public interface RecursiveModelValuesService {
         static RecursiveModelValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.dictionary.implementation.RecursiveModelValuesServiceImpl");
-                return (RecursiveModelValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.dictionary.implementation.RecursiveModelValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
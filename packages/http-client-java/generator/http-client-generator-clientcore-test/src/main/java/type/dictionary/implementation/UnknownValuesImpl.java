@@ -15,7 +15,6 @@ import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.models.binarydata.BinaryData;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 
 /**
@@ -55,15 +54,7 @@ public final class UnknownValuesImpl {
     @ServiceInterface(name = "DictionaryClientUnknownValues", host = "{endpoint}")
     public interface UnknownValuesService {
         static UnknownValuesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.dictionary.implementation.UnknownValuesServiceImpl");
-                return (UnknownValuesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.dictionary.implementation.UnknownValuesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
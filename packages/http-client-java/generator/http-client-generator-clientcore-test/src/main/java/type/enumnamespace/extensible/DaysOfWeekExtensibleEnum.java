@@ -10,61 +10,65 @@ import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Days of the week.
  */
 public final class DaysOfWeekExtensibleEnum
     implements ExpandableEnum<String>, JsonSerializable<DaysOfWeekExtensibleEnum> {
-    private static final Map<String, DaysOfWeekExtensibleEnum> VALUES = new ConcurrentHashMap<>();
-
-    private static final Function<String, DaysOfWeekExtensibleEnum> NEW_INSTANCE = DaysOfWeekExtensibleEnum::new;
+    private static final Map<String, DaysOfWeekExtensibleEnum> VALUES = new HashMap<>();
 
     /**
      * Monday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum MONDAY = fromValue("Monday");
+    public static final DaysOfWeekExtensibleEnum MONDAY = addKnownValue("Monday");
 
     /**
      * Tuesday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum TUESDAY = fromValue("Tuesday");
+    public static final DaysOfWeekExtensibleEnum TUESDAY = addKnownValue("Tuesday");
 
     /**
      * Wednesday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum WEDNESDAY = fromValue("Wednesday");
+    public static final DaysOfWeekExtensibleEnum WEDNESDAY = addKnownValue("Wednesday");
 
     /**
      * Thursday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum THURSDAY = fromValue("Thursday");
+    public static final DaysOfWeekExtensibleEnum THURSDAY = addKnownValue("Thursday");
 
     /**
      * Friday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum FRIDAY = fromValue("Friday");
+    public static final DaysOfWeekExtensibleEnum FRIDAY = addKnownValue("Friday");
 
     /**
      * Saturday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum SATURDAY = fromValue("Saturday");
+    public static final DaysOfWeekExtensibleEnum SATURDAY = addKnownValue("Saturday");
 
     /**
      * Sunday.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DaysOfWeekExtensibleEnum SUNDAY = fromValue("Sunday");
+    public static final DaysOfWeekExtensibleEnum SUNDAY = addKnownValue("Sunday");
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static DaysOfWeekExtensibleEnum addKnownValue(String value) {
+        DaysOfWeekExtensibleEnum knownValue = new DaysOfWeekExtensibleEnum(value);
+        VALUES.put(value, knownValue);
+        return knownValue;
+    }
 
     private final String value;
 
@@ -73,7 +77,7 @@ public final class DaysOfWeekExtensibleEnum
     }
 
     /**
-     * Creates or finds a DaysOfWeekExtensibleEnum.
+     * Finds a known DaysOfWeekExtensibleEnum, or creates a new DaysOfWeekExtensibleEnum if the value is not known.
      * 
      * @param value a value to look for.
      * @return the corresponding DaysOfWeekExtensibleEnum.
@@ -84,7 +88,8 @@ public final class DaysOfWeekExtensibleEnum
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        DaysOfWeekExtensibleEnum knownValue = VALUES.get(value);
+        return knownValue != null ? knownValue : new DaysOfWeekExtensibleEnum(value);
     }
 
     /**
@@ -148,7 +153,9 @@ public final class DaysOfWeekExtensibleEnum
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj
+            || (obj instanceof DaysOfWeekExtensibleEnum
+                && Objects.equals(this.value, ((DaysOfWeekExtensibleEnum) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
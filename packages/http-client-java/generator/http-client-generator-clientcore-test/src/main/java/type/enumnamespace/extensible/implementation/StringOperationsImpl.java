@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.enumnamespace.extensible.DaysOfWeekExtensibleEnum;
 
 /**
@@ -54,16 +53,7 @@ public final class StringOperationsImpl {
     @ServiceInterface(name = "ExtensibleClientStringOperations", host = "{endpoint}")
     public interface StringOperationsService {
         static StringOperationsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("type.enumnamespace.extensible.implementation.StringOperationsServiceImpl");
-                return (StringOperationsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.enumnamespace.extensible.implementation.StringOperationsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -52,7 +52,7 @@ public final class FixedClientImpl {
     /**
      * The StringOperationsImpl object to access its operations.
      */
-    private final StringOperationsImpl stringOperations;
+    private volatile StringOperationsImpl stringOperations;
 
     /**
      * Gets the StringOperationsImpl object to access its operations.
@@ -60,7 +60,17 @@ public final class FixedClientImpl {
      * @return the StringOperationsImpl object.
      */
     public StringOperationsImpl getStringOperations() {
-        return this.stringOperations;
+        StringOperationsImpl localStringOperations = this.stringOperations;
+        if (localStringOperations == null) {
+            synchronized (this) {
+                localStringOperations = this.stringOperations;
+                if (localStringOperations == null) {
+                    localStringOperations = new StringOperationsImpl(this);
+                    this.stringOperations = localStringOperations;
+                }
+            }
+        }
+        return localStringOperations;
     }
 
     /**
@@ -74,6 +84,5 @@ public final class FixedClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.stringOperations = new StringOperationsImpl(this);
     }
 }
@@ -10,6 +10,7 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.models.binarydata.BinaryData;
+import java.nio.file.Path;
 import type.file.implementation.BodiesImpl;
 
 /**
@@ -69,6 +70,23 @@ public final class FileClient {
         uploadFileSpecificContentTypeWithResponse(file, contentLength, RequestContext.none());
     }
 
+    /**
+     * The uploadFileSpecificContentType operation.
+     * <p>
+     * The file is streamed from disk as the request body is sent.
+     * 
+     * @param file the path of the file to upload.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws HttpResponseException thrown if the service returns an error.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void uploadFileSpecificContentType(Path file) {
+        BinaryData fileData = BinaryData.fromFile(file);
+        uploadFileSpecificContentType(fileData, fileData.getLength());
+    }
+
     /**
      * The uploadFileJsonContentType operation.
      * 
@@ -267,6 +285,23 @@ public final class FileClient {
         uploadFileDefaultContentTypeWithResponse(file, contentLength, RequestContext.none());
     }
 
+    /**
+     * The uploadFileDefaultContentType operation.
+     * <p>
+     * The file is streamed from disk as the request body is sent.
+     * 
+     * @param file the path of the file to upload.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws HttpResponseException thrown if the service returns an error.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void uploadFileDefaultContentType(Path file) {
+        BinaryData fileData = BinaryData.fromFile(file);
+        uploadFileDefaultContentType(fileData, fileData.getLength());
+    }
+
     /**
      * The downloadFileDefaultContentType operation.
      * 
@@ -1,5 +1,9 @@
 package type.file;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for UploadFileMultipleContentTypesContentType.
  */
@@ -23,6 +27,18 @@ public enum UploadFileMultipleContentTypesContentType {
         this.value = value;
     }
 
+    private static final Map<String, UploadFileMultipleContentTypesContentType> VALUES = new HashMap<>();
+
+    private static final Map<String, UploadFileMultipleContentTypesContentType> CASE_INSENSITIVE_VALUES
+        = new HashMap<>();
+
+    static {
+        for (UploadFileMultipleContentTypesContentType item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a UploadFileMultipleContentTypesContentType instance.
      * 
@@ -33,13 +49,8 @@ public enum UploadFileMultipleContentTypesContentType {
         if (value == null) {
             return null;
         }
-        UploadFileMultipleContentTypesContentType[] items = UploadFileMultipleContentTypesContentType.values();
-        for (UploadFileMultipleContentTypesContentType item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        UploadFileMultipleContentTypesContentType item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -15,7 +15,6 @@ import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.models.binarydata.BinaryData;
-import java.lang.reflect.InvocationTargetException;
 import type.file.UploadFileMultipleContentTypesContentType;
 
 /**
@@ -55,14 +54,7 @@ public final class BodiesImpl {
     @ServiceInterface(name = "FileClientBodies", host = "{endpoint}")
     public interface BodiesService {
         static BodiesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.file.implementation.BodiesServiceImpl");
-                return (BodiesService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.file.implementation.BodiesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
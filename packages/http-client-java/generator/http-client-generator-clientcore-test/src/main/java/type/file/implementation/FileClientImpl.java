@@ -52,7 +52,7 @@ public final class FileClientImpl {
     /**
      * The BodiesImpl object to access its operations.
      */
-    private final BodiesImpl bodies;
+    private volatile BodiesImpl bodies;
 
     /**
      * Gets the BodiesImpl object to access its operations.
@@ -60,7 +60,17 @@ public final class FileClientImpl {
      * @return the BodiesImpl object.
      */
     public BodiesImpl getBodies() {
-        return this.bodies;
+        BodiesImpl localBodies = this.bodies;
+        if (localBodies == null) {
+            synchronized (this) {
+                localBodies = this.bodies;
+                if (localBodies == null) {
+                    localBodies = new BodiesImpl(this);
+                    this.bodies = localBodies;
+                }
+            }
+        }
+        return localBodies;
     }
 
     /**
@@ -74,6 +84,5 @@ public final class FileClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.bodies = new BodiesImpl(this);
     }
 }
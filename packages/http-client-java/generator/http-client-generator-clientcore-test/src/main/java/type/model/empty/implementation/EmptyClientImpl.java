@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.model.empty.EmptyInput;
 import type.model.empty.EmptyInputOutput;
 import type.model.empty.EmptyOutput;
@@ -90,15 +89,7 @@ public final class EmptyClientImpl {
     @ServiceInterface(name = "EmptyClient", host = "{endpoint}")
     public interface EmptyClientService {
         static EmptyClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.model.empty.implementation.EmptyClientServiceImpl");
-                return (EmptyClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.model.empty.implementation.EmptyClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -10,24 +10,28 @@ import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * extensible enum type for discriminator.
  */
 public final class DogKind implements ExpandableEnum<String>, JsonSerializable<DogKind> {
-    private static final Map<String, DogKind> VALUES = new ConcurrentHashMap<>();
-
-    private static final Function<String, DogKind> NEW_INSTANCE = DogKind::new;
+    private static final Map<String, DogKind> VALUES = new HashMap<>();
 
     /**
      * Species golden.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final DogKind GOLDEN = fromValue("golden");
+    public static final DogKind GOLDEN = addKnownValue("golden");
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static DogKind addKnownValue(String value) {
+        DogKind knownValue = new DogKind(value);
+        VALUES.put(value, knownValue);
+        return knownValue;
+    }
 
     private final String value;
 
@@ -36,7 +40,7 @@ public final class DogKind implements ExpandableEnum<String>, JsonSerializable<D
     }
 
     /**
-     * Creates or finds a DogKind.
+     * Finds a known DogKind, or creates a new DogKind if the value is not known.
      * 
      * @param value a value to look for.
      * @return the corresponding DogKind.
@@ -47,7 +51,8 @@ public final class DogKind implements ExpandableEnum<String>, JsonSerializable<D
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        DogKind knownValue = VALUES.get(value);
+        return knownValue != null ? knownValue : new DogKind(value);
     }
 
     /**
@@ -111,7 +116,7 @@ public final class DogKind implements ExpandableEnum<String>, JsonSerializable<D
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj || (obj instanceof DogKind && Objects.equals(this.value, ((DogKind) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
@@ -1,5 +1,9 @@
 package type.model.inheritance.enumdiscriminator;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * fixed enum type for discriminator.
  */
@@ -18,6 +22,17 @@ public enum SnakeKind {
         this.value = value;
     }
 
+    private static final Map<String, SnakeKind> VALUES = new HashMap<>();
+
+    private static final Map<String, SnakeKind> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (SnakeKind item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a SnakeKind instance.
      * 
@@ -28,13 +43,8 @@ public enum SnakeKind {
         if (value == null) {
             return null;
         }
-        SnakeKind[] items = SnakeKind.values();
-        for (SnakeKind item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        SnakeKind item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
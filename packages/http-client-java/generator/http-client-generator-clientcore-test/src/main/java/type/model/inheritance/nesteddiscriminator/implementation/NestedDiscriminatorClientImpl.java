@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.model.inheritance.nesteddiscriminator.Fish;
 
 /**
@@ -89,16 +88,8 @@ public final class NestedDiscriminatorClientImpl {
     @ServiceInterface(name = "NestedDiscriminatorClient", host = "{endpoint}")
     public interface NestedDiscriminatorClientService {
         static NestedDiscriminatorClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName(
-                    "type.model.inheritance.nesteddiscriminator.implementation.NestedDiscriminatorClientServiceImpl");
-                return (NestedDiscriminatorClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.model.inheritance.nesteddiscriminator.implementation.NestedDiscriminatorClientServiceImpl
+                .getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
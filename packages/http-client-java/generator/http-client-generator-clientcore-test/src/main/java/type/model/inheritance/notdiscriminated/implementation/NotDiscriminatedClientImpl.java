@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.model.inheritance.notdiscriminated.Siamese;
 
 /**
@@ -89,16 +88,8 @@ public final class NotDiscriminatedClientImpl {
     @ServiceInterface(name = "NotDiscriminatedClient", host = "{endpoint}")
     public interface NotDiscriminatedClientService {
         static NotDiscriminatedClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName(
-                    "type.model.inheritance.notdiscriminated.implementation.NotDiscriminatedClientServiceImpl");
-                return (NotDiscriminatedClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.model.inheritance.notdiscriminated.implementation.NotDiscriminatedClientServiceImpl
+                .getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
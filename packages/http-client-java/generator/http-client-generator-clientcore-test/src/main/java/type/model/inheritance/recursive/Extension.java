@@ -56,7 +56,7 @@ public final class Extension extends Element {
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("extension", getExtension(), (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("extension", getExtension(), JsonWriter::writeJson);
         jsonWriter.writeIntField("level", this.level);
         return jsonWriter.writeEndObject();
     }
@@ -80,7 +80,7 @@ public final class Extension extends Element {
                 reader.nextToken();
 
                 if ("extension".equals(fieldName)) {
-                    extension = reader.readArray(reader1 -> Extension.fromJson(reader1));
+                    extension = reader.readArray(Extension::fromJson);
                 } else if ("level".equals(fieldName)) {
                     level = reader.getInt();
                 } else {
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.model.inheritance.recursive.Extension;
 
 /**
@@ -89,16 +88,7 @@ public final class RecursiveClientImpl {
     @ServiceInterface(name = "RecursiveClient", host = "{endpoint}")
     public interface RecursiveClientService {
         static RecursiveClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("type.model.inheritance.recursive.implementation.RecursiveClientServiceImpl");
-                return (RecursiveClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.model.inheritance.recursive.implementation.RecursiveClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -135,8 +135,8 @@ public final class Eagle extends Bird {
         jsonWriter.writeStartObject();
         jsonWriter.writeIntField("wingspan", getWingspan());
         jsonWriter.writeStringField("kind", this.kind);
-        jsonWriter.writeArrayField("friends", this.friends, (writer, element) -> writer.writeJson(element));
-        jsonWriter.writeMapField("hate", this.hate, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("friends", this.friends, JsonWriter::writeJson);
+        jsonWriter.writeMapField("hate", this.hate, JsonWriter::writeJson);
         jsonWriter.writeJsonField("partner", this.partner);
         return jsonWriter.writeEndObject();
     }
@@ -167,9 +167,9 @@ public final class Eagle extends Bird {
                 } else if ("kind".equals(fieldName)) {
                     kind = reader.getString();
                 } else if ("friends".equals(fieldName)) {
-                    friends = reader.readArray(reader1 -> Bird.fromJson(reader1));
+                    friends = reader.readArray(Bird::fromJson);
                 } else if ("hate".equals(fieldName)) {
-                    hate = reader.readMap(reader1 -> Bird.fromJson(reader1));
+                    hate = reader.readMap(Bird::fromJson);
                 } else if ("partner".equals(fieldName)) {
                     partner = Bird.fromJson(reader);
                 } else {
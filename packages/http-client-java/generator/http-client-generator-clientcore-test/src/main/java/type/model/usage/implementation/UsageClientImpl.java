@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.model.usage.InputOutputRecord;
 import type.model.usage.InputRecord;
 import type.model.usage.OutputRecord;
@@ -90,15 +89,7 @@ public final class UsageClientImpl {
     @ServiceInterface(name = "UsageClient", host = "{endpoint}")
     public interface UsageClientService {
         static UsageClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.model.usage.implementation.UsageClientServiceImpl");
-                return (UsageClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.model.usage.implementation.UsageClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
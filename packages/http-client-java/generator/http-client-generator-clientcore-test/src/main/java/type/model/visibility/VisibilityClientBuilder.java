@@ -47,6 +47,13 @@ public final class VisibilityClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the VisibilityClientBuilder.
      */
@@ -67,6 +74,7 @@ public final class VisibilityClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VisibilityClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -83,6 +91,7 @@ public final class VisibilityClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VisibilityClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -93,6 +102,7 @@ public final class VisibilityClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VisibilityClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -110,6 +120,7 @@ public final class VisibilityClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VisibilityClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -126,6 +137,7 @@ public final class VisibilityClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VisibilityClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -142,6 +154,7 @@ public final class VisibilityClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VisibilityClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -158,6 +171,7 @@ public final class VisibilityClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VisibilityClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -174,6 +188,7 @@ public final class VisibilityClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public VisibilityClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -196,7 +211,8 @@ public final class VisibilityClientBuilder
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        VisibilityClientImpl client = new VisibilityClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        VisibilityClientImpl client
+            = new VisibilityClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -223,6 +239,15 @@ public final class VisibilityClientBuilder
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of VisibilityClient class.
      * 
@@ -99,8 +99,8 @@ public final class VisibilityModel implements JsonSerializable<VisibilityModel>
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("createProp", this.createProp, (writer, element) -> writer.writeString(element));
-        jsonWriter.writeArrayField("updateProp", this.updateProp, (writer, element) -> writer.writeInt(element));
+        jsonWriter.writeArrayField("createProp", this.createProp, JsonWriter::writeString);
+        jsonWriter.writeArrayField("updateProp", this.updateProp, JsonWriter::writeInt);
         jsonWriter.writeBooleanField("deleteProp", this.deleteProp);
         return jsonWriter.writeEndObject();
     }
@@ -128,9 +128,9 @@ public final class VisibilityModel implements JsonSerializable<VisibilityModel>
                 if ("readProp".equals(fieldName)) {
                     readProp = reader.getString();
                 } else if ("createProp".equals(fieldName)) {
-                    createProp = reader.readArray(reader1 -> reader1.getString());
+                    createProp = reader.readArray(JsonReader::getString);
                 } else if ("updateProp".equals(fieldName)) {
-                    updateProp = reader.readArray(reader1 -> reader1.getInt());
+                    updateProp = reader.readArray(JsonReader::getInt);
                 } else if ("deleteProp".equals(fieldName)) {
                     deleteProp = reader.getNullable(JsonReader::getBoolean);
                 } else {
@@ -80,6 +80,13 @@ public final class AdditionalPropertiesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the AdditionalPropertiesClientBuilder.
      */
@@ -100,6 +107,7 @@ public final class AdditionalPropertiesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public AdditionalPropertiesClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -116,6 +124,7 @@ public final class AdditionalPropertiesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public AdditionalPropertiesClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -126,6 +135,7 @@ public final class AdditionalPropertiesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public AdditionalPropertiesClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -143,6 +153,7 @@ public final class AdditionalPropertiesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public AdditionalPropertiesClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -176,6 +187,7 @@ public final class AdditionalPropertiesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public AdditionalPropertiesClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -192,6 +204,7 @@ public final class AdditionalPropertiesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public AdditionalPropertiesClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -208,6 +221,7 @@ public final class AdditionalPropertiesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public AdditionalPropertiesClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -231,7 +245,7 @@ public final class AdditionalPropertiesClientBuilder
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
         AdditionalPropertiesClientImpl client
-            = new AdditionalPropertiesClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+            = new AdditionalPropertiesClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -258,6 +272,15 @@ public final class AdditionalPropertiesClientBuilder
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of ExtendsUnknownClient class.
      * 
@@ -114,8 +114,7 @@ public class DifferentSpreadModelArrayRecord implements JsonSerializable<Differe
                         additionalProperties = new LinkedHashMap<>();
                     }
 
-                    List<ModelForRecord> additionalPropertiesArrayItem
-                        = reader.readArray(reader1 -> ModelForRecord.fromJson(reader1));
+                    List<ModelForRecord> additionalPropertiesArrayItem = reader.readArray(ModelForRecord::fromJson);
                     additionalProperties.put(fieldName, additionalPropertiesArrayItem);
                 }
             }
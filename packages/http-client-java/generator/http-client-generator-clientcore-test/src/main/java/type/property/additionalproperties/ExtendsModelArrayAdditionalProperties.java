@@ -79,7 +79,7 @@ public final class ExtendsModelArrayAdditionalProperties
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("knownProp", this.knownProp, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("knownProp", this.knownProp, JsonWriter::writeJson);
         if (additionalProperties != null) {
             for (Map.Entry<String, List<ModelForRecord>> additionalProperty : additionalProperties.entrySet()) {
                 jsonWriter.writeUntypedField(additionalProperty.getKey(), additionalProperty.getValue());
@@ -107,14 +107,13 @@ public final class ExtendsModelArrayAdditionalProperties
                 reader.nextToken();
 
                 if ("knownProp".equals(fieldName)) {
-                    knownProp = reader.readArray(reader1 -> ModelForRecord.fromJson(reader1));
+                    knownProp = reader.readArray(ModelForRecord::fromJson);
                 } else {
                     if (additionalProperties == null) {
                         additionalProperties = new LinkedHashMap<>();
                     }
 
-                    List<ModelForRecord> additionalPropertiesArrayItem
-                        = reader.readArray(reader1 -> ModelForRecord.fromJson(reader1));
+                    List<ModelForRecord> additionalPropertiesArrayItem = reader.readArray(ModelForRecord::fromJson);
                     additionalProperties.put(fieldName, additionalPropertiesArrayItem);
                 }
             }
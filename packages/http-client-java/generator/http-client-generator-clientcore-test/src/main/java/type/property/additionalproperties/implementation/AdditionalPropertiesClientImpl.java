@@ -52,7 +52,7 @@ public final class AdditionalPropertiesClientImpl {
     /**
      * The ExtendsUnknownsImpl object to access its operations.
      */
-    private final ExtendsUnknownsImpl extendsUnknowns;
+    private volatile ExtendsUnknownsImpl extendsUnknowns;
 
     /**
      * Gets the ExtendsUnknownsImpl object to access its operations.
@@ -60,13 +60,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the ExtendsUnknownsImpl object.
      */
     public ExtendsUnknownsImpl getExtendsUnknowns() {
-        return this.extendsUnknowns;
+        ExtendsUnknownsImpl localExtendsUnknowns = this.extendsUnknowns;
+        if (localExtendsUnknowns == null) {
+            synchronized (this) {
+                localExtendsUnknowns = this.extendsUnknowns;
+                if (localExtendsUnknowns == null) {
+                    localExtendsUnknowns = new ExtendsUnknownsImpl(this);
+                    this.extendsUnknowns = localExtendsUnknowns;
+                }
+            }
+        }
+        return localExtendsUnknowns;
     }
 
     /**
      * The ExtendsUnknownDerivedsImpl object to access its operations.
      */
-    private final ExtendsUnknownDerivedsImpl extendsUnknownDeriveds;
+    private volatile ExtendsUnknownDerivedsImpl extendsUnknownDeriveds;
 
     /**
      * Gets the ExtendsUnknownDerivedsImpl object to access its operations.
@@ -74,13 +84,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the ExtendsUnknownDerivedsImpl object.
      */
     public ExtendsUnknownDerivedsImpl getExtendsUnknownDeriveds() {
-        return this.extendsUnknownDeriveds;
+        ExtendsUnknownDerivedsImpl localExtendsUnknownDeriveds = this.extendsUnknownDeriveds;
+        if (localExtendsUnknownDeriveds == null) {
+            synchronized (this) {
+                localExtendsUnknownDeriveds = this.extendsUnknownDeriveds;
+                if (localExtendsUnknownDeriveds == null) {
+                    localExtendsUnknownDeriveds = new ExtendsUnknownDerivedsImpl(this);
+                    this.extendsUnknownDeriveds = localExtendsUnknownDeriveds;
+                }
+            }
+        }
+        return localExtendsUnknownDeriveds;
     }
 
     /**
      * The ExtendsUnknownDiscriminatedsImpl object to access its operations.
      */
-    private final ExtendsUnknownDiscriminatedsImpl extendsUnknownDiscriminateds;
+    private volatile ExtendsUnknownDiscriminatedsImpl extendsUnknownDiscriminateds;
 
     /**
      * Gets the ExtendsUnknownDiscriminatedsImpl object to access its operations.
@@ -88,13 +108,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the ExtendsUnknownDiscriminatedsImpl object.
      */
     public ExtendsUnknownDiscriminatedsImpl getExtendsUnknownDiscriminateds() {
-        return this.extendsUnknownDiscriminateds;
+        ExtendsUnknownDiscriminatedsImpl localExtendsUnknownDiscriminateds = this.extendsUnknownDiscriminateds;
+        if (localExtendsUnknownDiscriminateds == null) {
+            synchronized (this) {
+                localExtendsUnknownDiscriminateds = this.extendsUnknownDiscriminateds;
+                if (localExtendsUnknownDiscriminateds == null) {
+                    localExtendsUnknownDiscriminateds = new ExtendsUnknownDiscriminatedsImpl(this);
+                    this.extendsUnknownDiscriminateds = localExtendsUnknownDiscriminateds;
+                }
+            }
+        }
+        return localExtendsUnknownDiscriminateds;
     }
 
     /**
      * The IsUnknownsImpl object to access its operations.
      */
-    private final IsUnknownsImpl isUnknowns;
+    private volatile IsUnknownsImpl isUnknowns;
 
     /**
      * Gets the IsUnknownsImpl object to access its operations.
@@ -102,13 +132,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the IsUnknownsImpl object.
      */
     public IsUnknownsImpl getIsUnknowns() {
-        return this.isUnknowns;
+        IsUnknownsImpl localIsUnknowns = this.isUnknowns;
+        if (localIsUnknowns == null) {
+            synchronized (this) {
+                localIsUnknowns = this.isUnknowns;
+                if (localIsUnknowns == null) {
+                    localIsUnknowns = new IsUnknownsImpl(this);
+                    this.isUnknowns = localIsUnknowns;
+                }
+            }
+        }
+        return localIsUnknowns;
     }
 
     /**
      * The IsUnknownDerivedsImpl object to access its operations.
      */
-    private final IsUnknownDerivedsImpl isUnknownDeriveds;
+    private volatile IsUnknownDerivedsImpl isUnknownDeriveds;
 
     /**
      * Gets the IsUnknownDerivedsImpl object to access its operations.
@@ -116,13 +156,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the IsUnknownDerivedsImpl object.
      */
     public IsUnknownDerivedsImpl getIsUnknownDeriveds() {
-        return this.isUnknownDeriveds;
+        IsUnknownDerivedsImpl localIsUnknownDeriveds = this.isUnknownDeriveds;
+        if (localIsUnknownDeriveds == null) {
+            synchronized (this) {
+                localIsUnknownDeriveds = this.isUnknownDeriveds;
+                if (localIsUnknownDeriveds == null) {
+                    localIsUnknownDeriveds = new IsUnknownDerivedsImpl(this);
+                    this.isUnknownDeriveds = localIsUnknownDeriveds;
+                }
+            }
+        }
+        return localIsUnknownDeriveds;
     }
 
     /**
      * The IsUnknownDiscriminatedsImpl object to access its operations.
      */
-    private final IsUnknownDiscriminatedsImpl isUnknownDiscriminateds;
+    private volatile IsUnknownDiscriminatedsImpl isUnknownDiscriminateds;
 
     /**
      * Gets the IsUnknownDiscriminatedsImpl object to access its operations.
@@ -130,13 +180,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the IsUnknownDiscriminatedsImpl object.
      */
     public IsUnknownDiscriminatedsImpl getIsUnknownDiscriminateds() {
-        return this.isUnknownDiscriminateds;
+        IsUnknownDiscriminatedsImpl localIsUnknownDiscriminateds = this.isUnknownDiscriminateds;
+        if (localIsUnknownDiscriminateds == null) {
+            synchronized (this) {
+                localIsUnknownDiscriminateds = this.isUnknownDiscriminateds;
+                if (localIsUnknownDiscriminateds == null) {
+                    localIsUnknownDiscriminateds = new IsUnknownDiscriminatedsImpl(this);
+                    this.isUnknownDiscriminateds = localIsUnknownDiscriminateds;
+                }
+            }
+        }
+        return localIsUnknownDiscriminateds;
     }
 
     /**
      * The ExtendsStringsImpl object to access its operations.
      */
-    private final ExtendsStringsImpl extendsStrings;
+    private volatile ExtendsStringsImpl extendsStrings;
 
     /**
      * Gets the ExtendsStringsImpl object to access its operations.
@@ -144,13 +204,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the ExtendsStringsImpl object.
      */
     public ExtendsStringsImpl getExtendsStrings() {
-        return this.extendsStrings;
+        ExtendsStringsImpl localExtendsStrings = this.extendsStrings;
+        if (localExtendsStrings == null) {
+            synchronized (this) {
+                localExtendsStrings = this.extendsStrings;
+                if (localExtendsStrings == null) {
+                    localExtendsStrings = new ExtendsStringsImpl(this);
+                    this.extendsStrings = localExtendsStrings;
+                }
+            }
+        }
+        return localExtendsStrings;
     }
 
     /**
      * The IsStringsImpl object to access its operations.
      */
-    private final IsStringsImpl isStrings;
+    private volatile IsStringsImpl isStrings;
 
     /**
      * Gets the IsStringsImpl object to access its operations.
@@ -158,13 +228,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the IsStringsImpl object.
      */
     public IsStringsImpl getIsStrings() {
-        return this.isStrings;
+        IsStringsImpl localIsStrings = this.isStrings;
+        if (localIsStrings == null) {
+            synchronized (this) {
+                localIsStrings = this.isStrings;
+                if (localIsStrings == null) {
+                    localIsStrings = new IsStringsImpl(this);
+                    this.isStrings = localIsStrings;
+                }
+            }
+        }
+        return localIsStrings;
     }
 
     /**
      * The SpreadStringsImpl object to access its operations.
      */
-    private final SpreadStringsImpl spreadStrings;
+    private volatile SpreadStringsImpl spreadStrings;
 
     /**
      * Gets the SpreadStringsImpl object to access its operations.
@@ -172,13 +252,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the SpreadStringsImpl object.
      */
     public SpreadStringsImpl getSpreadStrings() {
-        return this.spreadStrings;
+        SpreadStringsImpl localSpreadStrings = this.spreadStrings;
+        if (localSpreadStrings == null) {
+            synchronized (this) {
+                localSpreadStrings = this.spreadStrings;
+                if (localSpreadStrings == null) {
+                    localSpreadStrings = new SpreadStringsImpl(this);
+                    this.spreadStrings = localSpreadStrings;
+                }
+            }
+        }
+        return localSpreadStrings;
     }
 
     /**
      * The ExtendsFloatsImpl object to access its operations.
      */
-    private final ExtendsFloatsImpl extendsFloats;
+    private volatile ExtendsFloatsImpl extendsFloats;
 
     /**
      * Gets the ExtendsFloatsImpl object to access its operations.
@@ -186,13 +276,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the ExtendsFloatsImpl object.
      */
     public ExtendsFloatsImpl getExtendsFloats() {
-        return this.extendsFloats;
+        ExtendsFloatsImpl localExtendsFloats = this.extendsFloats;
+        if (localExtendsFloats == null) {
+            synchronized (this) {
+                localExtendsFloats = this.extendsFloats;
+                if (localExtendsFloats == null) {
+                    localExtendsFloats = new ExtendsFloatsImpl(this);
+                    this.extendsFloats = localExtendsFloats;
+                }
+            }
+        }
+        return localExtendsFloats;
     }
 
     /**
      * The IsFloatsImpl object to access its operations.
      */
-    private final IsFloatsImpl isFloats;
+    private volatile IsFloatsImpl isFloats;
 
     /**
      * Gets the IsFloatsImpl object to access its operations.
@@ -200,13 +300,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the IsFloatsImpl object.
      */
     public IsFloatsImpl getIsFloats() {
-        return this.isFloats;
+        IsFloatsImpl localIsFloats = this.isFloats;
+        if (localIsFloats == null) {
+            synchronized (this) {
+                localIsFloats = this.isFloats;
+                if (localIsFloats == null) {
+                    localIsFloats = new IsFloatsImpl(this);
+                    this.isFloats = localIsFloats;
+                }
+            }
+        }
+        return localIsFloats;
     }
 
     /**
      * The SpreadFloatsImpl object to access its operations.
      */
-    private final SpreadFloatsImpl spreadFloats;
+    private volatile SpreadFloatsImpl spreadFloats;
 
     /**
      * Gets the SpreadFloatsImpl object to access its operations.
@@ -214,13 +324,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the SpreadFloatsImpl object.
      */
     public SpreadFloatsImpl getSpreadFloats() {
-        return this.spreadFloats;
+        SpreadFloatsImpl localSpreadFloats = this.spreadFloats;
+        if (localSpreadFloats == null) {
+            synchronized (this) {
+                localSpreadFloats = this.spreadFloats;
+                if (localSpreadFloats == null) {
+                    localSpreadFloats = new SpreadFloatsImpl(this);
+                    this.spreadFloats = localSpreadFloats;
+                }
+            }
+        }
+        return localSpreadFloats;
     }
 
     /**
      * The ExtendsModelsImpl object to access its operations.
      */
-    private final ExtendsModelsImpl extendsModels;
+    private volatile ExtendsModelsImpl extendsModels;
 
     /**
      * Gets the ExtendsModelsImpl object to access its operations.
@@ -228,13 +348,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the ExtendsModelsImpl object.
      */
     public ExtendsModelsImpl getExtendsModels() {
-        return this.extendsModels;
+        ExtendsModelsImpl localExtendsModels = this.extendsModels;
+        if (localExtendsModels == null) {
+            synchronized (this) {
+                localExtendsModels = this.extendsModels;
+                if (localExtendsModels == null) {
+                    localExtendsModels = new ExtendsModelsImpl(this);
+                    this.extendsModels = localExtendsModels;
+                }
+            }
+        }
+        return localExtendsModels;
     }
 
     /**
      * The IsModelsImpl object to access its operations.
      */
-    private final IsModelsImpl isModels;
+    private volatile IsModelsImpl isModels;
 
     /**
      * Gets the IsModelsImpl object to access its operations.
@@ -242,13 +372,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the IsModelsImpl object.
      */
     public IsModelsImpl getIsModels() {
-        return this.isModels;
+        IsModelsImpl localIsModels = this.isModels;
+        if (localIsModels == null) {
+            synchronized (this) {
+                localIsModels = this.isModels;
+                if (localIsModels == null) {
+                    localIsModels = new IsModelsImpl(this);
+                    this.isModels = localIsModels;
+                }
+            }
+        }
+        return localIsModels;
     }
 
     /**
      * The SpreadModelsImpl object to access its operations.
      */
-    private final SpreadModelsImpl spreadModels;
+    private volatile SpreadModelsImpl spreadModels;
 
     /**
      * Gets the SpreadModelsImpl object to access its operations.
@@ -256,13 +396,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the SpreadModelsImpl object.
      */
     public SpreadModelsImpl getSpreadModels() {
-        return this.spreadModels;
+        SpreadModelsImpl localSpreadModels = this.spreadModels;
+        if (localSpreadModels == null) {
+            synchronized (this) {
+                localSpreadModels = this.spreadModels;
+                if (localSpreadModels == null) {
+                    localSpreadModels = new SpreadModelsImpl(this);
+                    this.spreadModels = localSpreadModels;
+                }
+            }
+        }
+        return localSpreadModels;
     }
 
     /**
      * The ExtendsModelArraysImpl object to access its operations.
      */
-    private final ExtendsModelArraysImpl extendsModelArrays;
+    private volatile ExtendsModelArraysImpl extendsModelArrays;
 
     /**
      * Gets the ExtendsModelArraysImpl object to access its operations.
@@ -270,13 +420,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the ExtendsModelArraysImpl object.
      */
     public ExtendsModelArraysImpl getExtendsModelArrays() {
-        return this.extendsModelArrays;
+        ExtendsModelArraysImpl localExtendsModelArrays = this.extendsModelArrays;
+        if (localExtendsModelArrays == null) {
+            synchronized (this) {
+                localExtendsModelArrays = this.extendsModelArrays;
+                if (localExtendsModelArrays == null) {
+                    localExtendsModelArrays = new ExtendsModelArraysImpl(this);
+                    this.extendsModelArrays = localExtendsModelArrays;
+                }
+            }
+        }
+        return localExtendsModelArrays;
     }
 
     /**
      * The IsModelArraysImpl object to access its operations.
      */
-    private final IsModelArraysImpl isModelArrays;
+    private volatile IsModelArraysImpl isModelArrays;
 
     /**
      * Gets the IsModelArraysImpl object to access its operations.
@@ -284,13 +444,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the IsModelArraysImpl object.
      */
     public IsModelArraysImpl getIsModelArrays() {
-        return this.isModelArrays;
+        IsModelArraysImpl localIsModelArrays = this.isModelArrays;
+        if (localIsModelArrays == null) {
+            synchronized (this) {
+                localIsModelArrays = this.isModelArrays;
+                if (localIsModelArrays == null) {
+                    localIsModelArrays = new IsModelArraysImpl(this);
+                    this.isModelArrays = localIsModelArrays;
+                }
+            }
+        }
+        return localIsModelArrays;
     }
 
     /**
      * The SpreadModelArraysImpl object to access its operations.
      */
-    private final SpreadModelArraysImpl spreadModelArrays;
+    private volatile SpreadModelArraysImpl spreadModelArrays;
 
     /**
      * Gets the SpreadModelArraysImpl object to access its operations.
@@ -298,13 +468,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the SpreadModelArraysImpl object.
      */
     public SpreadModelArraysImpl getSpreadModelArrays() {
-        return this.spreadModelArrays;
+        SpreadModelArraysImpl localSpreadModelArrays = this.spreadModelArrays;
+        if (localSpreadModelArrays == null) {
+            synchronized (this) {
+                localSpreadModelArrays = this.spreadModelArrays;
+                if (localSpreadModelArrays == null) {
+                    localSpreadModelArrays = new SpreadModelArraysImpl(this);
+                    this.spreadModelArrays = localSpreadModelArrays;
+                }
+            }
+        }
+        return localSpreadModelArrays;
     }
 
     /**
      * The SpreadDifferentStringsImpl object to access its operations.
      */
-    private final SpreadDifferentStringsImpl spreadDifferentStrings;
+    private volatile SpreadDifferentStringsImpl spreadDifferentStrings;
 
     /**
      * Gets the SpreadDifferentStringsImpl object to access its operations.
@@ -312,13 +492,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the SpreadDifferentStringsImpl object.
      */
     public SpreadDifferentStringsImpl getSpreadDifferentStrings() {
-        return this.spreadDifferentStrings;
+        SpreadDifferentStringsImpl localSpreadDifferentStrings = this.spreadDifferentStrings;
+        if (localSpreadDifferentStrings == null) {
+            synchronized (this) {
+                localSpreadDifferentStrings = this.spreadDifferentStrings;
+                if (localSpreadDifferentStrings == null) {
+                    localSpreadDifferentStrings = new SpreadDifferentStringsImpl(this);
+                    this.spreadDifferentStrings = localSpreadDifferentStrings;
+                }
+            }
+        }
+        return localSpreadDifferentStrings;
     }
 
     /**
      * The SpreadDifferentFloatsImpl object to access its operations.
      */
-    private final SpreadDifferentFloatsImpl spreadDifferentFloats;
+    private volatile SpreadDifferentFloatsImpl spreadDifferentFloats;
 
     /**
      * Gets the SpreadDifferentFloatsImpl object to access its operations.
@@ -326,13 +516,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the SpreadDifferentFloatsImpl object.
      */
     public SpreadDifferentFloatsImpl getSpreadDifferentFloats() {
-        return this.spreadDifferentFloats;
+        SpreadDifferentFloatsImpl localSpreadDifferentFloats = this.spreadDifferentFloats;
+        if (localSpreadDifferentFloats == null) {
+            synchronized (this) {
+                localSpreadDifferentFloats = this.spreadDifferentFloats;
+                if (localSpreadDifferentFloats == null) {
+                    localSpreadDifferentFloats = new SpreadDifferentFloatsImpl(this);
+                    this.spreadDifferentFloats = localSpreadDifferentFloats;
+                }
+            }
+        }
+        return localSpreadDifferentFloats;
     }
 
     /**
      * The SpreadDifferentModelsImpl object to access its operations.
      */
-    private final SpreadDifferentModelsImpl spreadDifferentModels;
+    private volatile SpreadDifferentModelsImpl spreadDifferentModels;
 
     /**
      * Gets the SpreadDifferentModelsImpl object to access its operations.
@@ -340,13 +540,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the SpreadDifferentModelsImpl object.
      */
     public SpreadDifferentModelsImpl getSpreadDifferentModels() {
-        return this.spreadDifferentModels;
+        SpreadDifferentModelsImpl localSpreadDifferentModels = this.spreadDifferentModels;
+        if (localSpreadDifferentModels == null) {
+            synchronized (this) {
+                localSpreadDifferentModels = this.spreadDifferentModels;
+                if (localSpreadDifferentModels == null) {
+                    localSpreadDifferentModels = new SpreadDifferentModelsImpl(this);
+                    this.spreadDifferentModels = localSpreadDifferentModels;
+                }
+            }
+        }
+        return localSpreadDifferentModels;
     }
 
     /**
      * The SpreadDifferentModelArraysImpl object to access its operations.
      */
-    private final SpreadDifferentModelArraysImpl spreadDifferentModelArrays;
+    private volatile SpreadDifferentModelArraysImpl spreadDifferentModelArrays;
 
     /**
      * Gets the SpreadDifferentModelArraysImpl object to access its operations.
@@ -354,13 +564,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the SpreadDifferentModelArraysImpl object.
      */
     public SpreadDifferentModelArraysImpl getSpreadDifferentModelArrays() {
-        return this.spreadDifferentModelArrays;
+        SpreadDifferentModelArraysImpl localSpreadDifferentModelArrays = this.spreadDifferentModelArrays;
+        if (localSpreadDifferentModelArrays == null) {
+            synchronized (this) {
+                localSpreadDifferentModelArrays = this.spreadDifferentModelArrays;
+                if (localSpreadDifferentModelArrays == null) {
+                    localSpreadDifferentModelArrays = new SpreadDifferentModelArraysImpl(this);
+                    this.spreadDifferentModelArrays = localSpreadDifferentModelArrays;
+                }
+            }
+        }
+        return localSpreadDifferentModelArrays;
     }
 
     /**
      * The ExtendsDifferentSpreadStringsImpl object to access its operations.
      */
-    private final ExtendsDifferentSpreadStringsImpl extendsDifferentSpreadStrings;
+    private volatile ExtendsDifferentSpreadStringsImpl extendsDifferentSpreadStrings;
 
     /**
      * Gets the ExtendsDifferentSpreadStringsImpl object to access its operations.
@@ -368,13 +588,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the ExtendsDifferentSpreadStringsImpl object.
      */
     public ExtendsDifferentSpreadStringsImpl getExtendsDifferentSpreadStrings() {
-        return this.extendsDifferentSpreadStrings;
+        ExtendsDifferentSpreadStringsImpl localExtendsDifferentSpreadStrings = this.extendsDifferentSpreadStrings;
+        if (localExtendsDifferentSpreadStrings == null) {
+            synchronized (this) {
+                localExtendsDifferentSpreadStrings = this.extendsDifferentSpreadStrings;
+                if (localExtendsDifferentSpreadStrings == null) {
+                    localExtendsDifferentSpreadStrings = new ExtendsDifferentSpreadStringsImpl(this);
+                    this.extendsDifferentSpreadStrings = localExtendsDifferentSpreadStrings;
+                }
+            }
+        }
+        return localExtendsDifferentSpreadStrings;
     }
 
     /**
      * The ExtendsDifferentSpreadFloatsImpl object to access its operations.
      */
-    private final ExtendsDifferentSpreadFloatsImpl extendsDifferentSpreadFloats;
+    private volatile ExtendsDifferentSpreadFloatsImpl extendsDifferentSpreadFloats;
 
     /**
      * Gets the ExtendsDifferentSpreadFloatsImpl object to access its operations.
@@ -382,13 +612,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the ExtendsDifferentSpreadFloatsImpl object.
      */
     public ExtendsDifferentSpreadFloatsImpl getExtendsDifferentSpreadFloats() {
-        return this.extendsDifferentSpreadFloats;
+        ExtendsDifferentSpreadFloatsImpl localExtendsDifferentSpreadFloats = this.extendsDifferentSpreadFloats;
+        if (localExtendsDifferentSpreadFloats == null) {
+            synchronized (this) {
+                localExtendsDifferentSpreadFloats = this.extendsDifferentSpreadFloats;
+                if (localExtendsDifferentSpreadFloats == null) {
+                    localExtendsDifferentSpreadFloats = new ExtendsDifferentSpreadFloatsImpl(this);
+                    this.extendsDifferentSpreadFloats = localExtendsDifferentSpreadFloats;
+                }
+            }
+        }
+        return localExtendsDifferentSpreadFloats;
     }
 
     /**
      * The ExtendsDifferentSpreadModelsImpl object to access its operations.
      */
-    private final ExtendsDifferentSpreadModelsImpl extendsDifferentSpreadModels;
+    private volatile ExtendsDifferentSpreadModelsImpl extendsDifferentSpreadModels;
 
     /**
      * Gets the ExtendsDifferentSpreadModelsImpl object to access its operations.
@@ -396,13 +636,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the ExtendsDifferentSpreadModelsImpl object.
      */
     public ExtendsDifferentSpreadModelsImpl getExtendsDifferentSpreadModels() {
-        return this.extendsDifferentSpreadModels;
+        ExtendsDifferentSpreadModelsImpl localExtendsDifferentSpreadModels = this.extendsDifferentSpreadModels;
+        if (localExtendsDifferentSpreadModels == null) {
+            synchronized (this) {
+                localExtendsDifferentSpreadModels = this.extendsDifferentSpreadModels;
+                if (localExtendsDifferentSpreadModels == null) {
+                    localExtendsDifferentSpreadModels = new ExtendsDifferentSpreadModelsImpl(this);
+                    this.extendsDifferentSpreadModels = localExtendsDifferentSpreadModels;
+                }
+            }
+        }
+        return localExtendsDifferentSpreadModels;
     }
 
     /**
      * The ExtendsDifferentSpreadModelArraysImpl object to access its operations.
      */
-    private final ExtendsDifferentSpreadModelArraysImpl extendsDifferentSpreadModelArrays;
+    private volatile ExtendsDifferentSpreadModelArraysImpl extendsDifferentSpreadModelArrays;
 
     /**
      * Gets the ExtendsDifferentSpreadModelArraysImpl object to access its operations.
@@ -410,13 +660,24 @@ public final class AdditionalPropertiesClientImpl {
      * @return the ExtendsDifferentSpreadModelArraysImpl object.
      */
     public ExtendsDifferentSpreadModelArraysImpl getExtendsDifferentSpreadModelArrays() {
-        return this.extendsDifferentSpreadModelArrays;
+        ExtendsDifferentSpreadModelArraysImpl localExtendsDifferentSpreadModelArrays
+            = this.extendsDifferentSpreadModelArrays;
+        if (localExtendsDifferentSpreadModelArrays == null) {
+            synchronized (this) {
+                localExtendsDifferentSpreadModelArrays = this.extendsDifferentSpreadModelArrays;
+                if (localExtendsDifferentSpreadModelArrays == null) {
+                    localExtendsDifferentSpreadModelArrays = new ExtendsDifferentSpreadModelArraysImpl(this);
+                    this.extendsDifferentSpreadModelArrays = localExtendsDifferentSpreadModelArrays;
+                }
+            }
+        }
+        return localExtendsDifferentSpreadModelArrays;
     }
 
     /**
      * The MultipleSpreadsImpl object to access its operations.
      */
-    private final MultipleSpreadsImpl multipleSpreads;
+    private volatile MultipleSpreadsImpl multipleSpreads;
 
     /**
      * Gets the MultipleSpreadsImpl object to access its operations.
@@ -424,13 +685,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the MultipleSpreadsImpl object.
      */
     public MultipleSpreadsImpl getMultipleSpreads() {
-        return this.multipleSpreads;
+        MultipleSpreadsImpl localMultipleSpreads = this.multipleSpreads;
+        if (localMultipleSpreads == null) {
+            synchronized (this) {
+                localMultipleSpreads = this.multipleSpreads;
+                if (localMultipleSpreads == null) {
+                    localMultipleSpreads = new MultipleSpreadsImpl(this);
+                    this.multipleSpreads = localMultipleSpreads;
+                }
+            }
+        }
+        return localMultipleSpreads;
     }
 
     /**
      * The SpreadRecordUnionsImpl object to access its operations.
      */
-    private final SpreadRecordUnionsImpl spreadRecordUnions;
+    private volatile SpreadRecordUnionsImpl spreadRecordUnions;
 
     /**
      * Gets the SpreadRecordUnionsImpl object to access its operations.
@@ -438,13 +709,23 @@ public final class AdditionalPropertiesClientImpl {
      * @return the SpreadRecordUnionsImpl object.
      */
     public SpreadRecordUnionsImpl getSpreadRecordUnions() {
-        return this.spreadRecordUnions;
+        SpreadRecordUnionsImpl localSpreadRecordUnions = this.spreadRecordUnions;
+        if (localSpreadRecordUnions == null) {
+            synchronized (this) {
+                localSpreadRecordUnions = this.spreadRecordUnions;
+                if (localSpreadRecordUnions == null) {
+                    localSpreadRecordUnions = new SpreadRecordUnionsImpl(this);
+                    this.spreadRecordUnions = localSpreadRecordUnions;
+                }
+            }
+        }
+        return localSpreadRecordUnions;
     }
 
     /**
      * The SpreadRecordNonDiscriminatedUnionsImpl object to access its operations.
      */
-    private final SpreadRecordNonDiscriminatedUnionsImpl spreadRecordNonDiscriminatedUnions;
+    private volatile SpreadRecordNonDiscriminatedUnionsImpl spreadRecordNonDiscriminatedUnions;
 
     /**
      * Gets the SpreadRecordNonDiscriminatedUnionsImpl object to access its operations.
@@ -452,13 +733,24 @@ public final class AdditionalPropertiesClientImpl {
      * @return the SpreadRecordNonDiscriminatedUnionsImpl object.
      */
     public SpreadRecordNonDiscriminatedUnionsImpl getSpreadRecordNonDiscriminatedUnions() {
-        return this.spreadRecordNonDiscriminatedUnions;
+        SpreadRecordNonDiscriminatedUnionsImpl localSpreadRecordNonDiscriminatedUnions
+            = this.spreadRecordNonDiscriminatedUnions;
+        if (localSpreadRecordNonDiscriminatedUnions == null) {
+            synchronized (this) {
+                localSpreadRecordNonDiscriminatedUnions = this.spreadRecordNonDiscriminatedUnions;
+                if (localSpreadRecordNonDiscriminatedUnions == null) {
+                    localSpreadRecordNonDiscriminatedUnions = new SpreadRecordNonDiscriminatedUnionsImpl(this);
+                    this.spreadRecordNonDiscriminatedUnions = localSpreadRecordNonDiscriminatedUnions;
+                }
+            }
+        }
+        return localSpreadRecordNonDiscriminatedUnions;
     }
 
     /**
      * The SpreadRecordNonDiscriminatedUnion2sImpl object to access its operations.
      */
-    private final SpreadRecordNonDiscriminatedUnion2sImpl spreadRecordNonDiscriminatedUnion2s;
+    private volatile SpreadRecordNonDiscriminatedUnion2sImpl spreadRecordNonDiscriminatedUnion2s;
 
     /**
      * Gets the SpreadRecordNonDiscriminatedUnion2sImpl object to access its operations.
@@ -466,13 +758,24 @@ public final class AdditionalPropertiesClientImpl {
      * @return the SpreadRecordNonDiscriminatedUnion2sImpl object.
      */
     public SpreadRecordNonDiscriminatedUnion2sImpl getSpreadRecordNonDiscriminatedUnion2s() {
-        return this.spreadRecordNonDiscriminatedUnion2s;
+        SpreadRecordNonDiscriminatedUnion2sImpl localSpreadRecordNonDiscriminatedUnion2s
+            = this.spreadRecordNonDiscriminatedUnion2s;
+        if (localSpreadRecordNonDiscriminatedUnion2s == null) {
+            synchronized (this) {
+                localSpreadRecordNonDiscriminatedUnion2s = this.spreadRecordNonDiscriminatedUnion2s;
+                if (localSpreadRecordNonDiscriminatedUnion2s == null) {
+                    localSpreadRecordNonDiscriminatedUnion2s = new SpreadRecordNonDiscriminatedUnion2sImpl(this);
+                    this.spreadRecordNonDiscriminatedUnion2s = localSpreadRecordNonDiscriminatedUnion2s;
+                }
+            }
+        }
+        return localSpreadRecordNonDiscriminatedUnion2s;
     }
 
     /**
      * The SpreadRecordNonDiscriminatedUnion3sImpl object to access its operations.
      */
-    private final SpreadRecordNonDiscriminatedUnion3sImpl spreadRecordNonDiscriminatedUnion3s;
+    private volatile SpreadRecordNonDiscriminatedUnion3sImpl spreadRecordNonDiscriminatedUnion3s;
 
     /**
      * Gets the SpreadRecordNonDiscriminatedUnion3sImpl object to access its operations.
@@ -480,7 +783,18 @@ public final class AdditionalPropertiesClientImpl {
      * @return the SpreadRecordNonDiscriminatedUnion3sImpl object.
      */
     public SpreadRecordNonDiscriminatedUnion3sImpl getSpreadRecordNonDiscriminatedUnion3s() {
-        return this.spreadRecordNonDiscriminatedUnion3s;
+        SpreadRecordNonDiscriminatedUnion3sImpl localSpreadRecordNonDiscriminatedUnion3s
+            = this.spreadRecordNonDiscriminatedUnion3s;
+        if (localSpreadRecordNonDiscriminatedUnion3s == null) {
+            synchronized (this) {
+                localSpreadRecordNonDiscriminatedUnion3s = this.spreadRecordNonDiscriminatedUnion3s;
+                if (localSpreadRecordNonDiscriminatedUnion3s == null) {
+                    localSpreadRecordNonDiscriminatedUnion3s = new SpreadRecordNonDiscriminatedUnion3sImpl(this);
+                    this.spreadRecordNonDiscriminatedUnion3s = localSpreadRecordNonDiscriminatedUnion3s;
+                }
+            }
+        }
+        return localSpreadRecordNonDiscriminatedUnion3s;
     }
 
     /**
@@ -494,36 +808,5 @@ public final class AdditionalPropertiesClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.extendsUnknowns = new ExtendsUnknownsImpl(this);
-        this.extendsUnknownDeriveds = new ExtendsUnknownDerivedsImpl(this);
-        this.extendsUnknownDiscriminateds = new ExtendsUnknownDiscriminatedsImpl(this);
-        this.isUnknowns = new IsUnknownsImpl(this);
-        this.isUnknownDeriveds = new IsUnknownDerivedsImpl(this);
-        this.isUnknownDiscriminateds = new IsUnknownDiscriminatedsImpl(this);
-        this.extendsStrings = new ExtendsStringsImpl(this);
-        this.isStrings = new IsStringsImpl(this);
-        this.spreadStrings = new SpreadStringsImpl(this);
-        this.extendsFloats = new ExtendsFloatsImpl(this);
-        this.isFloats = new IsFloatsImpl(this);
-        this.spreadFloats = new SpreadFloatsImpl(this);
-        this.extendsModels = new ExtendsModelsImpl(this);
-        this.isModels = new IsModelsImpl(this);
-        this.spreadModels = new SpreadModelsImpl(this);
-        this.extendsModelArrays = new ExtendsModelArraysImpl(this);
-        this.isModelArrays = new IsModelArraysImpl(this);
-        this.spreadModelArrays = new SpreadModelArraysImpl(this);
-        this.spreadDifferentStrings = new SpreadDifferentStringsImpl(this);
-        this.spreadDifferentFloats = new SpreadDifferentFloatsImpl(this);
-        this.spreadDifferentModels = new SpreadDifferentModelsImpl(this);
-        this.spreadDifferentModelArrays = new SpreadDifferentModelArraysImpl(this);
-        this.extendsDifferentSpreadStrings = new ExtendsDifferentSpreadStringsImpl(this);
-        this.extendsDifferentSpreadFloats = new ExtendsDifferentSpreadFloatsImpl(this);
-        this.extendsDifferentSpreadModels = new ExtendsDifferentSpreadModelsImpl(this);
-        this.extendsDifferentSpreadModelArrays = new ExtendsDifferentSpreadModelArraysImpl(this);
-        this.multipleSpreads = new MultipleSpreadsImpl(this);
-        this.spreadRecordUnions = new SpreadRecordUnionsImpl(this);
-        this.spreadRecordNonDiscriminatedUnions = new SpreadRecordNonDiscriminatedUnionsImpl(this);
-        this.spreadRecordNonDiscriminatedUnion2s = new SpreadRecordNonDiscriminatedUnion2sImpl(this);
-        this.spreadRecordNonDiscriminatedUnion3s = new SpreadRecordNonDiscriminatedUnion3sImpl(this);
     }
 }
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.additionalproperties.DifferentSpreadModelArrayDerived;
 
 /**
@@ -54,16 +53,8 @@ public final class ExtendsDifferentSpreadModelArraysImpl {
     @ServiceInterface(name = "AdditionalPropertiesClientExtendsDifferentSpreadModelArrays", host = "{endpoint}")
     public interface ExtendsDifferentSpreadModelArraysService {
         static ExtendsDifferentSpreadModelArraysService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName(
-                    "type.property.additionalproperties.implementation.ExtendsDifferentSpreadModelArraysServiceImpl");
-                return (ExtendsDifferentSpreadModelArraysService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.additionalproperties.implementation.ExtendsDifferentSpreadModelArraysServiceImpl
+                .getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
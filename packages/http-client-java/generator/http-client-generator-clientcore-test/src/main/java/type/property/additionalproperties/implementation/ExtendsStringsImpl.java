@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.additionalproperties.ExtendsStringAdditionalProperties;
 
 /**
@@ -54,16 +53,7 @@ public final class ExtendsStringsImpl {
     @ServiceInterface(name = "AdditionalPropertiesClientExtendsStrings", host = "{endpoint}")
     public interface ExtendsStringsService {
         static ExtendsStringsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("type.property.additionalproperties.implementation.ExtendsStringsServiceImpl");
-                return (ExtendsStringsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.additionalproperties.implementation.ExtendsStringsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.additionalproperties.ExtendsUnknownAdditionalPropertiesDiscriminated;
 
 /**
@@ -54,16 +53,8 @@ public final class ExtendsUnknownDiscriminatedsImpl {
     @ServiceInterface(name = "AdditionalPropertiesClientExtendsUnknownDiscriminateds", host = "{endpoint}")
     public interface ExtendsUnknownDiscriminatedsService {
         static ExtendsUnknownDiscriminatedsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName(
-                    "type.property.additionalproperties.implementation.ExtendsUnknownDiscriminatedsServiceImpl");
-                return (ExtendsUnknownDiscriminatedsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.additionalproperties.implementation.ExtendsUnknownDiscriminatedsServiceImpl
+                .getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
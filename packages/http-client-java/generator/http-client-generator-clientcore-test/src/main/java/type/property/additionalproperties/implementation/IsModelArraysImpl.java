@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.additionalproperties.IsModelArrayAdditionalProperties;
 
 /**
@@ -54,16 +53,7 @@ public final class IsModelArraysImpl {
     @ServiceInterface(name = "AdditionalPropertiesClientIsModelArrays", host = "{endpoint}")
     public interface IsModelArraysService {
         static IsModelArraysService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("type.property.additionalproperties.implementation.IsModelArraysServiceImpl");
-                return (IsModelArraysService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.additionalproperties.implementation.IsModelArraysServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.additionalproperties.IsModelAdditionalProperties;
 
 /**
@@ -54,14 +53,7 @@ public final class IsModelsImpl {
     @ServiceInterface(name = "AdditionalPropertiesClientIsModels", host = "{endpoint}")
     public interface IsModelsService {
         static IsModelsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.additionalproperties.implementation.IsModelsServiceImpl");
-                return (IsModelsService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.additionalproperties.implementation.IsModelsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.additionalproperties.IsStringAdditionalProperties;
 
 /**
@@ -54,15 +53,7 @@ public final class IsStringsImpl {
     @ServiceInterface(name = "AdditionalPropertiesClientIsStrings", host = "{endpoint}")
     public interface IsStringsService {
         static IsStringsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("type.property.additionalproperties.implementation.IsStringsServiceImpl");
-                return (IsStringsService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.additionalproperties.implementation.IsStringsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.additionalproperties.IsUnknownAdditionalPropertiesDerived;
 
 /**
@@ -54,16 +53,8 @@ public final class IsUnknownDerivedsImpl {
     @ServiceInterface(name = "AdditionalPropertiesClientIsUnknownDeriveds", host = "{endpoint}")
     public interface IsUnknownDerivedsService {
         static IsUnknownDerivedsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("type.property.additionalproperties.implementation.IsUnknownDerivedsServiceImpl");
-                return (IsUnknownDerivedsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.additionalproperties.implementation.IsUnknownDerivedsServiceImpl
+                .getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.additionalproperties.IsUnknownAdditionalProperties;
 
 /**
@@ -54,15 +53,7 @@ public final class IsUnknownsImpl {
     @ServiceInterface(name = "AdditionalPropertiesClientIsUnknowns", host = "{endpoint}")
     public interface IsUnknownsService {
         static IsUnknownsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("type.property.additionalproperties.implementation.IsUnknownsServiceImpl");
-                return (IsUnknownsService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.additionalproperties.implementation.IsUnknownsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
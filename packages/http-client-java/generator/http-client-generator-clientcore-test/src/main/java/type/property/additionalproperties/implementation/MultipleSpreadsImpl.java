@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.additionalproperties.MultipleSpreadRecord;
 
 /**
@@ -54,16 +53,8 @@ public final class MultipleSpreadsImpl {
     @ServiceInterface(name = "AdditionalPropertiesClientMultipleSpreads", host = "{endpoint}")
     public interface MultipleSpreadsService {
         static MultipleSpreadsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("type.property.additionalproperties.implementation.MultipleSpreadsServiceImpl");
-                return (MultipleSpreadsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.additionalproperties.implementation.MultipleSpreadsServiceImpl
+                .getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.additionalproperties.SpreadRecordForNonDiscriminatedUnion2;
 
 /**
@@ -54,17 +53,8 @@ public final class SpreadRecordNonDiscriminatedUnion2sImpl {
     @ServiceInterface(name = "AdditionalPropertiesClientSpreadRecordNonDiscriminatedUnion2s", host = "{endpoint}")
     public interface SpreadRecordNonDiscriminatedUnion2sService {
         static SpreadRecordNonDiscriminatedUnion2sService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName(
-                    "type.property.additionalproperties.implementation.SpreadRecordNonDiscriminatedUnion2sServiceImpl");
-                return (SpreadRecordNonDiscriminatedUnion2sService) clazz
-                    .getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.additionalproperties.implementation.SpreadRecordNonDiscriminatedUnion2sServiceImpl
+                .getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
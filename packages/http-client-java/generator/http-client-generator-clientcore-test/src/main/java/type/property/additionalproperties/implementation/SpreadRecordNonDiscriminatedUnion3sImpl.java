@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.additionalproperties.SpreadRecordForNonDiscriminatedUnion3;
 
 /**
@@ -54,17 +53,8 @@ public final class SpreadRecordNonDiscriminatedUnion3sImpl {
     @ServiceInterface(name = "AdditionalPropertiesClientSpreadRecordNonDiscriminatedUnion3s", host = "{endpoint}")
     public interface SpreadRecordNonDiscriminatedUnion3sService {
         static SpreadRecordNonDiscriminatedUnion3sService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName(
-                    "type.property.additionalproperties.implementation.SpreadRecordNonDiscriminatedUnion3sServiceImpl");
-                return (SpreadRecordNonDiscriminatedUnion3sService) clazz
-                    .getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.additionalproperties.implementation.SpreadRecordNonDiscriminatedUnion3sServiceImpl
+                .getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.additionalproperties.SpreadStringRecord;
 
 /**
@@ -54,16 +53,7 @@ public final class SpreadStringsImpl {
     @ServiceInterface(name = "AdditionalPropertiesClientSpreadStrings", host = "{endpoint}")
     public interface SpreadStringsService {
         static SpreadStringsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("type.property.additionalproperties.implementation.SpreadStringsServiceImpl");
-                return (SpreadStringsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.additionalproperties.implementation.SpreadStringsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
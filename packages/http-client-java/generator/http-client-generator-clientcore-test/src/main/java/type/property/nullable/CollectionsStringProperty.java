@@ -57,6 +57,12 @@ public final class CollectionsStringProperty implements JsonSerializable<Collect
                 public boolean isJsonMergePatch(CollectionsStringProperty model) {
                     return model.jsonMergePatch;
                 }
+
+                @Override
+                public JsonWriter toJsonMergePatch(CollectionsStringProperty model, JsonWriter jsonWriter)
+                    throws IOException {
+                    return model.toJsonMergePatch(jsonWriter);
+                }
             });
     }
 
@@ -126,8 +132,7 @@ public final class CollectionsStringProperty implements JsonSerializable<Collect
         } else {
             jsonWriter.writeStartObject();
             jsonWriter.writeStringField("requiredProperty", this.requiredProperty);
-            jsonWriter.writeArrayField("nullableProperty", this.nullableProperty,
-                (writer, element) -> writer.writeString(element));
+            jsonWriter.writeArrayField("nullableProperty", this.nullableProperty, JsonWriter::writeString);
             return jsonWriter.writeEndObject();
         }
     }
@@ -146,8 +151,7 @@ public final class CollectionsStringProperty implements JsonSerializable<Collect
             if (this.nullableProperty == null) {
                 jsonWriter.writeNullField("nullableProperty");
             } else {
-                jsonWriter.writeArrayField("nullableProperty", this.nullableProperty,
-                    (writer, element) -> writer.writeString(element));
+                jsonWriter.writeArrayField("nullableProperty", this.nullableProperty, JsonWriter::writeString);
             }
         }
         return jsonWriter.writeEndObject();
@@ -172,7 +176,7 @@ public final class CollectionsStringProperty implements JsonSerializable<Collect
                 if ("requiredProperty".equals(fieldName)) {
                     deserializedCollectionsStringProperty.requiredProperty = reader.getString();
                 } else if ("nullableProperty".equals(fieldName)) {
-                    List<String> nullableProperty = reader.readArray(reader1 -> reader1.getString());
+                    List<String> nullableProperty = reader.readArray(JsonReader::getString);
                     deserializedCollectionsStringProperty.nullableProperty = nullableProperty;
                 } else {
                     reader.skipChildren();
@@ -57,6 +57,11 @@ public final class DatetimeProperty implements JsonSerializable<DatetimeProperty
             public boolean isJsonMergePatch(DatetimeProperty model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(DatetimeProperty model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
@@ -54,6 +54,13 @@ public final class NullableClientBuilder implements HttpTrait<NullableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the NullableClientBuilder.
      */
@@ -74,6 +81,7 @@ public final class NullableClientBuilder implements HttpTrait<NullableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public NullableClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -90,6 +98,7 @@ public final class NullableClientBuilder implements HttpTrait<NullableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public NullableClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -100,6 +109,7 @@ public final class NullableClientBuilder implements HttpTrait<NullableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public NullableClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -117,6 +127,7 @@ public final class NullableClientBuilder implements HttpTrait<NullableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public NullableClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -133,6 +144,7 @@ public final class NullableClientBuilder implements HttpTrait<NullableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public NullableClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -149,6 +161,7 @@ public final class NullableClientBuilder implements HttpTrait<NullableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public NullableClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -165,6 +178,7 @@ public final class NullableClientBuilder implements HttpTrait<NullableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public NullableClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -181,6 +195,7 @@ public final class NullableClientBuilder implements HttpTrait<NullableClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public NullableClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -203,7 +218,7 @@ public final class NullableClientBuilder implements HttpTrait<NullableClientBuil
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        NullableClientImpl client = new NullableClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        NullableClientImpl client = new NullableClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -230,6 +245,15 @@ public final class NullableClientBuilder implements HttpTrait<NullableClientBuil
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of StringOperationClient class.
      * 
@@ -54,6 +54,11 @@ public final class StringProperty implements JsonSerializable<StringProperty> {
             public boolean isJsonMergePatch(StringProperty model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(StringProperty model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.nullable.CollectionsByteProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class CollectionsBytesImpl {
     @ServiceInterface(name = "NullableClientCollectionsBytes", host = "{endpoint}")
     public interface CollectionsBytesService {
         static CollectionsBytesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.nullable.implementation.CollectionsBytesServiceImpl");
-                return (CollectionsBytesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.nullable.implementation.CollectionsBytesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
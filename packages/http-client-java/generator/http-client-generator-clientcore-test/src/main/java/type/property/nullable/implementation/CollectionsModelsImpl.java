@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.nullable.CollectionsModelProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class CollectionsModelsImpl {
     @ServiceInterface(name = "NullableClientCollectionsModels", host = "{endpoint}")
     public interface CollectionsModelsService {
         static CollectionsModelsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.nullable.implementation.CollectionsModelsServiceImpl");
-                return (CollectionsModelsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.nullable.implementation.CollectionsModelsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
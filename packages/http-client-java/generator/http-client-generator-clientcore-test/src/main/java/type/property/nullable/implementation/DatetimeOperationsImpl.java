@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.nullable.DatetimeProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class DatetimeOperationsImpl {
     @ServiceInterface(name = "NullableClientDatetimeOperations", host = "{endpoint}")
     public interface DatetimeOperationsService {
         static DatetimeOperationsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.nullable.implementation.DatetimeOperationsServiceImpl");
-                return (DatetimeOperationsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.nullable.implementation.DatetimeOperationsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.nullable.DurationProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class DurationOperationsImpl {
     @ServiceInterface(name = "NullableClientDurationOperations", host = "{endpoint}")
     public interface DurationOperationsService {
         static DurationOperationsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.nullable.implementation.DurationOperationsServiceImpl");
-                return (DurationOperationsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.nullable.implementation.DurationOperationsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -1,5 +1,7 @@
 package type.property.nullable.implementation;
 
+import io.clientcore.core.serialization.json.JsonWriter;
+import java.io.IOException;
 import type.property.nullable.BytesProperty;
 import type.property.nullable.CollectionsByteProperty;
 import type.property.nullable.CollectionsModelProperty;
@@ -19,6 +21,8 @@ public class JsonMergePatchHelper {
         StringProperty prepareModelForJsonMergePatch(StringProperty stringProperty, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(StringProperty stringProperty);
+
+        JsonWriter toJsonMergePatch(StringProperty stringProperty, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setStringPropertyAccessor(StringPropertyAccessor accessor) {
@@ -35,6 +39,8 @@ public class JsonMergePatchHelper {
         BytesProperty prepareModelForJsonMergePatch(BytesProperty bytesProperty, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(BytesProperty bytesProperty);
+
+        JsonWriter toJsonMergePatch(BytesProperty bytesProperty, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setBytesPropertyAccessor(BytesPropertyAccessor accessor) {
@@ -52,6 +58,8 @@ public class JsonMergePatchHelper {
             boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(DatetimeProperty datetimeProperty);
+
+        JsonWriter toJsonMergePatch(DatetimeProperty datetimeProperty, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setDatetimePropertyAccessor(DatetimePropertyAccessor accessor) {
@@ -69,6 +77,8 @@ public class JsonMergePatchHelper {
             boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(DurationProperty durationProperty);
+
+        JsonWriter toJsonMergePatch(DurationProperty durationProperty, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setDurationPropertyAccessor(DurationPropertyAccessor accessor) {
@@ -86,6 +96,9 @@ public class JsonMergePatchHelper {
             boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(CollectionsByteProperty collectionsByteProperty);
+
+        JsonWriter toJsonMergePatch(CollectionsByteProperty collectionsByteProperty, JsonWriter jsonWriter)
+            throws IOException;
     }
 
     public static void setCollectionsBytePropertyAccessor(CollectionsBytePropertyAccessor accessor) {
@@ -103,6 +116,9 @@ public class JsonMergePatchHelper {
             boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(CollectionsModelProperty collectionsModelProperty);
+
+        JsonWriter toJsonMergePatch(CollectionsModelProperty collectionsModelProperty, JsonWriter jsonWriter)
+            throws IOException;
     }
 
     public static void setCollectionsModelPropertyAccessor(CollectionsModelPropertyAccessor accessor) {
@@ -119,6 +135,8 @@ public class JsonMergePatchHelper {
         InnerModel prepareModelForJsonMergePatch(InnerModel innerModel, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(InnerModel innerModel);
+
+        JsonWriter toJsonMergePatch(InnerModel innerModel, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setInnerModelAccessor(InnerModelAccessor accessor) {
@@ -136,6 +154,9 @@ public class JsonMergePatchHelper {
             boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(CollectionsStringProperty collectionsStringProperty);
+
+        JsonWriter toJsonMergePatch(CollectionsStringProperty collectionsStringProperty, JsonWriter jsonWriter)
+            throws IOException;
     }
 
     public static void setCollectionsStringPropertyAccessor(CollectionsStringPropertyAccessor accessor) {
@@ -18,6 +18,8 @@ public enum BooleanLiteralPropertyProperty {
         this.value = value;
     }
 
+    private static final BooleanLiteralPropertyProperty[] VALUES = values();
+
     /**
      * Parses a serialized value to a BooleanLiteralPropertyProperty instance.
      * 
@@ -25,8 +27,7 @@ public enum BooleanLiteralPropertyProperty {
      * @return the parsed BooleanLiteralPropertyProperty object, or null if unable to parse.
      */
     public static BooleanLiteralPropertyProperty fromBoolean(boolean value) {
-        BooleanLiteralPropertyProperty[] items = BooleanLiteralPropertyProperty.values();
-        for (BooleanLiteralPropertyProperty item : items) {
+        for (BooleanLiteralPropertyProperty item : VALUES) {
             if (item.toBoolean() == value) {
                 return item;
             }
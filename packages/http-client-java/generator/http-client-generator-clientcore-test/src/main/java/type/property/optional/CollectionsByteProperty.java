@@ -56,7 +56,7 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("property", this.property, (writer, element) -> writer.writeBinary(element));
+        jsonWriter.writeArrayField("property", this.property, JsonWriter::writeBinary);
         return jsonWriter.writeEndObject();
     }
 
@@ -77,7 +77,7 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
                 reader.nextToken();
 
                 if ("property".equals(fieldName)) {
-                    List<byte[]> property = reader.readArray(reader1 -> reader1.getBinary());
+                    List<byte[]> property = reader.readArray(JsonReader::getBinary);
                     deserializedCollectionsByteProperty.property = property;
                 } else {
                     reader.skipChildren();
@@ -56,7 +56,7 @@ public final class CollectionsModelProperty implements JsonSerializable<Collecti
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("property", this.property, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("property", this.property, JsonWriter::writeJson);
         return jsonWriter.writeEndObject();
     }
 
@@ -77,7 +77,7 @@ public final class CollectionsModelProperty implements JsonSerializable<Collecti
                 reader.nextToken();
 
                 if ("property".equals(fieldName)) {
-                    List<StringProperty> property = reader.readArray(reader1 -> StringProperty.fromJson(reader1));
+                    List<StringProperty> property = reader.readArray(StringProperty::fromJson);
                     deserializedCollectionsModelProperty.property = property;
                 } else {
                     reader.skipChildren();
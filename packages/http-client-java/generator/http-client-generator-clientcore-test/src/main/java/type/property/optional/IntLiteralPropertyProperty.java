@@ -18,6 +18,8 @@ public enum IntLiteralPropertyProperty {
         this.value = value;
     }
 
+    private static final IntLiteralPropertyProperty[] VALUES = values();
+
     /**
      * Parses a serialized value to a IntLiteralPropertyProperty instance.
      * 
@@ -25,8 +27,7 @@ public enum IntLiteralPropertyProperty {
      * @return the parsed IntLiteralPropertyProperty object, or null if unable to parse.
      */
     public static IntLiteralPropertyProperty fromInt(int value) {
-        IntLiteralPropertyProperty[] items = IntLiteralPropertyProperty.values();
-        for (IntLiteralPropertyProperty item : items) {
+        for (IntLiteralPropertyProperty item : VALUES) {
             if (item.toInt() == value) {
                 return item;
             }
@@ -63,6 +63,13 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the OptionalClientBuilder.
      */
@@ -83,6 +90,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public OptionalClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -99,6 +107,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public OptionalClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -109,6 +118,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public OptionalClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -126,6 +136,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public OptionalClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -142,6 +153,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public OptionalClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -158,6 +170,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public OptionalClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -174,6 +187,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public OptionalClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -190,6 +204,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public OptionalClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -212,7 +227,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        OptionalClientImpl client = new OptionalClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        OptionalClientImpl client = new OptionalClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -239,6 +254,15 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of StringOperationClient class.
      * 
@@ -1,5 +1,9 @@
 package type.property.optional;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for StringLiteralPropertyProperty.
  */
@@ -18,6 +22,17 @@ public enum StringLiteralPropertyProperty {
         this.value = value;
     }
 
+    private static final Map<String, StringLiteralPropertyProperty> VALUES = new HashMap<>();
+
+    private static final Map<String, StringLiteralPropertyProperty> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (StringLiteralPropertyProperty item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a StringLiteralPropertyProperty instance.
      * 
@@ -28,13 +43,8 @@ public enum StringLiteralPropertyProperty {
         if (value == null) {
             return null;
         }
-        StringLiteralPropertyProperty[] items = StringLiteralPropertyProperty.values();
-        for (StringLiteralPropertyProperty item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        StringLiteralPropertyProperty item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -23,6 +23,8 @@ public enum UnionFloatLiteralPropertyProperty {
         this.value = value;
     }
 
+    private static final UnionFloatLiteralPropertyProperty[] VALUES = values();
+
     /**
      * Parses a serialized value to a UnionFloatLiteralPropertyProperty instance.
      * 
@@ -30,8 +32,7 @@ public enum UnionFloatLiteralPropertyProperty {
      * @return the parsed UnionFloatLiteralPropertyProperty object, or null if unable to parse.
      */
     public static UnionFloatLiteralPropertyProperty fromDouble(double value) {
-        UnionFloatLiteralPropertyProperty[] items = UnionFloatLiteralPropertyProperty.values();
-        for (UnionFloatLiteralPropertyProperty item : items) {
+        for (UnionFloatLiteralPropertyProperty item : VALUES) {
             if (Double.doubleToLongBits(item.toDouble()) == Double.doubleToLongBits(value)) {
                 return item;
             }
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.optional.BytesProperty;
 
 /**
@@ -54,14 +53,7 @@ public final class BytesImpl {
     @ServiceInterface(name = "OptionalClientBytes", host = "{endpoint}")
     public interface BytesService {
         static BytesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.optional.implementation.BytesServiceImpl");
-                return (BytesService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.optional.implementation.BytesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
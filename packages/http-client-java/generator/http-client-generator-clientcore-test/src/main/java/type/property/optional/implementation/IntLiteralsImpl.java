@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.optional.IntLiteralProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class IntLiteralsImpl {
     @ServiceInterface(name = "OptionalClientIntLiterals", host = "{endpoint}")
     public interface IntLiteralsService {
         static IntLiteralsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.optional.implementation.IntLiteralsServiceImpl");
-                return (IntLiteralsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.optional.implementation.IntLiteralsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -52,7 +52,7 @@ public final class OptionalClientImpl {
     /**
      * The StringOperationsImpl object to access its operations.
      */
-    private final StringOperationsImpl stringOperations;
+    private volatile StringOperationsImpl stringOperations;
 
     /**
      * Gets the StringOperationsImpl object to access its operations.
@@ -60,13 +60,23 @@ public final class OptionalClientImpl {
      * @return the StringOperationsImpl object.
      */
     public StringOperationsImpl getStringOperations() {
-        return this.stringOperations;
+        StringOperationsImpl localStringOperations = this.stringOperations;
+        if (localStringOperations == null) {
+            synchronized (this) {
+                localStringOperations = this.stringOperations;
+                if (localStringOperations == null) {
+                    localStringOperations = new StringOperationsImpl(this);
+                    this.stringOperations = localStringOperations;
+                }
+            }
+        }
+        return localStringOperations;
     }
 
     /**
      * The BytesImpl object to access its operations.
      */
-    private final BytesImpl bytes;
+    private volatile BytesImpl bytes;
 
     /**
      * Gets the BytesImpl object to access its operations.
@@ -74,13 +84,23 @@ public final class OptionalClientImpl {
      * @return the BytesImpl object.
      */
     public BytesImpl getBytes() {
-        return this.bytes;
+        BytesImpl localBytes = this.bytes;
+        if (localBytes == null) {
+            synchronized (this) {
+                localBytes = this.bytes;
+                if (localBytes == null) {
+                    localBytes = new BytesImpl(this);
+                    this.bytes = localBytes;
+                }
+            }
+        }
+        return localBytes;
     }
 
     /**
      * The DatetimeOperationsImpl object to access its operations.
      */
-    private final DatetimeOperationsImpl datetimeOperations;
+    private volatile DatetimeOperationsImpl datetimeOperations;
 
     /**
      * Gets the DatetimeOperationsImpl object to access its operations.
@@ -88,13 +108,23 @@ public final class OptionalClientImpl {
      * @return the DatetimeOperationsImpl object.
      */
     public DatetimeOperationsImpl getDatetimeOperations() {
-        return this.datetimeOperations;
+        DatetimeOperationsImpl localDatetimeOperations = this.datetimeOperations;
+        if (localDatetimeOperations == null) {
+            synchronized (this) {
+                localDatetimeOperations = this.datetimeOperations;
+                if (localDatetimeOperations == null) {
+                    localDatetimeOperations = new DatetimeOperationsImpl(this);
+                    this.datetimeOperations = localDatetimeOperations;
+                }
+            }
+        }
+        return localDatetimeOperations;
     }
 
     /**
      * The DurationOperationsImpl object to access its operations.
      */
-    private final DurationOperationsImpl durationOperations;
+    private volatile DurationOperationsImpl durationOperations;
 
     /**
      * Gets the DurationOperationsImpl object to access its operations.
@@ -102,13 +132,23 @@ public final class OptionalClientImpl {
      * @return the DurationOperationsImpl object.
      */
     public DurationOperationsImpl getDurationOperations() {
-        return this.durationOperations;
+        DurationOperationsImpl localDurationOperations = this.durationOperations;
+        if (localDurationOperations == null) {
+            synchronized (this) {
+                localDurationOperations = this.durationOperations;
+                if (localDurationOperations == null) {
+                    localDurationOperations = new DurationOperationsImpl(this);
+                    this.durationOperations = localDurationOperations;
+                }
+            }
+        }
+        return localDurationOperations;
     }
 
     /**
      * The PlainDatesImpl object to access its operations.
      */
-    private final PlainDatesImpl plainDates;
+    private volatile PlainDatesImpl plainDates;
 
     /**
      * Gets the PlainDatesImpl object to access its operations.
@@ -116,13 +156,23 @@ public final class OptionalClientImpl {
      * @return the PlainDatesImpl object.
      */
     public PlainDatesImpl getPlainDates() {
-        return this.plainDates;
+        PlainDatesImpl localPlainDates = this.plainDates;
+        if (localPlainDates == null) {
+            synchronized (this) {
+                localPlainDates = this.plainDates;
+                if (localPlainDates == null) {
+                    localPlainDates = new PlainDatesImpl(this);
+                    this.plainDates = localPlainDates;
+                }
+            }
+        }
+        return localPlainDates;
     }
 
     /**
      * The PlainTimesImpl object to access its operations.
      */
-    private final PlainTimesImpl plainTimes;
+    private volatile PlainTimesImpl plainTimes;
 
     /**
      * Gets the PlainTimesImpl object to access its operations.
@@ -130,13 +180,23 @@ public final class OptionalClientImpl {
      * @return the PlainTimesImpl object.
      */
     public PlainTimesImpl getPlainTimes() {
-        return this.plainTimes;
+        PlainTimesImpl localPlainTimes = this.plainTimes;
+        if (localPlainTimes == null) {
+            synchronized (this) {
+                localPlainTimes = this.plainTimes;
+                if (localPlainTimes == null) {
+                    localPlainTimes = new PlainTimesImpl(this);
+                    this.plainTimes = localPlainTimes;
+                }
+            }
+        }
+        return localPlainTimes;
     }
 
     /**
      * The CollectionsBytesImpl object to access its operations.
      */
-    private final CollectionsBytesImpl collectionsBytes;
+    private volatile CollectionsBytesImpl collectionsBytes;
 
     /**
      * Gets the CollectionsBytesImpl object to access its operations.
@@ -144,13 +204,23 @@ public final class OptionalClientImpl {
      * @return the CollectionsBytesImpl object.
      */
     public CollectionsBytesImpl getCollectionsBytes() {
-        return this.collectionsBytes;
+        CollectionsBytesImpl localCollectionsBytes = this.collectionsBytes;
+        if (localCollectionsBytes == null) {
+            synchronized (this) {
+                localCollectionsBytes = this.collectionsBytes;
+                if (localCollectionsBytes == null) {
+                    localCollectionsBytes = new CollectionsBytesImpl(this);
+                    this.collectionsBytes = localCollectionsBytes;
+                }
+            }
+        }
+        return localCollectionsBytes;
     }
 
     /**
      * The CollectionsModelsImpl object to access its operations.
      */
-    private final CollectionsModelsImpl collectionsModels;
+    private volatile CollectionsModelsImpl collectionsModels;
 
     /**
      * Gets the CollectionsModelsImpl object to access its operations.
@@ -158,13 +228,23 @@ public final class OptionalClientImpl {
      * @return the CollectionsModelsImpl object.
      */
     public CollectionsModelsImpl getCollectionsModels() {
-        return this.collectionsModels;
+        CollectionsModelsImpl localCollectionsModels = this.collectionsModels;
+        if (localCollectionsModels == null) {
+            synchronized (this) {
+                localCollectionsModels = this.collectionsModels;
+                if (localCollectionsModels == null) {
+                    localCollectionsModels = new CollectionsModelsImpl(this);
+                    this.collectionsModels = localCollectionsModels;
+                }
+            }
+        }
+        return localCollectionsModels;
     }
 
     /**
      * The StringLiteralsImpl object to access its operations.
      */
-    private final StringLiteralsImpl stringLiterals;
+    private volatile StringLiteralsImpl stringLiterals;
 
     /**
      * Gets the StringLiteralsImpl object to access its operations.
@@ -172,13 +252,23 @@ public final class OptionalClientImpl {
      * @return the StringLiteralsImpl object.
      */
     public StringLiteralsImpl getStringLiterals() {
-        return this.stringLiterals;
+        StringLiteralsImpl localStringLiterals = this.stringLiterals;
+        if (localStringLiterals == null) {
+            synchronized (this) {
+                localStringLiterals = this.stringLiterals;
+                if (localStringLiterals == null) {
+                    localStringLiterals = new StringLiteralsImpl(this);
+                    this.stringLiterals = localStringLiterals;
+                }
+            }
+        }
+        return localStringLiterals;
     }
 
     /**
      * The IntLiteralsImpl object to access its operations.
      */
-    private final IntLiteralsImpl intLiterals;
+    private volatile IntLiteralsImpl intLiterals;
 
     /**
      * Gets the IntLiteralsImpl object to access its operations.
@@ -186,13 +276,23 @@ public final class OptionalClientImpl {
      * @return the IntLiteralsImpl object.
      */
     public IntLiteralsImpl getIntLiterals() {
-        return this.intLiterals;
+        IntLiteralsImpl localIntLiterals = this.intLiterals;
+        if (localIntLiterals == null) {
+            synchronized (this) {
+                localIntLiterals = this.intLiterals;
+                if (localIntLiterals == null) {
+                    localIntLiterals = new IntLiteralsImpl(this);
+                    this.intLiterals = localIntLiterals;
+                }
+            }
+        }
+        return localIntLiterals;
     }
 
     /**
      * The FloatLiteralsImpl object to access its operations.
      */
-    private final FloatLiteralsImpl floatLiterals;
+    private volatile FloatLiteralsImpl floatLiterals;
 
     /**
      * Gets the FloatLiteralsImpl object to access its operations.
@@ -200,13 +300,23 @@ public final class OptionalClientImpl {
      * @return the FloatLiteralsImpl object.
      */
     public FloatLiteralsImpl getFloatLiterals() {
-        return this.floatLiterals;
+        FloatLiteralsImpl localFloatLiterals = this.floatLiterals;
+        if (localFloatLiterals == null) {
+            synchronized (this) {
+                localFloatLiterals = this.floatLiterals;
+                if (localFloatLiterals == null) {
+                    localFloatLiterals = new FloatLiteralsImpl(this);
+                    this.floatLiterals = localFloatLiterals;
+                }
+            }
+        }
+        return localFloatLiterals;
     }
 
     /**
      * The BooleanLiteralsImpl object to access its operations.
      */
-    private final BooleanLiteralsImpl booleanLiterals;
+    private volatile BooleanLiteralsImpl booleanLiterals;
 
     /**
      * Gets the BooleanLiteralsImpl object to access its operations.
@@ -214,13 +324,23 @@ public final class OptionalClientImpl {
      * @return the BooleanLiteralsImpl object.
      */
     public BooleanLiteralsImpl getBooleanLiterals() {
-        return this.booleanLiterals;
+        BooleanLiteralsImpl localBooleanLiterals = this.booleanLiterals;
+        if (localBooleanLiterals == null) {
+            synchronized (this) {
+                localBooleanLiterals = this.booleanLiterals;
+                if (localBooleanLiterals == null) {
+                    localBooleanLiterals = new BooleanLiteralsImpl(this);
+                    this.booleanLiterals = localBooleanLiterals;
+                }
+            }
+        }
+        return localBooleanLiterals;
     }
 
     /**
      * The UnionStringLiteralsImpl object to access its operations.
      */
-    private final UnionStringLiteralsImpl unionStringLiterals;
+    private volatile UnionStringLiteralsImpl unionStringLiterals;
 
     /**
      * Gets the UnionStringLiteralsImpl object to access its operations.
@@ -228,13 +348,23 @@ public final class OptionalClientImpl {
      * @return the UnionStringLiteralsImpl object.
      */
     public UnionStringLiteralsImpl getUnionStringLiterals() {
-        return this.unionStringLiterals;
+        UnionStringLiteralsImpl localUnionStringLiterals = this.unionStringLiterals;
+        if (localUnionStringLiterals == null) {
+            synchronized (this) {
+                localUnionStringLiterals = this.unionStringLiterals;
+                if (localUnionStringLiterals == null) {
+                    localUnionStringLiterals = new UnionStringLiteralsImpl(this);
+                    this.unionStringLiterals = localUnionStringLiterals;
+                }
+            }
+        }
+        return localUnionStringLiterals;
     }
 
     /**
      * The UnionIntLiteralsImpl object to access its operations.
      */
-    private final UnionIntLiteralsImpl unionIntLiterals;
+    private volatile UnionIntLiteralsImpl unionIntLiterals;
 
     /**
      * Gets the UnionIntLiteralsImpl object to access its operations.
@@ -242,13 +372,23 @@ public final class OptionalClientImpl {
      * @return the UnionIntLiteralsImpl object.
      */
     public UnionIntLiteralsImpl getUnionIntLiterals() {
-        return this.unionIntLiterals;
+        UnionIntLiteralsImpl localUnionIntLiterals = this.unionIntLiterals;
+        if (localUnionIntLiterals == null) {
+            synchronized (this) {
+                localUnionIntLiterals = this.unionIntLiterals;
+                if (localUnionIntLiterals == null) {
+                    localUnionIntLiterals = new UnionIntLiteralsImpl(this);
+                    this.unionIntLiterals = localUnionIntLiterals;
+                }
+            }
+        }
+        return localUnionIntLiterals;
     }
 
     /**
      * The UnionFloatLiteralsImpl object to access its operations.
      */
-    private final UnionFloatLiteralsImpl unionFloatLiterals;
+    private volatile UnionFloatLiteralsImpl unionFloatLiterals;
 
     /**
      * Gets the UnionFloatLiteralsImpl object to access its operations.
@@ -256,13 +396,23 @@ public final class OptionalClientImpl {
      * @return the UnionFloatLiteralsImpl object.
      */
     public UnionFloatLiteralsImpl getUnionFloatLiterals() {
-        return this.unionFloatLiterals;
+        UnionFloatLiteralsImpl localUnionFloatLiterals = this.unionFloatLiterals;
+        if (localUnionFloatLiterals == null) {
+            synchronized (this) {
+                localUnionFloatLiterals = this.unionFloatLiterals;
+                if (localUnionFloatLiterals == null) {
+                    localUnionFloatLiterals = new UnionFloatLiteralsImpl(this);
+                    this.unionFloatLiterals = localUnionFloatLiterals;
+                }
+            }
+        }
+        return localUnionFloatLiterals;
     }
 
     /**
      * The RequiredAndOptionalsImpl object to access its operations.
      */
-    private final RequiredAndOptionalsImpl requiredAndOptionals;
+    private volatile RequiredAndOptionalsImpl requiredAndOptionals;
 
     /**
      * Gets the RequiredAndOptionalsImpl object to access its operations.
@@ -270,7 +420,17 @@ public final class OptionalClientImpl {
      * @return the RequiredAndOptionalsImpl object.
      */
     public RequiredAndOptionalsImpl getRequiredAndOptionals() {
-        return this.requiredAndOptionals;
+        RequiredAndOptionalsImpl localRequiredAndOptionals = this.requiredAndOptionals;
+        if (localRequiredAndOptionals == null) {
+            synchronized (this) {
+                localRequiredAndOptionals = this.requiredAndOptionals;
+                if (localRequiredAndOptionals == null) {
+                    localRequiredAndOptionals = new RequiredAndOptionalsImpl(this);
+                    this.requiredAndOptionals = localRequiredAndOptionals;
+                }
+            }
+        }
+        return localRequiredAndOptionals;
     }
 
     /**
@@ -284,21 +444,5 @@ public final class OptionalClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.stringOperations = new StringOperationsImpl(this);
-        this.bytes = new BytesImpl(this);
-        this.datetimeOperations = new DatetimeOperationsImpl(this);
-        this.durationOperations = new DurationOperationsImpl(this);
-        this.plainDates = new PlainDatesImpl(this);
-        this.plainTimes = new PlainTimesImpl(this);
-        this.collectionsBytes = new CollectionsBytesImpl(this);
-        this.collectionsModels = new CollectionsModelsImpl(this);
-        this.stringLiterals = new StringLiteralsImpl(this);
-        this.intLiterals = new IntLiteralsImpl(this);
-        this.floatLiterals = new FloatLiteralsImpl(this);
-        this.booleanLiterals = new BooleanLiteralsImpl(this);
-        this.unionStringLiterals = new UnionStringLiteralsImpl(this);
-        this.unionIntLiterals = new UnionIntLiteralsImpl(this);
-        this.unionFloatLiterals = new UnionFloatLiteralsImpl(this);
-        this.requiredAndOptionals = new RequiredAndOptionalsImpl(this);
     }
 }
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.optional.RequiredAndOptionalProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class RequiredAndOptionalsImpl {
     @ServiceInterface(name = "OptionalClientRequiredAndOptionals", host = "{endpoint}")
     public interface RequiredAndOptionalsService {
         static RequiredAndOptionalsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.optional.implementation.RequiredAndOptionalsServiceImpl");
-                return (RequiredAndOptionalsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.optional.implementation.RequiredAndOptionalsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.optional.UnionFloatLiteralProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class UnionFloatLiteralsImpl {
     @ServiceInterface(name = "OptionalClientUnionFloatLiterals", host = "{endpoint}")
     public interface UnionFloatLiteralsService {
         static UnionFloatLiteralsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.optional.implementation.UnionFloatLiteralsServiceImpl");
-                return (UnionFloatLiteralsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.optional.implementation.UnionFloatLiteralsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
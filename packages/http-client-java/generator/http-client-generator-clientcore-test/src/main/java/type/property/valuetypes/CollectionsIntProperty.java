@@ -47,7 +47,7 @@ public final class CollectionsIntProperty implements JsonSerializable<Collection
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("property", this.property, (writer, element) -> writer.writeInt(element));
+        jsonWriter.writeArrayField("property", this.property, JsonWriter::writeInt);
         return jsonWriter.writeEndObject();
     }
 
@@ -69,7 +69,7 @@ public final class CollectionsIntProperty implements JsonSerializable<Collection
                 reader.nextToken();
 
                 if ("property".equals(fieldName)) {
-                    property = reader.readArray(reader1 -> reader1.getInt());
+                    property = reader.readArray(JsonReader::getInt);
                 } else {
                     reader.skipChildren();
                 }
@@ -47,7 +47,7 @@ public final class CollectionsStringProperty implements JsonSerializable<Collect
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("property", this.property, (writer, element) -> writer.writeString(element));
+        jsonWriter.writeArrayField("property", this.property, JsonWriter::writeString);
         return jsonWriter.writeEndObject();
     }
 
@@ -69,7 +69,7 @@ public final class CollectionsStringProperty implements JsonSerializable<Collect
                 reader.nextToken();
 
                 if ("property".equals(fieldName)) {
-                    property = reader.readArray(reader1 -> reader1.getString());
+                    property = reader.readArray(JsonReader::getString);
                 } else {
                     reader.skipChildren();
                 }
@@ -47,7 +47,7 @@ public final class DictionaryStringProperty implements JsonSerializable<Dictiona
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeMapField("property", this.property, (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("property", this.property, JsonWriter::writeString);
         return jsonWriter.writeEndObject();
     }
 
@@ -69,7 +69,7 @@ public final class DictionaryStringProperty implements JsonSerializable<Dictiona
                 reader.nextToken();
 
                 if ("property".equals(fieldName)) {
-                    property = reader.readMap(reader1 -> reader1.getString());
+                    property = reader.readMap(JsonReader::getString);
                 } else {
                     reader.skipChildren();
                 }
@@ -10,24 +10,28 @@ import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for ExtendedEnum.
  */
 public final class ExtendedEnum implements ExpandableEnum<String>, JsonSerializable<ExtendedEnum> {
-    private static final Map<String, ExtendedEnum> VALUES = new ConcurrentHashMap<>();
-
-    private static final Function<String, ExtendedEnum> NEW_INSTANCE = ExtendedEnum::new;
+    private static final Map<String, ExtendedEnum> VALUES = new HashMap<>();
 
     /**
      * Static value value2 for ExtendedEnum.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final ExtendedEnum ENUM_VALUE2 = fromValue("value2");
+    public static final ExtendedEnum ENUM_VALUE2 = addKnownValue("value2");
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static ExtendedEnum addKnownValue(String value) {
+        ExtendedEnum knownValue = new ExtendedEnum(value);
+        VALUES.put(value, knownValue);
+        return knownValue;
+    }
 
     private final String value;
 
@@ -36,7 +40,7 @@ public final class ExtendedEnum implements ExpandableEnum<String>, JsonSerializa
     }
 
     /**
-     * Creates or finds a ExtendedEnum.
+     * Finds a known ExtendedEnum, or creates a new ExtendedEnum if the value is not known.
      * 
      * @param value a value to look for.
      * @return the corresponding ExtendedEnum.
@@ -47,7 +51,8 @@ public final class ExtendedEnum implements ExpandableEnum<String>, JsonSerializa
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        ExtendedEnum knownValue = VALUES.get(value);
+        return knownValue != null ? knownValue : new ExtendedEnum(value);
     }
 
     /**
@@ -111,7 +116,7 @@ public final class ExtendedEnum implements ExpandableEnum<String>, JsonSerializa
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj || (obj instanceof ExtendedEnum && Objects.equals(this.value, ((ExtendedEnum) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
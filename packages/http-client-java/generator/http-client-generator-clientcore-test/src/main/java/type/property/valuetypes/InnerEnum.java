@@ -10,30 +10,34 @@ import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Enum that will be used as a property for model EnumProperty. Extensible.
  */
 public final class InnerEnum implements ExpandableEnum<String>, JsonSerializable<InnerEnum> {
-    private static final Map<String, InnerEnum> VALUES = new ConcurrentHashMap<>();
-
-    private static final Function<String, InnerEnum> NEW_INSTANCE = InnerEnum::new;
+    private static final Map<String, InnerEnum> VALUES = new HashMap<>();
 
     /**
      * First value.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final InnerEnum VALUE_ONE = fromValue("ValueOne");
+    public static final InnerEnum VALUE_ONE = addKnownValue("ValueOne");
 
     /**
      * Second value.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final InnerEnum VALUE_TWO = fromValue("ValueTwo");
+    public static final InnerEnum VALUE_TWO = addKnownValue("ValueTwo");
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static InnerEnum addKnownValue(String value) {
+        InnerEnum knownValue = new InnerEnum(value);
+        VALUES.put(value, knownValue);
+        return knownValue;
+    }
 
     private final String value;
 
@@ -42,7 +46,7 @@ public final class InnerEnum implements ExpandableEnum<String>, JsonSerializable
     }
 
     /**
-     * Creates or finds a InnerEnum.
+     * Finds a known InnerEnum, or creates a new InnerEnum if the value is not known.
      * 
      * @param value a value to look for.
      * @return the corresponding InnerEnum.
@@ -53,7 +57,8 @@ public final class InnerEnum implements ExpandableEnum<String>, JsonSerializable
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        InnerEnum knownValue = VALUES.get(value);
+        return knownValue != null ? knownValue : new InnerEnum(value);
     }
 
     /**
@@ -117,7 +122,7 @@ public final class InnerEnum implements ExpandableEnum<String>, JsonSerializable
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj || (obj instanceof InnerEnum && Objects.equals(this.value, ((InnerEnum) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
@@ -1,5 +1,9 @@
 package type.property.valuetypes;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for UnionStringLiteralPropertyProperty.
  */
@@ -23,6 +27,17 @@ public enum UnionStringLiteralPropertyProperty {
         this.value = value;
     }
 
+    private static final Map<String, UnionStringLiteralPropertyProperty> VALUES = new HashMap<>();
+
+    private static final Map<String, UnionStringLiteralPropertyProperty> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (UnionStringLiteralPropertyProperty item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a UnionStringLiteralPropertyProperty instance.
      * 
@@ -33,13 +48,8 @@ public enum UnionStringLiteralPropertyProperty {
         if (value == null) {
             return null;
         }
-        UnionStringLiteralPropertyProperty[] items = UnionStringLiteralPropertyProperty.values();
-        for (UnionStringLiteralPropertyProperty item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        UnionStringLiteralPropertyProperty item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
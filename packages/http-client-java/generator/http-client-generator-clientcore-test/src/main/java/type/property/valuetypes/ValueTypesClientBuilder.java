@@ -78,6 +78,13 @@ public final class ValueTypesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the ValueTypesClientBuilder.
      */
@@ -98,6 +105,7 @@ public final class ValueTypesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ValueTypesClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -114,6 +122,7 @@ public final class ValueTypesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ValueTypesClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -124,6 +133,7 @@ public final class ValueTypesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ValueTypesClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -141,6 +151,7 @@ public final class ValueTypesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ValueTypesClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -157,6 +168,7 @@ public final class ValueTypesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ValueTypesClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -173,6 +185,7 @@ public final class ValueTypesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ValueTypesClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -189,6 +202,7 @@ public final class ValueTypesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ValueTypesClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -205,6 +219,7 @@ public final class ValueTypesClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public ValueTypesClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -227,7 +242,8 @@ public final class ValueTypesClientBuilder
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        ValueTypesClientImpl client = new ValueTypesClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        ValueTypesClientImpl client
+            = new ValueTypesClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -254,6 +270,15 @@ public final class ValueTypesClientBuilder
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of BooleanOperationClient class.
      * 
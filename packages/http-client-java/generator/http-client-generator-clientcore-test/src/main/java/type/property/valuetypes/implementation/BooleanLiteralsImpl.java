@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.BooleanLiteralProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class BooleanLiteralsImpl {
     @ServiceInterface(name = "ValueTypesClientBooleanLiterals", host = "{endpoint}")
     public interface BooleanLiteralsService {
         static BooleanLiteralsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.valuetypes.implementation.BooleanLiteralsServiceImpl");
-                return (BooleanLiteralsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.BooleanLiteralsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
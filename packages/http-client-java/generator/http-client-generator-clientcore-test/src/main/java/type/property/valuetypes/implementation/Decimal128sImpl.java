@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.Decimal128Property;
 
 /**
@@ -54,15 +53,7 @@ public final class Decimal128sImpl {
     @ServiceInterface(name = "ValueTypesClientDecimal128s", host = "{endpoint}")
     public interface Decimal128sService {
         static Decimal128sService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.valuetypes.implementation.Decimal128sServiceImpl");
-                return (Decimal128sService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.Decimal128sServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.DecimalProperty;
 
 /**
@@ -54,14 +53,7 @@ public final class DecimalsImpl {
     @ServiceInterface(name = "ValueTypesClientDecimals", host = "{endpoint}")
     public interface DecimalsService {
         static DecimalsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.valuetypes.implementation.DecimalsServiceImpl");
-                return (DecimalsService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.DecimalsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
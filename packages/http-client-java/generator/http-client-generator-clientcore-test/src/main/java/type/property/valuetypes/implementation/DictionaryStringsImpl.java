@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.DictionaryStringProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class DictionaryStringsImpl {
     @ServiceInterface(name = "ValueTypesClientDictionaryStrings", host = "{endpoint}")
     public interface DictionaryStringsService {
         static DictionaryStringsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.valuetypes.implementation.DictionaryStringsServiceImpl");
-                return (DictionaryStringsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.DictionaryStringsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
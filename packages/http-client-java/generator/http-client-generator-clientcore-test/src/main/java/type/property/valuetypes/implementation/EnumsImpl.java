@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.EnumProperty;
 
 /**
@@ -54,14 +53,7 @@ public final class EnumsImpl {
     @ServiceInterface(name = "ValueTypesClientEnums", host = "{endpoint}")
     public interface EnumsService {
         static EnumsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.valuetypes.implementation.EnumsServiceImpl");
-                return (EnumsService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.EnumsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.IntLiteralProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class IntLiteralsImpl {
     @ServiceInterface(name = "ValueTypesClientIntLiterals", host = "{endpoint}")
     public interface IntLiteralsService {
         static IntLiteralsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.valuetypes.implementation.IntLiteralsServiceImpl");
-                return (IntLiteralsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.IntLiteralsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
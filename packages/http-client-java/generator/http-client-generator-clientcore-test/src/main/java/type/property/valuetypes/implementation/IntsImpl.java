@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.IntProperty;
 
 /**
@@ -54,14 +53,7 @@ public final class IntsImpl {
     @ServiceInterface(name = "ValueTypesClientInts", host = "{endpoint}")
     public interface IntsService {
         static IntsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.valuetypes.implementation.IntsServiceImpl");
-                return (IntsService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.IntsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
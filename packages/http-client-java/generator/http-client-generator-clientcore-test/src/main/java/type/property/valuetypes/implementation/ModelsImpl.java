@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.ModelProperty;
 
 /**
@@ -54,14 +53,7 @@ public final class ModelsImpl {
     @ServiceInterface(name = "ValueTypesClientModels", host = "{endpoint}")
     public interface ModelsService {
         static ModelsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.valuetypes.implementation.ModelsServiceImpl");
-                return (ModelsService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.ModelsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
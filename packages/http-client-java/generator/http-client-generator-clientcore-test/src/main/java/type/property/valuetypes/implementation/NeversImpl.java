@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.NeverProperty;
 
 /**
@@ -54,14 +53,7 @@ public final class NeversImpl {
     @ServiceInterface(name = "ValueTypesClientNevers", host = "{endpoint}")
     public interface NeversService {
         static NeversService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.valuetypes.implementation.NeversServiceImpl");
-                return (NeversService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.NeversServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
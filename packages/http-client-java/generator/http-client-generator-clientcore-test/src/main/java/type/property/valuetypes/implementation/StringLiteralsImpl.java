@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.StringLiteralProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class StringLiteralsImpl {
     @ServiceInterface(name = "ValueTypesClientStringLiterals", host = "{endpoint}")
     public interface StringLiteralsService {
         static StringLiteralsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.valuetypes.implementation.StringLiteralsServiceImpl");
-                return (StringLiteralsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.StringLiteralsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.UnionFloatLiteralProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class UnionFloatLiteralsImpl {
     @ServiceInterface(name = "ValueTypesClientUnionFloatLiterals", host = "{endpoint}")
     public interface UnionFloatLiteralsService {
         static UnionFloatLiteralsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.valuetypes.implementation.UnionFloatLiteralsServiceImpl");
-                return (UnionFloatLiteralsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.UnionFloatLiteralsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
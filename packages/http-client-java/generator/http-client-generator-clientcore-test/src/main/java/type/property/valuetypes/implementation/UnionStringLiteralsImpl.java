@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.UnionStringLiteralProperty;
 
 /**
@@ -54,16 +53,7 @@ public final class UnionStringLiteralsImpl {
     @ServiceInterface(name = "ValueTypesClientUnionStringLiterals", host = "{endpoint}")
     public interface UnionStringLiteralsService {
         static UnionStringLiteralsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("type.property.valuetypes.implementation.UnionStringLiteralsServiceImpl");
-                return (UnionStringLiteralsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.UnionStringLiteralsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.UnknownDictProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class UnknownDictsImpl {
     @ServiceInterface(name = "ValueTypesClientUnknownDicts", host = "{endpoint}")
     public interface UnknownDictsService {
         static UnknownDictsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.valuetypes.implementation.UnknownDictsServiceImpl");
-                return (UnknownDictsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.UnknownDictsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
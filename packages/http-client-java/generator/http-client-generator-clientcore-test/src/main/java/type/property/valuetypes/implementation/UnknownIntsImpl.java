@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.property.valuetypes.UnknownIntProperty;
 
 /**
@@ -54,15 +53,7 @@ public final class UnknownIntsImpl {
     @ServiceInterface(name = "ValueTypesClientUnknownInts", host = "{endpoint}")
     public interface UnknownIntsService {
         static UnknownIntsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.property.valuetypes.implementation.UnknownIntsServiceImpl");
-                return (UnknownIntsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.property.valuetypes.implementation.UnknownIntsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
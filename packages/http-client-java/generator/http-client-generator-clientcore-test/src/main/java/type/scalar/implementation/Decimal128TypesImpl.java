@@ -15,7 +15,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 
 /**
@@ -55,15 +54,7 @@ public final class Decimal128TypesImpl {
     @ServiceInterface(name = "ScalarClientDecimal128Types", host = "{endpoint}")
     public interface Decimal128TypesService {
         static Decimal128TypesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.scalar.implementation.Decimal128TypesServiceImpl");
-                return (Decimal128TypesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.scalar.implementation.Decimal128TypesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -55,15 +54,7 @@ public final class Decimal128VerifiesImpl {
     @ServiceInterface(name = "ScalarClientDecimal128Verifies", host = "{endpoint}")
     public interface Decimal128VerifiesService {
         static Decimal128VerifiesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.scalar.implementation.Decimal128VerifiesServiceImpl");
-                return (Decimal128VerifiesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.scalar.implementation.Decimal128VerifiesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -15,7 +15,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 
 /**
@@ -55,15 +54,7 @@ public final class DecimalTypesImpl {
     @ServiceInterface(name = "ScalarClientDecimalTypes", host = "{endpoint}")
     public interface DecimalTypesService {
         static DecimalTypesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.scalar.implementation.DecimalTypesServiceImpl");
-                return (DecimalTypesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.scalar.implementation.DecimalTypesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -52,7 +52,7 @@ public final class ScalarClientImpl {
     /**
      * The StringOperationsImpl object to access its operations.
      */
-    private final StringOperationsImpl stringOperations;
+    private volatile StringOperationsImpl stringOperations;
 
     /**
      * Gets the StringOperationsImpl object to access its operations.
@@ -60,13 +60,23 @@ public final class ScalarClientImpl {
      * @return the StringOperationsImpl object.
      */
     public StringOperationsImpl getStringOperations() {
-        return this.stringOperations;
+        StringOperationsImpl localStringOperations = this.stringOperations;
+        if (localStringOperations == null) {
+            synchronized (this) {
+                localStringOperations = this.stringOperations;
+                if (localStringOperations == null) {
+                    localStringOperations = new StringOperationsImpl(this);
+                    this.stringOperations = localStringOperations;
+                }
+            }
+        }
+        return localStringOperations;
     }
 
     /**
      * The BooleanOperationsImpl object to access its operations.
      */
-    private final BooleanOperationsImpl booleanOperations;
+    private volatile BooleanOperationsImpl booleanOperations;
 
     /**
      * Gets the BooleanOperationsImpl object to access its operations.
@@ -74,13 +84,23 @@ public final class ScalarClientImpl {
      * @return the BooleanOperationsImpl object.
      */
     public BooleanOperationsImpl getBooleanOperations() {
-        return this.booleanOperations;
+        BooleanOperationsImpl localBooleanOperations = this.booleanOperations;
+        if (localBooleanOperations == null) {
+            synchronized (this) {
+                localBooleanOperations = this.booleanOperations;
+                if (localBooleanOperations == null) {
+                    localBooleanOperations = new BooleanOperationsImpl(this);
+                    this.booleanOperations = localBooleanOperations;
+                }
+            }
+        }
+        return localBooleanOperations;
     }
 
     /**
      * The UnknownsImpl object to access its operations.
      */
-    private final UnknownsImpl unknowns;
+    private volatile UnknownsImpl unknowns;
 
     /**
      * Gets the UnknownsImpl object to access its operations.
@@ -88,13 +108,23 @@ public final class ScalarClientImpl {
      * @return the UnknownsImpl object.
      */
     public UnknownsImpl getUnknowns() {
-        return this.unknowns;
+        UnknownsImpl localUnknowns = this.unknowns;
+        if (localUnknowns == null) {
+            synchronized (this) {
+                localUnknowns = this.unknowns;
+                if (localUnknowns == null) {
+                    localUnknowns = new UnknownsImpl(this);
+                    this.unknowns = localUnknowns;
+                }
+            }
+        }
+        return localUnknowns;
     }
 
     /**
      * The DecimalTypesImpl object to access its operations.
      */
-    private final DecimalTypesImpl decimalTypes;
+    private volatile DecimalTypesImpl decimalTypes;
 
     /**
      * Gets the DecimalTypesImpl object to access its operations.
@@ -102,13 +132,23 @@ public final class ScalarClientImpl {
      * @return the DecimalTypesImpl object.
      */
     public DecimalTypesImpl getDecimalTypes() {
-        return this.decimalTypes;
+        DecimalTypesImpl localDecimalTypes = this.decimalTypes;
+        if (localDecimalTypes == null) {
+            synchronized (this) {
+                localDecimalTypes = this.decimalTypes;
+                if (localDecimalTypes == null) {
+                    localDecimalTypes = new DecimalTypesImpl(this);
+                    this.decimalTypes = localDecimalTypes;
+                }
+            }
+        }
+        return localDecimalTypes;
     }
 
     /**
      * The Decimal128TypesImpl object to access its operations.
      */
-    private final Decimal128TypesImpl decimal128Types;
+    private volatile Decimal128TypesImpl decimal128Types;
 
     /**
      * Gets the Decimal128TypesImpl object to access its operations.
@@ -116,13 +156,23 @@ public final class ScalarClientImpl {
      * @return the Decimal128TypesImpl object.
      */
     public Decimal128TypesImpl getDecimal128Types() {
-        return this.decimal128Types;
+        Decimal128TypesImpl localDecimal128Types = this.decimal128Types;
+        if (localDecimal128Types == null) {
+            synchronized (this) {
+                localDecimal128Types = this.decimal128Types;
+                if (localDecimal128Types == null) {
+                    localDecimal128Types = new Decimal128TypesImpl(this);
+                    this.decimal128Types = localDecimal128Types;
+                }
+            }
+        }
+        return localDecimal128Types;
     }
 
     /**
      * The DecimalVerifiesImpl object to access its operations.
      */
-    private final DecimalVerifiesImpl decimalVerifies;
+    private volatile DecimalVerifiesImpl decimalVerifies;
 
     /**
      * Gets the DecimalVerifiesImpl object to access its operations.
@@ -130,13 +180,23 @@ public final class ScalarClientImpl {
      * @return the DecimalVerifiesImpl object.
      */
     public DecimalVerifiesImpl getDecimalVerifies() {
-        return this.decimalVerifies;
+        DecimalVerifiesImpl localDecimalVerifies = this.decimalVerifies;
+        if (localDecimalVerifies == null) {
+            synchronized (this) {
+                localDecimalVerifies = this.decimalVerifies;
+                if (localDecimalVerifies == null) {
+                    localDecimalVerifies = new DecimalVerifiesImpl(this);
+                    this.decimalVerifies = localDecimalVerifies;
+                }
+            }
+        }
+        return localDecimalVerifies;
     }
 
     /**
      * The Decimal128VerifiesImpl object to access its operations.
      */
-    private final Decimal128VerifiesImpl decimal128Verifies;
+    private volatile Decimal128VerifiesImpl decimal128Verifies;
 
     /**
      * Gets the Decimal128VerifiesImpl object to access its operations.
@@ -144,7 +204,17 @@ public final class ScalarClientImpl {
      * @return the Decimal128VerifiesImpl object.
      */
     public Decimal128VerifiesImpl getDecimal128Verifies() {
-        return this.decimal128Verifies;
+        Decimal128VerifiesImpl localDecimal128Verifies = this.decimal128Verifies;
+        if (localDecimal128Verifies == null) {
+            synchronized (this) {
+                localDecimal128Verifies = this.decimal128Verifies;
+                if (localDecimal128Verifies == null) {
+                    localDecimal128Verifies = new Decimal128VerifiesImpl(this);
+                    this.decimal128Verifies = localDecimal128Verifies;
+                }
+            }
+        }
+        return localDecimal128Verifies;
     }
 
     /**
@@ -158,12 +228,5 @@ public final class ScalarClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.stringOperations = new StringOperationsImpl(this);
-        this.booleanOperations = new BooleanOperationsImpl(this);
-        this.unknowns = new UnknownsImpl(this);
-        this.decimalTypes = new DecimalTypesImpl(this);
-        this.decimal128Types = new Decimal128TypesImpl(this);
-        this.decimalVerifies = new DecimalVerifiesImpl(this);
-        this.decimal128Verifies = new Decimal128VerifiesImpl(this);
     }
 }
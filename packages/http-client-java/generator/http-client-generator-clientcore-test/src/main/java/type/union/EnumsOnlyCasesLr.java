@@ -1,5 +1,9 @@
 package type.union;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for EnumsOnlyCasesLr.
  */
@@ -33,6 +37,17 @@ public enum EnumsOnlyCasesLr {
         this.value = value;
     }
 
+    private static final Map<String, EnumsOnlyCasesLr> VALUES = new HashMap<>();
+
+    private static final Map<String, EnumsOnlyCasesLr> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (EnumsOnlyCasesLr item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a EnumsOnlyCasesLr instance.
      * 
@@ -43,13 +58,8 @@ public enum EnumsOnlyCasesLr {
         if (value == null) {
             return null;
         }
-        EnumsOnlyCasesLr[] items = EnumsOnlyCasesLr.values();
-        for (EnumsOnlyCasesLr item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        EnumsOnlyCasesLr item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
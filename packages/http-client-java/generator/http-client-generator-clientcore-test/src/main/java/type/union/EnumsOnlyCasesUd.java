@@ -1,5 +1,9 @@
 package type.union;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for EnumsOnlyCasesUd.
  */
@@ -23,6 +27,17 @@ public enum EnumsOnlyCasesUd {
         this.value = value;
     }
 
+    private static final Map<String, EnumsOnlyCasesUd> VALUES = new HashMap<>();
+
+    private static final Map<String, EnumsOnlyCasesUd> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (EnumsOnlyCasesUd item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a EnumsOnlyCasesUd instance.
      * 
@@ -33,13 +48,8 @@ public enum EnumsOnlyCasesUd {
         if (value == null) {
             return null;
         }
-        EnumsOnlyCasesUd[] items = EnumsOnlyCasesUd.values();
-        for (EnumsOnlyCasesUd item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        EnumsOnlyCasesUd item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
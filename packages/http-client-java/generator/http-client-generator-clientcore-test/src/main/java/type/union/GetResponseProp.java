@@ -1,5 +1,9 @@
 package type.union;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for GetResponseProp.
  */
@@ -28,6 +32,17 @@ public enum GetResponseProp {
         this.value = value;
     }
 
+    private static final Map<String, GetResponseProp> VALUES = new HashMap<>();
+
+    private static final Map<String, GetResponseProp> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (GetResponseProp item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a GetResponseProp instance.
      * 
@@ -38,13 +53,8 @@ public enum GetResponseProp {
         if (value == null) {
             return null;
         }
-        GetResponseProp[] items = GetResponseProp.values();
-        for (GetResponseProp item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        GetResponseProp item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
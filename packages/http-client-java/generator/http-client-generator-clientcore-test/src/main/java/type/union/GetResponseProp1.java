@@ -10,30 +10,34 @@ import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for GetResponseProp1.
  */
 public final class GetResponseProp1 implements ExpandableEnum<String>, JsonSerializable<GetResponseProp1> {
-    private static final Map<String, GetResponseProp1> VALUES = new ConcurrentHashMap<>();
-
-    private static final Function<String, GetResponseProp1> NEW_INSTANCE = GetResponseProp1::new;
+    private static final Map<String, GetResponseProp1> VALUES = new HashMap<>();
 
     /**
      * Static value b for GetResponseProp1.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final GetResponseProp1 B = fromValue("b");
+    public static final GetResponseProp1 B = addKnownValue("b");
 
     /**
      * Static value c for GetResponseProp1.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final GetResponseProp1 C = fromValue("c");
+    public static final GetResponseProp1 C = addKnownValue("c");
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static GetResponseProp1 addKnownValue(String value) {
+        GetResponseProp1 knownValue = new GetResponseProp1(value);
+        VALUES.put(value, knownValue);
+        return knownValue;
+    }
 
     private final String value;
 
@@ -42,7 +46,7 @@ public final class GetResponseProp1 implements ExpandableEnum<String>, JsonSeria
     }
 
     /**
-     * Creates or finds a GetResponseProp1.
+     * Finds a known GetResponseProp1, or creates a new GetResponseProp1 if the value is not known.
      * 
      * @param value a value to look for.
      * @return the corresponding GetResponseProp1.
@@ -53,7 +57,8 @@ public final class GetResponseProp1 implements ExpandableEnum<String>, JsonSeria
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        GetResponseProp1 knownValue = VALUES.get(value);
+        return knownValue != null ? knownValue : new GetResponseProp1(value);
     }
 
     /**
@@ -117,7 +122,8 @@ public final class GetResponseProp1 implements ExpandableEnum<String>, JsonSeria
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj
+            || (obj instanceof GetResponseProp1 && Objects.equals(this.value, ((GetResponseProp1) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
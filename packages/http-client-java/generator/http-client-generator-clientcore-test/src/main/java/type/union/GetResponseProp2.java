@@ -28,6 +28,8 @@ public enum GetResponseProp2 {
         this.value = value;
     }
 
+    private static final GetResponseProp2[] VALUES = values();
+
     /**
      * Parses a serialized value to a GetResponseProp2 instance.
      * 
@@ -35,8 +37,7 @@ public enum GetResponseProp2 {
      * @return the parsed GetResponseProp2 object, or null if unable to parse.
      */
     public static GetResponseProp2 fromInt(int value) {
-        GetResponseProp2[] items = GetResponseProp2.values();
-        for (GetResponseProp2 item : items) {
+        for (GetResponseProp2 item : VALUES) {
             if (item.toInt() == value) {
                 return item;
             }
@@ -10,31 +10,35 @@ import io.clientcore.core.utils.ExpandableEnum;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for StringExtensibleNamedUnion.
  */
 public final class StringExtensibleNamedUnion
     implements ExpandableEnum<String>, JsonSerializable<StringExtensibleNamedUnion> {
-    private static final Map<String, StringExtensibleNamedUnion> VALUES = new ConcurrentHashMap<>();
-
-    private static final Function<String, StringExtensibleNamedUnion> NEW_INSTANCE = StringExtensibleNamedUnion::new;
+    private static final Map<String, StringExtensibleNamedUnion> VALUES = new HashMap<>();
 
     /**
      * Static value b for StringExtensibleNamedUnion.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final StringExtensibleNamedUnion OPTIONB = fromValue("b");
+    public static final StringExtensibleNamedUnion OPTIONB = addKnownValue("b");
 
     /**
      * Static value c for StringExtensibleNamedUnion.
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
-    public static final StringExtensibleNamedUnion C = fromValue("c");
+    public static final StringExtensibleNamedUnion C = addKnownValue("c");
+
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private static StringExtensibleNamedUnion addKnownValue(String value) {
+        StringExtensibleNamedUnion knownValue = new StringExtensibleNamedUnion(value);
+        VALUES.put(value, knownValue);
+        return knownValue;
+    }
 
     private final String value;
 
@@ -43,7 +47,7 @@ public final class StringExtensibleNamedUnion
     }
 
     /**
-     * Creates or finds a StringExtensibleNamedUnion.
+     * Finds a known StringExtensibleNamedUnion, or creates a new StringExtensibleNamedUnion if the value is not known.
      * 
      * @param value a value to look for.
      * @return the corresponding StringExtensibleNamedUnion.
@@ -54,7 +58,8 @@ public final class StringExtensibleNamedUnion
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        StringExtensibleNamedUnion knownValue = VALUES.get(value);
+        return knownValue != null ? knownValue : new StringExtensibleNamedUnion(value);
     }
 
     /**
@@ -118,7 +123,9 @@ public final class StringExtensibleNamedUnion
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj
+            || (obj instanceof StringExtensibleNamedUnion
+                && Objects.equals(this.value, ((StringExtensibleNamedUnion) obj).value));
     }
 
     @Metadata(properties = { MetadataProperties.GENERATED })
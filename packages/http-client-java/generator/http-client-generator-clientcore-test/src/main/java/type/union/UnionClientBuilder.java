@@ -57,6 +57,13 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the UnionClientBuilder.
      */
@@ -77,6 +84,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -93,6 +101,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -103,6 +112,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -120,6 +130,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -136,6 +147,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder httpInstrumentationOptions(HttpInstrumentationOptions httpInstrumentationOptions) {
+        this.createdHttpPipeline = null;
         this.httpInstrumentationOptions = httpInstrumentationOptions;
         return this;
     }
@@ -152,6 +164,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -168,6 +181,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -184,6 +198,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public UnionClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -206,7 +221,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
                 .setEndpoint(localEndpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        UnionClientImpl client = new UnionClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+        UnionClientImpl client = new UnionClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -233,6 +248,15 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of StringsOnlyClient class.
      * 
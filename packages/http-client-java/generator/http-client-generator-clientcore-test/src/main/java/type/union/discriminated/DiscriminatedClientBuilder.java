@@ -53,6 +53,13 @@ public final class DiscriminatedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the DiscriminatedClientBuilder.
      */
@@ -73,6 +80,7 @@ public final class DiscriminatedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DiscriminatedClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -89,6 +97,7 @@ public final class DiscriminatedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DiscriminatedClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -99,6 +108,7 @@ public final class DiscriminatedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DiscriminatedClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -116,6 +126,7 @@ public final class DiscriminatedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DiscriminatedClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -149,6 +160,7 @@ public final class DiscriminatedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DiscriminatedClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -165,6 +177,7 @@ public final class DiscriminatedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DiscriminatedClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -181,6 +194,7 @@ public final class DiscriminatedClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public DiscriminatedClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -204,7 +218,7 @@ public final class DiscriminatedClientBuilder
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
         DiscriminatedClientImpl client
-            = new DiscriminatedClientImpl(createHttpPipeline(), instrumentation, localEndpoint);
+            = new DiscriminatedClientImpl(getOrCreateHttpPipeline(), instrumentation, localEndpoint);
         return client;
     }
 
@@ -231,6 +245,15 @@ public final class DiscriminatedClientBuilder
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of EnvelopeObjectDefaultClient class.
      * 
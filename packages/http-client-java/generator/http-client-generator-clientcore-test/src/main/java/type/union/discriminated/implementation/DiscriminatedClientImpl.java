@@ -52,7 +52,7 @@ public final class DiscriminatedClientImpl {
     /**
      * The EnvelopeObjectDefaultsImpl object to access its operations.
      */
-    private final EnvelopeObjectDefaultsImpl envelopeObjectDefaults;
+    private volatile EnvelopeObjectDefaultsImpl envelopeObjectDefaults;
 
     /**
      * Gets the EnvelopeObjectDefaultsImpl object to access its operations.
@@ -60,13 +60,23 @@ public final class DiscriminatedClientImpl {
      * @return the EnvelopeObjectDefaultsImpl object.
      */
     public EnvelopeObjectDefaultsImpl getEnvelopeObjectDefaults() {
-        return this.envelopeObjectDefaults;
+        EnvelopeObjectDefaultsImpl localEnvelopeObjectDefaults = this.envelopeObjectDefaults;
+        if (localEnvelopeObjectDefaults == null) {
+            synchronized (this) {
+                localEnvelopeObjectDefaults = this.envelopeObjectDefaults;
+                if (localEnvelopeObjectDefaults == null) {
+                    localEnvelopeObjectDefaults = new EnvelopeObjectDefaultsImpl(this);
+                    this.envelopeObjectDefaults = localEnvelopeObjectDefaults;
+                }
+            }
+        }
+        return localEnvelopeObjectDefaults;
     }
 
     /**
      * The EnvelopeObjectCustomPropertiesImpl object to access its operations.
      */
-    private final EnvelopeObjectCustomPropertiesImpl envelopeObjectCustomProperties;
+    private volatile EnvelopeObjectCustomPropertiesImpl envelopeObjectCustomProperties;
 
     /**
      * Gets the EnvelopeObjectCustomPropertiesImpl object to access its operations.
@@ -74,13 +84,23 @@ public final class DiscriminatedClientImpl {
      * @return the EnvelopeObjectCustomPropertiesImpl object.
      */
     public EnvelopeObjectCustomPropertiesImpl getEnvelopeObjectCustomProperties() {
-        return this.envelopeObjectCustomProperties;
+        EnvelopeObjectCustomPropertiesImpl localEnvelopeObjectCustomProperties = this.envelopeObjectCustomProperties;
+        if (localEnvelopeObjectCustomProperties == null) {
+            synchronized (this) {
+                localEnvelopeObjectCustomProperties = this.envelopeObjectCustomProperties;
+                if (localEnvelopeObjectCustomProperties == null) {
+                    localEnvelopeObjectCustomProperties = new EnvelopeObjectCustomPropertiesImpl(this);
+                    this.envelopeObjectCustomProperties = localEnvelopeObjectCustomProperties;
+                }
+            }
+        }
+        return localEnvelopeObjectCustomProperties;
     }
 
     /**
      * The NoEnvelopeDefaultsImpl object to access its operations.
      */
-    private final NoEnvelopeDefaultsImpl noEnvelopeDefaults;
+    private volatile NoEnvelopeDefaultsImpl noEnvelopeDefaults;
 
     /**
      * Gets the NoEnvelopeDefaultsImpl object to access its operations.
@@ -88,13 +108,23 @@ public final class DiscriminatedClientImpl {
      * @return the NoEnvelopeDefaultsImpl object.
      */
     public NoEnvelopeDefaultsImpl getNoEnvelopeDefaults() {
-        return this.noEnvelopeDefaults;
+        NoEnvelopeDefaultsImpl localNoEnvelopeDefaults = this.noEnvelopeDefaults;
+        if (localNoEnvelopeDefaults == null) {
+            synchronized (this) {
+                localNoEnvelopeDefaults = this.noEnvelopeDefaults;
+                if (localNoEnvelopeDefaults == null) {
+                    localNoEnvelopeDefaults = new NoEnvelopeDefaultsImpl(this);
+                    this.noEnvelopeDefaults = localNoEnvelopeDefaults;
+                }
+            }
+        }
+        return localNoEnvelopeDefaults;
     }
 
     /**
      * The NoEnvelopeCustomDiscriminatorsImpl object to access its operations.
      */
-    private final NoEnvelopeCustomDiscriminatorsImpl noEnvelopeCustomDiscriminators;
+    private volatile NoEnvelopeCustomDiscriminatorsImpl noEnvelopeCustomDiscriminators;
 
     /**
      * Gets the NoEnvelopeCustomDiscriminatorsImpl object to access its operations.
@@ -102,7 +132,17 @@ public final class DiscriminatedClientImpl {
      * @return the NoEnvelopeCustomDiscriminatorsImpl object.
      */
     public NoEnvelopeCustomDiscriminatorsImpl getNoEnvelopeCustomDiscriminators() {
-        return this.noEnvelopeCustomDiscriminators;
+        NoEnvelopeCustomDiscriminatorsImpl localNoEnvelopeCustomDiscriminators = this.noEnvelopeCustomDiscriminators;
+        if (localNoEnvelopeCustomDiscriminators == null) {
+            synchronized (this) {
+                localNoEnvelopeCustomDiscriminators = this.noEnvelopeCustomDiscriminators;
+                if (localNoEnvelopeCustomDiscriminators == null) {
+                    localNoEnvelopeCustomDiscriminators = new NoEnvelopeCustomDiscriminatorsImpl(this);
+                    this.noEnvelopeCustomDiscriminators = localNoEnvelopeCustomDiscriminators;
+                }
+            }
+        }
+        return localNoEnvelopeCustomDiscriminators;
     }
 
     /**
@@ -116,9 +156,5 @@ public final class DiscriminatedClientImpl {
         this.httpPipeline = httpPipeline;
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
-        this.envelopeObjectDefaults = new EnvelopeObjectDefaultsImpl(this);
-        this.envelopeObjectCustomProperties = new EnvelopeObjectCustomPropertiesImpl(this);
-        this.noEnvelopeDefaults = new NoEnvelopeDefaultsImpl(this);
-        this.noEnvelopeCustomDiscriminators = new NoEnvelopeCustomDiscriminatorsImpl(this);
     }
 }
@@ -16,7 +16,6 @@ import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.models.binarydata.BinaryData;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * An instance of this class provides access to all the operations defined in NoEnvelopeDefaults.
@@ -55,15 +54,7 @@ public final class NoEnvelopeDefaultsImpl {
     @ServiceInterface(name = "DiscriminatedClientNoEnvelopeDefaults", host = "{endpoint}")
     public interface NoEnvelopeDefaultsService {
         static NoEnvelopeDefaultsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.union.discriminated.implementation.NoEnvelopeDefaultsServiceImpl");
-                return (NoEnvelopeDefaultsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.union.discriminated.implementation.NoEnvelopeDefaultsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.union.GetResponse4;
 import type.union.GetResponseProp3;
 
@@ -55,15 +54,7 @@ public final class FloatsOnliesImpl {
     @ServiceInterface(name = "UnionClientFloatsOnlies", host = "{endpoint}")
     public interface FloatsOnliesService {
         static FloatsOnliesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.union.implementation.FloatsOnliesServiceImpl");
-                return (FloatsOnliesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.union.implementation.FloatsOnliesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.union.GetResponse8;
 import type.union.MixedLiteralsCases;
 
@@ -55,15 +54,7 @@ public final class MixedLiteralsImpl {
     @ServiceInterface(name = "UnionClientMixedLiterals", host = "{endpoint}")
     public interface MixedLiteralsService {
         static MixedLiteralsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.union.implementation.MixedLiteralsServiceImpl");
-                return (MixedLiteralsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.union.implementation.MixedLiteralsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.union.GetResponse9;
 import type.union.MixedTypesCases;
 
@@ -55,14 +54,7 @@ public final class MixedTypesImpl {
     @ServiceInterface(name = "UnionClientMixedTypes", host = "{endpoint}")
     public interface MixedTypesService {
         static MixedTypesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.union.implementation.MixedTypesServiceImpl");
-                return (MixedTypesService) clazz.getMethod("getNewInstance", HttpPipeline.class).invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.union.implementation.MixedTypesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
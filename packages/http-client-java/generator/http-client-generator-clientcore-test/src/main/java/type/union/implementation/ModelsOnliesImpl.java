@@ -15,7 +15,6 @@ import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
 import io.clientcore.core.models.binarydata.BinaryData;
-import java.lang.reflect.InvocationTargetException;
 import type.union.GetResponse5;
 
 /**
@@ -55,15 +54,7 @@ public final class ModelsOnliesImpl {
     @ServiceInterface(name = "UnionClientModelsOnlies", host = "{endpoint}")
     public interface ModelsOnliesService {
         static ModelsOnliesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.union.implementation.ModelsOnliesServiceImpl");
-                return (ModelsOnliesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.union.implementation.ModelsOnliesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.union.GetResponse7;
 import type.union.StringAndArrayCases;
 
@@ -55,15 +54,7 @@ public final class StringAndArraysImpl {
     @ServiceInterface(name = "UnionClientStringAndArrays", host = "{endpoint}")
     public interface StringAndArraysService {
         static StringAndArraysService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.union.implementation.StringAndArraysServiceImpl");
-                return (StringAndArraysService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.union.implementation.StringAndArraysServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
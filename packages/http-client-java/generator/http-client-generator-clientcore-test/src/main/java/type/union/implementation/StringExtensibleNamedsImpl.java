@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.union.GetResponse2;
 import type.union.StringExtensibleNamedUnion;
 
@@ -55,15 +54,7 @@ public final class StringExtensibleNamedsImpl {
     @ServiceInterface(name = "UnionClientStringExtensibleNameds", host = "{endpoint}")
     public interface StringExtensibleNamedsService {
         static StringExtensibleNamedsService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.union.implementation.StringExtensibleNamedsServiceImpl");
-                return (StringExtensibleNamedsService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.union.implementation.StringExtensibleNamedsServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.union.GetResponse1;
 import type.union.GetResponseProp1;
 
@@ -55,15 +54,7 @@ public final class StringExtensiblesImpl {
     @ServiceInterface(name = "UnionClientStringExtensibles", host = "{endpoint}")
     public interface StringExtensiblesService {
         static StringExtensiblesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.union.implementation.StringExtensiblesServiceImpl");
-                return (StringExtensiblesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.union.implementation.StringExtensiblesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import type.union.GetResponse;
 import type.union.GetResponseProp;
 
@@ -55,15 +54,7 @@ public final class StringsOnliesImpl {
     @ServiceInterface(name = "UnionClientStringsOnlies", host = "{endpoint}")
     public interface StringsOnliesService {
         static StringsOnliesService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("type.union.implementation.StringsOnliesServiceImpl");
-                return (StringsOnliesService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return type.union.implementation.StringsOnliesServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(
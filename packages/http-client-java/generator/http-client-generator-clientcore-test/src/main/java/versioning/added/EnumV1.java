@@ -1,5 +1,9 @@
 package versioning.added;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for EnumV1.
  */
@@ -23,6 +27,17 @@ public enum EnumV1 {
         this.value = value;
     }
 
+    private static final Map<String, EnumV1> VALUES = new HashMap<>();
+
+    private static final Map<String, EnumV1> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (EnumV1 item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a EnumV1 instance.
      * 
@@ -33,13 +48,8 @@ public enum EnumV1 {
         if (value == null) {
             return null;
         }
-        EnumV1[] items = EnumV1.values();
-        for (EnumV1 item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        EnumV1 item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import versioning.added.AddedServiceVersion;
 import versioning.added.ModelV1;
 import versioning.added.ModelV2;
@@ -87,7 +86,7 @@ public final class AddedClientImpl {
     /**
      * The InterfaceV2sImpl object to access its operations.
      */
-    private final InterfaceV2sImpl interfaceV2s;
+    private volatile InterfaceV2sImpl interfaceV2s;
 
     /**
      * Gets the InterfaceV2sImpl object to access its operations.
@@ -95,7 +94,17 @@ public final class AddedClientImpl {
      * @return the InterfaceV2sImpl object.
      */
     public InterfaceV2sImpl getInterfaceV2s() {
-        return this.interfaceV2s;
+        InterfaceV2sImpl localInterfaceV2s = this.interfaceV2s;
+        if (localInterfaceV2s == null) {
+            synchronized (this) {
+                localInterfaceV2s = this.interfaceV2s;
+                if (localInterfaceV2s == null) {
+                    localInterfaceV2s = new InterfaceV2sImpl(this);
+                    this.interfaceV2s = localInterfaceV2s;
+                }
+            }
+        }
+        return localInterfaceV2s;
     }
 
     /**
@@ -112,7 +121,6 @@ public final class AddedClientImpl {
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
         this.serviceVersion = serviceVersion;
-        this.interfaceV2s = new InterfaceV2sImpl(this);
         this.service = AddedClientService.getNewInstance(this.httpPipeline);
     }
 
@@ -122,15 +130,7 @@ public final class AddedClientImpl {
     @ServiceInterface(name = "AddedClient", host = "{endpoint}/versioning/added/api-version:{version}")
     public interface AddedClientService {
         static AddedClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("versioning.added.implementation.AddedClientServiceImpl");
-                return (AddedClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return versioning.added.implementation.AddedClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(method = HttpMethod.POST, path = "/v1", expectedStatusCodes = { 200 })
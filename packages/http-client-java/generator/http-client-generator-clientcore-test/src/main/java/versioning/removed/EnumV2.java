@@ -1,5 +1,9 @@
 package versioning.removed;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for EnumV2.
  */
@@ -18,6 +22,17 @@ public enum EnumV2 {
         this.value = value;
     }
 
+    private static final Map<String, EnumV2> VALUES = new HashMap<>();
+
+    private static final Map<String, EnumV2> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (EnumV2 item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a EnumV2 instance.
      * 
@@ -28,13 +43,8 @@ public enum EnumV2 {
         if (value == null) {
             return null;
         }
-        EnumV2[] items = EnumV2.values();
-        for (EnumV2 item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        EnumV2 item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -14,7 +14,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import versioning.removed.ModelV2;
 import versioning.removed.ModelV3;
 import versioning.removed.RemovedServiceVersion;
@@ -107,15 +106,7 @@ public final class RemovedClientImpl {
     @ServiceInterface(name = "RemovedClient", host = "{endpoint}/versioning/removed/api-version:{version}")
     public interface RemovedClientService {
         static RemovedClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("versioning.removed.implementation.RemovedClientServiceImpl");
-                return (RemovedClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return versioning.removed.implementation.RemovedClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(method = HttpMethod.POST, path = "/v2", expectedStatusCodes = { 200 })
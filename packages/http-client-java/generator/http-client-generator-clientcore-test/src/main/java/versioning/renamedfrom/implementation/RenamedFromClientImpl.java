@@ -15,7 +15,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import versioning.renamedfrom.NewModel;
 import versioning.renamedfrom.RenamedFromServiceVersion;
 
@@ -87,7 +86,7 @@ public final class RenamedFromClientImpl {
     /**
      * The NewInterfacesImpl object to access its operations.
      */
-    private final NewInterfacesImpl newInterfaces;
+    private volatile NewInterfacesImpl newInterfaces;
 
     /**
      * Gets the NewInterfacesImpl object to access its operations.
@@ -95,7 +94,17 @@ public final class RenamedFromClientImpl {
      * @return the NewInterfacesImpl object.
      */
     public NewInterfacesImpl getNewInterfaces() {
-        return this.newInterfaces;
+        NewInterfacesImpl localNewInterfaces = this.newInterfaces;
+        if (localNewInterfaces == null) {
+            synchronized (this) {
+                localNewInterfaces = this.newInterfaces;
+                if (localNewInterfaces == null) {
+                    localNewInterfaces = new NewInterfacesImpl(this);
+                    this.newInterfaces = localNewInterfaces;
+                }
+            }
+        }
+        return localNewInterfaces;
     }
 
     /**
@@ -112,7 +121,6 @@ public final class RenamedFromClientImpl {
         this.instrumentation = instrumentation;
         this.endpoint = endpoint;
         this.serviceVersion = serviceVersion;
-        this.newInterfaces = new NewInterfacesImpl(this);
         this.service = RenamedFromClientService.getNewInstance(this.httpPipeline);
     }
 
@@ -123,15 +131,7 @@ public final class RenamedFromClientImpl {
     @ServiceInterface(name = "RenamedFromClient", host = "{endpoint}/versioning/renamed-from/api-version:{version}")
     public interface RenamedFromClientService {
         static RenamedFromClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz = Class.forName("versioning.renamedfrom.implementation.RenamedFromClientServiceImpl");
-                return (RenamedFromClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return versioning.renamedfrom.implementation.RenamedFromClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(method = HttpMethod.POST, path = "/test", expectedStatusCodes = { 200 })
@@ -48,6 +48,13 @@ public final class TypeChangedFromClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the TypeChangedFromClientBuilder.
      */
@@ -68,6 +75,7 @@ public final class TypeChangedFromClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public TypeChangedFromClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -84,6 +92,7 @@ public final class TypeChangedFromClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public TypeChangedFromClientBuilder httpRetryOptions(HttpRetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -94,6 +103,7 @@ public final class TypeChangedFromClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public TypeChangedFromClientBuilder addHttpPipelinePolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -111,6 +121,7 @@ public final class TypeChangedFromClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public TypeChangedFromClientBuilder httpRedirectOptions(HttpRedirectOptions redirectOptions) {
+        this.createdHttpPipeline = null;
         this.redirectOptions = redirectOptions;
         return this;
     }
@@ -144,6 +155,7 @@ public final class TypeChangedFromClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public TypeChangedFromClientBuilder proxyOptions(ProxyOptions proxyOptions) {
+        this.createdHttpPipeline = null;
         this.proxyOptions = proxyOptions;
         return this;
     }
@@ -160,6 +172,7 @@ public final class TypeChangedFromClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public TypeChangedFromClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -176,6 +189,7 @@ public final class TypeChangedFromClientBuilder
     @Metadata(properties = { MetadataProperties.GENERATED })
     @Override
     public TypeChangedFromClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -194,6 +208,7 @@ public final class TypeChangedFromClientBuilder
      */
     @Metadata(properties = { MetadataProperties.GENERATED })
     public TypeChangedFromClientBuilder serviceVersion(TypeChangedFromServiceVersion serviceVersion) {
+        this.createdHttpPipeline = null;
         this.serviceVersion = serviceVersion;
         return this;
     }
@@ -217,8 +232,8 @@ public final class TypeChangedFromClientBuilder
                 .setEndpoint(this.endpoint);
         Instrumentation instrumentation
             = Instrumentation.create(localHttpInstrumentationOptions, sdkInstrumentationOptions);
-        TypeChangedFromClientImpl client
-            = new TypeChangedFromClientImpl(createHttpPipeline(), instrumentation, this.endpoint, localServiceVersion);
+        TypeChangedFromClientImpl client = new TypeChangedFromClientImpl(getOrCreateHttpPipeline(), instrumentation,
+            this.endpoint, localServiceVersion);
         return client;
     }
 
@@ -246,6 +261,15 @@ public final class TypeChangedFromClientBuilder
         return httpPipelineBuilder.httpClient(httpClient).build();
     }
 
+    @Metadata(properties = { MetadataProperties.GENERATED })
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of TypeChangedFromClient class.
      * 
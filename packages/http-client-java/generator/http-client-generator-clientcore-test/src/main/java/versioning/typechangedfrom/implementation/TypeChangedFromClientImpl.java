@@ -15,7 +15,6 @@ import io.clientcore.core.http.models.RequestContext;
 import io.clientcore.core.http.models.Response;
 import io.clientcore.core.http.pipeline.HttpPipeline;
 import io.clientcore.core.instrumentation.Instrumentation;
-import java.lang.reflect.InvocationTargetException;
 import versioning.typechangedfrom.TestModel;
 import versioning.typechangedfrom.TypeChangedFromServiceVersion;
 
@@ -110,16 +109,7 @@ public final class TypeChangedFromClientImpl {
         host = "{endpoint}/versioning/type-changed-from/api-version:{version}")
     public interface TypeChangedFromClientService {
         static TypeChangedFromClientService getNewInstance(HttpPipeline pipeline) {
-            try {
-                Class<?> clazz
-                    = Class.forName("versioning.typechangedfrom.implementation.TypeChangedFromClientServiceImpl");
-                return (TypeChangedFromClientService) clazz.getMethod("getNewInstance", HttpPipeline.class)
-                    .invoke(null, pipeline);
-            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-                throw new RuntimeException(e);
-            }
-
+            return versioning.typechangedfrom.implementation.TypeChangedFromClientServiceImpl.getNewInstance(pipeline);
         }
 
         @HttpRequestInformation(method = HttpMethod.POST, path = "/test", expectedStatusCodes = { 200 })
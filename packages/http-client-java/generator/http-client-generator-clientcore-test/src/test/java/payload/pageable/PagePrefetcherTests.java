@@ -0,0 +1,137 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package payload.pageable;
+
+import io.clientcore.core.http.models.HttpHeaders;
+import io.clientcore.core.http.paging.PagedIterable;
+import io.clientcore.core.http.paging.PagedResponse;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import payload.pageable.implementation.PagePrefetcher;
+
+public class PagePrefetcherTests {
+
+    private static final int PAGE_COUNT = 5;
+
+    // pages of the iteration, keyed by the link of the page
+    private final Map<String, ClosableItems> pages = new ConcurrentHashMap<>();
+    // links of the pages requested, in order
+    private final List<String> requestedLinks = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testPrefetch() {
+        PagedIterable<String> pagedIterable
+            = PagePrefetcher.pagedIterable(options -> retrievePage("a", 1), (options, link) -> retrievePage(link));
+
+        Assertions.assertEquals(List.of("a1", "a2", "a3", "a4", "a5"),
+            pagedIterable.stream().collect(Collectors.toList()));
+        // each page is requested once
+        Assertions.assertEquals(List.of("a1", "a2", "a3", "a4", "a5"), requestedLinks);
+    }
+
+    @Test
+    public void testEarlyStop() {
+        PagedIterable<String> pagedIterable = PagePrefetcher.pagedIterable(2, Duration.ofMillis(100),
+            options -> retrievePage("a", 1), (options, link) -> retrievePage(link));
+
+        Iterator<String> iterator = pagedIterable.iterator();
+        Assertions.assertEquals("a1", iterator.next());
+
+        // the consumer stops, and the prefetched pages are closed after the idle timeout
+        waitFor(() -> isClosed("a2") && isClosed("a3"));
+        // no page beyond the prefetch depth is requested
+        Assertions.assertEquals(List.of("a1", "a2", "a3"), requestedLinks);
+
+        // the consumer continues, and the next pages are retrieved on demand
+        List<String> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        Assertions.assertEquals(List.of("a2", "a3", "a4", "a5"), items);
+    }
+
+    @Test
+    public void testMismatchedNextLink() {
+        // the first page of each iteration has a different next link
+        int[] iterationCount = new int[1];
+        PagedIterable<String> pagedIterable = PagePrefetcher.pagedIterable(
+            options -> retrievePage(iterationCount[0]++ == 0 ? "a" : "b", 1), (options, link) -> retrievePage(link));
+
+        Iterator<PagedResponse<String>> iteratorA = pagedIterable.iterableByPage().iterator();
+        Assertions.assertEquals(List.of("a1"), iteratorA.next().getValue());
+        waitFor(() -> pages.containsKey("a2") && pages.containsKey("a3"));
+
+        // a new iteration discards the pages prefetched for the previous one
+        Iterator<PagedResponse<String>> iteratorB = pagedIterable.iterableByPage().iterator();
+        Assertions.assertEquals(List.of("b1"), iteratorB.next().getValue());
+        waitFor(() -> isClosed("a2") && isClosed("a3"));
+        waitFor(() -> pages.containsKey("b2") && pages.containsKey("b3"));
+
+        // the previous iteration asks for its own next link, and the pages prefetched for the new one are discarded
+        Assertions.assertEquals(List.of("a2"), iteratorA.next().getValue());
+        waitFor(() -> isClosed("b2") && isClosed("b3"));
+        // the page handed to the consumer is retrieved again, and is not closed
+        Assertions.assertEquals(2, requestedLinks.stream().filter("a2"::equals).count());
+        Assertions.assertFalse(isClosed("a2"));
+
+        List<String> items = new ArrayList<>();
+        iteratorA.forEachRemaining(page -> items.addAll(page.getValue()));
+        Assertions.assertEquals(List.of("a3", "a4", "a5"), items);
+    }
+
+    private PagedResponse<String> retrievePage(String link) {
+        return retrievePage(link.substring(0, 1), Integer.parseInt(link.substring(1)));
+    }
+
+    private PagedResponse<String> retrievePage(String iteration, int index) {
+        String link = iteration + index;
+        requestedLinks.add(link);
+        ClosableItems items = new ClosableItems(link);
+        pages.put(link, items);
+        String nextLink = index < PAGE_COUNT ? iteration + (index + 1) : null;
+        return new PagedResponse<>(null, 200, new HttpHeaders(), items, null, nextLink, null, null, null);
+    }
+
+    private boolean isClosed(String link) {
+        ClosableItems items = pages.get(link);
+        return items != null && items.closed;
+    }
+
+    private static void waitFor(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                Assertions.fail("Condition not met in time.");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                Assertions.fail(e);
+            }
+        }
+    }
+
+    // the value of the page, that records whether the page is closed
+    private static final class ClosableItems extends ArrayList<String> implements Closeable {
+        private volatile boolean closed;
+
+        private ClosableItems(String item) {
+            super(List.of(item));
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
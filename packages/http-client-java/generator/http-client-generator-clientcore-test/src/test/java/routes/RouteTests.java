@@ -4,12 +4,21 @@
 package routes;
 
 import io.clientcore.core.http.pipeline.HttpInstrumentationOptions;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 public class RouteTests {
 
+    private static final Map<String, Integer> RECORD = new LinkedHashMap<>();
+
+    static {
+        RECORD.put("a", 1);
+        RECORD.put("b", 2);
+    }
+
     @Test
     public void testFixed() {
         new RoutesClientBuilder().buildClient().fixed();
@@ -32,9 +41,74 @@ public class RouteTests {
     public void testPathReservedExpansion() {
         var client = new RoutesClientBuilder().buildPathParametersReservedExpansionClient();
 
-        // TODO, need enhancement in core or codegen
-        client.template("foo/bar baz".replace(" ", "%20"));
-        client.annotation("foo/bar baz".replace(" ", "%20"));
+        client.template("foo/bar baz");
+        client.annotation("foo/bar baz");
+    }
+
+    @Test
+    public void testPathPathExpansionStandard() {
+        var client = new RoutesClientBuilder().buildPathParametersPathExpansionStandardClient();
+
+        client.primitive("a");
+
+        client.array(List.of("a", "b"));
+
+        client.record(RECORD);
+    }
+
+    @Test
+    public void testPathPathExpansionExplode() {
+        var client = new RoutesClientBuilder().buildPathParametersPathExpansionExplodeClient();
+
+        client.primitive("a");
+
+        client.array(List.of("a", "b"));
+
+        client.record(RECORD);
+    }
+
+    @Test
+    public void testPathLabelExpansionStandard() {
+        var client = new RoutesClientBuilder().buildPathParametersLabelExpansionStandardClient();
+
+        client.primitive("a");
+
+        client.array(List.of("a", "b"));
+
+        client.record(RECORD);
+    }
+
+    @Test
+    public void testPathLabelExpansionExplode() {
+        var client = new RoutesClientBuilder().buildPathParametersLabelExpansionExplodeClient();
+
+        client.primitive("a");
+
+        client.array(List.of("a", "b"));
+
+        client.record(RECORD);
+    }
+
+    @Test
+    public void testPathMatrixExpansionStandard() {
+        var client = new RoutesClientBuilder().buildPathParametersMatrixExpansionStandardClient();
+
+        client.primitive("a");
+
+        client.array(List.of("a", "b"));
+
+        client.record(RECORD);
+    }
+
+    @Test
+    public void testPathMatrixExpansionExplode() {
+        var client = new RoutesClientBuilder().buildPathParametersMatrixExpansionExplodeClient();
+
+        client.primitive("a");
+
+        client.array(List.of("a", "b"));
+
+        client.record(RECORD);
     }
 
     @Test
@@ -24,6 +24,11 @@ public class FileTests {
         client.uploadFileSpecificContentType(fileData, fileData.getLength());
     }
 
+    @Test
+    public void testUploadFileSpecificContentTypeFromPath() {
+        client.uploadFileSpecificContentType(PNG_FILE);
+    }
+
     @Disabled("possible bug in clientcore")
     @Test
     public void testUploadFileJsonContentType() {
@@ -0,0 +1,76 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package type.file;
+
+import io.clientcore.core.models.binarydata.BinaryData;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the request body of the file upload overload with the body of the bytes of the file.
+ * <p>
+ * "fromFile" is the body of the "Path" overload of "generate-file-upload-overloads" option, "BinaryData.fromFile".
+ * "fromBytes" is the body of "BinaryData.fromBytes(Files.readAllBytes(file))". Each operation writes the body to a
+ * discarding stream, the way the HTTP client sends it. The allocation per operation is reported by "-prof gc", as
+ * "gc.alloc.rate.norm".
+ * <p>
+ * Run with "mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main
+ * -Dexec.args="FileUploadBenchmark -prof gc"".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class FileUploadBenchmark {
+
+    @Param({ "1048576", "67108864" })
+    private int fileSize;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] bytes = new byte[fileSize];
+        new Random(42).nextBytes(bytes);
+        file = Files.createTempFile("upload", ".bin");
+        Files.write(file, bytes);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long fromFile() {
+        BinaryData fileData = BinaryData.fromFile(file);
+        fileData.writeTo(OutputStream.nullOutputStream());
+        return fileData.getLength();
+    }
+
+    @Benchmark
+    public long fromBytes() throws IOException {
+        BinaryData fileData = BinaryData.fromBytes(Files.readAllBytes(file));
+        fileData.writeTo(OutputStream.nullOutputStream());
+        return fileData.getLength();
+    }
+}
@@ -25,6 +25,11 @@ public enum SerializationStyle {
      */
     FORM("form"),
 
+    /**
+     * The serialization style is fragment, of path parameter.
+     */
+    FRAGMENT("fragment"),
+
     /**
      * The serialization style is JSON.
      */
@@ -40,6 +45,11 @@ public enum SerializationStyle {
      */
     MATRIX("matrix"),
 
+    /**
+     * The serialization style is path, of path parameter.
+     */
+    PATH("path"),
+
     /**
      * The serialization style is pipe delimited.
      */
@@ -40,6 +40,7 @@ public class JavaSettings {
     private final String flavor;
     private final boolean noCustomHeaders;
     private final boolean disableTypedHeadersMethods;
+    private final boolean lazyTypedHeaders;
     private final boolean useRestProxy;
 
     static void setHeader(String value) {
@@ -288,6 +289,9 @@ public class JavaSettings {
         }
         this.operationPollingMapping = operationPollingMapping;
 
+        // Whether to generate a shared scheduler that multiplexes the polling of many long-running operations.
+        this.generatePollingScheduler = getBooleanValue(host, "generate-polling-scheduler", false);
+
         // Whether to generate samples.
         this.generateSamples = getBooleanValue(host, "generate-samples", false);
 
@@ -368,6 +372,9 @@ public class JavaSettings {
         // If set to true, the generated client will have support for page size.
         this.pageSizeEnabled = getBooleanValue(host, "enable-page-size", false);
 
+        // If set to true, the generated paging methods request the next pages while the current page is iterated.
+        this.pagePrefetchEnabled = getBooleanValue(host, "enable-page-prefetch", false);
+
         // If set to true, the generated client will have support for key credential.
         this.useKeyCredential = getBooleanValue(host, "use-key-credential", false);
 
@@ -382,12 +389,40 @@ public class JavaSettings {
         // will be ignored as no REST APIs with typed headers will be generated.
         this.disableTypedHeadersMethods = getBooleanValue(host, "disable-typed-headers-methods", false);
 
+        // Whether typed header classes keep the raw HttpHeaders and decode each header on first access.
+        this.lazyTypedHeaders = getBooleanValue(host, "lazy-typed-headers", false);
+
         // Whether models implementing {@code JsonSerializable} can attempt to share code for toJson and fromJson.
         this.shareJsonSerializableCode = getBooleanValue(host, "share-jsonserializable-code", false);
 
         // Whether to use object for unknown.
         this.useObjectForUnknown = getBooleanValue(host, "use-object-for-unknown", false);
 
+        // Whether to generate typed union classes, for unions whose variants can be told apart by JSON token type.
+        this.typedUnions = getBooleanValue(host, "typed-unions", false);
+
+        // Whether to parse and format date-time and duration in models via the generated DateTimeCodec helper class.
+        this.useDateTimeCodec = getBooleanValue(host, "use-date-time-codec", false);
+
+        // Whether to store base64url encoded bytes in models as byte[], instead of Base64Url.
+        this.useByteArrayForBase64Url = getBooleanValue(host, "use-byte-array-for-base64url", false);
+
+        // Whether to check the required properties of models in JSON serialization, instead of calling validate()
+        // on the request body.
+        this.validateInSerialization = getBooleanValue(host, "validate-in-serialization", false);
+
+        // Whether to generate typed streaming overloads for operations of JSON Lines request or response body.
+        this.jsonLinesStreaming = getBooleanValue(host, "jsonl-streaming", false);
+
+        // Whether to generate overloads that upload a file, for operations of binary request body.
+        this.generateFileUploadOverloads = getBooleanValue(host, "generate-file-upload-overloads", false);
+
+        // Whether to deserialize the model of the response body in convenience methods directly from the body stream.
+        this.streamResponseDeserialization = getBooleanValue(host, "stream-response-deserialization", false);
+
+        // Whether to add a cache of GET responses to the HTTP pipeline, revalidated by conditional requests.
+        this.conditionalRequestCache = getBooleanValue(host, "conditional-request-cache", false);
+
         // Option to rename models (ObjectSchema, ChoiceSchema, SealedChoiceSchema).
         loadStringSetting("rename-model", s -> {
             if (!CoreUtils.isNullOrEmpty(s)) {
@@ -1295,6 +1330,21 @@ public class JavaSettings {
         return pageSizeEnabled;
     }
 
+    private final boolean pagePrefetchEnabled;
+
+    /**
+     * Whether to enable prefetch of next pages.
+     * <p>
+     * If set to true, the generated {@code PagedIterable} of a paging method with next link starts the request for the
+     * next page as soon as the current page is retrieved, with a bounded number of pages requested ahead of the
+     * consumer. This is only supported by the clientcore based flavors.
+     *
+     * @return Whether to enable prefetch of next pages.
+     */
+    public boolean isPagePrefetchEnabled() {
+        return pagePrefetchEnabled;
+    }
+
     private final boolean generateGraalVmConfig;
 
     /**
@@ -1327,6 +1377,21 @@ public class JavaSettings {
         return operationPollingMapping.get("default");
     }
 
+    private final boolean generatePollingScheduler;
+
+    /**
+     * Whether to generate a polling scheduler alongside the polling strategies.
+     * <p>
+     * The polling scheduler polls many in-flight long-running operations on a single timer thread and a bounded set
+     * of worker threads, instead of blocking one thread per operation while it waits between polls. It is generated in
+     * the package of the clients, so that the user can submit the SyncPoller returned from a "begin" method to it.
+     *
+     * @return Whether to generate a polling scheduler alongside the polling strategies.
+     */
+    public boolean isGeneratePollingScheduler() {
+        return generatePollingScheduler;
+    }
+
     private final boolean annotateGettersAndSettersForSerialization;
 
     /**
@@ -1495,6 +1560,19 @@ public class JavaSettings {
         return disableTypedHeadersMethods;
     }
 
+    /**
+     * Whether typed header classes decode their properties lazily.
+     * <p>
+     * If set to true, the typed header class keeps a reference to the raw {@code HttpHeaders} passed to its
+     * constructor, and each header is parsed on first access of its getter. The parsed value is memoized. If set to
+     * false, all headers are parsed in the constructor.
+     *
+     * @return Whether typed header classes decode their properties lazily.
+     */
+    public boolean isLazyTypedHeaders() {
+        return lazyTypedHeaders;
+    }
+
     private final boolean shareJsonSerializableCode;
 
     /**
@@ -1523,6 +1601,142 @@ public class JavaSettings {
         return useObjectForUnknown;
     }
 
+    private final boolean typedUnions;
+
+    /**
+     * Whether to generate typed union classes.
+     * <p>
+     * If set to true, a union whose variants can be told apart by the type of the JSON token (string, number, boolean,
+     * object or array) is generated as an abstract class with one subclass per variant, and deserialized from the
+     * current JSON token in one pass. Other unions, and all unions if set to false, are generated as
+     * {@code BinaryData}. This is only supported with stream-style serialization.
+     *
+     * @return Whether to generate typed union classes.
+     */
+    public boolean isTypedUnions() {
+        return typedUnions;
+    }
+
+    private final boolean useDateTimeCodec;
+
+    /**
+     * Whether to parse and format date-time and duration in models via the generated DateTimeCodec helper class.
+     * <p>
+     * If set to true, RFC 3339 date-time and ISO 8601 duration of the common fixed layouts are parsed and formatted
+     * character by character, instead of via the parsers and formatters of {@code java.time}. This is only supported
+     * with stream-style serialization.
+     *
+     * @return Whether to parse and format date-time and duration via the DateTimeCodec helper class.
+     */
+    public boolean isUseDateTimeCodec() {
+        return useDateTimeCodec && isStreamStyleSerialization();
+    }
+
+    private final boolean useByteArrayForBase64Url;
+
+    /**
+     * Whether to store base64url encoded bytes in models as byte[], instead of Base64Url.
+     * <p>
+     * If set to true, a JSON property of base64url encoded bytes is stored as the decoded bytes. It is decoded once
+     * from the JSON string in deserialization, and encoded once in serialization, instead of being wrapped as
+     * Base64Url and converted in constructor, setter and getter. This is only supported with stream-style
+     * serialization.
+     *
+     * @return Whether to store base64url encoded bytes in models as byte[].
+     */
+    public boolean isUseByteArrayForBase64Url() {
+        return useByteArrayForBase64Url && isStreamStyleSerialization();
+    }
+
+    private final boolean validateInSerialization;
+
+    /**
+     * Whether to check the required properties of models in JSON serialization, instead of calling validate() on the
+     * request body.
+     * <p>
+     * If set to true, the toJson method of the model throws IllegalArgumentException on missing required property,
+     * and the client method no longer calls validate() on a JSON request body before sending it. The object graph is
+     * then traversed only once, by the serialization. This is only supported with client-side validations and
+     * stream-style serialization.
+     * <p>
+     * Note that toJson then throws on any model with a null required property, not only on a request body. This
+     * includes a model returned by the service without a required property, if it is serialized again, e.g. sent back
+     * in a later request, or written by the application to its own storage.
+     *
+     * @return Whether to check the required properties of models in JSON serialization.
+     */
+    public boolean isValidateInSerialization() {
+        return validateInSerialization && isClientSideValidations() && isStreamStyleSerialization();
+    }
+
+    private final boolean jsonLinesStreaming;
+
+    /**
+     * Whether to generate typed streaming overloads for operations of JSON Lines ("application/jsonl") request or
+     * response body.
+     * <p>
+     * If set to true, the sync client gets an overload of the convenience method, that sends the records of an
+     * Iterable serialized one at a time as the request body is sent, and/or returns a Stream of the records read one
+     * line at a time from the response body. The JsonLines helper class is generated for them. This is only supported
+     * for Azure (v1) flavor with stream-style serialization.
+     *
+     * @return Whether to generate typed streaming overloads for operations of JSON Lines body.
+     */
+    public boolean isJsonLinesStreaming() {
+        return jsonLinesStreaming && isAzureV1() && isStreamStyleSerialization();
+    }
+
+    private final boolean generateFileUploadOverloads;
+
+    /**
+     * Whether to generate overloads that upload a file, for operations of binary request body.
+     * <p>
+     * If set to true, the sync client gets an overload of the method of binary request body, that takes the Path of
+     * the file instead of BinaryData. The file is streamed from disk as the request body is sent, and the
+     * "Content-Length" header, if it is a parameter, is taken from the file size. This is only supported for
+     * clientcore based flavors.
+     *
+     * @return Whether to generate overloads that upload a file.
+     */
+    public boolean isGenerateFileUploadOverloads() {
+        return generateFileUploadOverloads && !isAzureV1();
+    }
+
+    private final boolean streamResponseDeserialization;
+
+    /**
+     * Whether to deserialize the model of the response body in convenience methods directly from the body stream.
+     * <p>
+     * If set to true, the sync convenience method parses the model with its {@code fromJson} as the buffers of the
+     * response body are received, instead of first collecting the whole body. The body is read via its Flux of
+     * buffers, so this holds for both InputStream-backed (e.g. OkHttp) and Flux-backed (e.g. Netty) HTTP clients. A
+     * body already buffered, e.g. for logging, is parsed from its bytes as before. This is only supported for Azure,
+     * with stream-style serialization.
+     *
+     * @return Whether to deserialize the model of the response body from the body stream.
+     */
+    public boolean isStreamResponseDeserialization() {
+        return streamResponseDeserialization && isAzureV1() && isStreamStyleSerialization();
+    }
+
+    private final boolean conditionalRequestCache;
+
+    /**
+     * Whether to add a cache of GET responses to the HTTP pipeline created by the client builder.
+     * <p>
+     * If set to true, the response of a GET request that carries an ETag or a Last-Modified header is cached. The next
+     * GET request to the same URL is sent with "If-None-Match" or "If-Modified-Since", and a "304 Not Modified"
+     * response is served from the cache. This is only supported for Azure data-plane clients.
+     * <p>
+     * The cache is the public "ConditionalRequestCachePolicy" class in the client package. The client builder gets a
+     * "conditionalRequestCache" setter, to set the size of the cache, disable it, or read the hit and miss counts.
+     *
+     * @return Whether to add a cache of GET responses to the HTTP pipeline.
+     */
+    public boolean isConditionalRequestCache() {
+        return conditionalRequestCache && isAzureV1() && !isFluent();
+    }
+
     private final Map<String, String> renameModel = new LinkedHashMap<>();
 
     public Map<String, String> getJavaNamesForRenameModel() {
@@ -3,9 +3,11 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.KnownMediaType;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Parameter;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Request;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodParameter;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
@@ -30,6 +32,11 @@ final class ClientMethodParameterProcessor {
         final List<String> requiredNullableParameterExpressions = new ArrayList<>();
         final Map<String, String> validateParameterExpressions = new LinkedHashMap<>();
         final boolean isJsonPatch = MethodUtil.isContentTypeInRequest(request, "application/json-patch+json");
+        // The required properties of the JSON body are checked in its serialization.
+        final boolean validateBodyInSerialization = JavaSettings.getInstance().isValidateInSerialization()
+            && request.getProtocol() != null
+            && request.getProtocol().getHttp() != null
+            && request.getProtocol().getHttp().getKnownMediaType() == KnownMediaType.JSON;
 
         final ParametersTransformationProcessor transformationProcessor
             = new ParametersTransformationProcessor(isProtocolMethod);
@@ -58,7 +65,7 @@ final class ClientMethodParameterProcessor {
                     requiredNullableParameterExpressions.add(expression);
                 }
                 final String validation = methodParameter.getClientType().validate(expression);
-                if (validation != null) {
+                if (validation != null && !(validateBodyInSerialization && isBodyParameter(codeModelParameter))) {
                     validateParameterExpressions.put(expression, validation);
                 }
             }
@@ -69,6 +76,12 @@ final class ClientMethodParameterProcessor {
             validateParameterExpressions, parameterTransformations);
     }
 
+    private static boolean isBodyParameter(Parameter parameter) {
+        return parameter.getProtocol() != null
+            && parameter.getProtocol().getHttp() != null
+            && parameter.getProtocol().getHttp().getIn() == RequestParameterLocation.BODY;
+    }
+
     private static List<Parameter> getCodeModelParameters(Request request, boolean isProtocolMethod) {
         final Stream<Parameter> codeModelParameters;
         if (isProtocolMethod) {
@@ -11,6 +11,7 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.XmlSerializationFormat;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ArrayEncoding;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ArrayType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
@@ -187,6 +188,13 @@ public class ModelPropertyMapper implements IMapper<Property, ClientModelPropert
         if (property.isNullable() || !property.isRequired()) {
             propertyWireType = propertyWireType.asNullable();
         }
+        if (propertyWireType == ClassType.BASE_64_URL
+            && xmlSerializationFormat == null
+            && settings.isUseByteArrayForBase64Url()) {
+            // store the decoded bytes, the encoding is handled in JSON serialization
+            propertyWireType = ArrayType.BYTE_ARRAY;
+            builder.base64UrlEncoded(true);
+        }
         // Invariant: clientType == wireType.getClientType()
         IType propertyClientType = propertyWireType.getClientType();
         builder.wireType(propertyWireType).clientType(propertyClientType);
@@ -21,6 +21,7 @@ import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import com.microsoft.typespec.http.client.generator.core.util.CollectionFormat;
 import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import com.microsoft.typespec.http.client.generator.core.util.SchemaUtil;
+import com.microsoft.typespec.http.client.generator.core.util.UriExpansion;
 
 public class ProxyParameterMapper implements IMapper<Parameter, ProxyMethodParameter> {
     private static final ProxyParameterMapper INSTANCE = new ProxyParameterMapper();
@@ -73,7 +74,13 @@ public class ProxyParameterMapper implements IMapper<Parameter, ProxyMethodParam
 
         builder.clientType(clientType);
 
-        if (wireType instanceof IterableType
+        UriExpansion uriExpansion = getUriExpansion(parameter);
+        builder.uriExpansion(uriExpansion);
+
+        if (uriExpansion != null) {
+            // the value is expanded to a String by UriExpander
+            wireType = ClassType.STRING;
+        } else if (wireType instanceof IterableType
             && SchemaUtil.treatAsXml(parameterJvWireType)
             && parameterRequestLocation == RequestParameterLocation.BODY) {
             String modelTypeName
@@ -114,6 +121,10 @@ public class ProxyParameterMapper implements IMapper<Parameter, ProxyMethodParam
         if (parameter.getExtensions() != null) {
             builder.alreadyEncoded(parameter.getExtensions().isXmsSkipUrlEncoding());
         }
+        if (uriExpansion != null) {
+            // UriExpander percent-encodes the value
+            builder.alreadyEncoded(true);
+        }
 
         if (parameter.getSchema() instanceof ConstantSchema) {
             builder.constant(true);
@@ -184,6 +195,42 @@ public class ProxyParameterMapper implements IMapper<Parameter, ProxyMethodParam
         return builder.build();
     }
 
+    /**
+     * Gets the RFC 6570 expansion of the path parameter, if it is other than the simple expansion.
+     *
+     * @param parameter the parameter.
+     * @return the RFC 6570 expansion of the path parameter, or null if the parameter is not a path parameter, or it is
+     * of simple expansion.
+     */
+    private static UriExpansion getUriExpansion(Parameter parameter) {
+        if (parameter.getProtocol().getHttp().getIn() != RequestParameterLocation.PATH
+            || parameter.getProtocol().getHttp().getStyle() == null) {
+            return null;
+        }
+        switch (parameter.getProtocol().getHttp().getStyle()) {
+            case LABEL:
+                return UriExpansion.LABEL;
+
+            case MATRIX:
+                return UriExpansion.MATRIX;
+
+            case PATH:
+                return UriExpansion.PATH;
+
+            case FRAGMENT:
+                return UriExpansion.FRAGMENT;
+
+            case SIMPLE:
+                // simple style that allows reserved characters
+                return (parameter.getExtensions() != null && parameter.getExtensions().isXmsSkipUrlEncoding())
+                    ? UriExpansion.RESERVED
+                    : null;
+
+            default:
+                return null;
+        }
+    }
+
     protected boolean isRemoveModelFromParameter(Parameter parameter, IType clientType) {
         return JavaSettings.getInstance().isDataPlaneClient();
     }
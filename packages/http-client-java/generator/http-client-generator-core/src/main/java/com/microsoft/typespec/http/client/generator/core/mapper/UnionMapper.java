@@ -3,13 +3,19 @@
 
 package com.microsoft.typespec.http.client.generator.core.mapper;
 
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.ObjectSchema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OrSchema;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Schema;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.SchemaContext;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.SchemaUtil;
+import io.clientcore.core.utils.CoreUtils;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class UnionMapper implements IMapper<OrSchema, IType> {
@@ -25,12 +31,48 @@ public class UnionMapper implements IMapper<OrSchema, IType> {
 
     @Override
     public ClassType map(OrSchema compositeType) {
-        return ClassType.BINARY_DATA;
-//        if (compositeType == null) {
-//            return null;
-//        }
-//
-//        return parsed.computeIfAbsent(compositeType, this::createClassType);
+        if (compositeType == null) {
+            return null;
+        }
+
+        if (!isTypedUnion(compositeType)) {
+            return ClassType.BINARY_DATA;
+        }
+        return parsed.computeIfAbsent(compositeType, this::createClassType);
+    }
+
+    /**
+     * Checks whether the union is generated as a typed union class.
+     * <p>
+     * The union is typed, only if each variant can be determined by the first JSON token of the value.
+     *
+     * @param compositeType the union.
+     * @return whether the union is generated as a typed union class.
+     */
+    private static boolean isTypedUnion(OrSchema compositeType) {
+        JavaSettings settings = JavaSettings.getInstance();
+        if (!settings.isTypedUnions() || !settings.isStreamStyleSerialization() || settings.isFluent()
+            || CoreUtils.isNullOrEmpty(compositeType.getAnyOf())) {
+            return false;
+        }
+
+        Set<String> jsonTokens = new HashSet<>();
+        for (ObjectSchema variant : compositeType.getAnyOf()) {
+            if (variant.getProperties() == null || variant.getProperties().size() != 1) {
+                return false;
+            }
+            Schema valueSchema = variant.getProperties().get(0).getSchema();
+            if (valueSchema instanceof OrSchema) {
+                return false;
+            }
+            IType valueType = Mappers.getSchemaMapper().map(valueSchema);
+            String jsonToken = valueType == null ? null : ClientModelUtil.getUnionVariantJsonToken(valueType);
+            // variants of same JSON token, e.g. "int | float", could not be told apart before reading the value
+            if (jsonToken == null || !jsonTokens.add(jsonToken)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private ClassType createClassType(OrSchema compositeType) {
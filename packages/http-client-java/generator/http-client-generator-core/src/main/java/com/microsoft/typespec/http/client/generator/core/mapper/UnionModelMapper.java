@@ -33,7 +33,11 @@ public class UnionModelMapper implements IMapper<OrSchema, List<UnionModel>> {
 
     @Override
     public List<UnionModel> map(OrSchema type) {
-        return List.of();
+        if (type == null || Mappers.getUnionMapper().map(type) == ClassType.BINARY_DATA) {
+            // union is not typed, its value is BinaryData
+            return List.of();
+        }
+        return createSubClasses(type);
     }
 
     private List<UnionModel> createSubClasses(OrSchema type) {
@@ -5,6 +5,7 @@ package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 
 import com.microsoft.typespec.http.client.generator.core.extension.model.extensionmodel.XmsExtensions;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import com.microsoft.typespec.http.client.generator.core.util.WireTypeClientTypeConverter;
 import io.clientcore.core.credentials.oauth.OAuthTokenRequestContext;
@@ -68,6 +69,23 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
         }
     }
 
+    private static String parseDateTimeMethod() {
+        if (JavaSettings.getInstance().isUseDateTimeCodec()) {
+            return ClientModelUtil.DATE_TIME_CODEC
+                + (JavaSettings.getInstance().isAzureV1() ? ".parseBestDateTime" : ".parseDateTime");
+        } else {
+            return JavaSettings.getInstance().isAzureV1()
+                ? CORE_UTILS.getName() + ".parseBestOffsetDateTime"
+                : "OffsetDateTime.parse";
+        }
+    }
+
+    private static String parseDurationMethod() {
+        return JavaSettings.getInstance().isUseDateTimeCodec()
+            ? ClientModelUtil.DATE_TIME_CODEC + ".parseDuration"
+            : "Duration.parse";
+    }
+
     // Client builder traits.
     public static final ClassType AZURE_KEY_CREDENTIAL_TRAIT
         = new ClassType("com.azure.core.client.traits", "AzureKeyCredentialTrait");
@@ -439,20 +457,15 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
         .defaultValueExpressionConverter(
             defaultValueExpression -> "OffsetDateTime.parse(\"" + defaultValueExpression + "\")")
         .jsonToken("JsonToken.STRING")
-        .serializationValueGetterModifier(valueGetter -> valueGetter
-            + " == null ? null : DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(" + valueGetter + ")")
-        .jsonDeserializationMethod(JavaSettings.getInstance().isAzureV1()
-            ? ("getNullable(nonNullReader -> " + CORE_UTILS.getName()
-                + ".parseBestOffsetDateTime(nonNullReader.getString()))")
-            : ("getNullable(nonNullReader -> OffsetDateTime.parse(nonNullReader.getString()))"))
+        .serializationValueGetterModifier(valueGetter -> JavaSettings.getInstance().isUseDateTimeCodec()
+            ? ClientModelUtil.DATE_TIME_CODEC + ".formatDateTime(" + valueGetter + ")"
+            : valueGetter + " == null ? null : DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(" + valueGetter + ")")
+        .jsonDeserializationMethod(
+            "getNullable(nonNullReader -> " + parseDateTimeMethod() + "(nonNullReader.getString()))")
         .serializationMethodBase("writeString")
-        .xmlElementDeserializationMethod(JavaSettings.getInstance().isAzureV1()
-            ? ("getNullableElement(dateString -> " + CORE_UTILS.getName() + ".parseBestOffsetDateTime(dateString))")
-            : ("getNullableElement(dateString -> OffsetDateTime.parse(dateString))"))
-        .xmlAttributeDeserializationTemplate(JavaSettings.getInstance().isAzureV1()
-            ? ("%s.getNullableAttribute(%s, %s, dateString -> " + CORE_UTILS.getName()
-                + ".parseBestOffsetDateTime(dateString))")
-            : ("%s.getNullableAttribute(%s, %s, dateString -> OffsetDateTime.parse(dateString))"))
+        .xmlElementDeserializationMethod("getNullableElement(dateString -> " + parseDateTimeMethod() + "(dateString))")
+        .xmlAttributeDeserializationTemplate(
+            "%s.getNullableAttribute(%s, %s, dateString -> " + parseDateTimeMethod() + "(dateString))")
         .build();
 
     public static final ClassType DURATION = new Builder(false).knownClass(Duration.class)
@@ -461,10 +474,11 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
         .serializationValueGetterModifier(valueGetter -> JavaSettings.getInstance().isAzureV1()
             ? CORE_UTILS.getName() + ".durationToStringWithDays(" + valueGetter + ")"
             : "Objects.toString(" + valueGetter + ", null)")
-        .jsonDeserializationMethod("getNullable(nonNullReader -> Duration.parse(nonNullReader.getString()))")
+        .jsonDeserializationMethod(
+            "getNullable(nonNullReader -> " + parseDurationMethod() + "(nonNullReader.getString()))")
         .serializationMethodBase("writeString")
-        .xmlElementDeserializationMethod("getNullableElement(Duration::parse)")
-        .xmlAttributeDeserializationTemplate("%s.getNullableAttribute(%s, %s, Duration::parse)")
+        .xmlElementDeserializationMethod("getNullableElement(" + parseDurationMethod() + ")")
+        .xmlAttributeDeserializationTemplate("%s.getNullableAttribute(%s, %s, " + parseDurationMethod() + ")")
         .build();
 
     public static final ClassType BIG_DECIMAL = new Builder(false).knownClass(BigDecimal.class)
@@ -655,6 +669,13 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
             imports.add(DateTimeFormatter.class.getName());
         }
 
+        if ((this == ClassType.DATE_TIME || this == ClassType.DURATION)
+            && JavaSettings.getInstance().isUseDateTimeCodec()) {
+            JavaSettings settings = JavaSettings.getInstance();
+            imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                + ClientModelUtil.DATE_TIME_CODEC);
+        }
+
         if (this == ClassType.DATE_TIME_RFC_1123) {
             // May need OffsetDateTime when consuming DateTimeRfc1123 APIs as DateTimeRfc1123 APIs consume and return
             // OffsetDateTime.
@@ -718,7 +739,9 @@ public class ClassType implements IType, ConvertToJsonTypeTrait, ConvertFromJson
     }
 
     public String validate(String expression) {
-        if (packageName.startsWith(JavaSettings.getInstance().getPackage())) {
+        // typed union has no validate()
+        if (packageName.startsWith(JavaSettings.getInstance().getPackage())
+            && UnionModels.getInstance().getModel(name) == null) {
             return expression + ".validate()";
         } else {
             return null;
@@ -123,7 +123,7 @@ public class ClientBuilderTrait {
                 "The HTTP pipeline to send requests " + "through.", ClassType.HTTP_PIPELINE, "pipeline", false,
                 JavaSettings.getInstance().isFluent()
                     ? "new HttpPipelineBuilder().policies(new UserAgentPolicy(), new RetryPolicy()).build()"
-                    : "createHttpPipeline()");
+                    : "getOrCreateHttpPipeline()");
             importPackages.add(ClassType.LOG_LEVEL.getFullName());
             Consumer<JavaBlock> pipelineMethodImpl = function -> {
                 final String pipelineVarName = "pipeline";
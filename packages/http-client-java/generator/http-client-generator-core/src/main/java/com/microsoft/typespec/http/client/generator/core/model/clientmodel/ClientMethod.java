@@ -8,6 +8,7 @@ import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSe
 import com.microsoft.typespec.http.client.generator.core.implementation.OperationInstrumentationInfo;
 import com.microsoft.typespec.http.client.generator.core.mapper.CollectionUtil;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import io.clientcore.core.utils.CoreUtils;
@@ -388,9 +389,11 @@ public class ClientMethod {
                 parameterWireType = ClassType.STRING;
             }
 
-            String parameterWireName = (parameterClientType != parameterWireType)
-                ? CodeNamer.toCamelCase(CodeNamer.removeInvalidCharacters(parameterName)) + "Converted"
-                : parameterName;
+            // value of RFC 6570 expansion is always converted by UriExpander
+            String parameterWireName
+                = (parameterClientType != parameterWireType || parameter.getUriExpansion() != null)
+                    ? CodeNamer.toCamelCase(CodeNamer.removeInvalidCharacters(parameterName)) + "Converted"
+                    : parameterName;
 
             String result;
             if (getParameterTransformations().hasOutParameter(parameterName + "1")) {
@@ -464,6 +467,7 @@ public class ClientMethod {
 
         imports.add("java.util.Objects");
         imports.add("java.util.stream.Collectors");
+        imports.add("java.time.format.DateTimeFormatter");
         ClassType.BINARY_DATA.addImportsTo(imports, includeImplementationImports);
         ClassType.RESPONSE.addImportsTo(imports, includeImplementationImports);
         ClassType.SIMPLE_RESPONSE.addImportsTo(imports, includeImplementationImports);
@@ -509,6 +513,13 @@ public class ClientMethod {
             if (getMethodPageDetails() != null) {
                 imports.add(ClassType.PAGED_RESPONSE_BASE.getFullName());
 
+                if (!settings.isAzureV1()
+                    && settings.isPagePrefetchEnabled()
+                    && ClientModelUtil.isPrefetchPagingMethod(this)) {
+                    imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                        + ClientModelUtil.PAGE_PREFETCHER);
+                }
+
                 if (settings.isDataPlaneClient()) {
                     imports.add("java.util.List");
                     imports.add("java.util.Map");
@@ -92,6 +92,7 @@ public class ClientModelProperty implements ClientModelPropertyAccess {
 
     private final Boolean requiredForCreate;
     private final ArrayEncoding arrayEncoding;
+    private final boolean base64UrlEncoded;
 
     /**
      * Create a new ClientModelProperty with the provided properties.
@@ -118,6 +119,7 @@ public class ClientModelProperty implements ClientModelPropertyAccess {
      * @param xmlPrefix The prefix of the XML attribute or element this property represents.
      * @param requiredForCreate Whether this property is required when create the resource.
      * @param arrayEncoding The array encoding metadata of this property.
+     * @param base64UrlEncoded Whether this byte[] property is base64url encoded in JSON.
      */
     private ClientModelProperty(String name, String description, String annotationArguments, boolean isXmlAttribute,
         String xmlName, String xmlNamespace, String serializedName, boolean isXmlWrapper, String xmlListElementName,
@@ -125,7 +127,7 @@ public class ClientModelProperty implements ClientModelPropertyAccess {
         boolean isConstant, String defaultValue, boolean isReadOnly, List<Mutability> mutabilities, boolean isRequired,
         String headerCollectionPrefix, boolean isAdditionalProperties, boolean needsFlatten, boolean clientFlatten,
         boolean polymorphicDiscriminator, boolean isXmlText, String xmlPrefix, Boolean requiredForCreate,
-        ArrayEncoding arrayEncoding) {
+        ArrayEncoding arrayEncoding, boolean base64UrlEncoded) {
         this.name = name;
         this.description = description;
         this.annotationArguments = annotationArguments;
@@ -153,6 +155,7 @@ public class ClientModelProperty implements ClientModelPropertyAccess {
         this.xmlPrefix = xmlPrefix;
         this.requiredForCreate = requiredForCreate;
         this.arrayEncoding = arrayEncoding;
+        this.base64UrlEncoded = base64UrlEncoded;
     }
 
     public final String getName() {
@@ -291,6 +294,15 @@ public class ClientModelProperty implements ClientModelPropertyAccess {
         return arrayEncoding;
     }
 
+    /**
+     * Whether this property is byte[] that is encoded as base64url string in JSON, instead of base64 string.
+     *
+     * @return Whether this property is byte[] that is encoded as base64url string in JSON.
+     */
+    public boolean isBase64UrlEncoded() {
+        return base64UrlEncoded;
+    }
+
     /**
      * Add this ServiceModelProperty's imports to the provided set of imports.
      * 
@@ -403,6 +415,7 @@ public class ClientModelProperty implements ClientModelPropertyAccess {
         private String xmlPrefix;
         private Boolean requiredForCreate;
         private ArrayEncoding arrayEncoding;
+        private boolean base64UrlEncoded = false;
 
         /**
          * Sets the name of this property.
@@ -699,6 +712,18 @@ public class ClientModelProperty implements ClientModelPropertyAccess {
             return this;
         }
 
+        /**
+         * Sets whether the byte[] property being constructed is encoded as base64url string in JSON, instead of base64
+         * string.
+         *
+         * @param base64UrlEncoded Whether the byte[] property is encoded as base64url string in JSON.
+         * @return the Builder itself
+         */
+        public Builder base64UrlEncoded(boolean base64UrlEncoded) {
+            this.base64UrlEncoded = base64UrlEncoded;
+            return this;
+        }
+
         /**
          * Creates a new instance of Builder.
          */
@@ -733,6 +758,7 @@ public class ClientModelProperty implements ClientModelPropertyAccess {
             this.xmlPrefix = property.getXmlPrefix();
             this.requiredForCreate = property.requiredForCreate;
             this.arrayEncoding = property.getArrayEncoding();
+            this.base64UrlEncoded = property.isBase64UrlEncoded();
         }
 
         public ClientModelProperty build() {
@@ -740,7 +766,7 @@ public class ClientModelProperty implements ClientModelPropertyAccess {
                 xmlNamespace, serializedName, isXmlWrapper, xmlListElementName, xmlListElementNamespace,
                 xmlListElementPrefix, wireType, clientType, isConstant, defaultValue, isReadOnly, mutabilities,
                 isRequired, headerCollectionPrefix, isAdditionalProperties, needsFlatten, clientFlatten,
-                polymorphicDiscriminator, isXmlText, xmlPrefix, requiredForCreate, arrayEncoding);
+                polymorphicDiscriminator, isXmlText, xmlPrefix, requiredForCreate, arrayEncoding, base64UrlEncoded);
         }
     }
 }
@@ -6,8 +6,10 @@ package com.microsoft.typespec.http.client.generator.core.model.clientmodel;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CollectionFormat;
 import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
+import com.microsoft.typespec.http.client.generator.core.util.UriExpansion;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Set;
@@ -122,6 +124,10 @@ public class ProxyMethodParameter extends MethodParameter {
      * The explode if the parameter is a list type.
      */
     private final boolean explode;
+    /**
+     * The RFC 6570 expansion if the parameter is a path parameter of expansion other than the simple expansion.
+     */
+    private final UriExpansion uriExpansion;
 
     private final ParameterSynthesizedOrigin origin;
 
@@ -148,12 +154,14 @@ public class ProxyMethodParameter extends MethodParameter {
      * @param collectionFormat The collection format if the parameter is a list type.
      * @param explode Whether arrays and objects should generate separate parameters for each array item or object
      * property.
+     * @param uriExpansion The RFC 6570 expansion if the parameter is a path parameter of expansion other than the
+     * simple expansion.
      */
     protected ProxyMethodParameter(String description, IType rawType, IType wireType, IType clientType, String name,
         RequestParameterLocation requestParameterLocation, String requestParameterName, boolean alreadyEncoded,
         boolean isConstant, boolean isRequired, boolean isNullable, boolean fromClient, String headerCollectionPrefix,
         String parameterReference, String defaultValue, CollectionFormat collectionFormat, boolean explode,
-        ParameterSynthesizedOrigin origin) {
+        UriExpansion uriExpansion, ParameterSynthesizedOrigin origin) {
         super(description, wireType, rawType, clientType, name, requestParameterLocation, isConstant, isRequired,
             fromClient, defaultValue);
         this.requestParameterName = requestParameterName;
@@ -163,6 +171,7 @@ public class ProxyMethodParameter extends MethodParameter {
         this.parameterReference = parameterReference;
         this.collectionFormat = collectionFormat;
         this.explode = explode;
+        this.uriExpansion = uriExpansion;
         this.origin = origin;
     }
 
@@ -199,6 +208,10 @@ public class ProxyMethodParameter extends MethodParameter {
         return explode;
     }
 
+    public final UriExpansion getUriExpansion() {
+        return uriExpansion;
+    }
+
     public ParameterSynthesizedOrigin getOrigin() {
         return origin;
     }
@@ -267,6 +280,11 @@ public class ProxyMethodParameter extends MethodParameter {
         }
 
         if (includeImplementationImports) {
+            if (getUriExpansion() != null) {
+                imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+                    + ClientModelUtil.URI_EXPANDER);
+            }
+
             getWireType().addImportsTo(imports, includeImplementationImports);
             if (getRawType() != null) {
                 getRawType().addImportsTo(imports, includeImplementationImports);
@@ -308,6 +326,7 @@ public class ProxyMethodParameter extends MethodParameter {
         protected String defaultValue;
         protected CollectionFormat collectionFormat;
         protected boolean explode;
+        protected UriExpansion uriExpansion;
         protected ParameterSynthesizedOrigin origin;
 
         /**
@@ -499,6 +518,18 @@ public class ProxyMethodParameter extends MethodParameter {
             return this;
         }
 
+        /**
+         * Sets the RFC 6570 expansion if the parameter is a path parameter of expansion other than the simple
+         * expansion.
+         *
+         * @param uriExpansion the RFC 6570 expansion of the path parameter
+         * @return the Builder itself
+         */
+        public Builder uriExpansion(UriExpansion uriExpansion) {
+            this.uriExpansion = uriExpansion;
+            return this;
+        }
+
         /**
          * Sets origin of the parameter.
          *
@@ -534,13 +565,15 @@ public class ProxyMethodParameter extends MethodParameter {
             this.defaultValue = parameter.getDefaultValue();
             this.collectionFormat = parameter.getCollectionFormat();
             this.explode = parameter.getExplode();
+            this.uriExpansion = parameter.getUriExpansion();
             this.origin = parameter.getOrigin();
         }
 
         public ProxyMethodParameter build() {
             return new ProxyMethodParameter(description, rawType, wireType, clientType, name, requestParameterLocation,
                 requestParameterName, alreadyEncoded, isConstant, isRequired, isNullable, fromClient,
-                headerCollectionPrefix, parameterReference, defaultValue, collectionFormat, explode, origin);
+                headerCollectionPrefix, parameterReference, defaultValue, collectionFormat, explode, uriExpansion,
+                origin);
         }
     }
 }
@@ -31,11 +31,13 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaInt
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaJavadocComment;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import com.microsoft.typespec.http.client.generator.core.util.CollectionFormat;
 import com.microsoft.typespec.http.client.generator.core.util.MethodNamer;
 import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
+import com.microsoft.typespec.http.client.generator.core.util.UriExpansion;
 import io.clientcore.core.annotations.ReturnType;
 import io.clientcore.core.http.models.HttpHeaderName;
 import io.clientcore.core.utils.CoreUtils;
@@ -348,6 +350,11 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
             final RequestParameterLocation location = parameter.getRequestParameterLocation();
             final IType parameterClientType = parameter.getClientType();
 
+            if (parameter.getUriExpansion() != null) {
+                writeUriExpansion(function, clientMethod, parameter);
+                continue;
+            }
+
             IType parameterWireType;
             if (parameter.isNullable()) {
                 parameterWireType = parameter.getWireType().asNullable();
@@ -431,6 +438,28 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
         }
     }
 
+    /**
+     * Writes the code that expands the value of the path parameter by its RFC 6570 expansion, e.g. label or matrix.
+     * <p>
+     * The expansion is percent-encoded by UriExpander in a single pass, and is substituted into the path as-is.
+     * </p>
+     *
+     * @param function The client method code block.
+     * @param clientMethod The client method.
+     * @param parameter The path parameter of RFC 6570 expansion.
+     */
+    protected static void writeUriExpansion(JavaBlock function, ClientMethod clientMethod,
+        ProxyMethodParameter parameter) {
+        final boolean alwaysNull = clientMethod.getOnlyRequiredParameters() && !parameter.isRequired();
+        final UriExpansion uriExpansion = parameter.getUriExpansion();
+        String arguments = alwaysNull ? "null" : parameter.getParameterReference();
+        if (uriExpansion == UriExpansion.MATRIX) {
+            arguments = ClassType.STRING.defaultValueExpression(parameter.getRequestParameterName()) + ", " + arguments;
+        }
+        function.line("String %s = %s.%s(%s, %s);", parameter.getParameterReferenceConverted(),
+            ClientModelUtil.URI_EXPANDER, uriExpansion.getMethodName(), arguments, parameter.getExplode());
+    }
+
     /**
      * Obtain the Java code that converts an iterable to a list of string values.
      *
@@ -565,6 +594,22 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
             iterableToSerialize = parameterName;
         }
 
+        final String itemToWireString = itemToWireString(elementWireType, "paramItemValue");
+        if (itemToWireString != null) {
+            // Known type of item, convert List<WireType> to String without the serializer.
+            String stream = parameterName + ".stream()";
+            if (elementWireType != elementType) {
+                stream += ".map(paramItemValue -> " + elementWireType.convertFromClientType("paramItemValue") + ")";
+            }
+            final String streamToString = stream + ".map(paramItemValue -> " + itemToWireString + ")"
+                + ".collect(Collectors.joining(" + delimiter + "))";
+            if (shouldCheckNull) {
+                return "(" + parameterName + " == null) ? null : " + streamToString;
+            } else {
+                return streamToString;
+            }
+        }
+
         // Use serializer to convert List<WireType> to String.
         //
         if (JavaSettings.getInstance().isAzureV1()) {
@@ -587,6 +632,41 @@ public class ClientMethodTemplate extends ClientMethodTemplateBase {
         }
     }
 
+    /**
+     * Obtain the Java code that converts an item of a collection parameter to its string wire value, without the
+     * serializer.
+     * <p>
+     * The string is the same as the serializer would produce, with the quotes stripped. Null item is converted to an
+     * empty string.
+     * </p>
+     *
+     * @param elementWireType the wire type of the item.
+     * @param itemName the name of the item.
+     * @return Java code that converts the item to string, or null if the type of the item requires the serializer.
+     */
+    protected static String itemToWireString(IType elementWireType, String itemName) {
+        final boolean azureV1 = JavaSettings.getInstance().isAzureV1();
+        if (elementWireType instanceof PrimitiveType
+            || elementWireType == ClassType.STRING
+            || (elementWireType instanceof ClassType && ((ClassType) elementWireType).isBoxedType())
+            || elementWireType == ClassType.UUID
+            || elementWireType == ClassType.LOCAL_DATE) {
+            return "Objects.toString(" + itemName + ", \"\")";
+        } else if (elementWireType == ClassType.DATE_TIME) {
+            // azure-core serializer writes OffsetDateTime in UTC, clientcore serializer writes its toString
+            return azureV1
+                ? itemName + " == null ? \"\" : DateTimeFormatter.ISO_INSTANT.format(" + itemName + ")"
+                : "Objects.toString(" + itemName + ", \"\")";
+        } else if (elementWireType == ClassType.DATE_TIME_RFC_1123 && azureV1) {
+            return "Objects.toString(" + itemName + ", \"\")";
+        } else if (elementWireType == ClassType.DURATION && !azureV1) {
+            // azure-core serializer writes Duration in a format different from its toString
+            return "Objects.toString(" + itemName + ", \"\")";
+        } else {
+            return null;
+        }
+    }
+
     /**
      * Obtain the Java code that converts a parameter of type byte[] to Base64 encoded form (encoded as string or url).
      *
@@ -182,6 +182,10 @@ public class ConvenienceAsyncMethodTemplate extends ConvenienceMethodTemplateBas
                     } else {
                         return "protocolMethodData -> protocolMethodData.toObject(byte[].class)";
                     }
+                } else if (useJsonSerializableHelper(responseBodyType, mimeType)) {
+                    // model, deserialize via its fromJson
+                    return "protocolMethodData -> "
+                        + expressionJsonSerializableFromBinaryData(responseBodyType, "protocolMethodData");
                 } else {
                     // default, treat as class
                     return "protocolMethodData -> protocolMethodData.toObject(" + responseBodyType.asNullable()
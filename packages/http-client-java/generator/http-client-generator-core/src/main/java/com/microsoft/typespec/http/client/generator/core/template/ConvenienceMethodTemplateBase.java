@@ -45,6 +45,7 @@ import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -171,7 +172,7 @@ abstract class ConvenienceMethodTemplateBase {
                                     ClientModelUtil.getClientModel(((ClassType) parameterType).getName()),
                                     JavaSettings.getInstance())) {
                                 String variableName = writeParameterConversionExpressionWithJsonMergePatchEnabled(
-                                    javaBlock, parameterType.toString(), parameter.getName(), expression);
+                                    javaBlock, parameterType.toString(), parameter.getName());
                                 addRequestCallback(javaBlock, variableName);
                             } else {
                                 addRequestCallback(javaBlock, expression);
@@ -204,7 +205,7 @@ abstract class ConvenienceMethodTemplateBase {
                 IType rootParentModelType = rootParentModel.getType();
 
                 return writeParameterConversionExpressionWithJsonMergePatchEnabled(methodBlock,
-                    rootParentModelType.toString(), parameterName, expression);
+                    rootParentModelType.toString(), parameterName);
             } else {
                 return expression == null ? parameterName : expression;
             }
@@ -418,6 +419,7 @@ abstract class ConvenienceMethodTemplateBase {
         ClassType.REQUEST_CONTEXT.addImportsTo((imports), false);
         imports.add(Collectors.class.getName());
         imports.add(Objects.class.getName());
+        imports.add(DateTimeFormatter.class.getName());
         imports.add(ClassType.FLUX_UTIL.getFullName());
 
         // collection format
@@ -446,6 +448,10 @@ abstract class ConvenienceMethodTemplateBase {
         // JsonMergePatchHelper class
         imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
             + ClientModelUtil.JSON_MERGE_PATCH_HELPER_CLASS_NAME);
+
+        // JsonSerializableHelper class
+        imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "."
+            + ClientModelUtil.JSON_SERIALIZABLE_HELPER_CLASS_NAME);
     }
 
     protected void addGeneratedAnnotation(JavaType typeBlock) {
@@ -575,6 +581,9 @@ abstract class ConvenienceMethodTemplateBase {
                 } else {
                     if (type == ClassType.BASE_64_URL) {
                         return "BinaryData.fromObject(" + ClassType.BASE_64_URL.getName() + ".encode(" + name + "))";
+                    } else if (useJsonSerializableHelper(type, mimeType)) {
+                        // model serializes itself via toJson, skip the JsonSerializer
+                        return ClientModelUtil.JSON_SERIALIZABLE_HELPER_CLASS_NAME + ".toBinaryData(" + name + ")";
                     } else if (type instanceof EnumType) {
                         return "BinaryData.fromObject(" + name + " == null ? null : " + name + "."
                             + ((EnumType) type).getToMethodName() + "())";
@@ -585,6 +594,46 @@ abstract class ConvenienceMethodTemplateBase {
         }
     }
 
+    /**
+     * Whether the model would be serialized/deserialized via JsonSerializableHelper, which calls the toJson and
+     * fromJson methods of the model directly.
+     *
+     * @param type the type of the request or response body.
+     * @param mimeType the mime type of the request or response body.
+     * @return Whether to use JsonSerializableHelper.
+     */
+    protected static boolean useJsonSerializableHelper(IType type, SupportedMimeType mimeType) {
+        JavaSettings settings = JavaSettings.getInstance();
+        return mimeType == SupportedMimeType.JSON
+            && settings.isAzureV1()
+            && ClientModelUtil.isJsonSerializableModel(type, settings);
+    }
+
+    /**
+     * Gets the expression that deserializes the model from BinaryData via the fromJson method of the model.
+     *
+     * @param type the type of the model.
+     * @param binaryDataExpression the expression of the BinaryData.
+     * @return the expression that deserializes the model.
+     */
+    protected static String expressionJsonSerializableFromBinaryData(IType type, String binaryDataExpression) {
+        return ClientModelUtil.JSON_SERIALIZABLE_HELPER_CLASS_NAME + ".fromBinaryData(" + binaryDataExpression + ", "
+            + type.asNullable() + "::fromJson)";
+    }
+
+    /**
+     * Gets the expression that deserializes the model from the content of BinaryData via the fromJson method of the
+     * model, so that the response body that is not yet read is parsed as it is received.
+     *
+     * @param type the type of the model.
+     * @param binaryDataExpression the expression of the BinaryData.
+     * @return the expression that deserializes the model.
+     */
+    protected static String expressionJsonSerializableFromBinaryDataStream(IType type, String binaryDataExpression) {
+        return ClientModelUtil.JSON_SERIALIZABLE_HELPER_CLASS_NAME + ".fromBinaryDataStream(" + binaryDataExpression
+            + ", " + type.asNullable() + "::fromJson)";
+    }
+
     private static void writeHeader(MethodParameter parameter, JavaBlock methodBlock) {
         Consumer<JavaBlock> writeLine
             = javaBlock -> javaBlock.line(String.format("requestOptions.setHeader(%1$s, %2$s);",
@@ -690,6 +739,18 @@ abstract class ConvenienceMethodTemplateBase {
                                 elementWireType.convertFromClientType("paramItemValue"));
                     }
 
+                    String itemToWireString = ClientMethodTemplate.itemToWireString(elementWireType, "paramItemValue");
+                    if (itemToWireString != null) {
+                        // known type of item, convert List<WireType> to String without the serializer
+                        String stream = name + ".stream()";
+                        if (elementWireType != elementType) {
+                            stream += "\n    .map(paramItemValue -> "
+                                + elementWireType.convertFromClientType("paramItemValue") + ")";
+                        }
+                        return stream + "\n    .map(paramItemValue -> " + itemToWireString + ")\n"
+                            + "    .collect(Collectors.joining(" + delimiter + "))";
+                    }
+
                     // convert List<WireType> to String
                     return String.format(
                         "JacksonAdapter.createDefaultSerializerAdapter().serializeIterable(%s, CollectionFormat.%s)",
@@ -865,28 +926,29 @@ abstract class ConvenienceMethodTemplateBase {
     }
 
     /**
-     * Writes the expression to convert a convenience parameter to a protocol parameter and wrap it in
-     * JsonMergePatchHelper.
-     * 
-     * @param javaBlock
-     * @param convenientParameterTypeName
-     * @param convenientParameterName
-     * @param expression
+     * Writes the expression to convert a convenience parameter to a protocol parameter, serialized via the
+     * toJsonMergePatch of JsonMergePatchHelper.
+     * <p>
+     * The serialization does not modify the model, and is deferred until the request body is consumed.
+     *
+     * @param javaBlock the code block
+     * @param convenientParameterTypeName the type name of the convenience parameter
+     * @param convenientParameterName the name of the convenience parameter
      * @return the name of the variable that holds the converted parameter
      */
     private static String writeParameterConversionExpressionWithJsonMergePatchEnabled(JavaBlock javaBlock,
-        String convenientParameterTypeName, String convenientParameterName, String expression) {
+        String convenientParameterTypeName, String convenientParameterName) {
+        // toJsonMergePatch is defined on the accessor of root parent model
+        ClientModel clientModel = ClientModelUtil.getClientModel(convenientParameterTypeName);
+        String rootParentModelName = clientModel == null
+            ? convenientParameterTypeName
+            : ClientModelUtil.getRootParent(clientModel).getName();
+
         String variableName = convenientParameterName + "InBinaryData";
-        javaBlock
-            .line(String.format("JsonMergePatchHelper.get%1$sAccessor().prepareModelForJsonMergePatch(%2$s, true);",
-                convenientParameterTypeName, convenientParameterName));
-        javaBlock.line("BinaryData " + variableName + " = " + expression + ";");
-        javaBlock
-            .line("// BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.");
-        javaBlock.line(variableName + ".getLength();");
-        javaBlock
-            .line(String.format("JsonMergePatchHelper.get%1$sAccessor().prepareModelForJsonMergePatch(%2$s, false);",
-                convenientParameterTypeName, convenientParameterName));
+        javaBlock.line(String.format(
+            "BinaryData %1$s = %2$s.toBinaryData(%3$s, JsonMergePatchHelper.get%4$sAccessor()::toJsonMergePatch);",
+            variableName, ClientModelUtil.JSON_SERIALIZABLE_HELPER_CLASS_NAME, convenientParameterName,
+            rootParentModelName));
         return variableName;
     }
 
@@ -15,16 +15,21 @@ import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Gener
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import io.clientcore.core.utils.CoreUtils;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase {
 
     private static final ConvenienceSyncMethodTemplate INSTANCE = new ConvenienceSyncMethodTemplate();
     private static final String ASYNC_CLIENT_VAR_NAME = "client";
+    private static final String READ_VALUE_CALLBACK = "com.azure.json.ReadValueCallback";
 
     protected ConvenienceSyncMethodTemplate() {
     }
@@ -41,6 +46,100 @@ public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase
         if (JavaSettings.getInstance().isUseClientLogger()) {
             ClassType.CLIENT_LOGGER.addImportsTo(imports, false);
         }
+
+        JavaSettings settings = JavaSettings.getInstance();
+        if (settings.isJsonLinesStreaming()) {
+            imports.add(Stream.class.getName());
+            ClassType.JSON_SERIALIZABLE.addImportsTo(imports, false);
+            ClassType.JSON_READER.addImportsTo(imports, false);
+            imports.add(READ_VALUE_CALLBACK);
+            imports.add(settings.getPackage(settings.getImplementationSubpackage()) + "." + ClientModelUtil.JSON_LINES);
+        }
+    }
+
+    @Override
+    public void write(ConvenienceMethod convenienceMethodObj, JavaClass classBlock,
+        Set<GenericType> typeReferenceStaticClasses) {
+        super.write(convenienceMethodObj, classBlock, typeReferenceStaticClasses);
+
+        if (JavaSettings.getInstance().isJsonLinesStreaming() && isMethodIncluded(convenienceMethodObj)) {
+            convenienceMethodObj.getConvenienceMethods()
+                .stream()
+                .filter(this::isMethodIncluded)
+                .filter(ClientModelUtil::isJsonLinesMethod)
+                .forEach(convenienceMethod -> writeJsonLinesMethod(convenienceMethod, classBlock));
+        }
+    }
+
+    /**
+     * Writes the overload of the convenience method of JSON Lines body, that sends the records of an Iterable as the
+     * request body, and/or returns a Stream of the records of the response body. The records are serialized or
+     * deserialized one at a time, as the body is sent or the Stream is consumed.
+     *
+     * @param convenienceMethod the convenience method of JSON Lines body.
+     * @param classBlock the class block.
+     */
+    private void writeJsonLinesMethod(ClientMethod convenienceMethod, JavaClass classBlock) {
+        final ClientMethodParameter bodyParameter = ClientModelUtil.getJsonLinesBodyParameter(convenienceMethod);
+        final boolean jsonLinesResponse = ClientModelUtil.isJsonLinesResponse(convenienceMethod);
+
+        List<String> parameterDeclarations = new ArrayList<>();
+        List<String> arguments = new ArrayList<>();
+        for (ClientMethodParameter parameter : convenienceMethod.getMethodInputParameters()) {
+            if (parameter == bodyParameter) {
+                parameterDeclarations.add("Iterable<? extends JsonSerializable<?>> " + parameter.getName());
+                arguments.add(ClientModelUtil.JSON_LINES + ".write(" + parameter.getName() + ")");
+            } else {
+                parameterDeclarations.add(parameter.getDeclaration());
+                arguments.add(parameter.getName());
+            }
+        }
+        if (jsonLinesResponse) {
+            parameterDeclarations.add("ReadValueCallback<JsonReader, T> elementReader");
+        }
+
+        classBlock.javadocComment(comment -> {
+            comment.description(convenienceMethod.getDescription());
+            comment.line("<p>");
+            comment.line(jsonLinesResponse
+                ? "The records of the response body are read one line at a time, as the returned stream is consumed."
+                : "The records are serialized one at a time, as the request body is sent.");
+            for (ClientMethodParameter parameter : convenienceMethod.getMethodInputParameters()) {
+                comment.param(parameter.getName(),
+                    parameter == bodyParameter
+                        ? "the records of the JSON Lines request body."
+                        : ClientMethodTemplate.parameterDescriptionOrDefault(parameter));
+            }
+            if (jsonLinesResponse) {
+                comment.param("elementReader", "the function to read a record of the response body.");
+                comment.param("<T>", "the type of the records of the response body.");
+            }
+            comment.methodThrows("IllegalArgumentException", "thrown if parameters fail the validation");
+            ClientMethodTemplate.generateJavadocExceptions(convenienceMethod, comment, false);
+            comment.methodThrows("RuntimeException",
+                "all other wrapped checked exceptions if the request fails to be sent");
+            if (jsonLinesResponse) {
+                comment.methodReturns("the stream of the records of the response body.");
+            }
+        });
+        addGeneratedAnnotation(classBlock);
+        TemplateUtil.writeClientMethodServiceMethodAnnotation(convenienceMethod, classBlock);
+
+        String returnType
+            = jsonLinesResponse ? "<T> Stream<T>" : convenienceMethod.getReturnValue().getType().toString();
+        String methodDeclaration = String.format("%1$s %2$s(%3$s)", returnType, getMethodName(convenienceMethod),
+            String.join(", ", parameterDeclarations));
+        classBlock.method(convenienceMethod.getMethodVisibilityInWrapperClient(), null, methodDeclaration,
+            methodBlock -> {
+                String invocation = getMethodName(convenienceMethod) + "(" + String.join(", ", arguments) + ")";
+                if (jsonLinesResponse) {
+                    methodBlock.methodReturn(ClientModelUtil.JSON_LINES + ".read(" + invocation + ", elementReader)");
+                } else if (convenienceMethod.getReturnValue().getType().asNullable() == ClassType.VOID) {
+                    methodBlock.line(invocation + ";");
+                } else {
+                    methodBlock.methodReturn(invocation);
+                }
+            });
     }
 
     @Override
@@ -241,6 +340,11 @@ public class ConvenienceSyncMethodTemplate extends ConvenienceMethodTemplateBase
                     } else {
                         return invocationExpression + ".toObject(byte[].class)";
                     }
+                } else if (useJsonSerializableHelper(responseBodyType, mimeType)) {
+                    // model, deserialize via its fromJson
+                    return JavaSettings.getInstance().isStreamResponseDeserialization()
+                        ? expressionJsonSerializableFromBinaryDataStream(responseBodyType, invocationExpression)
+                        : expressionJsonSerializableFromBinaryData(responseBodyType, invocationExpression);
                 } else {
                     // default, treat as class
                     return String.format("%2$s.toObject(%1$s.class)", responseBodyType.asNullable(),
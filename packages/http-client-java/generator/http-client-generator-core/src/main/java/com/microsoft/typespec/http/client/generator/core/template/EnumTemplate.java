@@ -146,6 +146,11 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
         addGeneratedImport(imports);
         IType elementType = enumType.getElementType();
         elementType.getClientType().addImportsTo(imports, false);
+        if (elementType == ClassType.STRING) {
+            imports.add("java.util.HashMap");
+            imports.add("java.util.Locale");
+            imports.add("java.util.Map");
+        }
 
         javaFile.declareImport(imports);
         javaFile.javadocComment(comment -> comment.description(enumType.getDescription()));
@@ -168,6 +173,24 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
             enumBlock.constructor(enumName + "(" + typeName + " value)",
                 constructor -> constructor.line("this.value = value;"));
 
+            // Lookup of the serialized value, built once at class initialization.
+            // values() clones the array on every call.
+            String toMethodName = enumType.getToMethodName();
+            if (elementType == ClassType.STRING) {
+                enumBlock.privateStaticFinalVariable(
+                    String.format("Map<String, %1$s> VALUES = new HashMap<>()", enumName));
+                enumBlock.privateStaticFinalVariable(
+                    String.format("Map<String, %1$s> CASE_INSENSITIVE_VALUES = new HashMap<>()", enumName));
+                enumBlock.staticBlock(staticBlock -> staticBlock.block("for (" + enumName + " item : values())",
+                    foreachBlock -> {
+                        foreachBlock.line("VALUES.put(item." + toMethodName + "(), item);");
+                        foreachBlock.line("CASE_INSENSITIVE_VALUES.putIfAbsent(item." + toMethodName
+                            + "().toLowerCase(Locale.ROOT), item);");
+                    }));
+            } else {
+                enumBlock.privateStaticFinalVariable(enumName + "[] VALUES = values()");
+            }
+
             enumBlock.javadocComment((comment) -> {
                 comment.description("Parses a serialized value to a " + enumName + " instance.");
                 comment.param("value", "the serialized value to parse.");
@@ -182,10 +205,16 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
                 if (elementType.isNullable()) {
                     function.ifBlock("value == null", ifAction -> ifAction.methodReturn("null"));
                 }
-                function.line(enumName + "[] items = " + enumName + ".values();");
-                function.block("for (" + enumName + " item : items)", foreachBlock -> foreachBlock
-                    .ifBlock(createEnumJsonCreatorIfCheck(enumType), ifBlock -> ifBlock.methodReturn("item")));
-                function.methodReturn("null");
+                if (elementType == ClassType.STRING) {
+                    // Exact match first, then fall back to case-insensitive match.
+                    function.line(enumName + " item = VALUES.get(value);");
+                    function.methodReturn(
+                        "item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT))");
+                } else {
+                    function.block("for (" + enumName + " item : VALUES)", foreachBlock -> foreachBlock
+                        .ifBlock(createEnumJsonCreatorIfCheck(enumType), ifBlock -> ifBlock.methodReturn("item")));
+                    function.methodReturn("null");
+                }
             });
 
             if (elementType == ClassType.STRING) {
@@ -214,11 +243,10 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
         imports.add("java.util.Collection");
         imports.add("java.lang.IllegalArgumentException");
         imports.add("java.util.Map");
-        imports.add("java.util.concurrent.ConcurrentHashMap");
+        imports.add("java.util.HashMap");
         imports.add("java.util.ArrayList");
         imports.add("java.util.Objects");
         imports.add(ClassType.EXPANDABLE_ENUM.getFullName());
-        imports.add("java.util.function.Function");
         if (!settings.isStreamStyleSerialization()) {
             imports.add("com.fasterxml.jackson.annotation.JsonCreator");
         } else {
@@ -246,10 +274,10 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
             declaration = String.format("%1$s implements ExpandableEnum<%2$s>", enumName, pascalTypeName);
         }
         javaFile.publicFinalClass(declaration, classBlock -> {
+            // Only the known values are interned. The map is not modified after class initialization, so that values
+            // from the service cannot grow it.
             classBlock.privateStaticFinalVariable(
-                String.format("Map<%1$s, %2$s> VALUES = new ConcurrentHashMap<>()", pascalTypeName, enumName));
-            classBlock.privateStaticFinalVariable(
-                String.format("Function<%1$s, %2$s> NEW_INSTANCE = %2$s::new", pascalTypeName, enumName));
+                String.format("Map<%1$s, %2$s> VALUES = new HashMap<>()", pascalTypeName, enumName));
 
             for (ClientEnumValue enumValue : enumType.getValues()) {
                 String value = enumValue.getValue();
@@ -257,10 +285,18 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
                     ? "Static value " + value + " for " + enumName + "."
                     : enumValue.getDescription());
                 addGeneratedAnnotation(classBlock);
-                classBlock.publicStaticFinalVariable(String.format("%1$s %2$s = fromValue(%3$s)", enumName,
+                classBlock.publicStaticFinalVariable(String.format("%1$s %2$s = addKnownValue(%3$s)", enumName,
                     enumValue.getName(), elementType.defaultValueExpression(value)));
             }
 
+            addGeneratedAnnotation(classBlock);
+            classBlock.staticMethod(JavaVisibility.Private,
+                String.format("%1$s addKnownValue(%2$s value)", enumName, pascalTypeName), function -> {
+                    function.line(String.format("%1$s knownValue = new %1$s(value);", enumName));
+                    function.line("VALUES.put(value, knownValue);");
+                    function.methodReturn("knownValue");
+                });
+
             classBlock.variable(pascalTypeName + " value", JavaVisibility.Private, JavaModifier.Final);
             classBlock.privateConstructor(enumName + "(" + pascalTypeName + " value)", ctor -> {
                 ctor.line("this.value = value;");
@@ -268,7 +304,8 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
 
             // fromValue(typeName)
             classBlock.javadocComment(comment -> {
-                comment.description("Creates or finds a " + enumName);
+                comment.description("Finds a known " + enumName + ", or creates a new " + enumName
+                    + " if the value is not known.");
                 comment.param("value", "a value to look for");
                 comment.methodReturns("the corresponding " + enumName);
                 comment.methodThrows("IllegalArgumentException", "if value is null");
@@ -283,7 +320,8 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
                 function -> {
                     function.ifBlock("value == null",
                         ifBlock -> ifBlock.line("throw new IllegalArgumentException(\"'value' cannot be null.\");"));
-                    function.methodReturn("VALUES.computeIfAbsent(value, NEW_INSTANCE)");
+                    function.line(enumName + " knownValue = VALUES.get(value);");
+                    function.methodReturn("knownValue != null ? knownValue : new " + enumName + "(value)");
                 });
 
             // values
@@ -344,12 +382,13 @@ public class EnumTemplate implements IJavaTemplate<EnumType, JavaFile> {
                 function -> function.methodReturn("Objects.toString(this.value)"));
 
             // equals
-            // checkstyle needs both equals() and hashcode() override, so even if its implementation is identical to
-            // Object's equals(), we still need it
+            // unknown values are not interned, hence equals() compares the value
             addGeneratedAnnotation(classBlock);
             classBlock.annotation("Override");
             classBlock.method(JavaVisibility.Public, null, "boolean equals(Object obj)",
-                function -> function.methodReturn("this == obj"));
+                function -> function.methodReturn(String.format(
+                    "this == obj || (obj instanceof %1$s && Objects.equals(this.value, ((%1$s) obj).value))",
+                    enumName)));
 
             // hashcode
             addGeneratedAnnotation(classBlock);
@@ -4,6 +4,7 @@
 package com.microsoft.typespec.http.client.generator.core.template;
 
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
@@ -12,6 +13,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVis
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import io.clientcore.core.utils.CoreUtils;
+import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -55,6 +57,8 @@ public class JsonMergePatchHelperTemplate implements IJavaTemplate<List<ClientMo
     private static void addImports(Set<String> imports, List<ClientModel> models, JavaSettings settings) {
         if (models != null && !models.isEmpty()) {
             models.forEach(model -> model.addImportsTo(imports, settings));
+            ClassType.JSON_WRITER.addImportsTo(imports, false);
+            imports.add(IOException.class.getName());
         }
     }
 
@@ -111,6 +115,10 @@ public class JsonMergePatchHelperTemplate implements IJavaTemplate<List<ClientMo
                         + camelModelName + ", boolean jsonMergePatchEnabled)");
 
                     interfaceBlock.publicMethod("boolean isJsonMergePatch(" + modelName + " " + camelModelName + ")");
+
+                    // Serializes the model as json-merge-patch, without changing the jsonMergePatch flag of the model.
+                    interfaceBlock.publicMethod("JsonWriter toJsonMergePatch(" + modelName + " " + camelModelName
+                        + ", JsonWriter jsonWriter) throws IOException");
                 }
 
                 if (model.isPolymorphicParent()) {
@@ -16,7 +16,6 @@ import com.microsoft.typespec.http.client.generator.core.util.ModelNamer;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import io.clientcore.core.serialization.ObjectSerializer;
 import io.clientcore.core.utils.CoreUtils;
-import java.lang.reflect.InvocationTargetException;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -47,7 +46,6 @@ public class MethodGroupTemplate implements IJavaTemplate<MethodGroupClient, Jav
         String serviceClientPackageName
             = ClientModelUtil.getServiceClientPackageName(methodGroupClient.getServiceClientName());
         imports.add(String.format("%1$s.%2$s", serviceClientPackageName, methodGroupClient.getServiceClientName()));
-        imports.add(InvocationTargetException.class.getName());
         imports.add(ObjectSerializer.class.getName());
         ClassType.INSTRUMENTATION.addImportsTo(imports, false);
         ClassType.HTTP_PIPELINE.addImportsTo(imports, false);
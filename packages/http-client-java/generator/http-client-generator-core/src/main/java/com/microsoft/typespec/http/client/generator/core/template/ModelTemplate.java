@@ -159,6 +159,7 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             addModelConstructor(model, propertiesManager, modelConstructorVisibility, settings, classBlock);
 
             boolean streamStyle = settings.isStreamStyleSerialization();
+            boolean lazyHeaders = ModelTemplateHeaderHelper.isLazyDecoding(model, settings);
 
             for (ClientModelProperty property : getFieldProperties(propertiesManager)) {
                 final boolean propertyIsReadOnly = immutableModel || property.isReadOnly();
@@ -183,8 +184,13 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                     }
                     classBlock.method(methodVisibility, null,
                         propertyClientType + " " + getGetterName(model, property) + "()",
-                        methodBlock -> addGetterMethod(propertyWireType, propertyClientType, property, treatAsXml,
-                            methodBlock, settings));
+                        methodBlock -> {
+                            if (lazyHeaders) {
+                                ModelTemplateHeaderHelper.addLazyDecodingCheck(property, methodBlock);
+                            }
+                            addGetterMethod(propertyWireType, propertyClientType, property, treatAsXml, methodBlock,
+                                settings);
+                        });
                 }
 
                 if (ClientModelUtil.needsPublicSetter(property, settings) && !immutableModel) {
@@ -194,16 +200,26 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                     classBlock.method(JavaVisibility.Public, null,
                         model.getName() + " " + property.getSetterName() + "(" + propertyClientType + " "
                             + property.getName() + ")",
-                        methodBlock -> addSetterMethod(propertyWireType, propertyClientType, property, treatAsXml,
-                            methodBlock, settings, ClientModelUtil.isJsonMergePatchModel(model, settings)));
+                        methodBlock -> {
+                            if (lazyHeaders) {
+                                ModelTemplateHeaderHelper.addLazyDecodedMark(property, methodBlock);
+                            }
+                            addSetterMethod(propertyWireType, propertyClientType, property, treatAsXml, methodBlock,
+                                settings, ClientModelUtil.isJsonMergePatchModel(model, settings));
+                        });
                 } else if (ClientModelUtil.needsPackagePrivateSetter(model, property, settings, streamStyle)) {
                     generateSetterJavadoc(classBlock, model, property);
                     addGeneratedAnnotation(classBlock);
                     classBlock.method(JavaVisibility.PackagePrivate, null,
                         model.getName() + " " + property.getSetterName() + "(" + propertyClientType + " "
                             + property.getName() + ")",
-                        methodBlock -> addSetterMethod(propertyWireType, propertyClientType, property, treatAsXml,
-                            methodBlock, settings, ClientModelUtil.isJsonMergePatchModel(model, settings)));
+                        methodBlock -> {
+                            if (lazyHeaders) {
+                                ModelTemplateHeaderHelper.addLazyDecodedMark(property, methodBlock);
+                            }
+                            addSetterMethod(propertyWireType, propertyClientType, property, treatAsXml, methodBlock,
+                                settings, ClientModelUtil.isJsonMergePatchModel(model, settings));
+                        });
                 }
 
                 // If the property is additional properties, and stream-style serialization isn't being used, add a
@@ -674,7 +690,10 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
         addGeneratedAnnotation(classBlock);
         addFieldAnnotations(model, property, classBlock, settings);
 
-        if (model.isStronglyTypedHeader() && ClientModelUtil.isImmutableOutputModel(model, settings)) {
+        if (ModelTemplateHeaderHelper.isLazyDecoding(model, settings) && !property.isConstant()) {
+            // the property is decoded from the raw headers on first access
+            classBlock.privateMemberVariable(fieldSignature);
+        } else if (model.isStronglyTypedHeader() && ClientModelUtil.isImmutableOutputModel(model, settings)) {
             // a shortcut for Headers class
             classBlock.privateFinalMemberVariable(fieldSignature);
         } else if (ClientModelUtil.includePropertyInConstructor(property, settings) || property.isConstant()) {
@@ -1203,22 +1222,8 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                 }
                 for (ClientModelProperty property : getValidationProperties(model)) {
                     String validation = property.getClientType().validate(getGetterName(model, property) + "()");
-                    if (property.isRequired()
-                        && !property.isReadOnly()
-                        && !property.isConstant()
-                        && !(property.getClientType() instanceof PrimitiveType)) {
-                        JavaIfBlock nullCheck = methodBlock
-                            .ifBlock(String.format("%s() == null", getGetterName(model, property)), ifBlock -> {
-                                final String errorMessage
-                                    = String.format("\"Missing required property %s in model %s\"", property.getName(),
-                                        model.getName());
-                                if (settings.isUseClientLogger()) {
-                                    ifBlock.line("throw LOGGER.atError().log(new IllegalArgumentException("
-                                        + errorMessage + "));");
-                                } else {
-                                    ifBlock.line("throw new IllegalArgumentException(" + errorMessage + ");");
-                                }
-                            });
+                    if (isNullCheckRequired(property)) {
+                        JavaIfBlock nullCheck = writeRequiredPropertyNullCheck(methodBlock, model, property, settings);
                         if (validation != null) {
                             nullCheck.elseBlock(elseBlock -> elseBlock.line(validation + ";"));
                         }
@@ -1231,6 +1236,47 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
         }
     }
 
+    /**
+     * Writes the null checks of the required properties of the model, the same as those in `validate()` method.
+     * <p>
+     * The properties of model type are not validated recursively. They are validated in their own serialization.
+     * <p>
+     * The required properties inherited from the parent models are checked when they are in the validation properties
+     * of the model, as they are in stream-style serialization, where `validate()` does not call that of the parent
+     * model either.
+     *
+     * @param methodBlock the method block to write the null checks to
+     * @param model the model
+     * @param settings the settings
+     */
+    final void writeRequiredPropertyNullChecks(JavaBlock methodBlock, ClientModel model, JavaSettings settings) {
+        // a property redefined by the model is checked only once
+        Set<String> checkedPropertyNames = new HashSet<>();
+        getValidationProperties(model).stream()
+            .filter(property -> checkedPropertyNames.add(property.getName()) && isNullCheckRequired(property))
+            .forEach(property -> writeRequiredPropertyNullCheck(methodBlock, model, property, settings));
+    }
+
+    private static boolean isNullCheckRequired(ClientModelProperty property) {
+        return property.isRequired()
+            && !property.isReadOnly()
+            && !property.isConstant()
+            && !(property.getClientType() instanceof PrimitiveType);
+    }
+
+    private JavaIfBlock writeRequiredPropertyNullCheck(JavaBlock methodBlock, ClientModel model,
+        ClientModelProperty property, JavaSettings settings) {
+        return methodBlock.ifBlock(String.format("%s() == null", getGetterName(model, property)), ifBlock -> {
+            final String errorMessage = String.format("\"Missing required property %s in model %s\"",
+                property.getName(), model.getName());
+            if (settings.isUseClientLogger()) {
+                ifBlock.line("throw LOGGER.atError().log(new IllegalArgumentException(" + errorMessage + "));");
+            } else {
+                ifBlock.line("throw new IllegalArgumentException(" + errorMessage + ");");
+            }
+        });
+    }
+
     /**
      * Extension for validation on parent model.
      *
@@ -1469,6 +1515,14 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
             return;
         }
 
+        if (rootParent && !ClientModelUtil.isStatelessJsonMergePatchModel(model, JavaSettings.getInstance())) {
+            // toJsonMergePatch of a derived model in another package, or of a derived model not used in JSON merge
+            // patch, cannot be dispatched from the accessor. Serializing it via the jsonMergePatch flag would modify
+            // the model of the caller.
+            throw new IllegalStateException("JSON merge patch serialization of polymorphic model '" + model.getName()
+                + "' requires all the models of its hierarchy be JSON merge patch models in the same package.");
+        }
+
         if (rootParent) {
             // Only the root model needs to have the jsonMergePatch property.
             addGeneratedAnnotation(classBlock);
@@ -1499,6 +1553,12 @@ public class ModelTemplate implements IJavaTemplate<ClientModel, JavaFile> {
                     staticBlock.line("@Override");
                     staticBlock.block("public boolean isJsonMergePatch(" + model.getName() + " model)",
                         getJsonMergePatch -> getJsonMergePatch.line("return model.jsonMergePatch;"));
+
+                    staticBlock.line("@Override");
+                    staticBlock.block(
+                        "public JsonWriter toJsonMergePatch(" + model.getName()
+                            + " model, JsonWriter jsonWriter) throws IOException",
+                        toJsonMergePatch -> toJsonMergePatch.methodReturn("model.toJsonMergePatch(jsonWriter)"));
                 }
 
                 for (ClientModelProperty setter : setterProperties) {
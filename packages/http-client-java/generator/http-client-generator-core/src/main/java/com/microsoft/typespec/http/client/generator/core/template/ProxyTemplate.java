@@ -55,18 +55,13 @@ public class ProxyTemplate implements IJavaTemplate<Proxy, JavaClass> {
 
             classBlock.interfaceBlock(visibility, restAPI.getName(), interfaceBlock -> {
                 if (settings.isAzureV2() || !settings.isAzureV1()) {
+                    // The implementation of the interface is generated by the annotation processor of clientcore, in
+                    // the same build. Reference it directly, so that the binding is a plain static call.
+                    final String serviceImplName
+                        = JavaSettings.getInstance().getPackage() + ".implementation." + restAPI.getName() + "Impl";
                     interfaceBlock.staticMethod(JavaVisibility.PackagePrivate,
                         restAPI.getName() + " getNewInstance(HttpPipeline pipeline)",
-                        javaBlock -> javaBlock.tryBlock(tryBlock -> {
-                            tryBlock
-                                .line("Class<?> clazz = Class.forName(" + "\"" + JavaSettings.getInstance().getPackage()
-                                    + ".implementation." + restAPI.getName() + "Impl" + "\");");
-                            tryBlock.line("return (" + restAPI.getName() + ") clazz.getMethod(\"getNewInstance\", "
-                                + "HttpPipeline.class).invoke(null, pipeline);");
-                        })
-                            .catchBlock(
-                                "ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e",
-                                catchBlock -> catchBlock.line("throw new RuntimeException(e);")));
+                        javaBlock -> javaBlock.methodReturn(serviceImplName + ".getNewInstance(pipeline)"));
                 }
 
                 for (ProxyMethod restAPIMethod : restAPI.getMethods()) {
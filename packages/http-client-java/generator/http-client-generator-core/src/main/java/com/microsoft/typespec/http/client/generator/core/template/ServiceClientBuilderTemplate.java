@@ -45,6 +45,8 @@ public class ServiceClientBuilderTemplate implements IJavaTemplate<ClientBuilder
 
     private static final String JACKSON_SERIALIZER = "JacksonAdapter.createDefaultSerializerAdapter()";
 
+    private static final String CREATED_HTTP_PIPELINE = "createdHttpPipeline";
+
     protected ServiceClientBuilderTemplate() {
     }
 
@@ -184,6 +186,13 @@ public class ServiceClientBuilderTemplate implements IJavaTemplate<ClientBuilder
                 addGeneratedAnnotation(classBlock);
                 classBlock.privateFinalMemberVariable("List<HttpPipelinePolicy>", "pipelinePolicies");
 
+                classBlock.blockComment(comment -> {
+                    comment.line("The HTTP pipeline created from the configuration of the builder.");
+                    comment.line("It is shared by the clients built from the builder, until the configuration changes.");
+                });
+                addGeneratedAnnotation(classBlock);
+                classBlock.privateMemberVariable("HttpPipeline", CREATED_HTTP_PIPELINE);
+
                 classBlock.javadocComment(String.format("Create an instance of the %s.", serviceClientBuilderName));
                 addGeneratedAnnotation(classBlock);
                 classBlock.publicConstructor(serviceClientBuilderName + "()",
@@ -231,6 +240,9 @@ public class ServiceClientBuilderTemplate implements IJavaTemplate<ClientBuilder
                     classBlock.publicMethod(String.format("%1$s %2$s(%3$s %4$s)", serviceClientBuilderName,
                         CodeNamer.toCamelCase(serviceClientProperty.getAccessorMethodSuffix()),
                         serviceClientProperty.getType(), serviceClientProperty.getName()), function -> {
+                            if (!settings.isFluent()) {
+                                resetCreatedHttpPipeline(function);
+                            }
                             function.line(String.format("this.%1$s = %2$s;", serviceClientProperty.getName(),
                                 serviceClientProperty.getName()));
                             function.methodReturn("this");
@@ -310,7 +322,7 @@ public class ServiceClientBuilderTemplate implements IJavaTemplate<ClientBuilder
                 if (!settings.isAzureV1() || settings.isAzureV2()) {
                     if (!constructorArgs.isEmpty()) {
                         function.line(String.format("%1$s client = new %2$s(%3$s%4$s%5$s);",
-                            serviceClient.getClassName(), serviceClient.getClassName(), "createHttpPipeline()",
+                            serviceClient.getClassName(), serviceClient.getClassName(), "getOrCreateHttpPipeline()",
                             writeInstrumentation ? ", instrumentation" : "", constructorArgs));
                     } else {
                         function.line(String.format("%1$s client = new %1$s(%2$s);", serviceClient.getClassName(),
@@ -337,6 +349,7 @@ public class ServiceClientBuilderTemplate implements IJavaTemplate<ClientBuilder
 
                 addCreateHttpPipelineMethod(settings, classBlock, serviceClient.getDefaultCredentialScopes(),
                     serviceClient.getSecurityInfo(), serviceClient.getPipelinePolicyDetails());
+                addGetOrCreateHttpPipelineMethod(classBlock);
             }
 
             if (JavaSettings.getInstance().isGenerateSyncAsyncClients()) {
@@ -447,7 +460,10 @@ public class ServiceClientBuilderTemplate implements IJavaTemplate<ClientBuilder
                 classBlock.publicMethod(
                     String.format("%1$s %2$s(%3$s %4$s)", serviceClientBuilderName, traitMethod.getMethodName(),
                         traitMethod.getMethodParamType(), traitMethod.getMethodParamName()),
-                    traitMethod.getMethodImpl());
+                    function -> {
+                        resetCreatedHttpPipeline(function);
+                        traitMethod.getMethodImpl().accept(function);
+                    });
             });
     }
 
@@ -563,6 +579,26 @@ public class ServiceClientBuilderTemplate implements IJavaTemplate<ClientBuilder
                 pipelinePolicyDetails, function));
     }
 
+    private void addGetOrCreateHttpPipelineMethod(JavaClass classBlock) {
+        addGeneratedAnnotation(classBlock);
+        classBlock.privateMethod("HttpPipeline getOrCreateHttpPipeline()", methodBlock -> {
+            methodBlock.line(
+                "// The pipeline is created once, and reused by the clients built with the same configuration.");
+            methodBlock.ifBlock("this." + CREATED_HTTP_PIPELINE + " == null",
+                ifBlock -> ifBlock.line("this." + CREATED_HTTP_PIPELINE + " = createHttpPipeline();"));
+            methodBlock.methodReturn("this." + CREATED_HTTP_PIPELINE);
+        });
+    }
+
+    /**
+     * Writes the statement that discards the created HTTP pipeline, as the configuration of the builder changes.
+     *
+     * @param function the setter method block
+     */
+    private static void resetCreatedHttpPipeline(JavaBlock function) {
+        function.line("this." + CREATED_HTTP_PIPELINE + " = null;");
+    }
+
     private void addValidateClientMethod(JavaClass classBlock, List<ServiceClientProperty> properties) {
         addGeneratedAnnotation(classBlock);
         classBlock.privateMethod("void validateClient()", methodBlock -> {
@@ -607,6 +643,16 @@ public class ServiceClientBuilderTemplate implements IJavaTemplate<ClientBuilder
                 "The retry policy that will attempt to retry failed " + "requests, if applicable.",
                 ClassType.RETRY_POLICY, "retryPolicy", false, null));
         }
+        if (settings.isConditionalRequestCache()) {
+            // the policy is in the client package, so that its metrics can be read by the user
+            ClassType policyType = new ClassType.Builder().packageName(settings.getPackage())
+                .name(ClientModelUtil.CONDITIONAL_REQUEST_CACHE_POLICY)
+                .build();
+            commonProperties.add(new ServiceClientProperty(
+                "The cache of GET responses, revalidated by conditional requests. A cache of 16 MB is used by default, "
+                    + "a cache of 0 bytes disables it.",
+                policyType, "conditionalRequestCache", false, null));
+        }
         return commonProperties;
     }
 
@@ -23,7 +23,6 @@ import com.microsoft.typespec.http.client.generator.core.util.MethodUtil;
 import com.microsoft.typespec.http.client.generator.core.util.ModelNamer;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
 import io.clientcore.core.serialization.ObjectSerializer;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
@@ -75,7 +74,6 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
             imports.add(ClassType.JACKSON_ADAPTER.getFullName());
         }
 
-        imports.add(InvocationTargetException.class.getName());
         imports.add(ObjectSerializer.class.getName());
         ClassType.HTTP_PIPELINE.addImportsTo(imports, false);
 
@@ -145,10 +143,11 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
             }
 
             // AutoRestMethod Group Client declarations and getters
+            // The method group client is created on first access, as creating its service proxy is costly.
             for (MethodGroupClient methodGroupClient : serviceClient.getMethodGroupClients()) {
                 classBlock.javadocComment(comment -> comment.description(
                     String.format("The %1$s object to access its operations.", methodGroupClient.getVariableType())));
-                classBlock.privateFinalMemberVariable(methodGroupClient.getVariableType(),
+                classBlock.privateMemberVariable("volatile " + methodGroupClient.getVariableType(),
                     methodGroupClient.getVariableName());
 
                 classBlock.javadocComment(comment -> {
@@ -159,7 +158,7 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
                 classBlock.publicMethod(
                     String.format("%1$s get%2$s()", methodGroupClient.getVariableType(),
                         CodeNamer.toPascalCase(methodGroupClient.getVariableName())),
-                    function -> function.methodReturn("this." + methodGroupClient.getVariableName()));
+                    function -> writeMethodGroupClientGetter(function, methodGroupClient));
             }
 
             // additional service client properties in constructor arguments
@@ -233,11 +232,6 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
                                     }
                                 }
 
-                                for (MethodGroupClient methodGroupClient : serviceClient.getMethodGroupClients()) {
-                                    constructorBlock.line(String.format("this.%1$s = new %2$s(this);",
-                                        methodGroupClient.getVariableName(), methodGroupClient.getClassName()));
-                                }
-
                                 if (serviceClient.getProxy() != null) {
                                     constructorBlock.line(String.format(
                                         "this.service = %1$s.create(%2$s.class, this.httpPipeline, %3$s);",
@@ -335,6 +329,20 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
         }
     }
 
+    private static void writeMethodGroupClientGetter(JavaBlock function, MethodGroupClient methodGroupClient) {
+        final String fieldName = methodGroupClient.getVariableName();
+        final String localName = "local" + CodeNamer.toPascalCase(fieldName);
+        function.line("%1$s %2$s = this.%3$s;", methodGroupClient.getVariableType(), localName, fieldName);
+        function.ifBlock(localName + " == null", ifBlock -> ifBlock.block("synchronized (this)", syncBlock -> {
+            syncBlock.line("%1$s = this.%2$s;", localName, fieldName);
+            syncBlock.ifBlock(localName + " == null", createBlock -> {
+                createBlock.line("%1$s = new %2$s(this);", localName, methodGroupClient.getClassName());
+                createBlock.line("this.%1$s = %2$s;", fieldName, localName);
+            });
+        }));
+        function.methodReturn(localName);
+    }
+
     /**
      * Gets additional method arguments for constructing the client instance.
      * <p>
@@ -374,11 +382,6 @@ public class ServiceClientTemplate implements IJavaTemplate<ServiceClient, JavaF
             }
         }
 
-        for (MethodGroupClient methodGroupClient : serviceClient.getMethodGroupClients()) {
-            constructorBlock.line("this.%s = new %s(this);", methodGroupClient.getVariableName(),
-                methodGroupClient.getClassName());
-        }
-
         if (serviceClient.getProxy() != null) {
             if (!JavaSettings.getInstance().isAzureV1()) {
                 constructorBlock.line("this.service = %s.create(%s.class, this.httpPipeline);",
@@ -20,6 +20,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFil
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
+import java.nio.file.Path;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -77,6 +78,11 @@ public class ServiceSyncClientTemplate implements IJavaTemplate<AsyncSyncClient,
             ClassType.INSTRUMENTATION.addImportsTo(imports, false);
             ClassType.SDK_INSTRUMENTATION_OPTIONS.addImportsTo(imports, false);
         }
+        if (settings.isGenerateFileUploadOverloads()) {
+            // file upload overloads
+            imports.add(Path.class.getName());
+            ClassType.BINARY_DATA.addImportsTo(imports, false);
+        }
 
         javaFile.declareImport(imports);
         javaFile.javadocComment(comment -> comment.description(String
@@ -45,6 +45,7 @@ import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.lang.model.SourceVersion;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
 
@@ -410,8 +411,18 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 if (isJsonMergePatchModel) {
                     writeToJson(classBlock, true);
                     addGeneratedAnnotation.accept(classBlock);
-                    classBlock.privateMethod("JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException",
-                        methodBlock -> serializeJsonProperties(methodBlock, true, false, false));
+                    String toJsonMergePatchSignature = "JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException";
+                    if (model.isPolymorphic() && ClientModelUtil.isStatelessJsonMergePatchModel(model, settings)) {
+                        // Package-private, so that the accessor of the root model dispatches to the derived model.
+                        if (!CoreUtils.isNullOrEmpty(model.getParentModelName())) {
+                            classBlock.annotation("Override");
+                        }
+                        classBlock.packagePrivateMethod(toJsonMergePatchSignature,
+                            methodBlock -> serializeJsonProperties(methodBlock, true, false, false));
+                    } else {
+                        classBlock.privateMethod(toJsonMergePatchSignature,
+                            methodBlock -> serializeJsonProperties(methodBlock, true, false, false));
+                    }
                 } else {
                     writeToJson(classBlock, false);
                 }
@@ -543,6 +554,11 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
          */
         private void serializeJsonProperties(JavaBlock methodBlock, boolean isJsonMergePatch,
             boolean callToJsonSharedForParentProperties, boolean callToJsonSharedForThisProperties) {
+            if (!isJsonMergePatch && settings.isValidateInSerialization()) {
+                // Properties of model type are validated in their own toJson, hence a single pass over the object
+                // graph replaces the separate validate() call.
+                Templates.getStreamStyleModelTemplate().writeRequiredPropertyNullChecks(methodBlock, model, settings);
+            }
             methodBlock.line("jsonWriter.writeStartObject();");
 
             // If we're calling toJsonShared for this model and for parent properties, this is an early out.
@@ -709,8 +725,12 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
             // Attempt to determine whether the wire type is simple serialization.
             // This is primitives, boxed primitives, a small set of string based models, and other ClientModels.
-            String fieldSerializationMethod = wireType.jsonSerializationMethodCall("jsonWriter", serializedName,
-                propertyValueGetter, isJsonMergePatch);
+            String fieldSerializationMethod = property.isBase64UrlEncoded()
+                ? "jsonWriter.writeStringField(\"" + serializedName + "\", " + propertyValueGetter
+                    + " == null ? null : Base64.getUrlEncoder().withoutPadding().encodeToString(" + propertyValueGetter
+                    + "))"
+                : wireType.jsonSerializationMethodCall("jsonWriter", serializedName, propertyValueGetter,
+                    isJsonMergePatch);
             if (wireType == ClassType.BINARY_DATA) {
                 // Special handling for BinaryData (instead of using "serializationMethodBase" and
                 // "serializationValueGetterModifier")
@@ -726,15 +746,18 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                     methodBlock.line(writeBinaryDataExpr);
                 }
             } else if (fieldSerializationMethod != null) {
-                if (isJsonMergePatch && wireType instanceof ClassType && ((ClassType) wireType).isSwaggerType()) {
-                    methodBlock.line("JsonMergePatchHelper.get" + clientType.toString()
-                        + "Accessor().prepareModelForJsonMergePatch(" + propertyValueGetter + ", true);");
-                }
-                writeSerializeJsonPropertyViaFieldSerializationMethod(methodBlock, property, model, serializedName,
-                    fieldSerializationMethod, fromSuperType);
-                if (isJsonMergePatch && wireType instanceof ClassType && ((ClassType) wireType).isSwaggerType()) {
-                    methodBlock.line("JsonMergePatchHelper.get" + clientType.toString()
-                        + "Accessor().prepareModelForJsonMergePatch(" + propertyValueGetter + ", false);");
+                if (isJsonMergePatch
+                    && wireType instanceof ClassType
+                    && ((ClassType) wireType).isSwaggerType()
+                    && !ClientModelUtil.isUnionModel(wireType)) {
+                    // Nested model is serialized via its accessor, the model itself is not modified. Typed union is
+                    // a whole value, it is serialized via toJson.
+                    methodBlock.line("jsonWriter.writeFieldName(\"" + serializedName + "\");");
+                    methodBlock.line(getJsonMergePatchAccessor(wireType) + ".toJsonMergePatch(" + propertyValueGetter
+                        + ", jsonWriter);");
+                } else {
+                    writeSerializeJsonPropertyViaFieldSerializationMethod(methodBlock, property, model, serializedName,
+                        fieldSerializationMethod, fromSuperType);
                 }
             } else if (wireType == ClassType.OBJECT) {
                 if (!property.isRequired() && !property.isRequiredForCreate()
@@ -818,6 +841,23 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             }
         }
 
+        /**
+         * Helper function to get the json-merge-patch accessor of a model type.
+         * <p>
+         * toJsonMergePatch is only defined on the accessor of the root model.
+         *
+         * @param modelType The model type.
+         * @return The expression of the accessor.
+         */
+        private static String getJsonMergePatchAccessor(IType modelType) {
+            String modelName = ((ClassType) modelType).getName();
+            ClientModel clientModel = ClientModelUtil.getClientModel(modelName);
+            if (clientModel != null) {
+                modelName = ClientModelUtil.getRootParent(clientModel).getName();
+            }
+            return JSON_MERGE_PATCH_HELPER_CLASS_NAME + ".get" + modelName + "Accessor()";
+        }
+
         /**
          * Helper function to get property getter statement.
          * <p>
@@ -864,6 +904,23 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             String serializeValue
                 = depth == 0 ? propertyValueGetter : ((depth == 1) ? "element" : "element" + (depth - 1));
 
+            boolean specialElementHandling
+                = elementType == ClassType.BINARY_DATA || (isJsonMergePatch && containerType instanceof MapType);
+            String methodReference = specialElementHandling
+                ? null
+                : getWriterMethodReference(valueSerializationMethod, lambdaWriterName, elementName);
+            if (methodReference != null) {
+                // The element is written by a single JsonWriter method, e.g. "JsonWriter::writeString".
+                if (depth == 0) {
+                    methodBlock.line("%s.%s(\"%s\", %s, %s);", callingWriterName, utilityMethod, serializedName,
+                        serializeValue, methodReference);
+                } else {
+                    methodBlock.line("%s.%s(%s, %s)", callingWriterName, utilityMethod, serializeValue,
+                        methodReference);
+                }
+                return;
+            }
+
             // First call into serialize container property will need to write the property name. Subsequent calls must
             // not write the property name as that would be invalid, ex "myList":["myList":["innerListElement"]].
             if (depth == 0) {
@@ -884,14 +941,13 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
                 } else if (valueSerializationMethod != null) {
                     if (isJsonMergePatch && containerType instanceof MapType) {
                         methodBlock.block("", codeBlock -> codeBlock.ifBlock(elementName + "!= null", ifBlock -> {
-                            if (elementType instanceof ClassType && ((ClassType) elementType).isSwaggerType()) {
-                                methodBlock.line("JsonMergePatchHelper.get" + ((ClassType) elementType).getName()
-                                    + "Accessor().prepareModelForJsonMergePatch(" + elementName + ", true);");
-                            }
-                            ifBlock.line(valueSerializationMethod + ";");
-                            if (elementType instanceof ClassType && ((ClassType) elementType).isSwaggerType()) {
-                                methodBlock.line("JsonMergePatchHelper.get" + ((ClassType) elementType).getName()
-                                    + "Accessor().prepareModelForJsonMergePatch(" + elementName + ", false);");
+                            if (elementType instanceof ClassType
+                                && ((ClassType) elementType).isSwaggerType()
+                                && !ClientModelUtil.isUnionModel(elementType)) {
+                                ifBlock.line(getJsonMergePatchAccessor(elementType) + ".toJsonMergePatch("
+                                    + elementName + ", " + lambdaWriterName + ");");
+                            } else {
+                                ifBlock.line(valueSerializationMethod + ";");
                             }
                         }).elseBlock(elseBlock -> elseBlock.line(lambdaWriterName + ".writeNull();")));
                     } else {
@@ -1575,7 +1631,9 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
 
             // Attempt to determine whether the wire type is simple deserialization.
             // This is primitives, boxed primitives, a small set of string based models, and other ClientModels.
-            String simpleDeserialization = getSimpleJsonDeserialization(wireType, "reader");
+            String simpleDeserialization = property.isBase64UrlEncoded()
+                ? "reader.getNullable(nonNullReader -> Base64.getUrlDecoder().decode(nonNullReader.getString()))"
+                : getSimpleJsonDeserialization(wireType, "reader");
             if (simpleDeserialization != null) {
                 // Need to convert the wire type to the client type for constructors.
                 // Need to convert the wire type to the client type for public setters.
@@ -1718,6 +1776,15 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             boolean useCodeBlockLambda
                 = valueDeserializationMethod != null && elementWireType.isNullable() && convertToClientType;
 
+            String methodReference
+                = convertToClientType ? null : getReaderMethodReference(valueDeserializationMethod, lambdaReaderName);
+            if (methodReference != null) {
+                // The element is read by a single JsonReader method or "fromJson", e.g. "JsonReader::getString".
+                methodBlock.line(callingReaderName + "." + utilityMethod + "(" + methodReference + ")"
+                    + (depth > 0 ? "" : ";"));
+                return;
+            }
+
             if (useCodeBlockLambda) {
                 methodBlock.line(callingReaderName + "." + utilityMethod + "(" + lambdaReaderName + " -> {");
             } else {
@@ -1791,6 +1858,66 @@ public class StreamSerializationModelTemplate extends ModelTemplate {
             }
         }
 
+        /**
+         * Gets the method reference equivalent to the serialization of a container element, such as
+         * {@code JsonWriter::writeJson} for {@code writer.writeJson(element)}.
+         * <p>
+         * A method reference doesn't capture any variable, and it is written without an additional lambda body.
+         *
+         * @param valueSerializationMethod The serialization of the element.
+         * @param writerName The name of the JsonWriter in the serialization.
+         * @param elementName The name of the element in the serialization.
+         * @return The method reference, or null if the serialization is not a single JsonWriter method call on the
+         * element.
+         */
+        private static String getWriterMethodReference(String valueSerializationMethod, String writerName,
+            String elementName) {
+            if (valueSerializationMethod == null) {
+                return null;
+            }
+            String prefix = writerName + ".";
+            String suffix = "(" + elementName + ")";
+            if (!valueSerializationMethod.startsWith(prefix) || !valueSerializationMethod.endsWith(suffix)) {
+                return null;
+            }
+            String methodName = valueSerializationMethod.substring(prefix.length(),
+                valueSerializationMethod.length() - suffix.length());
+            return SourceVersion.isIdentifier(methodName)
+                ? ClassType.JSON_WRITER.getName() + "::" + methodName
+                : null;
+        }
+
+        /**
+         * Gets the method reference equivalent to the deserialization of a container element, such as
+         * {@code JsonReader::getString} for {@code reader1.getString()}, or {@code Model::fromJson} for
+         * {@code Model.fromJson(reader1)}.
+         *
+         * @param valueDeserializationMethod The deserialization of the element.
+         * @param readerName The name of the JsonReader in the deserialization.
+         * @return The method reference, or null if the deserialization is not a single method call on the JsonReader.
+         */
+        private static String getReaderMethodReference(String valueDeserializationMethod, String readerName) {
+            if (valueDeserializationMethod == null) {
+                return null;
+            }
+            String prefix = readerName + ".";
+            String suffix = "()";
+            String fromJsonSuffix = ".fromJson(" + readerName + ")";
+            if (valueDeserializationMethod.startsWith(prefix) && valueDeserializationMethod.endsWith(suffix)) {
+                String methodName = valueDeserializationMethod.substring(prefix.length(),
+                    valueDeserializationMethod.length() - suffix.length());
+                return SourceVersion.isIdentifier(methodName)
+                    ? ClassType.JSON_READER.getName() + "::" + methodName
+                    : null;
+            } else if (valueDeserializationMethod.endsWith(fromJsonSuffix)) {
+                String typeName = valueDeserializationMethod.substring(0,
+                    valueDeserializationMethod.length() - fromJsonSuffix.length());
+                return SourceVersion.isName(typeName) ? typeName + "::fromJson" : null;
+            } else {
+                return null;
+            }
+        }
+
         private static String getSimpleJsonDeserialization(IType wireType, String readerName) {
             return (wireType instanceof ClassType && ((ClassType) wireType).isSwaggerType())
                 ? wireType + ".fromJson(" + readerName + ")"
@@ -145,6 +145,11 @@ public final class TemplateHelper {
             "ClientOptions localClientOptions = this.clientOptions == null ? new ClientOptions() : this.clientOptions;");
 
         function.line("List<HttpPipelinePolicy> policies = new ArrayList<>();");
+        if (settings.isConditionalRequestCache()) {
+            // first in the pipeline, the request headers are then only the ones of the operation
+            function.line("policies.add(conditionalRequestCache != null ? conditionalRequestCache : new "
+                + "ConditionalRequestCachePolicy());");
+        }
 
         function.line("String clientName = PROPERTIES.getOrDefault(SDK_NAME, \"UnknownName\");");
         function.line("String clientVersion = PROPERTIES.getOrDefault(SDK_VERSION, \"UnknownVersion\");");
@@ -3,15 +3,22 @@
 
 package com.microsoft.typespec.http.client.generator.core.template;
 
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.Annotation;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModels;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaClass;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaIfBlock;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaJavadocComment;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaModifier;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import io.clientcore.core.utils.CoreUtils;
+import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -34,17 +41,33 @@ public class UnionModelTemplate implements IJavaTemplate<UnionModel, JavaFile> {
 
         final boolean isAbstractClass = CoreUtils.isNullOrEmpty(model.getParentModelName());
         final String superClassName = model.getParentModelName();
+        // typed union is only generated for stream-style serialization, see UnionMapper
+        final boolean streamStyle = JavaSettings.getInstance().isStreamStyleSerialization();
 
         Set<String> imports = new LinkedHashSet<>();
         model.addImportsTo(imports);
 
         imports.add(Annotation.IMMUTABLE.getFullName());
-        imports.add("com.fasterxml.jackson.annotation.JsonValue");
+        if (streamStyle) {
+            if (isAbstractClass) {
+                ClassType.JSON_SERIALIZABLE.addImportsTo(imports, false);
+                ClassType.JSON_READER.addImportsTo(imports, false);
+                ClassType.JSON_TOKEN.addImportsTo(imports, false);
+            } else {
+                ClassType.JSON_WRITER.addImportsTo(imports, false);
+            }
+            imports.add(IOException.class.getName());
+        } else {
+            imports.add("com.fasterxml.jackson.annotation.JsonValue");
+        }
 
         javaFile.declareImport(imports);
 
         List<JavaModifier> modifiers = List.of(isAbstractClass ? JavaModifier.Abstract : JavaModifier.Final);
         String classDeclaration = isAbstractClass ? model.getName() : (model.getName() + " extends " + superClassName);
+        if (isAbstractClass && streamStyle) {
+            classDeclaration += " implements JsonSerializable<" + model.getName() + ">";
+        }
         javaFile.javadocComment(comment -> comment.description(model.getDescription()));
         if (!isAbstractClass) {
             javaFile.annotation("Immutable");
@@ -61,6 +84,10 @@ public class UnionModelTemplate implements IJavaTemplate<UnionModel, JavaFile> {
                     comment -> comment.description("Creates an instance of " + model.getName() + " class."));
                 classBlock.constructor(JavaVisibility.Protected, model.getName() + "()", constructor -> {
                 });
+
+                if (streamStyle) {
+                    writeFromJson(model, classBlock);
+                }
             } else {
                 StringBuilder constructorProperties = new StringBuilder();
 
@@ -97,10 +124,57 @@ public class UnionModelTemplate implements IJavaTemplate<UnionModel, JavaFile> {
                     comment.description("Gets the value");
                     comment.methodReturns("the value");
                 });
-                classBlock.annotation("JsonValue");
+                if (!streamStyle) {
+                    classBlock.annotation("JsonValue");
+                }
                 classBlock.publicMethod(clientType + " " + property.getGetterName() + "()",
                     methodBlock -> methodBlock.methodReturn("this." + propertyName));
             }
+
+            if (!isAbstractClass && streamStyle) {
+                ClientModelProperty property = model.getProperties().get(0);
+                classBlock.javadocComment(JavaJavadocComment::inheritDoc);
+                classBlock.annotation("Override");
+                classBlock.publicMethod("JsonWriter toJson(JsonWriter jsonWriter) throws IOException",
+                    methodBlock -> methodBlock.methodReturn(ClientModelUtil.getUnionVariantJsonSerialization(
+                        property.getWireType(), "jsonWriter", "this." + property.getName())));
+            }
+        });
+    }
+
+    /**
+     * Writes the "fromJson" method of the union, which deserializes the variant determined by the current JSON token,
+     * in a single pass over the value.
+     *
+     * @param model the union.
+     * @param classBlock the class block.
+     */
+    private static void writeFromJson(UnionModel model, JavaClass classBlock) {
+        String modelName = model.getName();
+        List<UnionModel> variants = UnionModels.getInstance().getModel(modelName);
+
+        classBlock.javadocComment(javadocComment -> {
+            javadocComment.description("Reads an instance of " + modelName + " from the JsonReader.");
+            javadocComment.param("jsonReader", "The JsonReader being read.");
+            javadocComment.methodReturns("An instance of " + modelName + " if the JsonReader was pointing to an "
+                + "instance of it, or null if it was pointing to JSON null.");
+            javadocComment.methodThrows("IllegalStateException",
+                "If the JSON token does not match any variant of " + modelName + ".");
+            javadocComment.methodThrows("IOException", "If an error occurs while reading the " + modelName + ".");
+        });
+        classBlock.publicStaticMethod(modelName + " fromJson(JsonReader jsonReader) throws IOException", methodBlock -> {
+            methodBlock.line("JsonToken token = jsonReader.currentToken();");
+            methodBlock.ifBlock("token == null", ifBlock -> ifBlock.line("token = jsonReader.nextToken();"));
+            JavaIfBlock ifBlock = methodBlock.ifBlock("token == JsonToken.NULL", nullBlock -> nullBlock.methodReturn("null"));
+            // the first model is the union itself
+            for (UnionModel variant : variants.subList(1, variants.size())) {
+                IType valueType = variant.getProperties().get(0).getWireType();
+                ifBlock = ifBlock.elseIfBlock("token == " + ClientModelUtil.getUnionVariantJsonToken(valueType),
+                    variantBlock -> variantBlock.methodReturn("new " + variant.getName() + "("
+                        + ClientModelUtil.getUnionVariantJsonDeserialization(valueType, "jsonReader") + ")"));
+            }
+            ifBlock.elseBlock(elseBlock -> elseBlock.line(
+                "throw new IllegalStateException(\"Unexpected JSON token for " + modelName + ": \" + token);"));
         });
     }
 }
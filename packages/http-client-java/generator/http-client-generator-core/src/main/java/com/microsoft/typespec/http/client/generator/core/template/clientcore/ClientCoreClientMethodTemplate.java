@@ -31,6 +31,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaJav
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.template.ClientMethodTemplate;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import com.microsoft.typespec.http.client.generator.core.util.CodeNamer;
 import com.microsoft.typespec.http.client.generator.core.util.CollectionFormat;
 import com.microsoft.typespec.http.client.generator.core.util.MethodNamer;
@@ -363,6 +364,11 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
     protected static void convertClientTypesToWireTypes(JavaBlock function, ClientMethod clientMethod,
         List<ProxyMethodParameter> autoRestMethodRetrofitParameters) {
         for (ProxyMethodParameter parameter : autoRestMethodRetrofitParameters) {
+            if (parameter.getUriExpansion() != null) {
+                writeUriExpansion(function, clientMethod, parameter);
+                continue;
+            }
+
             IType parameterWireType = parameter.getWireType();
 
             if (parameter.isNullable()) {
@@ -466,8 +472,22 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
                                         parameterName, elementWireType.convertFromClientType("paramItemValue"));
                                 }
 
-                                // convert List<WireType> to String
-                                if (JavaSettings.getInstance().isAzureV1()) {
+                                String itemToWireString = itemToWireString(elementWireType, "paramItemValue");
+                                if (itemToWireString != null) {
+                                    // known type of item, convert List<WireType> to String without the serializer
+                                    String streamSource = parameterName;
+                                    if (!alreadyNullChecked) {
+                                        streamSource = "(" + parameterName + " == null) ? null : " + parameterName;
+                                    }
+                                    expression = streamSource + ".stream()\n";
+                                    if (elementWireType != elementType) {
+                                        expression += "    .map(paramItemValue -> "
+                                            + elementWireType.convertFromClientType("paramItemValue") + ")\n";
+                                    }
+                                    expression += "    .map(paramItemValue -> " + itemToWireString + ")\n"
+                                        + "    .collect(Collectors.joining(" + delimiter + "))";
+                                } else if (JavaSettings.getInstance().isAzureV1()) {
+                                    // convert List<WireType> to String
                                     // Always use serializeIterable as Iterable supports both Iterable and List.
                                     expression = String.format(
                                         "JacksonAdapter.createDefaultSerializerAdapter().serializeIterable(%s, CollectionFormat.%s)",
@@ -780,7 +800,11 @@ public class ClientCoreClientMethodTemplate extends ClientMethodTemplate {
                     function.line(
                         "RequestContext requestContextForNextPage = requestContext != null ? requestContext : RequestContext.none();");
                 }
-                function.line("return new PagedIterable<>(");
+                if (settings.isPagePrefetchEnabled()) {
+                    function.line("return %s.pagedIterable(", ClientModelUtil.PAGE_PREFETCHER);
+                } else {
+                    function.line("return new PagedIterable<>(");
+                }
 
                 String nextMethodArgs = clientMethod.getMethodPageDetails()
                     .getNextMethod()
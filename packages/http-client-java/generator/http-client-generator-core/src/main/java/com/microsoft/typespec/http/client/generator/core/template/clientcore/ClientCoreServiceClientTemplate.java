@@ -5,7 +5,6 @@ package com.microsoft.typespec.http.client.generator.core.template.clientcore;
 
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
-import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodGroupClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceClientProperty;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaBlock;
@@ -40,11 +39,6 @@ public class ClientCoreServiceClientTemplate extends ServiceClientTemplate {
             }
         }
 
-        for (MethodGroupClient methodGroupClient : serviceClient.getMethodGroupClients()) {
-            constructorBlock.line("this.%s = new %s(this);", methodGroupClient.getVariableName(),
-                methodGroupClient.getClassName());
-        }
-
         if (serviceClient.getProxy() != null) {
             if (JavaSettings.getInstance().useRestProxy()) {
                 constructorBlock.line(String.format("this.service = %1$s.create(%2$s.class, this.httpPipeline);",
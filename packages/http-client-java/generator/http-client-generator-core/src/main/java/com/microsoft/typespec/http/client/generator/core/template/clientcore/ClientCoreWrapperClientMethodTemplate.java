@@ -20,6 +20,7 @@ import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaCla
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaType;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import com.microsoft.typespec.http.client.generator.core.template.WrapperClientMethodTemplate;
+import com.microsoft.typespec.http.client.generator.core.util.ClientModelUtil;
 import io.clientcore.core.annotations.ReturnType;
 import java.util.List;
 import java.util.function.Consumer;
@@ -52,6 +53,12 @@ public class ClientCoreWrapperClientMethodTemplate extends WrapperClientMethodTe
             // Max overload for single service API is of method type SimpleSyncRestResponse
             writeConvenienceMethod(clientMethod, typeBlock, ReturnType.SINGLE,
                 clientMethod.getProxyMethod().getSimpleRestResponseMethodName());
+            if (JavaSettings.getInstance().isGenerateFileUploadOverloads()) {
+                ClientMethodParameter bodyParameter = ClientModelUtil.getFileUploadBodyParameter(clientMethod);
+                if (bodyParameter != null) {
+                    writeFileUploadMethod(clientMethod, bodyParameter, typeBlock);
+                }
+            }
             return;
         } else if (methodType == ClientMethodType.PagingSync && !hasRequestContext) {
             writeConvenienceMethod(clientMethod, typeBlock, ReturnType.COLLECTION, clientMethod.getName());
@@ -153,6 +160,65 @@ public class ClientCoreWrapperClientMethodTemplate extends WrapperClientMethodTe
         }));
     }
 
+    /**
+     * Writes the overload of the method of binary request body, that takes the Path of the file to upload. The file is
+     * streamed from disk as the request body is sent, and the "Content-Length" header, if it is a parameter, is taken
+     * from the file size.
+     *
+     * @param clientMethod the method of binary request body.
+     * @param bodyParameter the BinaryData body parameter.
+     * @param typeBlock the type block.
+     */
+    private void writeFileUploadMethod(ClientMethod clientMethod, ClientMethodParameter bodyParameter,
+        JavaType typeBlock) {
+        final String contentLengthParameterName = ClientModelUtil.getContentLengthParameterName(clientMethod);
+        final String bodyDataName = bodyParameter.getName() + "Data";
+
+        List<ClientMethodParameter> parameters = clientMethod.getMethodInputParameters()
+            .stream()
+            .filter(p -> !p.getName().equals(contentLengthParameterName))
+            .collect(Collectors.toList());
+        String parametersDeclaration = parameters.stream()
+            .map(p -> p == bodyParameter ? "Path " + p.getName() : p.getDeclaration())
+            .collect(Collectors.joining(", "));
+        String argumentList = clientMethod.getMethodInputParameters().stream().map(p -> {
+            if (p == bodyParameter) {
+                return bodyDataName;
+            } else if (p.getName().equals(contentLengthParameterName)) {
+                return bodyDataName + ".getLength()";
+            } else {
+                return p.getName();
+            }
+        }).collect(Collectors.joining(", "));
+
+        typeBlock.javadocComment(comment -> {
+            comment.description(clientMethod.getDescription());
+            comment.line("<p>");
+            comment.line("The file is streamed from disk as the request body is sent.");
+            for (ClientMethodParameter parameter : parameters) {
+                comment.param(parameter.getName(),
+                    parameter == bodyParameter ? "the path of the file to upload." : parameter.getDescription());
+            }
+            comment.methodThrows("IllegalArgumentException", "thrown if parameters fail the validation");
+            generateJavadocExceptions(clientMethod, comment, false);
+            comment.methodThrows("RuntimeException",
+                "all other wrapped checked exceptions if the request fails to be sent");
+            comment.methodReturns(clientMethod.getReturnValue().getDescription());
+        });
+        addGeneratedAnnotation(typeBlock);
+        addServiceMethodAnnotation(typeBlock, ReturnType.SINGLE);
+        String methodSignature = String.format("%1$s %2$s(%3$s)", clientMethod.getReturnValue().getType(),
+            clientMethod.getName(), parametersDeclaration);
+        writeMethod(typeBlock, clientMethod.getMethodVisibility(), methodSignature, function -> {
+            function.line("BinaryData %1$s = BinaryData.fromFile(%2$s);", bodyDataName, bodyParameter.getName());
+            if (clientMethod.getReturnValue().getType().equals(PrimitiveType.VOID)) {
+                function.line("%s(%s);", clientMethod.getName(), argumentList);
+            } else {
+                function.line("return %s(%s);", clientMethod.getName(), argumentList);
+            }
+        });
+    }
+
     private void writeMethod(JavaType typeBlock, JavaVisibility visibility, String methodSignature,
         Consumer<JavaBlock> method) {
         if (visibility == JavaVisibility.Public) {
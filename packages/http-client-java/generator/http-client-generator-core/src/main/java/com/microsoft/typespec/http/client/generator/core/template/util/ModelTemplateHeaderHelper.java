@@ -36,6 +36,9 @@ public final class ModelTemplateHeaderHelper {
     private static final Map<String, String> HEADER_TO_KNOWN_HTTPHEADERNAME;
     private static final Map<String, String> CLIENTCORE_HEADER_TO_KNOWN_HTTPHEADERNAME;
 
+    private static final String HEADER_COLLECTIONS_DECODED = "headerCollectionsDecoded";
+    private static final String DECODE_HEADER_COLLECTIONS = "decodeHeaderCollections";
+
     static {
         Map<String, String> headerToKnownHttpHeaderName = new TreeMap<>(String::compareToIgnoreCase);
         Map<String, String> clientCoreHeaderToKnownHttpHeaderName = new TreeMap<>(String::compareToIgnoreCase);
@@ -84,6 +87,11 @@ public final class ModelTemplateHeaderHelper {
         JavaSettings settings) {
         addHttpHeaderNameConstants(classBlock, model);
 
+        if (isLazyDecoding(model, settings)) {
+            addLazyDecodingHeadersConstructor(classBlock, model);
+            return;
+        }
+
         classBlock.lineComment("HttpHeaders containing the raw property values.");
         classBlock.javadocComment(comment -> {
             comment.description("Creates an instance of " + model.getName() + " class.");
@@ -112,6 +120,119 @@ public final class ModelTemplateHeaderHelper {
         });
     }
 
+    /**
+     * Whether the strongly typed headers model decodes its properties on first access, instead of in the constructor.
+     *
+     * @param model The model.
+     * @param settings Autorest generation settings.
+     * @return Whether the properties of the model are decoded lazily.
+     */
+    public static boolean isLazyDecoding(ClientModel model, JavaSettings settings) {
+        return model.isStronglyTypedHeader() && settings.isLazyTypedHeaders();
+    }
+
+    /**
+     * Adds the check to a getter of a lazily decoded model, which decodes the property from the raw headers if it
+     * hasn't been decoded yet.
+     *
+     * @param property The property.
+     * @param methodBlock The getter method block.
+     */
+    public static void addLazyDecodingCheck(ClientModelProperty property, JavaBlock methodBlock) {
+        if (property.isConstant()) {
+            return;
+        }
+
+        String decodedFlag = getDecodedFlagName(property);
+        methodBlock.ifBlock("!this." + decodedFlag,
+            ifBlock -> ifBlock.line(getDecodeMethodName(property) + "();"));
+    }
+
+    /**
+     * Adds the statement to the start of a setter of a lazily decoded model, which marks the property as decoded so
+     * that the value set won't be overwritten by the value from the raw headers.
+     * <p>
+     * Header collections are decoded together, hence the setter of a header collection decodes the others first.
+     *
+     * @param property The property.
+     * @param methodBlock The setter method block.
+     */
+    public static void addLazyDecodedMark(ClientModelProperty property, JavaBlock methodBlock) {
+        if (property.isConstant()) {
+            return;
+        }
+
+        if (CoreUtils.isNullOrEmpty(property.getHeaderCollectionPrefix())) {
+            methodBlock.line("this." + getDecodedFlagName(property) + " = true;");
+        } else {
+            addLazyDecodingCheck(property, methodBlock);
+        }
+    }
+
+    private static void addLazyDecodingHeadersConstructor(JavaClass classBlock, ClientModel model) {
+        List<ClientModelProperty> properties = new ArrayList<>();
+        List<ClientModelProperty> collectionProperties = new ArrayList<>();
+        for (ClientModelProperty property : model.getProperties()) {
+            if (property.isConstant()) {
+                continue;
+            }
+
+            if (CoreUtils.isNullOrEmpty(property.getHeaderCollectionPrefix())) {
+                properties.add(property);
+            } else {
+                collectionProperties.add(property);
+            }
+        }
+
+        classBlock.lineComment("HttpHeaders containing the raw property values.");
+        classBlock.privateFinalMemberVariable("HttpHeaders rawHeaders");
+
+        // The flag is written after the property value, so a reader that sees the flag also sees the value.
+        // Concurrent first access may decode the same header more than once, which is harmless.
+        for (ClientModelProperty property : properties) {
+            classBlock.privateMemberVariable("volatile boolean " + getDecodedFlagName(property));
+        }
+        if (!collectionProperties.isEmpty()) {
+            classBlock.privateMemberVariable("volatile boolean " + HEADER_COLLECTIONS_DECODED);
+        }
+
+        classBlock.javadocComment(comment -> {
+            comment.description("Creates an instance of " + model.getName() + " class.");
+            comment.param("rawHeaders", "The raw HttpHeaders that will be used to create the property values.");
+        });
+        classBlock.publicConstructor(model.getName() + "(HttpHeaders rawHeaders)",
+            constructor -> constructor.line("this.rawHeaders = rawHeaders;"));
+
+        for (ClientModelProperty property : properties) {
+            classBlock.method(JavaVisibility.Private, null, "void " + getDecodeMethodName(property) + "()",
+                methodBlock -> {
+                    generateHeaderDeserializationFunction(property, methodBlock);
+                    methodBlock.line("this." + getDecodedFlagName(property) + " = true;");
+                });
+        }
+
+        if (!collectionProperties.isEmpty()) {
+            // Header collections are decoded together, as they share one iteration over the HttpHeaders.
+            classBlock.method(JavaVisibility.Private, null, "void " + DECODE_HEADER_COLLECTIONS + "()",
+                methodBlock -> {
+                    generateHeaderCollectionDeserialization(collectionProperties, methodBlock);
+                    methodBlock.line("this." + HEADER_COLLECTIONS_DECODED + " = true;");
+                });
+        }
+    }
+
+    private static String getDecodedFlagName(ClientModelProperty property) {
+        return CoreUtils.isNullOrEmpty(property.getHeaderCollectionPrefix())
+            ? property.getName() + "Decoded"
+            : HEADER_COLLECTIONS_DECODED;
+    }
+
+    private static String getDecodeMethodName(ClientModelProperty property) {
+        return CoreUtils.isNullOrEmpty(property.getHeaderCollectionPrefix())
+            ? "decode" + CodeNamer.toPascalCase(property.getName())
+            : DECODE_HEADER_COLLECTIONS;
+    }
+
     /**
      * Gets an expression of HttpHeaderName instance.
      * <p>
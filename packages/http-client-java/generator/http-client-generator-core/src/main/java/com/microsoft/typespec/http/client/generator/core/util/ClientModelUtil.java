@@ -11,23 +11,32 @@ import com.microsoft.typespec.http.client.generator.core.extension.model.codemod
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Operation;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.OperationGroup;
 import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.Parameter;
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
 import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
 import com.microsoft.typespec.http.client.generator.core.mapper.Mappers;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.AsyncSyncClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelPropertyAccess;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ConvenienceMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ExternalPackage;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.GenericType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ImplementationDetails;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ListType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MethodGroupClient;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ModelPropertySegment;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
 import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ServiceClient;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModels;
 import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaVisibility;
 import io.clientcore.core.utils.CoreUtils;
 import java.net.URI;
@@ -61,9 +70,17 @@ public class ClientModelUtil {
 
     public static final String JSON_MERGE_PATCH_HELPER_CLASS_NAME = "JsonMergePatchHelper";
 
+    public static final String JSON_SERIALIZABLE_HELPER_CLASS_NAME = "JsonSerializableHelper";
+
     public static final String OPERATION_LOCATION_POLLING_STRATEGY = "OperationLocationPollingStrategy";
     public static final String SYNC_OPERATION_LOCATION_POLLING_STRATEGY = "SyncOperationLocationPollingStrategy";
     public static final String POLLING_UTILS = "PollingUtils";
+    public static final String POLLING_SCHEDULER = "PollingScheduler";
+    public static final String PAGE_PREFETCHER = "PagePrefetcher";
+    public static final String DATE_TIME_CODEC = "DateTimeCodec";
+    public static final String JSON_LINES = "JsonLines";
+    public static final String URI_EXPANDER = "UriExpander";
+    public static final String CONDITIONAL_REQUEST_CACHE_POLICY = "ConditionalRequestCachePolicy";
     public static final String CLIENT_CORE_POLLING_UTILS = "ClientCorePollingUtils";
     public static final String CLIENT_CORE_OPERATION_LOCATION_POLLING_STRATEGY
         = "ClientCoreOperationLocationPollingStrategy";
@@ -474,6 +491,20 @@ public class ClientModelUtil {
         }
     }
 
+    /**
+     * Check if the type is a typed union, generated by the "typed-unions" option.
+     * <p>
+     * A typed union is serialized as a whole value by its own toJson, and has no validate() or JSON merge patch
+     * accessor.
+     *
+     * @param type the type
+     * @return whether the type is a typed union.
+     */
+    public static boolean isUnionModel(IType type) {
+        return type instanceof ClassType && ((ClassType) type).isSwaggerType()
+            && UnionModels.getInstance().getModel(((ClassType) type).getName()) != null;
+    }
+
     /**
      * Check if the type is an external model.
      *
@@ -523,6 +554,39 @@ public class ClientModelUtil {
             && model.getImplementationDetails().getUsages().contains(ImplementationDetails.Usage.JSON_MERGE_PATCH);
     }
 
+    /**
+     * Checks whether the json-merge-patch serialization of the model hierarchy can be dispatched without the
+     * jsonMergePatch flag on the model.
+     * <p>
+     * Non-polymorphic models call their own toJsonMergePatch. Polymorphic models require all models in the hierarchy
+     * be json-merge-patch models in the same package, so that the package-private toJsonMergePatch can be overridden.
+     *
+     * @param model the client model.
+     * @param settings the Java settings.
+     * @return whether the json-merge-patch serialization is stateless.
+     */
+    public static boolean isStatelessJsonMergePatchModel(ClientModel model, JavaSettings settings) {
+        ClientModel rootModel = getRootParent(model);
+        if (!rootModel.isPolymorphic()) {
+            return true;
+        }
+        return rootModel.isAllPolymorphicModelsInSamePackage() && isJsonMergePatchHierarchy(rootModel, settings);
+    }
+
+    private static boolean isJsonMergePatchHierarchy(ClientModel model, JavaSettings settings) {
+        if (!isJsonMergePatchModel(model, settings)) {
+            return false;
+        }
+        if (model.getDerivedModels() != null) {
+            for (ClientModel derivedModel : model.getDerivedModels()) {
+                if (!isJsonMergePatchHierarchy(derivedModel, settings)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Gets all parent properties.
      *
@@ -929,6 +993,330 @@ public class ClientModelUtil {
         return model.getSerializationFormats().contains(KnownMediaType.MULTIPART.value());
     }
 
+    /**
+     * Checks whether the type is a generated model that implements JsonSerializable.
+     * <p>
+     * Such model can be serialized and deserialized via its own toJson and fromJson methods.
+     *
+     * @param type the type
+     * @param settings JavaSettings instance
+     * @return whether the type is a generated model that implements JsonSerializable
+     */
+    public static boolean isJsonSerializableModel(IType type, JavaSettings settings) {
+        if (!settings.isStreamStyleSerialization() || !isClientModel(type) || isExternalModel(type)) {
+            return false;
+        }
+        ClientModel model = getClientModel(type.toString());
+        return model.getXmlName() == null && !model.isStronglyTypedHeader() && !isMultipartModel(model);
+    }
+
+    /**
+     * Checks whether the JsonSerializableHelper class is required by the convenience methods.
+     *
+     * @param syncClients the sync clients
+     * @param asyncClients the async clients
+     * @param settings JavaSettings instance
+     * @return whether the JsonSerializableHelper class is required
+     */
+    public static boolean requireJsonSerializableHelper(List<AsyncSyncClient> syncClients,
+        List<AsyncSyncClient> asyncClients, JavaSettings settings) {
+        if (!settings.isAzureV1() || !settings.isStreamStyleSerialization()) {
+            return false;
+        }
+        return Stream.concat(syncClients.stream(), asyncClients.stream())
+            .anyMatch(c -> !CoreUtils.isNullOrEmpty(c.getConvenienceMethods()));
+    }
+
+    /**
+     * Checks whether the JsonLines helper class is required, i.e. there is a sync convenience method of JSON Lines
+     * request or response body, and JSON Lines streaming is enabled.
+     *
+     * @param syncClients the sync clients.
+     * @param settings the Java settings.
+     * @return whether the JsonLines helper class is required.
+     */
+    public static boolean requireJsonLines(List<AsyncSyncClient> syncClients, JavaSettings settings) {
+        if (!settings.isJsonLinesStreaming()) {
+            return false;
+        }
+        return syncClients.stream()
+            .filter(c -> c.getConvenienceMethods() != null)
+            .flatMap(c -> c.getConvenienceMethods().stream())
+            .flatMap(m -> m.getConvenienceMethods().stream())
+            .anyMatch(ClientModelUtil::isJsonLinesMethod);
+    }
+
+    /**
+     * Checks whether the method is a sync convenience method of JSON Lines request body or JSON Lines response body,
+     * which would get a typed streaming overload.
+     *
+     * @param clientMethod the client method.
+     * @return whether the method is a sync convenience method of JSON Lines body.
+     */
+    public static boolean isJsonLinesMethod(ClientMethod clientMethod) {
+        return clientMethod.getType() == ClientMethodType.SimpleSync
+            && (getJsonLinesBodyParameter(clientMethod) != null || isJsonLinesResponse(clientMethod));
+    }
+
+    /**
+     * Gets the BinaryData body parameter of the method, if the request body is JSON Lines.
+     *
+     * @param clientMethod the client method.
+     * @return the body parameter, or null if the request body is not JSON Lines.
+     */
+    public static ClientMethodParameter getJsonLinesBodyParameter(ClientMethod clientMethod) {
+        ProxyMethod proxyMethod = clientMethod.getProxyMethod();
+        if (proxyMethod == null || !isJsonLinesContentType(proxyMethod.getRequestContentType())) {
+            return null;
+        }
+        return clientMethod.getMethodInputParameters()
+            .stream()
+            .filter(p -> p.getRequestParameterLocation() == RequestParameterLocation.BODY
+                && p.getClientType() == ClassType.BINARY_DATA)
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Checks whether the method returns the BinaryData of a JSON Lines response body.
+     *
+     * @param clientMethod the client method.
+     * @return whether the method returns the BinaryData of a JSON Lines response body.
+     */
+    public static boolean isJsonLinesResponse(ClientMethod clientMethod) {
+        ProxyMethod proxyMethod = clientMethod.getProxyMethod();
+        return proxyMethod != null
+            && clientMethod.getReturnValue().getType() == ClassType.BINARY_DATA
+            && proxyMethod.getResponseContentTypes() != null
+            && proxyMethod.getResponseContentTypes().stream().anyMatch(ClientModelUtil::isJsonLinesContentType);
+    }
+
+    private static boolean isJsonLinesContentType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int parametersIndex = contentType.indexOf(';');
+        String mediaType = parametersIndex < 0 ? contentType : contentType.substring(0, parametersIndex);
+        return "application/jsonl".equalsIgnoreCase(mediaType.trim());
+    }
+
+    /**
+     * Gets the BinaryData body parameter of the method, if the method is a sync convenience method of binary request
+     * body, which would get an overload that uploads a file.
+     *
+     * @param clientMethod the client method.
+     * @return the body parameter, or null if the method is not a sync convenience method of binary request body.
+     */
+    public static ClientMethodParameter getFileUploadBodyParameter(ClientMethod clientMethod) {
+        ProxyMethod proxyMethod = clientMethod.getProxyMethod();
+        if (clientMethod.getType() != ClientMethodType.SimpleSync
+            || proxyMethod == null
+            || !isBinaryContentType(proxyMethod.getRequestContentType())
+            || isFileUploadOfAllParameters(clientMethod)) {
+            return null;
+        }
+        return clientMethod.getMethodInputParameters()
+            .stream()
+            .filter(p -> p.getRequestParameterLocation() == RequestParameterLocation.BODY
+                && p.getClientType() == ClassType.BINARY_DATA)
+            .findFirst()
+            .orElse(null);
+    }
+
+    /*
+     * Checks whether the method of only required parameters would get the same file upload overload as the method of
+     * all parameters, which is the case when "Content-Length" is the only optional parameter. The overload of the
+     * latter is kept, as it sets "Content-Length" from the size of the file.
+     */
+    private static boolean isFileUploadOfAllParameters(ClientMethod clientMethod) {
+        if (!clientMethod.getOnlyRequiredParameters()) {
+            return false;
+        }
+        String contentLengthParameterName
+            = getContentLengthParameterName(clientMethod.getProxyMethod(), clientMethod.getMethodParameters());
+        if (contentLengthParameterName == null) {
+            return false;
+        }
+        Function<List<ClientMethodParameter>, Set<String>> parameterNames = parameters -> parameters.stream()
+            .map(ClientMethodParameter::getName)
+            .filter(name -> !contentLengthParameterName.equals(name))
+            .collect(Collectors.toSet());
+        return parameterNames.apply(clientMethod.getMethodParameters())
+            .equals(parameterNames.apply(clientMethod.getMethodRequiredParameters()));
+    }
+
+    /**
+     * Gets the name of the parameter of the "Content-Length" header of the method.
+     *
+     * @param clientMethod the client method.
+     * @return the name of the parameter, or null if the method has no such parameter.
+     */
+    public static String getContentLengthParameterName(ClientMethod clientMethod) {
+        return getContentLengthParameterName(clientMethod.getProxyMethod(), clientMethod.getMethodInputParameters());
+    }
+
+    private static String getContentLengthParameterName(ProxyMethod proxyMethod,
+        List<ClientMethodParameter> parameters) {
+        if (proxyMethod == null) {
+            return null;
+        }
+        return proxyMethod.getParameters()
+            .stream()
+            .filter(p -> p.getRequestParameterLocation() == RequestParameterLocation.HEADER
+                && "Content-Length".equalsIgnoreCase(p.getRequestParameterName()))
+            .map(ProxyMethodParameter::getName)
+            .filter(name -> parameters.stream().anyMatch(p -> name.equals(p.getName())))
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static boolean isBinaryContentType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int parametersIndex = contentType.indexOf(';');
+        String mediaType = (parametersIndex < 0 ? contentType : contentType.substring(0, parametersIndex)).trim()
+            .toLowerCase(Locale.ROOT);
+        return !(mediaType.startsWith("text/")
+            || mediaType.startsWith("multipart/")
+            || mediaType.equals("application/x-www-form-urlencoded")
+            || mediaType.equals("application/json")
+            || mediaType.endsWith("+json")
+            || mediaType.equals("application/jsonl")
+            || mediaType.equals("application/xml")
+            || mediaType.endsWith("+xml"));
+    }
+
+    /**
+     * Checks whether the PagePrefetcher helper class is required, i.e. there is a paging method with next link in
+     * clientcore based flavors, and page prefetch is enabled.
+     *
+     * @param serviceClient the service client, used when there is no multi-client.
+     * @param serviceClients the service clients of multi-client.
+     * @param settings the Java settings.
+     * @return whether the PagePrefetcher helper class is required.
+     */
+    public static boolean requirePagePrefetcher(ServiceClient serviceClient, List<ServiceClient> serviceClients,
+        JavaSettings settings) {
+        if (settings.isAzureV1() || !settings.isPagePrefetchEnabled()) {
+            return false;
+        }
+        Stream<ServiceClient> clients = CoreUtils.isNullOrEmpty(serviceClients)
+            ? Stream.ofNullable(serviceClient)
+            : serviceClients.stream();
+        return clients
+            .flatMap(client -> Stream.concat(client.getClientMethods().stream(),
+                client.getMethodGroupClients().stream().flatMap(methodGroup -> methodGroup.getClientMethods().stream())))
+            .anyMatch(ClientModelUtil::isPrefetchPagingMethod);
+    }
+
+    /**
+     * Checks whether the method is a sync paging method with next link, which would prefetch the next pages.
+     *
+     * @param clientMethod the client method.
+     * @return whether the method is a sync paging method with next link.
+     */
+    public static boolean isPrefetchPagingMethod(ClientMethod clientMethod) {
+        return clientMethod.getType() == ClientMethodType.PagingSync
+            && clientMethod.getMethodPageDetails() != null
+            && clientMethod.getMethodPageDetails().nonNullNextLink();
+    }
+
+    /**
+     * Checks whether the UriExpander helper class is required, i.e. there is a path parameter of RFC 6570 expansion
+     * other than the simple expansion, e.g. label or matrix.
+     *
+     * @param serviceClient the service client.
+     * @param serviceClients the service clients, if there are multiple.
+     * @return whether the UriExpander helper class is required.
+     */
+    public static boolean requireUriExpander(ServiceClient serviceClient, List<ServiceClient> serviceClients) {
+        Stream<ServiceClient> clients = CoreUtils.isNullOrEmpty(serviceClients)
+            ? Stream.ofNullable(serviceClient)
+            : serviceClients.stream();
+        return clients
+            .flatMap(client -> Stream.concat(client.getClientMethods().stream(),
+                client.getMethodGroupClients().stream().flatMap(methodGroup -> methodGroup.getClientMethods().stream())))
+            .map(ClientMethod::getProxyMethod)
+            .filter(Objects::nonNull)
+            .flatMap(proxyMethod -> proxyMethod.getParameters().stream())
+            .anyMatch(parameter -> parameter.getUriExpansion() != null);
+    }
+
+    /**
+     * Gets the JSON token of the value of a typed union variant.
+     * <p>
+     * Only types of simple value, generated model, and list or map of them, are supported.
+     *
+     * @param type the type of the value of the variant.
+     * @return the JSON token, e.g. "JsonToken.STRING", or null if the type is not supported.
+     */
+    public static String getUnionVariantJsonToken(IType type) {
+        if (!type.equals(type.getClientType())) {
+            // value would need conversion between wire type and client type
+            return null;
+        } else if (type instanceof EnumType) {
+            return getUnionVariantJsonToken(((EnumType) type).getElementType());
+        } else if (type instanceof MapType) {
+            return getUnionVariantJsonDeserialization(type, "reader") == null ? null : "JsonToken.START_OBJECT";
+        } else if (type instanceof ListType) {
+            return getUnionVariantJsonDeserialization(type, "reader") == null ? null : "JsonToken.START_ARRAY";
+        } else if (type instanceof ClassType && ((ClassType) type).isSwaggerType()) {
+            return type.jsonToken() == null ? "JsonToken.START_OBJECT" : type.jsonToken();
+        } else {
+            return type.jsonDeserializationMethod("reader") == null ? null : type.jsonToken();
+        }
+    }
+
+    /**
+     * Gets the expression that deserializes the value of a typed union variant from the current JSON token.
+     *
+     * @param type the type of the value of the variant.
+     * @param jsonReaderName the name of the JsonReader.
+     * @return the expression, or null if the type is not supported.
+     */
+    public static String getUnionVariantJsonDeserialization(IType type, String jsonReaderName) {
+        if (type instanceof MapType || type instanceof ListType) {
+            IType elementType
+                = type instanceof MapType ? ((MapType) type).getValueType() : ((ListType) type).getElementType();
+            if (elementType instanceof GenericType) {
+                // nested container is not supported
+                return null;
+            }
+            String elementDeserialization = getUnionVariantJsonDeserialization(elementType, "reader");
+            return elementDeserialization == null
+                ? null
+                : jsonReaderName + (type instanceof MapType ? ".readMap" : ".readArray") + "(reader -> "
+                    + elementDeserialization + ")";
+        } else if (type instanceof ClassType && ((ClassType) type).isSwaggerType()) {
+            return type + ".fromJson(" + jsonReaderName + ")";
+        } else {
+            return type.jsonDeserializationMethod(jsonReaderName);
+        }
+    }
+
+    /**
+     * Gets the expression that serializes the value of a typed union variant as a JSON value.
+     *
+     * @param type the type of the value of the variant.
+     * @param jsonWriterName the name of the JsonWriter.
+     * @param valueGetter the expression of the value.
+     * @return the expression, or null if the type is not supported.
+     */
+    public static String getUnionVariantJsonSerialization(IType type, String jsonWriterName, String valueGetter) {
+        if (type instanceof MapType || type instanceof ListType) {
+            IType elementType
+                = type instanceof MapType ? ((MapType) type).getValueType() : ((ListType) type).getElementType();
+            String elementSerialization = getUnionVariantJsonSerialization(elementType, "writer", "element");
+            return elementSerialization == null
+                ? null
+                : jsonWriterName + (type instanceof MapType ? ".writeMap(" : ".writeArray(") + valueGetter
+                    + ", (writer, element) -> " + elementSerialization + ")";
+        } else {
+            return type.jsonSerializationMethodCall(jsonWriterName, null, valueGetter, false);
+        }
+    }
+
     public static ClientModel getErrorModelFromException(ClassType exceptionType) {
         String errorBodyClassName = exceptionType.getName();
         if (errorBodyClassName.endsWith("Exception")) {
@@ -0,0 +1,52 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+package com.microsoft.typespec.http.client.generator.core.util;
+
+/**
+ * Defines the RFC 6570 expansion of a path parameter, other than the simple string expansion.
+ */
+public enum UriExpansion {
+    /**
+     * Reserved expansion, "{+param}". E.g. foo/bar
+     */
+    RESERVED("reserved"),
+    /**
+     * Fragment expansion, "{#param}". E.g. #foo/bar
+     */
+    FRAGMENT("fragment"),
+    /**
+     * Label expansion, "{.param}". E.g. .foo
+     */
+    LABEL("label"),
+    /**
+     * Path segment expansion, "{/param}". E.g. /foo
+     */
+    PATH("path"),
+    /**
+     * Path-style parameter expansion, "{;param}". E.g. ;param=foo
+     */
+    MATRIX("matrix");
+
+    /**
+     * The name of the method of UriExpander helper class.
+     */
+    private final String methodName;
+
+    /**
+     * Creates UriExpansion enum.
+     *
+     * @param methodName the name of the method of UriExpander helper class.
+     */
+    UriExpansion(String methodName) {
+        this.methodName = methodName;
+    }
+
+    /**
+     * Gets the name of the method of UriExpander helper class, that expands the value of the parameter.
+     *
+     * @return the name of the method of UriExpander helper class.
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+}
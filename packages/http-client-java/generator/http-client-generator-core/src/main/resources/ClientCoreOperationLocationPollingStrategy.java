@@ -10,13 +10,12 @@ import io.clientcore.core.models.CoreException;
 import io.clientcore.core.models.binarydata.BinaryData;
 import io.clientcore.core.serialization.ObjectSerializer;
 import io.clientcore.core.serialization.json.JsonSerializer;
-import io.clientcore.core.utils.CoreUtils;
 
+import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.util.Map;
 
 // DO NOT modify this helper class
 
@@ -113,13 +112,15 @@ public final class OperationLocationPollingStrategy<T, U> extends OperationResou
         if (propertyName != null) {
             // take the last poll response body from PollingContext,
             // and de-serialize the <propertyName> property as final result
-            BinaryData latestResponseBody
-                = BinaryData.fromString(pollingContext.getData(PollingUtils.POLL_RESPONSE_BODY));
-            Map<String, Object> pollResult = PollingUtils.deserializeResponse(latestResponseBody, serializer,
-                CoreUtils.createParameterizedType(Map.class, String.class, Object.class));
-            if (pollResult != null && pollResult.get(propertyName) != null) {
-                return PollingUtils.deserializeResponse(BinaryData.fromObject(pollResult.get(propertyName)),
-                    serializer, resultType);
+            U result;
+            try {
+                result = PollingUtils.readPropertyValue(pollingContext.getData(PollingUtils.POLL_RESPONSE_BODY),
+                    propertyName, serializer, resultType);
+            } catch (IOException e) {
+                throw LOGGER.throwableAtError().log("Cannot get final result", e, CoreException::from);
+            }
+            if (result != null) {
+                return result;
             } else {
                 throw LOGGER.throwableAtError().log("Cannot get final result", RuntimeException::new);
             }
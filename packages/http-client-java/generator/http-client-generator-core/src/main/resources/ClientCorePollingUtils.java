@@ -4,10 +4,14 @@ import io.clientcore.core.instrumentation.logging.ClientLogger;
 import io.clientcore.core.models.CoreException;
 import io.clientcore.core.models.binarydata.BinaryData;
 import io.clientcore.core.serialization.ObjectSerializer;
+import io.clientcore.core.serialization.json.JsonReader;
+import io.clientcore.core.serialization.json.JsonSerializable;
+import io.clientcore.core.serialization.json.JsonToken;
 import io.clientcore.core.utils.CoreUtils;
 import io.clientcore.core.utils.DateTimeRfc1123;
 
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -73,6 +77,82 @@ final class PollingUtils {
         throw new RuntimeException("Unsupported type: " + type);
     }
 
+    /**
+     * Deserializes the value of a top-level property of the response body as the final result, in a single pass.
+     * <p>
+     * The body is read once with a JsonReader, and other properties are skipped. A model is read by its
+     * {@code fromJson(JsonReader)} from the reader positioned at the property, without a copy of the property. Other
+     * types, e.g. BinaryData or List, are deserialized from the JSON text of the property.
+     *
+     * @param responseBody the JSON response body.
+     * @param propertyName the name of the property.
+     * @param serializer the serializer for types other than model.
+     * @param type the type of the final result.
+     * @param <T> the type of the final result.
+     * @return the final result, or null if the property is not found or its value is null.
+     * @throws IOException if the response body cannot be read as a JSON object.
+     */
+    public static <T> T readPropertyValue(String responseBody, String propertyName, ObjectSerializer serializer,
+        Type type) throws IOException {
+        if (responseBody == null) {
+            return null;
+        }
+        try (JsonReader jsonReader = JsonReader.fromString(responseBody)) {
+            if (jsonReader.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+                String fieldName = jsonReader.getFieldName();
+                JsonToken token = jsonReader.nextToken();
+                if (propertyName.equals(fieldName)) {
+                    return token == JsonToken.NULL ? null : readValue(jsonReader, serializer, type);
+                } else {
+                    jsonReader.skipChildren();
+                }
+            }
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T readValue(JsonReader jsonReader, ObjectSerializer serializer, Type type)
+        throws IOException {
+        if (type instanceof Class<?> && JsonSerializable.class.isAssignableFrom((Class<?>) type)) {
+            // model, read by its fromJson from the reader at the property
+            return (T) fromJson((Class<?>) type, jsonReader);
+        }
+        if (type == String.class && jsonReader.currentToken() == JsonToken.STRING) {
+            return (T) jsonReader.getString();
+        }
+        return deserializeResponse(BinaryData.fromString(readRawValue(jsonReader)), serializer, type);
+    }
+
+    private static String readRawValue(JsonReader jsonReader) throws IOException {
+        if (jsonReader.currentToken() == JsonToken.STRING) {
+            // raw text of a string is the escaped content, without the quotes
+            return "\"" + jsonReader.getRawText() + "\"";
+        } else if (jsonReader.isStartArrayOrObject()) {
+            return jsonReader.readChildren();
+        } else {
+            return jsonReader.getRawText();
+        }
+    }
+
+    private static Object fromJson(Class<?> clazz, JsonReader jsonReader) throws IOException {
+        try {
+            return clazz.getMethod("fromJson", JsonReader.class).invoke(null, jsonReader);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot find fromJson(JsonReader) of " + clazz.getName(), e);
+        }
+    }
+
     private static final HttpHeaderName RETRY_AFTER_MS_HEADER = HttpHeaderName.fromString("retry-after-ms");
     private static final HttpHeaderName X_MS_RETRY_AFTER_MS_HEADER = HttpHeaderName.fromString("x-ms-retry-after-ms");
 
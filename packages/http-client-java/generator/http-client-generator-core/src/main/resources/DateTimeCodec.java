@@ -0,0 +1,301 @@
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// DO NOT modify this helper class
+
+/**
+ * Parses and formats date-time and duration values of the fixed layouts most services send, by reading and writing
+ * the characters directly.
+ * <p>
+ * A value of any other layout falls back to the parser or formatter of {@code java.time}, hence the result, and the
+ * exception on invalid value, is the same as that of {@code java.time}.
+ */
+public final class DateTimeCodec {
+
+    private static final Pattern COLONLESS_OFFSET = Pattern.compile("([+-][0-9]{2})([0-9]{2})(?=\\[|$)");
+
+    private DateTimeCodec() {
+    }
+
+    /**
+     * Parses the RFC 3339 date-time, e.g. "2024-01-02T03:04:05.678Z".
+     *
+     * @param value the date-time string.
+     * @return the date-time.
+     * @throws java.time.format.DateTimeParseException if the value is not a valid date-time with offset.
+     */
+    public static OffsetDateTime parseDateTime(String value) {
+        OffsetDateTime dateTime = parseFixedLayoutDateTime(value);
+        return dateTime != null ? dateTime : OffsetDateTime.parse(value);
+    }
+
+    /**
+     * Parses the RFC 3339 date-time, e.g. "2024-01-02T03:04:05.678Z". Date-time without offset is taken as UTC, and
+     * offset without colon, e.g. "+0800", is accepted, the same as "CoreUtils.parseBestOffsetDateTime" of azure-core.
+     *
+     * @param value the date-time string.
+     * @return the date-time, or null if {@code value} is null.
+     * @throws java.time.format.DateTimeParseException if the value is not a valid date-time.
+     */
+    public static OffsetDateTime parseBestDateTime(String value) {
+        if (value == null) {
+            return null;
+        }
+        OffsetDateTime dateTime = parseFixedLayoutDateTime(value);
+        if (dateTime != null) {
+            return dateTime;
+        }
+        Matcher matcher = COLONLESS_OFFSET.matcher(value);
+        if (matcher.find()) {
+            value = value.substring(0, matcher.start()) + matcher.group(1) + ":" + matcher.group(2)
+                + value.substring(matcher.start() + 5);
+        }
+        TemporalAccessor temporal
+            = DateTimeFormatter.ISO_DATE_TIME.parseBest(value, OffsetDateTime::from, LocalDateTime::from);
+        return temporal.query(TemporalQueries.offset()) == null
+            ? LocalDateTime.from(temporal).atOffset(ZoneOffset.UTC)
+            : OffsetDateTime.from(temporal);
+    }
+
+    /**
+     * Formats the date-time as RFC 3339, the same as {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+     *
+     * @param dateTime the date-time.
+     * @return the date-time string, or null if {@code dateTime} is null.
+     */
+    public static String formatDateTime(OffsetDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        int year = dateTime.getYear();
+        int offsetSeconds = dateTime.getOffset().getTotalSeconds();
+        if (year < 0 || year > 9999 || offsetSeconds % 60 != 0) {
+            return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime);
+        }
+
+        // "yyyy-MM-ddTHH:mm:ss.nnnnnnnnn+HH:mm"
+        char[] buffer = new char[35];
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, dateTime.getMonthValue(), 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, dateTime.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        writeDigits(buffer, 11, dateTime.getHour(), 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, dateTime.getMinute(), 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, dateTime.getSecond(), 2);
+        int length = 19;
+
+        int nano = dateTime.getNano();
+        if (nano != 0) {
+            buffer[length++] = '.';
+            int digits = 9;
+            while (nano % 10 == 0) {
+                // trailing zeros are omitted
+                nano /= 10;
+                --digits;
+            }
+            writeDigits(buffer, length, nano, digits);
+            length += digits;
+        }
+
+        if (offsetSeconds == 0) {
+            buffer[length++] = 'Z';
+        } else {
+            buffer[length++] = offsetSeconds < 0 ? '-' : '+';
+            int offsetMinutes = Math.abs(offsetSeconds) / 60;
+            writeDigits(buffer, length, offsetMinutes / 60, 2);
+            buffer[length + 2] = ':';
+            writeDigits(buffer, length + 3, offsetMinutes % 60, 2);
+            length += 5;
+        }
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * Parses the ISO 8601 duration, e.g. "PT1H30M" or "P1DT2.5S".
+     *
+     * @param value the duration string.
+     * @return the duration.
+     * @throws java.time.format.DateTimeParseException if the value is not a valid duration.
+     */
+    public static Duration parseDuration(String value) {
+        Duration duration = parseFixedLayoutDuration(value);
+        return duration != null ? duration : Duration.parse(value);
+    }
+
+    /*
+     * Parses "yyyy-MM-ddTHH:mm:ss[.fraction](Z|+HH:mm|-HH:mm)". Returns null for any other layout, or any invalid
+     * field, so that the caller falls back to the parser of java.time.
+     */
+    private static OffsetDateTime parseFixedLayoutDateTime(String value) {
+        int length = value.length();
+        if (length < 20 || value.charAt(4) != '-' || value.charAt(7) != '-' || !isTimeSeparator(value.charAt(10))
+            || value.charAt(13) != ':' || value.charAt(16) != ':') {
+            return null;
+        }
+        int year = readDigits(value, 0, 4);
+        int month = readDigits(value, 5, 2);
+        int day = readDigits(value, 8, 2);
+        int hour = readDigits(value, 11, 2);
+        int minute = readDigits(value, 14, 2);
+        int second = readDigits(value, 17, 2);
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) {
+            return null;
+        }
+
+        int index = 19;
+        int nano = 0;
+        if (value.charAt(index) == '.') {
+            int start = ++index;
+            while (index < length && index - start < 9 && isDigit(value.charAt(index))) {
+                nano = nano * 10 + (value.charAt(index++) - '0');
+            }
+            if (index == start) {
+                return null;
+            }
+            for (int i = index - start; i < 9; ++i) {
+                nano *= 10;
+            }
+        }
+
+        ZoneOffset offset;
+        if (index == length - 1 && (value.charAt(index) == 'Z' || value.charAt(index) == 'z')) {
+            offset = ZoneOffset.UTC;
+        } else if (index == length - 6 && (value.charAt(index) == '+' || value.charAt(index) == '-')
+            && value.charAt(index + 3) == ':') {
+            int offsetHour = readDigits(value, index + 1, 2);
+            int offsetMinute = readDigits(value, index + 4, 2);
+            if (offsetHour < 0 || offsetMinute < 0 || offsetHour > 18 || offsetMinute > 59) {
+                return null;
+            }
+            int offsetSeconds = offsetHour * 3600 + offsetMinute * 60;
+            try {
+                offset = ZoneOffset.ofTotalSeconds(value.charAt(index) == '-' ? -offsetSeconds : offsetSeconds);
+            } catch (DateTimeException e) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+
+        try {
+            return OffsetDateTime.of(year, month, day, hour, minute, second, nano, offset);
+        } catch (DateTimeException e) {
+            // e.g. "2024-02-30", let the parser of java.time report the error
+            return null;
+        }
+    }
+
+    /*
+     * Parses "P[nD][T[nH][nM][n[.fraction]S]]" of unsigned numbers. Returns null for any other layout, so that the
+     * caller falls back to the parser of java.time.
+     */
+    private static Duration parseFixedLayoutDuration(String value) {
+        int length = value.length();
+        if (length < 3 || value.charAt(0) != 'P') {
+            return null;
+        }
+        long seconds = 0;
+        int nano = 0;
+        // 'D', 'H', 'M', 'S' must appear in this order, each at most once
+        String units = "DHMS";
+        int unitIndex = 0;
+        boolean timePart = false;
+        boolean timeComponent = false;
+        int index = 1;
+        while (index < length) {
+            char c = value.charAt(index);
+            if (c == 'T') {
+                if (timePart || index == length - 1) {
+                    return null;
+                }
+                timePart = true;
+                unitIndex = Math.max(unitIndex, 1);
+                ++index;
+                continue;
+            }
+
+            int start = index;
+            long number = 0;
+            while (index < length && index - start < 9 && isDigit(value.charAt(index))) {
+                number = number * 10 + (value.charAt(index++) - '0');
+            }
+            if (index == start || index == length) {
+                return null;
+            }
+            int fraction = -1;
+            if (value.charAt(index) == '.') {
+                int fractionStart = ++index;
+                fraction = 0;
+                while (index < length && index - fractionStart < 9 && isDigit(value.charAt(index))) {
+                    fraction = fraction * 10 + (value.charAt(index++) - '0');
+                }
+                if (index == length) {
+                    return null;
+                }
+                for (int i = index - fractionStart; i < 9; ++i) {
+                    fraction *= 10;
+                }
+            }
+
+            int unit = units.indexOf(value.charAt(index), unitIndex);
+            if (unit < 0 || (unit == 0) == timePart || (fraction >= 0 && unit != 3)) {
+                return null;
+            }
+            unitIndex = unit + 1;
+            if (unit == 0) {
+                seconds += number * 86400;
+            } else {
+                timeComponent = true;
+                if (unit == 1) {
+                    seconds += number * 3600;
+                } else if (unit == 2) {
+                    seconds += number * 60;
+                } else {
+                    seconds += number;
+                    nano = Math.max(fraction, 0);
+                }
+            }
+            ++index;
+        }
+        return timePart && !timeComponent ? null : Duration.ofSeconds(seconds, nano);
+    }
+
+    private static boolean isTimeSeparator(char c) {
+        return c == 'T' || c == 't';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int readDigits(String value, int offset, int count) {
+        int result = 0;
+        for (int i = offset; i < offset + count; ++i) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int count) {
+        for (int i = offset + count - 1; i >= offset; --i) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -4,10 +4,14 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.CoreUtils;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.SequenceInputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 
@@ -41,7 +45,16 @@ public final class MultipartFormDataHelper {
      */
     private final Charset encoderCharset = StandardCharsets.UTF_8;
 
-    private InputStream requestDataStream = new ByteArrayInputStream(new byte[0]);
+    /**
+     * The parts of the request, in order. Each part is either a byte[] or the BinaryData of a file.
+     */
+    private final List<Object> parts = new ArrayList<>();
+
+    /**
+     * The bytes not yet added to "parts". Consecutive bytes are merged into one part.
+     */
+    private final ByteArrayOutputStream pendingBytes = new ByteArrayOutputStream();
+
     private long requestLength = 0;
 
     private RequestOptions requestOptions;
@@ -103,12 +116,13 @@ public final class MultipartFormDataHelper {
      */
     public MultipartFormDataHelper serializeJsonField(String fieldName, Object jsonObject) {
         if (jsonObject != null) {
-            String serialized = partSeparator + CRLF
+            String preamble = partSeparator + CRLF
                     + "Content-Disposition: form-data; name=\"" + escapeName(fieldName) + "\""
                     + CRLF + "Content-Type: application/json"
-                    + CRLF + CRLF + BinaryData.fromObject(jsonObject) + CRLF;
-            byte[] data = serialized.getBytes(encoderCharset);
-            appendBytes(data);
+                    + CRLF + CRLF;
+            appendBytes(preamble.getBytes(encoderCharset));
+            appendBytes(BinaryData.fromObject(jsonObject).toBytes());
+            appendBytes(CRLF.getBytes(encoderCharset));
         }
         return this;
     }
@@ -172,8 +186,9 @@ public final class MultipartFormDataHelper {
     public MultipartFormDataHelper end() {
         byte[] data = endMarker.getBytes(encoderCharset);
         appendBytes(data);
+        flushPendingBytes();
 
-        requestBody = BinaryData.fromStream(requestDataStream, requestLength);
+        requestBody = BinaryData.fromStream(new SequenceInputStream(new PartStreamEnumeration(parts)), requestLength);
 
         requestOptions
                 .setHeader(HttpHeaderName.CONTENT_TYPE, "multipart/form-data; boundary=" + this.boundary)
@@ -195,9 +210,10 @@ public final class MultipartFormDataHelper {
         byte[] data = fileFieldPreamble.getBytes(encoderCharset);
         appendBytes(data);
 
-        // Writing the file into the request as a byte stream
+        // Writing the file into the request as a byte stream, the stream is opened when it is read
+        flushPendingBytes();
         requestLength += file.getLength();
-        requestDataStream = new SequenceInputStream(requestDataStream, file.toStream());
+        parts.add(file);
 
         // CRLF
         data = CRLF.getBytes(encoderCharset);
@@ -206,7 +222,38 @@ public final class MultipartFormDataHelper {
 
     private void appendBytes(byte[] bytes) {
         requestLength += bytes.length;
-        requestDataStream = new SequenceInputStream(requestDataStream, new ByteArrayInputStream(bytes));
+        pendingBytes.write(bytes, 0, bytes.length);
+    }
+
+    private void flushPendingBytes() {
+        if (pendingBytes.size() > 0) {
+            parts.add(pendingBytes.toByteArray());
+            pendingBytes.reset();
+        }
+    }
+
+    /**
+     * Enumerates the InputStream of each part, so that the parts are read by a single SequenceInputStream.
+     */
+    private static final class PartStreamEnumeration implements Enumeration<InputStream> {
+        private final Iterator<Object> iterator;
+
+        private PartStreamEnumeration(List<Object> parts) {
+            this.iterator = parts.iterator();
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public InputStream nextElement() {
+            Object part = iterator.next();
+            return part instanceof byte[]
+                ? new ByteArrayInputStream((byte[]) part)
+                : ((BinaryData) part).toStream();
+        }
     }
 
     private static String escapeName(String name) {
@@ -110,17 +110,8 @@ public final class OperationLocationPollingStrategy<T, U> extends OperationResou
         if (propertyName != null) {
             // take the last poll response body from PollingContext,
             // and de-serialize the <propertyName> property as final result
-            BinaryData latestResponseBody
-                    = BinaryData.fromString(pollingContext.getData(PollingUtils.POLL_RESPONSE_BODY));
-            return PollingUtils.deserializeResponse(latestResponseBody, serializer, PollingUtils.POST_POLL_RESULT_TYPE_REFERENCE)
-                    .flatMap(value -> {
-                        if (value.get(propertyName) != null) {
-                            return BinaryData.fromObjectAsync(value.get(propertyName))
-                                    .flatMap(result -> PollingUtils.deserializeResponse(result, serializer, resultType));
-                        } else {
-                            return Mono.error(new AzureException("Cannot get final result"));
-                        }
-                    })
+            return Mono.fromCallable(() -> PollingUtils.readPropertyValue(
+                    pollingContext.getData(PollingUtils.POLL_RESPONSE_BODY), propertyName, serializer, resultType))
                     .switchIfEmpty(Mono.error(new AzureException("Cannot get final result")));
         } else {
             return super.getResult(pollingContext, resultType);
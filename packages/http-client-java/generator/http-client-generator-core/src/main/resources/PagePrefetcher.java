@@ -0,0 +1,248 @@
+import io.clientcore.core.http.paging.PagedIterable;
+import io.clientcore.core.http.paging.PagedResponse;
+import io.clientcore.core.http.paging.PagingOptions;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// DO NOT modify this helper class
+
+/**
+ * Prefetches the next pages of a {@link PagedIterable}, while the consumer iterates the current page.
+ * <p>
+ * As soon as a page is retrieved, the request for the page of its next link is started. At most "prefetchDepth"
+ * pages ahead of the page last handed to the consumer are requested.
+ * <p>
+ * The prefetched pages are discarded, and closed, when a new iteration starts, when the consumer asks for a next link
+ * other than the prefetched one, or when the consumer has not asked for the next page within the idle timeout (60
+ * seconds by default), e.g. the iteration is stopped early. Pages still in flight are closed on arrival. If the
+ * consumer continues after that, the next pages are retrieved on demand, without prefetch.
+ * <p>
+ * The pages are retrieved on a bounded set of daemon threads, shared by all the clients.
+ *
+ * @param <T> the type of items in the page.
+ */
+public final class PagePrefetcher<T> {
+
+    private static final int DEFAULT_PREFETCH_DEPTH = 2;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+    private static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private final int prefetchDepth;
+    private final long idleTimeoutNanos;
+    private final Function<PagingOptions, PagedResponse<T>> firstPageRetriever;
+    private final BiFunction<PagingOptions, String, PagedResponse<T>> nextPageRetriever;
+
+    private volatile Iteration current;
+
+    private PagePrefetcher(int prefetchDepth, Duration idleTimeout,
+        Function<PagingOptions, PagedResponse<T>> firstPageRetriever,
+        BiFunction<PagingOptions, String, PagedResponse<T>> nextPageRetriever) {
+        this.prefetchDepth = prefetchDepth;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.firstPageRetriever = firstPageRetriever;
+        this.nextPageRetriever = nextPageRetriever;
+    }
+
+    /**
+     * Creates a {@link PagedIterable} that prefetches up to 2 next pages.
+     *
+     * @param firstPageRetriever the function to retrieve the first page.
+     * @param nextPageRetriever the function to retrieve the page of a next link.
+     * @param <T> the type of items in the page.
+     * @return the {@link PagedIterable}.
+     */
+    public static <T> PagedIterable<T> pagedIterable(Function<PagingOptions, PagedResponse<T>> firstPageRetriever,
+        BiFunction<PagingOptions, String, PagedResponse<T>> nextPageRetriever) {
+        return pagedIterable(DEFAULT_PREFETCH_DEPTH, DEFAULT_IDLE_TIMEOUT, firstPageRetriever, nextPageRetriever);
+    }
+
+    /**
+     * Creates a {@link PagedIterable} that prefetches up to {@code prefetchDepth} next pages.
+     *
+     * @param prefetchDepth the maximum number of pages requested ahead of the page last handed to the consumer.
+     * @param firstPageRetriever the function to retrieve the first page.
+     * @param nextPageRetriever the function to retrieve the page of a next link.
+     * @param <T> the type of items in the page.
+     * @return the {@link PagedIterable}.
+     * @throws IllegalArgumentException if {@code prefetchDepth} is not positive.
+     */
+    public static <T> PagedIterable<T> pagedIterable(int prefetchDepth,
+        Function<PagingOptions, PagedResponse<T>> firstPageRetriever,
+        BiFunction<PagingOptions, String, PagedResponse<T>> nextPageRetriever) {
+        return pagedIterable(prefetchDepth, DEFAULT_IDLE_TIMEOUT, firstPageRetriever, nextPageRetriever);
+    }
+
+    /**
+     * Creates a {@link PagedIterable} that prefetches up to {@code prefetchDepth} next pages.
+     *
+     * @param prefetchDepth the maximum number of pages requested ahead of the page last handed to the consumer.
+     * @param idleTimeout the time after which the prefetched pages are discarded, if the consumer does not ask for
+     * the next page.
+     * @param firstPageRetriever the function to retrieve the first page.
+     * @param nextPageRetriever the function to retrieve the page of a next link.
+     * @param <T> the type of items in the page.
+     * @return the {@link PagedIterable}.
+     * @throws IllegalArgumentException if {@code prefetchDepth} or {@code idleTimeout} is not positive.
+     * @throws NullPointerException if {@code idleTimeout} is null.
+     */
+    public static <T> PagedIterable<T> pagedIterable(int prefetchDepth, Duration idleTimeout,
+        Function<PagingOptions, PagedResponse<T>> firstPageRetriever,
+        BiFunction<PagingOptions, String, PagedResponse<T>> nextPageRetriever) {
+        Objects.requireNonNull(idleTimeout, "'idleTimeout' cannot be null.");
+        if (prefetchDepth <= 0) {
+            throw new IllegalArgumentException("'prefetchDepth' must be positive.");
+        }
+        if (idleTimeout.isNegative() || idleTimeout.isZero()) {
+            throw new IllegalArgumentException("'idleTimeout' must be positive.");
+        }
+        PagePrefetcher<T> prefetcher
+            = new PagePrefetcher<>(prefetchDepth, idleTimeout, firstPageRetriever, nextPageRetriever);
+        return new PagedIterable<>(prefetcher::firstPage, prefetcher::nextPage);
+    }
+
+    private PagedResponse<T> firstPage(PagingOptions pagingOptions) {
+        Iteration previous = current;
+        if (previous != null) {
+            previous.discard();
+        }
+        PagedResponse<T> page = firstPageRetriever.apply(pagingOptions);
+        Iteration iteration = new Iteration(pagingOptions, page.getNextLink());
+        current = iteration;
+        iteration.fill();
+        return page;
+    }
+
+    private PagedResponse<T> nextPage(PagingOptions pagingOptions, String nextLink) {
+        Iteration iteration = current;
+        CompletableFuture<PagedResponse<T>> future = iteration == null ? null : iteration.take(nextLink);
+        if (future == null) {
+            // not the prefetched next link, e.g. the iteration is resumed from a continuation token
+            return nextPageRetriever.apply(pagingOptions, nextLink);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private final class Iteration {
+        private final PagingOptions pagingOptions;
+        // the pages requested, in the order of iteration
+        private final Deque<Prefetch> pages = new ArrayDeque<>();
+        // the next link of the last requested page, null when it is not yet retrieved or it is the last page
+        private String tailNextLink;
+        private boolean discarded;
+        // discards the prefetched pages, if the consumer does not take a page in time
+        private ScheduledFuture<?> idleCheck;
+
+        private Iteration(PagingOptions pagingOptions, String nextLink) {
+            this.pagingOptions = pagingOptions;
+            this.tailNextLink = nextLink;
+        }
+
+        private synchronized void fill() {
+            while (!discarded && tailNextLink != null && pages.size() < prefetchDepth) {
+                Prefetch prefetch = new Prefetch(tailNextLink);
+                tailNextLink = null;
+                prefetch.future = CompletableFuture.supplyAsync(() -> {
+                    PagedResponse<T> page = nextPageRetriever.apply(pagingOptions, prefetch.nextLink);
+                    // before completing the future, so that the next link is known when the consumer takes the page
+                    onRetrieved(prefetch, page);
+                    return page;
+                }, EXECUTOR);
+                pages.addLast(prefetch);
+            }
+            if (idleCheck == null && !discarded && !pages.isEmpty()) {
+                idleCheck = EXECUTOR.schedule(this::discard, idleTimeoutNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private synchronized void onRetrieved(Prefetch prefetch, PagedResponse<T> page) {
+            prefetch.page = page;
+            if (!discarded) {
+                // a page is requested only after the previous one is retrieved, so this is the last requested page
+                tailNextLink = page.getNextLink();
+                fill();
+            } else if (!prefetch.taken) {
+                close(page);
+            }
+        }
+
+        private synchronized CompletableFuture<PagedResponse<T>> take(String nextLink) {
+            Prefetch prefetch = pages.peekFirst();
+            if (discarded || prefetch == null || !prefetch.nextLink.equals(nextLink)) {
+                discard();
+                return null;
+            }
+            pages.removeFirst();
+            prefetch.taken = true;
+            cancelIdleCheck();
+            fill();
+            return prefetch.future;
+        }
+
+        private synchronized void discard() {
+            discarded = true;
+            cancelIdleCheck();
+            for (Prefetch prefetch : pages) {
+                // pages still in flight are closed on arrival
+                close(prefetch.page);
+            }
+            pages.clear();
+        }
+
+        private void cancelIdleCheck() {
+            if (idleCheck != null) {
+                idleCheck.cancel(false);
+                idleCheck = null;
+            }
+        }
+    }
+
+    private final class Prefetch {
+        private final String nextLink;
+        private CompletableFuture<PagedResponse<T>> future;
+        private PagedResponse<T> page;
+        private boolean taken;
+
+        private Prefetch(String nextLink) {
+            this.nextLink = nextLink;
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createExecutor() {
+        int threadCount = Math.max(2, Runtime.getRuntime().availableProcessors());
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "page-prefetch-" + THREAD_NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setKeepAliveTime(60, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private static void close(PagedResponse<?> page) {
+        if (page != null) {
+            page.close();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+import com.azure.core.util.logging.ClientLogger;
+import com.azure.core.util.polling.PollResponse;
+import com.azure.core.util.polling.SyncPoller;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// DO NOT modify this helper class
+
+/**
+ * Polls many long-running operations on a shared timer thread and a bounded set of worker threads.
+ * <p>
+ * Waiting between polls does not occupy a thread. Each operation is polled on a worker thread, and the next poll is
+ * scheduled on the timer after the delay from the "retry-after-ms", "x-ms-retry-after-ms" or "Retry-After" header of
+ * the poll response, or after the default poll interval if the response has none.
+ * <p>
+ * Submit the {@link SyncPoller} returned from a "begin" method of the client, e.g.
+ * "scheduler.submit(client.beginCreate(...))", and wait on or compose the returned future.
+ */
+public final class PollingScheduler implements AutoCloseable {
+
+    private static final ClientLogger LOGGER = new ClientLogger(PollingScheduler.class);
+
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private final Duration defaultPollInterval;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService workers;
+    // futures of the operations in progress, completed exceptionally on close
+    private final Set<CompletableFuture<?>> inProgress = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates an instance of the polling scheduler.
+     *
+     * @param workerCount the maximum number of operations polled at the same time.
+     * @throws IllegalArgumentException if {@code workerCount} is not positive.
+     */
+    public PollingScheduler(int workerCount) {
+        this(workerCount, DEFAULT_POLL_INTERVAL);
+    }
+
+    /**
+     * Creates an instance of the polling scheduler.
+     *
+     * @param workerCount the maximum number of operations polled at the same time.
+     * @param defaultPollInterval the delay between polls, when the poll response does not specify one.
+     * @throws IllegalArgumentException if {@code workerCount} is not positive, or {@code defaultPollInterval} is
+     * negative or zero.
+     * @throws NullPointerException if {@code defaultPollInterval} is null.
+     */
+    public PollingScheduler(int workerCount, Duration defaultPollInterval) {
+        Objects.requireNonNull(defaultPollInterval, "'defaultPollInterval' cannot be null.");
+        if (workerCount <= 0) {
+            throw LOGGER.logExceptionAsError(new IllegalArgumentException("'workerCount' must be positive."));
+        }
+        if (defaultPollInterval.isNegative() || defaultPollInterval.isZero()) {
+            throw LOGGER.logExceptionAsError(new IllegalArgumentException("'defaultPollInterval' must be positive."));
+        }
+        this.defaultPollInterval = defaultPollInterval;
+
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, daemonThreadFactory("polling-timer"));
+        timer.setRemoveOnCancelPolicy(true);
+        this.timer = timer;
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), daemonThreadFactory("polling-worker"));
+    }
+
+    /**
+     * Polls the long-running operation until it completes.
+     * <p>
+     * Cancelling the returned future stops the polling. It does not cancel the long-running operation on the
+     * service.
+     *
+     * @param poller the poller of the long-running operation, as returned from the "begin" method.
+     * @param <T> the type of poll response value.
+     * @param <U> the type of the final result of the long-running operation.
+     * @return the future of the final result of the long-running operation. The future completes exceptionally if
+     * the operation fails, or if polling fails.
+     * @throws NullPointerException if {@code poller} is null.
+     * @throws RejectedExecutionException if the scheduler is closed.
+     */
+    public <T, U> CompletableFuture<U> submit(SyncPoller<T, U> poller) {
+        Objects.requireNonNull(poller, "'poller' cannot be null.");
+        CompletableFuture<U> future = new CompletableFuture<>();
+        inProgress.add(future);
+        future.whenComplete((result, throwable) -> inProgress.remove(future));
+        try {
+            workers.execute(() -> poll(poller, future));
+        } catch (RejectedExecutionException e) {
+            inProgress.remove(future);
+            throw LOGGER.logExceptionAsError(e);
+        }
+        return future;
+    }
+
+    /**
+     * Stops the timer and worker threads. Operations in progress are no longer polled, and their futures complete
+     * exceptionally with {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        workers.shutdownNow();
+        for (CompletableFuture<?> future : inProgress) {
+            future.completeExceptionally(new IllegalStateException("The polling scheduler is closed."));
+        }
+    }
+
+    private <T, U> void poll(SyncPoller<T, U> poller, CompletableFuture<U> future) {
+        if (future.isDone()) {
+            // cancelled by the caller
+            return;
+        }
+        try {
+            PollResponse<T> pollResponse = poller.poll();
+            if (pollResponse.getStatus().isComplete()) {
+                // the strategy throws on failed or cancelled operation
+                future.complete(poller.getFinalResult());
+            } else {
+                Duration delay = pollResponse.getRetryAfter();
+                if (delay == null || delay.isNegative() || delay.isZero()) {
+                    delay = defaultPollInterval;
+                }
+                timer.schedule(() -> execute(poller, future), delay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private <T, U> void execute(SyncPoller<T, U> poller, CompletableFuture<U> future) {
+        try {
+            workers.execute(() -> poll(poller, future));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -6,15 +6,20 @@ import com.azure.core.util.DateTimeRfc1123;
 import com.azure.core.util.logging.ClientLogger;
 import com.azure.core.util.serializer.ObjectSerializer;
 import com.azure.core.util.serializer.TypeReference;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonToken;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -22,9 +27,6 @@ import java.util.function.Supplier;
 
 final class PollingUtils {
 
-    public static final TypeReference<Map<String, Object>> POST_POLL_RESULT_TYPE_REFERENCE
-        = new TypeReference<Map<String, Object>>() { };
-
     public static final HttpHeaderName OPERATION_LOCATION_HEADER
         = HttpHeaderName.fromString("Operation-Location");
 
@@ -83,6 +85,82 @@ final class PollingUtils {
         return value;
     }
 
+    /**
+     * Deserializes the value of a top-level property of the response body as the final result, in a single pass.
+     * <p>
+     * The body is read once with a JsonReader, and other properties are skipped. A model is read by its
+     * {@code fromJson(JsonReader)} from the reader positioned at the property, without a copy of the property. Other
+     * types, e.g. BinaryData or List, are deserialized from the JSON text of the property.
+     *
+     * @param responseBody the JSON response body.
+     * @param propertyName the name of the property.
+     * @param serializer the serializer for types other than model.
+     * @param typeReference the type of the final result.
+     * @param <T> the type of the final result.
+     * @return the final result, or null if the property is not found or its value is null.
+     * @throws IOException if the response body cannot be read as a JSON object.
+     */
+    public static <T> T readPropertyValue(String responseBody, String propertyName, ObjectSerializer serializer,
+        TypeReference<T> typeReference) throws IOException {
+        if (responseBody == null) {
+            return null;
+        }
+        try (JsonReader jsonReader = JsonProviders.createReader(responseBody)) {
+            if (jsonReader.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (jsonReader.nextToken() != JsonToken.END_OBJECT) {
+                String fieldName = jsonReader.getFieldName();
+                JsonToken token = jsonReader.nextToken();
+                if (propertyName.equals(fieldName)) {
+                    return token == JsonToken.NULL ? null : readValue(jsonReader, serializer, typeReference);
+                } else {
+                    jsonReader.skipChildren();
+                }
+            }
+            return null;
+        }
+    }
+
+    private static <T> T readValue(JsonReader jsonReader, ObjectSerializer serializer, TypeReference<T> typeReference)
+        throws IOException {
+        Class<T> clazz = typeReference.getJavaClass();
+        if (JsonSerializable.class.isAssignableFrom(clazz)) {
+            // model, read by its fromJson from the reader at the property
+            return clazz.cast(fromJson(clazz, jsonReader));
+        }
+        if (clazz == String.class && jsonReader.currentToken() == JsonToken.STRING) {
+            return clazz.cast(jsonReader.getString());
+        }
+        return deserializeResponseSync(BinaryData.fromString(readRawValue(jsonReader)), serializer, typeReference);
+    }
+
+    private static String readRawValue(JsonReader jsonReader) throws IOException {
+        if (jsonReader.currentToken() == JsonToken.STRING) {
+            // raw text of a string is the escaped content, without the quotes
+            return "\"" + jsonReader.getRawText() + "\"";
+        } else if (jsonReader.isStartArrayOrObject()) {
+            return jsonReader.readChildren();
+        } else {
+            return jsonReader.getRawText();
+        }
+    }
+
+    private static Object fromJson(Class<?> clazz, JsonReader jsonReader) throws IOException {
+        try {
+            return clazz.getMethod("fromJson", JsonReader.class).invoke(null, jsonReader);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot find fromJson(JsonReader) of " + clazz.getName(), e);
+        }
+    }
+
     private static final HttpHeaderName RETRY_AFTER_MS_HEADER = HttpHeaderName.fromString("retry-after-ms");
     private static final HttpHeaderName X_MS_RETRY_AFTER_MS_HEADER = HttpHeaderName.fromString("x-ms-retry-after-ms");
     public static Duration getRetryAfterFromHeaders(HttpHeaders headers, Supplier<OffsetDateTime> nowSupplier) {
@@ -0,0 +1,208 @@
+import java.util.Map;
+
+// DO NOT modify this helper class
+
+/**
+ * Expands the value of a path parameter as an RFC 6570 URI template expression, e.g. "{.param*}" or "{;param}".
+ * <p>
+ * The value is expanded and percent-encoded in a single pass. The result is already encoded, so that it is to be
+ * substituted into the path as-is. A value of {@link Iterable} is expanded as a list, a value of {@link Map} as
+ * associative array, and any other value as its string. A null value, a null item, and an empty list or map are
+ * undefined, and are omitted from the expansion.
+ */
+public final class UriExpander {
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    // unreserved characters: ALPHA / DIGIT / "-" / "." / "_" / "~"
+    private static final boolean[] UNRESERVED = new boolean[128];
+    // reserved characters: gen-delims / sub-delims
+    private static final boolean[] RESERVED = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; ++c) {
+            UNRESERVED[c] = true;
+            UNRESERVED[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; ++c) {
+            UNRESERVED[c] = true;
+        }
+        for (char c : "-._~".toCharArray()) {
+            UNRESERVED[c] = true;
+        }
+        for (char c : ":/?#[]@!$&'()*+,;=".toCharArray()) {
+            RESERVED[c] = true;
+        }
+    }
+
+    private UriExpander() {
+    }
+
+    /**
+     * Reserved expansion, "{+param}", e.g. "foo/bar%20baz". Reserved characters and percent-encoded triplets in the
+     * value are not encoded.
+     *
+     * @param value the value of the parameter.
+     * @param explode whether to explode the list or map.
+     * @return the expansion.
+     */
+    public static String reserved(Object value, boolean explode) {
+        return expand(value, explode, "", ',', null, true);
+    }
+
+    /**
+     * Fragment expansion, "{#param}", e.g. "#foo/bar". Reserved characters and percent-encoded triplets in the value
+     * are not encoded.
+     *
+     * @param value the value of the parameter.
+     * @param explode whether to explode the list or map.
+     * @return the expansion.
+     */
+    public static String fragment(Object value, boolean explode) {
+        return expand(value, explode, "#", ',', null, true);
+    }
+
+    /**
+     * Label expansion, "{.param}", e.g. ".a.b" for exploded list.
+     *
+     * @param value the value of the parameter.
+     * @param explode whether to explode the list or map.
+     * @return the expansion.
+     */
+    public static String label(Object value, boolean explode) {
+        return expand(value, explode, ".", '.', null, false);
+    }
+
+    /**
+     * Path segment expansion, "{/param}", e.g. "/a/b" for exploded list.
+     *
+     * @param value the value of the parameter.
+     * @param explode whether to explode the list or map.
+     * @return the expansion.
+     */
+    public static String path(Object value, boolean explode) {
+        return expand(value, explode, "/", '/', null, false);
+    }
+
+    /**
+     * Path-style parameter expansion, "{;param}", e.g. ";param=a;param=b" for exploded list.
+     *
+     * @param name the name of the parameter.
+     * @param value the value of the parameter.
+     * @param explode whether to explode the list or map.
+     * @return the expansion.
+     */
+    public static String matrix(String name, Object value, boolean explode) {
+        return expand(value, explode, ";", ';', name, false);
+    }
+
+    /*
+     * The "name" is null for the expansion not of name=value pairs. Items are separated by "separator" when exploded,
+     * else by ",".
+     */
+    private static String expand(Object value, boolean explode, String first, char separator, String name,
+        boolean allowReserved) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        if (value instanceof Iterable) {
+            boolean firstItem = true;
+            for (Object item : (Iterable<?>) value) {
+                if (item == null) {
+                    continue;
+                }
+                if (firstItem) {
+                    builder.append(first);
+                } else {
+                    builder.append(explode ? separator : ',');
+                }
+                if (name != null && (explode || firstItem)) {
+                    appendEncoded(builder, name, false);
+                    builder.append('=');
+                }
+                appendEncoded(builder, String.valueOf(item), allowReserved);
+                firstItem = false;
+            }
+        } else if (value instanceof Map) {
+            boolean firstItem = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                if (firstItem) {
+                    builder.append(first);
+                    if (name != null && !explode) {
+                        appendEncoded(builder, name, false);
+                        builder.append('=');
+                    }
+                } else {
+                    builder.append(explode ? separator : ',');
+                }
+                appendEncoded(builder, String.valueOf(entry.getKey()), allowReserved);
+                String itemValue = String.valueOf(entry.getValue());
+                if (explode) {
+                    if (name == null || !itemValue.isEmpty()) {
+                        builder.append('=');
+                    }
+                } else {
+                    builder.append(',');
+                }
+                appendEncoded(builder, itemValue, allowReserved);
+                firstItem = false;
+            }
+        } else {
+            String stringValue = String.valueOf(value);
+            builder.append(first);
+            if (name != null) {
+                appendEncoded(builder, name, false);
+                if (!stringValue.isEmpty()) {
+                    builder.append('=');
+                }
+            }
+            appendEncoded(builder, stringValue, allowReserved);
+        }
+        return builder.toString();
+    }
+
+    private static void appendEncoded(StringBuilder builder, String value, boolean allowReserved) {
+        int length = value.length();
+        for (int i = 0; i < length; ++i) {
+            char c = value.charAt(i);
+            if (c < 128 && (UNRESERVED[c] || (allowReserved && RESERVED[c]))) {
+                builder.append(c);
+            } else if (allowReserved && c == '%' && i + 2 < length && isHexDigit(value.charAt(i + 1))
+                && isHexDigit(value.charAt(i + 2))) {
+                // percent-encoded triplet is kept as-is
+                builder.append(value, i, i + 3);
+                i += 2;
+            } else if (c < 0x80) {
+                appendEscaped(builder, c);
+            } else if (c < 0x800) {
+                appendEscaped(builder, 0xC0 | (c >> 6));
+                appendEscaped(builder, 0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                appendEscaped(builder, 0xF0 | (codePoint >> 18));
+                appendEscaped(builder, 0x80 | ((codePoint >> 12) & 0x3F));
+                appendEscaped(builder, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendEscaped(builder, 0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate is encoded as "?", the same as String.getBytes
+                appendEscaped(builder, '?');
+            } else {
+                appendEscaped(builder, 0xE0 | (c >> 12));
+                appendEscaped(builder, 0x80 | ((c >> 6) & 0x3F));
+                appendEscaped(builder, 0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private static void appendEscaped(StringBuilder builder, int b) {
+        builder.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'F') || (c >= 'a' && c <= 'f');
+    }
+}
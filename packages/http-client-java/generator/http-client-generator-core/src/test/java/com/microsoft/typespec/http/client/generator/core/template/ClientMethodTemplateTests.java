@@ -0,0 +1,213 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.JavaSettingsAccessor;
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ArrayType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.util.TemplateUtil;
+import io.clientcore.core.utils.IOExceptionCheckedFunction;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the conversion of the items of a collection parameter to their string wire values.
+ * <p>
+ * The generated conversion is compiled, and its output is compared with that of the serializer it replaces.
+ */
+public class ClientMethodTemplateTests {
+
+    private static final OffsetDateTime DATE_TIME
+        = OffsetDateTime.of(2022, 8, 26, 18, 38, 0, 123_000_000, ZoneOffset.ofHours(2));
+    private static final OffsetDateTime DATE_TIME_UTC = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final UUID UUID_VALUE = UUID.fromString("c0e9c8a5-4f63-4a3d-9e5b-5d6e0b1f2a3c");
+
+    private static final String AZURE_SERIALIZER
+        = "JacksonAdapter.createDefaultSerializerAdapter().serializeIterable(%s, CollectionFormat.CSV)";
+
+    @TempDir
+    Path outputDirectory;
+
+    @AfterEach
+    public void cleanup() {
+        new MockUnitJavagen();
+        JavaSettings.clear();
+    }
+
+    @Test
+    public void testItemToWireStringAzure() throws Exception {
+        Conversions conversions = new Conversions(AZURE_SERIALIZER);
+        conversions.add("dateTime", ClassType.DATE_TIME, "OffsetDateTime");
+        conversions.add("dateTimeRfc1123", ClassType.DATE_TIME_RFC_1123, "OffsetDateTime");
+        conversions.add("unixTime", ClassType.UNIX_TIME_LONG, "OffsetDateTime");
+        conversions.add("localDate", ClassType.LOCAL_DATE, "LocalDate");
+        conversions.add("uuid", ClassType.UUID, "UUID");
+        conversions.add("durationSeconds", ClassType.DURATION_LONG, "Duration");
+        conversions.add("integer", ClassType.INTEGER, "Integer");
+        conversions.add("doubleValue", ClassType.DOUBLE, "Double");
+        conversions.add("booleanValue", ClassType.BOOLEAN, "Boolean");
+        conversions.compile();
+
+        // OffsetDateTime is written in UTC
+        conversions.assertConversion("2022-08-26T16:38:00.123Z,1970-01-01T00:00:00Z", "dateTime",
+            Arrays.asList(DATE_TIME, DATE_TIME_UTC));
+        conversions.assertConversion("Fri, 26 Aug 2022 16:38:00 GMT,Thu, 01 Jan 1970 00:00:00 GMT", "dateTimeRfc1123",
+            Arrays.asList(DATE_TIME, DATE_TIME_UTC));
+        conversions.assertConversion("1661531880,0", "unixTime", Arrays.asList(DATE_TIME, DATE_TIME_UTC));
+        conversions.assertConversion("2022-08-26,1970-01-01", "localDate",
+            Arrays.asList(LocalDate.of(2022, 8, 26), LocalDate.of(1970, 1, 1)));
+        conversions.assertConversion(UUID_VALUE + "," + new UUID(0, 0), "uuid",
+            Arrays.asList(UUID_VALUE, new UUID(0, 0)));
+        conversions.assertConversion("36,0", "durationSeconds", Arrays.asList(Duration.ofSeconds(36), Duration.ZERO));
+        conversions.assertConversion("1,-2", "integer", Arrays.asList(1, -2));
+        conversions.assertConversion("1.5,1.0E20", "doubleValue", Arrays.asList(1.5, 1.0E20));
+        conversions.assertConversion("true,false", "booleanValue", Arrays.asList(true, false));
+
+        // null item is an empty string
+        conversions.assertConversion(",2022-08-26T16:38:00.123Z,", "dateTime", Arrays.asList(null, DATE_TIME, null));
+        conversions.assertConversion("," + UUID_VALUE, "uuid", Arrays.asList(null, UUID_VALUE));
+
+        // Duration is written by the serializer
+        Assertions.assertNull(ClientMethodTemplate.itemToWireString(ClassType.DURATION, "paramItemValue"));
+        Assertions.assertNull(ClientMethodTemplate.itemToWireString(ArrayType.BYTE_ARRAY, "paramItemValue"));
+    }
+
+    @Test
+    public void testItemToWireStringClientCore() throws Exception {
+        useSettings(Map.of("flavor", "generic"));
+
+        Conversions conversions = new Conversions(
+            "%s.stream().map(" + TemplateUtil.loadTextFromResource("ClientMethodSerializeItemValue.java")
+                + ").collect(Collectors.joining(\",\"))");
+        conversions.add("dateTime", ClassType.DATE_TIME, "OffsetDateTime");
+        conversions.add("unixTime", ClassType.UNIX_TIME_LONG, "OffsetDateTime");
+        conversions.add("localDate", ClassType.LOCAL_DATE, "LocalDate");
+        conversions.add("uuid", ClassType.UUID, "UUID");
+        conversions.add("duration", ClassType.DURATION, "Duration");
+        conversions.add("durationMilliseconds", ClassType.DURATION_MILLISECONDS_LONG, "Duration");
+        conversions.compile();
+
+        // OffsetDateTime is written with its offset
+        conversions.assertConversion("2022-08-26T18:38:00.123+02:00,1970-01-01T00:00Z", "dateTime",
+            Arrays.asList(DATE_TIME, DATE_TIME_UTC));
+        conversions.assertConversion("1661531880,0", "unixTime", Arrays.asList(DATE_TIME, DATE_TIME_UTC));
+        conversions.assertConversion("2022-08-26,1970-01-01", "localDate",
+            Arrays.asList(LocalDate.of(2022, 8, 26), LocalDate.of(1970, 1, 1)));
+        conversions.assertConversion(UUID_VALUE + "," + new UUID(0, 0), "uuid",
+            Arrays.asList(UUID_VALUE, new UUID(0, 0)));
+        conversions.assertConversion("PT36S,PT1H0.5S", "duration",
+            Arrays.asList(Duration.ofSeconds(36), Duration.ofMillis(3_600_500)));
+        conversions.assertConversion("36000,0", "durationMilliseconds",
+            Arrays.asList(Duration.ofSeconds(36), Duration.ZERO));
+
+        // null item is an empty string
+        conversions.assertConversion(",PT36S,", "duration", Arrays.asList(null, Duration.ofSeconds(36), null));
+
+        // DateTimeRfc1123 is written by the serializer
+        Assertions.assertNull(ClientMethodTemplate.itemToWireString(ClassType.DATE_TIME_RFC_1123, "paramItemValue"));
+    }
+
+    private static void useSettings(Map<String, Object> settings) {
+        JavaSettingsAccessor.setHost(new MockUnitJavagen() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> T getValue(String key, IOExceptionCheckedFunction<String, T> converter) {
+                return settings.containsKey(key) ? (T) settings.get(key) : super.getValue(key, converter);
+            }
+        });
+        JavaSettings.clear();
+    }
+
+    /**
+     * Class of static methods that convert a List of client type, each method with the generated conversion and with
+     * the serializer.
+     */
+    private final class Conversions {
+        private final String serializer;
+        private final StringBuilder methods = new StringBuilder();
+        private Class<?> conversionsClass;
+
+        private Conversions(String serializer) {
+            this.serializer = serializer;
+        }
+
+        private void add(String name, ClassType elementWireType, String elementClientType) {
+            String itemToWireString = ClientMethodTemplate.itemToWireString(elementWireType, "paramItemValue");
+            Assertions.assertNotNull(itemToWireString, name);
+
+            String toWireType = elementWireType.getClientType() == elementWireType
+                ? ""
+                : ".map(paramItemValue -> " + elementWireType.convertFromClientType("paramItemValue") + ")";
+            methods.append("public static String ")
+                .append(name)
+                .append("(List<")
+                .append(elementClientType)
+                .append("> items) { return items.stream()")
+                .append(toWireType)
+                .append(".map(paramItemValue -> ")
+                .append(itemToWireString)
+                .append(").collect(Collectors.joining(\",\")); }\n");
+            methods.append("public static String ")
+                .append(name)
+                .append("Serializer(List<")
+                .append(elementClientType)
+                .append("> items) { return ")
+                .append(String.format(serializer, "items.stream()" + toWireType + ".collect(Collectors.toList())"))
+                .append("; }\n");
+        }
+
+        private void compile() throws IOException {
+            String source = "import com.azure.core.util.DateTimeRfc1123;\n"
+                + "import com.azure.core.util.serializer.CollectionFormat;\n"
+                + "import com.azure.core.util.serializer.JacksonAdapter;\n"
+                + "import io.clientcore.core.models.binarydata.BinaryData;\n" + "import java.time.*;\n"
+                + "import java.time.format.DateTimeFormatter;\n" + "import java.util.*;\n"
+                + "import java.util.stream.Collectors;\n" + "public final class Conversions {\n" + methods + "}\n";
+            Path sourceFile = outputDirectory.resolve("Conversions.java");
+            Files.writeString(sourceFile, source);
+
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            int result = compiler.run(null, null, null, "-classpath", System.getProperty("java.class.path"), "-d",
+                outputDirectory.toString(), "-encoding", StandardCharsets.UTF_8.name(), sourceFile.toString());
+            Assertions.assertEquals(0, result, "Conversions.java failed to compile:\n" + source);
+
+            try (URLClassLoader classLoader = new URLClassLoader(new URL[] { outputDirectory.toUri().toURL() },
+                ClientMethodTemplateTests.class.getClassLoader())) {
+                conversionsClass = classLoader.loadClass("Conversions");
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void assertConversion(String expected, String name, List<?> items) throws Exception {
+            Method conversion = conversionsClass.getMethod(name, List.class);
+            Method serializerConversion = conversionsClass.getMethod(name + "Serializer", List.class);
+
+            Assertions.assertEquals(expected, conversion.invoke(null, items), name);
+            // same as the serializer
+            Assertions.assertEquals(serializerConversion.invoke(null, items), conversion.invoke(null, items), name);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientEnumValue;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.EnumType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EnumTemplateTests {
+
+    @Test
+    public void testStringEnumLookup() {
+        EnumType enumType = new EnumType.Builder().name("Color")
+            .packageName("com.azure.mock.models")
+            .description("The color.")
+            .expandable(false)
+            .elementType(ClassType.STRING)
+            .values(List.of(new ClientEnumValue("RED", "Red"), new ClientEnumValue("BLUE", "Blue")))
+            .fromMethodName("fromString")
+            .toMethodName("toString")
+            .build();
+
+        String output = write(enumType);
+
+        // lookup is built once, instead of calling values() in fromString
+        Assertions.assertTrue(output.contains("private static final Map<String, Color> VALUES = new HashMap<>();"));
+        Assertions.assertTrue(output.contains("for (Color item : values()) {"));
+        Assertions.assertTrue(output.contains("Color item = VALUES.get(value);"));
+        Assertions.assertTrue(
+            output.contains("return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));"));
+        Assertions.assertFalse(output.contains("Color[] items = Color.values();"));
+    }
+
+    @Test
+    public void testIntEnumLookup() {
+        EnumType enumType = new EnumType.Builder().name("Level")
+            .packageName("com.azure.mock.models")
+            .description("The level.")
+            .expandable(false)
+            .elementType(PrimitiveType.INT)
+            .values(List.of(new ClientEnumValue("ONE", "1"), new ClientEnumValue("TWO", "2")))
+            .fromMethodName("fromInt")
+            .toMethodName("toInt")
+            .build();
+
+        String output = write(enumType);
+
+        Assertions.assertTrue(output.contains("private static final Level[] VALUES = values();"));
+        Assertions.assertTrue(output.contains("for (Level item : VALUES) {"));
+        Assertions.assertFalse(output.contains("Level[] items = Level.values();"));
+    }
+
+    @Test
+    public void testExpandableEnumKnownValues() {
+        EnumType enumType = new EnumType.Builder().name("Shape")
+            .packageName("com.azure.mock.models")
+            .description("The shape.")
+            .expandable(true)
+            .elementType(PrimitiveType.INT)
+            .values(List.of(new ClientEnumValue("ONE", "1"), new ClientEnumValue("TWO", "2")))
+            .fromMethodName("fromValue")
+            .toMethodName("getValue")
+            .build();
+
+        String output = write(enumType);
+
+        // unknown values are not interned
+        Assertions.assertTrue(output.contains("public static final Shape ONE = addKnownValue(1);"));
+        Assertions.assertTrue(output.contains("return knownValue != null ? knownValue : new Shape(value);"));
+        Assertions.assertFalse(output.contains("computeIfAbsent"));
+        Assertions.assertTrue(output
+            .contains("return this == obj || (obj instanceof Shape && Objects.equals(this.value, ((Shape) obj).value));"));
+    }
+
+    private static String write(EnumType enumType) {
+        JavaFile javaFile = new JavaFile("src/main/java/com/azure/mock/models/" + enumType.getName() + ".java");
+        EnumTemplate.getInstance().write(enumType, javaFile);
+        return javaFile.getContents().toString();
+    }
+}
@@ -0,0 +1,268 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.JavaSettingsAccessor;
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ArrayType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ImplementationDetails;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ListType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModels;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.CodeFormatterUtil;
+import io.clientcore.core.utils.IOExceptionCheckedFunction;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class StreamSerializationModelTemplateTests {
+
+    private static final String PACKAGE_NAME = "com.azure.mock.models";
+
+    @AfterEach
+    public void cleanup() {
+        ClientModels.getInstance().clear();
+        UnionModels.getInstance().clear();
+        new MockUnitJavagen();
+        JavaSettings.clear();
+    }
+
+    @Test
+    public void testValidateInSerializationInheritedRequiredProperty() {
+        useSettings(Map.of("client-side-validations", true, "validate-in-serialization", true));
+
+        ClientModel parentModel = model("Animal", null, property("name", ClassType.STRING, true),
+            property("color", ClassType.STRING, true));
+        // "color" is redefined by the model
+        ClientModel model = model("Dog", "Animal", property("breed", ClassType.STRING, true),
+            property("color", ClassType.STRING, true), property("nickname", ClassType.STRING, false));
+        ClientModels.getInstance().addModel(parentModel);
+        ClientModels.getInstance().addModel(model);
+
+        String output = write(model);
+        String toJson = output.substring(output.indexOf("public JsonWriter toJson(JsonWriter jsonWriter)"),
+            output.indexOf("jsonWriter.writeStartObject();"));
+
+        // required properties of the model, and those inherited from the parent model, are checked before writing
+        Assertions.assertEquals(1, count(toJson, "if (getBreed() == null) {"));
+        Assertions.assertEquals(1, count(toJson, "if (getColor() == null) {"));
+        Assertions.assertEquals(1, count(toJson, "if (getName() == null) {"));
+        Assertions.assertTrue(toJson.contains("\"Missing required property name in model Dog\""));
+        Assertions.assertFalse(toJson.contains("getNickname() == null"));
+    }
+
+    @Test
+    public void testBase64UrlByteArray() {
+        // the property as mapped with "use-byte-array-for-base64url" option
+        ClientModelProperty property = new ClientModelProperty.Builder().name("signature")
+            .serializedName("signature")
+            .description("The signature.")
+            .wireType(ArrayType.BYTE_ARRAY)
+            .clientType(ArrayType.BYTE_ARRAY)
+            .required(false)
+            .base64UrlEncoded(true)
+            .build();
+        ClientModel model = model("Token", null, property);
+        ClientModels.getInstance().addModel(model);
+
+        String output = write(model);
+
+        // the bytes are stored as byte[], and encoded once as base64url string without padding
+        Assertions.assertTrue(output.contains("private byte[] signature;"));
+        Assertions.assertTrue(output.contains("import java.util.Base64;"));
+        Assertions.assertTrue(output.contains("jsonWriter.writeStringField(\"signature\", this.signature == null ? null"
+            + " : Base64.getUrlEncoder().withoutPadding().encodeToString(this.signature));"));
+        Assertions.assertTrue(output.contains(
+            "reader.getNullable(nonNullReader -> Base64.getUrlDecoder().decode(nonNullReader.getString()))"));
+        Assertions.assertFalse(output.contains("Base64Url"));
+    }
+
+    @Test
+    public void testNestedContainerMethodReference() {
+        ClientModel elementModel = model("Pet", null, property("name", ClassType.STRING, false));
+        ClientModel model = model("Owner", null,
+            property("names", new ListType(new ListType(new ListType(ClassType.STRING))), false),
+            property("pets", new MapType(new ListType(elementModel.getType())), false));
+        ClientModels.getInstance().addModel(elementModel);
+        ClientModels.getInstance().addModel(model);
+
+        // formatting fails, if the output is not valid Java code
+        String output = CodeFormatterUtil
+            .formatCode(new HashMap<>(Map.of("src/main/java/com/azure/mock/models/Owner.java", write(model))))
+            .get(0)
+            .replaceAll("\\s+", " ");
+
+        // method reference at the innermost level, without ";" inside the enclosing lambda
+        Assertions.assertTrue(output.contains("jsonWriter.writeArrayField(\"names\", this.names, (writer, element) -> "
+            + "writer.writeArray(element, (writer1, element1) -> "
+            + "writer1.writeArray(element1, JsonWriter::writeString)));"));
+        Assertions.assertTrue(output.contains("jsonWriter.writeMapField(\"pets\", this.pets, "
+            + "(writer, element) -> writer.writeArray(element, JsonWriter::writeJson));"));
+        Assertions.assertTrue(output.contains(
+            "readArray(reader1 -> reader1.readArray(reader2 -> reader2.readArray(JsonReader::getString)));"));
+        Assertions.assertTrue(output.contains(
+            "Map<String, List<Pet>> pets = reader.readMap(reader1 -> reader1.readArray(Pet::fromJson));"));
+    }
+
+    @Test
+    public void testJsonMergePatchPolymorphicSamePackage() {
+        ClientModel model = jsonMergePatchHierarchy(PACKAGE_NAME);
+
+        String output = write(model);
+
+        // the accessor dispatches to the package-private toJsonMergePatch, without the jsonMergePatch flag
+        Assertions.assertTrue(output.contains("return model.toJsonMergePatch(jsonWriter);"));
+        Assertions.assertTrue(output.contains("JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException"));
+        Assertions.assertFalse(output.contains("model.serializeAsJsonMergePatch(true);"));
+    }
+
+    @Test
+    public void testJsonMergePatchPolymorphicCrossPackage() {
+        // the derived model cannot override the package-private toJsonMergePatch from another package
+        ClientModel model = jsonMergePatchHierarchy(PACKAGE_NAME + ".sub");
+
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, () -> write(model));
+        Assertions.assertTrue(e.getMessage().contains("'Fish'"));
+    }
+
+    @Test
+    public void testTypedUnionProperty() {
+        useSettings(Map.of("client-side-validations", true));
+
+        // the union as mapped with "typed-unions" option
+        ClassType unionType = new ClassType.Builder().packageName(PACKAGE_NAME).name("ShapeBase").build();
+        UnionModels.getInstance()
+            .addModel(List.of(new UnionModel.Builder().name("ShapeBase")
+                .packageName(PACKAGE_NAME)
+                .description("The shape.")
+                .build()));
+        ClientModel elementModel = model("Pet", null, property("name", ClassType.STRING, false));
+        ClientModel model = model("Drawing", null, property("shape", unionType, false),
+            property("shapes", new ListType(unionType), false), property("pet", elementModel.getType(), false));
+        ClientModels.getInstance().addModel(elementModel);
+        ClientModels.getInstance().addModel(model);
+
+        String output = write(model);
+
+        // the union is written and read as a whole value, and has no validate()
+        Assertions.assertTrue(output.contains("jsonWriter.writeJsonField(\"shape\", this.shape);"));
+        Assertions.assertTrue(output.contains("ShapeBase.fromJson(reader)"));
+        Assertions.assertTrue(output.contains("getPet().validate();"));
+        Assertions.assertFalse(output.contains("getShape().validate()"));
+        Assertions.assertFalse(output.contains("getShapes().forEach"));
+
+        // JSON merge patch writes the union via its toJson, there is no merge patch accessor for it
+        ClientModel mergePatchModel = new ClientModel.Builder().name("Canvas")
+            .packageName(PACKAGE_NAME)
+            .description("The Canvas model.")
+            .type(new ClassType.Builder().packageName(PACKAGE_NAME).name("Canvas").build())
+            .implementationDetails(new ImplementationDetails.Builder()
+                .usages(Set.of(ImplementationDetails.Usage.INPUT, ImplementationDetails.Usage.JSON_MERGE_PATCH))
+                .build())
+            .properties(List.of(property("shape", unionType, false)))
+            .build();
+        ClientModels.getInstance().addModel(mergePatchModel);
+
+        output = write(mergePatchModel);
+        Assertions.assertTrue(output.contains("JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException"));
+        Assertions.assertEquals(2, count(output, "jsonWriter.writeJsonField(\"shape\", this.shape);"));
+        Assertions.assertFalse(output.contains("getShapeBaseAccessor()"));
+    }
+
+    // the root model "Fish" with the derived model "Shark" in the package, both used in JSON merge patch
+    private static ClientModel jsonMergePatchHierarchy(String derivedPackageName) {
+        ImplementationDetails implementationDetails = new ImplementationDetails.Builder()
+            .usages(Set.of(ImplementationDetails.Usage.INPUT, ImplementationDetails.Usage.JSON_MERGE_PATCH))
+            .build();
+        ClientModelProperty kind = new ClientModelProperty.Builder().name("kind")
+            .serializedName("kind")
+            .description("The kind.")
+            .wireType(ClassType.STRING)
+            .clientType(ClassType.STRING)
+            .required(true)
+            .polymorphicDiscriminator(true)
+            .defaultValue("\"fish\"")
+            .build();
+        ClientModel derivedModel = new ClientModel.Builder().name("Shark")
+            .packageName(derivedPackageName)
+            .description("The Shark model.")
+            .parentModelName("Fish")
+            .polymorphic(true)
+            .polymorphicDiscriminatorName("kind")
+            .serializedName("shark")
+            .type(new ClassType.Builder().packageName(derivedPackageName).name("Shark").build())
+            .implementationDetails(implementationDetails)
+            .properties(List.of(property("age", ClassType.INTEGER, false)))
+            .build();
+        ClientModel model = new ClientModel.Builder().name("Fish")
+            .packageName(PACKAGE_NAME)
+            .description("The Fish model.")
+            .polymorphic(true)
+            .polymorphicDiscriminator(kind)
+            .polymorphicDiscriminatorName("kind")
+            .serializedName("fish")
+            .derivedModels(List.of(derivedModel))
+            .type(new ClassType.Builder().packageName(PACKAGE_NAME).name("Fish").build())
+            .implementationDetails(implementationDetails)
+            .properties(List.of(kind, property("weight", ClassType.INTEGER, false)))
+            .build();
+        ClientModels.getInstance().addModel(model);
+        ClientModels.getInstance().addModel(derivedModel);
+        return model;
+    }
+
+    private static void useSettings(Map<String, Object> settings) {
+        JavaSettingsAccessor.setHost(new MockUnitJavagen() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> T getValue(String key, IOExceptionCheckedFunction<String, T> converter) {
+                return settings.containsKey(key) ? (T) settings.get(key) : super.getValue(key, converter);
+            }
+        });
+        JavaSettings.clear();
+    }
+
+    private static ClientModel model(String name, String parentModelName, ClientModelProperty... properties) {
+        return new ClientModel.Builder().name(name)
+            .packageName(PACKAGE_NAME)
+            .description("The " + name + " model.")
+            .parentModelName(parentModelName)
+            .type(new ClassType.Builder().packageName(PACKAGE_NAME).name(name).build())
+            .properties(List.of(properties))
+            .build();
+    }
+
+    private static ClientModelProperty property(String name, IType type, boolean required) {
+        return new ClientModelProperty.Builder().name(name)
+            .serializedName(name)
+            .description("The " + name + ".")
+            .wireType(type)
+            .clientType(type)
+            .required(required)
+            .build();
+    }
+
+    private static int count(String text, String pattern) {
+        return text.split(Pattern.quote(pattern), -1).length - 1;
+    }
+
+    private static String write(ClientModel model) {
+        JavaFile javaFile = new JavaFile("src/main/java/com/azure/mock/models/" + model.getName() + ".java");
+        Templates.getStreamStyleModelTemplate().write(model, javaFile);
+        return javaFile.getContents().toString();
+    }
+}
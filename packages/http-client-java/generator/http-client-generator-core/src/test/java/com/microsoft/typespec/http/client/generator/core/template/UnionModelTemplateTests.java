@@ -0,0 +1,86 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template;
+
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ListType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.UnionModels;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class UnionModelTemplateTests {
+
+    private static final String PACKAGE_NAME = "com.azure.mock.models";
+
+    private UnionModel baseModel;
+    private UnionModel stringModel;
+    private UnionModel listModel;
+
+    @BeforeEach
+    public void setup() {
+        baseModel = new UnionModel.Builder().name("ShapeBase")
+            .packageName(PACKAGE_NAME)
+            .description("The shape.")
+            .build();
+        stringModel = variant("StringShape", ClassType.STRING);
+        listModel = variant("IntListShape", new ListType(PrimitiveType.INT.asNullable()));
+        UnionModels.getInstance().addModel(List.of(baseModel, stringModel, listModel));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        UnionModels.getInstance().clear();
+    }
+
+    @Test
+    public void testTokenDispatchedFromJson() {
+        String output = write(baseModel);
+
+        Assertions.assertTrue(output.contains("public abstract class ShapeBase implements JsonSerializable<ShapeBase>"));
+        Assertions.assertTrue(output.contains("public static ShapeBase fromJson(JsonReader jsonReader) throws IOException"));
+        Assertions.assertTrue(output.contains("} else if (token == JsonToken.STRING) {"));
+        Assertions.assertTrue(output.contains("return new StringShape(jsonReader.getString());"));
+        Assertions.assertTrue(output.contains("} else if (token == JsonToken.START_ARRAY) {"));
+        Assertions.assertTrue(
+            output.contains("return new IntListShape(jsonReader.readArray(reader -> reader.getNullable(JsonReader::getInt)));"));
+        Assertions.assertFalse(output.contains("JsonValue"));
+    }
+
+    @Test
+    public void testVariantToJson() {
+        Assertions.assertTrue(write(stringModel).contains("return jsonWriter.writeString(this.value);"));
+        Assertions.assertTrue(write(listModel).contains(
+            "return jsonWriter.writeArray(this.value, (writer, element) -> writer.writeNumber(element));"));
+    }
+
+    private static UnionModel variant(String name, IType valueType) {
+        ClientModelProperty property = new ClientModelProperty.Builder().name("value")
+            .serializedName("value")
+            .description("The value.")
+            .wireType(valueType)
+            .clientType(valueType)
+            .required(true)
+            .build();
+        return new UnionModel.Builder().name(name)
+            .packageName(PACKAGE_NAME)
+            .description("The " + name + " model.")
+            .parentModelName("ShapeBase")
+            .properties(List.of(property))
+            .build();
+    }
+
+    private static String write(UnionModel model) {
+        JavaFile javaFile = new JavaFile("src/main/java/com/azure/mock/models/" + model.getName() + ".java");
+        UnionModelTemplate.getInstance().write(model, javaFile);
+        return javaFile.getContents().toString();
+    }
+}
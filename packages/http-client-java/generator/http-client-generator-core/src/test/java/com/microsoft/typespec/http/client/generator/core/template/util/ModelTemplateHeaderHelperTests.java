@@ -0,0 +1,143 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.template.util;
+
+import com.microsoft.typespec.http.client.generator.core.JavaSettingsAccessor;
+import com.microsoft.typespec.http.client.generator.core.MockUnitJavagen;
+import com.microsoft.typespec.http.client.generator.core.extension.plugin.JavaSettings;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModel;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModelProperty;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientModels;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.IType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.MapType;
+import com.microsoft.typespec.http.client.generator.core.model.javamodel.JavaFile;
+import com.microsoft.typespec.http.client.generator.core.postprocessor.implementation.CodeFormatterUtil;
+import com.microsoft.typespec.http.client.generator.core.template.Templates;
+import io.clientcore.core.utils.IOExceptionCheckedFunction;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ModelTemplateHeaderHelperTests {
+
+    private static final String PACKAGE_NAME = "com.azure.mock.models";
+
+    @AfterEach
+    public void cleanup() {
+        ClientModels.getInstance().clear();
+        new MockUnitJavagen();
+        JavaSettings.clear();
+    }
+
+    @Test
+    public void testLazyTypedHeaders() {
+        useSettings(Map.of("lazy-typed-headers", true));
+
+        String output = format(write(headersModel()));
+
+        // the constructor only keeps the raw headers
+        Assertions.assertTrue(output.contains("private final HttpHeaders rawHeaders;"));
+        Assertions.assertTrue(output.contains(
+            "public WidgetsGetHeaders(HttpHeaders rawHeaders) {\n        this.rawHeaders = rawHeaders;\n    }"));
+        Assertions.assertTrue(output.contains("private String eTag;"));
+        Assertions.assertFalse(output.contains("private final String eTag;"));
+
+        // each property is decoded on first access, the flag is set after the value
+        Assertions.assertTrue(output.contains("private volatile boolean eTagDecoded;"));
+        Assertions.assertTrue(output.contains("private void decodeETag() {\n"
+            + "        this.eTag = rawHeaders.getValue(HttpHeaderName.ETAG);\n"
+            + "        this.eTagDecoded = true;\n    }"));
+        Assertions.assertTrue(output.contains("public String getETag() {\n        if (!this.eTagDecoded) {\n"
+            + "            decodeETag();\n        }\n        return this.eTag;\n    }"));
+        Assertions.assertTrue(output.contains("if (!this.lastModifiedDecoded) {\n            decodeLastModified();"));
+        Assertions.assertTrue(output.contains("this.lastModified = new DateTimeRfc1123(lastModified);"));
+        Assertions.assertTrue(output.contains("this.xMsCount = Integer.parseInt(xMsCount);"));
+
+        // a value set is not overwritten by the value decoded later
+        Assertions.assertTrue(output.contains("public WidgetsGetHeaders setETag(String eTag) {\n"
+            + "        this.eTagDecoded = true;\n        this.eTag = eTag;"));
+
+        // header collections are decoded together, with one iteration over the raw headers
+        Assertions.assertTrue(output.contains("private volatile boolean headerCollectionsDecoded;"));
+        Assertions.assertEquals(1, count(output, "rawHeaders.stream()"));
+        Assertions.assertTrue(output.contains("private void decodeHeaderCollections() {"));
+        Assertions.assertEquals(2, count(output, "if (!this.headerCollectionsDecoded) {"));
+    }
+
+    @Test
+    public void testTypedHeaders() {
+        String output = format(write(headersModel()));
+
+        // all properties are decoded in the constructor
+        Assertions.assertTrue(output.contains("public WidgetsGetHeaders(HttpHeaders rawHeaders) {\n"
+            + "        this.eTag = rawHeaders.getValue(HttpHeaderName.ETAG);"));
+        Assertions.assertTrue(output.contains("rawHeaders.stream()"));
+        Assertions.assertFalse(output.contains("Decoded"));
+        Assertions.assertFalse(output.contains("private final HttpHeaders rawHeaders;"));
+    }
+
+    private static ClientModel headersModel() {
+        ClientModel model = new ClientModel.Builder().name("WidgetsGetHeaders")
+            .packageName(PACKAGE_NAME)
+            .description("The WidgetsGetHeaders model.")
+            .type(new ClassType.Builder().packageName(PACKAGE_NAME).name("WidgetsGetHeaders").build())
+            .stronglyTypedHeader(true)
+            .properties(List.of(property("eTag", "ETag", ClassType.STRING, ClassType.STRING),
+                property("xMsCount", "x-ms-count", ClassType.INTEGER, ClassType.INTEGER),
+                property("lastModified", "Last-Modified", ClassType.DATE_TIME_RFC_1123, ClassType.DATE_TIME),
+                new ClientModelProperty.Builder().name("xMsMeta")
+                    .serializedName("x-ms-meta-")
+                    .description("The xMsMeta.")
+                    .wireType(new MapType(ClassType.STRING))
+                    .clientType(new MapType(ClassType.STRING))
+                    .headerCollectionPrefix("x-ms-meta-")
+                    .build()))
+            .build();
+        ClientModels.getInstance().addModel(model);
+        return model;
+    }
+
+    private static ClientModelProperty property(String name, String serializedName, IType wireType,
+        IType clientType) {
+        return new ClientModelProperty.Builder().name(name)
+            .serializedName(serializedName)
+            .description("The " + name + ".")
+            .wireType(wireType)
+            .clientType(clientType)
+            .build();
+    }
+
+    private static void useSettings(Map<String, Object> settings) {
+        JavaSettingsAccessor.setHost(new MockUnitJavagen() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> T getValue(String key, IOExceptionCheckedFunction<String, T> converter) {
+                return settings.containsKey(key) ? (T) settings.get(key) : super.getValue(key, converter);
+            }
+        });
+        JavaSettings.clear();
+    }
+
+    private static String write(ClientModel model) {
+        JavaFile javaFile = new JavaFile("src/main/java/com/azure/mock/models/" + model.getName() + ".java");
+        Templates.getModelTemplate().write(model, javaFile);
+        return javaFile.getContents().toString();
+    }
+
+    private static int count(String text, String pattern) {
+        return text.split(Pattern.quote(pattern), -1).length - 1;
+    }
+
+    // formatting fails, if the output is not valid Java code
+    private static String format(String content) {
+        return CodeFormatterUtil
+            .formatCode(new HashMap<>(Map.of("src/main/java/com/azure/mock/models/WidgetsGetHeaders.java", content)))
+            .get(0);
+    }
+}
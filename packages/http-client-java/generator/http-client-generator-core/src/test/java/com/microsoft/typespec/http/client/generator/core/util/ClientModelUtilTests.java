@@ -0,0 +1,95 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package com.microsoft.typespec.http.client.generator.core.util;
+
+import com.microsoft.typespec.http.client.generator.core.extension.model.codemodel.RequestParameterLocation;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClassType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodParameter;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ClientMethodType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.PrimitiveType;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethod;
+import com.microsoft.typespec.http.client.generator.core.model.clientmodel.ProxyMethodParameter;
+import io.clientcore.core.http.models.HttpMethod;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ClientModelUtilTests {
+
+    @Test
+    public void testFileUploadBodyParameter() {
+        ClientMethodParameter body = new ClientMethodParameter.Builder().annotations(List.of())
+            .name("body")
+            .wireType(ClassType.BINARY_DATA)
+            .requestParameterLocation(RequestParameterLocation.BODY)
+            .required(true)
+            .build();
+        ClientMethodParameter contentLength = new ClientMethodParameter.Builder().annotations(List.of())
+            .name("contentLength")
+            .wireType(PrimitiveType.LONG.asNullable())
+            .requestParameterLocation(RequestParameterLocation.HEADER)
+            .build();
+        ClientMethodParameter name = new ClientMethodParameter.Builder().annotations(List.of())
+            .name("name")
+            .wireType(ClassType.STRING)
+            .requestParameterLocation(RequestParameterLocation.QUERY)
+            .build();
+
+        // required "Content-Length", single overload
+        ClientMethodParameter requiredContentLength = new ClientMethodParameter.Builder().annotations(List.of())
+            .name("contentLength")
+            .wireType(PrimitiveType.LONG)
+            .requestParameterLocation(RequestParameterLocation.HEADER)
+            .required(true)
+            .build();
+        ClientMethod fullMethod = clientMethod(false, body, requiredContentLength);
+        Assertions.assertSame(body, ClientModelUtil.getFileUploadBodyParameter(fullMethod));
+        Assertions.assertEquals("contentLength", ClientModelUtil.getContentLengthParameterName(fullMethod));
+
+        // optional "Content-Length" is the only optional parameter, both overloads would be "(Path file)"
+        fullMethod = clientMethod(false, body, contentLength);
+        ClientMethod requiredMethod = clientMethod(true, body, contentLength);
+        Assertions.assertSame(body, ClientModelUtil.getFileUploadBodyParameter(fullMethod));
+        Assertions.assertEquals("contentLength", ClientModelUtil.getContentLengthParameterName(fullMethod));
+        Assertions.assertNull(ClientModelUtil.getFileUploadBodyParameter(requiredMethod));
+
+        // another optional parameter, overloads are "(Path file)" and "(Path file, String name)"
+        fullMethod = clientMethod(false, body, contentLength, name);
+        requiredMethod = clientMethod(true, body, contentLength, name);
+        Assertions.assertSame(body, ClientModelUtil.getFileUploadBodyParameter(fullMethod));
+        Assertions.assertSame(body, ClientModelUtil.getFileUploadBodyParameter(requiredMethod));
+        Assertions.assertNull(ClientModelUtil.getContentLengthParameterName(requiredMethod));
+
+        // no "Content-Length"
+        requiredMethod = clientMethod(true, body, name);
+        Assertions.assertSame(body, ClientModelUtil.getFileUploadBodyParameter(requiredMethod));
+    }
+
+    private static ClientMethod clientMethod(boolean onlyRequiredParameters, ClientMethodParameter... parameters) {
+        List<ProxyMethodParameter> proxyParameters = new ArrayList<>();
+        for (ClientMethodParameter parameter : parameters) {
+            proxyParameters.add(new ProxyMethodParameter.Builder().name(parameter.getName())
+                .wireType(parameter.getWireType())
+                .requestParameterLocation(parameter.getRequestParameterLocation())
+                .requestParameterName(
+                    "contentLength".equals(parameter.getName()) ? "Content-Length" : parameter.getName())
+                .required(parameter.isRequired())
+                .build());
+        }
+        ProxyMethod proxyMethod = new ProxyMethod.Builder().name("upload")
+            .httpMethod(HttpMethod.PUT)
+            .requestContentType("application/octet-stream")
+            .returnType(PrimitiveType.VOID)
+            .parameters(proxyParameters)
+            .build();
+        return new ClientMethod.Builder().name("upload")
+            .type(ClientMethodType.SimpleSync)
+            .proxyMethod(proxyMethod)
+            .parameters(List.of(parameters))
+            .onlyRequiredParameters(onlyRequiredParameters)
+            .build();
+    }
+}
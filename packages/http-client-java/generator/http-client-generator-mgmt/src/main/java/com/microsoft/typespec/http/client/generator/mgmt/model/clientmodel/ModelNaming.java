@@ -30,6 +30,9 @@ public class ModelNaming {
     public static final String METHOD_PARAMETER_NAME_ID = "id";
 
     public static final String CLASS_RESOURCE_MANAGER_UTILS = "ResourceManagerUtils";
+    public static final String CLASS_RESOURCE_MANAGER_UTILS_RESOURCE_ID = CLASS_RESOURCE_MANAGER_UTILS + ".ResourceId";
+
+    public static final String LOCAL_VARIABLE_PARSED_ID = "parsedId";
 
     private ModelNaming() {
     }
@@ -44,7 +44,8 @@ public class CollectionMethodOperationByIdTemplate implements ImmutableMethod {
         this.name = name;
 
         final ResourceLocalVariables localVariables = resourceLocalVariables
-            .getDeduplicatedLocalVariables(new LinkedHashSet<>(List.of(ModelNaming.METHOD_PARAMETER_NAME_ID)));
+            .getDeduplicatedLocalVariables(new LinkedHashSet<>(
+                List.of(ModelNaming.METHOD_PARAMETER_NAME_ID, ModelNaming.LOCAL_VARIABLE_PARSED_ID)));
         final boolean removeResponseInReturnType = !includeContextParameter;
         final IType returnType = getReturnType(collectionMethod.getFluentReturnType(), removeResponseInReturnType);
         final boolean responseInReturnTypeRemoved
@@ -107,18 +108,21 @@ public class CollectionMethodOperationByIdTemplate implements ImmutableMethod {
                 dummyClientMethodForJavadoc.getProxyMethod(), true))
             .methodSignature(this.getMethodSignature(returnType, parameters))
             .method(block -> {
-                // init path parameters from resource id
+                // init path parameters from resource id, which is parsed once for all path parameters
+                if (!pathParameters.isEmpty()) {
+                    block.line(String.format("%1$s %2$s = %1$s.parse(%3$s);",
+                        ModelNaming.CLASS_RESOURCE_MANAGER_UTILS_RESOURCE_ID, ModelNaming.LOCAL_VARIABLE_PARSED_ID,
+                        ModelNaming.METHOD_PARAMETER_NAME_ID));
+                }
                 pathParameters.forEach(p -> {
                     String urlSegmentName = urlSegmentNameByParameterName.get(p.getSerializedName());
                     String valueFromIdText;
                     if (urlPathSegments.hasScope()) {
-                        valueFromIdText = String.format("%1$s.getValueFromIdByParameterName(%2$s, \"%3$s\", \"%4$s\")",
-                            ModelNaming.CLASS_RESOURCE_MANAGER_UTILS, ModelNaming.METHOD_PARAMETER_NAME_ID,
-                            urlPathSegments.getPath(), p.getSerializedName());
+                        valueFromIdText = String.format("%1$s.getValueByParameterName(\"%2$s\", \"%3$s\")",
+                            ModelNaming.LOCAL_VARIABLE_PARSED_ID, urlPathSegments.getPath(), p.getSerializedName());
                     } else {
-                        valueFromIdText = String.format("%1$s.getValueFromIdByName(%2$s, \"%3$s\")",
-                            ModelNaming.CLASS_RESOURCE_MANAGER_UTILS, ModelNaming.METHOD_PARAMETER_NAME_ID,
-                            urlSegmentName);
+                        valueFromIdText = String.format("%1$s.getValueByName(\"%2$s\")",
+                            ModelNaming.LOCAL_VARIABLE_PARSED_ID, urlSegmentName);
                     }
                     LocalVariable var = localVariables.getLocalVariableByMethodParameter(p.getClientMethodParameter());
                     // need additional conversion from String to LocalVariable.variableType
@@ -11,15 +11,18 @@ import com.microsoft.typespec.http.client.generator.core.template.IJavaTemplate;
 import com.microsoft.typespec.http.client.generator.core.template.prototype.MethodTemplate;
 import com.microsoft.typespec.http.client.generator.mgmt.model.clientmodel.ModelNaming;
 import com.microsoft.typespec.http.client.generator.mgmt.util.FluentUtils;
+import java.io.IOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFile> {
@@ -33,7 +36,6 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
     private static final List<MethodTemplate> METHOD_TEMPLATES = new ArrayList<>();
     static {
         MethodTemplate getValueFromIdByNameMethod = MethodTemplate.builder()
-            .imports(List.of(Arrays.class.getName(), Iterator.class.getName()))
             .visibility(JavaVisibility.PackagePrivate)
             .modifiers(List.of(JavaModifier.Static))
             .methodSignature("String getValueFromIdByName(String id, String name)")
@@ -43,8 +45,6 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
         METHOD_TEMPLATES.add(getValueFromIdByNameMethod);
 
         MethodTemplate getValueFromIdByParameterNameMethod = MethodTemplate.builder()
-            .imports(List.of(Arrays.class.getName(), Iterator.class.getName(), List.class.getName(),
-                ArrayList.class.getName(), ClassType.CORE_UTILS.getFullName(), Collections.class.getName()))
             .visibility(JavaVisibility.PackagePrivate)
             .modifiers(List.of(JavaModifier.Static))
             .methodSignature(
@@ -55,10 +55,14 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
         METHOD_TEMPLATES.add(getValueFromIdByParameterNameMethod);
     }
 
-    private static final List<String> IMPORTS_UTILS_PAGED_ITERABLE = List.of(ClassType.PAGED_FLUX.getFullName(),
-        ClassType.FLUX.getFullName(), ClassType.PAGED_ITERABLE.getFullName(), ClassType.PAGED_RESPONSE.getFullName(),
-        ClassType.PAGED_RESPONSE_BASE.getFullName(), Iterator.class.getName(), Function.class.getName(),
-        Collectors.class.getName(), Stream.class.getName());
+    private static final List<String> IMPORTS_UTILS_RESOURCE_ID
+        = List.of(Arrays.class.getName(), Map.class.getName(), ConcurrentHashMap.class.getName());
+
+    private static final List<String> IMPORTS_UTILS_PAGED_ITERABLE = List.of(ClassType.PAGED_ITERABLE.getFullName(),
+        ClassType.PAGED_RESPONSE.getFullName(), ClassType.HTTP_REQUEST.getFullName(),
+        ClassType.HTTP_HEADERS.getFullName(), "com.azure.core.util.IterableStream", IOException.class.getName(),
+        Iterator.class.getName(), Function.class.getName(), Stream.class.getName(), AbstractList.class.getName(),
+        Collections.class.getName(), List.class.getName());
 
     public void write(JavaFile javaFile) {
         write(null, javaFile);
@@ -68,6 +72,7 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
     public void write(Void ignored, JavaFile javaFile) {
         Set<String> imports = new LinkedHashSet<>();
         METHOD_TEMPLATES.forEach(mt -> mt.addImportsTo(imports));
+        imports.addAll(IMPORTS_UTILS_RESOURCE_ID);
         imports.addAll(IMPORTS_UTILS_PAGED_ITERABLE);
         javaFile.declareImport(imports);
 
@@ -78,6 +83,10 @@ public class ResourceManagerUtilsTemplate implements IJavaTemplate<Void, JavaFil
                     });
                 METHOD_TEMPLATES.forEach(mt -> mt.writeMethod(classBlock));
 
+                // ResourceId class
+                javaFile.line();
+                javaFile.text(FluentUtils.loadTextFromResource("ResourceManagerUtils_ResourceId.txt"));
+
                 // mapPage and PagedIterableImpl class
                 javaFile.line();
                 String configurableClassText
@@ -67,6 +67,24 @@ $generateScript = {
     $tspOptions += " --option ""@typespec/http-client-java.generate-tests=false"""
     # also generate with group-etag-headers=false since mgmt doesn't support etag grouping yet
     $tspOptions += " --option ""@typespec/http-client-java.group-etag-headers=false"""
+  } elseif ($tspFile -match "encode[\\/]datetime[\\/]") {
+    # test for use-date-time-codec
+    $tspOptions += " --option ""@typespec/http-client-java.use-date-time-codec=true"""
+  } elseif ($tspFile -match "type[\\/]union[\\/]main\.tsp") {
+    # test for typed-unions
+    $tspOptions += " --option ""@typespec/http-client-java.typed-unions=true"""
+  } elseif ($tspFile -match "encode[\\/]bytes[\\/]") {
+    # test for use-byte-array-for-base64url
+    $tspOptions += " --option ""@typespec/http-client-java.use-byte-array-for-base64url=true"""
+  } elseif ($tspFile -match "type[\\/]model[\\/]usage[\\/]") {
+    # test for stream-response-deserialization
+    $tspOptions += " --option ""@typespec/http-client-java.stream-response-deserialization=true"""
+  } elseif ($tspFile -match "streaming[\\/]jsonl[\\/]") {
+    # test for jsonl-streaming
+    $tspOptions += " --option ""@typespec/http-client-java.jsonl-streaming=true"""
+  } elseif ($tspFile -match "azure[\\/]core[\\/]basic[\\/]") {
+    # test for conditional-request-cache
+    $tspOptions += " --option ""@typespec/http-client-java.conditional-request-cache=true"""
   } elseif ($tspFile -match "tsp[\\/]versioning.tsp") {
     # test generating from specific api-version
     $tspOptions += " --option ""@typespec/http-client-java.api-version=2022-09-01"""
@@ -102,12 +120,19 @@ $generateScript = {
     $tspOptions += " --option ""@typespec/http-client-java.property-include-always=FunctionConfiguration.input"""
     # enable client side validations
     $tspOptions += " --option ""@typespec/http-client-java.client-side-validations=true"""
+    # test for validate-in-serialization
+    $tspOptions += " --option ""@typespec/http-client-java.validate-in-serialization=true"""
+    # test for lazy-typed-headers
+    $tspOptions += " --option ""@typespec/http-client-java.lazy-typed-headers=true"""
   } elseif ($tspFile -match "tsp[\\/]arm-customization.tsp") {
     # add customization code
     $tspOptions += " --option ""@typespec/http-client-java.customization-class=../../customization/src/main/java/KeyVaultCustomization.java"""
   } elseif ($tspFile -match "tsp[\\/]arm-versioned.tsp") {
     # enable advanced versioning for resiliency test
     $tspOptions += " --option ""@typespec/http-client-java.advanced-versioning=true"""
+  } elseif ($tspFile -match "tsp[\\/]lro.tsp") {
+    # test for generate-polling-scheduler
+    $tspOptions += " --option ""@typespec/http-client-java.generate-polling-scheduler=true"""
   } elseif ($tspFile -match "tsp[\\/]subclient.tsp") {
     $tspOptions += " --option ""@typespec/http-client-java.enable-subclient=true"""
     # test for include-api-view-properties
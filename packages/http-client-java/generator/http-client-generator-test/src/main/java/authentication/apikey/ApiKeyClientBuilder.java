@@ -59,6 +59,13 @@ public final class ApiKeyClientBuilder
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the ApiKeyClientBuilder.
      */
@@ -79,6 +86,7 @@ public final class ApiKeyClientBuilder
     @Generated
     @Override
     public ApiKeyClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -95,6 +103,7 @@ public final class ApiKeyClientBuilder
     @Generated
     @Override
     public ApiKeyClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -114,6 +123,7 @@ public final class ApiKeyClientBuilder
     @Generated
     @Override
     public ApiKeyClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -130,6 +140,7 @@ public final class ApiKeyClientBuilder
     @Generated
     @Override
     public ApiKeyClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -146,6 +157,7 @@ public final class ApiKeyClientBuilder
     @Generated
     @Override
     public ApiKeyClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -156,6 +168,7 @@ public final class ApiKeyClientBuilder
     @Generated
     @Override
     public ApiKeyClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -173,6 +186,7 @@ public final class ApiKeyClientBuilder
     @Generated
     @Override
     public ApiKeyClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -189,6 +203,7 @@ public final class ApiKeyClientBuilder
     @Generated
     @Override
     public ApiKeyClientBuilder credential(KeyCredential keyCredential) {
+        this.createdHttpPipeline = null;
         this.keyCredential = keyCredential;
         return this;
     }
@@ -205,6 +220,7 @@ public final class ApiKeyClientBuilder
     @Generated
     @Override
     public ApiKeyClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -223,6 +239,7 @@ public final class ApiKeyClientBuilder
      */
     @Generated
     public ApiKeyClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -235,7 +252,7 @@ public final class ApiKeyClientBuilder
     @Generated
     private ApiKeyClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         ApiKeyClientImpl client
             = new ApiKeyClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -286,6 +303,15 @@ public final class ApiKeyClientBuilder
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of ApiKeyAsyncClient class.
      * 
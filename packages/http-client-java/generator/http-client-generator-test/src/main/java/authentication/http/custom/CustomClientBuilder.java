@@ -60,6 +60,13 @@ public final class CustomClientBuilder
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the CustomClientBuilder.
      */
@@ -80,6 +87,7 @@ public final class CustomClientBuilder
     @Generated
     @Override
     public CustomClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -96,6 +104,7 @@ public final class CustomClientBuilder
     @Generated
     @Override
     public CustomClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -115,6 +124,7 @@ public final class CustomClientBuilder
     @Generated
     @Override
     public CustomClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -131,6 +141,7 @@ public final class CustomClientBuilder
     @Generated
     @Override
     public CustomClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -147,6 +158,7 @@ public final class CustomClientBuilder
     @Generated
     @Override
     public CustomClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -157,6 +169,7 @@ public final class CustomClientBuilder
     @Generated
     @Override
     public CustomClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -174,6 +187,7 @@ public final class CustomClientBuilder
     @Generated
     @Override
     public CustomClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -190,6 +204,7 @@ public final class CustomClientBuilder
     @Generated
     @Override
     public CustomClientBuilder credential(KeyCredential keyCredential) {
+        this.createdHttpPipeline = null;
         this.keyCredential = keyCredential;
         return this;
     }
@@ -206,6 +221,7 @@ public final class CustomClientBuilder
     @Generated
     @Override
     public CustomClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -224,6 +240,7 @@ public final class CustomClientBuilder
      */
     @Generated
     public CustomClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -236,7 +253,7 @@ public final class CustomClientBuilder
     @Generated
     private CustomClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         CustomClientImpl client
             = new CustomClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -287,6 +304,15 @@ public final class CustomClientBuilder
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of CustomAsyncClient class.
      * 
@@ -0,0 +1,229 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package authentication.noauth.union.implementation;
+
+import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonWriter;
+import com.azure.json.ReadValueCallback;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// DO NOT modify this helper class
+
+public final class JsonSerializableHelper {
+    /**
+     * Initial size of the buffer used to serialize a model. The buffer grows as needed.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private JsonSerializableHelper() {
+    }
+
+    /**
+     * Serializes the model to BinaryData with its own {@code toJson(JsonWriter)}.
+     * <p>
+     * The serialized bytes are wrapped without copying.
+     *
+     * @param value the model
+     * @return the BinaryData of the JSON
+     */
+    public static BinaryData toBinaryData(JsonSerializable<?> value) {
+        if (value == null) {
+            return BinaryData.fromString("null");
+        }
+        SizedByteArrayOutputStream outputStream = new SizedByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
+            value.toJson(jsonWriter).flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toBinaryData();
+    }
+
+    /**
+     * Serializes the value to BinaryData with the callback.
+     * <p>
+     * The serialized bytes are wrapped without copying. The callback should not modify the value, so that the same
+     * value can be sent concurrently.
+     *
+     * @param value the value
+     * @param toJsonCallback the callback to serialize the value, e.g. {@code toJsonMergePatch} of the accessor
+     * @param <T> the type of the value
+     * @return the BinaryData of the JSON
+     */
+    public static <T> BinaryData toBinaryData(T value, ToJsonCallback<T> toJsonCallback) {
+        if (value == null) {
+            return BinaryData.fromString("null");
+        }
+        return toBinaryData(new CallbackJsonSerializable<>(value, toJsonCallback));
+    }
+
+    /**
+     * Deserializes the model from BinaryData with its own {@code fromJson(JsonReader)}.
+     *
+     * @param data the BinaryData of the JSON
+     * @param readValueCallback the {@code fromJson} method of the model
+     * @param <T> the type of the model
+     * @return the model, or null if the content is empty
+     */
+    public static <T> T fromBinaryData(BinaryData data, ReadValueCallback<JsonReader, T> readValueCallback) {
+        if (data == null) {
+            return null;
+        }
+        try (JsonReader jsonReader = JsonProviders.createReader(data.toBytes())) {
+            return readValue(jsonReader, readValueCallback);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deserializes the model from the content of BinaryData with its own {@code fromJson(JsonReader)}, as the content
+     * is received.
+     * <p>
+     * Content that is not replayable, e.g. the body of a response that is not yet read, is read buffer by buffer from
+     * {@link BinaryData#toFluxByteBuffer()}, so that only the buffers not yet parsed are held in memory. This applies
+     * to any HTTP client, whether its response body is backed by an InputStream (e.g. OkHttp) or a Flux (e.g. Netty).
+     * {@link BinaryData#toStream()} is not used, as the stream of a Flux-backed body collects the whole body first.
+     * Replayable content, e.g. the body of a response already buffered for logging, is parsed from its bytes, the
+     * same as {@link #fromBinaryData(BinaryData, ReadValueCallback)}.
+     * <p>
+     * The method blocks until the model is read. The rest of the content is discarded after the model is read.
+     *
+     * @param data the BinaryData of the JSON
+     * @param readValueCallback the {@code fromJson} method of the model
+     * @param <T> the type of the model
+     * @return the model, or null if the content is empty
+     */
+    public static <T> T fromBinaryDataStream(BinaryData data, ReadValueCallback<JsonReader, T> readValueCallback) {
+        if (data == null) {
+            return null;
+        }
+        if (data.isReplayable()) {
+            return fromBinaryData(data, readValueCallback);
+        }
+        try (InputStream inputStream = new ByteBufferStreamInputStream(data.toFluxByteBuffer().toStream(1));
+            JsonReader jsonReader = JsonProviders.createReader(inputStream)) {
+            return readValue(jsonReader, readValueCallback);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+     * Empty content, e.g. the body of a 204 response, is read as null, the same as BinaryData.toObject.
+     */
+    private static <T> T readValue(JsonReader jsonReader, ReadValueCallback<JsonReader, T> readValueCallback)
+        throws IOException {
+        if (jsonReader.nextToken() == null) {
+            return null;
+        }
+        return readValueCallback.read(jsonReader);
+    }
+
+    /**
+     * Callback to serialize a value to JSON.
+     *
+     * @param <T> the type of the value
+     */
+    @FunctionalInterface
+    public interface ToJsonCallback<T> {
+        /**
+         * Writes the value to the JsonWriter.
+         *
+         * @param value the value
+         * @param jsonWriter the JsonWriter
+         * @return the JsonWriter
+         * @throws IOException If an error occurs while writing the value.
+         */
+        JsonWriter toJson(T value, JsonWriter jsonWriter) throws IOException;
+    }
+
+    /*
+     * Adapts the value and its callback to JsonSerializable, so that it is serialized the same way as a model.
+     */
+    private static final class CallbackJsonSerializable<T> implements JsonSerializable<CallbackJsonSerializable<T>> {
+        private final T value;
+        private final ToJsonCallback<T> toJsonCallback;
+
+        private CallbackJsonSerializable(T value, ToJsonCallback<T> toJsonCallback) {
+            this.value = value;
+            this.toJsonCallback = toJsonCallback;
+        }
+
+        @Override
+        public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+            return toJsonCallback.toJson(value, jsonWriter);
+        }
+    }
+
+    /*
+     * Reads the buffers of the content one at a time, as they are received. Closing the stream cancels the rest of the
+     * content.
+     */
+    private static final class ByteBufferStreamInputStream extends InputStream {
+        private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+        private final Stream<ByteBuffer> buffers;
+        private final Iterator<ByteBuffer> iterator;
+        private ByteBuffer buffer = EMPTY;
+
+        private ByteBufferStreamInputStream(Stream<ByteBuffer> buffers) {
+            this.buffers = buffers;
+            this.iterator = buffers.iterator();
+        }
+
+        @Override
+        public int read() {
+            return nextBuffer() ? (buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextBuffer()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public void close() {
+            buffers.close();
+        }
+
+        private boolean nextBuffer() {
+            while (!buffer.hasRemaining()) {
+                if (!iterator.hasNext()) {
+                    return false;
+                }
+                buffer = iterator.next();
+            }
+            return true;
+        }
+    }
+
+    private static final class SizedByteArrayOutputStream extends ByteArrayOutputStream {
+        private SizedByteArrayOutputStream(int size) {
+            super(size);
+        }
+
+        private BinaryData toBinaryData() {
+            return BinaryData.fromByteBuffer(ByteBuffer.wrap(buf, 0, count));
+        }
+    }
+}
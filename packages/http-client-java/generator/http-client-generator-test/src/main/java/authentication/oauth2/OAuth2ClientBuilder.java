@@ -62,6 +62,13 @@ public final class OAuth2ClientBuilder
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the OAuth2ClientBuilder.
      */
@@ -82,6 +89,7 @@ public final class OAuth2ClientBuilder
     @Generated
     @Override
     public OAuth2ClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -98,6 +106,7 @@ public final class OAuth2ClientBuilder
     @Generated
     @Override
     public OAuth2ClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -117,6 +126,7 @@ public final class OAuth2ClientBuilder
     @Generated
     @Override
     public OAuth2ClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -133,6 +143,7 @@ public final class OAuth2ClientBuilder
     @Generated
     @Override
     public OAuth2ClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -149,6 +160,7 @@ public final class OAuth2ClientBuilder
     @Generated
     @Override
     public OAuth2ClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -159,6 +171,7 @@ public final class OAuth2ClientBuilder
     @Generated
     @Override
     public OAuth2ClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -176,6 +189,7 @@ public final class OAuth2ClientBuilder
     @Generated
     @Override
     public OAuth2ClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -192,6 +206,7 @@ public final class OAuth2ClientBuilder
     @Generated
     @Override
     public OAuth2ClientBuilder credential(TokenCredential tokenCredential) {
+        this.createdHttpPipeline = null;
         this.tokenCredential = tokenCredential;
         return this;
     }
@@ -208,6 +223,7 @@ public final class OAuth2ClientBuilder
     @Generated
     @Override
     public OAuth2ClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -226,6 +242,7 @@ public final class OAuth2ClientBuilder
      */
     @Generated
     public OAuth2ClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -238,7 +255,7 @@ public final class OAuth2ClientBuilder
     @Generated
     private OAuth2ClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         OAuth2ClientImpl client
             = new OAuth2ClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -289,6 +306,15 @@ public final class OAuth2ClientBuilder
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of OAuth2AsyncClient class.
      * 
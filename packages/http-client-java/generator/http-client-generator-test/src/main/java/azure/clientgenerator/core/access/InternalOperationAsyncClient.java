@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.access;
 
 import azure.clientgenerator.core.access.implementation.InternalOperationsImpl;
+import azure.clientgenerator.core.access.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.access.internaloperation.implementation.models.InternalDecoratorModelInInternal;
 import azure.clientgenerator.core.access.internaloperation.implementation.models.NoDecoratorModelInInternal;
 import azure.clientgenerator.core.access.internaloperation.models.PublicDecoratorModelInInternal;
@@ -140,7 +141,8 @@ public final class InternalOperationAsyncClient {
         // Generated convenience method for noDecoratorInInternalWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return noDecoratorInInternalWithResponse(name, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(NoDecoratorModelInInternal.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                NoDecoratorModelInInternal::fromJson));
     }
 
     /**
@@ -162,7 +164,8 @@ public final class InternalOperationAsyncClient {
         // Generated convenience method for internalDecoratorInInternalWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return internalDecoratorInInternalWithResponse(name, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(InternalDecoratorModelInInternal.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                InternalDecoratorModelInInternal::fromJson));
     }
 
     /**
@@ -184,6 +187,7 @@ public final class InternalOperationAsyncClient {
         // Generated convenience method for publicDecoratorInInternalWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return publicDecoratorInInternalWithResponse(name, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(PublicDecoratorModelInInternal.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                PublicDecoratorModelInInternal::fromJson));
     }
 }
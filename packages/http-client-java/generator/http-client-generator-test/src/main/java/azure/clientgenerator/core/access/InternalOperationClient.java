@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.access;
 
 import azure.clientgenerator.core.access.implementation.InternalOperationsImpl;
+import azure.clientgenerator.core.access.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.access.internaloperation.implementation.models.InternalDecoratorModelInInternal;
 import azure.clientgenerator.core.access.internaloperation.implementation.models.NoDecoratorModelInInternal;
 import azure.clientgenerator.core.access.internaloperation.models.PublicDecoratorModelInInternal;
@@ -134,8 +135,8 @@ public final class InternalOperationClient {
     NoDecoratorModelInInternal noDecoratorInInternal(String name) {
         // Generated convenience method for noDecoratorInInternalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return noDecoratorInInternalWithResponse(name, requestOptions).getValue()
-            .toObject(NoDecoratorModelInInternal.class);
+        return JsonSerializableHelper.fromBinaryData(noDecoratorInInternalWithResponse(name, requestOptions).getValue(),
+            NoDecoratorModelInInternal::fromJson);
     }
 
     /**
@@ -155,8 +156,9 @@ public final class InternalOperationClient {
     InternalDecoratorModelInInternal internalDecoratorInInternal(String name) {
         // Generated convenience method for internalDecoratorInInternalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return internalDecoratorInInternalWithResponse(name, requestOptions).getValue()
-            .toObject(InternalDecoratorModelInInternal.class);
+        return JsonSerializableHelper.fromBinaryData(
+            internalDecoratorInInternalWithResponse(name, requestOptions).getValue(),
+            InternalDecoratorModelInInternal::fromJson);
     }
 
     /**
@@ -176,7 +178,8 @@ public final class InternalOperationClient {
     PublicDecoratorModelInInternal publicDecoratorInInternal(String name) {
         // Generated convenience method for publicDecoratorInInternalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return publicDecoratorInInternalWithResponse(name, requestOptions).getValue()
-            .toObject(PublicDecoratorModelInInternal.class);
+        return JsonSerializableHelper.fromBinaryData(
+            publicDecoratorInInternalWithResponse(name, requestOptions).getValue(),
+            PublicDecoratorModelInInternal::fromJson);
     }
 }
@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.access;
 
+import azure.clientgenerator.core.access.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.access.implementation.PublicOperationsImpl;
 import azure.clientgenerator.core.access.publicoperation.models.NoDecoratorModelInPublic;
 import azure.clientgenerator.core.access.publicoperation.models.PublicDecoratorModelInPublic;
@@ -111,7 +112,8 @@ public final class PublicOperationAsyncClient {
         // Generated convenience method for noDecoratorInPublicWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return noDecoratorInPublicWithResponse(name, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(NoDecoratorModelInPublic.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                NoDecoratorModelInPublic::fromJson));
     }
 
     /**
@@ -132,6 +134,7 @@ public final class PublicOperationAsyncClient {
         // Generated convenience method for publicDecoratorInPublicWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return publicDecoratorInPublicWithResponse(name, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(PublicDecoratorModelInPublic.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                PublicDecoratorModelInPublic::fromJson));
     }
 }
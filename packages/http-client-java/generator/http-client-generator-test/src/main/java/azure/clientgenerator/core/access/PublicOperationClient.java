@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.access;
 
+import azure.clientgenerator.core.access.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.access.implementation.PublicOperationsImpl;
 import azure.clientgenerator.core.access.publicoperation.models.NoDecoratorModelInPublic;
 import azure.clientgenerator.core.access.publicoperation.models.PublicDecoratorModelInPublic;
@@ -106,8 +107,8 @@ public final class PublicOperationClient {
     public NoDecoratorModelInPublic noDecoratorInPublic(String name) {
         // Generated convenience method for noDecoratorInPublicWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return noDecoratorInPublicWithResponse(name, requestOptions).getValue()
-            .toObject(NoDecoratorModelInPublic.class);
+        return JsonSerializableHelper.fromBinaryData(noDecoratorInPublicWithResponse(name, requestOptions).getValue(),
+            NoDecoratorModelInPublic::fromJson);
     }
 
     /**
@@ -127,7 +128,8 @@ public final class PublicOperationClient {
     public PublicDecoratorModelInPublic publicDecoratorInPublic(String name) {
         // Generated convenience method for publicDecoratorInPublicWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return publicDecoratorInPublicWithResponse(name, requestOptions).getValue()
-            .toObject(PublicDecoratorModelInPublic.class);
+        return JsonSerializableHelper.fromBinaryData(
+            publicDecoratorInPublicWithResponse(name, requestOptions).getValue(),
+            PublicDecoratorModelInPublic::fromJson);
     }
 }
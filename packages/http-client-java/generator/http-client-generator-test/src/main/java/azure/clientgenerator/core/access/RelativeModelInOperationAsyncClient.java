@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.access;
 
+import azure.clientgenerator.core.access.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.access.implementation.RelativeModelInOperationsImpl;
 import azure.clientgenerator.core.access.relativemodelinoperation.implementation.models.AbstractModel;
 import azure.clientgenerator.core.access.relativemodelinoperation.implementation.models.OuterModel;
@@ -143,7 +144,7 @@ public final class RelativeModelInOperationAsyncClient {
         // Generated convenience method for operationWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return operationWithResponse(name, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(OuterModel.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, OuterModel::fromJson));
     }
 
     /**
@@ -172,6 +173,7 @@ public final class RelativeModelInOperationAsyncClient {
         // Generated convenience method for discriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return discriminatorWithResponse(kind, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(AbstractModel.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                AbstractModel::fromJson));
     }
 }
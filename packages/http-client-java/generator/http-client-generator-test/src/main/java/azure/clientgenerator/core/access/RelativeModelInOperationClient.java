@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.access;
 
+import azure.clientgenerator.core.access.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.access.implementation.RelativeModelInOperationsImpl;
 import azure.clientgenerator.core.access.relativemodelinoperation.implementation.models.AbstractModel;
 import azure.clientgenerator.core.access.relativemodelinoperation.implementation.models.OuterModel;
@@ -137,7 +138,8 @@ public final class RelativeModelInOperationClient {
     OuterModel operation(String name) {
         // Generated convenience method for operationWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return operationWithResponse(name, requestOptions).getValue().toObject(OuterModel.class);
+        return JsonSerializableHelper.fromBinaryData(operationWithResponse(name, requestOptions).getValue(),
+            OuterModel::fromJson);
     }
 
     /**
@@ -164,6 +166,7 @@ public final class RelativeModelInOperationClient {
     AbstractModel discriminator(String kind) {
         // Generated convenience method for discriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return discriminatorWithResponse(kind, requestOptions).getValue().toObject(AbstractModel.class);
+        return JsonSerializableHelper.fromBinaryData(discriminatorWithResponse(kind, requestOptions).getValue(),
+            AbstractModel::fromJson);
     }
 }
@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.access;
 
+import azure.clientgenerator.core.access.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.access.implementation.SharedModelInOperationsImpl;
 import azure.clientgenerator.core.access.sharedmodelinoperation.models.SharedModel;
 import com.azure.core.annotation.Generated;
@@ -110,7 +111,8 @@ public final class SharedModelInOperationAsyncClient {
         // Generated convenience method for publicMethodWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return publicMethodWithResponse(name, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(SharedModel.class));
+            .map(
+                protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, SharedModel::fromJson));
     }
 
     /**
@@ -131,6 +133,7 @@ public final class SharedModelInOperationAsyncClient {
         // Generated convenience method for internalWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return internalWithResponse(name, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(SharedModel.class));
+            .map(
+                protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, SharedModel::fromJson));
     }
 }
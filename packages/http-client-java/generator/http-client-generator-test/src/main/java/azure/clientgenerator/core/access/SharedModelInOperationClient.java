@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.access;
 
+import azure.clientgenerator.core.access.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.access.implementation.SharedModelInOperationsImpl;
 import azure.clientgenerator.core.access.sharedmodelinoperation.models.SharedModel;
 import com.azure.core.annotation.Generated;
@@ -105,7 +106,8 @@ public final class SharedModelInOperationClient {
     public SharedModel publicMethod(String name) {
         // Generated convenience method for publicMethodWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return publicMethodWithResponse(name, requestOptions).getValue().toObject(SharedModel.class);
+        return JsonSerializableHelper.fromBinaryData(publicMethodWithResponse(name, requestOptions).getValue(),
+            SharedModel::fromJson);
     }
 
     /**
@@ -125,6 +127,7 @@ public final class SharedModelInOperationClient {
     SharedModel internal(String name) {
         // Generated convenience method for internalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return internalWithResponse(name, requestOptions).getValue().toObject(SharedModel.class);
+        return JsonSerializableHelper.fromBinaryData(internalWithResponse(name, requestOptions).getValue(),
+            SharedModel::fromJson);
     }
 }
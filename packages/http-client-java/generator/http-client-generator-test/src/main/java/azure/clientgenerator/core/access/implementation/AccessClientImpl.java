@@ -60,7 +60,7 @@ public final class AccessClientImpl {
     /**
      * The PublicOperationsImpl object to access its operations.
      */
-    private final PublicOperationsImpl publicOperations;
+    private volatile PublicOperationsImpl publicOperations;
 
     /**
      * Gets the PublicOperationsImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class AccessClientImpl {
      * @return the PublicOperationsImpl object.
      */
     public PublicOperationsImpl getPublicOperations() {
-        return this.publicOperations;
+        PublicOperationsImpl localPublicOperations = this.publicOperations;
+        if (localPublicOperations == null) {
+            synchronized (this) {
+                localPublicOperations = this.publicOperations;
+                if (localPublicOperations == null) {
+                    localPublicOperations = new PublicOperationsImpl(this);
+                    this.publicOperations = localPublicOperations;
+                }
+            }
+        }
+        return localPublicOperations;
     }
 
     /**
      * The InternalOperationsImpl object to access its operations.
      */
-    private final InternalOperationsImpl internalOperations;
+    private volatile InternalOperationsImpl internalOperations;
 
     /**
      * Gets the InternalOperationsImpl object to access its operations.
@@ -82,13 +92,23 @@ public final class AccessClientImpl {
      * @return the InternalOperationsImpl object.
      */
     public InternalOperationsImpl getInternalOperations() {
-        return this.internalOperations;
+        InternalOperationsImpl localInternalOperations = this.internalOperations;
+        if (localInternalOperations == null) {
+            synchronized (this) {
+                localInternalOperations = this.internalOperations;
+                if (localInternalOperations == null) {
+                    localInternalOperations = new InternalOperationsImpl(this);
+                    this.internalOperations = localInternalOperations;
+                }
+            }
+        }
+        return localInternalOperations;
     }
 
     /**
      * The SharedModelInOperationsImpl object to access its operations.
      */
-    private final SharedModelInOperationsImpl sharedModelInOperations;
+    private volatile SharedModelInOperationsImpl sharedModelInOperations;
 
     /**
      * Gets the SharedModelInOperationsImpl object to access its operations.
@@ -96,13 +116,23 @@ public final class AccessClientImpl {
      * @return the SharedModelInOperationsImpl object.
      */
     public SharedModelInOperationsImpl getSharedModelInOperations() {
-        return this.sharedModelInOperations;
+        SharedModelInOperationsImpl localSharedModelInOperations = this.sharedModelInOperations;
+        if (localSharedModelInOperations == null) {
+            synchronized (this) {
+                localSharedModelInOperations = this.sharedModelInOperations;
+                if (localSharedModelInOperations == null) {
+                    localSharedModelInOperations = new SharedModelInOperationsImpl(this);
+                    this.sharedModelInOperations = localSharedModelInOperations;
+                }
+            }
+        }
+        return localSharedModelInOperations;
     }
 
     /**
      * The RelativeModelInOperationsImpl object to access its operations.
      */
-    private final RelativeModelInOperationsImpl relativeModelInOperations;
+    private volatile RelativeModelInOperationsImpl relativeModelInOperations;
 
     /**
      * Gets the RelativeModelInOperationsImpl object to access its operations.
@@ -110,7 +140,17 @@ public final class AccessClientImpl {
      * @return the RelativeModelInOperationsImpl object.
      */
     public RelativeModelInOperationsImpl getRelativeModelInOperations() {
-        return this.relativeModelInOperations;
+        RelativeModelInOperationsImpl localRelativeModelInOperations = this.relativeModelInOperations;
+        if (localRelativeModelInOperations == null) {
+            synchronized (this) {
+                localRelativeModelInOperations = this.relativeModelInOperations;
+                if (localRelativeModelInOperations == null) {
+                    localRelativeModelInOperations = new RelativeModelInOperationsImpl(this);
+                    this.relativeModelInOperations = localRelativeModelInOperations;
+                }
+            }
+        }
+        return localRelativeModelInOperations;
     }
 
     /**
@@ -144,9 +184,5 @@ public final class AccessClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.publicOperations = new PublicOperationsImpl(this);
-        this.internalOperations = new InternalOperationsImpl(this);
-        this.sharedModelInOperations = new SharedModelInOperationsImpl(this);
-        this.relativeModelInOperations = new RelativeModelInOperationsImpl(this);
     }
 }
@@ -6,6 +6,7 @@ package azure.clientgenerator.core.alternatetype;
 
 import azure.clientgenerator.core.alternatetype.externaltype.models.ModelWithFeatureProperty;
 import azure.clientgenerator.core.alternatetype.implementation.ExternalTypesImpl;
+import azure.clientgenerator.core.alternatetype.implementation.JsonSerializableHelper;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceClient;
@@ -242,7 +243,8 @@ public final class AlternateTypeAsyncClient {
         // Generated convenience method for getPropertyWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getPropertyWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ModelWithFeatureProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                ModelWithFeatureProperty::fromJson));
     }
 
     /**
@@ -262,6 +264,7 @@ public final class AlternateTypeAsyncClient {
     public Mono<Void> putProperty(ModelWithFeatureProperty body) {
         // Generated convenience method for putPropertyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putPropertyWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return putPropertyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 }
@@ -6,6 +6,7 @@ package azure.clientgenerator.core.alternatetype;
 
 import azure.clientgenerator.core.alternatetype.externaltype.models.ModelWithFeatureProperty;
 import azure.clientgenerator.core.alternatetype.implementation.ExternalTypesImpl;
+import azure.clientgenerator.core.alternatetype.implementation.JsonSerializableHelper;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceClient;
@@ -237,7 +238,8 @@ public final class AlternateTypeClient {
     public ModelWithFeatureProperty getProperty() {
         // Generated convenience method for getPropertyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getPropertyWithResponse(requestOptions).getValue().toObject(ModelWithFeatureProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getPropertyWithResponse(requestOptions).getValue(),
+            ModelWithFeatureProperty::fromJson);
     }
 
     /**
@@ -256,6 +258,6 @@ public final class AlternateTypeClient {
     public void putProperty(ModelWithFeatureProperty body) {
         // Generated convenience method for putPropertyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putPropertyWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putPropertyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
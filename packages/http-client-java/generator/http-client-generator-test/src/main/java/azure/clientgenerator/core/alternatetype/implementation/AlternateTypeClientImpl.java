@@ -60,7 +60,7 @@ public final class AlternateTypeClientImpl {
     /**
      * The ExternalTypesImpl object to access its operations.
      */
-    private final ExternalTypesImpl externalTypes;
+    private volatile ExternalTypesImpl externalTypes;
 
     /**
      * Gets the ExternalTypesImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class AlternateTypeClientImpl {
      * @return the ExternalTypesImpl object.
      */
     public ExternalTypesImpl getExternalTypes() {
-        return this.externalTypes;
+        ExternalTypesImpl localExternalTypes = this.externalTypes;
+        if (localExternalTypes == null) {
+            synchronized (this) {
+                localExternalTypes = this.externalTypes;
+                if (localExternalTypes == null) {
+                    localExternalTypes = new ExternalTypesImpl(this);
+                    this.externalTypes = localExternalTypes;
+                }
+            }
+        }
+        return localExternalTypes;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class AlternateTypeClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.externalTypes = new ExternalTypesImpl(this);
     }
 }
@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.clientdefaultvalue;
 
 import azure.clientgenerator.core.clientdefaultvalue.implementation.ClientDefaultValueClientImpl;
+import azure.clientgenerator.core.clientdefaultvalue.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientdefaultvalue.models.ModelWithDefaultValues;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -167,8 +168,10 @@ public final class ClientDefaultValueAsyncClient {
     public Mono<ModelWithDefaultValues> putModelProperty(ModelWithDefaultValues body) {
         // Generated convenience method for putModelPropertyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putModelPropertyWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ModelWithDefaultValues.class));
+        return putModelPropertyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                ModelWithDefaultValues::fromJson));
     }
 
     /**
@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.clientdefaultvalue;
 
 import azure.clientgenerator.core.clientdefaultvalue.implementation.ClientDefaultValueClientImpl;
+import azure.clientgenerator.core.clientdefaultvalue.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientdefaultvalue.models.ModelWithDefaultValues;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -164,8 +165,9 @@ public final class ClientDefaultValueClient {
     public ModelWithDefaultValues putModelProperty(ModelWithDefaultValues body) {
         // Generated convenience method for putModelPropertyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putModelPropertyWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(ModelWithDefaultValues.class);
+        return JsonSerializableHelper.fromBinaryData(
+            putModelPropertyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            ModelWithDefaultValues::fromJson);
     }
 
     /**
@@ -56,6 +56,13 @@ public final class ClientDefaultValueClientBuilder implements HttpTrait<ClientDe
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the ClientDefaultValueClientBuilder.
      */
@@ -76,6 +83,7 @@ public final class ClientDefaultValueClientBuilder implements HttpTrait<ClientDe
     @Generated
     @Override
     public ClientDefaultValueClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -92,6 +100,7 @@ public final class ClientDefaultValueClientBuilder implements HttpTrait<ClientDe
     @Generated
     @Override
     public ClientDefaultValueClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -111,6 +120,7 @@ public final class ClientDefaultValueClientBuilder implements HttpTrait<ClientDe
     @Generated
     @Override
     public ClientDefaultValueClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -127,6 +137,7 @@ public final class ClientDefaultValueClientBuilder implements HttpTrait<ClientDe
     @Generated
     @Override
     public ClientDefaultValueClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -143,6 +154,7 @@ public final class ClientDefaultValueClientBuilder implements HttpTrait<ClientDe
     @Generated
     @Override
     public ClientDefaultValueClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -153,6 +165,7 @@ public final class ClientDefaultValueClientBuilder implements HttpTrait<ClientDe
     @Generated
     @Override
     public ClientDefaultValueClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -170,6 +183,7 @@ public final class ClientDefaultValueClientBuilder implements HttpTrait<ClientDe
     @Generated
     @Override
     public ClientDefaultValueClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -186,6 +200,7 @@ public final class ClientDefaultValueClientBuilder implements HttpTrait<ClientDe
     @Generated
     @Override
     public ClientDefaultValueClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -204,6 +219,7 @@ public final class ClientDefaultValueClientBuilder implements HttpTrait<ClientDe
      */
     @Generated
     public ClientDefaultValueClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -216,7 +232,7 @@ public final class ClientDefaultValueClientBuilder implements HttpTrait<ClientDe
     @Generated
     private ClientDefaultValueClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         ClientDefaultValueClientImpl client = new ClientDefaultValueClientImpl(localPipeline,
             JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -264,6 +280,15 @@ public final class ClientDefaultValueClientBuilder implements HttpTrait<ClientDe
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of ClientDefaultValueAsyncClient class.
      * 
@@ -6,6 +6,7 @@ package azure.clientgenerator.core.clientdoc;
 
 import azure.clientgenerator.core.clientdoc.documentation.models.Plant;
 import azure.clientgenerator.core.clientdoc.implementation.DocumentationsImpl;
+import azure.clientgenerator.core.clientdoc.implementation.JsonSerializableHelper;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceClient;
@@ -96,7 +97,7 @@ public final class ClientDocAsyncClient {
     public Mono<Plant> harvest(Plant body) {
         // Generated convenience method for harvestWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return harvestWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Plant.class));
+        return harvestWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Plant::fromJson));
     }
 }
@@ -6,6 +6,7 @@ package azure.clientgenerator.core.clientdoc;
 
 import azure.clientgenerator.core.clientdoc.documentation.models.Plant;
 import azure.clientgenerator.core.clientdoc.implementation.DocumentationsImpl;
+import azure.clientgenerator.core.clientdoc.implementation.JsonSerializableHelper;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceClient;
@@ -93,6 +94,7 @@ public final class ClientDocClient {
     public Plant harvest(Plant body) {
         // Generated convenience method for harvestWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return harvestWithResponse(BinaryData.fromObject(body), requestOptions).getValue().toObject(Plant.class);
+        return JsonSerializableHelper.fromBinaryData(
+            harvestWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(), Plant::fromJson);
     }
 }
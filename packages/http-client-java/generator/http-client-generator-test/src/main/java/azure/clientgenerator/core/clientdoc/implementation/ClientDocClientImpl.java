@@ -60,7 +60,7 @@ public final class ClientDocClientImpl {
     /**
      * The DocumentationsImpl object to access its operations.
      */
-    private final DocumentationsImpl documentations;
+    private volatile DocumentationsImpl documentations;
 
     /**
      * Gets the DocumentationsImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class ClientDocClientImpl {
      * @return the DocumentationsImpl object.
      */
     public DocumentationsImpl getDocumentations() {
-        return this.documentations;
+        DocumentationsImpl localDocumentations = this.documentations;
+        if (localDocumentations == null) {
+            synchronized (this) {
+                localDocumentations = this.documentations;
+                if (localDocumentations == null) {
+                    localDocumentations = new DocumentationsImpl(this);
+                    this.documentations = localDocumentations;
+                }
+            }
+        }
+        return localDocumentations;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class ClientDocClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.documentations = new DocumentationsImpl(this);
     }
 }
@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.clientinitialization.defaultclient;
 
 import azure.clientgenerator.core.clientinitialization.defaultclient.implementation.HeaderParamClientImpl;
+import azure.clientgenerator.core.clientinitialization.defaultclient.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientinitialization.defaultclient.models.Input;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -118,6 +119,7 @@ public final class HeaderParamAsyncClient {
     public Mono<Void> withBody(Input body) {
         // Generated convenience method for withBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withBodyWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withBodyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 }
@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.clientinitialization.defaultclient;
 
 import azure.clientgenerator.core.clientinitialization.defaultclient.implementation.HeaderParamClientImpl;
+import azure.clientgenerator.core.clientinitialization.defaultclient.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientinitialization.defaultclient.models.Input;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -114,6 +115,6 @@ public final class HeaderParamClient {
     public void withBody(Input body) {
         // Generated convenience method for withBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withBodyWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withBodyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
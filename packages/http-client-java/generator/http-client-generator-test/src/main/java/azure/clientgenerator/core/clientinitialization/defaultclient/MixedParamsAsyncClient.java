@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.clientinitialization.defaultclient;
 
+import azure.clientgenerator.core.clientinitialization.defaultclient.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientinitialization.defaultclient.implementation.MixedParamsClientImpl;
 import azure.clientgenerator.core.clientinitialization.defaultclient.models.WithBodyRequest;
 import com.azure.core.annotation.Generated;
@@ -122,6 +123,7 @@ public final class MixedParamsAsyncClient {
     public Mono<Void> withBody(String region, WithBodyRequest body) {
         // Generated convenience method for withBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withBodyWithResponse(region, BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withBodyWithResponse(region, JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 }
@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.clientinitialization.defaultclient;
 
+import azure.clientgenerator.core.clientinitialization.defaultclient.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientinitialization.defaultclient.implementation.MixedParamsClientImpl;
 import azure.clientgenerator.core.clientinitialization.defaultclient.models.WithBodyRequest;
 import com.azure.core.annotation.Generated;
@@ -118,6 +119,6 @@ public final class MixedParamsClient {
     public void withBody(String region, WithBodyRequest body) {
         // Generated convenience method for withBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withBodyWithResponse(region, BinaryData.fromObject(body), requestOptions).getValue();
+        withBodyWithResponse(region, JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
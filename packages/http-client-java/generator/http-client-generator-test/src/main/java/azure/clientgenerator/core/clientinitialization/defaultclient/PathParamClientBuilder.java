@@ -56,6 +56,13 @@ public final class PathParamClientBuilder implements HttpTrait<PathParamClientBu
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the PathParamClientBuilder.
      */
@@ -76,6 +83,7 @@ public final class PathParamClientBuilder implements HttpTrait<PathParamClientBu
     @Generated
     @Override
     public PathParamClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -92,6 +100,7 @@ public final class PathParamClientBuilder implements HttpTrait<PathParamClientBu
     @Generated
     @Override
     public PathParamClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -111,6 +120,7 @@ public final class PathParamClientBuilder implements HttpTrait<PathParamClientBu
     @Generated
     @Override
     public PathParamClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -127,6 +137,7 @@ public final class PathParamClientBuilder implements HttpTrait<PathParamClientBu
     @Generated
     @Override
     public PathParamClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -143,6 +154,7 @@ public final class PathParamClientBuilder implements HttpTrait<PathParamClientBu
     @Generated
     @Override
     public PathParamClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -153,6 +165,7 @@ public final class PathParamClientBuilder implements HttpTrait<PathParamClientBu
     @Generated
     @Override
     public PathParamClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -170,6 +183,7 @@ public final class PathParamClientBuilder implements HttpTrait<PathParamClientBu
     @Generated
     @Override
     public PathParamClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -186,6 +200,7 @@ public final class PathParamClientBuilder implements HttpTrait<PathParamClientBu
     @Generated
     @Override
     public PathParamClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -204,6 +219,7 @@ public final class PathParamClientBuilder implements HttpTrait<PathParamClientBu
      */
     @Generated
     public PathParamClientBuilder blobName(String blobName) {
+        this.createdHttpPipeline = null;
         this.blobName = blobName;
         return this;
     }
@@ -222,6 +238,7 @@ public final class PathParamClientBuilder implements HttpTrait<PathParamClientBu
      */
     @Generated
     public PathParamClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -234,7 +251,7 @@ public final class PathParamClientBuilder implements HttpTrait<PathParamClientBu
     @Generated
     private PathParamClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         PathParamClientImpl client = new PathParamClientImpl(localPipeline,
             JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint, this.blobName);
@@ -283,6 +300,15 @@ public final class PathParamClientBuilder implements HttpTrait<PathParamClientBu
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of PathParamAsyncClient class.
      * 
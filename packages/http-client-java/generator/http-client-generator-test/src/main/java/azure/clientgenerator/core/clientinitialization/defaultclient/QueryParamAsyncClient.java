@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.clientinitialization.defaultclient;
 
+import azure.clientgenerator.core.clientinitialization.defaultclient.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientinitialization.defaultclient.implementation.QueryParamClientImpl;
 import azure.clientgenerator.core.clientinitialization.defaultclient.models.BlobProperties;
 import com.azure.core.annotation.Generated;
@@ -162,7 +163,8 @@ public final class QueryParamAsyncClient {
         // Generated convenience method for getStandaloneWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getStandaloneWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(BlobProperties.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                BlobProperties::fromJson));
     }
 
     /**
@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.clientinitialization.defaultclient;
 
+import azure.clientgenerator.core.clientinitialization.defaultclient.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientinitialization.defaultclient.implementation.QueryParamClientImpl;
 import azure.clientgenerator.core.clientinitialization.defaultclient.models.BlobProperties;
 import com.azure.core.annotation.Generated;
@@ -157,7 +158,8 @@ public final class QueryParamClient {
     public BlobProperties getStandalone() {
         // Generated convenience method for getStandaloneWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getStandaloneWithResponse(requestOptions).getValue().toObject(BlobProperties.class);
+        return JsonSerializableHelper.fromBinaryData(getStandaloneWithResponse(requestOptions).getValue(),
+            BlobProperties::fromJson);
     }
 
     /**
@@ -59,6 +59,13 @@ public final class IndividuallyNestedWithMultipleClientBuilder
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the IndividuallyNestedWithMultipleClientBuilder.
      */
@@ -79,6 +86,7 @@ public final class IndividuallyNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyNestedWithMultipleClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -95,6 +103,7 @@ public final class IndividuallyNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyNestedWithMultipleClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -114,6 +123,7 @@ public final class IndividuallyNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyNestedWithMultipleClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -130,6 +140,7 @@ public final class IndividuallyNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyNestedWithMultipleClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -146,6 +157,7 @@ public final class IndividuallyNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyNestedWithMultipleClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -156,6 +168,7 @@ public final class IndividuallyNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyNestedWithMultipleClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -173,6 +186,7 @@ public final class IndividuallyNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyNestedWithMultipleClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -189,6 +203,7 @@ public final class IndividuallyNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyNestedWithMultipleClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -207,6 +222,7 @@ public final class IndividuallyNestedWithMultipleClientBuilder
      */
     @Generated
     public IndividuallyNestedWithMultipleClientBuilder name(String name) {
+        this.createdHttpPipeline = null;
         this.name = name;
         return this;
     }
@@ -225,6 +241,7 @@ public final class IndividuallyNestedWithMultipleClientBuilder
      */
     @Generated
     public IndividuallyNestedWithMultipleClientBuilder region(String region) {
+        this.createdHttpPipeline = null;
         this.region = region;
         return this;
     }
@@ -243,6 +260,7 @@ public final class IndividuallyNestedWithMultipleClientBuilder
      */
     @Generated
     public IndividuallyNestedWithMultipleClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -255,7 +273,7 @@ public final class IndividuallyNestedWithMultipleClientBuilder
     @Generated
     private IndividuallyNestedWithMultipleClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         IndividuallyNestedWithMultipleClientImpl client = new IndividuallyNestedWithMultipleClientImpl(localPipeline,
             JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint, this.name, this.region);
@@ -305,6 +323,15 @@ public final class IndividuallyNestedWithMultipleClientBuilder
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of IndividuallyNestedWithMultipleAsyncClient class.
      * 
@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.clientinitialization.individuallyclient;
 
 import azure.clientgenerator.core.clientinitialization.individuallyclient.implementation.IndividuallyNestedWithPathClientImpl;
+import azure.clientgenerator.core.clientinitialization.individuallyclient.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientinitialization.individuallyclient.models.BlobProperties;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -157,7 +158,8 @@ public final class IndividuallyNestedWithPathClient {
     public BlobProperties getStandalone() {
         // Generated convenience method for getStandaloneWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getStandaloneWithResponse(requestOptions).getValue().toObject(BlobProperties.class);
+        return JsonSerializableHelper.fromBinaryData(getStandaloneWithResponse(requestOptions).getValue(),
+            BlobProperties::fromJson);
     }
 
     /**
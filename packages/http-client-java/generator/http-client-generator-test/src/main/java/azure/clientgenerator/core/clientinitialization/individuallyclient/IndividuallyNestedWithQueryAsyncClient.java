@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.clientinitialization.individuallyclient;
 
 import azure.clientgenerator.core.clientinitialization.individuallyclient.implementation.IndividuallyNestedWithQueryClientImpl;
+import azure.clientgenerator.core.clientinitialization.individuallyclient.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientinitialization.individuallyclient.models.BlobProperties;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -162,7 +163,8 @@ public final class IndividuallyNestedWithQueryAsyncClient {
         // Generated convenience method for getStandaloneWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getStandaloneWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(BlobProperties.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                BlobProperties::fromJson));
     }
 
     /**
@@ -61,6 +61,13 @@ public final class IndividuallyParentNestedWithHeaderClientBuilder
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the IndividuallyParentNestedWithHeaderClientBuilder.
      */
@@ -81,6 +88,7 @@ public final class IndividuallyParentNestedWithHeaderClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithHeaderClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -97,6 +105,7 @@ public final class IndividuallyParentNestedWithHeaderClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithHeaderClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -116,6 +125,7 @@ public final class IndividuallyParentNestedWithHeaderClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithHeaderClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -132,6 +142,7 @@ public final class IndividuallyParentNestedWithHeaderClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithHeaderClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -148,6 +159,7 @@ public final class IndividuallyParentNestedWithHeaderClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithHeaderClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -158,6 +170,7 @@ public final class IndividuallyParentNestedWithHeaderClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithHeaderClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -175,6 +188,7 @@ public final class IndividuallyParentNestedWithHeaderClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithHeaderClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -191,6 +205,7 @@ public final class IndividuallyParentNestedWithHeaderClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithHeaderClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -209,6 +224,7 @@ public final class IndividuallyParentNestedWithHeaderClientBuilder
      */
     @Generated
     public IndividuallyParentNestedWithHeaderClientBuilder name(String name) {
+        this.createdHttpPipeline = null;
         this.name = name;
         return this;
     }
@@ -227,6 +243,7 @@ public final class IndividuallyParentNestedWithHeaderClientBuilder
      */
     @Generated
     public IndividuallyParentNestedWithHeaderClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -239,7 +256,7 @@ public final class IndividuallyParentNestedWithHeaderClientBuilder
     @Generated
     private IndividuallyParentNestedWithHeaderClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         IndividuallyParentNestedWithHeaderClientImpl client = new IndividuallyParentNestedWithHeaderClientImpl(
             localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint, this.name);
@@ -288,6 +305,15 @@ public final class IndividuallyParentNestedWithHeaderClientBuilder
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of IndividuallyParentNestedWithHeaderAsyncClient class.
      * 
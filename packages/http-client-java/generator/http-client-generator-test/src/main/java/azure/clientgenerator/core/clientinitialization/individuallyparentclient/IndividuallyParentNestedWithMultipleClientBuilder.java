@@ -61,6 +61,13 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the IndividuallyParentNestedWithMultipleClientBuilder.
      */
@@ -81,6 +88,7 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithMultipleClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -97,6 +105,7 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithMultipleClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -116,6 +125,7 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithMultipleClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -132,6 +142,7 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithMultipleClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -148,6 +159,7 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithMultipleClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -158,6 +170,7 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithMultipleClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -175,6 +188,7 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithMultipleClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -191,6 +205,7 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
     @Generated
     @Override
     public IndividuallyParentNestedWithMultipleClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -209,6 +224,7 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
      */
     @Generated
     public IndividuallyParentNestedWithMultipleClientBuilder name(String name) {
+        this.createdHttpPipeline = null;
         this.name = name;
         return this;
     }
@@ -227,6 +243,7 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
      */
     @Generated
     public IndividuallyParentNestedWithMultipleClientBuilder region(String region) {
+        this.createdHttpPipeline = null;
         this.region = region;
         return this;
     }
@@ -245,6 +262,7 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
      */
     @Generated
     public IndividuallyParentNestedWithMultipleClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -257,7 +275,7 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
     @Generated
     private IndividuallyParentNestedWithMultipleClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         IndividuallyParentNestedWithMultipleClientImpl client = new IndividuallyParentNestedWithMultipleClientImpl(
             localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint, this.name, this.region);
@@ -307,6 +325,15 @@ public final class IndividuallyParentNestedWithMultipleClientBuilder
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of IndividuallyParentNestedWithMultipleAsyncClient class.
      * 
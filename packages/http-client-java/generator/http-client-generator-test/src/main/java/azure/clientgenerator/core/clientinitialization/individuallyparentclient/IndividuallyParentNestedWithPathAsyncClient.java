@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.clientinitialization.individuallyparentclient;
 
 import azure.clientgenerator.core.clientinitialization.individuallyparentclient.implementation.IndividuallyParentNestedWithPathClientImpl;
+import azure.clientgenerator.core.clientinitialization.individuallyparentclient.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientinitialization.individuallyparentclient.models.BlobProperties;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -162,7 +163,8 @@ public final class IndividuallyParentNestedWithPathAsyncClient {
         // Generated convenience method for getStandaloneWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getStandaloneWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(BlobProperties.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                BlobProperties::fromJson));
     }
 
     /**
@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.clientinitialization.individuallyparentclient;
 
 import azure.clientgenerator.core.clientinitialization.individuallyparentclient.implementation.IndividuallyParentNestedWithQueryClientImpl;
+import azure.clientgenerator.core.clientinitialization.individuallyparentclient.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientinitialization.individuallyparentclient.models.BlobProperties;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -157,7 +158,8 @@ public final class IndividuallyParentNestedWithQueryClient {
     public BlobProperties getStandalone() {
         // Generated convenience method for getStandaloneWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getStandaloneWithResponse(requestOptions).getValue().toObject(BlobProperties.class);
+        return JsonSerializableHelper.fromBinaryData(getStandaloneWithResponse(requestOptions).getValue(),
+            BlobProperties::fromJson);
     }
 
     /**
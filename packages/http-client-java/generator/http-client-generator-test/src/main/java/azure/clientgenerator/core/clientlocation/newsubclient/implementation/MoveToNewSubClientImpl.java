@@ -60,7 +60,7 @@ public final class MoveToNewSubClientImpl {
     /**
      * The ProductOperationsImpl object to access its operations.
      */
-    private final ProductOperationsImpl productOperations;
+    private volatile ProductOperationsImpl productOperations;
 
     /**
      * Gets the ProductOperationsImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class MoveToNewSubClientImpl {
      * @return the ProductOperationsImpl object.
      */
     public ProductOperationsImpl getProductOperations() {
-        return this.productOperations;
+        ProductOperationsImpl localProductOperations = this.productOperations;
+        if (localProductOperations == null) {
+            synchronized (this) {
+                localProductOperations = this.productOperations;
+                if (localProductOperations == null) {
+                    localProductOperations = new ProductOperationsImpl(this);
+                    this.productOperations = localProductOperations;
+                }
+            }
+        }
+        return localProductOperations;
     }
 
     /**
      * The ArchiveOperationsImpl object to access its operations.
      */
-    private final ArchiveOperationsImpl archiveOperations;
+    private volatile ArchiveOperationsImpl archiveOperations;
 
     /**
      * Gets the ArchiveOperationsImpl object to access its operations.
@@ -82,7 +92,17 @@ public final class MoveToNewSubClientImpl {
      * @return the ArchiveOperationsImpl object.
      */
     public ArchiveOperationsImpl getArchiveOperations() {
-        return this.archiveOperations;
+        ArchiveOperationsImpl localArchiveOperations = this.archiveOperations;
+        if (localArchiveOperations == null) {
+            synchronized (this) {
+                localArchiveOperations = this.archiveOperations;
+                if (localArchiveOperations == null) {
+                    localArchiveOperations = new ArchiveOperationsImpl(this);
+                    this.archiveOperations = localArchiveOperations;
+                }
+            }
+        }
+        return localArchiveOperations;
     }
 
     /**
@@ -116,7 +136,5 @@ public final class MoveToNewSubClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.productOperations = new ProductOperationsImpl(this);
-        this.archiveOperations = new ArchiveOperationsImpl(this);
     }
 }
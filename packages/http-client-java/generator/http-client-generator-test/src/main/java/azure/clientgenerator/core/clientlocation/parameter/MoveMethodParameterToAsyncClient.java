@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.clientlocation.parameter;
 
 import azure.clientgenerator.core.clientlocation.parameter.implementation.BlobOperationsImpl;
+import azure.clientgenerator.core.clientlocation.parameter.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientlocation.parameter.models.Blob;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -88,6 +89,6 @@ public final class MoveMethodParameterToAsyncClient {
         // Generated convenience method for getBlobWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getBlobWithResponse(container, blob, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Blob.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Blob::fromJson));
     }
 }
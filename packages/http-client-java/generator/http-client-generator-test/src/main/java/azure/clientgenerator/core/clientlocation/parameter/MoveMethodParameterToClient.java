@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.clientlocation.parameter;
 
 import azure.clientgenerator.core.clientlocation.parameter.implementation.BlobOperationsImpl;
+import azure.clientgenerator.core.clientlocation.parameter.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.clientlocation.parameter.models.Blob;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -84,6 +85,7 @@ public final class MoveMethodParameterToClient {
     public Blob getBlob(String container, String blob) {
         // Generated convenience method for getBlobWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getBlobWithResponse(container, blob, requestOptions).getValue().toObject(Blob.class);
+        return JsonSerializableHelper.fromBinaryData(getBlobWithResponse(container, blob, requestOptions).getValue(),
+            Blob::fromJson);
     }
 }
@@ -73,7 +73,7 @@ public final class MoveMethodParameterToClientImpl {
     /**
      * The BlobOperationsImpl object to access its operations.
      */
-    private final BlobOperationsImpl blobOperations;
+    private volatile BlobOperationsImpl blobOperations;
 
     /**
      * Gets the BlobOperationsImpl object to access its operations.
@@ -81,7 +81,17 @@ public final class MoveMethodParameterToClientImpl {
      * @return the BlobOperationsImpl object.
      */
     public BlobOperationsImpl getBlobOperations() {
-        return this.blobOperations;
+        BlobOperationsImpl localBlobOperations = this.blobOperations;
+        if (localBlobOperations == null) {
+            synchronized (this) {
+                localBlobOperations = this.blobOperations;
+                if (localBlobOperations == null) {
+                    localBlobOperations = new BlobOperationsImpl(this);
+                    this.blobOperations = localBlobOperations;
+                }
+            }
+        }
+        return localBlobOperations;
     }
 
     /**
@@ -120,6 +130,5 @@ public final class MoveMethodParameterToClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.storageAccount = storageAccount;
-        this.blobOperations = new BlobOperationsImpl(this);
     }
 }
@@ -83,7 +83,7 @@ public final class MoveToRootClientImpl {
     /**
      * The ResourceOperationsImpl object to access its operations.
      */
-    private final ResourceOperationsImpl resourceOperations;
+    private volatile ResourceOperationsImpl resourceOperations;
 
     /**
      * Gets the ResourceOperationsImpl object to access its operations.
@@ -91,7 +91,17 @@ public final class MoveToRootClientImpl {
      * @return the ResourceOperationsImpl object.
      */
     public ResourceOperationsImpl getResourceOperations() {
-        return this.resourceOperations;
+        ResourceOperationsImpl localResourceOperations = this.resourceOperations;
+        if (localResourceOperations == null) {
+            synchronized (this) {
+                localResourceOperations = this.resourceOperations;
+                if (localResourceOperations == null) {
+                    localResourceOperations = new ResourceOperationsImpl(this);
+                    this.resourceOperations = localResourceOperations;
+                }
+            }
+        }
+        return localResourceOperations;
     }
 
     /**
@@ -125,7 +135,6 @@ public final class MoveToRootClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.resourceOperations = new ResourceOperationsImpl(this);
         this.service = RestProxy.create(MoveToRootClientService.class, this.httpPipeline, this.getSerializerAdapter());
     }
 
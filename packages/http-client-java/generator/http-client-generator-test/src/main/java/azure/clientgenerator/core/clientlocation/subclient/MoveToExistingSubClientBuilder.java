@@ -61,6 +61,13 @@ public final class MoveToExistingSubClientBuilder implements HttpTrait<MoveToExi
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the MoveToExistingSubClientBuilder.
      */
@@ -81,6 +88,7 @@ public final class MoveToExistingSubClientBuilder implements HttpTrait<MoveToExi
     @Generated
     @Override
     public MoveToExistingSubClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -97,6 +105,7 @@ public final class MoveToExistingSubClientBuilder implements HttpTrait<MoveToExi
     @Generated
     @Override
     public MoveToExistingSubClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -116,6 +125,7 @@ public final class MoveToExistingSubClientBuilder implements HttpTrait<MoveToExi
     @Generated
     @Override
     public MoveToExistingSubClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -132,6 +142,7 @@ public final class MoveToExistingSubClientBuilder implements HttpTrait<MoveToExi
     @Generated
     @Override
     public MoveToExistingSubClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -148,6 +159,7 @@ public final class MoveToExistingSubClientBuilder implements HttpTrait<MoveToExi
     @Generated
     @Override
     public MoveToExistingSubClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -158,6 +170,7 @@ public final class MoveToExistingSubClientBuilder implements HttpTrait<MoveToExi
     @Generated
     @Override
     public MoveToExistingSubClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -175,6 +188,7 @@ public final class MoveToExistingSubClientBuilder implements HttpTrait<MoveToExi
     @Generated
     @Override
     public MoveToExistingSubClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -191,6 +205,7 @@ public final class MoveToExistingSubClientBuilder implements HttpTrait<MoveToExi
     @Generated
     @Override
     public MoveToExistingSubClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -209,6 +224,7 @@ public final class MoveToExistingSubClientBuilder implements HttpTrait<MoveToExi
      */
     @Generated
     public MoveToExistingSubClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -221,7 +237,7 @@ public final class MoveToExistingSubClientBuilder implements HttpTrait<MoveToExi
     @Generated
     private MoveToExistingSubClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         MoveToExistingSubClientImpl client = new MoveToExistingSubClientImpl(localPipeline,
             JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -269,6 +285,15 @@ public final class MoveToExistingSubClientBuilder implements HttpTrait<MoveToExi
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of AdminOperationsAsyncClient class.
      * 
@@ -60,7 +60,7 @@ public final class MoveToExistingSubClientImpl {
     /**
      * The AdminOperationsImpl object to access its operations.
      */
-    private final AdminOperationsImpl adminOperations;
+    private volatile AdminOperationsImpl adminOperations;
 
     /**
      * Gets the AdminOperationsImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class MoveToExistingSubClientImpl {
      * @return the AdminOperationsImpl object.
      */
     public AdminOperationsImpl getAdminOperations() {
-        return this.adminOperations;
+        AdminOperationsImpl localAdminOperations = this.adminOperations;
+        if (localAdminOperations == null) {
+            synchronized (this) {
+                localAdminOperations = this.adminOperations;
+                if (localAdminOperations == null) {
+                    localAdminOperations = new AdminOperationsImpl(this);
+                    this.adminOperations = localAdminOperations;
+                }
+            }
+        }
+        return localAdminOperations;
     }
 
     /**
      * The UserOperationsImpl object to access its operations.
      */
-    private final UserOperationsImpl userOperations;
+    private volatile UserOperationsImpl userOperations;
 
     /**
      * Gets the UserOperationsImpl object to access its operations.
@@ -82,7 +92,17 @@ public final class MoveToExistingSubClientImpl {
      * @return the UserOperationsImpl object.
      */
     public UserOperationsImpl getUserOperations() {
-        return this.userOperations;
+        UserOperationsImpl localUserOperations = this.userOperations;
+        if (localUserOperations == null) {
+            synchronized (this) {
+                localUserOperations = this.userOperations;
+                if (localUserOperations == null) {
+                    localUserOperations = new UserOperationsImpl(this);
+                    this.userOperations = localUserOperations;
+                }
+            }
+        }
+        return localUserOperations;
     }
 
     /**
@@ -117,7 +137,5 @@ public final class MoveToExistingSubClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.adminOperations = new AdminOperationsImpl(this);
-        this.userOperations = new UserOperationsImpl(this);
     }
 }
@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.deserialize.emptystringnull;
 
 import azure.clientgenerator.core.deserialize.emptystringnull.implementation.DeserializeEmptyStringAsNullClientImpl;
+import azure.clientgenerator.core.deserialize.emptystringnull.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.deserialize.emptystringnull.models.ResponseModel;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -80,6 +81,7 @@ public final class DeserializeEmptyStringAsNullAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ResponseModel.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                ResponseModel::fromJson));
     }
 }
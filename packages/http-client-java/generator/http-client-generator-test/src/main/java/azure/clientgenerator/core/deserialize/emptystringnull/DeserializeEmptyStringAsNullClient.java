@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.deserialize.emptystringnull;
 
 import azure.clientgenerator.core.deserialize.emptystringnull.implementation.DeserializeEmptyStringAsNullClientImpl;
+import azure.clientgenerator.core.deserialize.emptystringnull.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.deserialize.emptystringnull.models.ResponseModel;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -76,6 +77,7 @@ public final class DeserializeEmptyStringAsNullClient {
     public ResponseModel get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(ResponseModel.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            ResponseModel::fromJson);
     }
 }
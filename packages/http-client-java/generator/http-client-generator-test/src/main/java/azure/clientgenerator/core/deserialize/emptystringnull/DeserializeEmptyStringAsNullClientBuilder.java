@@ -58,6 +58,13 @@ public final class DeserializeEmptyStringAsNullClientBuilder implements
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the DeserializeEmptyStringAsNullClientBuilder.
      */
@@ -78,6 +85,7 @@ public final class DeserializeEmptyStringAsNullClientBuilder implements
     @Generated
     @Override
     public DeserializeEmptyStringAsNullClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -94,6 +102,7 @@ public final class DeserializeEmptyStringAsNullClientBuilder implements
     @Generated
     @Override
     public DeserializeEmptyStringAsNullClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -113,6 +122,7 @@ public final class DeserializeEmptyStringAsNullClientBuilder implements
     @Generated
     @Override
     public DeserializeEmptyStringAsNullClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -129,6 +139,7 @@ public final class DeserializeEmptyStringAsNullClientBuilder implements
     @Generated
     @Override
     public DeserializeEmptyStringAsNullClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -145,6 +156,7 @@ public final class DeserializeEmptyStringAsNullClientBuilder implements
     @Generated
     @Override
     public DeserializeEmptyStringAsNullClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -155,6 +167,7 @@ public final class DeserializeEmptyStringAsNullClientBuilder implements
     @Generated
     @Override
     public DeserializeEmptyStringAsNullClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -172,6 +185,7 @@ public final class DeserializeEmptyStringAsNullClientBuilder implements
     @Generated
     @Override
     public DeserializeEmptyStringAsNullClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -188,6 +202,7 @@ public final class DeserializeEmptyStringAsNullClientBuilder implements
     @Generated
     @Override
     public DeserializeEmptyStringAsNullClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -206,6 +221,7 @@ public final class DeserializeEmptyStringAsNullClientBuilder implements
      */
     @Generated
     public DeserializeEmptyStringAsNullClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -218,7 +234,7 @@ public final class DeserializeEmptyStringAsNullClientBuilder implements
     @Generated
     private DeserializeEmptyStringAsNullClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         DeserializeEmptyStringAsNullClientImpl client = new DeserializeEmptyStringAsNullClientImpl(localPipeline,
             JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -266,6 +282,15 @@ public final class DeserializeEmptyStringAsNullClientBuilder implements
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of DeserializeEmptyStringAsNullAsyncClient class.
      * 
@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.flattenproperty;
 
 import azure.clientgenerator.core.flattenproperty.implementation.FlattenPropertyClientImpl;
+import azure.clientgenerator.core.flattenproperty.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.flattenproperty.models.FlattenModel;
 import azure.clientgenerator.core.flattenproperty.models.FlattenUnknownModel;
 import azure.clientgenerator.core.flattenproperty.models.NestedFlattenModel;
@@ -243,8 +244,10 @@ public final class FlattenPropertyAsyncClient {
     public Mono<FlattenModel> putFlattenModel(FlattenModel input) {
         // Generated convenience method for putFlattenModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putFlattenModelWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(FlattenModel.class));
+        return putFlattenModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                FlattenModel::fromJson));
     }
 
     /**
@@ -264,8 +267,10 @@ public final class FlattenPropertyAsyncClient {
     public Mono<NestedFlattenModel> putNestedFlattenModel(NestedFlattenModel input) {
         // Generated convenience method for putNestedFlattenModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putNestedFlattenModelWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(NestedFlattenModel.class));
+        return putNestedFlattenModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                NestedFlattenModel::fromJson));
     }
 
     /**
@@ -285,9 +290,10 @@ public final class FlattenPropertyAsyncClient {
     public Mono<FlattenUnknownModel> putFlattenUnknownModel(FlattenUnknownModel input) {
         // Generated convenience method for putFlattenUnknownModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putFlattenUnknownModelWithResponse(BinaryData.fromObject(input), requestOptions)
+        return putFlattenUnknownModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(FlattenUnknownModel.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                FlattenUnknownModel::fromJson));
     }
 
     /**
@@ -308,8 +314,8 @@ public final class FlattenPropertyAsyncClient {
     public Mono<Solution> putFlattenReadOnlyModel(Solution body) {
         // Generated convenience method for putFlattenReadOnlyModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putFlattenReadOnlyModelWithResponse(BinaryData.fromObject(body), requestOptions)
+        return putFlattenReadOnlyModelWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Solution.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Solution::fromJson));
     }
 }
@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.flattenproperty;
 
 import azure.clientgenerator.core.flattenproperty.implementation.FlattenPropertyClientImpl;
+import azure.clientgenerator.core.flattenproperty.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.flattenproperty.models.FlattenModel;
 import azure.clientgenerator.core.flattenproperty.models.FlattenUnknownModel;
 import azure.clientgenerator.core.flattenproperty.models.NestedFlattenModel;
@@ -234,8 +235,9 @@ public final class FlattenPropertyClient {
     public FlattenModel putFlattenModel(FlattenModel input) {
         // Generated convenience method for putFlattenModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putFlattenModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue()
-            .toObject(FlattenModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            putFlattenModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue(),
+            FlattenModel::fromJson);
     }
 
     /**
@@ -255,8 +257,9 @@ public final class FlattenPropertyClient {
     public NestedFlattenModel putNestedFlattenModel(NestedFlattenModel input) {
         // Generated convenience method for putNestedFlattenModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putNestedFlattenModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue()
-            .toObject(NestedFlattenModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            putNestedFlattenModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue(),
+            NestedFlattenModel::fromJson);
     }
 
     /**
@@ -276,8 +279,9 @@ public final class FlattenPropertyClient {
     public FlattenUnknownModel putFlattenUnknownModel(FlattenUnknownModel input) {
         // Generated convenience method for putFlattenUnknownModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putFlattenUnknownModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue()
-            .toObject(FlattenUnknownModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            putFlattenUnknownModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue(),
+            FlattenUnknownModel::fromJson);
     }
 
     /**
@@ -297,7 +301,8 @@ public final class FlattenPropertyClient {
     public Solution putFlattenReadOnlyModel(Solution body) {
         // Generated convenience method for putFlattenReadOnlyModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putFlattenReadOnlyModelWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Solution.class);
+        return JsonSerializableHelper.fromBinaryData(
+            putFlattenReadOnlyModelWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Solution::fromJson);
     }
 }
@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.hierarchybuilding;
 
 import azure.clientgenerator.core.hierarchybuilding.implementation.AnimalOperationsImpl;
+import azure.clientgenerator.core.hierarchybuilding.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.hierarchybuilding.models.Animal;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -131,8 +132,9 @@ public final class AnimalOperationsAsyncClient {
     public Mono<Animal> updatePetAsAnimal(Animal animal) {
         // Generated convenience method for updatePetAsAnimalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return updatePetAsAnimalWithResponse(BinaryData.fromObject(animal), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Animal.class));
+        return updatePetAsAnimalWithResponse(JsonSerializableHelper.toBinaryData(animal), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Animal::fromJson));
     }
 
     /**
@@ -152,7 +154,8 @@ public final class AnimalOperationsAsyncClient {
     public Mono<Animal> updateDogAsAnimal(Animal animal) {
         // Generated convenience method for updateDogAsAnimalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return updateDogAsAnimalWithResponse(BinaryData.fromObject(animal), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Animal.class));
+        return updateDogAsAnimalWithResponse(JsonSerializableHelper.toBinaryData(animal), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Animal::fromJson));
     }
 }
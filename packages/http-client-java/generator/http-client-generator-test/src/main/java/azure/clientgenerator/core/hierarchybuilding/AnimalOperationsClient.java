@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.hierarchybuilding;
 
 import azure.clientgenerator.core.hierarchybuilding.implementation.AnimalOperationsImpl;
+import azure.clientgenerator.core.hierarchybuilding.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.hierarchybuilding.models.Animal;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -129,8 +130,9 @@ public final class AnimalOperationsClient {
     public Animal updatePetAsAnimal(Animal animal) {
         // Generated convenience method for updatePetAsAnimalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return updatePetAsAnimalWithResponse(BinaryData.fromObject(animal), requestOptions).getValue()
-            .toObject(Animal.class);
+        return JsonSerializableHelper.fromBinaryData(
+            updatePetAsAnimalWithResponse(JsonSerializableHelper.toBinaryData(animal), requestOptions).getValue(),
+            Animal::fromJson);
     }
 
     /**
@@ -150,7 +152,8 @@ public final class AnimalOperationsClient {
     public Animal updateDogAsAnimal(Animal animal) {
         // Generated convenience method for updateDogAsAnimalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return updateDogAsAnimalWithResponse(BinaryData.fromObject(animal), requestOptions).getValue()
-            .toObject(Animal.class);
+        return JsonSerializableHelper.fromBinaryData(
+            updateDogAsAnimalWithResponse(JsonSerializableHelper.toBinaryData(animal), requestOptions).getValue(),
+            Animal::fromJson);
     }
 }
@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.hierarchybuilding;
 
 import azure.clientgenerator.core.hierarchybuilding.implementation.DogOperationsImpl;
+import azure.clientgenerator.core.hierarchybuilding.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.hierarchybuilding.models.Dog;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -97,7 +98,8 @@ public final class DogOperationsAsyncClient {
     public Mono<Dog> updateDogAsDog(Dog dog) {
         // Generated convenience method for updateDogAsDogWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return updateDogAsDogWithResponse(BinaryData.fromObject(dog), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Dog.class));
+        return updateDogAsDogWithResponse(JsonSerializableHelper.toBinaryData(dog), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Dog::fromJson));
     }
 }
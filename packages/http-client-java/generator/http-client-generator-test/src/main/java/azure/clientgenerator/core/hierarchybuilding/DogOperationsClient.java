@@ -5,6 +5,7 @@
 package azure.clientgenerator.core.hierarchybuilding;
 
 import azure.clientgenerator.core.hierarchybuilding.implementation.DogOperationsImpl;
+import azure.clientgenerator.core.hierarchybuilding.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.hierarchybuilding.models.Dog;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -95,6 +96,8 @@ public final class DogOperationsClient {
     public Dog updateDogAsDog(Dog dog) {
         // Generated convenience method for updateDogAsDogWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return updateDogAsDogWithResponse(BinaryData.fromObject(dog), requestOptions).getValue().toObject(Dog.class);
+        return JsonSerializableHelper.fromBinaryData(
+            updateDogAsDogWithResponse(JsonSerializableHelper.toBinaryData(dog), requestOptions).getValue(),
+            Dog::fromJson);
     }
 }
@@ -63,6 +63,13 @@ public final class HierarchyBuildingClientBuilder implements HttpTrait<Hierarchy
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the HierarchyBuildingClientBuilder.
      */
@@ -83,6 +90,7 @@ public final class HierarchyBuildingClientBuilder implements HttpTrait<Hierarchy
     @Generated
     @Override
     public HierarchyBuildingClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -99,6 +107,7 @@ public final class HierarchyBuildingClientBuilder implements HttpTrait<Hierarchy
     @Generated
     @Override
     public HierarchyBuildingClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -118,6 +127,7 @@ public final class HierarchyBuildingClientBuilder implements HttpTrait<Hierarchy
     @Generated
     @Override
     public HierarchyBuildingClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -134,6 +144,7 @@ public final class HierarchyBuildingClientBuilder implements HttpTrait<Hierarchy
     @Generated
     @Override
     public HierarchyBuildingClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -150,6 +161,7 @@ public final class HierarchyBuildingClientBuilder implements HttpTrait<Hierarchy
     @Generated
     @Override
     public HierarchyBuildingClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -160,6 +172,7 @@ public final class HierarchyBuildingClientBuilder implements HttpTrait<Hierarchy
     @Generated
     @Override
     public HierarchyBuildingClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -177,6 +190,7 @@ public final class HierarchyBuildingClientBuilder implements HttpTrait<Hierarchy
     @Generated
     @Override
     public HierarchyBuildingClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -193,6 +207,7 @@ public final class HierarchyBuildingClientBuilder implements HttpTrait<Hierarchy
     @Generated
     @Override
     public HierarchyBuildingClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -211,6 +226,7 @@ public final class HierarchyBuildingClientBuilder implements HttpTrait<Hierarchy
      */
     @Generated
     public HierarchyBuildingClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -223,7 +239,7 @@ public final class HierarchyBuildingClientBuilder implements HttpTrait<Hierarchy
     @Generated
     private HierarchyBuildingClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         HierarchyBuildingClientImpl client = new HierarchyBuildingClientImpl(localPipeline,
             JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -271,6 +287,15 @@ public final class HierarchyBuildingClientBuilder implements HttpTrait<Hierarchy
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of AnimalOperationsAsyncClient class.
      * 
@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.hierarchybuilding;
 
+import azure.clientgenerator.core.hierarchybuilding.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.hierarchybuilding.implementation.PetOperationsImpl;
 import azure.clientgenerator.core.hierarchybuilding.models.Pet;
 import com.azure.core.annotation.Generated;
@@ -135,8 +136,9 @@ public final class PetOperationsAsyncClient {
     public Mono<Pet> updatePetAsPet(Pet pet) {
         // Generated convenience method for updatePetAsPetWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return updatePetAsPetWithResponse(BinaryData.fromObject(pet), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Pet.class));
+        return updatePetAsPetWithResponse(JsonSerializableHelper.toBinaryData(pet), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Pet::fromJson));
     }
 
     /**
@@ -156,7 +158,8 @@ public final class PetOperationsAsyncClient {
     public Mono<Pet> updateDogAsPet(Pet pet) {
         // Generated convenience method for updateDogAsPetWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return updateDogAsPetWithResponse(BinaryData.fromObject(pet), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Pet.class));
+        return updateDogAsPetWithResponse(JsonSerializableHelper.toBinaryData(pet), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Pet::fromJson));
     }
 }
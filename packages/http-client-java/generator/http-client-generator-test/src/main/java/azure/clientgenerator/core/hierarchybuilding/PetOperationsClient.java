@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.hierarchybuilding;
 
+import azure.clientgenerator.core.hierarchybuilding.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.hierarchybuilding.implementation.PetOperationsImpl;
 import azure.clientgenerator.core.hierarchybuilding.models.Pet;
 import com.azure.core.annotation.Generated;
@@ -133,7 +134,9 @@ public final class PetOperationsClient {
     public Pet updatePetAsPet(Pet pet) {
         // Generated convenience method for updatePetAsPetWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return updatePetAsPetWithResponse(BinaryData.fromObject(pet), requestOptions).getValue().toObject(Pet.class);
+        return JsonSerializableHelper.fromBinaryData(
+            updatePetAsPetWithResponse(JsonSerializableHelper.toBinaryData(pet), requestOptions).getValue(),
+            Pet::fromJson);
     }
 
     /**
@@ -153,6 +156,8 @@ public final class PetOperationsClient {
     public Pet updateDogAsPet(Pet pet) {
         // Generated convenience method for updateDogAsPetWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return updateDogAsPetWithResponse(BinaryData.fromObject(pet), requestOptions).getValue().toObject(Pet.class);
+        return JsonSerializableHelper.fromBinaryData(
+            updateDogAsPetWithResponse(JsonSerializableHelper.toBinaryData(pet), requestOptions).getValue(),
+            Pet::fromJson);
     }
 }
@@ -60,7 +60,7 @@ public final class HierarchyBuildingClientImpl {
     /**
      * The AnimalOperationsImpl object to access its operations.
      */
-    private final AnimalOperationsImpl animalOperations;
+    private volatile AnimalOperationsImpl animalOperations;
 
     /**
      * Gets the AnimalOperationsImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class HierarchyBuildingClientImpl {
      * @return the AnimalOperationsImpl object.
      */
     public AnimalOperationsImpl getAnimalOperations() {
-        return this.animalOperations;
+        AnimalOperationsImpl localAnimalOperations = this.animalOperations;
+        if (localAnimalOperations == null) {
+            synchronized (this) {
+                localAnimalOperations = this.animalOperations;
+                if (localAnimalOperations == null) {
+                    localAnimalOperations = new AnimalOperationsImpl(this);
+                    this.animalOperations = localAnimalOperations;
+                }
+            }
+        }
+        return localAnimalOperations;
     }
 
     /**
      * The PetOperationsImpl object to access its operations.
      */
-    private final PetOperationsImpl petOperations;
+    private volatile PetOperationsImpl petOperations;
 
     /**
      * Gets the PetOperationsImpl object to access its operations.
@@ -82,13 +92,23 @@ public final class HierarchyBuildingClientImpl {
      * @return the PetOperationsImpl object.
      */
     public PetOperationsImpl getPetOperations() {
-        return this.petOperations;
+        PetOperationsImpl localPetOperations = this.petOperations;
+        if (localPetOperations == null) {
+            synchronized (this) {
+                localPetOperations = this.petOperations;
+                if (localPetOperations == null) {
+                    localPetOperations = new PetOperationsImpl(this);
+                    this.petOperations = localPetOperations;
+                }
+            }
+        }
+        return localPetOperations;
     }
 
     /**
      * The DogOperationsImpl object to access its operations.
      */
-    private final DogOperationsImpl dogOperations;
+    private volatile DogOperationsImpl dogOperations;
 
     /**
      * Gets the DogOperationsImpl object to access its operations.
@@ -96,7 +116,17 @@ public final class HierarchyBuildingClientImpl {
      * @return the DogOperationsImpl object.
      */
     public DogOperationsImpl getDogOperations() {
-        return this.dogOperations;
+        DogOperationsImpl localDogOperations = this.dogOperations;
+        if (localDogOperations == null) {
+            synchronized (this) {
+                localDogOperations = this.dogOperations;
+                if (localDogOperations == null) {
+                    localDogOperations = new DogOperationsImpl(this);
+                    this.dogOperations = localDogOperations;
+                }
+            }
+        }
+        return localDogOperations;
     }
 
     /**
@@ -131,8 +161,5 @@ public final class HierarchyBuildingClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.animalOperations = new AnimalOperationsImpl(this);
-        this.petOperations = new PetOperationsImpl(this);
-        this.dogOperations = new DogOperationsImpl(this);
     }
 }
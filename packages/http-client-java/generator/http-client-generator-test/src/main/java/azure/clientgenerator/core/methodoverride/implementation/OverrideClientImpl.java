@@ -60,7 +60,7 @@ public final class OverrideClientImpl {
     /**
      * The ReorderParametersImpl object to access its operations.
      */
-    private final ReorderParametersImpl reorderParameters;
+    private volatile ReorderParametersImpl reorderParameters;
 
     /**
      * Gets the ReorderParametersImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class OverrideClientImpl {
      * @return the ReorderParametersImpl object.
      */
     public ReorderParametersImpl getReorderParameters() {
-        return this.reorderParameters;
+        ReorderParametersImpl localReorderParameters = this.reorderParameters;
+        if (localReorderParameters == null) {
+            synchronized (this) {
+                localReorderParameters = this.reorderParameters;
+                if (localReorderParameters == null) {
+                    localReorderParameters = new ReorderParametersImpl(this);
+                    this.reorderParameters = localReorderParameters;
+                }
+            }
+        }
+        return localReorderParameters;
     }
 
     /**
      * The GroupParametersImpl object to access its operations.
      */
-    private final GroupParametersImpl groupParameters;
+    private volatile GroupParametersImpl groupParameters;
 
     /**
      * Gets the GroupParametersImpl object to access its operations.
@@ -82,13 +92,23 @@ public final class OverrideClientImpl {
      * @return the GroupParametersImpl object.
      */
     public GroupParametersImpl getGroupParameters() {
-        return this.groupParameters;
+        GroupParametersImpl localGroupParameters = this.groupParameters;
+        if (localGroupParameters == null) {
+            synchronized (this) {
+                localGroupParameters = this.groupParameters;
+                if (localGroupParameters == null) {
+                    localGroupParameters = new GroupParametersImpl(this);
+                    this.groupParameters = localGroupParameters;
+                }
+            }
+        }
+        return localGroupParameters;
     }
 
     /**
      * The RequireOptionalParametersImpl object to access its operations.
      */
-    private final RequireOptionalParametersImpl requireOptionalParameters;
+    private volatile RequireOptionalParametersImpl requireOptionalParameters;
 
     /**
      * Gets the RequireOptionalParametersImpl object to access its operations.
@@ -96,13 +116,23 @@ public final class OverrideClientImpl {
      * @return the RequireOptionalParametersImpl object.
      */
     public RequireOptionalParametersImpl getRequireOptionalParameters() {
-        return this.requireOptionalParameters;
+        RequireOptionalParametersImpl localRequireOptionalParameters = this.requireOptionalParameters;
+        if (localRequireOptionalParameters == null) {
+            synchronized (this) {
+                localRequireOptionalParameters = this.requireOptionalParameters;
+                if (localRequireOptionalParameters == null) {
+                    localRequireOptionalParameters = new RequireOptionalParametersImpl(this);
+                    this.requireOptionalParameters = localRequireOptionalParameters;
+                }
+            }
+        }
+        return localRequireOptionalParameters;
     }
 
     /**
      * The RemoveOptionalParametersImpl object to access its operations.
      */
-    private final RemoveOptionalParametersImpl removeOptionalParameters;
+    private volatile RemoveOptionalParametersImpl removeOptionalParameters;
 
     /**
      * Gets the RemoveOptionalParametersImpl object to access its operations.
@@ -110,7 +140,17 @@ public final class OverrideClientImpl {
      * @return the RemoveOptionalParametersImpl object.
      */
     public RemoveOptionalParametersImpl getRemoveOptionalParameters() {
-        return this.removeOptionalParameters;
+        RemoveOptionalParametersImpl localRemoveOptionalParameters = this.removeOptionalParameters;
+        if (localRemoveOptionalParameters == null) {
+            synchronized (this) {
+                localRemoveOptionalParameters = this.removeOptionalParameters;
+                if (localRemoveOptionalParameters == null) {
+                    localRemoveOptionalParameters = new RemoveOptionalParametersImpl(this);
+                    this.removeOptionalParameters = localRemoveOptionalParameters;
+                }
+            }
+        }
+        return localRemoveOptionalParameters;
     }
 
     /**
@@ -144,9 +184,5 @@ public final class OverrideClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.reorderParameters = new ReorderParametersImpl(this);
-        this.groupParameters = new GroupParametersImpl(this);
-        this.requireOptionalParameters = new RequireOptionalParametersImpl(this);
-        this.removeOptionalParameters = new RemoveOptionalParametersImpl(this);
     }
 }
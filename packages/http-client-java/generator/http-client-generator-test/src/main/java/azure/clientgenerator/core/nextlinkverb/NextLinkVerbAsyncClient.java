@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.nextlinkverb;
 
+import azure.clientgenerator.core.nextlinkverb.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.nextlinkverb.implementation.NextLinkVerbClientImpl;
 import azure.clientgenerator.core.nextlinkverb.models.Test;
 import com.azure.core.annotation.Generated;
@@ -89,7 +90,8 @@ public final class NextLinkVerbAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(Test.class))
+                    .map(
+                        protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Test::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
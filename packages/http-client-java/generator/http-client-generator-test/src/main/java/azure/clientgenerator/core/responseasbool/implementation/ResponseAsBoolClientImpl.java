@@ -60,7 +60,7 @@ public final class ResponseAsBoolClientImpl {
     /**
      * The HeadAsBooleansImpl object to access its operations.
      */
-    private final HeadAsBooleansImpl headAsBooleans;
+    private volatile HeadAsBooleansImpl headAsBooleans;
 
     /**
      * Gets the HeadAsBooleansImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class ResponseAsBoolClientImpl {
      * @return the HeadAsBooleansImpl object.
      */
     public HeadAsBooleansImpl getHeadAsBooleans() {
-        return this.headAsBooleans;
+        HeadAsBooleansImpl localHeadAsBooleans = this.headAsBooleans;
+        if (localHeadAsBooleans == null) {
+            synchronized (this) {
+                localHeadAsBooleans = this.headAsBooleans;
+                if (localHeadAsBooleans == null) {
+                    localHeadAsBooleans = new HeadAsBooleansImpl(this);
+                    this.headAsBooleans = localHeadAsBooleans;
+                }
+            }
+        }
+        return localHeadAsBooleans;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class ResponseAsBoolClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.headAsBooleans = new HeadAsBooleansImpl(this);
     }
 }
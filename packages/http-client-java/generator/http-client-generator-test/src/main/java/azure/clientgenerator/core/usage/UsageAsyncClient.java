@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.usage;
 
+import azure.clientgenerator.core.usage.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.usage.implementation.ModelInOperationsImpl;
 import azure.clientgenerator.core.usage.models.InputModel;
 import azure.clientgenerator.core.usage.models.OutputModel;
@@ -211,7 +212,8 @@ public final class UsageAsyncClient {
     public Mono<Void> inputToInputOutput(InputModel body) {
         // Generated convenience method for inputToInputOutputWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return inputToInputOutputWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return inputToInputOutputWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -235,7 +237,8 @@ public final class UsageAsyncClient {
         // Generated convenience method for outputToInputOutputWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return outputToInputOutputWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(OutputModel.class));
+            .map(
+                protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, OutputModel::fromJson));
     }
 
     /**
@@ -270,8 +273,9 @@ public final class UsageAsyncClient {
     public Mono<RoundTripModel> modelInReadOnlyProperty(RoundTripModel body) {
         // Generated convenience method for modelInReadOnlyPropertyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return modelInReadOnlyPropertyWithResponse(BinaryData.fromObject(body), requestOptions)
+        return modelInReadOnlyPropertyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(RoundTripModel.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                RoundTripModel::fromJson));
     }
 }
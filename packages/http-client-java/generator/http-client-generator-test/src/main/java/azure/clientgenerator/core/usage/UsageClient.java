@@ -4,6 +4,7 @@
 
 package azure.clientgenerator.core.usage;
 
+import azure.clientgenerator.core.usage.implementation.JsonSerializableHelper;
 import azure.clientgenerator.core.usage.implementation.ModelInOperationsImpl;
 import azure.clientgenerator.core.usage.models.InputModel;
 import azure.clientgenerator.core.usage.models.OutputModel;
@@ -207,7 +208,7 @@ public final class UsageClient {
     public void inputToInputOutput(InputModel body) {
         // Generated convenience method for inputToInputOutputWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        inputToInputOutputWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        inputToInputOutputWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -230,7 +231,8 @@ public final class UsageClient {
     public OutputModel outputToInputOutput() {
         // Generated convenience method for outputToInputOutputWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return outputToInputOutputWithResponse(requestOptions).getValue().toObject(OutputModel.class);
+        return JsonSerializableHelper.fromBinaryData(outputToInputOutputWithResponse(requestOptions).getValue(),
+            OutputModel::fromJson);
     }
 
     /**
@@ -265,7 +267,8 @@ public final class UsageClient {
     public RoundTripModel modelInReadOnlyProperty(RoundTripModel body) {
         // Generated convenience method for modelInReadOnlyPropertyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return modelInReadOnlyPropertyWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(RoundTripModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            modelInReadOnlyPropertyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            RoundTripModel::fromJson);
     }
 }
@@ -60,7 +60,7 @@ public final class UsageClientImpl {
     /**
      * The ModelInOperationsImpl object to access its operations.
      */
-    private final ModelInOperationsImpl modelInOperations;
+    private volatile ModelInOperationsImpl modelInOperations;
 
     /**
      * Gets the ModelInOperationsImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class UsageClientImpl {
      * @return the ModelInOperationsImpl object.
      */
     public ModelInOperationsImpl getModelInOperations() {
-        return this.modelInOperations;
+        ModelInOperationsImpl localModelInOperations = this.modelInOperations;
+        if (localModelInOperations == null) {
+            synchronized (this) {
+                localModelInOperations = this.modelInOperations;
+                if (localModelInOperations == null) {
+                    localModelInOperations = new ModelInOperationsImpl(this);
+                    this.modelInOperations = localModelInOperations;
+                }
+            }
+        }
+        return localModelInOperations;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class UsageClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.modelInOperations = new ModelInOperationsImpl(this);
     }
 }
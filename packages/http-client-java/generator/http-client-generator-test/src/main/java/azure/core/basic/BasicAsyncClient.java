@@ -6,6 +6,7 @@ package azure.core.basic;
 
 import azure.core.basic.implementation.BasicClientImpl;
 import azure.core.basic.implementation.JsonMergePatchHelper;
+import azure.core.basic.implementation.JsonSerializableHelper;
 import azure.core.basic.models.User;
 import azure.core.basic.models.UserList;
 import com.azure.core.annotation.Generated;
@@ -371,13 +372,10 @@ public final class BasicAsyncClient {
     public Mono<User> createOrUpdate(int id, User resource) {
         // Generated convenience method for createOrUpdateWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getUserAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        resourceInBinaryData.getLength();
-        JsonMergePatchHelper.getUserAccessor().prepareModelForJsonMergePatch(resource, false);
+        BinaryData resourceInBinaryData
+            = JsonSerializableHelper.toBinaryData(resource, JsonMergePatchHelper.getUserAccessor()::toJsonMergePatch);
         return createOrUpdateWithResponse(id, resourceInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(User.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson));
     }
 
     /**
@@ -400,9 +398,9 @@ public final class BasicAsyncClient {
     public Mono<User> createOrReplace(int id, User resource) {
         // Generated convenience method for createOrReplaceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return createOrReplaceWithResponse(id, BinaryData.fromObject(resource), requestOptions)
+        return createOrReplaceWithResponse(id, JsonSerializableHelper.toBinaryData(resource), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(User.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson));
     }
 
     /**
@@ -427,7 +425,7 @@ public final class BasicAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(id, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(User.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson));
     }
 
     /**
@@ -494,7 +492,8 @@ public final class BasicAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(User.class))
+                    .map(
+                        protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
@@ -526,7 +525,8 @@ public final class BasicAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(User.class))
+                    .map(
+                        protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
@@ -575,7 +575,7 @@ public final class BasicAsyncClient {
         // Generated convenience method for exportWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return exportWithResponse(id, format, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(User.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson));
     }
 
     /**
@@ -598,6 +598,6 @@ public final class BasicAsyncClient {
         // Generated convenience method for exportAllUsersWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return exportAllUsersWithResponse(format, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(UserList.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, UserList::fromJson));
     }
 }
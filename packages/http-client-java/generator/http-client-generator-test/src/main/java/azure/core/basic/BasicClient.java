@@ -6,6 +6,7 @@ package azure.core.basic;
 
 import azure.core.basic.implementation.BasicClientImpl;
 import azure.core.basic.implementation.JsonMergePatchHelper;
+import azure.core.basic.implementation.JsonSerializableHelper;
 import azure.core.basic.models.User;
 import azure.core.basic.models.UserList;
 import com.azure.core.annotation.Generated;
@@ -364,12 +365,10 @@ public final class BasicClient {
     public User createOrUpdate(int id, User resource) {
         // Generated convenience method for createOrUpdateWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getUserAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        resourceInBinaryData.getLength();
-        JsonMergePatchHelper.getUserAccessor().prepareModelForJsonMergePatch(resource, false);
-        return createOrUpdateWithResponse(id, resourceInBinaryData, requestOptions).getValue().toObject(User.class);
+        BinaryData resourceInBinaryData
+            = JsonSerializableHelper.toBinaryData(resource, JsonMergePatchHelper.getUserAccessor()::toJsonMergePatch);
+        return JsonSerializableHelper.fromBinaryData(
+            createOrUpdateWithResponse(id, resourceInBinaryData, requestOptions).getValue(), User::fromJson);
     }
 
     /**
@@ -392,8 +391,9 @@ public final class BasicClient {
     public User createOrReplace(int id, User resource) {
         // Generated convenience method for createOrReplaceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return createOrReplaceWithResponse(id, BinaryData.fromObject(resource), requestOptions).getValue()
-            .toObject(User.class);
+        return JsonSerializableHelper.fromBinaryData(
+            createOrReplaceWithResponse(id, JsonSerializableHelper.toBinaryData(resource), requestOptions).getValue(),
+            User::fromJson);
     }
 
     /**
@@ -417,7 +417,7 @@ public final class BasicClient {
     public User get(int id) {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(id, requestOptions).getValue().toObject(User.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(id, requestOptions).getValue(), User::fromJson);
     }
 
     /**
@@ -539,7 +539,8 @@ public final class BasicClient {
     public User export(int id, String format) {
         // Generated convenience method for exportWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return exportWithResponse(id, format, requestOptions).getValue().toObject(User.class);
+        return JsonSerializableHelper.fromBinaryData(exportWithResponse(id, format, requestOptions).getValue(),
+            User::fromJson);
     }
 
     /**
@@ -561,6 +562,7 @@ public final class BasicClient {
     public UserList exportAllUsers(String format) {
         // Generated convenience method for exportAllUsersWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return exportAllUsersWithResponse(format, requestOptions).getValue().toObject(UserList.class);
+        return JsonSerializableHelper.fromBinaryData(exportAllUsersWithResponse(format, requestOptions).getValue(),
+            UserList::fromJson);
     }
 }
@@ -55,6 +55,13 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the BasicClientBuilder.
      */
@@ -75,6 +82,7 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
     @Generated
     @Override
     public BasicClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -91,6 +99,7 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
     @Generated
     @Override
     public BasicClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -110,6 +119,7 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
     @Generated
     @Override
     public BasicClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -126,6 +136,7 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
     @Generated
     @Override
     public BasicClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -142,6 +153,7 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
     @Generated
     @Override
     public BasicClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -152,6 +164,7 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
     @Generated
     @Override
     public BasicClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -169,6 +182,7 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
     @Generated
     @Override
     public BasicClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -185,6 +199,7 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
     @Generated
     @Override
     public BasicClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -203,6 +218,7 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
      */
     @Generated
     public BasicClientBuilder serviceVersion(BasicServiceVersion serviceVersion) {
+        this.createdHttpPipeline = null;
         this.serviceVersion = serviceVersion;
         return this;
     }
@@ -221,10 +237,32 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
      */
     @Generated
     public BasicClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
 
+    /*
+     * The cache of GET responses, revalidated by conditional requests. A cache of 16 MB is used by default, a cache of
+     * 0 bytes disables it.
+     */
+    @Generated
+    private ConditionalRequestCachePolicy conditionalRequestCache;
+
+    /**
+     * Sets The cache of GET responses, revalidated by conditional requests. A cache of 16 MB is used by default, a
+     * cache of 0 bytes disables it.
+     * 
+     * @param conditionalRequestCache the conditionalRequestCache value.
+     * @return the BasicClientBuilder.
+     */
+    @Generated
+    public BasicClientBuilder conditionalRequestCache(ConditionalRequestCachePolicy conditionalRequestCache) {
+        this.createdHttpPipeline = null;
+        this.conditionalRequestCache = conditionalRequestCache;
+        return this;
+    }
+
     /**
      * Builds an instance of BasicClientImpl with the provided parameters.
      * 
@@ -233,7 +271,7 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
     @Generated
     private BasicClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         BasicServiceVersion localServiceVersion
             = (serviceVersion != null) ? serviceVersion : BasicServiceVersion.getLatest();
@@ -255,6 +293,7 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
         HttpLogOptions localHttpLogOptions = this.httpLogOptions == null ? new HttpLogOptions() : this.httpLogOptions;
         ClientOptions localClientOptions = this.clientOptions == null ? new ClientOptions() : this.clientOptions;
         List<HttpPipelinePolicy> policies = new ArrayList<>();
+        policies.add(conditionalRequestCache != null ? conditionalRequestCache : new ConditionalRequestCachePolicy());
         String clientName = PROPERTIES.getOrDefault(SDK_NAME, "UnknownName");
         String clientVersion = PROPERTIES.getOrDefault(SDK_VERSION, "UnknownVersion");
         String applicationId = CoreUtils.getApplicationId(localClientOptions, localHttpLogOptions);
@@ -283,6 +322,15 @@ public final class BasicClientBuilder implements HttpTrait<BasicClientBuilder>,
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of BasicAsyncClient class.
      * 
@@ -0,0 +1,429 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package azure.core.basic;
+
+import com.azure.core.http.HttpHeader;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpPipelineNextSyncPolicy;
+import com.azure.core.http.HttpPipelinePosition;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.util.BinaryData;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// DO NOT modify this helper class
+
+/**
+ * Caches the bodies of GET responses that carry an ETag or a Last-Modified header, and revalidates them with
+ * conditional requests.
+ * <p>
+ * The responses are cached by the URL and the headers of the request, e.g. "Accept" and the header parameters of the
+ * operation. The client builder adds the policy first in the pipeline, so that the headers added by the other
+ * policies, e.g. "x-ms-client-request-id", are not part of the key.
+ * <p>
+ * A GET request that matches an entry in the cache is sent with "If-None-Match" (or "If-Modified-Since", if the
+ * response had no ETag). A "304 Not Modified" response is then served from the cache, so that an unchanged resource is
+ * not downloaded again, and its headers update the headers of the entry. Any other response replaces or removes the
+ * entry. A request of other method to the URL removes the entries of the URL.
+ * <p>
+ * The cache is an LRU, bounded by the total size of the cached bodies. Only responses of known Content-Length within
+ * the bound are cached. A cache of 0 bytes disables the policy. Requests that already carry a conditional or a range
+ * header are sent as-is.
+ * <p>
+ * The policy is set on the client builder, and the hits and misses can be read from it.
+ */
+public final class ConditionalRequestCachePolicy implements HttpPipelinePolicy {
+
+    private static final long DEFAULT_MAX_SIZE_IN_BYTES = 16L * 1024 * 1024;
+
+    private final long maxSizeInBytes;
+    // access-ordered, guarded by itself
+    private final LinkedHashMap<CacheKey, CachedResponse> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeInBytes;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Creates the policy, with a cache of 16 MB.
+     */
+    public ConditionalRequestCachePolicy() {
+        this(DEFAULT_MAX_SIZE_IN_BYTES);
+    }
+
+    /**
+     * Creates the policy.
+     *
+     * @param maxSizeInBytes the maximum total size of the cached response bodies, 0 to disable the cache.
+     */
+    public ConditionalRequestCachePolicy(long maxSizeInBytes) {
+        if (maxSizeInBytes < 0) {
+            throw new IllegalArgumentException("'maxSizeInBytes' cannot be negative.");
+        }
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    /**
+     * Gets the number of GET requests served from the cache, on "304 Not Modified" response.
+     *
+     * @return the number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of GET requests not served from the cache.
+     *
+     * @return the number of cache misses.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the ratio of cache hits to all the GET requests handled by the cache.
+     *
+     * @return the hit rate, or 0 if there is no request yet.
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Gets the total size of the cached response bodies.
+     *
+     * @return the size in bytes.
+     */
+    public long getSizeInBytes() {
+        synchronized (cache) {
+            return sizeInBytes;
+        }
+    }
+
+    @Override
+    public HttpPipelinePosition getPipelinePosition() {
+        return HttpPipelinePosition.PER_CALL;
+    }
+
+    @Override
+    public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+        HttpRequest request = context.getHttpRequest();
+        if (!isCacheable(request)) {
+            return next.process();
+        }
+        CacheKey key = new CacheKey(request);
+        CachedResponse cached = prepareRequest(request, key);
+        return next.process().flatMap(response -> {
+            if (cached != null && response.getStatusCode() == 304) {
+                return Mono.just(revalidate(key, cached, response).toResponse(request));
+            }
+            missCount.incrementAndGet();
+            if (!isStorable(response)) {
+                remove(key);
+                return Mono.just(response);
+            }
+            HttpHeaders headers = response.getHeaders();
+            int statusCode = response.getStatusCode();
+            return response.getBodyAsByteArray()
+                .defaultIfEmpty(new byte[0])
+                .map(body -> store(key, new CachedResponse(statusCode, headers, body)).toResponse(request));
+        });
+    }
+
+    @Override
+    public HttpResponse processSync(HttpPipelineCallContext context, HttpPipelineNextSyncPolicy next) {
+        HttpRequest request = context.getHttpRequest();
+        if (!isCacheable(request)) {
+            return next.processSync();
+        }
+        CacheKey key = new CacheKey(request);
+        CachedResponse cached = prepareRequest(request, key);
+        HttpResponse response = next.processSync();
+        if (cached != null && response.getStatusCode() == 304) {
+            return revalidate(key, cached, response).toResponse(request);
+        }
+        missCount.incrementAndGet();
+        if (!isStorable(response)) {
+            remove(key);
+            return response;
+        }
+        HttpHeaders headers = response.getHeaders();
+        int statusCode = response.getStatusCode();
+        byte[] body;
+        try (HttpResponse closeable = response) {
+            BinaryData data = closeable.getBodyAsBinaryData();
+            body = data == null ? new byte[0] : data.toBytes();
+        }
+        return store(key, new CachedResponse(statusCode, headers, body)).toResponse(request);
+    }
+
+    /*
+     * Checks whether the request is handled by the cache. A request of other method invalidates the cached responses
+     * of the URL.
+     */
+    private boolean isCacheable(HttpRequest request) {
+        if (maxSizeInBytes == 0) {
+            return false;
+        }
+        if (request.getHttpMethod() != HttpMethod.GET) {
+            if (request.getHttpMethod() != HttpMethod.HEAD && request.getHttpMethod() != HttpMethod.OPTIONS) {
+                removeUrl(request.getUrl().toString());
+            }
+            return false;
+        }
+        HttpHeaders headers = request.getHeaders();
+        return headers.getValue(HttpHeaderName.IF_NONE_MATCH) == null
+            && headers.getValue(HttpHeaderName.IF_MODIFIED_SINCE) == null
+            && headers.getValue(HttpHeaderName.IF_MATCH) == null
+            && headers.getValue(HttpHeaderName.IF_UNMODIFIED_SINCE) == null
+            && headers.getValue(HttpHeaderName.RANGE) == null;
+    }
+
+    /*
+     * Adds the conditional header to the request, if the URL is in the cache. Returns the cached response.
+     */
+    private CachedResponse prepareRequest(HttpRequest request, CacheKey key) {
+        CachedResponse cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null) {
+            if (cached.eTag != null) {
+                request.setHeader(HttpHeaderName.IF_NONE_MATCH, cached.eTag);
+            } else {
+                request.setHeader(HttpHeaderName.IF_MODIFIED_SINCE, cached.lastModified);
+            }
+        }
+        return cached;
+    }
+
+    /*
+     * Serves the "304 Not Modified" response from the cached response. The headers of the 304 response, e.g. a new
+     * ETag, replace the ones of the cached response, except for the headers of the body.
+     */
+    private CachedResponse revalidate(CacheKey key, CachedResponse cached, HttpResponse response) {
+        HttpHeaders headers = new HttpHeaders(cached.headers);
+        for (HttpHeader header : response.getHeaders()) {
+            HttpHeaderName name = HttpHeaderName.fromString(header.getName());
+            if (name != HttpHeaderName.CONTENT_LENGTH
+                && name != HttpHeaderName.CONTENT_TYPE
+                && name != HttpHeaderName.CONTENT_ENCODING
+                && name != HttpHeaderName.TRANSFER_ENCODING) {
+                headers.set(name, header.getValuesList());
+            }
+        }
+        response.close();
+        hitCount.incrementAndGet();
+
+        CachedResponse revalidated = new CachedResponse(cached.statusCode, headers, cached.body);
+        synchronized (cache) {
+            // replaced in place, unless the entry was removed or replaced meanwhile
+            cache.replace(key, cached, revalidated);
+        }
+        return revalidated;
+    }
+
+    private boolean isStorable(HttpResponse response) {
+        if (response.getStatusCode() != 200) {
+            return false;
+        }
+        HttpHeaders headers = response.getHeaders();
+        if (headers.getValue(HttpHeaderName.ETAG) == null && headers.getValue(HttpHeaderName.LAST_MODIFIED) == null) {
+            return false;
+        }
+        String cacheControl = headers.getValue(HttpHeaderName.CACHE_CONTROL);
+        if (cacheControl != null && cacheControl.contains("no-store")) {
+            return false;
+        }
+        // the body is buffered only if its size is known, and it fits in the cache
+        String contentLength = headers.getValue(HttpHeaderName.CONTENT_LENGTH);
+        if (contentLength == null) {
+            return false;
+        }
+        try {
+            long length = Long.parseLong(contentLength.trim());
+            return length >= 0 && length <= maxSizeInBytes;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private CachedResponse store(CacheKey key, CachedResponse response) {
+        if (response.body.length > maxSizeInBytes) {
+            remove(key);
+            return response;
+        }
+        synchronized (cache) {
+            CachedResponse previous = cache.put(key, response);
+            if (previous != null) {
+                sizeInBytes -= previous.body.length;
+            }
+            sizeInBytes += response.body.length;
+            Iterator<CachedResponse> iterator = cache.values().iterator();
+            while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+                sizeInBytes -= iterator.next().body.length;
+                iterator.remove();
+            }
+        }
+        return response;
+    }
+
+    private void remove(CacheKey key) {
+        synchronized (cache) {
+            CachedResponse previous = cache.remove(key);
+            if (previous != null) {
+                sizeInBytes -= previous.body.length;
+            }
+        }
+    }
+
+    private void removeUrl(String url) {
+        synchronized (cache) {
+            Iterator<Map.Entry<CacheKey, CachedResponse>> iterator = cache.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<CacheKey, CachedResponse> entry = iterator.next();
+                if (entry.getKey().url.equals(url)) {
+                    sizeInBytes -= entry.getValue().body.length;
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    // the URL and the headers of the request, the header names are case-insensitive
+    private static final class CacheKey {
+        private final String url;
+        private final Map<String, String> headers = new TreeMap<>();
+
+        private CacheKey(HttpRequest request) {
+            this.url = request.getUrl().toString();
+            for (HttpHeader header : request.getHeaders()) {
+                headers.put(header.getName().toLowerCase(Locale.ROOT), header.getValue());
+            }
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return url.equals(other.url) && headers.equals(other.headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, headers);
+        }
+    }
+
+    private static final class CachedResponse {
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;
+        private final String eTag;
+        private final String lastModified;
+
+        private CachedResponse(int statusCode, HttpHeaders headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.headers = new HttpHeaders(headers);
+            this.body = body;
+            this.eTag = headers.getValue(HttpHeaderName.ETAG);
+            this.lastModified = headers.getValue(HttpHeaderName.LAST_MODIFIED);
+        }
+
+        private HttpResponse toResponse(HttpRequest request) {
+            return new CachedHttpResponse(request, statusCode, new HttpHeaders(headers), body);
+        }
+    }
+
+    // the body is shared by the responses of the cached entry, it is only exposed as a copy or a read-only view
+    private static final class CachedHttpResponse extends HttpResponse {
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        private CachedHttpResponse(HttpRequest request, int statusCode, HttpHeaders headers, byte[] body) {
+            super(request);
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        @Deprecated
+        public String getHeaderValue(String name) {
+            return headers.getValue(HttpHeaderName.fromString(name));
+        }
+
+        @Override
+        public String getHeaderValue(HttpHeaderName headerName) {
+            return headers.getValue(headerName);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return Flux.defer(() -> Flux.just(ByteBuffer.wrap(body).asReadOnlyBuffer()));
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return Mono.fromSupplier(body::clone);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return getBodyAsString(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return Mono.fromSupplier(() -> new String(body, charset));
+        }
+
+        @Override
+        public BinaryData getBodyAsBinaryData() {
+            // BinaryData exposes its bytes without copying
+            return BinaryData.fromBytes(body.clone());
+        }
+
+        @Override
+        public HttpResponse buffer() {
+            return this;
+        }
+    }
+}
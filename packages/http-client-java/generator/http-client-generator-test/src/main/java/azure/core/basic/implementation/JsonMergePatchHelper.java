@@ -6,6 +6,8 @@ package azure.core.basic.implementation;
 
 import azure.core.basic.models.User;
 import azure.core.basic.models.UserOrder;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
 
 /**
  * This is the Helper class to enable json merge patch serialization for a model.
@@ -17,6 +19,8 @@ public class JsonMergePatchHelper {
         User prepareModelForJsonMergePatch(User user, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(User user);
+
+        JsonWriter toJsonMergePatch(User user, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setUserAccessor(UserAccessor accessor) {
@@ -33,6 +37,8 @@ public class JsonMergePatchHelper {
         UserOrder prepareModelForJsonMergePatch(UserOrder userOrder, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(UserOrder userOrder);
+
+        JsonWriter toJsonMergePatch(UserOrder userOrder, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setUserOrderAccessor(UserOrderAccessor accessor) {
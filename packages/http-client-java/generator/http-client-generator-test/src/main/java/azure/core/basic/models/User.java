@@ -71,6 +71,11 @@ public final class User implements JsonSerializable<User> {
             public boolean isJsonMergePatch(User model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(User model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
@@ -159,7 +164,7 @@ public final class User implements JsonSerializable<User> {
         } else {
             jsonWriter.writeStartObject();
             jsonWriter.writeStringField("name", this.name);
-            jsonWriter.writeArrayField("orders", this.orders, (writer, element) -> writer.writeJson(element));
+            jsonWriter.writeArrayField("orders", this.orders, JsonWriter::writeJson);
             return jsonWriter.writeEndObject();
         }
     }
@@ -178,7 +183,7 @@ public final class User implements JsonSerializable<User> {
             if (this.orders == null) {
                 jsonWriter.writeNullField("orders");
             } else {
-                jsonWriter.writeArrayField("orders", this.orders, (writer, element) -> writer.writeJson(element));
+                jsonWriter.writeArrayField("orders", this.orders, JsonWriter::writeJson);
             }
         }
         return jsonWriter.writeEndObject();
@@ -208,7 +213,7 @@ public final class User implements JsonSerializable<User> {
                 } else if ("name".equals(fieldName)) {
                     deserializedUser.name = reader.getString();
                 } else if ("orders".equals(fieldName)) {
-                    List<UserOrder> orders = reader.readArray(reader1 -> UserOrder.fromJson(reader1));
+                    List<UserOrder> orders = reader.readArray(UserOrder::fromJson);
                     deserializedUser.orders = orders;
                 } else {
                     reader.skipChildren();
@@ -51,7 +51,7 @@ public final class UserList implements JsonSerializable<UserList> {
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("users", this.users, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("users", this.users, JsonWriter::writeJson);
         return jsonWriter.writeEndObject();
     }
 
@@ -73,7 +73,7 @@ public final class UserList implements JsonSerializable<UserList> {
                 reader.nextToken();
 
                 if ("users".equals(fieldName)) {
-                    users = reader.readArray(reader1 -> User.fromJson(reader1));
+                    users = reader.readArray(User::fromJson);
                 } else {
                     reader.skipChildren();
                 }
@@ -64,6 +64,11 @@ public final class UserOrder implements JsonSerializable<UserOrder> {
             public boolean isJsonMergePatch(UserOrder model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(UserOrder model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
@@ -4,6 +4,7 @@
 
 package azure.core.lro.rpc;
 
+import azure.core.lro.rpc.implementation.JsonSerializableHelper;
 import azure.core.lro.rpc.implementation.RpcClientImpl;
 import azure.core.lro.rpc.models.GenerationOptions;
 import azure.core.lro.rpc.models.GenerationResult;
@@ -107,6 +108,7 @@ public final class RpcAsyncClient {
     public PollerFlux<PollOperationDetails, GenerationResult> beginLongRunningRpc(GenerationOptions body) {
         // Generated convenience method for beginLongRunningRpcWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginLongRunningRpcWithModelAsync(BinaryData.fromObject(body), requestOptions);
+        return serviceClient.beginLongRunningRpcWithModelAsync(JsonSerializableHelper.toBinaryData(body),
+            requestOptions);
     }
 }
@@ -4,6 +4,7 @@
 
 package azure.core.lro.rpc;
 
+import azure.core.lro.rpc.implementation.JsonSerializableHelper;
 import azure.core.lro.rpc.implementation.RpcClientImpl;
 import azure.core.lro.rpc.models.GenerationOptions;
 import azure.core.lro.rpc.models.GenerationResult;
@@ -107,6 +108,6 @@ public final class RpcClient {
     public SyncPoller<PollOperationDetails, GenerationResult> beginLongRunningRpc(GenerationOptions body) {
         // Generated convenience method for beginLongRunningRpcWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginLongRunningRpcWithModel(BinaryData.fromObject(body), requestOptions);
+        return serviceClient.beginLongRunningRpcWithModel(JsonSerializableHelper.toBinaryData(body), requestOptions);
     }
 }
@@ -4,6 +4,7 @@
 
 package azure.core.lro.standard;
 
+import azure.core.lro.standard.implementation.JsonSerializableHelper;
 import azure.core.lro.standard.implementation.StandardClientImpl;
 import azure.core.lro.standard.models.ExportedUser;
 import azure.core.lro.standard.models.User;
@@ -187,7 +188,8 @@ public final class StandardAsyncClient {
     public PollerFlux<PollOperationDetails, User> beginCreateOrReplace(String name, User resource) {
         // Generated convenience method for beginCreateOrReplaceWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginCreateOrReplaceWithModelAsync(name, BinaryData.fromObject(resource), requestOptions);
+        return serviceClient.beginCreateOrReplaceWithModelAsync(name, JsonSerializableHelper.toBinaryData(resource),
+            requestOptions);
     }
 
     /**
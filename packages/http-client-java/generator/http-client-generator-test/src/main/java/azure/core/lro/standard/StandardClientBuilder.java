@@ -55,6 +55,13 @@ public final class StandardClientBuilder implements HttpTrait<StandardClientBuil
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the StandardClientBuilder.
      */
@@ -75,6 +82,7 @@ public final class StandardClientBuilder implements HttpTrait<StandardClientBuil
     @Generated
     @Override
     public StandardClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -91,6 +99,7 @@ public final class StandardClientBuilder implements HttpTrait<StandardClientBuil
     @Generated
     @Override
     public StandardClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -110,6 +119,7 @@ public final class StandardClientBuilder implements HttpTrait<StandardClientBuil
     @Generated
     @Override
     public StandardClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -126,6 +136,7 @@ public final class StandardClientBuilder implements HttpTrait<StandardClientBuil
     @Generated
     @Override
     public StandardClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -142,6 +153,7 @@ public final class StandardClientBuilder implements HttpTrait<StandardClientBuil
     @Generated
     @Override
     public StandardClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -152,6 +164,7 @@ public final class StandardClientBuilder implements HttpTrait<StandardClientBuil
     @Generated
     @Override
     public StandardClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -169,6 +182,7 @@ public final class StandardClientBuilder implements HttpTrait<StandardClientBuil
     @Generated
     @Override
     public StandardClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -185,6 +199,7 @@ public final class StandardClientBuilder implements HttpTrait<StandardClientBuil
     @Generated
     @Override
     public StandardClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -203,6 +218,7 @@ public final class StandardClientBuilder implements HttpTrait<StandardClientBuil
      */
     @Generated
     public StandardClientBuilder serviceVersion(StandardServiceVersion serviceVersion) {
+        this.createdHttpPipeline = null;
         this.serviceVersion = serviceVersion;
         return this;
     }
@@ -221,6 +237,7 @@ public final class StandardClientBuilder implements HttpTrait<StandardClientBuil
      */
     @Generated
     public StandardClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -233,7 +250,7 @@ public final class StandardClientBuilder implements HttpTrait<StandardClientBuil
     @Generated
     private StandardClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         StandardServiceVersion localServiceVersion
             = (serviceVersion != null) ? serviceVersion : StandardServiceVersion.getLatest();
@@ -283,6 +300,15 @@ public final class StandardClientBuilder implements HttpTrait<StandardClientBuil
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of StandardAsyncClient class.
      * 
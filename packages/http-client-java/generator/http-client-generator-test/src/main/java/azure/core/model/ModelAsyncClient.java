@@ -5,6 +5,7 @@
 package azure.core.model;
 
 import azure.core.model.implementation.AzureCoreEmbeddingVectorsImpl;
+import azure.core.model.implementation.JsonSerializableHelper;
 import azure.core.model.models.AzureEmbeddingModel;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -187,8 +188,9 @@ public final class ModelAsyncClient {
     public Mono<AzureEmbeddingModel> post(AzureEmbeddingModel body) {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(AzureEmbeddingModel.class));
+        return postWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                AzureEmbeddingModel::fromJson));
     }
 
     @Generated
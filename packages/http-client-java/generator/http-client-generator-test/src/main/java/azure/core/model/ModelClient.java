@@ -5,6 +5,7 @@
 package azure.core.model;
 
 import azure.core.model.implementation.AzureCoreEmbeddingVectorsImpl;
+import azure.core.model.implementation.JsonSerializableHelper;
 import azure.core.model.models.AzureEmbeddingModel;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -183,8 +184,9 @@ public final class ModelClient {
     public AzureEmbeddingModel post(AzureEmbeddingModel body) {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(AzureEmbeddingModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            postWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            AzureEmbeddingModel::fromJson);
     }
 
     @Generated
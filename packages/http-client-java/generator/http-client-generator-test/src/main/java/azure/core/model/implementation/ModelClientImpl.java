@@ -75,7 +75,7 @@ public final class ModelClientImpl {
     /**
      * The AzureCoreEmbeddingVectorsImpl object to access its operations.
      */
-    private final AzureCoreEmbeddingVectorsImpl azureCoreEmbeddingVectors;
+    private volatile AzureCoreEmbeddingVectorsImpl azureCoreEmbeddingVectors;
 
     /**
      * Gets the AzureCoreEmbeddingVectorsImpl object to access its operations.
@@ -83,7 +83,17 @@ public final class ModelClientImpl {
      * @return the AzureCoreEmbeddingVectorsImpl object.
      */
     public AzureCoreEmbeddingVectorsImpl getAzureCoreEmbeddingVectors() {
-        return this.azureCoreEmbeddingVectors;
+        AzureCoreEmbeddingVectorsImpl localAzureCoreEmbeddingVectors = this.azureCoreEmbeddingVectors;
+        if (localAzureCoreEmbeddingVectors == null) {
+            synchronized (this) {
+                localAzureCoreEmbeddingVectors = this.azureCoreEmbeddingVectors;
+                if (localAzureCoreEmbeddingVectors == null) {
+                    localAzureCoreEmbeddingVectors = new AzureCoreEmbeddingVectorsImpl(this);
+                    this.azureCoreEmbeddingVectors = localAzureCoreEmbeddingVectors;
+                }
+            }
+        }
+        return localAzureCoreEmbeddingVectors;
     }
 
     /**
@@ -122,6 +132,5 @@ public final class ModelClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.serviceVersion = serviceVersion;
-        this.azureCoreEmbeddingVectors = new AzureCoreEmbeddingVectorsImpl(this);
     }
 }
@@ -51,7 +51,7 @@ public final class AzureEmbeddingModel implements JsonSerializable<AzureEmbeddin
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("embedding", this.embedding, (writer, element) -> writer.writeInt(element));
+        jsonWriter.writeArrayField("embedding", this.embedding, JsonWriter::writeInt);
         return jsonWriter.writeEndObject();
     }
 
@@ -73,7 +73,7 @@ public final class AzureEmbeddingModel implements JsonSerializable<AzureEmbeddin
                 reader.nextToken();
 
                 if ("embedding".equals(fieldName)) {
-                    embedding = reader.readArray(reader1 -> reader1.getInt());
+                    embedding = reader.readArray(JsonReader::getInt);
                 } else {
                     reader.skipChildren();
                 }
@@ -4,6 +4,7 @@
 
 package azure.core.page;
 
+import azure.core.page.implementation.JsonSerializableHelper;
 import azure.core.page.implementation.PageClientImpl;
 import azure.core.page.models.ListItemInputBody;
 import azure.core.page.models.ListItemInputExtensibleEnum;
@@ -263,7 +264,8 @@ public final class PageAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(User.class))
+                    .map(
+                        protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
@@ -290,7 +292,8 @@ public final class PageAsyncClient {
         if (another != null) {
             requestOptions.addQueryParam("another", another.toString(), false);
         }
-        PagedFlux<BinaryData> pagedFluxResponse = listWithParameters(BinaryData.fromObject(bodyInput), requestOptions);
+        PagedFlux<BinaryData> pagedFluxResponse
+            = listWithParameters(JsonSerializableHelper.toBinaryData(bodyInput), requestOptions);
         return PagedFlux.create(() -> (continuationTokenParam, pageSizeParam) -> {
             Flux<PagedResponse<BinaryData>> flux = (continuationTokenParam == null)
                 ? pagedFluxResponse.byPage().take(1)
@@ -299,7 +302,8 @@ public final class PageAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(User.class))
+                    .map(
+                        protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
@@ -322,7 +326,8 @@ public final class PageAsyncClient {
     public PagedFlux<User> listWithParameters(ListItemInputBody bodyInput) {
         // Generated convenience method for listWithParameters
         RequestOptions requestOptions = new RequestOptions();
-        PagedFlux<BinaryData> pagedFluxResponse = listWithParameters(BinaryData.fromObject(bodyInput), requestOptions);
+        PagedFlux<BinaryData> pagedFluxResponse
+            = listWithParameters(JsonSerializableHelper.toBinaryData(bodyInput), requestOptions);
         return PagedFlux.create(() -> (continuationTokenParam, pageSizeParam) -> {
             Flux<PagedResponse<BinaryData>> flux = (continuationTokenParam == null)
                 ? pagedFluxResponse.byPage().take(1)
@@ -331,7 +336,8 @@ public final class PageAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(User.class))
+                    .map(
+                        protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
@@ -361,7 +367,8 @@ public final class PageAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(User.class))
+                    .map(
+                        protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
@@ -397,7 +404,8 @@ public final class PageAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(User.class))
+                    .map(
+                        protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
@@ -429,7 +437,8 @@ public final class PageAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(User.class))
+                    .map(
+                        protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
@@ -459,7 +468,8 @@ public final class PageAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(User.class))
+                    .map(
+                        protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
@@ -4,6 +4,7 @@
 
 package azure.core.page;
 
+import azure.core.page.implementation.JsonSerializableHelper;
 import azure.core.page.implementation.PageClientImpl;
 import azure.core.page.models.ListItemInputBody;
 import azure.core.page.models.ListItemInputExtensibleEnum;
@@ -274,7 +275,7 @@ public final class PageClient {
         if (another != null) {
             requestOptions.addQueryParam("another", another.toString(), false);
         }
-        return serviceClient.listWithParameters(BinaryData.fromObject(bodyInput), requestOptions)
+        return serviceClient.listWithParameters(JsonSerializableHelper.toBinaryData(bodyInput), requestOptions)
             .mapPage(bodyItemValue -> bodyItemValue.toObject(User.class));
     }
 
@@ -295,7 +296,7 @@ public final class PageClient {
     public PagedIterable<User> listWithParameters(ListItemInputBody bodyInput) {
         // Generated convenience method for listWithParameters
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.listWithParameters(BinaryData.fromObject(bodyInput), requestOptions)
+        return serviceClient.listWithParameters(JsonSerializableHelper.toBinaryData(bodyInput), requestOptions)
             .mapPage(bodyItemValue -> bodyItemValue.toObject(User.class));
     }
 
@@ -4,6 +4,7 @@
 
 package azure.core.page;
 
+import azure.core.page.implementation.JsonSerializableHelper;
 import azure.core.page.implementation.TwoModelsAsPageItemsImpl;
 import azure.core.page.models.FirstItem;
 import azure.core.page.models.SecondItem;
@@ -118,7 +119,8 @@ public final class TwoModelsAsPageItemAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(FirstItem.class))
+                    .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                        FirstItem::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
@@ -149,7 +151,8 @@ public final class TwoModelsAsPageItemAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(SecondItem.class))
+                    .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                        SecondItem::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
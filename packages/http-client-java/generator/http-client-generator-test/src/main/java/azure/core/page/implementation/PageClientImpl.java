@@ -112,7 +112,7 @@ public final class PageClientImpl {
     /**
      * The TwoModelsAsPageItemsImpl object to access its operations.
      */
-    private final TwoModelsAsPageItemsImpl twoModelsAsPageItems;
+    private volatile TwoModelsAsPageItemsImpl twoModelsAsPageItems;
 
     /**
      * Gets the TwoModelsAsPageItemsImpl object to access its operations.
@@ -120,7 +120,17 @@ public final class PageClientImpl {
      * @return the TwoModelsAsPageItemsImpl object.
      */
     public TwoModelsAsPageItemsImpl getTwoModelsAsPageItems() {
-        return this.twoModelsAsPageItems;
+        TwoModelsAsPageItemsImpl localTwoModelsAsPageItems = this.twoModelsAsPageItems;
+        if (localTwoModelsAsPageItems == null) {
+            synchronized (this) {
+                localTwoModelsAsPageItems = this.twoModelsAsPageItems;
+                if (localTwoModelsAsPageItems == null) {
+                    localTwoModelsAsPageItems = new TwoModelsAsPageItemsImpl(this);
+                    this.twoModelsAsPageItems = localTwoModelsAsPageItems;
+                }
+            }
+        }
+        return localTwoModelsAsPageItems;
     }
 
     /**
@@ -159,7 +169,6 @@ public final class PageClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.serviceVersion = serviceVersion;
-        this.twoModelsAsPageItems = new TwoModelsAsPageItemsImpl(this);
         this.service = RestProxy.create(PageClientService.class, this.httpPipeline, this.getSerializerAdapter());
     }
 
@@ -4,6 +4,10 @@
 
 package azure.core.page.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * An extensible enum input parameter.
  */
@@ -27,6 +31,17 @@ public enum ListItemInputExtensibleEnum {
         this.value = value;
     }
 
+    private static final Map<String, ListItemInputExtensibleEnum> VALUES = new HashMap<>();
+
+    private static final Map<String, ListItemInputExtensibleEnum> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (ListItemInputExtensibleEnum item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a ListItemInputExtensibleEnum instance.
      * 
@@ -37,13 +52,8 @@ public enum ListItemInputExtensibleEnum {
         if (value == null) {
             return null;
         }
-        ListItemInputExtensibleEnum[] items = ListItemInputExtensibleEnum.values();
-        for (ListItemInputExtensibleEnum item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        ListItemInputExtensibleEnum item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
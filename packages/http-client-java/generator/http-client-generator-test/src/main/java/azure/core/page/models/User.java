@@ -100,7 +100,7 @@ public final class User implements JsonSerializable<User> {
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("name", this.name);
-        jsonWriter.writeArrayField("orders", this.orders, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("orders", this.orders, JsonWriter::writeJson);
         return jsonWriter.writeEndObject();
     }
 
@@ -131,7 +131,7 @@ public final class User implements JsonSerializable<User> {
                 } else if ("etag".equals(fieldName)) {
                     etag = reader.getString();
                 } else if ("orders".equals(fieldName)) {
-                    orders = reader.readArray(reader1 -> UserOrder.fromJson(reader1));
+                    orders = reader.readArray(UserOrder::fromJson);
                 } else {
                     reader.skipChildren();
                 }
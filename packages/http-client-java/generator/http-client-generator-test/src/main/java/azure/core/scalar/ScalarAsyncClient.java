@@ -5,6 +5,7 @@
 package azure.core.scalar;
 
 import azure.core.scalar.implementation.AzureLocationScalarsImpl;
+import azure.core.scalar.implementation.JsonSerializableHelper;
 import azure.core.scalar.models.AzureLocationModel;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -211,8 +212,9 @@ public final class ScalarAsyncClient {
     public Mono<AzureLocationModel> post(AzureLocationModel body) {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(AzureLocationModel.class));
+        return postWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                AzureLocationModel::fromJson));
     }
 
     /**
@@ -5,6 +5,7 @@
 package azure.core.scalar;
 
 import azure.core.scalar.implementation.AzureLocationScalarsImpl;
+import azure.core.scalar.implementation.JsonSerializableHelper;
 import azure.core.scalar.models.AzureLocationModel;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -207,8 +208,9 @@ public final class ScalarClient {
     public AzureLocationModel post(AzureLocationModel body) {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(AzureLocationModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            postWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            AzureLocationModel::fromJson);
     }
 
     /**
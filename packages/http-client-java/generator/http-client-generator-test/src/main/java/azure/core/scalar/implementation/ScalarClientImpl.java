@@ -75,7 +75,7 @@ public final class ScalarClientImpl {
     /**
      * The AzureLocationScalarsImpl object to access its operations.
      */
-    private final AzureLocationScalarsImpl azureLocationScalars;
+    private volatile AzureLocationScalarsImpl azureLocationScalars;
 
     /**
      * Gets the AzureLocationScalarsImpl object to access its operations.
@@ -83,7 +83,17 @@ public final class ScalarClientImpl {
      * @return the AzureLocationScalarsImpl object.
      */
     public AzureLocationScalarsImpl getAzureLocationScalars() {
-        return this.azureLocationScalars;
+        AzureLocationScalarsImpl localAzureLocationScalars = this.azureLocationScalars;
+        if (localAzureLocationScalars == null) {
+            synchronized (this) {
+                localAzureLocationScalars = this.azureLocationScalars;
+                if (localAzureLocationScalars == null) {
+                    localAzureLocationScalars = new AzureLocationScalarsImpl(this);
+                    this.azureLocationScalars = localAzureLocationScalars;
+                }
+            }
+        }
+        return localAzureLocationScalars;
     }
 
     /**
@@ -122,6 +132,5 @@ public final class ScalarClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.serviceVersion = serviceVersion;
-        this.azureLocationScalars = new AzureLocationScalarsImpl(this);
     }
 }
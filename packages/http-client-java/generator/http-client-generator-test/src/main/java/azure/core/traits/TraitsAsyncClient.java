@@ -4,6 +4,7 @@
 
 package azure.core.traits;
 
+import azure.core.traits.implementation.JsonSerializableHelper;
 import azure.core.traits.implementation.TraitsClientImpl;
 import azure.core.traits.models.User;
 import azure.core.traits.models.UserActionParam;
@@ -172,7 +173,7 @@ public final class TraitsAsyncClient {
                 String.valueOf(new DateTimeRfc1123(ifModifiedSince)));
         }
         return smokeTestWithResponse(id, foo, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(User.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson));
     }
 
     /**
@@ -194,7 +195,7 @@ public final class TraitsAsyncClient {
         // Generated convenience method for smokeTestWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return smokeTestWithResponse(id, foo, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(User.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson));
     }
 
     /**
@@ -215,7 +216,9 @@ public final class TraitsAsyncClient {
     public Mono<UserActionResponse> repeatableAction(int id, UserActionParam body) {
         // Generated convenience method for repeatableActionWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return repeatableActionWithResponse(id, BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(UserActionResponse.class));
+        return repeatableActionWithResponse(id, JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                UserActionResponse::fromJson));
     }
 }
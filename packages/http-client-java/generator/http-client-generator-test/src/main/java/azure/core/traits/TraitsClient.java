@@ -4,6 +4,7 @@
 
 package azure.core.traits;
 
+import azure.core.traits.implementation.JsonSerializableHelper;
 import azure.core.traits.implementation.TraitsClientImpl;
 import azure.core.traits.models.User;
 import azure.core.traits.models.UserActionParam;
@@ -167,7 +168,8 @@ public final class TraitsClient {
             requestOptions.setHeader(HttpHeaderName.IF_MODIFIED_SINCE,
                 String.valueOf(new DateTimeRfc1123(ifModifiedSince)));
         }
-        return smokeTestWithResponse(id, foo, requestOptions).getValue().toObject(User.class);
+        return JsonSerializableHelper.fromBinaryData(smokeTestWithResponse(id, foo, requestOptions).getValue(),
+            User::fromJson);
     }
 
     /**
@@ -188,7 +190,8 @@ public final class TraitsClient {
     public User smokeTest(int id, String foo) {
         // Generated convenience method for smokeTestWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return smokeTestWithResponse(id, foo, requestOptions).getValue().toObject(User.class);
+        return JsonSerializableHelper.fromBinaryData(smokeTestWithResponse(id, foo, requestOptions).getValue(),
+            User::fromJson);
     }
 
     /**
@@ -209,7 +212,8 @@ public final class TraitsClient {
     public UserActionResponse repeatableAction(int id, UserActionParam body) {
         // Generated convenience method for repeatableActionWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return repeatableActionWithResponse(id, BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(UserActionResponse.class);
+        return JsonSerializableHelper.fromBinaryData(
+            repeatableActionWithResponse(id, JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            UserActionResponse::fromJson);
     }
 }
@@ -5,6 +5,7 @@
 package azure.encode.duration;
 
 import azure.encode.duration.implementation.DurationClientImpl;
+import azure.encode.duration.implementation.JsonSerializableHelper;
 import azure.encode.duration.models.DurationModel;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -81,6 +82,7 @@ public final class DurationAsyncClient {
     public Mono<Void> durationConstant(DurationModel body) {
         // Generated convenience method for durationConstantWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return durationConstantWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return durationConstantWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 }
@@ -5,6 +5,7 @@
 package azure.encode.duration;
 
 import azure.encode.duration.implementation.DurationClientImpl;
+import azure.encode.duration.implementation.JsonSerializableHelper;
 import azure.encode.duration.models.DurationModel;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -78,6 +79,6 @@ public final class DurationClient {
     public void durationConstant(DurationModel body) {
         // Generated convenience method for durationConstantWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        durationConstantWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        durationConstantWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
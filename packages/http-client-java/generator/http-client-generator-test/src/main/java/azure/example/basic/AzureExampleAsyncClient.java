@@ -5,6 +5,7 @@
 package azure.example.basic;
 
 import azure.example.basic.implementation.AzureExampleClientImpl;
+import azure.example.basic.implementation.JsonSerializableHelper;
 import azure.example.basic.models.ActionRequest;
 import azure.example.basic.models.ActionResponse;
 import com.azure.core.annotation.Generated;
@@ -119,8 +120,9 @@ public final class AzureExampleAsyncClient {
     public Mono<ActionResponse> basicAction(String queryParam, String headerParam, ActionRequest body) {
         // Generated convenience method for basicActionWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return basicActionWithResponse(queryParam, headerParam, BinaryData.fromObject(body), requestOptions)
-            .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ActionResponse.class));
+        return basicActionWithResponse(queryParam, headerParam, JsonSerializableHelper.toBinaryData(body),
+            requestOptions).flatMap(FluxUtil::toMono)
+                .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                    ActionResponse::fromJson));
     }
 }
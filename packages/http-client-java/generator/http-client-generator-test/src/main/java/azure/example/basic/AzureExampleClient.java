@@ -5,6 +5,7 @@
 package azure.example.basic;
 
 import azure.example.basic.implementation.AzureExampleClientImpl;
+import azure.example.basic.implementation.JsonSerializableHelper;
 import azure.example.basic.models.ActionRequest;
 import azure.example.basic.models.ActionResponse;
 import com.azure.core.annotation.Generated;
@@ -117,7 +118,9 @@ public final class AzureExampleClient {
     public ActionResponse basicAction(String queryParam, String headerParam, ActionRequest body) {
         // Generated convenience method for basicActionWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return basicActionWithResponse(queryParam, headerParam, BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(ActionResponse.class);
+        return JsonSerializableHelper.fromBinaryData(
+            basicActionWithResponse(queryParam, headerParam, JsonSerializableHelper.toBinaryData(body), requestOptions)
+                .getValue(),
+            ActionResponse::fromJson);
     }
 }
@@ -102,10 +102,8 @@ public final class ActionResponse implements JsonSerializable<ActionResponse> {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("stringProperty", this.stringProperty);
         jsonWriter.writeJsonField("modelProperty", this.modelProperty);
-        jsonWriter.writeArrayField("arrayProperty", this.arrayProperty,
-            (writer, element) -> writer.writeString(element));
-        jsonWriter.writeMapField("recordProperty", this.recordProperty,
-            (writer, element) -> writer.writeString(element));
+        jsonWriter.writeArrayField("arrayProperty", this.arrayProperty, JsonWriter::writeString);
+        jsonWriter.writeMapField("recordProperty", this.recordProperty, JsonWriter::writeString);
         return jsonWriter.writeEndObject();
     }
 
@@ -134,9 +132,9 @@ public final class ActionResponse implements JsonSerializable<ActionResponse> {
                 } else if ("modelProperty".equals(fieldName)) {
                     modelProperty = Model.fromJson(reader);
                 } else if ("arrayProperty".equals(fieldName)) {
-                    arrayProperty = reader.readArray(reader1 -> reader1.getString());
+                    arrayProperty = reader.readArray(JsonReader::getString);
                 } else if ("recordProperty".equals(fieldName)) {
-                    recordProperty = reader.readMap(reader1 -> reader1.getString());
+                    recordProperty = reader.readMap(JsonReader::getString);
                 } else {
                     reader.skipChildren();
                 }
@@ -4,6 +4,7 @@
 
 package azure.payload.pageable;
 
+import azure.payload.pageable.implementation.JsonSerializableHelper;
 import azure.payload.pageable.implementation.PageableClientImpl;
 import azure.payload.pageable.models.User;
 import com.azure.core.annotation.Generated;
@@ -96,7 +97,8 @@ public final class PageableAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(User.class))
+                    .map(
+                        protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, User::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
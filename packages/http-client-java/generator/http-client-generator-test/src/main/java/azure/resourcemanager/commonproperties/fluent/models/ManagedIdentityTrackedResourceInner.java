@@ -160,7 +160,7 @@ public final class ManagedIdentityTrackedResourceInner extends Resource {
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("location", location());
-        jsonWriter.writeMapField("tags", tags(), (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("tags", tags(), JsonWriter::writeString);
         jsonWriter.writeJsonField("properties", this.properties);
         jsonWriter.writeJsonField("identity", this.identity);
         return jsonWriter.writeEndObject();
@@ -192,7 +192,7 @@ public final class ManagedIdentityTrackedResourceInner extends Resource {
                 } else if ("location".equals(fieldName)) {
                     deserializedManagedIdentityTrackedResourceInner.withLocation(reader.getString());
                 } else if ("tags".equals(fieldName)) {
-                    Map<String, String> tags = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> tags = reader.readMap(JsonReader::getString);
                     deserializedManagedIdentityTrackedResourceInner.withTags(tags);
                 } else if ("properties".equals(fieldName)) {
                     deserializedManagedIdentityTrackedResourceInner.properties
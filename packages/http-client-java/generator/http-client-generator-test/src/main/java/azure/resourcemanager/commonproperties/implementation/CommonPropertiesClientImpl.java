@@ -130,7 +130,7 @@ public final class CommonPropertiesClientImpl implements CommonPropertiesClient
     /**
      * The ManagedIdentitiesClient object to access its operations.
      */
-    private final ManagedIdentitiesClient managedIdentities;
+    private volatile ManagedIdentitiesClient managedIdentities;
 
     /**
      * Gets the ManagedIdentitiesClient object to access its operations.
@@ -138,13 +138,23 @@ public final class CommonPropertiesClientImpl implements CommonPropertiesClient
      * @return the ManagedIdentitiesClient object.
      */
     public ManagedIdentitiesClient getManagedIdentities() {
-        return this.managedIdentities;
+        ManagedIdentitiesClient localManagedIdentities = this.managedIdentities;
+        if (localManagedIdentities == null) {
+            synchronized (this) {
+                localManagedIdentities = this.managedIdentities;
+                if (localManagedIdentities == null) {
+                    localManagedIdentities = new ManagedIdentitiesClientImpl(this);
+                    this.managedIdentities = localManagedIdentities;
+                }
+            }
+        }
+        return localManagedIdentities;
     }
 
     /**
      * The ErrorsClient object to access its operations.
      */
-    private final ErrorsClient errors;
+    private volatile ErrorsClient errors;
 
     /**
      * Gets the ErrorsClient object to access its operations.
@@ -152,7 +162,17 @@ public final class CommonPropertiesClientImpl implements CommonPropertiesClient
      * @return the ErrorsClient object.
      */
     public ErrorsClient getErrors() {
-        return this.errors;
+        ErrorsClient localErrors = this.errors;
+        if (localErrors == null) {
+            synchronized (this) {
+                localErrors = this.errors;
+                if (localErrors == null) {
+                    localErrors = new ErrorsClientImpl(this);
+                    this.errors = localErrors;
+                }
+            }
+        }
+        return localErrors;
     }
 
     /**
@@ -173,8 +193,6 @@ public final class CommonPropertiesClientImpl implements CommonPropertiesClient
         this.endpoint = endpoint;
         this.subscriptionId = subscriptionId;
         this.apiVersion = "2023-12-01-preview";
-        this.managedIdentities = new ManagedIdentitiesClientImpl(this);
-        this.errors = new ErrorsClientImpl(this);
     }
 
     /**
@@ -45,12 +45,13 @@ public final class ErrorsImpl implements Errors {
     }
 
     public ConfidentialResource getById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceGroupName = parsedId.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String confidentialResourceName = ResourceManagerUtils.getValueFromIdByName(id, "confidentialResources");
+        String confidentialResourceName = parsedId.getValueByName("confidentialResources");
         if (confidentialResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'confidentialResources'.", id)));
@@ -60,12 +61,13 @@ public final class ErrorsImpl implements Errors {
     }
 
     public Response<ConfidentialResource> getByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceGroupName = parsedId.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String confidentialResourceName = ResourceManagerUtils.getValueFromIdByName(id, "confidentialResources");
+        String confidentialResourceName = parsedId.getValueByName("confidentialResources");
         if (confidentialResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'confidentialResources'.", id)));
@@ -46,13 +46,13 @@ public final class ManagedIdentitiesImpl implements ManagedIdentities {
     }
 
     public ManagedIdentityTrackedResource getById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceGroupName = parsedId.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String managedIdentityTrackedResourceName
-            = ResourceManagerUtils.getValueFromIdByName(id, "managedIdentityTrackedResources");
+        String managedIdentityTrackedResourceName = parsedId.getValueByName("managedIdentityTrackedResources");
         if (managedIdentityTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String.format(
                 "The resource ID '%s' is not valid. Missing path segment 'managedIdentityTrackedResources'.", id)));
@@ -62,13 +62,13 @@ public final class ManagedIdentitiesImpl implements ManagedIdentities {
     }
 
     public Response<ManagedIdentityTrackedResource> getByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceGroupName = parsedId.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String managedIdentityTrackedResourceName
-            = ResourceManagerUtils.getValueFromIdByName(id, "managedIdentityTrackedResources");
+        String managedIdentityTrackedResourceName = parsedId.getValueByName("managedIdentityTrackedResources");
         if (managedIdentityTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String.format(
                 "The resource ID '%s' is not valid. Missing path segment 'managedIdentityTrackedResources'.", id)));
@@ -137,9 +137,9 @@ public final class ManagedIdentityTrackedResourceImpl implements ManagedIdentity
         azure.resourcemanager.commonproperties.CommonPropertiesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.managedIdentityTrackedResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "managedIdentityTrackedResources");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.resourceGroupName = parsedId.getValueByName("resourceGroups");
+        this.managedIdentityTrackedResourceName = parsedId.getValueByName("managedIdentityTrackedResources");
     }
 
     public ManagedIdentityTrackedResource refresh() {
@@ -162,10 +162,10 @@ public final class ApiError extends ManagementError {
                 } else if ("target".equals(fieldName)) {
                     deserializedApiError.target = reader.getString();
                 } else if ("details".equals(fieldName)) {
-                    List<ManagementError> details = reader.readArray(reader1 -> ManagementError.fromJson(reader1));
+                    List<ManagementError> details = reader.readArray(ManagementError::fromJson);
                     deserializedApiError.details = details;
                 } else if ("additionalInfo".equals(fieldName)) {
-                    List<AdditionalInfo> additionalInfo = reader.readArray(reader1 -> AdditionalInfo.fromJson(reader1));
+                    List<AdditionalInfo> additionalInfo = reader.readArray(AdditionalInfo::fromJson);
                     deserializedApiError.additionalInfo = additionalInfo;
                 } else if ("innererror".equals(fieldName)) {
                     deserializedApiError.innererror = InnerError.fromJson(reader);
@@ -112,8 +112,7 @@ public final class ManagedServiceIdentity implements JsonSerializable<ManagedSer
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("type", this.type == null ? null : this.type.toString());
-        jsonWriter.writeMapField("userAssignedIdentities", this.userAssignedIdentities,
-            (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeMapField("userAssignedIdentities", this.userAssignedIdentities, JsonWriter::writeJson);
         return jsonWriter.writeEndObject();
     }
 
@@ -141,7 +140,7 @@ public final class ManagedServiceIdentity implements JsonSerializable<ManagedSer
                     deserializedManagedServiceIdentity.tenantId = reader.getString();
                 } else if ("userAssignedIdentities".equals(fieldName)) {
                     Map<String, UserAssignedIdentity> userAssignedIdentities
-                        = reader.readMap(reader1 -> UserAssignedIdentity.fromJson(reader1));
+                        = reader.readMap(UserAssignedIdentity::fromJson);
                     deserializedManagedServiceIdentity.userAssignedIdentities = userAssignedIdentities;
                 } else {
                     reader.skipChildren();
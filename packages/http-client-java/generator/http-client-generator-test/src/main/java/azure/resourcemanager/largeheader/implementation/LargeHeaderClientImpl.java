@@ -129,7 +129,7 @@ public final class LargeHeaderClientImpl implements LargeHeaderClient {
     /**
      * The LargeHeadersClient object to access its operations.
      */
-    private final LargeHeadersClient largeHeaders;
+    private volatile LargeHeadersClient largeHeaders;
 
     /**
      * Gets the LargeHeadersClient object to access its operations.
@@ -137,7 +137,17 @@ public final class LargeHeaderClientImpl implements LargeHeaderClient {
      * @return the LargeHeadersClient object.
      */
     public LargeHeadersClient getLargeHeaders() {
-        return this.largeHeaders;
+        LargeHeadersClient localLargeHeaders = this.largeHeaders;
+        if (localLargeHeaders == null) {
+            synchronized (this) {
+                localLargeHeaders = this.largeHeaders;
+                if (localLargeHeaders == null) {
+                    localLargeHeaders = new LargeHeadersClientImpl(this);
+                    this.largeHeaders = localLargeHeaders;
+                }
+            }
+        }
+        return localLargeHeaders;
     }
 
     /**
@@ -158,7 +168,6 @@ public final class LargeHeaderClientImpl implements LargeHeaderClient {
         this.endpoint = endpoint;
         this.subscriptionId = subscriptionId;
         this.apiVersion = "2023-12-01-preview";
-        this.largeHeaders = new LargeHeadersClientImpl(this);
     }
 
     /**
@@ -134,7 +134,7 @@ public final class ResourceGroupResourceInner extends Resource {
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("location", location());
-        jsonWriter.writeMapField("tags", tags(), (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("tags", tags(), JsonWriter::writeString);
         jsonWriter.writeJsonField("properties", this.properties);
         return jsonWriter.writeEndObject();
     }
@@ -164,7 +164,7 @@ public final class ResourceGroupResourceInner extends Resource {
                 } else if ("location".equals(fieldName)) {
                     deserializedResourceGroupResourceInner.withLocation(reader.getString());
                 } else if ("tags".equals(fieldName)) {
-                    Map<String, String> tags = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> tags = reader.readMap(JsonReader::getString);
                     deserializedResourceGroupResourceInner.withTags(tags);
                 } else if ("properties".equals(fieldName)) {
                     deserializedResourceGroupResourceInner.properties
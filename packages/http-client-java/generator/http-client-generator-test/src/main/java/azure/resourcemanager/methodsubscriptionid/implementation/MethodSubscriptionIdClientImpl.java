@@ -195,7 +195,7 @@ public final class MethodSubscriptionIdClientImpl implements MethodSubscriptionI
     /**
      * The OperationsClient object to access its operations.
      */
-    private final OperationsClient operations;
+    private volatile OperationsClient operations;
 
     /**
      * Gets the OperationsClient object to access its operations.
@@ -203,7 +203,17 @@ public final class MethodSubscriptionIdClientImpl implements MethodSubscriptionI
      * @return the OperationsClient object.
      */
     public OperationsClient getOperations() {
-        return this.operations;
+        OperationsClient localOperations = this.operations;
+        if (localOperations == null) {
+            synchronized (this) {
+                localOperations = this.operations;
+                if (localOperations == null) {
+                    localOperations = new OperationsClientImpl(this);
+                    this.operations = localOperations;
+                }
+            }
+        }
+        return localOperations;
     }
 
     /**
@@ -232,7 +242,6 @@ public final class MethodSubscriptionIdClientImpl implements MethodSubscriptionI
             = new MixedSubscriptionPlacementSubscriptionResourceOperationsClientImpl(this);
         this.mixedSubscriptionPlacementResourceGroupResourceOperations
             = new MixedSubscriptionPlacementResourceGroupResourceOperationsClientImpl(this);
-        this.operations = new OperationsClientImpl(this);
     }
 
     /**
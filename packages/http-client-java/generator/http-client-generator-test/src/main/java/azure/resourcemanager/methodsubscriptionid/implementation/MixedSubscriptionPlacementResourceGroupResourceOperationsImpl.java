@@ -57,12 +57,13 @@ public final class MixedSubscriptionPlacementResourceGroupResourceOperationsImpl
     }
 
     public ResourceGroupResource getById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceGroupName = parsedId.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String resourceGroupResourceName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroupResources");
+        String resourceGroupResourceName = parsedId.getValueByName("resourceGroupResources");
         if (resourceGroupResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourceGroupResources'.", id)));
@@ -72,12 +73,13 @@ public final class MixedSubscriptionPlacementResourceGroupResourceOperationsImpl
     }
 
     public Response<ResourceGroupResource> getByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceGroupName = parsedId.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String resourceGroupResourceName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroupResources");
+        String resourceGroupResourceName = parsedId.getValueByName("resourceGroupResources");
         if (resourceGroupResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourceGroupResources'.", id)));
@@ -86,12 +88,13 @@ public final class MixedSubscriptionPlacementResourceGroupResourceOperationsImpl
     }
 
     public void deleteById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceGroupName = parsedId.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String resourceGroupResourceName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroupResources");
+        String resourceGroupResourceName = parsedId.getValueByName("resourceGroupResources");
         if (resourceGroupResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourceGroupResources'.", id)));
@@ -100,12 +103,13 @@ public final class MixedSubscriptionPlacementResourceGroupResourceOperationsImpl
     }
 
     public Response<Void> deleteByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceGroupName = parsedId.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String resourceGroupResourceName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroupResources");
+        String resourceGroupResourceName = parsedId.getValueByName("resourceGroupResources");
         if (resourceGroupResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourceGroupResources'.", id)));
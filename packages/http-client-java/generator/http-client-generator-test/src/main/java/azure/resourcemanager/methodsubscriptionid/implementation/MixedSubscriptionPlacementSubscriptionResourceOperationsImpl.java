@@ -56,12 +56,13 @@ public final class MixedSubscriptionPlacementSubscriptionResourceOperationsImpl
     }
 
     public SubscriptionResource getById(String id) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String subscriptionId = parsedId.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResourceName = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResources");
+        String subscriptionResourceName = parsedId.getValueByName("subscriptionResources");
         if (subscriptionResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResources'.", id)));
@@ -70,12 +71,13 @@ public final class MixedSubscriptionPlacementSubscriptionResourceOperationsImpl
     }
 
     public Response<SubscriptionResource> getByIdWithResponse(String id, Context context) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String subscriptionId = parsedId.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResourceName = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResources");
+        String subscriptionResourceName = parsedId.getValueByName("subscriptionResources");
         if (subscriptionResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResources'.", id)));
@@ -84,12 +86,13 @@ public final class MixedSubscriptionPlacementSubscriptionResourceOperationsImpl
     }
 
     public void deleteById(String id) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String subscriptionId = parsedId.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResourceName = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResources");
+        String subscriptionResourceName = parsedId.getValueByName("subscriptionResources");
         if (subscriptionResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResources'.", id)));
@@ -98,12 +101,13 @@ public final class MixedSubscriptionPlacementSubscriptionResourceOperationsImpl
     }
 
     public Response<Void> deleteByIdWithResponse(String id, Context context) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String subscriptionId = parsedId.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResourceName = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResources");
+        String subscriptionResourceName = parsedId.getValueByName("subscriptionResources");
         if (subscriptionResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResources'.", id)));
@@ -128,9 +128,9 @@ public final class ResourceGroupResourceImpl
         azure.resourcemanager.methodsubscriptionid.MethodSubscriptionIdManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.resourceGroupResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroupResources");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.resourceGroupName = parsedId.getValueByName("resourceGroups");
+        this.resourceGroupResourceName = parsedId.getValueByName("resourceGroupResources");
     }
 
     public ResourceGroupResource refresh() {
@@ -95,9 +95,9 @@ public final class SubscriptionResource1Impl
         azure.resourcemanager.methodsubscriptionid.MethodSubscriptionIdManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.subscriptionId = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "subscriptions");
-        this.subscriptionResource1Name
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "subscriptionResource1s");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.subscriptionId = parsedId.getValueByName("subscriptions");
+        this.subscriptionResource1Name = parsedId.getValueByName("subscriptionResource1s");
     }
 
     public SubscriptionResource1 refresh() {
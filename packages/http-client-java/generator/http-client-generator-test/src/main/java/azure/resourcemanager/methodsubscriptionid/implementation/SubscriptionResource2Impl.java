@@ -95,9 +95,9 @@ public final class SubscriptionResource2Impl
         azure.resourcemanager.methodsubscriptionid.MethodSubscriptionIdManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.subscriptionId = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "subscriptions");
-        this.subscriptionResource2Name
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "subscriptionResource2s");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.subscriptionId = parsedId.getValueByName("subscriptions");
+        this.subscriptionResource2Name = parsedId.getValueByName("subscriptionResource2s");
     }
 
     public SubscriptionResource2 refresh() {
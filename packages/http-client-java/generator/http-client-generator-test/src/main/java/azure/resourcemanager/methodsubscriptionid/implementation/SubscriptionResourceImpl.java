@@ -95,9 +95,9 @@ public final class SubscriptionResourceImpl
         azure.resourcemanager.methodsubscriptionid.MethodSubscriptionIdManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.subscriptionId = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "subscriptions");
-        this.subscriptionResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "subscriptionResources");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.subscriptionId = parsedId.getValueByName("subscriptions");
+        this.subscriptionResourceName = parsedId.getValueByName("subscriptionResources");
     }
 
     public SubscriptionResource refresh() {
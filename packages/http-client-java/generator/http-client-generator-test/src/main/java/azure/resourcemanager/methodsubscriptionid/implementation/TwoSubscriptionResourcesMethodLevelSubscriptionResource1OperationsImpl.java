@@ -56,12 +56,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource1Opera
     }
 
     public SubscriptionResource1 getById(String id) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String subscriptionId = parsedId.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource1Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource1s");
+        String subscriptionResource1Name = parsedId.getValueByName("subscriptionResource1s");
         if (subscriptionResource1Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource1s'.", id)));
@@ -70,12 +71,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource1Opera
     }
 
     public Response<SubscriptionResource1> getByIdWithResponse(String id, Context context) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String subscriptionId = parsedId.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource1Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource1s");
+        String subscriptionResource1Name = parsedId.getValueByName("subscriptionResource1s");
         if (subscriptionResource1Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource1s'.", id)));
@@ -84,12 +86,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource1Opera
     }
 
     public void deleteById(String id) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String subscriptionId = parsedId.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource1Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource1s");
+        String subscriptionResource1Name = parsedId.getValueByName("subscriptionResource1s");
         if (subscriptionResource1Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource1s'.", id)));
@@ -98,12 +101,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource1Opera
     }
 
     public Response<Void> deleteByIdWithResponse(String id, Context context) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String subscriptionId = parsedId.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource1Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource1s");
+        String subscriptionResource1Name = parsedId.getValueByName("subscriptionResource1s");
         if (subscriptionResource1Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource1s'.", id)));
@@ -56,12 +56,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource2Opera
     }
 
     public SubscriptionResource2 getById(String id) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String subscriptionId = parsedId.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource2Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource2s");
+        String subscriptionResource2Name = parsedId.getValueByName("subscriptionResource2s");
         if (subscriptionResource2Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource2s'.", id)));
@@ -70,12 +71,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource2Opera
     }
 
     public Response<SubscriptionResource2> getByIdWithResponse(String id, Context context) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String subscriptionId = parsedId.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource2Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource2s");
+        String subscriptionResource2Name = parsedId.getValueByName("subscriptionResource2s");
         if (subscriptionResource2Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource2s'.", id)));
@@ -84,12 +86,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource2Opera
     }
 
     public void deleteById(String id) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String subscriptionId = parsedId.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource2Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource2s");
+        String subscriptionResource2Name = parsedId.getValueByName("subscriptionResource2s");
         if (subscriptionResource2Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource2s'.", id)));
@@ -98,12 +101,13 @@ public final class TwoSubscriptionResourcesMethodLevelSubscriptionResource2Opera
     }
 
     public Response<Void> deleteByIdWithResponse(String id, Context context) {
-        String subscriptionId = ResourceManagerUtils.getValueFromIdByName(id, "subscriptions");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String subscriptionId = parsedId.getValueByName("subscriptions");
         if (subscriptionId == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'subscriptions'.", id)));
         }
-        String subscriptionResource2Name = ResourceManagerUtils.getValueFromIdByName(id, "subscriptionResource2s");
+        String subscriptionResource2Name = parsedId.getValueByName("subscriptionResource2s");
         if (subscriptionResource2Name == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'subscriptionResource2s'.", id)));
@@ -116,7 +116,7 @@ public final class CombinedImpl implements Combined {
     /**
      * The VirtualMachinesClient object to access its operations.
      */
-    private final VirtualMachinesClient virtualMachines;
+    private volatile VirtualMachinesClient virtualMachines;
 
     /**
      * Gets the VirtualMachinesClient object to access its operations.
@@ -124,13 +124,23 @@ public final class CombinedImpl implements Combined {
      * @return the VirtualMachinesClient object.
      */
     public VirtualMachinesClient getVirtualMachines() {
-        return this.virtualMachines;
+        VirtualMachinesClient localVirtualMachines = this.virtualMachines;
+        if (localVirtualMachines == null) {
+            synchronized (this) {
+                localVirtualMachines = this.virtualMachines;
+                if (localVirtualMachines == null) {
+                    localVirtualMachines = new VirtualMachinesClientImpl(this);
+                    this.virtualMachines = localVirtualMachines;
+                }
+            }
+        }
+        return localVirtualMachines;
     }
 
     /**
      * The DisksClient object to access its operations.
      */
-    private final DisksClient disks;
+    private volatile DisksClient disks;
 
     /**
      * Gets the DisksClient object to access its operations.
@@ -138,7 +148,17 @@ public final class CombinedImpl implements Combined {
      * @return the DisksClient object.
      */
     public DisksClient getDisks() {
-        return this.disks;
+        DisksClient localDisks = this.disks;
+        if (localDisks == null) {
+            synchronized (this) {
+                localDisks = this.disks;
+                if (localDisks == null) {
+                    localDisks = new DisksClientImpl(this);
+                    this.disks = localDisks;
+                }
+            }
+        }
+        return localDisks;
     }
 
     /**
@@ -158,8 +178,6 @@ public final class CombinedImpl implements Combined {
         this.defaultPollInterval = defaultPollInterval;
         this.endpoint = endpoint;
         this.subscriptionId = subscriptionId;
-        this.virtualMachines = new VirtualMachinesClientImpl(this);
-        this.disks = new DisksClientImpl(this);
     }
 
     /**
@@ -121,8 +121,9 @@ public final class DiskImpl implements Disk, Disk.Definition, Disk.Update {
     DiskImpl(DiskInner innerObject, azure.resourcemanager.multiservice.combined.CombinedManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.diskName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "disks");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.resourceGroupName = parsedId.getValueByName("resourceGroups");
+        this.diskName = parsedId.getValueByName("disks");
     }
 
     public Disk refresh() {
@@ -4,76 +4,138 @@
 
 package azure.resourcemanager.multiservice.combined.implementation;
 
-import com.azure.core.http.rest.PagedFlux;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpRequest;
 import com.azure.core.http.rest.PagedIterable;
 import com.azure.core.http.rest.PagedResponse;
-import com.azure.core.http.rest.PagedResponseBase;
-import com.azure.core.util.CoreUtils;
-import java.util.ArrayList;
+import com.azure.core.util.IterableStream;
+import java.io.IOException;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import reactor.core.publisher.Flux;
 
 final class ResourceManagerUtils {
     private ResourceManagerUtils() {
     }
 
     static String getValueFromIdByName(String id, String name) {
-        if (id == null) {
-            return null;
+        return ResourceId.parse(id).getValueByName(name);
+    }
+
+    static String getValueFromIdByParameterName(String id, String pathTemplate, String parameterName) {
+        return ResourceId.parse(id).getValueByParameterName(pathTemplate, parameterName);
+    }
+
+    static final class ResourceId {
+
+        private static final ResourceId EMPTY = new ResourceId(null, new int[0], 0);
+        // segments of the path templates, the templates are constants in the generated code
+        private static final Map<String, String[]> PATH_TEMPLATE_SEGMENTS = new ConcurrentHashMap<>();
+
+        private final String id;
+        // start (inclusive) and end (exclusive) offsets of each segment, as of "id.split("/")"
+        private final int[] offsets;
+        private final int segmentCount;
+
+        private ResourceId(String id, int[] offsets, int segmentCount) {
+            this.id = id;
+            this.offsets = offsets;
+            this.segmentCount = segmentCount;
         }
-        Iterator<String> itr = Arrays.stream(id.split("/")).iterator();
-        while (itr.hasNext()) {
-            String part = itr.next();
-            if (part != null && !part.trim().isEmpty()) {
-                if (part.equalsIgnoreCase(name)) {
-                    if (itr.hasNext()) {
-                        return itr.next();
-                    } else {
-                        return null;
-                    }
+
+        static ResourceId parse(String id) {
+            if (id == null) {
+                return EMPTY;
+            }
+            int[] offsets = new int[16];
+            int segmentCount = 0;
+            int start = 0;
+            while (true) {
+                int end = id.indexOf('/', start);
+                if (end < 0) {
+                    end = id.length();
+                }
+                if (segmentCount * 2 == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                offsets[segmentCount * 2] = start;
+                offsets[segmentCount * 2 + 1] = end;
+                ++segmentCount;
+                if (end == id.length()) {
+                    break;
                 }
+                start = end + 1;
             }
+            // trailing empty segments are ignored, same as "split"
+            while (segmentCount > 0 && isEmptySegment(offsets, segmentCount - 1)) {
+                --segmentCount;
+            }
+            return new ResourceId(id, offsets, segmentCount);
         }
-        return null;
-    }
 
-    static String getValueFromIdByParameterName(String id, String pathTemplate, String parameterName) {
-        if (id == null || pathTemplate == null) {
+        String getValueByName(String name) {
+            if (name == null) {
+                return null;
+            }
+            for (int i = 0; i < segmentCount; ++i) {
+                if (!isEmptySegment(offsets, i)
+                    && segmentLength(i) == name.length()
+                    && id.regionMatches(true, offsets[i * 2], name, 0, name.length())) {
+                    return i + 1 < segmentCount ? segment(i + 1) : null;
+                }
+            }
             return null;
         }
-        String parameterNameParentheses = "{" + parameterName + "}";
-        List<String> idSegmentsReverted = Arrays.asList(id.split("/"));
-        List<String> pathSegments = Arrays.asList(pathTemplate.split("/"));
-        Collections.reverse(idSegmentsReverted);
-        Iterator<String> idItrReverted = idSegmentsReverted.iterator();
-        int pathIndex = pathSegments.size();
-        while (idItrReverted.hasNext() && pathIndex > 0) {
-            String idSegment = idItrReverted.next();
-            String pathSegment = pathSegments.get(--pathIndex);
-            if (!CoreUtils.isNullOrEmpty(idSegment) && !CoreUtils.isNullOrEmpty(pathSegment)) {
-                if (pathSegment.equalsIgnoreCase(parameterNameParentheses)) {
-                    if (pathIndex == 0 || (pathIndex == 1 && pathSegments.get(0).isEmpty())) {
-                        List<String> segments = new ArrayList<>();
-                        segments.add(idSegment);
-                        idItrReverted.forEachRemaining(segments::add);
-                        Collections.reverse(segments);
-                        if (!segments.isEmpty() && segments.get(0).isEmpty()) {
-                            segments.remove(0);
-                        }
-                        return String.join("/", segments);
+
+        String getValueByParameterName(String pathTemplate, String parameterName) {
+            if (id == null || pathTemplate == null || parameterName == null) {
+                return null;
+            }
+            String[] pathSegments = PATH_TEMPLATE_SEGMENTS.computeIfAbsent(pathTemplate, t -> t.split("/"));
+            int idIndex = segmentCount;
+            int pathIndex = pathSegments.length;
+            while (idIndex > 0 && pathIndex > 0) {
+                --idIndex;
+                String pathSegment = pathSegments[--pathIndex];
+                if (!isEmptySegment(offsets, idIndex)
+                    && !pathSegment.isEmpty()
+                    && isParameterSegment(pathSegment, parameterName)) {
+                    if (pathIndex == 0 || (pathIndex == 1 && pathSegments[0].isEmpty())) {
+                        // the parameter is the scope, which takes all the remaining segments of the id
+                        int firstIndex = isEmptySegment(offsets, 0) ? 1 : 0;
+                        return id.substring(offsets[firstIndex * 2], offsets[idIndex * 2 + 1]);
                     } else {
-                        return idSegment;
+                        return segment(idIndex);
                     }
                 }
             }
+            return null;
+        }
+
+        private String segment(int index) {
+            return id.substring(offsets[index * 2], offsets[index * 2 + 1]);
+        }
+
+        private int segmentLength(int index) {
+            return offsets[index * 2 + 1] - offsets[index * 2];
+        }
+
+        private static boolean isEmptySegment(int[] offsets, int index) {
+            return offsets[index * 2] == offsets[index * 2 + 1];
+        }
+
+        private static boolean isParameterSegment(String pathSegment, String parameterName) {
+            return pathSegment.length() == parameterName.length() + 2
+                && pathSegment.charAt(0) == '{'
+                && pathSegment.charAt(pathSegment.length() - 1) == '}'
+                && pathSegment.regionMatches(true, 1, parameterName, 0, parameterName.length());
         }
-        return null;
     }
 
     static <T, S> PagedIterable<S> mapPage(PagedIterable<T> pageIterable, Function<T, S> mapper) {
@@ -87,17 +149,28 @@ final class ResourceManagerUtils {
         private final Function<PagedResponse<T>, PagedResponse<S>> pageMapper;
 
         private PagedIterableImpl(PagedIterable<T> pagedIterable, Function<T, S> mapper) {
-            super(PagedFlux.create(() -> (continuationToken, pageSize) -> Flux
-                .fromStream(pagedIterable.streamByPage().map(getPageMapper(mapper)))));
+            // sync page retrievers, no PagedFlux is created
+            super(
+                pageSize -> firstPage(
+                    pageSize == null ? pagedIterable.iterableByPage() : pagedIterable.iterableByPage(pageSize),
+                    getPageMapper(mapper)),
+                (continuationToken,
+                    pageSize) -> firstPage(pageSize == null
+                        ? pagedIterable.iterableByPage(continuationToken)
+                        : pagedIterable.iterableByPage(continuationToken, pageSize), getPageMapper(mapper)));
             this.pagedIterable = pagedIterable;
             this.mapper = mapper;
             this.pageMapper = getPageMapper(mapper);
         }
 
+        private static <T, S> PagedResponse<S> firstPage(Iterable<PagedResponse<T>> pages,
+            Function<PagedResponse<T>, PagedResponse<S>> pageMapper) {
+            Iterator<PagedResponse<T>> iterator = pages.iterator();
+            return iterator.hasNext() ? pageMapper.apply(iterator.next()) : null;
+        }
+
         private static <T, S> Function<PagedResponse<T>, PagedResponse<S>> getPageMapper(Function<T, S> mapper) {
-            return page -> new PagedResponseBase<Void, S>(page.getRequest(), page.getStatusCode(), page.getHeaders(),
-                page.getElements().stream().map(mapper).collect(Collectors.toList()), page.getContinuationToken(),
-                null);
+            return page -> new MappedPagedResponse<>(page, mapper);
         }
 
         @Override
@@ -192,4 +265,77 @@ final class ResourceManagerUtils {
             return new IteratorImpl<>(iterable.iterator(), mapper);
         }
     }
+
+    private static final class MappedPagedResponse<T, S> implements PagedResponse<S> {
+
+        private final PagedResponse<T> page;
+        private final Function<T, S> mapper;
+
+        private MappedPagedResponse(PagedResponse<T> page, Function<T, S> mapper) {
+            this.page = page;
+            this.mapper = mapper;
+        }
+
+        // elements are mapped on iteration, the inner page is not copied
+        @Override
+        public IterableStream<S> getElements() {
+            IterableStream<T> elements = page.getElements();
+            return elements == null
+                ? IterableStream.of(null)
+                : new IterableStream<>(new IterableImpl<>(elements, mapper));
+        }
+
+        @Override
+        public List<S> getValue() {
+            List<T> value = page.getValue();
+            return value == null ? Collections.emptyList() : new MappedList<>(value, mapper);
+        }
+
+        @Override
+        public String getContinuationToken() {
+            return page.getContinuationToken();
+        }
+
+        @Override
+        public int getStatusCode() {
+            return page.getStatusCode();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return page.getHeaders();
+        }
+
+        @Override
+        public HttpRequest getRequest() {
+            return page.getRequest();
+        }
+
+        @Override
+        public void close() throws IOException {
+            page.close();
+        }
+    }
+
+    private static final class MappedList<T, S> extends AbstractList<S> {
+
+        private final List<T> list;
+        private final Function<T, S> mapper;
+
+        private MappedList(List<T> list, Function<T, S> mapper) {
+            this.list = list;
+            this.mapper = mapper;
+        }
+
+        // element is mapped on each access, the page allocates nothing in proportion to its size
+        @Override
+        public S get(int index) {
+            return mapper.apply(list.get(index));
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
 }
@@ -116,7 +116,7 @@ public final class CombinedImpl implements Combined {
     /**
      * The VirtualMachinesClient object to access its operations.
      */
-    private final VirtualMachinesClient virtualMachines;
+    private volatile VirtualMachinesClient virtualMachines;
 
     /**
      * Gets the VirtualMachinesClient object to access its operations.
@@ -124,13 +124,23 @@ public final class CombinedImpl implements Combined {
      * @return the VirtualMachinesClient object.
      */
     public VirtualMachinesClient getVirtualMachines() {
-        return this.virtualMachines;
+        VirtualMachinesClient localVirtualMachines = this.virtualMachines;
+        if (localVirtualMachines == null) {
+            synchronized (this) {
+                localVirtualMachines = this.virtualMachines;
+                if (localVirtualMachines == null) {
+                    localVirtualMachines = new VirtualMachinesClientImpl(this);
+                    this.virtualMachines = localVirtualMachines;
+                }
+            }
+        }
+        return localVirtualMachines;
     }
 
     /**
      * The StorageAccountsClient object to access its operations.
      */
-    private final StorageAccountsClient storageAccounts;
+    private volatile StorageAccountsClient storageAccounts;
 
     /**
      * Gets the StorageAccountsClient object to access its operations.
@@ -138,7 +148,17 @@ public final class CombinedImpl implements Combined {
      * @return the StorageAccountsClient object.
      */
     public StorageAccountsClient getStorageAccounts() {
-        return this.storageAccounts;
+        StorageAccountsClient localStorageAccounts = this.storageAccounts;
+        if (localStorageAccounts == null) {
+            synchronized (this) {
+                localStorageAccounts = this.storageAccounts;
+                if (localStorageAccounts == null) {
+                    localStorageAccounts = new StorageAccountsClientImpl(this);
+                    this.storageAccounts = localStorageAccounts;
+                }
+            }
+        }
+        return localStorageAccounts;
     }
 
     /**
@@ -158,8 +178,6 @@ public final class CombinedImpl implements Combined {
         this.defaultPollInterval = defaultPollInterval;
         this.endpoint = endpoint;
         this.subscriptionId = subscriptionId;
-        this.virtualMachines = new VirtualMachinesClientImpl(this);
-        this.storageAccounts = new StorageAccountsClientImpl(this);
     }
 
     /**
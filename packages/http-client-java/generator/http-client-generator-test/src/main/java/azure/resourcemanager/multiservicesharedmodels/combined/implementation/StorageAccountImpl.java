@@ -123,8 +123,9 @@ public final class StorageAccountImpl implements StorageAccount, StorageAccount.
         azure.resourcemanager.multiservicesharedmodels.combined.CombinedManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.accountName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "storageAccounts");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.resourceGroupName = parsedId.getValueByName("resourceGroups");
+        this.accountName = parsedId.getValueByName("storageAccounts");
     }
 
     public StorageAccount refresh() {
@@ -110,7 +110,7 @@ public final class SharedMetadata implements JsonSerializable<SharedMetadata> {
         jsonWriter.writeStringField("createdAt",
             this.createdAt == null ? null : DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(this.createdAt));
         jsonWriter.writeStringField("createdBy", this.createdBy);
-        jsonWriter.writeMapField("tags", this.tags, (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("tags", this.tags, JsonWriter::writeString);
         return jsonWriter.writeEndObject();
     }
 
@@ -135,7 +135,7 @@ public final class SharedMetadata implements JsonSerializable<SharedMetadata> {
                 } else if ("createdBy".equals(fieldName)) {
                     deserializedSharedMetadata.createdBy = reader.getString();
                 } else if ("tags".equals(fieldName)) {
-                    Map<String, String> tags = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> tags = reader.readMap(JsonReader::getString);
                     deserializedSharedMetadata.tags = tags;
                 } else {
                     reader.skipChildren();
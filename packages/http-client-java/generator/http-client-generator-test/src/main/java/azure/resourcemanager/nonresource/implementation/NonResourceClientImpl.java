@@ -129,7 +129,7 @@ public final class NonResourceClientImpl implements NonResourceClient {
     /**
      * The NonResourceOperationsClient object to access its operations.
      */
-    private final NonResourceOperationsClient nonResourceOperations;
+    private volatile NonResourceOperationsClient nonResourceOperations;
 
     /**
      * Gets the NonResourceOperationsClient object to access its operations.
@@ -137,7 +137,17 @@ public final class NonResourceClientImpl implements NonResourceClient {
      * @return the NonResourceOperationsClient object.
      */
     public NonResourceOperationsClient getNonResourceOperations() {
-        return this.nonResourceOperations;
+        NonResourceOperationsClient localNonResourceOperations = this.nonResourceOperations;
+        if (localNonResourceOperations == null) {
+            synchronized (this) {
+                localNonResourceOperations = this.nonResourceOperations;
+                if (localNonResourceOperations == null) {
+                    localNonResourceOperations = new NonResourceOperationsClientImpl(this);
+                    this.nonResourceOperations = localNonResourceOperations;
+                }
+            }
+        }
+        return localNonResourceOperations;
     }
 
     /**
@@ -158,7 +168,6 @@ public final class NonResourceClientImpl implements NonResourceClient {
         this.endpoint = endpoint;
         this.subscriptionId = subscriptionId;
         this.apiVersion = "2023-12-01-preview";
-        this.nonResourceOperations = new NonResourceOperationsClientImpl(this);
     }
 
     /**
@@ -42,12 +42,13 @@ public final class NonResourceOperationsImpl implements NonResourceOperations {
     }
 
     public NonResource getById(String id) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String location = parsedId.getValueByName("locations");
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String parameter = ResourceManagerUtils.getValueFromIdByName(id, "otherParameters");
+        String parameter = parsedId.getValueByName("otherParameters");
         if (parameter == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'otherParameters'.", id)));
@@ -56,12 +57,13 @@ public final class NonResourceOperationsImpl implements NonResourceOperations {
     }
 
     public Response<NonResource> getByIdWithResponse(String id, Context context) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String location = parsedId.getValueByName("locations");
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String parameter = ResourceManagerUtils.getValueFromIdByName(id, "otherParameters");
+        String parameter = parsedId.getValueByName("otherParameters");
         if (parameter == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'otherParameters'.", id)));
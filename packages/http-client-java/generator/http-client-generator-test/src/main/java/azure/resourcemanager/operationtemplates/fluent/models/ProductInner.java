@@ -105,7 +105,7 @@ public final class ProductInner extends Resource {
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("location", location());
-        jsonWriter.writeMapField("tags", tags(), (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("tags", tags(), JsonWriter::writeString);
         jsonWriter.writeJsonField("properties", this.properties);
         return jsonWriter.writeEndObject();
     }
@@ -135,7 +135,7 @@ public final class ProductInner extends Resource {
                 } else if ("location".equals(fieldName)) {
                     deserializedProductInner.withLocation(reader.getString());
                 } else if ("tags".equals(fieldName)) {
-                    Map<String, String> tags = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> tags = reader.readMap(JsonReader::getString);
                     deserializedProductInner.withTags(tags);
                 } else if ("properties".equals(fieldName)) {
                     deserializedProductInner.properties = ProductProperties.fromJson(reader);
@@ -133,7 +133,7 @@ public final class OperationTemplatesClientImpl implements OperationTemplatesCli
     /**
      * The OperationsClient object to access its operations.
      */
-    private final OperationsClient operations;
+    private volatile OperationsClient operations;
 
     /**
      * Gets the OperationsClient object to access its operations.
@@ -141,13 +141,23 @@ public final class OperationTemplatesClientImpl implements OperationTemplatesCli
      * @return the OperationsClient object.
      */
     public OperationsClient getOperations() {
-        return this.operations;
+        OperationsClient localOperations = this.operations;
+        if (localOperations == null) {
+            synchronized (this) {
+                localOperations = this.operations;
+                if (localOperations == null) {
+                    localOperations = new OperationsClientImpl(this);
+                    this.operations = localOperations;
+                }
+            }
+        }
+        return localOperations;
     }
 
     /**
      * The CheckNameAvailabilitiesClient object to access its operations.
      */
-    private final CheckNameAvailabilitiesClient checkNameAvailabilities;
+    private volatile CheckNameAvailabilitiesClient checkNameAvailabilities;
 
     /**
      * Gets the CheckNameAvailabilitiesClient object to access its operations.
@@ -155,13 +165,23 @@ public final class OperationTemplatesClientImpl implements OperationTemplatesCli
      * @return the CheckNameAvailabilitiesClient object.
      */
     public CheckNameAvailabilitiesClient getCheckNameAvailabilities() {
-        return this.checkNameAvailabilities;
+        CheckNameAvailabilitiesClient localCheckNameAvailabilities = this.checkNameAvailabilities;
+        if (localCheckNameAvailabilities == null) {
+            synchronized (this) {
+                localCheckNameAvailabilities = this.checkNameAvailabilities;
+                if (localCheckNameAvailabilities == null) {
+                    localCheckNameAvailabilities = new CheckNameAvailabilitiesClientImpl(this);
+                    this.checkNameAvailabilities = localCheckNameAvailabilities;
+                }
+            }
+        }
+        return localCheckNameAvailabilities;
     }
 
     /**
      * The LroesClient object to access its operations.
      */
-    private final LroesClient lroes;
+    private volatile LroesClient lroes;
 
     /**
      * Gets the LroesClient object to access its operations.
@@ -169,13 +189,23 @@ public final class OperationTemplatesClientImpl implements OperationTemplatesCli
      * @return the LroesClient object.
      */
     public LroesClient getLroes() {
-        return this.lroes;
+        LroesClient localLroes = this.lroes;
+        if (localLroes == null) {
+            synchronized (this) {
+                localLroes = this.lroes;
+                if (localLroes == null) {
+                    localLroes = new LroesClientImpl(this);
+                    this.lroes = localLroes;
+                }
+            }
+        }
+        return localLroes;
     }
 
     /**
      * The LroPagingsClient object to access its operations.
      */
-    private final LroPagingsClient lroPagings;
+    private volatile LroPagingsClient lroPagings;
 
     /**
      * Gets the LroPagingsClient object to access its operations.
@@ -183,13 +213,23 @@ public final class OperationTemplatesClientImpl implements OperationTemplatesCli
      * @return the LroPagingsClient object.
      */
     public LroPagingsClient getLroPagings() {
-        return this.lroPagings;
+        LroPagingsClient localLroPagings = this.lroPagings;
+        if (localLroPagings == null) {
+            synchronized (this) {
+                localLroPagings = this.lroPagings;
+                if (localLroPagings == null) {
+                    localLroPagings = new LroPagingsClientImpl(this);
+                    this.lroPagings = localLroPagings;
+                }
+            }
+        }
+        return localLroPagings;
     }
 
     /**
      * The OptionalBodiesClient object to access its operations.
      */
-    private final OptionalBodiesClient optionalBodies;
+    private volatile OptionalBodiesClient optionalBodies;
 
     /**
      * Gets the OptionalBodiesClient object to access its operations.
@@ -197,7 +237,17 @@ public final class OperationTemplatesClientImpl implements OperationTemplatesCli
      * @return the OptionalBodiesClient object.
      */
     public OptionalBodiesClient getOptionalBodies() {
-        return this.optionalBodies;
+        OptionalBodiesClient localOptionalBodies = this.optionalBodies;
+        if (localOptionalBodies == null) {
+            synchronized (this) {
+                localOptionalBodies = this.optionalBodies;
+                if (localOptionalBodies == null) {
+                    localOptionalBodies = new OptionalBodiesClientImpl(this);
+                    this.optionalBodies = localOptionalBodies;
+                }
+            }
+        }
+        return localOptionalBodies;
     }
 
     /**
@@ -218,11 +268,6 @@ public final class OperationTemplatesClientImpl implements OperationTemplatesCli
         this.endpoint = endpoint;
         this.subscriptionId = subscriptionId;
         this.apiVersion = "2023-12-01-preview";
-        this.operations = new OperationsClientImpl(this);
-        this.checkNameAvailabilities = new CheckNameAvailabilitiesClientImpl(this);
-        this.lroes = new LroesClientImpl(this);
-        this.lroPagings = new LroPagingsClientImpl(this);
-        this.optionalBodies = new OptionalBodiesClientImpl(this);
     }
 
     /**
@@ -59,7 +59,7 @@ public final class OperationListResult implements JsonSerializable<OperationList
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("value", this.value, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("value", this.value, JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", this.nextLink);
         return jsonWriter.writeEndObject();
     }
@@ -81,7 +81,7 @@ public final class OperationListResult implements JsonSerializable<OperationList
                 reader.nextToken();
 
                 if ("value".equals(fieldName)) {
-                    List<OperationInner> value = reader.readArray(reader1 -> OperationInner.fromJson(reader1));
+                    List<OperationInner> value = reader.readArray(OperationInner::fromJson);
                     deserializedOperationListResult.value = value;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedOperationListResult.nextLink = reader.getString();
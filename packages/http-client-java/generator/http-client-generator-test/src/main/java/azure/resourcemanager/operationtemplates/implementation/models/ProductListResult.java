@@ -58,7 +58,7 @@ public final class ProductListResult implements JsonSerializable<ProductListResu
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("value", this.value, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("value", this.value, JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", this.nextLink);
         return jsonWriter.writeEndObject();
     }
@@ -80,7 +80,7 @@ public final class ProductListResult implements JsonSerializable<ProductListResu
                 reader.nextToken();
 
                 if ("value".equals(fieldName)) {
-                    List<ProductInner> value = reader.readArray(reader1 -> ProductInner.fromJson(reader1));
+                    List<ProductInner> value = reader.readArray(ProductInner::fromJson);
                     deserializedProductListResult.value = value;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedProductListResult.nextLink = reader.getString();
@@ -134,7 +134,7 @@ public final class SingletonTrackedResourceInner extends Resource {
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("location", location());
-        jsonWriter.writeMapField("tags", tags(), (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("tags", tags(), JsonWriter::writeString);
         jsonWriter.writeJsonField("properties", this.properties);
         return jsonWriter.writeEndObject();
     }
@@ -165,7 +165,7 @@ public final class SingletonTrackedResourceInner extends Resource {
                 } else if ("location".equals(fieldName)) {
                     deserializedSingletonTrackedResourceInner.withLocation(reader.getString());
                 } else if ("tags".equals(fieldName)) {
-                    Map<String, String> tags = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> tags = reader.readMap(JsonReader::getString);
                     deserializedSingletonTrackedResourceInner.withTags(tags);
                 } else if ("properties".equals(fieldName)) {
                     deserializedSingletonTrackedResourceInner.properties
@@ -97,10 +97,11 @@ public final class ExtensionsResourceImpl
         azure.resourcemanager.resources.ResourcesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.resourceUri = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "resourceUri");
-        this.extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
+        this.extensionsResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "extensionsResourceName");
     }
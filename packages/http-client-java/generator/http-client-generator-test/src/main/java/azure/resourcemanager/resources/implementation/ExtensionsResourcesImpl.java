@@ -64,14 +64,15 @@ public final class ExtensionsResourcesImpl implements ExtensionsResources {
     }
 
     public ExtensionsResource getById(String id) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceUri = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String extensionsResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "extensionsResourceName");
         if (extensionsResourceName == null) {
@@ -82,14 +83,15 @@ public final class ExtensionsResourcesImpl implements ExtensionsResources {
     }
 
     public Response<ExtensionsResource> getByIdWithResponse(String id, Context context) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceUri = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String extensionsResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "extensionsResourceName");
         if (extensionsResourceName == null) {
@@ -100,14 +102,15 @@ public final class ExtensionsResourcesImpl implements ExtensionsResources {
     }
 
     public void deleteById(String id) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceUri = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String extensionsResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "extensionsResourceName");
         if (extensionsResourceName == null) {
@@ -118,14 +121,15 @@ public final class ExtensionsResourcesImpl implements ExtensionsResources {
     }
 
     public Response<Void> deleteByIdWithResponse(String id, Context context) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceUri = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String extensionsResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String extensionsResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/Azure.ResourceManager.Resources/extensionsResources/{extensionsResourceName}",
             "extensionsResourceName");
         if (extensionsResourceName == null) {
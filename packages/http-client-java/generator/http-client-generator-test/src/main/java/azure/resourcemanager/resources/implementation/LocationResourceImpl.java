@@ -99,8 +99,9 @@ public final class LocationResourceImpl
         azure.resourcemanager.resources.ResourcesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.location = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "locations");
-        this.locationResourceName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "locationResources");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.location = parsedId.getValueByName("locations");
+        this.locationResourceName = parsedId.getValueByName("locationResources");
     }
 
     public LocationResource refresh() {
@@ -63,12 +63,13 @@ public final class LocationResourcesImpl implements LocationResources {
     }
 
     public LocationResource getById(String id) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String location = parsedId.getValueByName("locations");
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String locationResourceName = ResourceManagerUtils.getValueFromIdByName(id, "locationResources");
+        String locationResourceName = parsedId.getValueByName("locationResources");
         if (locationResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locationResources'.", id)));
@@ -77,12 +78,13 @@ public final class LocationResourcesImpl implements LocationResources {
     }
 
     public Response<LocationResource> getByIdWithResponse(String id, Context context) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String location = parsedId.getValueByName("locations");
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String locationResourceName = ResourceManagerUtils.getValueFromIdByName(id, "locationResources");
+        String locationResourceName = parsedId.getValueByName("locationResources");
         if (locationResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locationResources'.", id)));
@@ -91,12 +93,13 @@ public final class LocationResourcesImpl implements LocationResources {
     }
 
     public void deleteById(String id) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String location = parsedId.getValueByName("locations");
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String locationResourceName = ResourceManagerUtils.getValueFromIdByName(id, "locationResources");
+        String locationResourceName = parsedId.getValueByName("locationResources");
         if (locationResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locationResources'.", id)));
@@ -105,12 +108,13 @@ public final class LocationResourcesImpl implements LocationResources {
     }
 
     public Response<Void> deleteByIdWithResponse(String id, Context context) {
-        String location = ResourceManagerUtils.getValueFromIdByName(id, "locations");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String location = parsedId.getValueByName("locations");
         if (location == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locations'.", id)));
         }
-        String locationResourceName = ResourceManagerUtils.getValueFromIdByName(id, "locationResources");
+        String locationResourceName = parsedId.getValueByName("locationResources");
         if (locationResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'locationResources'.", id)));
@@ -107,11 +107,10 @@ public final class NestedProxyResourceImpl
         azure.resourcemanager.resources.ResourcesManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.topLevelTrackedResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "topLevelTrackedResources");
-        this.nextedProxyResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "nestedProxyResources");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.resourceGroupName = parsedId.getValueByName("resourceGroups");
+        this.topLevelTrackedResourceName = parsedId.getValueByName("topLevelTrackedResources");
+        this.nextedProxyResourceName = parsedId.getValueByName("nestedProxyResources");
     }
 
     public NestedProxyResource refresh() {
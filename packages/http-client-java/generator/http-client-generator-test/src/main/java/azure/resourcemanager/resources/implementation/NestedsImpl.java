@@ -69,17 +69,18 @@ public final class NestedsImpl implements Nesteds {
     }
 
     public NestedProxyResource getById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceGroupName = parsedId.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String topLevelTrackedResourceName = ResourceManagerUtils.getValueFromIdByName(id, "topLevelTrackedResources");
+        String topLevelTrackedResourceName = parsedId.getValueByName("topLevelTrackedResources");
         if (topLevelTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'topLevelTrackedResources'.", id)));
         }
-        String nextedProxyResourceName = ResourceManagerUtils.getValueFromIdByName(id, "nestedProxyResources");
+        String nextedProxyResourceName = parsedId.getValueByName("nestedProxyResources");
         if (nextedProxyResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'nestedProxyResources'.", id)));
@@ -90,17 +91,18 @@ public final class NestedsImpl implements Nesteds {
     }
 
     public Response<NestedProxyResource> getByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceGroupName = parsedId.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String topLevelTrackedResourceName = ResourceManagerUtils.getValueFromIdByName(id, "topLevelTrackedResources");
+        String topLevelTrackedResourceName = parsedId.getValueByName("topLevelTrackedResources");
         if (topLevelTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'topLevelTrackedResources'.", id)));
         }
-        String nextedProxyResourceName = ResourceManagerUtils.getValueFromIdByName(id, "nestedProxyResources");
+        String nextedProxyResourceName = parsedId.getValueByName("nestedProxyResources");
         if (nextedProxyResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'nestedProxyResources'.", id)));
@@ -109,17 +111,18 @@ public final class NestedsImpl implements Nesteds {
     }
 
     public void deleteById(String id) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceGroupName = parsedId.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String topLevelTrackedResourceName = ResourceManagerUtils.getValueFromIdByName(id, "topLevelTrackedResources");
+        String topLevelTrackedResourceName = parsedId.getValueByName("topLevelTrackedResources");
         if (topLevelTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'topLevelTrackedResources'.", id)));
         }
-        String nextedProxyResourceName = ResourceManagerUtils.getValueFromIdByName(id, "nestedProxyResources");
+        String nextedProxyResourceName = parsedId.getValueByName("nestedProxyResources");
         if (nextedProxyResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'nestedProxyResources'.", id)));
@@ -128,17 +131,18 @@ public final class NestedsImpl implements Nesteds {
     }
 
     public void deleteByIdWithResponse(String id, Context context) {
-        String resourceGroupName = ResourceManagerUtils.getValueFromIdByName(id, "resourceGroups");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceGroupName = parsedId.getValueByName("resourceGroups");
         if (resourceGroupName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceGroups'.", id)));
         }
-        String topLevelTrackedResourceName = ResourceManagerUtils.getValueFromIdByName(id, "topLevelTrackedResources");
+        String topLevelTrackedResourceName = parsedId.getValueByName("topLevelTrackedResources");
         if (topLevelTrackedResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'topLevelTrackedResources'.", id)));
         }
-        String nextedProxyResourceName = ResourceManagerUtils.getValueFromIdByName(id, "nestedProxyResources");
+        String nextedProxyResourceName = parsedId.getValueByName("nestedProxyResources");
         if (nextedProxyResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'nestedProxyResources'.", id)));
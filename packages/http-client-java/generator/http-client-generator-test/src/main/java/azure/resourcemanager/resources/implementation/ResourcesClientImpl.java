@@ -133,7 +133,7 @@ public final class ResourcesClientImpl implements ResourcesClient {
     /**
      * The TopLevelsClient object to access its operations.
      */
-    private final TopLevelsClient topLevels;
+    private volatile TopLevelsClient topLevels;
 
     /**
      * Gets the TopLevelsClient object to access its operations.
@@ -141,13 +141,23 @@ public final class ResourcesClientImpl implements ResourcesClient {
      * @return the TopLevelsClient object.
      */
     public TopLevelsClient getTopLevels() {
-        return this.topLevels;
+        TopLevelsClient localTopLevels = this.topLevels;
+        if (localTopLevels == null) {
+            synchronized (this) {
+                localTopLevels = this.topLevels;
+                if (localTopLevels == null) {
+                    localTopLevels = new TopLevelsClientImpl(this);
+                    this.topLevels = localTopLevels;
+                }
+            }
+        }
+        return localTopLevels;
     }
 
     /**
      * The NestedsClient object to access its operations.
      */
-    private final NestedsClient nesteds;
+    private volatile NestedsClient nesteds;
 
     /**
      * Gets the NestedsClient object to access its operations.
@@ -155,13 +165,23 @@ public final class ResourcesClientImpl implements ResourcesClient {
      * @return the NestedsClient object.
      */
     public NestedsClient getNesteds() {
-        return this.nesteds;
+        NestedsClient localNesteds = this.nesteds;
+        if (localNesteds == null) {
+            synchronized (this) {
+                localNesteds = this.nesteds;
+                if (localNesteds == null) {
+                    localNesteds = new NestedsClientImpl(this);
+                    this.nesteds = localNesteds;
+                }
+            }
+        }
+        return localNesteds;
     }
 
     /**
      * The SingletonsClient object to access its operations.
      */
-    private final SingletonsClient singletons;
+    private volatile SingletonsClient singletons;
 
     /**
      * Gets the SingletonsClient object to access its operations.
@@ -169,13 +189,23 @@ public final class ResourcesClientImpl implements ResourcesClient {
      * @return the SingletonsClient object.
      */
     public SingletonsClient getSingletons() {
-        return this.singletons;
+        SingletonsClient localSingletons = this.singletons;
+        if (localSingletons == null) {
+            synchronized (this) {
+                localSingletons = this.singletons;
+                if (localSingletons == null) {
+                    localSingletons = new SingletonsClientImpl(this);
+                    this.singletons = localSingletons;
+                }
+            }
+        }
+        return localSingletons;
     }
 
     /**
      * The ExtensionsResourcesClient object to access its operations.
      */
-    private final ExtensionsResourcesClient extensionsResources;
+    private volatile ExtensionsResourcesClient extensionsResources;
 
     /**
      * Gets the ExtensionsResourcesClient object to access its operations.
@@ -183,13 +213,23 @@ public final class ResourcesClientImpl implements ResourcesClient {
      * @return the ExtensionsResourcesClient object.
      */
     public ExtensionsResourcesClient getExtensionsResources() {
-        return this.extensionsResources;
+        ExtensionsResourcesClient localExtensionsResources = this.extensionsResources;
+        if (localExtensionsResources == null) {
+            synchronized (this) {
+                localExtensionsResources = this.extensionsResources;
+                if (localExtensionsResources == null) {
+                    localExtensionsResources = new ExtensionsResourcesClientImpl(this);
+                    this.extensionsResources = localExtensionsResources;
+                }
+            }
+        }
+        return localExtensionsResources;
     }
 
     /**
      * The LocationResourcesClient object to access its operations.
      */
-    private final LocationResourcesClient locationResources;
+    private volatile LocationResourcesClient locationResources;
 
     /**
      * Gets the LocationResourcesClient object to access its operations.
@@ -197,7 +237,17 @@ public final class ResourcesClientImpl implements ResourcesClient {
      * @return the LocationResourcesClient object.
      */
     public LocationResourcesClient getLocationResources() {
-        return this.locationResources;
+        LocationResourcesClient localLocationResources = this.locationResources;
+        if (localLocationResources == null) {
+            synchronized (this) {
+                localLocationResources = this.locationResources;
+                if (localLocationResources == null) {
+                    localLocationResources = new LocationResourcesClientImpl(this);
+                    this.locationResources = localLocationResources;
+                }
+            }
+        }
+        return localLocationResources;
     }
 
     /**
@@ -218,11 +268,6 @@ public final class ResourcesClientImpl implements ResourcesClient {
         this.endpoint = endpoint;
         this.subscriptionId = subscriptionId;
         this.apiVersion = "2023-12-01-preview";
-        this.topLevels = new TopLevelsClientImpl(this);
-        this.nesteds = new NestedsClientImpl(this);
-        this.singletons = new SingletonsClientImpl(this);
-        this.extensionsResources = new ExtensionsResourcesClientImpl(this);
-        this.locationResources = new LocationResourcesClientImpl(this);
     }
 
     /**
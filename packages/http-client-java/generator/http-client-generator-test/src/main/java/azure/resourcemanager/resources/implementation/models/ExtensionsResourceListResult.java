@@ -58,7 +58,7 @@ public final class ExtensionsResourceListResult implements JsonSerializable<Exte
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("value", this.value, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("value", this.value, JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", this.nextLink);
         return jsonWriter.writeEndObject();
     }
@@ -80,8 +80,7 @@ public final class ExtensionsResourceListResult implements JsonSerializable<Exte
                 reader.nextToken();
 
                 if ("value".equals(fieldName)) {
-                    List<ExtensionsResourceInner> value
-                        = reader.readArray(reader1 -> ExtensionsResourceInner.fromJson(reader1));
+                    List<ExtensionsResourceInner> value = reader.readArray(ExtensionsResourceInner::fromJson);
                     deserializedExtensionsResourceListResult.value = value;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedExtensionsResourceListResult.nextLink = reader.getString();
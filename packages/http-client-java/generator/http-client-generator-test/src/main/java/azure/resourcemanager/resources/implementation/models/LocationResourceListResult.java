@@ -58,7 +58,7 @@ public final class LocationResourceListResult implements JsonSerializable<Locati
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("value", this.value, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("value", this.value, JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", this.nextLink);
         return jsonWriter.writeEndObject();
     }
@@ -80,8 +80,7 @@ public final class LocationResourceListResult implements JsonSerializable<Locati
                 reader.nextToken();
 
                 if ("value".equals(fieldName)) {
-                    List<LocationResourceInner> value
-                        = reader.readArray(reader1 -> LocationResourceInner.fromJson(reader1));
+                    List<LocationResourceInner> value = reader.readArray(LocationResourceInner::fromJson);
                     deserializedLocationResourceListResult.value = value;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedLocationResourceListResult.nextLink = reader.getString();
@@ -58,7 +58,7 @@ public final class NestedProxyResourceListResult implements JsonSerializable<Nes
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("value", this.value, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("value", this.value, JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", this.nextLink);
         return jsonWriter.writeEndObject();
     }
@@ -81,8 +81,7 @@ public final class NestedProxyResourceListResult implements JsonSerializable<Nes
                 reader.nextToken();
 
                 if ("value".equals(fieldName)) {
-                    List<NestedProxyResourceInner> value
-                        = reader.readArray(reader1 -> NestedProxyResourceInner.fromJson(reader1));
+                    List<NestedProxyResourceInner> value = reader.readArray(NestedProxyResourceInner::fromJson);
                     deserializedNestedProxyResourceListResult.value = value;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedNestedProxyResourceListResult.nextLink = reader.getString();
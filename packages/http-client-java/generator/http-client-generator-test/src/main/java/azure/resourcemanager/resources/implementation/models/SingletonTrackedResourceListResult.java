@@ -58,7 +58,7 @@ public final class SingletonTrackedResourceListResult implements JsonSerializabl
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("value", this.value, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("value", this.value, JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", this.nextLink);
         return jsonWriter.writeEndObject();
     }
@@ -82,7 +82,7 @@ public final class SingletonTrackedResourceListResult implements JsonSerializabl
 
                 if ("value".equals(fieldName)) {
                     List<SingletonTrackedResourceInner> value
-                        = reader.readArray(reader1 -> SingletonTrackedResourceInner.fromJson(reader1));
+                        = reader.readArray(SingletonTrackedResourceInner::fromJson);
                     deserializedSingletonTrackedResourceListResult.value = value;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedSingletonTrackedResourceListResult.nextLink = reader.getString();
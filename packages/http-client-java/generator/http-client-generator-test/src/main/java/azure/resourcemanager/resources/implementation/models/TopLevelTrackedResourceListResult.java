@@ -58,7 +58,7 @@ public final class TopLevelTrackedResourceListResult implements JsonSerializable
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("value", this.value, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("value", this.value, JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", this.nextLink);
         return jsonWriter.writeEndObject();
     }
@@ -81,8 +81,7 @@ public final class TopLevelTrackedResourceListResult implements JsonSerializable
                 reader.nextToken();
 
                 if ("value".equals(fieldName)) {
-                    List<TopLevelTrackedResourceInner> value
-                        = reader.readArray(reader1 -> TopLevelTrackedResourceInner.fromJson(reader1));
+                    List<TopLevelTrackedResourceInner> value = reader.readArray(TopLevelTrackedResourceInner::fromJson);
                     deserializedTopLevelTrackedResourceListResult.value = value;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedTopLevelTrackedResourceListResult.nextLink = reader.getString();
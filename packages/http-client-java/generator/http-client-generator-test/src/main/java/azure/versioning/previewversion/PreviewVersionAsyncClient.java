@@ -5,6 +5,7 @@
 package azure.versioning.previewversion;
 
 import azure.versioning.previewversion.implementation.JsonMergePatchHelper;
+import azure.versioning.previewversion.implementation.JsonSerializableHelper;
 import azure.versioning.previewversion.implementation.PreviewVersionClientImpl;
 import azure.versioning.previewversion.models.ListWidgetsResponse;
 import azure.versioning.previewversion.models.UpdateWidgetColorRequest;
@@ -164,7 +165,7 @@ public final class PreviewVersionAsyncClient {
         // Generated convenience method for getWidgetWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWidgetWithResponse(id, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Widget.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Widget::fromJson));
     }
 
     /**
@@ -184,13 +185,10 @@ public final class PreviewVersionAsyncClient {
     public Mono<Widget> updateWidgetColor(String id, UpdateWidgetColorRequest colorUpdate) {
         // Generated convenience method for updateWidgetColorWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getUpdateWidgetColorRequestAccessor().prepareModelForJsonMergePatch(colorUpdate, true);
-        BinaryData colorUpdateInBinaryData = BinaryData.fromObject(colorUpdate);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        colorUpdateInBinaryData.getLength();
-        JsonMergePatchHelper.getUpdateWidgetColorRequestAccessor().prepareModelForJsonMergePatch(colorUpdate, false);
+        BinaryData colorUpdateInBinaryData = JsonSerializableHelper.toBinaryData(colorUpdate,
+            JsonMergePatchHelper.getUpdateWidgetColorRequestAccessor()::toJsonMergePatch);
         return updateWidgetColorWithResponse(id, colorUpdateInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Widget.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Widget::fromJson));
     }
 
     /**
@@ -218,7 +216,8 @@ public final class PreviewVersionAsyncClient {
             requestOptions.addQueryParam("color", color, false);
         }
         return listWidgetsWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ListWidgetsResponse.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                ListWidgetsResponse::fromJson));
     }
 
     /**
@@ -237,6 +236,7 @@ public final class PreviewVersionAsyncClient {
         // Generated convenience method for listWidgetsWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return listWidgetsWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ListWidgetsResponse.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                ListWidgetsResponse::fromJson));
     }
 }
@@ -5,6 +5,7 @@
 package azure.versioning.previewversion;
 
 import azure.versioning.previewversion.implementation.JsonMergePatchHelper;
+import azure.versioning.previewversion.implementation.JsonSerializableHelper;
 import azure.versioning.previewversion.implementation.PreviewVersionClientImpl;
 import azure.versioning.previewversion.models.ListWidgetsResponse;
 import azure.versioning.previewversion.models.UpdateWidgetColorRequest;
@@ -160,7 +161,8 @@ public final class PreviewVersionClient {
     public Widget getWidget(String id) {
         // Generated convenience method for getWidgetWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWidgetWithResponse(id, requestOptions).getValue().toObject(Widget.class);
+        return JsonSerializableHelper.fromBinaryData(getWidgetWithResponse(id, requestOptions).getValue(),
+            Widget::fromJson);
     }
 
     /**
@@ -180,13 +182,10 @@ public final class PreviewVersionClient {
     public Widget updateWidgetColor(String id, UpdateWidgetColorRequest colorUpdate) {
         // Generated convenience method for updateWidgetColorWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getUpdateWidgetColorRequestAccessor().prepareModelForJsonMergePatch(colorUpdate, true);
-        BinaryData colorUpdateInBinaryData = BinaryData.fromObject(colorUpdate);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        colorUpdateInBinaryData.getLength();
-        JsonMergePatchHelper.getUpdateWidgetColorRequestAccessor().prepareModelForJsonMergePatch(colorUpdate, false);
-        return updateWidgetColorWithResponse(id, colorUpdateInBinaryData, requestOptions).getValue()
-            .toObject(Widget.class);
+        BinaryData colorUpdateInBinaryData = JsonSerializableHelper.toBinaryData(colorUpdate,
+            JsonMergePatchHelper.getUpdateWidgetColorRequestAccessor()::toJsonMergePatch);
+        return JsonSerializableHelper.fromBinaryData(
+            updateWidgetColorWithResponse(id, colorUpdateInBinaryData, requestOptions).getValue(), Widget::fromJson);
     }
 
     /**
@@ -213,7 +212,8 @@ public final class PreviewVersionClient {
         if (color != null) {
             requestOptions.addQueryParam("color", color, false);
         }
-        return listWidgetsWithResponse(requestOptions).getValue().toObject(ListWidgetsResponse.class);
+        return JsonSerializableHelper.fromBinaryData(listWidgetsWithResponse(requestOptions).getValue(),
+            ListWidgetsResponse::fromJson);
     }
 
     /**
@@ -231,6 +231,7 @@ public final class PreviewVersionClient {
     public ListWidgetsResponse listWidgets() {
         // Generated convenience method for listWidgetsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return listWidgetsWithResponse(requestOptions).getValue().toObject(ListWidgetsResponse.class);
+        return JsonSerializableHelper.fromBinaryData(listWidgetsWithResponse(requestOptions).getValue(),
+            ListWidgetsResponse::fromJson);
     }
 }
@@ -5,6 +5,8 @@
 package azure.versioning.previewversion.implementation;
 
 import azure.versioning.previewversion.models.UpdateWidgetColorRequest;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
 
 /**
  * This is the Helper class to enable json merge patch serialization for a model.
@@ -17,6 +19,9 @@ public class JsonMergePatchHelper {
             boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(UpdateWidgetColorRequest updateWidgetColorRequest);
+
+        JsonWriter toJsonMergePatch(UpdateWidgetColorRequest updateWidgetColorRequest, JsonWriter jsonWriter)
+            throws IOException;
     }
 
     public static void setUpdateWidgetColorRequestAccessor(UpdateWidgetColorRequestAccessor accessor) {
@@ -51,7 +51,7 @@ public final class ListWidgetsResponse implements JsonSerializable<ListWidgetsRe
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("widgets", this.widgets, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("widgets", this.widgets, JsonWriter::writeJson);
         return jsonWriter.writeEndObject();
     }
 
@@ -73,7 +73,7 @@ public final class ListWidgetsResponse implements JsonSerializable<ListWidgetsRe
                 reader.nextToken();
 
                 if ("widgets".equals(fieldName)) {
-                    widgets = reader.readArray(reader1 -> Widget.fromJson(reader1));
+                    widgets = reader.readArray(Widget::fromJson);
                 } else {
                     reader.skipChildren();
                 }
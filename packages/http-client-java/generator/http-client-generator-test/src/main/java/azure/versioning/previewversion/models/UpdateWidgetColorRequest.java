@@ -54,6 +54,12 @@ public final class UpdateWidgetColorRequest implements JsonSerializable<UpdateWi
                 public boolean isJsonMergePatch(UpdateWidgetColorRequest model) {
                     return model.jsonMergePatch;
                 }
+
+                @Override
+                public JsonWriter toJsonMergePatch(UpdateWidgetColorRequest model, JsonWriter jsonWriter)
+                    throws IOException {
+                    return model.toJsonMergePatch(jsonWriter);
+                }
             });
     }
 
@@ -6,6 +6,7 @@ package client.clientnamespace;
 
 import client.clientnamespace.first.models.FirstClientResult;
 import client.clientnamespace.implementation.ClientNamespaceFirstClientImpl;
+import client.clientnamespace.implementation.JsonSerializableHelper;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceClient;
@@ -79,6 +80,7 @@ public final class ClientNamespaceFirstAsyncClient {
         // Generated convenience method for getFirstWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getFirstWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(FirstClientResult.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                FirstClientResult::fromJson));
     }
 }
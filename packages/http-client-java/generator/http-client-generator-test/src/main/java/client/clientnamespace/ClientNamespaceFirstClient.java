@@ -6,6 +6,7 @@ package client.clientnamespace;
 
 import client.clientnamespace.first.models.FirstClientResult;
 import client.clientnamespace.implementation.ClientNamespaceFirstClientImpl;
+import client.clientnamespace.implementation.JsonSerializableHelper;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceClient;
@@ -76,6 +77,7 @@ public final class ClientNamespaceFirstClient {
     public FirstClientResult getFirst() {
         // Generated convenience method for getFirstWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getFirstWithResponse(requestOptions).getValue().toObject(FirstClientResult.class);
+        return JsonSerializableHelper.fromBinaryData(getFirstWithResponse(requestOptions).getValue(),
+            FirstClientResult::fromJson);
     }
 }
@@ -5,6 +5,7 @@
 package client.clientnamespace.second;
 
 import client.clientnamespace.implementation.ClientNamespaceSecondClientImpl;
+import client.clientnamespace.implementation.JsonSerializableHelper;
 import client.clientnamespace.second.models.SecondClientResult;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -79,6 +80,7 @@ public final class ClientNamespaceSecondAsyncClient {
         // Generated convenience method for getSecondWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getSecondWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(SecondClientResult.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                SecondClientResult::fromJson));
     }
 }
@@ -5,6 +5,7 @@
 package client.clientnamespace.second;
 
 import client.clientnamespace.implementation.ClientNamespaceSecondClientImpl;
+import client.clientnamespace.implementation.JsonSerializableHelper;
 import client.clientnamespace.second.models.SecondClientResult;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
@@ -76,6 +77,7 @@ public final class ClientNamespaceSecondClient {
     public SecondClientResult getSecond() {
         // Generated convenience method for getSecondWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getSecondWithResponse(requestOptions).getValue().toObject(SecondClientResult.class);
+        return JsonSerializableHelper.fromBinaryData(getSecondWithResponse(requestOptions).getValue(),
+            SecondClientResult::fromJson);
     }
 }
@@ -4,6 +4,7 @@
 
 package client.naming;
 
+import client.naming.implementation.JsonSerializableHelper;
 import client.naming.implementation.ModelClientsImpl;
 import client.naming.model.models.ClientModel;
 import client.naming.model.models.JavaModel;
@@ -108,7 +109,7 @@ public final class ModelAsyncClient {
     public Mono<Void> client(ClientModel body) {
         // Generated convenience method for clientWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return clientWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return clientWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -128,6 +129,7 @@ public final class ModelAsyncClient {
     public Mono<Void> language(JavaModel body) {
         // Generated convenience method for languageWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return languageWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return languageWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 }
@@ -4,6 +4,7 @@
 
 package client.naming;
 
+import client.naming.implementation.JsonSerializableHelper;
 import client.naming.implementation.ModelClientsImpl;
 import client.naming.model.models.ClientModel;
 import client.naming.model.models.JavaModel;
@@ -105,7 +106,7 @@ public final class ModelClient {
     public void client(ClientModel body) {
         // Generated convenience method for clientWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        clientWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        clientWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -124,6 +125,6 @@ public final class ModelClient {
     public void language(JavaModel body) {
         // Generated convenience method for languageWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        languageWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        languageWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
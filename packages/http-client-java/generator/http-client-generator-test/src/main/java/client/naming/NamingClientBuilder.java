@@ -66,6 +66,13 @@ public final class NamingClientBuilder implements HttpTrait<NamingClientBuilder>
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the NamingClientBuilder.
      */
@@ -86,6 +93,7 @@ public final class NamingClientBuilder implements HttpTrait<NamingClientBuilder>
     @Generated
     @Override
     public NamingClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -102,6 +110,7 @@ public final class NamingClientBuilder implements HttpTrait<NamingClientBuilder>
     @Generated
     @Override
     public NamingClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -121,6 +130,7 @@ public final class NamingClientBuilder implements HttpTrait<NamingClientBuilder>
     @Generated
     @Override
     public NamingClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -137,6 +147,7 @@ public final class NamingClientBuilder implements HttpTrait<NamingClientBuilder>
     @Generated
     @Override
     public NamingClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -153,6 +164,7 @@ public final class NamingClientBuilder implements HttpTrait<NamingClientBuilder>
     @Generated
     @Override
     public NamingClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -163,6 +175,7 @@ public final class NamingClientBuilder implements HttpTrait<NamingClientBuilder>
     @Generated
     @Override
     public NamingClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -180,6 +193,7 @@ public final class NamingClientBuilder implements HttpTrait<NamingClientBuilder>
     @Generated
     @Override
     public NamingClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -196,6 +210,7 @@ public final class NamingClientBuilder implements HttpTrait<NamingClientBuilder>
     @Generated
     @Override
     public NamingClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -214,6 +229,7 @@ public final class NamingClientBuilder implements HttpTrait<NamingClientBuilder>
      */
     @Generated
     public NamingClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -226,7 +242,7 @@ public final class NamingClientBuilder implements HttpTrait<NamingClientBuilder>
     @Generated
     private NamingClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         NamingClientImpl client
             = new NamingClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -274,6 +290,15 @@ public final class NamingClientBuilder implements HttpTrait<NamingClientBuilder>
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of NamingAsyncClient class.
      * 
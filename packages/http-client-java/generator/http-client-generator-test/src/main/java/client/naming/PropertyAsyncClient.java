@@ -4,6 +4,7 @@
 
 package client.naming;
 
+import client.naming.implementation.JsonSerializableHelper;
 import client.naming.implementation.PropertiesImpl;
 import client.naming.property.models.ClientNameAndJsonEncodedNameModel;
 import client.naming.property.models.ClientNameModel;
@@ -135,7 +136,7 @@ public final class PropertyAsyncClient {
     public Mono<Void> client(ClientNameModel body) {
         // Generated convenience method for clientWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return clientWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return clientWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -155,7 +156,8 @@ public final class PropertyAsyncClient {
     public Mono<Void> language(LanguageClientNameModel body) {
         // Generated convenience method for languageWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return languageWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return languageWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -175,7 +177,7 @@ public final class PropertyAsyncClient {
     public Mono<Void> compatibleWithEncodedName(ClientNameAndJsonEncodedNameModel body) {
         // Generated convenience method for compatibleWithEncodedNameWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return compatibleWithEncodedNameWithResponse(BinaryData.fromObject(body), requestOptions)
+        return compatibleWithEncodedNameWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
             .flatMap(FluxUtil::toMono);
     }
 }
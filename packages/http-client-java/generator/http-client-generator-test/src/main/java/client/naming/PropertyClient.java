@@ -4,6 +4,7 @@
 
 package client.naming;
 
+import client.naming.implementation.JsonSerializableHelper;
 import client.naming.implementation.PropertiesImpl;
 import client.naming.property.models.ClientNameAndJsonEncodedNameModel;
 import client.naming.property.models.ClientNameModel;
@@ -132,7 +133,7 @@ public final class PropertyClient {
     public void client(ClientNameModel body) {
         // Generated convenience method for clientWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        clientWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        clientWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -151,7 +152,7 @@ public final class PropertyClient {
     public void language(LanguageClientNameModel body) {
         // Generated convenience method for languageWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        languageWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        languageWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -170,6 +171,6 @@ public final class PropertyClient {
     public void compatibleWithEncodedName(ClientNameAndJsonEncodedNameModel body) {
         // Generated convenience method for compatibleWithEncodedNameWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        compatibleWithEncodedNameWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        compatibleWithEncodedNameWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
@@ -6,6 +6,7 @@ package client.naming.enumconflict;
 
 import client.naming.enumconflict.firstnamespace.models.FirstModel;
 import client.naming.enumconflict.implementation.FirstOperationsImpl;
+import client.naming.enumconflict.implementation.JsonSerializableHelper;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceClient;
@@ -93,7 +94,7 @@ public final class FirstOperationsAsyncClient {
     public Mono<FirstModel> first(FirstModel body) {
         // Generated convenience method for firstWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return firstWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(FirstModel.class));
+        return firstWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, FirstModel::fromJson));
     }
 }
@@ -6,6 +6,7 @@ package client.naming.enumconflict;
 
 import client.naming.enumconflict.firstnamespace.models.FirstModel;
 import client.naming.enumconflict.implementation.FirstOperationsImpl;
+import client.naming.enumconflict.implementation.JsonSerializableHelper;
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.ReturnType;
 import com.azure.core.annotation.ServiceClient;
@@ -91,6 +92,8 @@ public final class FirstOperationsClient {
     public FirstModel first(FirstModel body) {
         // Generated convenience method for firstWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return firstWithResponse(BinaryData.fromObject(body), requestOptions).getValue().toObject(FirstModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            firstWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            FirstModel::fromJson);
     }
 }
@@ -4,6 +4,7 @@
 
 package client.naming.enumconflict;
 
+import client.naming.enumconflict.implementation.JsonSerializableHelper;
 import client.naming.enumconflict.implementation.SecondOperationsImpl;
 import client.naming.enumconflict.secondnamespace.models.SecondModel;
 import com.azure.core.annotation.Generated;
@@ -93,7 +94,8 @@ public final class SecondOperationsAsyncClient {
     public Mono<SecondModel> second(SecondModel body) {
         // Generated convenience method for secondWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return secondWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(SecondModel.class));
+        return secondWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(
+                protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, SecondModel::fromJson));
     }
 }
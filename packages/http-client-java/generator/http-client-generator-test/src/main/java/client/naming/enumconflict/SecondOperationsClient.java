@@ -4,6 +4,7 @@
 
 package client.naming.enumconflict;
 
+import client.naming.enumconflict.implementation.JsonSerializableHelper;
 import client.naming.enumconflict.implementation.SecondOperationsImpl;
 import client.naming.enumconflict.secondnamespace.models.SecondModel;
 import com.azure.core.annotation.Generated;
@@ -91,6 +92,8 @@ public final class SecondOperationsClient {
     public SecondModel second(SecondModel body) {
         // Generated convenience method for secondWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return secondWithResponse(BinaryData.fromObject(body), requestOptions).getValue().toObject(SecondModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            secondWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            SecondModel::fromJson);
     }
 }
@@ -4,6 +4,10 @@
 
 package client.naming.enumconflict.firstnamespace.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Status enum in first namespace.
  */
@@ -27,6 +31,17 @@ public enum Status {
         this.value = value;
     }
 
+    private static final Map<String, Status> VALUES = new HashMap<>();
+
+    private static final Map<String, Status> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (Status item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a Status instance.
      * 
@@ -37,13 +52,8 @@ public enum Status {
         if (value == null) {
             return null;
         }
-        Status[] items = Status.values();
-        for (Status item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        Status item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -60,7 +60,7 @@ public final class EnumConflictClientImpl {
     /**
      * The FirstOperationsImpl object to access its operations.
      */
-    private final FirstOperationsImpl firstOperations;
+    private volatile FirstOperationsImpl firstOperations;
 
     /**
      * Gets the FirstOperationsImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class EnumConflictClientImpl {
      * @return the FirstOperationsImpl object.
      */
     public FirstOperationsImpl getFirstOperations() {
-        return this.firstOperations;
+        FirstOperationsImpl localFirstOperations = this.firstOperations;
+        if (localFirstOperations == null) {
+            synchronized (this) {
+                localFirstOperations = this.firstOperations;
+                if (localFirstOperations == null) {
+                    localFirstOperations = new FirstOperationsImpl(this);
+                    this.firstOperations = localFirstOperations;
+                }
+            }
+        }
+        return localFirstOperations;
     }
 
     /**
      * The SecondOperationsImpl object to access its operations.
      */
-    private final SecondOperationsImpl secondOperations;
+    private volatile SecondOperationsImpl secondOperations;
 
     /**
      * Gets the SecondOperationsImpl object to access its operations.
@@ -82,7 +92,17 @@ public final class EnumConflictClientImpl {
      * @return the SecondOperationsImpl object.
      */
     public SecondOperationsImpl getSecondOperations() {
-        return this.secondOperations;
+        SecondOperationsImpl localSecondOperations = this.secondOperations;
+        if (localSecondOperations == null) {
+            synchronized (this) {
+                localSecondOperations = this.secondOperations;
+                if (localSecondOperations == null) {
+                    localSecondOperations = new SecondOperationsImpl(this);
+                    this.secondOperations = localSecondOperations;
+                }
+            }
+        }
+        return localSecondOperations;
     }
 
     /**
@@ -116,7 +136,5 @@ public final class EnumConflictClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.firstOperations = new FirstOperationsImpl(this);
-        this.secondOperations = new SecondOperationsImpl(this);
     }
 }
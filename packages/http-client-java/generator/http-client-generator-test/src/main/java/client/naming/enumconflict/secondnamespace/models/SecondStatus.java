@@ -4,6 +4,10 @@
 
 package client.naming.enumconflict.secondnamespace.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Status enum in second namespace.
  */
@@ -27,6 +31,17 @@ public enum SecondStatus {
         this.value = value;
     }
 
+    private static final Map<String, SecondStatus> VALUES = new HashMap<>();
+
+    private static final Map<String, SecondStatus> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (SecondStatus item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a SecondStatus instance.
      * 
@@ -37,13 +52,8 @@ public enum SecondStatus {
         if (value == null) {
             return null;
         }
-        SecondStatus[] items = SecondStatus.values();
-        for (SecondStatus item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        SecondStatus item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
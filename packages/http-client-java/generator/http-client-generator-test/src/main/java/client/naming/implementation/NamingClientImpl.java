@@ -84,7 +84,7 @@ public final class NamingClientImpl {
     /**
      * The PropertiesImpl object to access its operations.
      */
-    private final PropertiesImpl properties;
+    private volatile PropertiesImpl properties;
 
     /**
      * Gets the PropertiesImpl object to access its operations.
@@ -92,13 +92,23 @@ public final class NamingClientImpl {
      * @return the PropertiesImpl object.
      */
     public PropertiesImpl getProperties() {
-        return this.properties;
+        PropertiesImpl localProperties = this.properties;
+        if (localProperties == null) {
+            synchronized (this) {
+                localProperties = this.properties;
+                if (localProperties == null) {
+                    localProperties = new PropertiesImpl(this);
+                    this.properties = localProperties;
+                }
+            }
+        }
+        return localProperties;
     }
 
     /**
      * The HeadersImpl object to access its operations.
      */
-    private final HeadersImpl headers;
+    private volatile HeadersImpl headers;
 
     /**
      * Gets the HeadersImpl object to access its operations.
@@ -106,13 +116,23 @@ public final class NamingClientImpl {
      * @return the HeadersImpl object.
      */
     public HeadersImpl getHeaders() {
-        return this.headers;
+        HeadersImpl localHeaders = this.headers;
+        if (localHeaders == null) {
+            synchronized (this) {
+                localHeaders = this.headers;
+                if (localHeaders == null) {
+                    localHeaders = new HeadersImpl(this);
+                    this.headers = localHeaders;
+                }
+            }
+        }
+        return localHeaders;
     }
 
     /**
      * The ModelClientsImpl object to access its operations.
      */
-    private final ModelClientsImpl modelClients;
+    private volatile ModelClientsImpl modelClients;
 
     /**
      * Gets the ModelClientsImpl object to access its operations.
@@ -120,13 +140,23 @@ public final class NamingClientImpl {
      * @return the ModelClientsImpl object.
      */
     public ModelClientsImpl getModelClients() {
-        return this.modelClients;
+        ModelClientsImpl localModelClients = this.modelClients;
+        if (localModelClients == null) {
+            synchronized (this) {
+                localModelClients = this.modelClients;
+                if (localModelClients == null) {
+                    localModelClients = new ModelClientsImpl(this);
+                    this.modelClients = localModelClients;
+                }
+            }
+        }
+        return localModelClients;
     }
 
     /**
      * The UnionEnumsImpl object to access its operations.
      */
-    private final UnionEnumsImpl unionEnums;
+    private volatile UnionEnumsImpl unionEnums;
 
     /**
      * Gets the UnionEnumsImpl object to access its operations.
@@ -134,7 +164,17 @@ public final class NamingClientImpl {
      * @return the UnionEnumsImpl object.
      */
     public UnionEnumsImpl getUnionEnums() {
-        return this.unionEnums;
+        UnionEnumsImpl localUnionEnums = this.unionEnums;
+        if (localUnionEnums == null) {
+            synchronized (this) {
+                localUnionEnums = this.unionEnums;
+                if (localUnionEnums == null) {
+                    localUnionEnums = new UnionEnumsImpl(this);
+                    this.unionEnums = localUnionEnums;
+                }
+            }
+        }
+        return localUnionEnums;
     }
 
     /**
@@ -168,10 +208,6 @@ public final class NamingClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.properties = new PropertiesImpl(this);
-        this.headers = new HeadersImpl(this);
-        this.modelClients = new ModelClientsImpl(this);
-        this.unionEnums = new UnionEnumsImpl(this);
         this.service = RestProxy.create(NamingClientService.class, this.httpPipeline, this.getSerializerAdapter());
     }
 
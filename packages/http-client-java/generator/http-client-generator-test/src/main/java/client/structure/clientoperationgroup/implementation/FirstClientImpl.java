@@ -98,7 +98,7 @@ public final class FirstClientImpl {
     /**
      * The Group3sImpl object to access its operations.
      */
-    private final Group3sImpl group3s;
+    private volatile Group3sImpl group3s;
 
     /**
      * Gets the Group3sImpl object to access its operations.
@@ -106,13 +106,23 @@ public final class FirstClientImpl {
      * @return the Group3sImpl object.
      */
     public Group3sImpl getGroup3s() {
-        return this.group3s;
+        Group3sImpl localGroup3s = this.group3s;
+        if (localGroup3s == null) {
+            synchronized (this) {
+                localGroup3s = this.group3s;
+                if (localGroup3s == null) {
+                    localGroup3s = new Group3sImpl(this);
+                    this.group3s = localGroup3s;
+                }
+            }
+        }
+        return localGroup3s;
     }
 
     /**
      * The Group4sImpl object to access its operations.
      */
-    private final Group4sImpl group4s;
+    private volatile Group4sImpl group4s;
 
     /**
      * Gets the Group4sImpl object to access its operations.
@@ -120,7 +130,17 @@ public final class FirstClientImpl {
      * @return the Group4sImpl object.
      */
     public Group4sImpl getGroup4s() {
-        return this.group4s;
+        Group4sImpl localGroup4s = this.group4s;
+        if (localGroup4s == null) {
+            synchronized (this) {
+                localGroup4s = this.group4s;
+                if (localGroup4s == null) {
+                    localGroup4s = new Group4sImpl(this);
+                    this.group4s = localGroup4s;
+                }
+            }
+        }
+        return localGroup4s;
     }
 
     /**
@@ -159,8 +179,6 @@ public final class FirstClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.client = client;
-        this.group3s = new Group3sImpl(this);
-        this.group4s = new Group4sImpl(this);
         this.service = RestProxy.create(FirstClientService.class, this.httpPipeline, this.getSerializerAdapter());
     }
 
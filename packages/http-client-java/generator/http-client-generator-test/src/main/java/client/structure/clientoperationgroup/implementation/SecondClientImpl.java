@@ -98,7 +98,7 @@ public final class SecondClientImpl {
     /**
      * The Group5sImpl object to access its operations.
      */
-    private final Group5sImpl group5s;
+    private volatile Group5sImpl group5s;
 
     /**
      * Gets the Group5sImpl object to access its operations.
@@ -106,7 +106,17 @@ public final class SecondClientImpl {
      * @return the Group5sImpl object.
      */
     public Group5sImpl getGroup5s() {
-        return this.group5s;
+        Group5sImpl localGroup5s = this.group5s;
+        if (localGroup5s == null) {
+            synchronized (this) {
+                localGroup5s = this.group5s;
+                if (localGroup5s == null) {
+                    localGroup5s = new Group5sImpl(this);
+                    this.group5s = localGroup5s;
+                }
+            }
+        }
+        return localGroup5s;
     }
 
     /**
@@ -145,7 +155,6 @@ public final class SecondClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.client = client;
-        this.group5s = new Group5sImpl(this);
         this.service = RestProxy.create(SecondClientService.class, this.httpPipeline, this.getSerializerAdapter());
     }
 
@@ -57,6 +57,13 @@ public final class ClientBClientBuilder implements HttpTrait<ClientBClientBuilde
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the ClientBClientBuilder.
      */
@@ -77,6 +84,7 @@ public final class ClientBClientBuilder implements HttpTrait<ClientBClientBuilde
     @Generated
     @Override
     public ClientBClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -93,6 +101,7 @@ public final class ClientBClientBuilder implements HttpTrait<ClientBClientBuilde
     @Generated
     @Override
     public ClientBClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -112,6 +121,7 @@ public final class ClientBClientBuilder implements HttpTrait<ClientBClientBuilde
     @Generated
     @Override
     public ClientBClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -128,6 +138,7 @@ public final class ClientBClientBuilder implements HttpTrait<ClientBClientBuilde
     @Generated
     @Override
     public ClientBClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -144,6 +155,7 @@ public final class ClientBClientBuilder implements HttpTrait<ClientBClientBuilde
     @Generated
     @Override
     public ClientBClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -154,6 +166,7 @@ public final class ClientBClientBuilder implements HttpTrait<ClientBClientBuilde
     @Generated
     @Override
     public ClientBClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -171,6 +184,7 @@ public final class ClientBClientBuilder implements HttpTrait<ClientBClientBuilde
     @Generated
     @Override
     public ClientBClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -187,6 +201,7 @@ public final class ClientBClientBuilder implements HttpTrait<ClientBClientBuilde
     @Generated
     @Override
     public ClientBClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -205,6 +220,7 @@ public final class ClientBClientBuilder implements HttpTrait<ClientBClientBuilde
      */
     @Generated
     public ClientBClientBuilder client(ClientType client) {
+        this.createdHttpPipeline = null;
         this.client = client;
         return this;
     }
@@ -223,6 +239,7 @@ public final class ClientBClientBuilder implements HttpTrait<ClientBClientBuilde
      */
     @Generated
     public ClientBClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -235,7 +252,7 @@ public final class ClientBClientBuilder implements HttpTrait<ClientBClientBuilde
     @Generated
     private ClientBClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         ClientBClientImpl client = new ClientBClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(),
             this.endpoint, this.client);
         return client;
@@ -284,6 +301,15 @@ public final class ClientBClientBuilder implements HttpTrait<ClientBClientBuilde
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of ClientBAsyncClient class.
      * 
@@ -98,7 +98,7 @@ public final class RenamedOperationClientImpl {
     /**
      * The GroupsImpl object to access its operations.
      */
-    private final GroupsImpl groups;
+    private volatile GroupsImpl groups;
 
     /**
      * Gets the GroupsImpl object to access its operations.
@@ -106,7 +106,17 @@ public final class RenamedOperationClientImpl {
      * @return the GroupsImpl object.
      */
     public GroupsImpl getGroups() {
-        return this.groups;
+        GroupsImpl localGroups = this.groups;
+        if (localGroups == null) {
+            synchronized (this) {
+                localGroups = this.groups;
+                if (localGroups == null) {
+                    localGroups = new GroupsImpl(this);
+                    this.groups = localGroups;
+                }
+            }
+        }
+        return localGroups;
     }
 
     /**
@@ -145,7 +155,6 @@ public final class RenamedOperationClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.client = client;
-        this.groups = new GroupsImpl(this);
         this.service
             = RestProxy.create(RenamedOperationClientService.class, this.httpPipeline, this.getSerializerAdapter());
     }
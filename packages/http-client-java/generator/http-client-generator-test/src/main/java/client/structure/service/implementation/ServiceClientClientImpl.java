@@ -98,7 +98,7 @@ public final class ServiceClientClientImpl {
     /**
      * The BazFoosImpl object to access its operations.
      */
-    private final BazFoosImpl bazFoos;
+    private volatile BazFoosImpl bazFoos;
 
     /**
      * Gets the BazFoosImpl object to access its operations.
@@ -106,13 +106,23 @@ public final class ServiceClientClientImpl {
      * @return the BazFoosImpl object.
      */
     public BazFoosImpl getBazFoos() {
-        return this.bazFoos;
+        BazFoosImpl localBazFoos = this.bazFoos;
+        if (localBazFoos == null) {
+            synchronized (this) {
+                localBazFoos = this.bazFoos;
+                if (localBazFoos == null) {
+                    localBazFoos = new BazFoosImpl(this);
+                    this.bazFoos = localBazFoos;
+                }
+            }
+        }
+        return localBazFoos;
     }
 
     /**
      * The QuxesImpl object to access its operations.
      */
-    private final QuxesImpl quxes;
+    private volatile QuxesImpl quxes;
 
     /**
      * Gets the QuxesImpl object to access its operations.
@@ -120,13 +130,23 @@ public final class ServiceClientClientImpl {
      * @return the QuxesImpl object.
      */
     public QuxesImpl getQuxes() {
-        return this.quxes;
+        QuxesImpl localQuxes = this.quxes;
+        if (localQuxes == null) {
+            synchronized (this) {
+                localQuxes = this.quxes;
+                if (localQuxes == null) {
+                    localQuxes = new QuxesImpl(this);
+                    this.quxes = localQuxes;
+                }
+            }
+        }
+        return localQuxes;
     }
 
     /**
      * The QuxBarsImpl object to access its operations.
      */
-    private final QuxBarsImpl quxBars;
+    private volatile QuxBarsImpl quxBars;
 
     /**
      * Gets the QuxBarsImpl object to access its operations.
@@ -134,13 +154,23 @@ public final class ServiceClientClientImpl {
      * @return the QuxBarsImpl object.
      */
     public QuxBarsImpl getQuxBars() {
-        return this.quxBars;
+        QuxBarsImpl localQuxBars = this.quxBars;
+        if (localQuxBars == null) {
+            synchronized (this) {
+                localQuxBars = this.quxBars;
+                if (localQuxBars == null) {
+                    localQuxBars = new QuxBarsImpl(this);
+                    this.quxBars = localQuxBars;
+                }
+            }
+        }
+        return localQuxBars;
     }
 
     /**
      * The FoosImpl object to access its operations.
      */
-    private final FoosImpl foos;
+    private volatile FoosImpl foos;
 
     /**
      * Gets the FoosImpl object to access its operations.
@@ -148,13 +178,23 @@ public final class ServiceClientClientImpl {
      * @return the FoosImpl object.
      */
     public FoosImpl getFoos() {
-        return this.foos;
+        FoosImpl localFoos = this.foos;
+        if (localFoos == null) {
+            synchronized (this) {
+                localFoos = this.foos;
+                if (localFoos == null) {
+                    localFoos = new FoosImpl(this);
+                    this.foos = localFoos;
+                }
+            }
+        }
+        return localFoos;
     }
 
     /**
      * The BarsImpl object to access its operations.
      */
-    private final BarsImpl bars;
+    private volatile BarsImpl bars;
 
     /**
      * Gets the BarsImpl object to access its operations.
@@ -162,7 +202,17 @@ public final class ServiceClientClientImpl {
      * @return the BarsImpl object.
      */
     public BarsImpl getBars() {
-        return this.bars;
+        BarsImpl localBars = this.bars;
+        if (localBars == null) {
+            synchronized (this) {
+                localBars = this.bars;
+                if (localBars == null) {
+                    localBars = new BarsImpl(this);
+                    this.bars = localBars;
+                }
+            }
+        }
+        return localBars;
     }
 
     /**
@@ -201,11 +251,6 @@ public final class ServiceClientClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.client = client;
-        this.bazFoos = new BazFoosImpl(this);
-        this.quxes = new QuxesImpl(this);
-        this.quxBars = new QuxBarsImpl(this);
-        this.foos = new FoosImpl(this);
-        this.bars = new BarsImpl(this);
         this.service
             = RestProxy.create(ServiceClientClientService.class, this.httpPipeline, this.getSerializerAdapter());
     }
@@ -4,6 +4,10 @@
 
 package client.structure.service.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for ClientType.
  */
@@ -42,6 +46,17 @@ public enum ClientType {
         this.value = value;
     }
 
+    private static final Map<String, ClientType> VALUES = new HashMap<>();
+
+    private static final Map<String, ClientType> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (ClientType item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a ClientType instance.
      * 
@@ -52,13 +67,8 @@ public enum ClientType {
         if (value == null) {
             return null;
         }
-        ClientType[] items = ClientType.values();
-        for (ClientType item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        ClientType item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
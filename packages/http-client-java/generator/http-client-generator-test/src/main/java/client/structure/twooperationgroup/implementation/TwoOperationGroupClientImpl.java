@@ -75,7 +75,7 @@ public final class TwoOperationGroupClientImpl {
     /**
      * The Group1sImpl object to access its operations.
      */
-    private final Group1sImpl group1s;
+    private volatile Group1sImpl group1s;
 
     /**
      * Gets the Group1sImpl object to access its operations.
@@ -83,13 +83,23 @@ public final class TwoOperationGroupClientImpl {
      * @return the Group1sImpl object.
      */
     public Group1sImpl getGroup1s() {
-        return this.group1s;
+        Group1sImpl localGroup1s = this.group1s;
+        if (localGroup1s == null) {
+            synchronized (this) {
+                localGroup1s = this.group1s;
+                if (localGroup1s == null) {
+                    localGroup1s = new Group1sImpl(this);
+                    this.group1s = localGroup1s;
+                }
+            }
+        }
+        return localGroup1s;
     }
 
     /**
      * The Group2sImpl object to access its operations.
      */
-    private final Group2sImpl group2s;
+    private volatile Group2sImpl group2s;
 
     /**
      * Gets the Group2sImpl object to access its operations.
@@ -97,7 +107,17 @@ public final class TwoOperationGroupClientImpl {
      * @return the Group2sImpl object.
      */
     public Group2sImpl getGroup2s() {
-        return this.group2s;
+        Group2sImpl localGroup2s = this.group2s;
+        if (localGroup2s == null) {
+            synchronized (this) {
+                localGroup2s = this.group2s;
+                if (localGroup2s == null) {
+                    localGroup2s = new Group2sImpl(this);
+                    this.group2s = localGroup2s;
+                }
+            }
+        }
+        return localGroup2s;
     }
 
     /**
@@ -136,7 +156,5 @@ public final class TwoOperationGroupClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.client = client;
-        this.group1s = new Group1sImpl(this);
-        this.group2s = new Group2sImpl(this);
     }
 }
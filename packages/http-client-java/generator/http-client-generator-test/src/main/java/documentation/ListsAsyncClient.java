@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
+import documentation.implementation.JsonSerializableHelper;
 import documentation.implementation.ListsImpl;
 import documentation.lists.implementation.models.BulletPointsModelRequest;
 import documentation.lists.models.BulletPointsModel;
@@ -164,7 +165,7 @@ public final class ListsAsyncClient {
         // Generated convenience method for bulletPointsModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
         BulletPointsModelRequest bulletPointsModelRequestObj = new BulletPointsModelRequest(input);
-        BinaryData bulletPointsModelRequest = BinaryData.fromObject(bulletPointsModelRequestObj);
+        BinaryData bulletPointsModelRequest = JsonSerializableHelper.toBinaryData(bulletPointsModelRequestObj);
         return bulletPointsModelWithResponse(bulletPointsModelRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import documentation.implementation.JsonSerializableHelper;
 import documentation.implementation.ListsImpl;
 import documentation.lists.implementation.models.BulletPointsModelRequest;
 import documentation.lists.models.BulletPointsModel;
@@ -160,7 +161,7 @@ public final class ListsClient {
         // Generated convenience method for bulletPointsModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
         BulletPointsModelRequest bulletPointsModelRequestObj = new BulletPointsModelRequest(input);
-        BinaryData bulletPointsModelRequest = BinaryData.fromObject(bulletPointsModelRequestObj);
+        BinaryData bulletPointsModelRequest = JsonSerializableHelper.toBinaryData(bulletPointsModelRequestObj);
         bulletPointsModelWithResponse(bulletPointsModelRequest, requestOptions).getValue();
     }
 
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
+import encode.array.implementation.JsonSerializableHelper;
 import encode.array.implementation.PropertiesImpl;
 import encode.array.models.CommaDelimitedArrayProperty;
 import encode.array.models.CommaDelimitedEnumArrayProperty;
@@ -550,8 +551,10 @@ public final class ArrayAsyncClient {
     public Mono<CommaDelimitedArrayProperty> commaDelimited(CommaDelimitedArrayProperty body) {
         // Generated convenience method for commaDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return commaDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(CommaDelimitedArrayProperty.class));
+        return commaDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                CommaDelimitedArrayProperty::fromJson));
     }
 
     /**
@@ -571,8 +574,10 @@ public final class ArrayAsyncClient {
     public Mono<SpaceDelimitedArrayProperty> spaceDelimited(SpaceDelimitedArrayProperty body) {
         // Generated convenience method for spaceDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return spaceDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(SpaceDelimitedArrayProperty.class));
+        return spaceDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                SpaceDelimitedArrayProperty::fromJson));
     }
 
     /**
@@ -592,8 +597,10 @@ public final class ArrayAsyncClient {
     public Mono<PipeDelimitedArrayProperty> pipeDelimited(PipeDelimitedArrayProperty body) {
         // Generated convenience method for pipeDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return pipeDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(PipeDelimitedArrayProperty.class));
+        return pipeDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                PipeDelimitedArrayProperty::fromJson));
     }
 
     /**
@@ -613,8 +620,10 @@ public final class ArrayAsyncClient {
     public Mono<NewlineDelimitedArrayProperty> newlineDelimited(NewlineDelimitedArrayProperty body) {
         // Generated convenience method for newlineDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return newlineDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(NewlineDelimitedArrayProperty.class));
+        return newlineDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                NewlineDelimitedArrayProperty::fromJson));
     }
 
     /**
@@ -634,8 +643,10 @@ public final class ArrayAsyncClient {
     public Mono<CommaDelimitedEnumArrayProperty> enumCommaDelimited(CommaDelimitedEnumArrayProperty body) {
         // Generated convenience method for enumCommaDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return enumCommaDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(CommaDelimitedEnumArrayProperty.class));
+        return enumCommaDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                CommaDelimitedEnumArrayProperty::fromJson));
     }
 
     /**
@@ -655,8 +666,10 @@ public final class ArrayAsyncClient {
     public Mono<SpaceDelimitedEnumArrayProperty> enumSpaceDelimited(SpaceDelimitedEnumArrayProperty body) {
         // Generated convenience method for enumSpaceDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return enumSpaceDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(SpaceDelimitedEnumArrayProperty.class));
+        return enumSpaceDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                SpaceDelimitedEnumArrayProperty::fromJson));
     }
 
     /**
@@ -676,8 +689,10 @@ public final class ArrayAsyncClient {
     public Mono<PipeDelimitedEnumArrayProperty> enumPipeDelimited(PipeDelimitedEnumArrayProperty body) {
         // Generated convenience method for enumPipeDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return enumPipeDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(PipeDelimitedEnumArrayProperty.class));
+        return enumPipeDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                PipeDelimitedEnumArrayProperty::fromJson));
     }
 
     /**
@@ -697,8 +712,10 @@ public final class ArrayAsyncClient {
     public Mono<NewlineDelimitedEnumArrayProperty> enumNewlineDelimited(NewlineDelimitedEnumArrayProperty body) {
         // Generated convenience method for enumNewlineDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return enumNewlineDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(NewlineDelimitedEnumArrayProperty.class));
+        return enumNewlineDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                NewlineDelimitedEnumArrayProperty::fromJson));
     }
 
     /**
@@ -719,9 +736,10 @@ public final class ArrayAsyncClient {
         extensibleEnumCommaDelimited(CommaDelimitedExtensibleEnumArrayProperty body) {
         // Generated convenience method for extensibleEnumCommaDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return extensibleEnumCommaDelimitedWithResponse(BinaryData.fromObject(body), requestOptions)
+        return extensibleEnumCommaDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(CommaDelimitedExtensibleEnumArrayProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                CommaDelimitedExtensibleEnumArrayProperty::fromJson));
     }
 
     /**
@@ -742,9 +760,10 @@ public final class ArrayAsyncClient {
         extensibleEnumSpaceDelimited(SpaceDelimitedExtensibleEnumArrayProperty body) {
         // Generated convenience method for extensibleEnumSpaceDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return extensibleEnumSpaceDelimitedWithResponse(BinaryData.fromObject(body), requestOptions)
+        return extensibleEnumSpaceDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(SpaceDelimitedExtensibleEnumArrayProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                SpaceDelimitedExtensibleEnumArrayProperty::fromJson));
     }
 
     /**
@@ -765,9 +784,10 @@ public final class ArrayAsyncClient {
         extensibleEnumPipeDelimited(PipeDelimitedExtensibleEnumArrayProperty body) {
         // Generated convenience method for extensibleEnumPipeDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return extensibleEnumPipeDelimitedWithResponse(BinaryData.fromObject(body), requestOptions)
+        return extensibleEnumPipeDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(PipeDelimitedExtensibleEnumArrayProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                PipeDelimitedExtensibleEnumArrayProperty::fromJson));
     }
 
     /**
@@ -788,8 +808,9 @@ public final class ArrayAsyncClient {
         extensibleEnumNewlineDelimited(NewlineDelimitedExtensibleEnumArrayProperty body) {
         // Generated convenience method for extensibleEnumNewlineDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return extensibleEnumNewlineDelimitedWithResponse(BinaryData.fromObject(body), requestOptions)
+        return extensibleEnumNewlineDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(NewlineDelimitedExtensibleEnumArrayProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                NewlineDelimitedExtensibleEnumArrayProperty::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import encode.array.implementation.JsonSerializableHelper;
 import encode.array.implementation.PropertiesImpl;
 import encode.array.models.CommaDelimitedArrayProperty;
 import encode.array.models.CommaDelimitedEnumArrayProperty;
@@ -548,8 +549,9 @@ public final class ArrayClient {
     public CommaDelimitedArrayProperty commaDelimited(CommaDelimitedArrayProperty body) {
         // Generated convenience method for commaDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return commaDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(CommaDelimitedArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            commaDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            CommaDelimitedArrayProperty::fromJson);
     }
 
     /**
@@ -569,8 +571,9 @@ public final class ArrayClient {
     public SpaceDelimitedArrayProperty spaceDelimited(SpaceDelimitedArrayProperty body) {
         // Generated convenience method for spaceDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return spaceDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(SpaceDelimitedArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            spaceDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            SpaceDelimitedArrayProperty::fromJson);
     }
 
     /**
@@ -590,8 +593,9 @@ public final class ArrayClient {
     public PipeDelimitedArrayProperty pipeDelimited(PipeDelimitedArrayProperty body) {
         // Generated convenience method for pipeDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return pipeDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(PipeDelimitedArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            pipeDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            PipeDelimitedArrayProperty::fromJson);
     }
 
     /**
@@ -611,8 +615,9 @@ public final class ArrayClient {
     public NewlineDelimitedArrayProperty newlineDelimited(NewlineDelimitedArrayProperty body) {
         // Generated convenience method for newlineDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return newlineDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(NewlineDelimitedArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            newlineDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            NewlineDelimitedArrayProperty::fromJson);
     }
 
     /**
@@ -632,8 +637,9 @@ public final class ArrayClient {
     public CommaDelimitedEnumArrayProperty enumCommaDelimited(CommaDelimitedEnumArrayProperty body) {
         // Generated convenience method for enumCommaDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return enumCommaDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(CommaDelimitedEnumArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            enumCommaDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            CommaDelimitedEnumArrayProperty::fromJson);
     }
 
     /**
@@ -653,8 +659,9 @@ public final class ArrayClient {
     public SpaceDelimitedEnumArrayProperty enumSpaceDelimited(SpaceDelimitedEnumArrayProperty body) {
         // Generated convenience method for enumSpaceDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return enumSpaceDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(SpaceDelimitedEnumArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            enumSpaceDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            SpaceDelimitedEnumArrayProperty::fromJson);
     }
 
     /**
@@ -674,8 +681,9 @@ public final class ArrayClient {
     public PipeDelimitedEnumArrayProperty enumPipeDelimited(PipeDelimitedEnumArrayProperty body) {
         // Generated convenience method for enumPipeDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return enumPipeDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(PipeDelimitedEnumArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            enumPipeDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            PipeDelimitedEnumArrayProperty::fromJson);
     }
 
     /**
@@ -695,8 +703,9 @@ public final class ArrayClient {
     public NewlineDelimitedEnumArrayProperty enumNewlineDelimited(NewlineDelimitedEnumArrayProperty body) {
         // Generated convenience method for enumNewlineDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return enumNewlineDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(NewlineDelimitedEnumArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            enumNewlineDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            NewlineDelimitedEnumArrayProperty::fromJson);
     }
 
     /**
@@ -717,8 +726,10 @@ public final class ArrayClient {
         extensibleEnumCommaDelimited(CommaDelimitedExtensibleEnumArrayProperty body) {
         // Generated convenience method for extensibleEnumCommaDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return extensibleEnumCommaDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(CommaDelimitedExtensibleEnumArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            extensibleEnumCommaDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+                .getValue(),
+            CommaDelimitedExtensibleEnumArrayProperty::fromJson);
     }
 
     /**
@@ -739,8 +750,10 @@ public final class ArrayClient {
         extensibleEnumSpaceDelimited(SpaceDelimitedExtensibleEnumArrayProperty body) {
         // Generated convenience method for extensibleEnumSpaceDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return extensibleEnumSpaceDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(SpaceDelimitedExtensibleEnumArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            extensibleEnumSpaceDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+                .getValue(),
+            SpaceDelimitedExtensibleEnumArrayProperty::fromJson);
     }
 
     /**
@@ -761,8 +774,10 @@ public final class ArrayClient {
         extensibleEnumPipeDelimited(PipeDelimitedExtensibleEnumArrayProperty body) {
         // Generated convenience method for extensibleEnumPipeDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return extensibleEnumPipeDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(PipeDelimitedExtensibleEnumArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            extensibleEnumPipeDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+                .getValue(),
+            PipeDelimitedExtensibleEnumArrayProperty::fromJson);
     }
 
     /**
@@ -783,7 +798,9 @@ public final class ArrayClient {
         extensibleEnumNewlineDelimited(NewlineDelimitedExtensibleEnumArrayProperty body) {
         // Generated convenience method for extensibleEnumNewlineDelimitedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return extensibleEnumNewlineDelimitedWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(NewlineDelimitedExtensibleEnumArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            extensibleEnumNewlineDelimitedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+                .getValue(),
+            NewlineDelimitedExtensibleEnumArrayProperty::fromJson);
     }
 }
@@ -4,6 +4,10 @@
 
 package encode.array.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for Colors.
  */
@@ -32,6 +36,17 @@ public enum Colors {
         this.value = value;
     }
 
+    private static final Map<String, Colors> VALUES = new HashMap<>();
+
+    private static final Map<String, Colors> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (Colors item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a Colors instance.
      * 
@@ -42,13 +57,8 @@ public enum Colors {
         if (value == null) {
             return null;
         }
-        Colors[] items = Colors.values();
-        for (Colors item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        Colors item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
+import encode.bytes.implementation.JsonSerializableHelper;
 import encode.bytes.implementation.PropertiesImpl;
 import encode.bytes.models.Base64BytesProperty;
 import encode.bytes.models.Base64urlArrayBytesProperty;
@@ -206,8 +207,10 @@ public final class PropertyAsyncClient {
     public Mono<DefaultBytesProperty> defaultMethod(DefaultBytesProperty body) {
         // Generated convenience method for defaultMethodWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return defaultMethodWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(DefaultBytesProperty.class));
+        return defaultMethodWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                DefaultBytesProperty::fromJson));
     }
 
     /**
@@ -227,8 +230,9 @@ public final class PropertyAsyncClient {
     public Mono<Base64BytesProperty> base64(Base64BytesProperty body) {
         // Generated convenience method for base64WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return base64WithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Base64BytesProperty.class));
+        return base64WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                Base64BytesProperty::fromJson));
     }
 
     /**
@@ -248,8 +252,10 @@ public final class PropertyAsyncClient {
     public Mono<Base64urlBytesProperty> base64url(Base64urlBytesProperty body) {
         // Generated convenience method for base64urlWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return base64urlWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Base64urlBytesProperty.class));
+        return base64urlWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                Base64urlBytesProperty::fromJson));
     }
 
     /**
@@ -269,7 +275,9 @@ public final class PropertyAsyncClient {
     public Mono<Base64urlArrayBytesProperty> base64urlArray(Base64urlArrayBytesProperty body) {
         // Generated convenience method for base64urlArrayWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return base64urlArrayWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Base64urlArrayBytesProperty.class));
+        return base64urlArrayWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                Base64urlArrayBytesProperty::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import encode.bytes.implementation.JsonSerializableHelper;
 import encode.bytes.implementation.PropertiesImpl;
 import encode.bytes.models.Base64BytesProperty;
 import encode.bytes.models.Base64urlArrayBytesProperty;
@@ -204,8 +205,9 @@ public final class PropertyClient {
     public DefaultBytesProperty defaultMethod(DefaultBytesProperty body) {
         // Generated convenience method for defaultMethodWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return defaultMethodWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(DefaultBytesProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            defaultMethodWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            DefaultBytesProperty::fromJson);
     }
 
     /**
@@ -225,8 +227,9 @@ public final class PropertyClient {
     public Base64BytesProperty base64(Base64BytesProperty body) {
         // Generated convenience method for base64WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return base64WithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Base64BytesProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            base64WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Base64BytesProperty::fromJson);
     }
 
     /**
@@ -246,8 +249,9 @@ public final class PropertyClient {
     public Base64urlBytesProperty base64url(Base64urlBytesProperty body) {
         // Generated convenience method for base64urlWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return base64urlWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Base64urlBytesProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            base64urlWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Base64urlBytesProperty::fromJson);
     }
 
     /**
@@ -267,7 +271,8 @@ public final class PropertyClient {
     public Base64urlArrayBytesProperty base64urlArray(Base64urlArrayBytesProperty body) {
         // Generated convenience method for base64urlArrayWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return base64urlArrayWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Base64urlArrayBytesProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            base64urlArrayWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Base64urlArrayBytesProperty::fromJson);
     }
 }
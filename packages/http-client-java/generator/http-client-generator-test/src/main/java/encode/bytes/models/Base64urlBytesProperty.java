@@ -6,13 +6,13 @@ package encode.bytes.models;
 
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.Immutable;
-import com.azure.core.util.Base64Url;
+import com.azure.core.util.CoreUtils;
 import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
 import java.io.IOException;
-import java.util.Objects;
+import java.util.Base64;
 
 /**
  * The Base64urlBytesProperty model.
@@ -23,7 +23,7 @@ public final class Base64urlBytesProperty implements JsonSerializable<Base64urlB
      * The value property.
      */
     @Generated
-    private final Base64Url value;
+    private final byte[] value;
 
     /**
      * Creates an instance of Base64urlBytesProperty class.
@@ -32,11 +32,7 @@ public final class Base64urlBytesProperty implements JsonSerializable<Base64urlB
      */
     @Generated
     public Base64urlBytesProperty(byte[] value) {
-        if (value == null) {
-            this.value = null;
-        } else {
-            this.value = Base64Url.encode(value);
-        }
+        this.value = value;
     }
 
     /**
@@ -46,10 +42,7 @@ public final class Base64urlBytesProperty implements JsonSerializable<Base64urlB
      */
     @Generated
     public byte[] getValue() {
-        if (this.value == null) {
-            return null;
-        }
-        return this.value.decodedBytes();
+        return CoreUtils.clone(this.value);
     }
 
     /**
@@ -59,7 +52,8 @@ public final class Base64urlBytesProperty implements JsonSerializable<Base64urlB
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeStringField("value", Objects.toString(this.value, null));
+        jsonWriter.writeStringField("value",
+            this.value == null ? null : Base64.getUrlEncoder().withoutPadding().encodeToString(this.value));
         return jsonWriter.writeEndObject();
     }
 
@@ -81,11 +75,8 @@ public final class Base64urlBytesProperty implements JsonSerializable<Base64urlB
                 reader.nextToken();
 
                 if ("value".equals(fieldName)) {
-                    Base64Url valueHolder
-                        = reader.getNullable(nonNullReader -> new Base64Url(nonNullReader.getString()));
-                    if (valueHolder != null) {
-                        value = valueHolder.decodedBytes();
-                    }
+                    value
+                        = reader.getNullable(nonNullReader -> Base64.getUrlDecoder().decode(nonNullReader.getString()));
                 } else {
                     reader.skipChildren();
                 }
@@ -64,6 +64,13 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the DatetimeClientBuilder.
      */
@@ -84,6 +91,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Generated
     @Override
     public DatetimeClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -100,6 +108,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Generated
     @Override
     public DatetimeClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -119,6 +128,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Generated
     @Override
     public DatetimeClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -135,6 +145,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Generated
     @Override
     public DatetimeClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -151,6 +162,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Generated
     @Override
     public DatetimeClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -161,6 +173,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Generated
     @Override
     public DatetimeClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -178,6 +191,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Generated
     @Override
     public DatetimeClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -194,6 +208,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Generated
     @Override
     public DatetimeClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -212,6 +227,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
      */
     @Generated
     public DatetimeClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -224,7 +240,7 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
     @Generated
     private DatetimeClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         DatetimeClientImpl client
             = new DatetimeClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -272,6 +288,15 @@ public final class DatetimeClientBuilder implements HttpTrait<DatetimeClientBuil
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of QueryAsyncClient class.
      * 
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
+import encode.datetime.implementation.JsonSerializableHelper;
 import encode.datetime.implementation.PropertiesImpl;
 import encode.datetime.models.DefaultDatetimeProperty;
 import encode.datetime.models.Rfc3339DatetimeProperty;
@@ -243,8 +244,10 @@ public final class PropertyAsyncClient {
     public Mono<DefaultDatetimeProperty> defaultMethod(DefaultDatetimeProperty body) {
         // Generated convenience method for defaultMethodWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return defaultMethodWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(DefaultDatetimeProperty.class));
+        return defaultMethodWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                DefaultDatetimeProperty::fromJson));
     }
 
     /**
@@ -264,8 +267,9 @@ public final class PropertyAsyncClient {
     public Mono<Rfc3339DatetimeProperty> rfc3339(Rfc3339DatetimeProperty body) {
         // Generated convenience method for rfc3339WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return rfc3339WithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Rfc3339DatetimeProperty.class));
+        return rfc3339WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                Rfc3339DatetimeProperty::fromJson));
     }
 
     /**
@@ -285,8 +289,9 @@ public final class PropertyAsyncClient {
     public Mono<Rfc7231DatetimeProperty> rfc7231(Rfc7231DatetimeProperty body) {
         // Generated convenience method for rfc7231WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return rfc7231WithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Rfc7231DatetimeProperty.class));
+        return rfc7231WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                Rfc7231DatetimeProperty::fromJson));
     }
 
     /**
@@ -306,8 +311,10 @@ public final class PropertyAsyncClient {
     public Mono<UnixTimestampDatetimeProperty> unixTimestamp(UnixTimestampDatetimeProperty body) {
         // Generated convenience method for unixTimestampWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return unixTimestampWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(UnixTimestampDatetimeProperty.class));
+        return unixTimestampWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                UnixTimestampDatetimeProperty::fromJson));
     }
 
     /**
@@ -327,7 +334,9 @@ public final class PropertyAsyncClient {
     public Mono<UnixTimestampArrayDatetimeProperty> unixTimestampArray(UnixTimestampArrayDatetimeProperty body) {
         // Generated convenience method for unixTimestampArrayWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return unixTimestampArrayWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(UnixTimestampArrayDatetimeProperty.class));
+        return unixTimestampArrayWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                UnixTimestampArrayDatetimeProperty::fromJson));
     }
 }
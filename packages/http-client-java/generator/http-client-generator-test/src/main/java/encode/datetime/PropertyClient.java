@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import encode.datetime.implementation.JsonSerializableHelper;
 import encode.datetime.implementation.PropertiesImpl;
 import encode.datetime.models.DefaultDatetimeProperty;
 import encode.datetime.models.Rfc3339DatetimeProperty;
@@ -241,8 +242,9 @@ public final class PropertyClient {
     public DefaultDatetimeProperty defaultMethod(DefaultDatetimeProperty body) {
         // Generated convenience method for defaultMethodWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return defaultMethodWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(DefaultDatetimeProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            defaultMethodWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            DefaultDatetimeProperty::fromJson);
     }
 
     /**
@@ -262,8 +264,9 @@ public final class PropertyClient {
     public Rfc3339DatetimeProperty rfc3339(Rfc3339DatetimeProperty body) {
         // Generated convenience method for rfc3339WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return rfc3339WithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Rfc3339DatetimeProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            rfc3339WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Rfc3339DatetimeProperty::fromJson);
     }
 
     /**
@@ -283,8 +286,9 @@ public final class PropertyClient {
     public Rfc7231DatetimeProperty rfc7231(Rfc7231DatetimeProperty body) {
         // Generated convenience method for rfc7231WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return rfc7231WithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Rfc7231DatetimeProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            rfc7231WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Rfc7231DatetimeProperty::fromJson);
     }
 
     /**
@@ -304,8 +308,9 @@ public final class PropertyClient {
     public UnixTimestampDatetimeProperty unixTimestamp(UnixTimestampDatetimeProperty body) {
         // Generated convenience method for unixTimestampWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return unixTimestampWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(UnixTimestampDatetimeProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            unixTimestampWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            UnixTimestampDatetimeProperty::fromJson);
     }
 
     /**
@@ -325,7 +330,8 @@ public final class PropertyClient {
     public UnixTimestampArrayDatetimeProperty unixTimestampArray(UnixTimestampArrayDatetimeProperty body) {
         // Generated convenience method for unixTimestampArrayWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return unixTimestampArrayWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(UnixTimestampArrayDatetimeProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            unixTimestampArrayWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            UnixTimestampArrayDatetimeProperty::fromJson);
     }
 }
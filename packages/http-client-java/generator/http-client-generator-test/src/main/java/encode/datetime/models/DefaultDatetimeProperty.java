@@ -6,14 +6,13 @@ package encode.datetime.models;
 
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.Immutable;
-import com.azure.core.util.CoreUtils;
 import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
 import com.azure.json.JsonWriter;
+import encode.datetime.implementation.DateTimeCodec;
 import java.io.IOException;
 import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * The DefaultDatetimeProperty model.
@@ -53,8 +52,7 @@ public final class DefaultDatetimeProperty implements JsonSerializable<DefaultDa
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeStringField("value",
-            this.value == null ? null : DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(this.value));
+        jsonWriter.writeStringField("value", DateTimeCodec.formatDateTime(this.value));
         return jsonWriter.writeEndObject();
     }
 
@@ -77,7 +75,7 @@ public final class DefaultDatetimeProperty implements JsonSerializable<DefaultDa
 
                 if ("value".equals(fieldName)) {
                     value = reader
-                        .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
+                        .getNullable(nonNullReader -> DateTimeCodec.parseBestDateTime(nonNullReader.getString()));
                 } else {
                     reader.skipChildren();
                 }
@@ -63,7 +63,7 @@ public final class UnixTimestampArrayDatetimeProperty implements JsonSerializabl
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("value", this.value, (writer, element) -> writer.writeLong(element));
+        jsonWriter.writeArrayField("value", this.value, JsonWriter::writeLong);
         return jsonWriter.writeEndObject();
     }
 
@@ -62,6 +62,13 @@ public final class DurationClientBuilder implements HttpTrait<DurationClientBuil
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the DurationClientBuilder.
      */
@@ -82,6 +89,7 @@ public final class DurationClientBuilder implements HttpTrait<DurationClientBuil
     @Generated
     @Override
     public DurationClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -98,6 +106,7 @@ public final class DurationClientBuilder implements HttpTrait<DurationClientBuil
     @Generated
     @Override
     public DurationClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -117,6 +126,7 @@ public final class DurationClientBuilder implements HttpTrait<DurationClientBuil
     @Generated
     @Override
     public DurationClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -133,6 +143,7 @@ public final class DurationClientBuilder implements HttpTrait<DurationClientBuil
     @Generated
     @Override
     public DurationClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -149,6 +160,7 @@ public final class DurationClientBuilder implements HttpTrait<DurationClientBuil
     @Generated
     @Override
     public DurationClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -159,6 +171,7 @@ public final class DurationClientBuilder implements HttpTrait<DurationClientBuil
     @Generated
     @Override
     public DurationClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -176,6 +189,7 @@ public final class DurationClientBuilder implements HttpTrait<DurationClientBuil
     @Generated
     @Override
     public DurationClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -192,6 +206,7 @@ public final class DurationClientBuilder implements HttpTrait<DurationClientBuil
     @Generated
     @Override
     public DurationClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -210,6 +225,7 @@ public final class DurationClientBuilder implements HttpTrait<DurationClientBuil
      */
     @Generated
     public DurationClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -222,7 +238,7 @@ public final class DurationClientBuilder implements HttpTrait<DurationClientBuil
     @Generated
     private DurationClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         DurationClientImpl client
             = new DurationClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -270,6 +286,15 @@ public final class DurationClientBuilder implements HttpTrait<DurationClientBuil
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of QueryAsyncClient class.
      * 
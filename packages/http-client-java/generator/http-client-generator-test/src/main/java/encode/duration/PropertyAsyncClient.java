@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
+import encode.duration.implementation.JsonSerializableHelper;
 import encode.duration.implementation.PropertiesImpl;
 import encode.duration.property.models.DefaultDurationProperty;
 import encode.duration.property.models.Float64MillisecondsDurationProperty;
@@ -585,8 +586,10 @@ public final class PropertyAsyncClient {
     public Mono<DefaultDurationProperty> defaultMethod(DefaultDurationProperty body) {
         // Generated convenience method for defaultMethodWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return defaultMethodWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(DefaultDurationProperty.class));
+        return defaultMethodWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                DefaultDurationProperty::fromJson));
     }
 
     /**
@@ -606,8 +609,9 @@ public final class PropertyAsyncClient {
     public Mono<ISO8601DurationProperty> iso8601(ISO8601DurationProperty body) {
         // Generated convenience method for iso8601WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return iso8601WithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ISO8601DurationProperty.class));
+        return iso8601WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                ISO8601DurationProperty::fromJson));
     }
 
     /**
@@ -627,8 +631,10 @@ public final class PropertyAsyncClient {
     public Mono<Int32SecondsDurationProperty> int32Seconds(Int32SecondsDurationProperty body) {
         // Generated convenience method for int32SecondsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return int32SecondsWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Int32SecondsDurationProperty.class));
+        return int32SecondsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                Int32SecondsDurationProperty::fromJson));
     }
 
     /**
@@ -648,8 +654,10 @@ public final class PropertyAsyncClient {
     public Mono<FloatSecondsDurationProperty> floatSeconds(FloatSecondsDurationProperty body) {
         // Generated convenience method for floatSecondsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return floatSecondsWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(FloatSecondsDurationProperty.class));
+        return floatSecondsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                FloatSecondsDurationProperty::fromJson));
     }
 
     /**
@@ -669,8 +677,10 @@ public final class PropertyAsyncClient {
     public Mono<Float64SecondsDurationProperty> float64Seconds(Float64SecondsDurationProperty body) {
         // Generated convenience method for float64SecondsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return float64SecondsWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Float64SecondsDurationProperty.class));
+        return float64SecondsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                Float64SecondsDurationProperty::fromJson));
     }
 
     /**
@@ -690,8 +700,10 @@ public final class PropertyAsyncClient {
     public Mono<Int32MillisecondsDurationProperty> int32Milliseconds(Int32MillisecondsDurationProperty body) {
         // Generated convenience method for int32MillisecondsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return int32MillisecondsWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Int32MillisecondsDurationProperty.class));
+        return int32MillisecondsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                Int32MillisecondsDurationProperty::fromJson));
     }
 
     /**
@@ -711,8 +723,10 @@ public final class PropertyAsyncClient {
     public Mono<FloatMillisecondsDurationProperty> floatMilliseconds(FloatMillisecondsDurationProperty body) {
         // Generated convenience method for floatMillisecondsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return floatMillisecondsWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(FloatMillisecondsDurationProperty.class));
+        return floatMillisecondsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                FloatMillisecondsDurationProperty::fromJson));
     }
 
     /**
@@ -732,8 +746,10 @@ public final class PropertyAsyncClient {
     public Mono<Float64MillisecondsDurationProperty> float64Milliseconds(Float64MillisecondsDurationProperty body) {
         // Generated convenience method for float64MillisecondsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return float64MillisecondsWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Float64MillisecondsDurationProperty.class));
+        return float64MillisecondsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                Float64MillisecondsDurationProperty::fromJson));
     }
 
     /**
@@ -753,8 +769,10 @@ public final class PropertyAsyncClient {
     public Mono<FloatSecondsDurationArrayProperty> floatSecondsArray(FloatSecondsDurationArrayProperty body) {
         // Generated convenience method for floatSecondsArrayWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return floatSecondsArrayWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(FloatSecondsDurationArrayProperty.class));
+        return floatSecondsArrayWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                FloatSecondsDurationArrayProperty::fromJson));
     }
 
     /**
@@ -775,8 +793,10 @@ public final class PropertyAsyncClient {
         floatMillisecondsArray(FloatMillisecondsDurationArrayProperty body) {
         // Generated convenience method for floatMillisecondsArrayWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return floatMillisecondsArrayWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(FloatMillisecondsDurationArrayProperty.class));
+        return floatMillisecondsArrayWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                FloatMillisecondsDurationArrayProperty::fromJson));
     }
 
     /**
@@ -797,8 +817,10 @@ public final class PropertyAsyncClient {
         int32SecondsLargerUnit(Int32SecondsLargerUnitDurationProperty body) {
         // Generated convenience method for int32SecondsLargerUnitWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return int32SecondsLargerUnitWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Int32SecondsLargerUnitDurationProperty.class));
+        return int32SecondsLargerUnitWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                Int32SecondsLargerUnitDurationProperty::fromJson));
     }
 
     /**
@@ -819,8 +841,10 @@ public final class PropertyAsyncClient {
         floatSecondsLargerUnit(FloatSecondsLargerUnitDurationProperty body) {
         // Generated convenience method for floatSecondsLargerUnitWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return floatSecondsLargerUnitWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(FloatSecondsLargerUnitDurationProperty.class));
+        return floatSecondsLargerUnitWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                FloatSecondsLargerUnitDurationProperty::fromJson));
     }
 
     /**
@@ -841,9 +865,10 @@ public final class PropertyAsyncClient {
         int32MillisecondsLargerUnit(Int32MillisecondsLargerUnitDurationProperty body) {
         // Generated convenience method for int32MillisecondsLargerUnitWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return int32MillisecondsLargerUnitWithResponse(BinaryData.fromObject(body), requestOptions)
+        return int32MillisecondsLargerUnitWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Int32MillisecondsLargerUnitDurationProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                Int32MillisecondsLargerUnitDurationProperty::fromJson));
     }
 
     /**
@@ -864,8 +889,9 @@ public final class PropertyAsyncClient {
         floatMillisecondsLargerUnit(FloatMillisecondsLargerUnitDurationProperty body) {
         // Generated convenience method for floatMillisecondsLargerUnitWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return floatMillisecondsLargerUnitWithResponse(BinaryData.fromObject(body), requestOptions)
+        return floatMillisecondsLargerUnitWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(FloatMillisecondsLargerUnitDurationProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                FloatMillisecondsLargerUnitDurationProperty::fromJson));
     }
 }
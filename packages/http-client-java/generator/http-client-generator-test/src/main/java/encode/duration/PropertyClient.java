@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import encode.duration.implementation.JsonSerializableHelper;
 import encode.duration.implementation.PropertiesImpl;
 import encode.duration.property.models.DefaultDurationProperty;
 import encode.duration.property.models.Float64MillisecondsDurationProperty;
@@ -580,8 +581,9 @@ public final class PropertyClient {
     public DefaultDurationProperty defaultMethod(DefaultDurationProperty body) {
         // Generated convenience method for defaultMethodWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return defaultMethodWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(DefaultDurationProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            defaultMethodWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            DefaultDurationProperty::fromJson);
     }
 
     /**
@@ -601,8 +603,9 @@ public final class PropertyClient {
     public ISO8601DurationProperty iso8601(ISO8601DurationProperty body) {
         // Generated convenience method for iso8601WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return iso8601WithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(ISO8601DurationProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            iso8601WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            ISO8601DurationProperty::fromJson);
     }
 
     /**
@@ -622,8 +625,9 @@ public final class PropertyClient {
     public Int32SecondsDurationProperty int32Seconds(Int32SecondsDurationProperty body) {
         // Generated convenience method for int32SecondsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return int32SecondsWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Int32SecondsDurationProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            int32SecondsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Int32SecondsDurationProperty::fromJson);
     }
 
     /**
@@ -643,8 +647,9 @@ public final class PropertyClient {
     public FloatSecondsDurationProperty floatSeconds(FloatSecondsDurationProperty body) {
         // Generated convenience method for floatSecondsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return floatSecondsWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(FloatSecondsDurationProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            floatSecondsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            FloatSecondsDurationProperty::fromJson);
     }
 
     /**
@@ -664,8 +669,9 @@ public final class PropertyClient {
     public Float64SecondsDurationProperty float64Seconds(Float64SecondsDurationProperty body) {
         // Generated convenience method for float64SecondsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return float64SecondsWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Float64SecondsDurationProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            float64SecondsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Float64SecondsDurationProperty::fromJson);
     }
 
     /**
@@ -685,8 +691,9 @@ public final class PropertyClient {
     public Int32MillisecondsDurationProperty int32Milliseconds(Int32MillisecondsDurationProperty body) {
         // Generated convenience method for int32MillisecondsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return int32MillisecondsWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Int32MillisecondsDurationProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            int32MillisecondsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Int32MillisecondsDurationProperty::fromJson);
     }
 
     /**
@@ -706,8 +713,9 @@ public final class PropertyClient {
     public FloatMillisecondsDurationProperty floatMilliseconds(FloatMillisecondsDurationProperty body) {
         // Generated convenience method for floatMillisecondsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return floatMillisecondsWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(FloatMillisecondsDurationProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            floatMillisecondsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            FloatMillisecondsDurationProperty::fromJson);
     }
 
     /**
@@ -727,8 +735,9 @@ public final class PropertyClient {
     public Float64MillisecondsDurationProperty float64Milliseconds(Float64MillisecondsDurationProperty body) {
         // Generated convenience method for float64MillisecondsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return float64MillisecondsWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Float64MillisecondsDurationProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            float64MillisecondsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Float64MillisecondsDurationProperty::fromJson);
     }
 
     /**
@@ -748,8 +757,9 @@ public final class PropertyClient {
     public FloatSecondsDurationArrayProperty floatSecondsArray(FloatSecondsDurationArrayProperty body) {
         // Generated convenience method for floatSecondsArrayWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return floatSecondsArrayWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(FloatSecondsDurationArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            floatSecondsArrayWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            FloatSecondsDurationArrayProperty::fromJson);
     }
 
     /**
@@ -769,8 +779,9 @@ public final class PropertyClient {
     public FloatMillisecondsDurationArrayProperty floatMillisecondsArray(FloatMillisecondsDurationArrayProperty body) {
         // Generated convenience method for floatMillisecondsArrayWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return floatMillisecondsArrayWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(FloatMillisecondsDurationArrayProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            floatMillisecondsArrayWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            FloatMillisecondsDurationArrayProperty::fromJson);
     }
 
     /**
@@ -790,8 +801,9 @@ public final class PropertyClient {
     public Int32SecondsLargerUnitDurationProperty int32SecondsLargerUnit(Int32SecondsLargerUnitDurationProperty body) {
         // Generated convenience method for int32SecondsLargerUnitWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return int32SecondsLargerUnitWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Int32SecondsLargerUnitDurationProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            int32SecondsLargerUnitWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Int32SecondsLargerUnitDurationProperty::fromJson);
     }
 
     /**
@@ -811,8 +823,9 @@ public final class PropertyClient {
     public FloatSecondsLargerUnitDurationProperty floatSecondsLargerUnit(FloatSecondsLargerUnitDurationProperty body) {
         // Generated convenience method for floatSecondsLargerUnitWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return floatSecondsLargerUnitWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(FloatSecondsLargerUnitDurationProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            floatSecondsLargerUnitWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            FloatSecondsLargerUnitDurationProperty::fromJson);
     }
 
     /**
@@ -833,8 +846,10 @@ public final class PropertyClient {
         int32MillisecondsLargerUnit(Int32MillisecondsLargerUnitDurationProperty body) {
         // Generated convenience method for int32MillisecondsLargerUnitWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return int32MillisecondsLargerUnitWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Int32MillisecondsLargerUnitDurationProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            int32MillisecondsLargerUnitWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+                .getValue(),
+            Int32MillisecondsLargerUnitDurationProperty::fromJson);
     }
 
     /**
@@ -855,7 +870,9 @@ public final class PropertyClient {
         floatMillisecondsLargerUnit(FloatMillisecondsLargerUnitDurationProperty body) {
         // Generated convenience method for floatMillisecondsLargerUnitWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return floatMillisecondsLargerUnitWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(FloatMillisecondsLargerUnitDurationProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            floatMillisecondsLargerUnitWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+                .getValue(),
+            FloatMillisecondsLargerUnitDurationProperty::fromJson);
     }
 }
@@ -26,6 +26,7 @@ import com.azure.core.util.serializer.CollectionFormat;
 import com.azure.core.util.serializer.JacksonAdapter;
 import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
@@ -791,10 +792,10 @@ public final class HeadersImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Mono<Response<Void>> int32MillisecondsArrayWithResponseAsync(List<Duration> duration,
         RequestOptions requestOptions) {
-        String durationConverted = JacksonAdapter.createDefaultSerializerAdapter()
-            .serializeIterable(
-                duration.stream().map(paramItemValue -> paramItemValue.toMillis()).collect(Collectors.toList()),
-                CollectionFormat.CSV);
+        String durationConverted = duration.stream()
+            .map(paramItemValue -> paramItemValue.toMillis())
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
         return FluxUtil.withContext(context -> service.int32MillisecondsArray(this.client.getEndpoint(),
             durationConverted, requestOptions, context));
     }
@@ -812,10 +813,10 @@ public final class HeadersImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> int32MillisecondsArrayWithResponse(List<Duration> duration, RequestOptions requestOptions) {
-        String durationConverted = JacksonAdapter.createDefaultSerializerAdapter()
-            .serializeIterable(
-                duration.stream().map(paramItemValue -> paramItemValue.toMillis()).collect(Collectors.toList()),
-                CollectionFormat.CSV);
+        String durationConverted = duration.stream()
+            .map(paramItemValue -> paramItemValue.toMillis())
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
         return service.int32MillisecondsArraySync(this.client.getEndpoint(), durationConverted, requestOptions,
             Context.NONE);
     }
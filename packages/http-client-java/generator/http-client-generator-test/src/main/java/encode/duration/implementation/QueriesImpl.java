@@ -22,10 +22,9 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.http.rest.RestProxy;
 import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
-import com.azure.core.util.serializer.CollectionFormat;
-import com.azure.core.util.serializer.JacksonAdapter;
 import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
@@ -749,10 +748,10 @@ public final class QueriesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Mono<Response<Void>> int32SecondsArrayWithResponseAsync(List<Duration> input,
         RequestOptions requestOptions) {
-        String inputConverted = JacksonAdapter.createDefaultSerializerAdapter()
-            .serializeIterable(
-                input.stream().map(paramItemValue -> paramItemValue.getSeconds()).collect(Collectors.toList()),
-                CollectionFormat.CSV);
+        String inputConverted = input.stream()
+            .map(paramItemValue -> paramItemValue.getSeconds())
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
         return FluxUtil.withContext(
             context -> service.int32SecondsArray(this.client.getEndpoint(), inputConverted, requestOptions, context));
     }
@@ -770,10 +769,10 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> int32SecondsArrayWithResponse(List<Duration> input, RequestOptions requestOptions) {
-        String inputConverted = JacksonAdapter.createDefaultSerializerAdapter()
-            .serializeIterable(
-                input.stream().map(paramItemValue -> paramItemValue.getSeconds()).collect(Collectors.toList()),
-                CollectionFormat.CSV);
+        String inputConverted = input.stream()
+            .map(paramItemValue -> paramItemValue.getSeconds())
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
         return service.int32SecondsArraySync(this.client.getEndpoint(), inputConverted, requestOptions, Context.NONE);
     }
 
@@ -791,10 +790,10 @@ public final class QueriesImpl {
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Mono<Response<Void>> int32MillisecondsArrayWithResponseAsync(List<Duration> input,
         RequestOptions requestOptions) {
-        String inputConverted = JacksonAdapter.createDefaultSerializerAdapter()
-            .serializeIterable(
-                input.stream().map(paramItemValue -> paramItemValue.toMillis()).collect(Collectors.toList()),
-                CollectionFormat.CSV);
+        String inputConverted = input.stream()
+            .map(paramItemValue -> paramItemValue.toMillis())
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
         return FluxUtil.withContext(context -> service.int32MillisecondsArray(this.client.getEndpoint(), inputConverted,
             requestOptions, context));
     }
@@ -812,10 +811,10 @@ public final class QueriesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> int32MillisecondsArrayWithResponse(List<Duration> input, RequestOptions requestOptions) {
-        String inputConverted = JacksonAdapter.createDefaultSerializerAdapter()
-            .serializeIterable(
-                input.stream().map(paramItemValue -> paramItemValue.toMillis()).collect(Collectors.toList()),
-                CollectionFormat.CSV);
+        String inputConverted = input.stream()
+            .map(paramItemValue -> paramItemValue.toMillis())
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
         return service.int32MillisecondsArraySync(this.client.getEndpoint(), inputConverted, requestOptions,
             Context.NONE);
     }
@@ -63,7 +63,7 @@ public final class FloatSecondsDurationArrayProperty implements JsonSerializable
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("value", this.value, (writer, element) -> writer.writeDouble(element));
+        jsonWriter.writeArrayField("value", this.value, JsonWriter::writeDouble);
         return jsonWriter.writeEndObject();
     }
 
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
+import encode.numeric.implementation.JsonSerializableHelper;
 import encode.numeric.implementation.PropertiesImpl;
 import encode.numeric.property.models.SafeintAsStringProperty;
 import encode.numeric.property.models.Uint32AsStringProperty;
@@ -166,8 +167,10 @@ public final class NumericAsyncClient {
     public Mono<SafeintAsStringProperty> safeintAsString(SafeintAsStringProperty value) {
         // Generated convenience method for safeintAsStringWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return safeintAsStringWithResponse(BinaryData.fromObject(value), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(SafeintAsStringProperty.class));
+        return safeintAsStringWithResponse(JsonSerializableHelper.toBinaryData(value), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                SafeintAsStringProperty::fromJson));
     }
 
     /**
@@ -187,9 +190,10 @@ public final class NumericAsyncClient {
     public Mono<Uint32AsStringProperty> uint32AsStringOptional(Uint32AsStringProperty value) {
         // Generated convenience method for uint32AsStringOptionalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return uint32AsStringOptionalWithResponse(BinaryData.fromObject(value), requestOptions)
+        return uint32AsStringOptionalWithResponse(JsonSerializableHelper.toBinaryData(value), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Uint32AsStringProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                Uint32AsStringProperty::fromJson));
     }
 
     /**
@@ -209,7 +213,9 @@ public final class NumericAsyncClient {
     public Mono<Uint8AsStringProperty> uint8AsString(Uint8AsStringProperty value) {
         // Generated convenience method for uint8AsStringWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return uint8AsStringWithResponse(BinaryData.fromObject(value), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Uint8AsStringProperty.class));
+        return uint8AsStringWithResponse(JsonSerializableHelper.toBinaryData(value), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                Uint8AsStringProperty::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import encode.numeric.implementation.JsonSerializableHelper;
 import encode.numeric.implementation.PropertiesImpl;
 import encode.numeric.property.models.SafeintAsStringProperty;
 import encode.numeric.property.models.Uint32AsStringProperty;
@@ -163,8 +164,9 @@ public final class NumericClient {
     public SafeintAsStringProperty safeintAsString(SafeintAsStringProperty value) {
         // Generated convenience method for safeintAsStringWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return safeintAsStringWithResponse(BinaryData.fromObject(value), requestOptions).getValue()
-            .toObject(SafeintAsStringProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            safeintAsStringWithResponse(JsonSerializableHelper.toBinaryData(value), requestOptions).getValue(),
+            SafeintAsStringProperty::fromJson);
     }
 
     /**
@@ -184,8 +186,9 @@ public final class NumericClient {
     public Uint32AsStringProperty uint32AsStringOptional(Uint32AsStringProperty value) {
         // Generated convenience method for uint32AsStringOptionalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return uint32AsStringOptionalWithResponse(BinaryData.fromObject(value), requestOptions).getValue()
-            .toObject(Uint32AsStringProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            uint32AsStringOptionalWithResponse(JsonSerializableHelper.toBinaryData(value), requestOptions).getValue(),
+            Uint32AsStringProperty::fromJson);
     }
 
     /**
@@ -205,7 +208,8 @@ public final class NumericClient {
     public Uint8AsStringProperty uint8AsString(Uint8AsStringProperty value) {
         // Generated convenience method for uint8AsStringWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return uint8AsStringWithResponse(BinaryData.fromObject(value), requestOptions).getValue()
-            .toObject(Uint8AsStringProperty.class);
+        return JsonSerializableHelper.fromBinaryData(
+            uint8AsStringWithResponse(JsonSerializableHelper.toBinaryData(value), requestOptions).getValue(),
+            Uint8AsStringProperty::fromJson);
     }
 }
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import parameters.basic.explicitbody.models.User;
 import parameters.basic.implementation.ExplicitBodiesImpl;
+import parameters.basic.implementation.JsonSerializableHelper;
 import reactor.core.publisher.Mono;
 
 /**
@@ -81,6 +82,6 @@ public final class ExplicitBodyAsyncClient {
     public Mono<Void> simple(User body) {
         // Generated convenience method for simpleWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return simpleWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return simpleWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 }
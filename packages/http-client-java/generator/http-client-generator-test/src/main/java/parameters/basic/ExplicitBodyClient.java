@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import parameters.basic.explicitbody.models.User;
 import parameters.basic.implementation.ExplicitBodiesImpl;
+import parameters.basic.implementation.JsonSerializableHelper;
 
 /**
  * Initializes a new instance of the synchronous BasicClient type.
@@ -78,6 +79,6 @@ public final class ExplicitBodyClient {
     public void simple(User body) {
         // Generated convenience method for simpleWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        simpleWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        simpleWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
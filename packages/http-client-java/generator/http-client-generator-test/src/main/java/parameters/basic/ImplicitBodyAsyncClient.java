@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import parameters.basic.implementation.ImplicitBodiesImpl;
+import parameters.basic.implementation.JsonSerializableHelper;
 import parameters.basic.implicitbody.implementation.models.SimpleRequest;
 import reactor.core.publisher.Mono;
 
@@ -82,7 +83,7 @@ public final class ImplicitBodyAsyncClient {
         // Generated convenience method for simpleWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SimpleRequest simpleRequestObj = new SimpleRequest(name);
-        BinaryData simpleRequest = BinaryData.fromObject(simpleRequestObj);
+        BinaryData simpleRequest = JsonSerializableHelper.toBinaryData(simpleRequestObj);
         return simpleWithResponse(simpleRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import parameters.basic.implementation.ImplicitBodiesImpl;
+import parameters.basic.implementation.JsonSerializableHelper;
 import parameters.basic.implicitbody.implementation.models.SimpleRequest;
 
 /**
@@ -79,7 +80,7 @@ public final class ImplicitBodyClient {
         // Generated convenience method for simpleWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SimpleRequest simpleRequestObj = new SimpleRequest(name);
-        BinaryData simpleRequest = BinaryData.fromObject(simpleRequestObj);
+        BinaryData simpleRequest = JsonSerializableHelper.toBinaryData(simpleRequestObj);
         simpleWithResponse(simpleRequest, requestOptions).getValue();
     }
 }
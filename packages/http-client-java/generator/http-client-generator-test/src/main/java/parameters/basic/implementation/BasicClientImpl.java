@@ -60,7 +60,7 @@ public final class BasicClientImpl {
     /**
      * The ExplicitBodiesImpl object to access its operations.
      */
-    private final ExplicitBodiesImpl explicitBodies;
+    private volatile ExplicitBodiesImpl explicitBodies;
 
     /**
      * Gets the ExplicitBodiesImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class BasicClientImpl {
      * @return the ExplicitBodiesImpl object.
      */
     public ExplicitBodiesImpl getExplicitBodies() {
-        return this.explicitBodies;
+        ExplicitBodiesImpl localExplicitBodies = this.explicitBodies;
+        if (localExplicitBodies == null) {
+            synchronized (this) {
+                localExplicitBodies = this.explicitBodies;
+                if (localExplicitBodies == null) {
+                    localExplicitBodies = new ExplicitBodiesImpl(this);
+                    this.explicitBodies = localExplicitBodies;
+                }
+            }
+        }
+        return localExplicitBodies;
     }
 
     /**
      * The ImplicitBodiesImpl object to access its operations.
      */
-    private final ImplicitBodiesImpl implicitBodies;
+    private volatile ImplicitBodiesImpl implicitBodies;
 
     /**
      * Gets the ImplicitBodiesImpl object to access its operations.
@@ -82,7 +92,17 @@ public final class BasicClientImpl {
      * @return the ImplicitBodiesImpl object.
      */
     public ImplicitBodiesImpl getImplicitBodies() {
-        return this.implicitBodies;
+        ImplicitBodiesImpl localImplicitBodies = this.implicitBodies;
+        if (localImplicitBodies == null) {
+            synchronized (this) {
+                localImplicitBodies = this.implicitBodies;
+                if (localImplicitBodies == null) {
+                    localImplicitBodies = new ImplicitBodiesImpl(this);
+                    this.implicitBodies = localImplicitBodies;
+                }
+            }
+        }
+        return localImplicitBodies;
     }
 
     /**
@@ -116,7 +136,5 @@ public final class BasicClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.explicitBodies = new ExplicitBodiesImpl(this);
-        this.implicitBodies = new ImplicitBodiesImpl(this);
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import parameters.bodyoptionality.implementation.BodyOptionalityClientImpl;
+import parameters.bodyoptionality.implementation.JsonSerializableHelper;
 import parameters.bodyoptionality.models.BodyModel;
 import reactor.core.publisher.Mono;
 
@@ -107,7 +108,8 @@ public final class BodyOptionalityAsyncClient {
     public Mono<Void> requiredExplicit(BodyModel body) {
         // Generated convenience method for requiredExplicitWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return requiredExplicitWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return requiredExplicitWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -128,7 +130,7 @@ public final class BodyOptionalityAsyncClient {
         // Generated convenience method for requiredImplicitWithResponse
         RequestOptions requestOptions = new RequestOptions();
         BodyModel bodyModelObj = new BodyModel(name);
-        BinaryData bodyModel = BinaryData.fromObject(bodyModelObj);
+        BinaryData bodyModel = JsonSerializableHelper.toBinaryData(bodyModelObj);
         return requiredImplicitWithResponse(bodyModel, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import parameters.bodyoptionality.implementation.BodyOptionalityClientImpl;
+import parameters.bodyoptionality.implementation.JsonSerializableHelper;
 import parameters.bodyoptionality.models.BodyModel;
 
 /**
@@ -104,7 +105,7 @@ public final class BodyOptionalityClient {
     public void requiredExplicit(BodyModel body) {
         // Generated convenience method for requiredExplicitWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        requiredExplicitWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        requiredExplicitWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -124,7 +125,7 @@ public final class BodyOptionalityClient {
         // Generated convenience method for requiredImplicitWithResponse
         RequestOptions requestOptions = new RequestOptions();
         BodyModel bodyModelObj = new BodyModel(name);
-        BinaryData bodyModel = BinaryData.fromObject(bodyModelObj);
+        BinaryData bodyModel = JsonSerializableHelper.toBinaryData(bodyModelObj);
         requiredImplicitWithResponse(bodyModel, requestOptions).getValue();
     }
 }
@@ -14,8 +14,8 @@ import com.azure.core.exception.ResourceModifiedException;
 import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
-import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
+import parameters.bodyoptionality.implementation.JsonSerializableHelper;
 import parameters.bodyoptionality.implementation.OptionalExplicitsImpl;
 import parameters.bodyoptionality.models.BodyModel;
 import reactor.core.publisher.Mono;
@@ -122,7 +122,7 @@ public final class OptionalExplicitAsyncClient {
         // Generated convenience method for setWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (body != null) {
-            requestOptions.setBody(BinaryData.fromObject(body));
+            requestOptions.setBody(JsonSerializableHelper.toBinaryData(body));
         }
         return setWithResponse(requestOptions).flatMap(FluxUtil::toMono);
     }
@@ -163,7 +163,7 @@ public final class OptionalExplicitAsyncClient {
         // Generated convenience method for omitWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (body != null) {
-            requestOptions.setBody(BinaryData.fromObject(body));
+            requestOptions.setBody(JsonSerializableHelper.toBinaryData(body));
         }
         return omitWithResponse(requestOptions).flatMap(FluxUtil::toMono);
     }
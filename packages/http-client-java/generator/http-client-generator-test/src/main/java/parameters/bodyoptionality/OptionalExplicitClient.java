@@ -14,7 +14,7 @@ import com.azure.core.exception.ResourceModifiedException;
 import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
-import com.azure.core.util.BinaryData;
+import parameters.bodyoptionality.implementation.JsonSerializableHelper;
 import parameters.bodyoptionality.implementation.OptionalExplicitsImpl;
 import parameters.bodyoptionality.models.BodyModel;
 
@@ -119,7 +119,7 @@ public final class OptionalExplicitClient {
         // Generated convenience method for setWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (body != null) {
-            requestOptions.setBody(BinaryData.fromObject(body));
+            requestOptions.setBody(JsonSerializableHelper.toBinaryData(body));
         }
         setWithResponse(requestOptions).getValue();
     }
@@ -158,7 +158,7 @@ public final class OptionalExplicitClient {
         // Generated convenience method for omitWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (body != null) {
-            requestOptions.setBody(BinaryData.fromObject(body));
+            requestOptions.setBody(JsonSerializableHelper.toBinaryData(body));
         }
         omitWithResponse(requestOptions).getValue();
     }
@@ -86,7 +86,7 @@ public final class BodyOptionalityClientImpl {
     /**
      * The OptionalExplicitsImpl object to access its operations.
      */
-    private final OptionalExplicitsImpl optionalExplicits;
+    private volatile OptionalExplicitsImpl optionalExplicits;
 
     /**
      * Gets the OptionalExplicitsImpl object to access its operations.
@@ -94,7 +94,17 @@ public final class BodyOptionalityClientImpl {
      * @return the OptionalExplicitsImpl object.
      */
     public OptionalExplicitsImpl getOptionalExplicits() {
-        return this.optionalExplicits;
+        OptionalExplicitsImpl localOptionalExplicits = this.optionalExplicits;
+        if (localOptionalExplicits == null) {
+            synchronized (this) {
+                localOptionalExplicits = this.optionalExplicits;
+                if (localOptionalExplicits == null) {
+                    localOptionalExplicits = new OptionalExplicitsImpl(this);
+                    this.optionalExplicits = localOptionalExplicits;
+                }
+            }
+        }
+        return localOptionalExplicits;
     }
 
     /**
@@ -128,7 +138,6 @@ public final class BodyOptionalityClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.optionalExplicits = new OptionalExplicitsImpl(this);
         this.service
             = RestProxy.create(BodyOptionalityClientService.class, this.httpPipeline, this.getSerializerAdapter());
     }
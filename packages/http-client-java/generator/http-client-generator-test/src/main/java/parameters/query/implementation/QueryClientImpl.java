@@ -60,7 +60,7 @@ public final class QueryClientImpl {
     /**
      * The ConstantsImpl object to access its operations.
      */
-    private final ConstantsImpl constants;
+    private volatile ConstantsImpl constants;
 
     /**
      * Gets the ConstantsImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class QueryClientImpl {
      * @return the ConstantsImpl object.
      */
     public ConstantsImpl getConstants() {
-        return this.constants;
+        ConstantsImpl localConstants = this.constants;
+        if (localConstants == null) {
+            synchronized (this) {
+                localConstants = this.constants;
+                if (localConstants == null) {
+                    localConstants = new ConstantsImpl(this);
+                    this.constants = localConstants;
+                }
+            }
+        }
+        return localConstants;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class QueryClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.constants = new ConstantsImpl(this);
     }
 }
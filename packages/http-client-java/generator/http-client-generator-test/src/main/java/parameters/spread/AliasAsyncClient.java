@@ -19,6 +19,7 @@ import com.azure.core.util.FluxUtil;
 import java.util.List;
 import parameters.spread.alias.implementation.models.SpreadAsRequestBodyRequest;
 import parameters.spread.implementation.AliasImpl;
+import parameters.spread.implementation.JsonSerializableHelper;
 import parameters.spread.implementation.models.SpreadAsRequestParameterRequest;
 import parameters.spread.implementation.models.SpreadParameterWithInnerAliasRequest;
 import parameters.spread.implementation.models.SpreadParameterWithInnerModelRequest;
@@ -216,7 +217,7 @@ public final class AliasAsyncClient {
         // Generated convenience method for spreadAsRequestBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SpreadAsRequestBodyRequest spreadAsRequestBodyRequestObj = new SpreadAsRequestBodyRequest(name);
-        BinaryData spreadAsRequestBodyRequest = BinaryData.fromObject(spreadAsRequestBodyRequestObj);
+        BinaryData spreadAsRequestBodyRequest = JsonSerializableHelper.toBinaryData(spreadAsRequestBodyRequestObj);
         return spreadAsRequestBodyWithResponse(spreadAsRequestBodyRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 
@@ -242,7 +243,7 @@ public final class AliasAsyncClient {
         SpreadParameterWithInnerModelRequest spreadParameterWithInnerModelRequestObj
             = new SpreadParameterWithInnerModelRequest(name);
         BinaryData spreadParameterWithInnerModelRequest
-            = BinaryData.fromObject(spreadParameterWithInnerModelRequestObj);
+            = JsonSerializableHelper.toBinaryData(spreadParameterWithInnerModelRequestObj);
         return spreadParameterWithInnerModelWithResponse(id, xMsTestHeader, spreadParameterWithInnerModelRequest,
             requestOptions).flatMap(FluxUtil::toMono);
     }
@@ -267,7 +268,8 @@ public final class AliasAsyncClient {
         // Generated convenience method for spreadAsRequestParameterWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SpreadAsRequestParameterRequest spreadAsRequestParameterRequestObj = new SpreadAsRequestParameterRequest(name);
-        BinaryData spreadAsRequestParameterRequest = BinaryData.fromObject(spreadAsRequestParameterRequestObj);
+        BinaryData spreadAsRequestParameterRequest
+            = JsonSerializableHelper.toBinaryData(spreadAsRequestParameterRequestObj);
         return spreadAsRequestParameterWithResponse(id, xMsTestHeader, spreadAsRequestParameterRequest, requestOptions)
             .flatMap(FluxUtil::toMono);
     }
@@ -298,7 +300,8 @@ public final class AliasAsyncClient {
         SpreadWithMultipleParametersRequest spreadWithMultipleParametersRequestObj
             = new SpreadWithMultipleParametersRequest(requiredString, requiredIntList).setOptionalInt(optionalInt)
                 .setOptionalStringList(optionalStringList);
-        BinaryData spreadWithMultipleParametersRequest = BinaryData.fromObject(spreadWithMultipleParametersRequestObj);
+        BinaryData spreadWithMultipleParametersRequest
+            = JsonSerializableHelper.toBinaryData(spreadWithMultipleParametersRequestObj);
         return spreadWithMultipleParametersWithResponse(id, xMsTestHeader, spreadWithMultipleParametersRequest,
             requestOptions).flatMap(FluxUtil::toMono);
     }
@@ -326,7 +329,8 @@ public final class AliasAsyncClient {
         RequestOptions requestOptions = new RequestOptions();
         SpreadWithMultipleParametersRequest spreadWithMultipleParametersRequestObj
             = new SpreadWithMultipleParametersRequest(requiredString, requiredIntList);
-        BinaryData spreadWithMultipleParametersRequest = BinaryData.fromObject(spreadWithMultipleParametersRequestObj);
+        BinaryData spreadWithMultipleParametersRequest
+            = JsonSerializableHelper.toBinaryData(spreadWithMultipleParametersRequestObj);
         return spreadWithMultipleParametersWithResponse(id, xMsTestHeader, spreadWithMultipleParametersRequest,
             requestOptions).flatMap(FluxUtil::toMono);
     }
@@ -354,7 +358,7 @@ public final class AliasAsyncClient {
         SpreadParameterWithInnerAliasRequest spreadParameterWithInnerAliasRequestObj
             = new SpreadParameterWithInnerAliasRequest(name, age);
         BinaryData spreadParameterWithInnerAliasRequest
-            = BinaryData.fromObject(spreadParameterWithInnerAliasRequestObj);
+            = JsonSerializableHelper.toBinaryData(spreadParameterWithInnerAliasRequestObj);
         return spreadParameterWithInnerAliasWithResponse(id, xMsTestHeader, spreadParameterWithInnerAliasRequest,
             requestOptions).flatMap(FluxUtil::toMono);
     }
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import java.util.List;
 import parameters.spread.alias.implementation.models.SpreadAsRequestBodyRequest;
 import parameters.spread.implementation.AliasImpl;
+import parameters.spread.implementation.JsonSerializableHelper;
 import parameters.spread.implementation.models.SpreadAsRequestParameterRequest;
 import parameters.spread.implementation.models.SpreadParameterWithInnerAliasRequest;
 import parameters.spread.implementation.models.SpreadParameterWithInnerModelRequest;
@@ -213,7 +214,7 @@ public final class AliasClient {
         // Generated convenience method for spreadAsRequestBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SpreadAsRequestBodyRequest spreadAsRequestBodyRequestObj = new SpreadAsRequestBodyRequest(name);
-        BinaryData spreadAsRequestBodyRequest = BinaryData.fromObject(spreadAsRequestBodyRequestObj);
+        BinaryData spreadAsRequestBodyRequest = JsonSerializableHelper.toBinaryData(spreadAsRequestBodyRequestObj);
         spreadAsRequestBodyWithResponse(spreadAsRequestBodyRequest, requestOptions).getValue();
     }
 
@@ -238,7 +239,7 @@ public final class AliasClient {
         SpreadParameterWithInnerModelRequest spreadParameterWithInnerModelRequestObj
             = new SpreadParameterWithInnerModelRequest(name);
         BinaryData spreadParameterWithInnerModelRequest
-            = BinaryData.fromObject(spreadParameterWithInnerModelRequestObj);
+            = JsonSerializableHelper.toBinaryData(spreadParameterWithInnerModelRequestObj);
         spreadParameterWithInnerModelWithResponse(id, xMsTestHeader, spreadParameterWithInnerModelRequest,
             requestOptions).getValue();
     }
@@ -262,7 +263,8 @@ public final class AliasClient {
         // Generated convenience method for spreadAsRequestParameterWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SpreadAsRequestParameterRequest spreadAsRequestParameterRequestObj = new SpreadAsRequestParameterRequest(name);
-        BinaryData spreadAsRequestParameterRequest = BinaryData.fromObject(spreadAsRequestParameterRequestObj);
+        BinaryData spreadAsRequestParameterRequest
+            = JsonSerializableHelper.toBinaryData(spreadAsRequestParameterRequestObj);
         spreadAsRequestParameterWithResponse(id, xMsTestHeader, spreadAsRequestParameterRequest, requestOptions)
             .getValue();
     }
@@ -292,7 +294,8 @@ public final class AliasClient {
         SpreadWithMultipleParametersRequest spreadWithMultipleParametersRequestObj
             = new SpreadWithMultipleParametersRequest(requiredString, requiredIntList).setOptionalInt(optionalInt)
                 .setOptionalStringList(optionalStringList);
-        BinaryData spreadWithMultipleParametersRequest = BinaryData.fromObject(spreadWithMultipleParametersRequestObj);
+        BinaryData spreadWithMultipleParametersRequest
+            = JsonSerializableHelper.toBinaryData(spreadWithMultipleParametersRequestObj);
         spreadWithMultipleParametersWithResponse(id, xMsTestHeader, spreadWithMultipleParametersRequest, requestOptions)
             .getValue();
     }
@@ -319,7 +322,8 @@ public final class AliasClient {
         RequestOptions requestOptions = new RequestOptions();
         SpreadWithMultipleParametersRequest spreadWithMultipleParametersRequestObj
             = new SpreadWithMultipleParametersRequest(requiredString, requiredIntList);
-        BinaryData spreadWithMultipleParametersRequest = BinaryData.fromObject(spreadWithMultipleParametersRequestObj);
+        BinaryData spreadWithMultipleParametersRequest
+            = JsonSerializableHelper.toBinaryData(spreadWithMultipleParametersRequestObj);
         spreadWithMultipleParametersWithResponse(id, xMsTestHeader, spreadWithMultipleParametersRequest, requestOptions)
             .getValue();
     }
@@ -346,7 +350,7 @@ public final class AliasClient {
         SpreadParameterWithInnerAliasRequest spreadParameterWithInnerAliasRequestObj
             = new SpreadParameterWithInnerAliasRequest(name, age);
         BinaryData spreadParameterWithInnerAliasRequest
-            = BinaryData.fromObject(spreadParameterWithInnerAliasRequestObj);
+            = JsonSerializableHelper.toBinaryData(spreadParameterWithInnerAliasRequestObj);
         spreadParameterWithInnerAliasWithResponse(id, xMsTestHeader, spreadParameterWithInnerAliasRequest,
             requestOptions).getValue();
     }
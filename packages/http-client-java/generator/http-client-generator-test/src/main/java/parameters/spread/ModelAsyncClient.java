@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
+import parameters.spread.implementation.JsonSerializableHelper;
 import parameters.spread.implementation.ModelsImpl;
 import parameters.spread.implementation.models.SpreadCompositeRequestMixRequest;
 import parameters.spread.model.models.BodyParameter;
@@ -189,7 +190,7 @@ public final class ModelAsyncClient {
         // Generated convenience method for spreadAsRequestBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
         BodyParameter bodyParameterObj = new BodyParameter(name);
-        BinaryData bodyParameter = BinaryData.fromObject(bodyParameterObj);
+        BinaryData bodyParameter = JsonSerializableHelper.toBinaryData(bodyParameterObj);
         return spreadAsRequestBodyWithResponse(bodyParameter, requestOptions).flatMap(FluxUtil::toMono);
     }
 
@@ -210,7 +211,7 @@ public final class ModelAsyncClient {
     public Mono<Void> spreadCompositeRequestOnlyWithBody(BodyParameter body) {
         // Generated convenience method for spreadCompositeRequestOnlyWithBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return spreadCompositeRequestOnlyWithBodyWithResponse(BinaryData.fromObject(body), requestOptions)
+        return spreadCompositeRequestOnlyWithBodyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
             .flatMap(FluxUtil::toMono);
     }
 
@@ -255,8 +256,8 @@ public final class ModelAsyncClient {
     public Mono<Void> spreadCompositeRequest(String name, String testHeader, BodyParameter body) {
         // Generated convenience method for spreadCompositeRequestWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return spreadCompositeRequestWithResponse(name, testHeader, BinaryData.fromObject(body), requestOptions)
-            .flatMap(FluxUtil::toMono);
+        return spreadCompositeRequestWithResponse(name, testHeader, JsonSerializableHelper.toBinaryData(body),
+            requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -280,7 +281,8 @@ public final class ModelAsyncClient {
         RequestOptions requestOptions = new RequestOptions();
         SpreadCompositeRequestMixRequest spreadCompositeRequestMixRequestObj
             = new SpreadCompositeRequestMixRequest(prop);
-        BinaryData spreadCompositeRequestMixRequest = BinaryData.fromObject(spreadCompositeRequestMixRequestObj);
+        BinaryData spreadCompositeRequestMixRequest
+            = JsonSerializableHelper.toBinaryData(spreadCompositeRequestMixRequestObj);
         return spreadCompositeRequestMixWithResponse(name, testHeader, spreadCompositeRequestMixRequest, requestOptions)
             .flatMap(FluxUtil::toMono);
     }
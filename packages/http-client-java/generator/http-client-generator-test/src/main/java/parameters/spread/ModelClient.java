@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import parameters.spread.implementation.JsonSerializableHelper;
 import parameters.spread.implementation.ModelsImpl;
 import parameters.spread.implementation.models.SpreadCompositeRequestMixRequest;
 import parameters.spread.model.models.BodyParameter;
@@ -185,7 +186,7 @@ public final class ModelClient {
         // Generated convenience method for spreadAsRequestBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
         BodyParameter bodyParameterObj = new BodyParameter(name);
-        BinaryData bodyParameter = BinaryData.fromObject(bodyParameterObj);
+        BinaryData bodyParameter = JsonSerializableHelper.toBinaryData(bodyParameterObj);
         spreadAsRequestBodyWithResponse(bodyParameter, requestOptions).getValue();
     }
 
@@ -205,7 +206,8 @@ public final class ModelClient {
     public void spreadCompositeRequestOnlyWithBody(BodyParameter body) {
         // Generated convenience method for spreadCompositeRequestOnlyWithBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        spreadCompositeRequestOnlyWithBodyWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        spreadCompositeRequestOnlyWithBodyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .getValue();
     }
 
     /**
@@ -246,7 +248,8 @@ public final class ModelClient {
     public void spreadCompositeRequest(String name, String testHeader, BodyParameter body) {
         // Generated convenience method for spreadCompositeRequestWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        spreadCompositeRequestWithResponse(name, testHeader, BinaryData.fromObject(body), requestOptions).getValue();
+        spreadCompositeRequestWithResponse(name, testHeader, JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .getValue();
     }
 
     /**
@@ -269,7 +272,8 @@ public final class ModelClient {
         RequestOptions requestOptions = new RequestOptions();
         SpreadCompositeRequestMixRequest spreadCompositeRequestMixRequestObj
             = new SpreadCompositeRequestMixRequest(prop);
-        BinaryData spreadCompositeRequestMixRequest = BinaryData.fromObject(spreadCompositeRequestMixRequestObj);
+        BinaryData spreadCompositeRequestMixRequest
+            = JsonSerializableHelper.toBinaryData(spreadCompositeRequestMixRequestObj);
         spreadCompositeRequestMixWithResponse(name, testHeader, spreadCompositeRequestMixRequest, requestOptions)
             .getValue();
     }
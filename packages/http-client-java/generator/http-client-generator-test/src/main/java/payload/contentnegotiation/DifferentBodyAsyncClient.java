@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import payload.contentnegotiation.differentbody.models.PngImageAsJson;
 import payload.contentnegotiation.implementation.DifferentBodiesImpl;
+import payload.contentnegotiation.implementation.JsonSerializableHelper;
 import reactor.core.publisher.Mono;
 
 /**
@@ -120,6 +121,7 @@ public final class DifferentBodyAsyncClient {
         // Generated convenience method for getAvatarAsJsonWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getAvatarAsJsonWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(PngImageAsJson.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                PngImageAsJson::fromJson));
     }
 }
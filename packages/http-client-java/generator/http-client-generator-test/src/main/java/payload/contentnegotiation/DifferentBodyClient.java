@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import payload.contentnegotiation.differentbody.models.PngImageAsJson;
 import payload.contentnegotiation.implementation.DifferentBodiesImpl;
+import payload.contentnegotiation.implementation.JsonSerializableHelper;
 
 /**
  * Initializes a new instance of the synchronous ContentNegotiationClient type.
@@ -117,6 +118,7 @@ public final class DifferentBodyClient {
     public PngImageAsJson getAvatarAsJson() {
         // Generated convenience method for getAvatarAsJsonWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getAvatarAsJsonWithResponse(requestOptions).getValue().toObject(PngImageAsJson.class);
+        return JsonSerializableHelper.fromBinaryData(getAvatarAsJsonWithResponse(requestOptions).getValue(),
+            PngImageAsJson::fromJson);
     }
 }
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import payload.jsonmergepatch.implementation.JsonMergePatchClientImpl;
 import payload.jsonmergepatch.implementation.JsonMergePatchHelper;
+import payload.jsonmergepatch.implementation.JsonSerializableHelper;
 import payload.jsonmergepatch.models.Resource;
 import payload.jsonmergepatch.models.ResourcePatch;
 import reactor.core.publisher.Mono;
@@ -266,8 +267,9 @@ public final class JsonMergePatchAsyncClient {
     public Mono<Resource> createResource(Resource body) {
         // Generated convenience method for createResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return createResourceWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+        return createResourceWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -287,13 +289,10 @@ public final class JsonMergePatchAsyncClient {
     public Mono<Resource> updateResource(ResourcePatch body) {
         // Generated convenience method for updateResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getResourcePatchAccessor()::toJsonMergePatch);
         return updateResourceWithResponse(bodyInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -314,15 +313,12 @@ public final class JsonMergePatchAsyncClient {
         // Generated convenience method for updateOptionalResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (body != null) {
-            JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, true);
-            BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-            // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-            bodyInBinaryData.getLength();
-            JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, false);
+            BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+                JsonMergePatchHelper.getResourcePatchAccessor()::toJsonMergePatch);
             requestOptions.setBody(bodyInBinaryData);
         }
         return updateOptionalResourceWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -341,6 +337,6 @@ public final class JsonMergePatchAsyncClient {
         // Generated convenience method for updateOptionalResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return updateOptionalResourceWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 }
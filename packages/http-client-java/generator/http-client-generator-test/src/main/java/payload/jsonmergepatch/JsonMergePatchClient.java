@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import payload.jsonmergepatch.implementation.JsonMergePatchClientImpl;
 import payload.jsonmergepatch.implementation.JsonMergePatchHelper;
+import payload.jsonmergepatch.implementation.JsonSerializableHelper;
 import payload.jsonmergepatch.models.Resource;
 import payload.jsonmergepatch.models.ResourcePatch;
 
@@ -264,8 +265,9 @@ public final class JsonMergePatchClient {
     public Resource createResource(Resource body) {
         // Generated convenience method for createResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return createResourceWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Resource.class);
+        return JsonSerializableHelper.fromBinaryData(
+            createResourceWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -285,12 +287,10 @@ public final class JsonMergePatchClient {
     public Resource updateResource(ResourcePatch body) {
         // Generated convenience method for updateResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, false);
-        return updateResourceWithResponse(bodyInBinaryData, requestOptions).getValue().toObject(Resource.class);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getResourcePatchAccessor()::toJsonMergePatch);
+        return JsonSerializableHelper.fromBinaryData(
+            updateResourceWithResponse(bodyInBinaryData, requestOptions).getValue(), Resource::fromJson);
     }
 
     /**
@@ -311,14 +311,12 @@ public final class JsonMergePatchClient {
         // Generated convenience method for updateOptionalResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (body != null) {
-            JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, true);
-            BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-            // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-            bodyInBinaryData.getLength();
-            JsonMergePatchHelper.getResourcePatchAccessor().prepareModelForJsonMergePatch(body, false);
+            BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+                JsonMergePatchHelper.getResourcePatchAccessor()::toJsonMergePatch);
             requestOptions.setBody(bodyInBinaryData);
         }
-        return updateOptionalResourceWithResponse(requestOptions).getValue().toObject(Resource.class);
+        return JsonSerializableHelper.fromBinaryData(updateOptionalResourceWithResponse(requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -336,6 +334,7 @@ public final class JsonMergePatchClient {
     public Resource updateOptionalResource() {
         // Generated convenience method for updateOptionalResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return updateOptionalResourceWithResponse(requestOptions).getValue().toObject(Resource.class);
+        return JsonSerializableHelper.fromBinaryData(updateOptionalResourceWithResponse(requestOptions).getValue(),
+            Resource::fromJson);
     }
 }
@@ -4,6 +4,8 @@
 
 package payload.jsonmergepatch.implementation;
 
+import com.azure.json.JsonWriter;
+import java.io.IOException;
 import payload.jsonmergepatch.models.InnerModel;
 import payload.jsonmergepatch.models.ResourcePatch;
 
@@ -17,6 +19,8 @@ public class JsonMergePatchHelper {
         InnerModel prepareModelForJsonMergePatch(InnerModel innerModel, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(InnerModel innerModel);
+
+        JsonWriter toJsonMergePatch(InnerModel innerModel, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setInnerModelAccessor(InnerModelAccessor accessor) {
@@ -33,6 +37,8 @@ public class JsonMergePatchHelper {
         ResourcePatch prepareModelForJsonMergePatch(ResourcePatch resourcePatch, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(ResourcePatch resourcePatch);
+
+        JsonWriter toJsonMergePatch(ResourcePatch resourcePatch, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setResourcePatchAccessor(ResourcePatchAccessor accessor) {
@@ -250,12 +250,12 @@ public final class Resource implements JsonSerializable<Resource> {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("name", this.name);
         jsonWriter.writeStringField("description", this.description);
-        jsonWriter.writeMapField("map", this.map, (writer, element) -> writer.writeJson(element));
-        jsonWriter.writeArrayField("array", this.array, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeMapField("map", this.map, JsonWriter::writeJson);
+        jsonWriter.writeArrayField("array", this.array, JsonWriter::writeJson);
         jsonWriter.writeNumberField("intValue", this.intValue);
         jsonWriter.writeNumberField("floatValue", this.floatValue);
         jsonWriter.writeJsonField("innerModel", this.innerModel);
-        jsonWriter.writeArrayField("intArray", this.intArray, (writer, element) -> writer.writeInt(element));
+        jsonWriter.writeArrayField("intArray", this.intArray, JsonWriter::writeInt);
         return jsonWriter.writeEndObject();
     }
 
@@ -288,9 +288,9 @@ public final class Resource implements JsonSerializable<Resource> {
                 } else if ("description".equals(fieldName)) {
                     description = reader.getString();
                 } else if ("map".equals(fieldName)) {
-                    map = reader.readMap(reader1 -> InnerModel.fromJson(reader1));
+                    map = reader.readMap(InnerModel::fromJson);
                 } else if ("array".equals(fieldName)) {
-                    array = reader.readArray(reader1 -> InnerModel.fromJson(reader1));
+                    array = reader.readArray(InnerModel::fromJson);
                 } else if ("intValue".equals(fieldName)) {
                     intValue = reader.getNullable(JsonReader::getInt);
                 } else if ("floatValue".equals(fieldName)) {
@@ -298,7 +298,7 @@ public final class Resource implements JsonSerializable<Resource> {
                 } else if ("innerModel".equals(fieldName)) {
                     innerModel = InnerModel.fromJson(reader);
                 } else if ("intArray".equals(fieldName)) {
-                    intArray = reader.readArray(reader1 -> reader1.getInt());
+                    intArray = reader.readArray(JsonReader::getInt);
                 } else {
                     reader.skipChildren();
                 }
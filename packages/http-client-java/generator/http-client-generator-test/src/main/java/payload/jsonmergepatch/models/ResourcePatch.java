@@ -90,6 +90,11 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
             public boolean isJsonMergePatch(ResourcePatch model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(ResourcePatch model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
@@ -272,12 +277,12 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
         } else {
             jsonWriter.writeStartObject();
             jsonWriter.writeStringField("description", this.description);
-            jsonWriter.writeMapField("map", this.map, (writer, element) -> writer.writeJson(element));
-            jsonWriter.writeArrayField("array", this.array, (writer, element) -> writer.writeJson(element));
+            jsonWriter.writeMapField("map", this.map, JsonWriter::writeJson);
+            jsonWriter.writeArrayField("array", this.array, JsonWriter::writeJson);
             jsonWriter.writeNumberField("intValue", this.intValue);
             jsonWriter.writeNumberField("floatValue", this.floatValue);
             jsonWriter.writeJsonField("innerModel", this.innerModel);
-            jsonWriter.writeArrayField("intArray", this.intArray, (writer, element) -> writer.writeInt(element));
+            jsonWriter.writeArrayField("intArray", this.intArray, JsonWriter::writeInt);
             return jsonWriter.writeEndObject();
         }
     }
@@ -298,9 +303,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
             } else {
                 jsonWriter.writeMapField("map", this.map, (writer, element) -> {
                     if (element != null) {
-                        JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(element, true);
-                        writer.writeJson(element);
-                        JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(element, false);
+                        JsonMergePatchHelper.getInnerModelAccessor().toJsonMergePatch(element, writer);
                     } else {
                         writer.writeNull();
                     }
@@ -311,7 +314,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
             if (this.array == null) {
                 jsonWriter.writeNullField("array");
             } else {
-                jsonWriter.writeArrayField("array", this.array, (writer, element) -> writer.writeJson(element));
+                jsonWriter.writeArrayField("array", this.array, JsonWriter::writeJson);
             }
         }
         if (updatedProperties.contains("intValue")) {
@@ -332,16 +335,15 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
             if (this.innerModel == null) {
                 jsonWriter.writeNullField("innerModel");
             } else {
-                JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(this.innerModel, true);
-                jsonWriter.writeJsonField("innerModel", this.innerModel);
-                JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(this.innerModel, false);
+                jsonWriter.writeFieldName("innerModel");
+                JsonMergePatchHelper.getInnerModelAccessor().toJsonMergePatch(this.innerModel, jsonWriter);
             }
         }
         if (updatedProperties.contains("intArray")) {
             if (this.intArray == null) {
                 jsonWriter.writeNullField("intArray");
             } else {
-                jsonWriter.writeArrayField("intArray", this.intArray, (writer, element) -> writer.writeInt(element));
+                jsonWriter.writeArrayField("intArray", this.intArray, JsonWriter::writeInt);
             }
         }
         return jsonWriter.writeEndObject();
@@ -366,10 +368,10 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
                 if ("description".equals(fieldName)) {
                     deserializedResourcePatch.description = reader.getString();
                 } else if ("map".equals(fieldName)) {
-                    Map<String, InnerModel> map = reader.readMap(reader1 -> InnerModel.fromJson(reader1));
+                    Map<String, InnerModel> map = reader.readMap(InnerModel::fromJson);
                     deserializedResourcePatch.map = map;
                 } else if ("array".equals(fieldName)) {
-                    List<InnerModel> array = reader.readArray(reader1 -> InnerModel.fromJson(reader1));
+                    List<InnerModel> array = reader.readArray(InnerModel::fromJson);
                     deserializedResourcePatch.array = array;
                 } else if ("intValue".equals(fieldName)) {
                     deserializedResourcePatch.intValue = reader.getNullable(JsonReader::getInt);
@@ -378,7 +380,7 @@ public final class ResourcePatch implements JsonSerializable<ResourcePatch> {
                 } else if ("innerModel".equals(fieldName)) {
                     deserializedResourcePatch.innerModel = InnerModel.fromJson(reader);
                 } else if ("intArray".equals(fieldName)) {
-                    List<Integer> intArray = reader.readArray(reader1 -> reader1.getInt());
+                    List<Integer> intArray = reader.readArray(JsonReader::getInt);
                     deserializedResourcePatch.intArray = intArray;
                 } else {
                     reader.skipChildren();
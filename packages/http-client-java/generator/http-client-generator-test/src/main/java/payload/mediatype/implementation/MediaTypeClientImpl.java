@@ -60,7 +60,7 @@ public final class MediaTypeClientImpl {
     /**
      * The StringBodiesImpl object to access its operations.
      */
-    private final StringBodiesImpl stringBodies;
+    private volatile StringBodiesImpl stringBodies;
 
     /**
      * Gets the StringBodiesImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class MediaTypeClientImpl {
      * @return the StringBodiesImpl object.
      */
     public StringBodiesImpl getStringBodies() {
-        return this.stringBodies;
+        StringBodiesImpl localStringBodies = this.stringBodies;
+        if (localStringBodies == null) {
+            synchronized (this) {
+                localStringBodies = this.stringBodies;
+                if (localStringBodies == null) {
+                    localStringBodies = new StringBodiesImpl(this);
+                    this.stringBodies = localStringBodies;
+                }
+            }
+        }
+        return localStringBodies;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class MediaTypeClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.stringBodies = new StringBodiesImpl(this);
     }
 }
@@ -60,7 +60,7 @@ public final class MultiPartClientImpl {
     /**
      * The FormDatasImpl object to access its operations.
      */
-    private final FormDatasImpl formDatas;
+    private volatile FormDatasImpl formDatas;
 
     /**
      * Gets the FormDatasImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class MultiPartClientImpl {
      * @return the FormDatasImpl object.
      */
     public FormDatasImpl getFormDatas() {
-        return this.formDatas;
+        FormDatasImpl localFormDatas = this.formDatas;
+        if (localFormDatas == null) {
+            synchronized (this) {
+                localFormDatas = this.formDatas;
+                if (localFormDatas == null) {
+                    localFormDatas = new FormDatasImpl(this);
+                    this.formDatas = localFormDatas;
+                }
+            }
+        }
+        return localFormDatas;
     }
 
     /**
      * The FormDataHttpPartsImpl object to access its operations.
      */
-    private final FormDataHttpPartsImpl formDataHttpParts;
+    private volatile FormDataHttpPartsImpl formDataHttpParts;
 
     /**
      * Gets the FormDataHttpPartsImpl object to access its operations.
@@ -82,13 +92,23 @@ public final class MultiPartClientImpl {
      * @return the FormDataHttpPartsImpl object.
      */
     public FormDataHttpPartsImpl getFormDataHttpParts() {
-        return this.formDataHttpParts;
+        FormDataHttpPartsImpl localFormDataHttpParts = this.formDataHttpParts;
+        if (localFormDataHttpParts == null) {
+            synchronized (this) {
+                localFormDataHttpParts = this.formDataHttpParts;
+                if (localFormDataHttpParts == null) {
+                    localFormDataHttpParts = new FormDataHttpPartsImpl(this);
+                    this.formDataHttpParts = localFormDataHttpParts;
+                }
+            }
+        }
+        return localFormDataHttpParts;
     }
 
     /**
      * The FormDataHttpPartsContentTypesImpl object to access its operations.
      */
-    private final FormDataHttpPartsContentTypesImpl formDataHttpPartsContentTypes;
+    private volatile FormDataHttpPartsContentTypesImpl formDataHttpPartsContentTypes;
 
     /**
      * Gets the FormDataHttpPartsContentTypesImpl object to access its operations.
@@ -96,13 +116,23 @@ public final class MultiPartClientImpl {
      * @return the FormDataHttpPartsContentTypesImpl object.
      */
     public FormDataHttpPartsContentTypesImpl getFormDataHttpPartsContentTypes() {
-        return this.formDataHttpPartsContentTypes;
+        FormDataHttpPartsContentTypesImpl localFormDataHttpPartsContentTypes = this.formDataHttpPartsContentTypes;
+        if (localFormDataHttpPartsContentTypes == null) {
+            synchronized (this) {
+                localFormDataHttpPartsContentTypes = this.formDataHttpPartsContentTypes;
+                if (localFormDataHttpPartsContentTypes == null) {
+                    localFormDataHttpPartsContentTypes = new FormDataHttpPartsContentTypesImpl(this);
+                    this.formDataHttpPartsContentTypes = localFormDataHttpPartsContentTypes;
+                }
+            }
+        }
+        return localFormDataHttpPartsContentTypes;
     }
 
     /**
      * The FormDataHttpPartsNonStringsImpl object to access its operations.
      */
-    private final FormDataHttpPartsNonStringsImpl formDataHttpPartsNonStrings;
+    private volatile FormDataHttpPartsNonStringsImpl formDataHttpPartsNonStrings;
 
     /**
      * Gets the FormDataHttpPartsNonStringsImpl object to access its operations.
@@ -110,13 +140,23 @@ public final class MultiPartClientImpl {
      * @return the FormDataHttpPartsNonStringsImpl object.
      */
     public FormDataHttpPartsNonStringsImpl getFormDataHttpPartsNonStrings() {
-        return this.formDataHttpPartsNonStrings;
+        FormDataHttpPartsNonStringsImpl localFormDataHttpPartsNonStrings = this.formDataHttpPartsNonStrings;
+        if (localFormDataHttpPartsNonStrings == null) {
+            synchronized (this) {
+                localFormDataHttpPartsNonStrings = this.formDataHttpPartsNonStrings;
+                if (localFormDataHttpPartsNonStrings == null) {
+                    localFormDataHttpPartsNonStrings = new FormDataHttpPartsNonStringsImpl(this);
+                    this.formDataHttpPartsNonStrings = localFormDataHttpPartsNonStrings;
+                }
+            }
+        }
+        return localFormDataHttpPartsNonStrings;
     }
 
     /**
      * The FormDataFilesImpl object to access its operations.
      */
-    private final FormDataFilesImpl formDataFiles;
+    private volatile FormDataFilesImpl formDataFiles;
 
     /**
      * Gets the FormDataFilesImpl object to access its operations.
@@ -124,7 +164,17 @@ public final class MultiPartClientImpl {
      * @return the FormDataFilesImpl object.
      */
     public FormDataFilesImpl getFormDataFiles() {
-        return this.formDataFiles;
+        FormDataFilesImpl localFormDataFiles = this.formDataFiles;
+        if (localFormDataFiles == null) {
+            synchronized (this) {
+                localFormDataFiles = this.formDataFiles;
+                if (localFormDataFiles == null) {
+                    localFormDataFiles = new FormDataFilesImpl(this);
+                    this.formDataFiles = localFormDataFiles;
+                }
+            }
+        }
+        return localFormDataFiles;
     }
 
     /**
@@ -158,10 +208,5 @@ public final class MultiPartClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.formDatas = new FormDatasImpl(this);
-        this.formDataHttpParts = new FormDataHttpPartsImpl(this);
-        this.formDataHttpPartsContentTypes = new FormDataHttpPartsContentTypesImpl(this);
-        this.formDataHttpPartsNonStrings = new FormDataHttpPartsNonStringsImpl(this);
-        this.formDataFiles = new FormDataFilesImpl(this);
     }
 }
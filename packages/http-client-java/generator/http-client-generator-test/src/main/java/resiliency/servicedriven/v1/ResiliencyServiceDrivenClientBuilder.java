@@ -57,6 +57,13 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the ResiliencyServiceDrivenClientBuilder.
      */
@@ -77,6 +84,7 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
     @Generated
     @Override
     public ResiliencyServiceDrivenClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -93,6 +101,7 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
     @Generated
     @Override
     public ResiliencyServiceDrivenClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -112,6 +121,7 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
     @Generated
     @Override
     public ResiliencyServiceDrivenClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -128,6 +138,7 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
     @Generated
     @Override
     public ResiliencyServiceDrivenClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -144,6 +155,7 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
     @Generated
     @Override
     public ResiliencyServiceDrivenClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -154,6 +166,7 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
     @Generated
     @Override
     public ResiliencyServiceDrivenClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -171,6 +184,7 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
     @Generated
     @Override
     public ResiliencyServiceDrivenClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -187,6 +201,7 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
     @Generated
     @Override
     public ResiliencyServiceDrivenClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -209,6 +224,7 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
      */
     @Generated
     public ResiliencyServiceDrivenClientBuilder serviceDeploymentVersion(String serviceDeploymentVersion) {
+        this.createdHttpPipeline = null;
         this.serviceDeploymentVersion = serviceDeploymentVersion;
         return this;
     }
@@ -227,6 +243,7 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
      */
     @Generated
     public ResiliencyServiceDrivenClientBuilder serviceVersion(ServiceDrivenServiceVersion serviceVersion) {
+        this.createdHttpPipeline = null;
         this.serviceVersion = serviceVersion;
         return this;
     }
@@ -245,6 +262,7 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
      */
     @Generated
     public ResiliencyServiceDrivenClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -257,7 +275,7 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
     @Generated
     private ResiliencyServiceDrivenClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         ServiceDrivenServiceVersion localServiceVersion
             = (serviceVersion != null) ? serviceVersion : ServiceDrivenServiceVersion.getLatest();
         ResiliencyServiceDrivenClientImpl client
@@ -309,6 +327,15 @@ public final class ResiliencyServiceDrivenClientBuilder implements HttpTrait<Res
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of ResiliencyServiceDrivenAsyncClient class.
      * 
@@ -90,6 +90,13 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the RoutesClientBuilder.
      */
@@ -110,6 +117,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Generated
     @Override
     public RoutesClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -126,6 +134,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Generated
     @Override
     public RoutesClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -145,6 +154,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Generated
     @Override
     public RoutesClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -161,6 +171,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Generated
     @Override
     public RoutesClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -177,6 +188,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Generated
     @Override
     public RoutesClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -187,6 +199,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Generated
     @Override
     public RoutesClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -204,6 +217,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Generated
     @Override
     public RoutesClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -220,6 +234,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Generated
     @Override
     public RoutesClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -238,6 +253,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
      */
     @Generated
     public RoutesClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -250,7 +266,7 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
     @Generated
     private RoutesClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         RoutesClientImpl client
             = new RoutesClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -298,6 +314,15 @@ public final class RoutesClientBuilder implements HttpTrait<RoutesClientBuilder>
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of RoutesAsyncClient class.
      * 
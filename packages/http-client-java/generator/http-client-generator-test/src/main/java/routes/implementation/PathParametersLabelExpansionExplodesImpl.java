@@ -24,8 +24,6 @@ import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 import reactor.core.publisher.Mono;
 
 /**
@@ -66,8 +64,8 @@ public final class PathParametersLabelExpansionExplodesImpl {
         @UnexpectedResponseExceptionType(value = ResourceNotFoundException.class, code = { 404 })
         @UnexpectedResponseExceptionType(value = ResourceModifiedException.class, code = { 409 })
         @UnexpectedResponseExceptionType(HttpResponseException.class)
-        Mono<Response<Void>> primitive(@HostParam("endpoint") String endpoint, @PathParam("param") String param,
-            RequestOptions requestOptions, Context context);
+        Mono<Response<Void>> primitive(@HostParam("endpoint") String endpoint,
+            @PathParam(value = "param", encoded = true) String param, RequestOptions requestOptions, Context context);
 
         @Get("/routes/path/label/explode/primitive{param}")
         @ExpectedResponses({ 204 })
@@ -75,8 +73,8 @@ public final class PathParametersLabelExpansionExplodesImpl {
         @UnexpectedResponseExceptionType(value = ResourceNotFoundException.class, code = { 404 })
         @UnexpectedResponseExceptionType(value = ResourceModifiedException.class, code = { 409 })
         @UnexpectedResponseExceptionType(HttpResponseException.class)
-        Response<Void> primitiveSync(@HostParam("endpoint") String endpoint, @PathParam("param") String param,
-            RequestOptions requestOptions, Context context);
+        Response<Void> primitiveSync(@HostParam("endpoint") String endpoint,
+            @PathParam(value = "param", encoded = true) String param, RequestOptions requestOptions, Context context);
 
         @Get("/routes/path/label/explode/array{param}")
         @ExpectedResponses({ 204 })
@@ -84,8 +82,8 @@ public final class PathParametersLabelExpansionExplodesImpl {
         @UnexpectedResponseExceptionType(value = ResourceNotFoundException.class, code = { 404 })
         @UnexpectedResponseExceptionType(value = ResourceModifiedException.class, code = { 409 })
         @UnexpectedResponseExceptionType(HttpResponseException.class)
-        Mono<Response<Void>> array(@HostParam("endpoint") String endpoint, @PathParam("param") String param,
-            RequestOptions requestOptions, Context context);
+        Mono<Response<Void>> array(@HostParam("endpoint") String endpoint,
+            @PathParam(value = "param", encoded = true) String param, RequestOptions requestOptions, Context context);
 
         @Get("/routes/path/label/explode/array{param}")
         @ExpectedResponses({ 204 })
@@ -93,8 +91,8 @@ public final class PathParametersLabelExpansionExplodesImpl {
         @UnexpectedResponseExceptionType(value = ResourceNotFoundException.class, code = { 404 })
         @UnexpectedResponseExceptionType(value = ResourceModifiedException.class, code = { 409 })
         @UnexpectedResponseExceptionType(HttpResponseException.class)
-        Response<Void> arraySync(@HostParam("endpoint") String endpoint, @PathParam("param") String param,
-            RequestOptions requestOptions, Context context);
+        Response<Void> arraySync(@HostParam("endpoint") String endpoint,
+            @PathParam(value = "param", encoded = true) String param, RequestOptions requestOptions, Context context);
 
         @Get("/routes/path/label/explode/record{param}")
         @ExpectedResponses({ 204 })
@@ -103,7 +101,7 @@ public final class PathParametersLabelExpansionExplodesImpl {
         @UnexpectedResponseExceptionType(value = ResourceModifiedException.class, code = { 409 })
         @UnexpectedResponseExceptionType(HttpResponseException.class)
         Mono<Response<Void>> record(@HostParam("endpoint") String endpoint,
-            @PathParam("param") Map<String, Integer> param, RequestOptions requestOptions, Context context);
+            @PathParam(value = "param", encoded = true) String param, RequestOptions requestOptions, Context context);
 
         @Get("/routes/path/label/explode/record{param}")
         @ExpectedResponses({ 204 })
@@ -112,7 +110,7 @@ public final class PathParametersLabelExpansionExplodesImpl {
         @UnexpectedResponseExceptionType(value = ResourceModifiedException.class, code = { 409 })
         @UnexpectedResponseExceptionType(HttpResponseException.class)
         Response<Void> recordSync(@HostParam("endpoint") String endpoint,
-            @PathParam("param") Map<String, Integer> param, RequestOptions requestOptions, Context context);
+            @PathParam(value = "param", encoded = true) String param, RequestOptions requestOptions, Context context);
     }
 
     /**
@@ -128,8 +126,9 @@ public final class PathParametersLabelExpansionExplodesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Mono<Response<Void>> primitiveWithResponseAsync(String param, RequestOptions requestOptions) {
-        return FluxUtil
-            .withContext(context -> service.primitive(this.client.getEndpoint(), param, requestOptions, context));
+        String paramConverted = UriExpander.label(param, true);
+        return FluxUtil.withContext(
+            context -> service.primitive(this.client.getEndpoint(), paramConverted, requestOptions, context));
     }
 
     /**
@@ -145,7 +144,8 @@ public final class PathParametersLabelExpansionExplodesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> primitiveWithResponse(String param, RequestOptions requestOptions) {
-        return service.primitiveSync(this.client.getEndpoint(), param, requestOptions, Context.NONE);
+        String paramConverted = UriExpander.label(param, true);
+        return service.primitiveSync(this.client.getEndpoint(), paramConverted, requestOptions, Context.NONE);
     }
 
     /**
@@ -161,9 +161,7 @@ public final class PathParametersLabelExpansionExplodesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Mono<Response<Void>> arrayWithResponseAsync(List<String> param, RequestOptions requestOptions) {
-        String paramConverted = param.stream()
-            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
-            .collect(Collectors.joining(","));
+        String paramConverted = UriExpander.label(param, true);
         return FluxUtil
             .withContext(context -> service.array(this.client.getEndpoint(), paramConverted, requestOptions, context));
     }
@@ -181,9 +179,7 @@ public final class PathParametersLabelExpansionExplodesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> arrayWithResponse(List<String> param, RequestOptions requestOptions) {
-        String paramConverted = param.stream()
-            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
-            .collect(Collectors.joining(","));
+        String paramConverted = UriExpander.label(param, true);
         return service.arraySync(this.client.getEndpoint(), paramConverted, requestOptions, Context.NONE);
     }
 
@@ -200,8 +196,9 @@ public final class PathParametersLabelExpansionExplodesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Mono<Response<Void>> recordWithResponseAsync(Map<String, Integer> param, RequestOptions requestOptions) {
+        String paramConverted = UriExpander.label(param, true);
         return FluxUtil
-            .withContext(context -> service.record(this.client.getEndpoint(), param, requestOptions, context));
+            .withContext(context -> service.record(this.client.getEndpoint(), paramConverted, requestOptions, context));
     }
 
     /**
@@ -217,6 +214,7 @@ public final class PathParametersLabelExpansionExplodesImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> recordWithResponse(Map<String, Integer> param, RequestOptions requestOptions) {
-        return service.recordSync(this.client.getEndpoint(), param, requestOptions, Context.NONE);
+        String paramConverted = UriExpander.label(param, true);
+        return service.recordSync(this.client.getEndpoint(), paramConverted, requestOptions, Context.NONE);
     }
 }
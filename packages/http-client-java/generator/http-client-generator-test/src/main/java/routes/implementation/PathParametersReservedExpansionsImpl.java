@@ -106,8 +106,9 @@ public final class PathParametersReservedExpansionsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Mono<Response<Void>> templateWithResponseAsync(String param, RequestOptions requestOptions) {
-        return FluxUtil
-            .withContext(context -> service.template(this.client.getEndpoint(), param, requestOptions, context));
+        String paramConverted = UriExpander.reserved(param, false);
+        return FluxUtil.withContext(
+            context -> service.template(this.client.getEndpoint(), paramConverted, requestOptions, context));
     }
 
     /**
@@ -123,7 +124,8 @@ public final class PathParametersReservedExpansionsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> templateWithResponse(String param, RequestOptions requestOptions) {
-        return service.templateSync(this.client.getEndpoint(), param, requestOptions, Context.NONE);
+        String paramConverted = UriExpander.reserved(param, false);
+        return service.templateSync(this.client.getEndpoint(), paramConverted, requestOptions, Context.NONE);
     }
 
     /**
@@ -139,8 +141,9 @@ public final class PathParametersReservedExpansionsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Mono<Response<Void>> annotationWithResponseAsync(String param, RequestOptions requestOptions) {
-        return FluxUtil
-            .withContext(context -> service.annotation(this.client.getEndpoint(), param, requestOptions, context));
+        String paramConverted = UriExpander.reserved(param, false);
+        return FluxUtil.withContext(
+            context -> service.annotation(this.client.getEndpoint(), paramConverted, requestOptions, context));
     }
 
     /**
@@ -156,6 +159,7 @@ public final class PathParametersReservedExpansionsImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> annotationWithResponse(String param, RequestOptions requestOptions) {
-        return service.annotationSync(this.client.getEndpoint(), param, requestOptions, Context.NONE);
+        String paramConverted = UriExpander.reserved(param, false);
+        return service.annotationSync(this.client.getEndpoint(), paramConverted, requestOptions, Context.NONE);
     }
 }
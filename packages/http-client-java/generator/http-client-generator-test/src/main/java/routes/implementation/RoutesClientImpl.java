@@ -83,7 +83,7 @@ public final class RoutesClientImpl {
     /**
      * The PathParametersImpl object to access its operations.
      */
-    private final PathParametersImpl pathParameters;
+    private volatile PathParametersImpl pathParameters;
 
     /**
      * Gets the PathParametersImpl object to access its operations.
@@ -91,13 +91,23 @@ public final class RoutesClientImpl {
      * @return the PathParametersImpl object.
      */
     public PathParametersImpl getPathParameters() {
-        return this.pathParameters;
+        PathParametersImpl localPathParameters = this.pathParameters;
+        if (localPathParameters == null) {
+            synchronized (this) {
+                localPathParameters = this.pathParameters;
+                if (localPathParameters == null) {
+                    localPathParameters = new PathParametersImpl(this);
+                    this.pathParameters = localPathParameters;
+                }
+            }
+        }
+        return localPathParameters;
     }
 
     /**
      * The PathParametersReservedExpansionsImpl object to access its operations.
      */
-    private final PathParametersReservedExpansionsImpl pathParametersReservedExpansions;
+    private volatile PathParametersReservedExpansionsImpl pathParametersReservedExpansions;
 
     /**
      * Gets the PathParametersReservedExpansionsImpl object to access its operations.
@@ -105,13 +115,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersReservedExpansionsImpl object.
      */
     public PathParametersReservedExpansionsImpl getPathParametersReservedExpansions() {
-        return this.pathParametersReservedExpansions;
+        PathParametersReservedExpansionsImpl localPathParametersReservedExpansions
+            = this.pathParametersReservedExpansions;
+        if (localPathParametersReservedExpansions == null) {
+            synchronized (this) {
+                localPathParametersReservedExpansions = this.pathParametersReservedExpansions;
+                if (localPathParametersReservedExpansions == null) {
+                    localPathParametersReservedExpansions = new PathParametersReservedExpansionsImpl(this);
+                    this.pathParametersReservedExpansions = localPathParametersReservedExpansions;
+                }
+            }
+        }
+        return localPathParametersReservedExpansions;
     }
 
     /**
      * The PathParametersSimpleExpansionStandardsImpl object to access its operations.
      */
-    private final PathParametersSimpleExpansionStandardsImpl pathParametersSimpleExpansionStandards;
+    private volatile PathParametersSimpleExpansionStandardsImpl pathParametersSimpleExpansionStandards;
 
     /**
      * Gets the PathParametersSimpleExpansionStandardsImpl object to access its operations.
@@ -119,13 +140,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersSimpleExpansionStandardsImpl object.
      */
     public PathParametersSimpleExpansionStandardsImpl getPathParametersSimpleExpansionStandards() {
-        return this.pathParametersSimpleExpansionStandards;
+        PathParametersSimpleExpansionStandardsImpl localPathParametersSimpleExpansionStandards
+            = this.pathParametersSimpleExpansionStandards;
+        if (localPathParametersSimpleExpansionStandards == null) {
+            synchronized (this) {
+                localPathParametersSimpleExpansionStandards = this.pathParametersSimpleExpansionStandards;
+                if (localPathParametersSimpleExpansionStandards == null) {
+                    localPathParametersSimpleExpansionStandards = new PathParametersSimpleExpansionStandardsImpl(this);
+                    this.pathParametersSimpleExpansionStandards = localPathParametersSimpleExpansionStandards;
+                }
+            }
+        }
+        return localPathParametersSimpleExpansionStandards;
     }
 
     /**
      * The PathParametersSimpleExpansionExplodesImpl object to access its operations.
      */
-    private final PathParametersSimpleExpansionExplodesImpl pathParametersSimpleExpansionExplodes;
+    private volatile PathParametersSimpleExpansionExplodesImpl pathParametersSimpleExpansionExplodes;
 
     /**
      * Gets the PathParametersSimpleExpansionExplodesImpl object to access its operations.
@@ -133,13 +165,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersSimpleExpansionExplodesImpl object.
      */
     public PathParametersSimpleExpansionExplodesImpl getPathParametersSimpleExpansionExplodes() {
-        return this.pathParametersSimpleExpansionExplodes;
+        PathParametersSimpleExpansionExplodesImpl localPathParametersSimpleExpansionExplodes
+            = this.pathParametersSimpleExpansionExplodes;
+        if (localPathParametersSimpleExpansionExplodes == null) {
+            synchronized (this) {
+                localPathParametersSimpleExpansionExplodes = this.pathParametersSimpleExpansionExplodes;
+                if (localPathParametersSimpleExpansionExplodes == null) {
+                    localPathParametersSimpleExpansionExplodes = new PathParametersSimpleExpansionExplodesImpl(this);
+                    this.pathParametersSimpleExpansionExplodes = localPathParametersSimpleExpansionExplodes;
+                }
+            }
+        }
+        return localPathParametersSimpleExpansionExplodes;
     }
 
     /**
      * The PathParametersPathExpansionStandardsImpl object to access its operations.
      */
-    private final PathParametersPathExpansionStandardsImpl pathParametersPathExpansionStandards;
+    private volatile PathParametersPathExpansionStandardsImpl pathParametersPathExpansionStandards;
 
     /**
      * Gets the PathParametersPathExpansionStandardsImpl object to access its operations.
@@ -147,13 +190,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersPathExpansionStandardsImpl object.
      */
     public PathParametersPathExpansionStandardsImpl getPathParametersPathExpansionStandards() {
-        return this.pathParametersPathExpansionStandards;
+        PathParametersPathExpansionStandardsImpl localPathParametersPathExpansionStandards
+            = this.pathParametersPathExpansionStandards;
+        if (localPathParametersPathExpansionStandards == null) {
+            synchronized (this) {
+                localPathParametersPathExpansionStandards = this.pathParametersPathExpansionStandards;
+                if (localPathParametersPathExpansionStandards == null) {
+                    localPathParametersPathExpansionStandards = new PathParametersPathExpansionStandardsImpl(this);
+                    this.pathParametersPathExpansionStandards = localPathParametersPathExpansionStandards;
+                }
+            }
+        }
+        return localPathParametersPathExpansionStandards;
     }
 
     /**
      * The PathParametersPathExpansionExplodesImpl object to access its operations.
      */
-    private final PathParametersPathExpansionExplodesImpl pathParametersPathExpansionExplodes;
+    private volatile PathParametersPathExpansionExplodesImpl pathParametersPathExpansionExplodes;
 
     /**
      * Gets the PathParametersPathExpansionExplodesImpl object to access its operations.
@@ -161,13 +215,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersPathExpansionExplodesImpl object.
      */
     public PathParametersPathExpansionExplodesImpl getPathParametersPathExpansionExplodes() {
-        return this.pathParametersPathExpansionExplodes;
+        PathParametersPathExpansionExplodesImpl localPathParametersPathExpansionExplodes
+            = this.pathParametersPathExpansionExplodes;
+        if (localPathParametersPathExpansionExplodes == null) {
+            synchronized (this) {
+                localPathParametersPathExpansionExplodes = this.pathParametersPathExpansionExplodes;
+                if (localPathParametersPathExpansionExplodes == null) {
+                    localPathParametersPathExpansionExplodes = new PathParametersPathExpansionExplodesImpl(this);
+                    this.pathParametersPathExpansionExplodes = localPathParametersPathExpansionExplodes;
+                }
+            }
+        }
+        return localPathParametersPathExpansionExplodes;
     }
 
     /**
      * The PathParametersLabelExpansionStandardsImpl object to access its operations.
      */
-    private final PathParametersLabelExpansionStandardsImpl pathParametersLabelExpansionStandards;
+    private volatile PathParametersLabelExpansionStandardsImpl pathParametersLabelExpansionStandards;
 
     /**
      * Gets the PathParametersLabelExpansionStandardsImpl object to access its operations.
@@ -175,13 +240,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersLabelExpansionStandardsImpl object.
      */
     public PathParametersLabelExpansionStandardsImpl getPathParametersLabelExpansionStandards() {
-        return this.pathParametersLabelExpansionStandards;
+        PathParametersLabelExpansionStandardsImpl localPathParametersLabelExpansionStandards
+            = this.pathParametersLabelExpansionStandards;
+        if (localPathParametersLabelExpansionStandards == null) {
+            synchronized (this) {
+                localPathParametersLabelExpansionStandards = this.pathParametersLabelExpansionStandards;
+                if (localPathParametersLabelExpansionStandards == null) {
+                    localPathParametersLabelExpansionStandards = new PathParametersLabelExpansionStandardsImpl(this);
+                    this.pathParametersLabelExpansionStandards = localPathParametersLabelExpansionStandards;
+                }
+            }
+        }
+        return localPathParametersLabelExpansionStandards;
     }
 
     /**
      * The PathParametersLabelExpansionExplodesImpl object to access its operations.
      */
-    private final PathParametersLabelExpansionExplodesImpl pathParametersLabelExpansionExplodes;
+    private volatile PathParametersLabelExpansionExplodesImpl pathParametersLabelExpansionExplodes;
 
     /**
      * Gets the PathParametersLabelExpansionExplodesImpl object to access its operations.
@@ -189,13 +265,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersLabelExpansionExplodesImpl object.
      */
     public PathParametersLabelExpansionExplodesImpl getPathParametersLabelExpansionExplodes() {
-        return this.pathParametersLabelExpansionExplodes;
+        PathParametersLabelExpansionExplodesImpl localPathParametersLabelExpansionExplodes
+            = this.pathParametersLabelExpansionExplodes;
+        if (localPathParametersLabelExpansionExplodes == null) {
+            synchronized (this) {
+                localPathParametersLabelExpansionExplodes = this.pathParametersLabelExpansionExplodes;
+                if (localPathParametersLabelExpansionExplodes == null) {
+                    localPathParametersLabelExpansionExplodes = new PathParametersLabelExpansionExplodesImpl(this);
+                    this.pathParametersLabelExpansionExplodes = localPathParametersLabelExpansionExplodes;
+                }
+            }
+        }
+        return localPathParametersLabelExpansionExplodes;
     }
 
     /**
      * The PathParametersMatrixExpansionStandardsImpl object to access its operations.
      */
-    private final PathParametersMatrixExpansionStandardsImpl pathParametersMatrixExpansionStandards;
+    private volatile PathParametersMatrixExpansionStandardsImpl pathParametersMatrixExpansionStandards;
 
     /**
      * Gets the PathParametersMatrixExpansionStandardsImpl object to access its operations.
@@ -203,13 +290,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersMatrixExpansionStandardsImpl object.
      */
     public PathParametersMatrixExpansionStandardsImpl getPathParametersMatrixExpansionStandards() {
-        return this.pathParametersMatrixExpansionStandards;
+        PathParametersMatrixExpansionStandardsImpl localPathParametersMatrixExpansionStandards
+            = this.pathParametersMatrixExpansionStandards;
+        if (localPathParametersMatrixExpansionStandards == null) {
+            synchronized (this) {
+                localPathParametersMatrixExpansionStandards = this.pathParametersMatrixExpansionStandards;
+                if (localPathParametersMatrixExpansionStandards == null) {
+                    localPathParametersMatrixExpansionStandards = new PathParametersMatrixExpansionStandardsImpl(this);
+                    this.pathParametersMatrixExpansionStandards = localPathParametersMatrixExpansionStandards;
+                }
+            }
+        }
+        return localPathParametersMatrixExpansionStandards;
     }
 
     /**
      * The PathParametersMatrixExpansionExplodesImpl object to access its operations.
      */
-    private final PathParametersMatrixExpansionExplodesImpl pathParametersMatrixExpansionExplodes;
+    private volatile PathParametersMatrixExpansionExplodesImpl pathParametersMatrixExpansionExplodes;
 
     /**
      * Gets the PathParametersMatrixExpansionExplodesImpl object to access its operations.
@@ -217,13 +315,24 @@ public final class RoutesClientImpl {
      * @return the PathParametersMatrixExpansionExplodesImpl object.
      */
     public PathParametersMatrixExpansionExplodesImpl getPathParametersMatrixExpansionExplodes() {
-        return this.pathParametersMatrixExpansionExplodes;
+        PathParametersMatrixExpansionExplodesImpl localPathParametersMatrixExpansionExplodes
+            = this.pathParametersMatrixExpansionExplodes;
+        if (localPathParametersMatrixExpansionExplodes == null) {
+            synchronized (this) {
+                localPathParametersMatrixExpansionExplodes = this.pathParametersMatrixExpansionExplodes;
+                if (localPathParametersMatrixExpansionExplodes == null) {
+                    localPathParametersMatrixExpansionExplodes = new PathParametersMatrixExpansionExplodesImpl(this);
+                    this.pathParametersMatrixExpansionExplodes = localPathParametersMatrixExpansionExplodes;
+                }
+            }
+        }
+        return localPathParametersMatrixExpansionExplodes;
     }
 
     /**
      * The QueryParametersImpl object to access its operations.
      */
-    private final QueryParametersImpl queryParameters;
+    private volatile QueryParametersImpl queryParameters;
 
     /**
      * Gets the QueryParametersImpl object to access its operations.
@@ -231,13 +340,23 @@ public final class RoutesClientImpl {
      * @return the QueryParametersImpl object.
      */
     public QueryParametersImpl getQueryParameters() {
-        return this.queryParameters;
+        QueryParametersImpl localQueryParameters = this.queryParameters;
+        if (localQueryParameters == null) {
+            synchronized (this) {
+                localQueryParameters = this.queryParameters;
+                if (localQueryParameters == null) {
+                    localQueryParameters = new QueryParametersImpl(this);
+                    this.queryParameters = localQueryParameters;
+                }
+            }
+        }
+        return localQueryParameters;
     }
 
     /**
      * The QueryParametersQueryExpansionStandardsImpl object to access its operations.
      */
-    private final QueryParametersQueryExpansionStandardsImpl queryParametersQueryExpansionStandards;
+    private volatile QueryParametersQueryExpansionStandardsImpl queryParametersQueryExpansionStandards;
 
     /**
      * Gets the QueryParametersQueryExpansionStandardsImpl object to access its operations.
@@ -245,13 +364,24 @@ public final class RoutesClientImpl {
      * @return the QueryParametersQueryExpansionStandardsImpl object.
      */
     public QueryParametersQueryExpansionStandardsImpl getQueryParametersQueryExpansionStandards() {
-        return this.queryParametersQueryExpansionStandards;
+        QueryParametersQueryExpansionStandardsImpl localQueryParametersQueryExpansionStandards
+            = this.queryParametersQueryExpansionStandards;
+        if (localQueryParametersQueryExpansionStandards == null) {
+            synchronized (this) {
+                localQueryParametersQueryExpansionStandards = this.queryParametersQueryExpansionStandards;
+                if (localQueryParametersQueryExpansionStandards == null) {
+                    localQueryParametersQueryExpansionStandards = new QueryParametersQueryExpansionStandardsImpl(this);
+                    this.queryParametersQueryExpansionStandards = localQueryParametersQueryExpansionStandards;
+                }
+            }
+        }
+        return localQueryParametersQueryExpansionStandards;
     }
 
     /**
      * The QueryParametersQueryExpansionExplodesImpl object to access its operations.
      */
-    private final QueryParametersQueryExpansionExplodesImpl queryParametersQueryExpansionExplodes;
+    private volatile QueryParametersQueryExpansionExplodesImpl queryParametersQueryExpansionExplodes;
 
     /**
      * Gets the QueryParametersQueryExpansionExplodesImpl object to access its operations.
@@ -259,13 +389,24 @@ public final class RoutesClientImpl {
      * @return the QueryParametersQueryExpansionExplodesImpl object.
      */
     public QueryParametersQueryExpansionExplodesImpl getQueryParametersQueryExpansionExplodes() {
-        return this.queryParametersQueryExpansionExplodes;
+        QueryParametersQueryExpansionExplodesImpl localQueryParametersQueryExpansionExplodes
+            = this.queryParametersQueryExpansionExplodes;
+        if (localQueryParametersQueryExpansionExplodes == null) {
+            synchronized (this) {
+                localQueryParametersQueryExpansionExplodes = this.queryParametersQueryExpansionExplodes;
+                if (localQueryParametersQueryExpansionExplodes == null) {
+                    localQueryParametersQueryExpansionExplodes = new QueryParametersQueryExpansionExplodesImpl(this);
+                    this.queryParametersQueryExpansionExplodes = localQueryParametersQueryExpansionExplodes;
+                }
+            }
+        }
+        return localQueryParametersQueryExpansionExplodes;
     }
 
     /**
      * The QueryParametersQueryContinuationStandardsImpl object to access its operations.
      */
-    private final QueryParametersQueryContinuationStandardsImpl queryParametersQueryContinuationStandards;
+    private volatile QueryParametersQueryContinuationStandardsImpl queryParametersQueryContinuationStandards;
 
     /**
      * Gets the QueryParametersQueryContinuationStandardsImpl object to access its operations.
@@ -273,13 +414,25 @@ public final class RoutesClientImpl {
      * @return the QueryParametersQueryContinuationStandardsImpl object.
      */
     public QueryParametersQueryContinuationStandardsImpl getQueryParametersQueryContinuationStandards() {
-        return this.queryParametersQueryContinuationStandards;
+        QueryParametersQueryContinuationStandardsImpl localQueryParametersQueryContinuationStandards
+            = this.queryParametersQueryContinuationStandards;
+        if (localQueryParametersQueryContinuationStandards == null) {
+            synchronized (this) {
+                localQueryParametersQueryContinuationStandards = this.queryParametersQueryContinuationStandards;
+                if (localQueryParametersQueryContinuationStandards == null) {
+                    localQueryParametersQueryContinuationStandards
+                        = new QueryParametersQueryContinuationStandardsImpl(this);
+                    this.queryParametersQueryContinuationStandards = localQueryParametersQueryContinuationStandards;
+                }
+            }
+        }
+        return localQueryParametersQueryContinuationStandards;
     }
 
     /**
      * The QueryParametersQueryContinuationExplodesImpl object to access its operations.
      */
-    private final QueryParametersQueryContinuationExplodesImpl queryParametersQueryContinuationExplodes;
+    private volatile QueryParametersQueryContinuationExplodesImpl queryParametersQueryContinuationExplodes;
 
     /**
      * Gets the QueryParametersQueryContinuationExplodesImpl object to access its operations.
@@ -287,13 +440,25 @@ public final class RoutesClientImpl {
      * @return the QueryParametersQueryContinuationExplodesImpl object.
      */
     public QueryParametersQueryContinuationExplodesImpl getQueryParametersQueryContinuationExplodes() {
-        return this.queryParametersQueryContinuationExplodes;
+        QueryParametersQueryContinuationExplodesImpl localQueryParametersQueryContinuationExplodes
+            = this.queryParametersQueryContinuationExplodes;
+        if (localQueryParametersQueryContinuationExplodes == null) {
+            synchronized (this) {
+                localQueryParametersQueryContinuationExplodes = this.queryParametersQueryContinuationExplodes;
+                if (localQueryParametersQueryContinuationExplodes == null) {
+                    localQueryParametersQueryContinuationExplodes
+                        = new QueryParametersQueryContinuationExplodesImpl(this);
+                    this.queryParametersQueryContinuationExplodes = localQueryParametersQueryContinuationExplodes;
+                }
+            }
+        }
+        return localQueryParametersQueryContinuationExplodes;
     }
 
     /**
      * The InInterfacesImpl object to access its operations.
      */
-    private final InInterfacesImpl inInterfaces;
+    private volatile InInterfacesImpl inInterfaces;
 
     /**
      * Gets the InInterfacesImpl object to access its operations.
@@ -301,7 +466,17 @@ public final class RoutesClientImpl {
      * @return the InInterfacesImpl object.
      */
     public InInterfacesImpl getInInterfaces() {
-        return this.inInterfaces;
+        InInterfacesImpl localInInterfaces = this.inInterfaces;
+        if (localInInterfaces == null) {
+            synchronized (this) {
+                localInInterfaces = this.inInterfaces;
+                if (localInInterfaces == null) {
+                    localInInterfaces = new InInterfacesImpl(this);
+                    this.inInterfaces = localInInterfaces;
+                }
+            }
+        }
+        return localInInterfaces;
     }
 
     /**
@@ -335,22 +510,6 @@ public final class RoutesClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.pathParameters = new PathParametersImpl(this);
-        this.pathParametersReservedExpansions = new PathParametersReservedExpansionsImpl(this);
-        this.pathParametersSimpleExpansionStandards = new PathParametersSimpleExpansionStandardsImpl(this);
-        this.pathParametersSimpleExpansionExplodes = new PathParametersSimpleExpansionExplodesImpl(this);
-        this.pathParametersPathExpansionStandards = new PathParametersPathExpansionStandardsImpl(this);
-        this.pathParametersPathExpansionExplodes = new PathParametersPathExpansionExplodesImpl(this);
-        this.pathParametersLabelExpansionStandards = new PathParametersLabelExpansionStandardsImpl(this);
-        this.pathParametersLabelExpansionExplodes = new PathParametersLabelExpansionExplodesImpl(this);
-        this.pathParametersMatrixExpansionStandards = new PathParametersMatrixExpansionStandardsImpl(this);
-        this.pathParametersMatrixExpansionExplodes = new PathParametersMatrixExpansionExplodesImpl(this);
-        this.queryParameters = new QueryParametersImpl(this);
-        this.queryParametersQueryExpansionStandards = new QueryParametersQueryExpansionStandardsImpl(this);
-        this.queryParametersQueryExpansionExplodes = new QueryParametersQueryExpansionExplodesImpl(this);
-        this.queryParametersQueryContinuationStandards = new QueryParametersQueryContinuationStandardsImpl(this);
-        this.queryParametersQueryContinuationExplodes = new QueryParametersQueryContinuationExplodesImpl(this);
-        this.inInterfaces = new InInterfacesImpl(this);
         this.service = RestProxy.create(RoutesClientService.class, this.httpPipeline, this.getSerializerAdapter());
     }
 
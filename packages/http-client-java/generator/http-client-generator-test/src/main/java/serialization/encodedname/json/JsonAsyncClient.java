@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import serialization.encodedname.json.implementation.JsonSerializableHelper;
 import serialization.encodedname.json.implementation.PropertiesImpl;
 import serialization.encodedname.json.property.models.JsonEncodedNameModel;
 
@@ -106,7 +107,7 @@ public final class JsonAsyncClient {
     public Mono<Void> send(JsonEncodedNameModel body) {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return sendWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return sendWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -125,6 +126,7 @@ public final class JsonAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(JsonEncodedNameModel.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                JsonEncodedNameModel::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import serialization.encodedname.json.implementation.JsonSerializableHelper;
 import serialization.encodedname.json.implementation.PropertiesImpl;
 import serialization.encodedname.json.property.models.JsonEncodedNameModel;
 
@@ -103,7 +104,7 @@ public final class JsonClient {
     public void send(JsonEncodedNameModel body) {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        sendWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        sendWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -121,6 +122,7 @@ public final class JsonClient {
     public JsonEncodedNameModel get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(JsonEncodedNameModel.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            JsonEncodedNameModel::fromJson);
     }
 }
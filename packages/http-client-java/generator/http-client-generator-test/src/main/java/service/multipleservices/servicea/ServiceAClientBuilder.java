@@ -61,6 +61,13 @@ public final class ServiceAClientBuilder implements HttpTrait<ServiceAClientBuil
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the ServiceAClientBuilder.
      */
@@ -81,6 +88,7 @@ public final class ServiceAClientBuilder implements HttpTrait<ServiceAClientBuil
     @Generated
     @Override
     public ServiceAClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -97,6 +105,7 @@ public final class ServiceAClientBuilder implements HttpTrait<ServiceAClientBuil
     @Generated
     @Override
     public ServiceAClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -116,6 +125,7 @@ public final class ServiceAClientBuilder implements HttpTrait<ServiceAClientBuil
     @Generated
     @Override
     public ServiceAClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -132,6 +142,7 @@ public final class ServiceAClientBuilder implements HttpTrait<ServiceAClientBuil
     @Generated
     @Override
     public ServiceAClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -148,6 +159,7 @@ public final class ServiceAClientBuilder implements HttpTrait<ServiceAClientBuil
     @Generated
     @Override
     public ServiceAClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -158,6 +170,7 @@ public final class ServiceAClientBuilder implements HttpTrait<ServiceAClientBuil
     @Generated
     @Override
     public ServiceAClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -175,6 +188,7 @@ public final class ServiceAClientBuilder implements HttpTrait<ServiceAClientBuil
     @Generated
     @Override
     public ServiceAClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -191,6 +205,7 @@ public final class ServiceAClientBuilder implements HttpTrait<ServiceAClientBuil
     @Generated
     @Override
     public ServiceAClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -209,6 +224,7 @@ public final class ServiceAClientBuilder implements HttpTrait<ServiceAClientBuil
      */
     @Generated
     public ServiceAClientBuilder serviceVersion(ServiceAServiceVersion serviceVersion) {
+        this.createdHttpPipeline = null;
         this.serviceVersion = serviceVersion;
         return this;
     }
@@ -227,6 +243,7 @@ public final class ServiceAClientBuilder implements HttpTrait<ServiceAClientBuil
      */
     @Generated
     public ServiceAClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -239,7 +256,7 @@ public final class ServiceAClientBuilder implements HttpTrait<ServiceAClientBuil
     @Generated
     private ServiceAClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         ServiceAServiceVersion localServiceVersion
             = (serviceVersion != null) ? serviceVersion : ServiceAServiceVersion.getLatest();
@@ -289,6 +306,15 @@ public final class ServiceAClientBuilder implements HttpTrait<ServiceAClientBuil
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of ASubNamespaceAsyncClient class.
      * 
@@ -75,7 +75,7 @@ public final class ServiceAClientImpl {
     /**
      * The ASubNamespacesImpl object to access its operations.
      */
-    private final ASubNamespacesImpl aSubNamespaces;
+    private volatile ASubNamespacesImpl aSubNamespaces;
 
     /**
      * Gets the ASubNamespacesImpl object to access its operations.
@@ -83,13 +83,23 @@ public final class ServiceAClientImpl {
      * @return the ASubNamespacesImpl object.
      */
     public ASubNamespacesImpl getASubNamespaces() {
-        return this.aSubNamespaces;
+        ASubNamespacesImpl localASubNamespaces = this.aSubNamespaces;
+        if (localASubNamespaces == null) {
+            synchronized (this) {
+                localASubNamespaces = this.aSubNamespaces;
+                if (localASubNamespaces == null) {
+                    localASubNamespaces = new ASubNamespacesImpl(this);
+                    this.aSubNamespaces = localASubNamespaces;
+                }
+            }
+        }
+        return localASubNamespaces;
     }
 
     /**
      * The AOperationsImpl object to access its operations.
      */
-    private final AOperationsImpl aOperations;
+    private volatile AOperationsImpl aOperations;
 
     /**
      * Gets the AOperationsImpl object to access its operations.
@@ -97,7 +107,17 @@ public final class ServiceAClientImpl {
      * @return the AOperationsImpl object.
      */
     public AOperationsImpl getAOperations() {
-        return this.aOperations;
+        AOperationsImpl localAOperations = this.aOperations;
+        if (localAOperations == null) {
+            synchronized (this) {
+                localAOperations = this.aOperations;
+                if (localAOperations == null) {
+                    localAOperations = new AOperationsImpl(this);
+                    this.aOperations = localAOperations;
+                }
+            }
+        }
+        return localAOperations;
     }
 
     /**
@@ -136,7 +156,5 @@ public final class ServiceAClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.serviceVersion = serviceVersion;
-        this.aSubNamespaces = new ASubNamespacesImpl(this);
-        this.aOperations = new AOperationsImpl(this);
     }
 }
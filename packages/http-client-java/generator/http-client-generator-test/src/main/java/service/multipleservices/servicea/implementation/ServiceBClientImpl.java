@@ -75,7 +75,7 @@ public final class ServiceBClientImpl {
     /**
      * The BSubNamespacesImpl object to access its operations.
      */
-    private final BSubNamespacesImpl bSubNamespaces;
+    private volatile BSubNamespacesImpl bSubNamespaces;
 
     /**
      * Gets the BSubNamespacesImpl object to access its operations.
@@ -83,13 +83,23 @@ public final class ServiceBClientImpl {
      * @return the BSubNamespacesImpl object.
      */
     public BSubNamespacesImpl getBSubNamespaces() {
-        return this.bSubNamespaces;
+        BSubNamespacesImpl localBSubNamespaces = this.bSubNamespaces;
+        if (localBSubNamespaces == null) {
+            synchronized (this) {
+                localBSubNamespaces = this.bSubNamespaces;
+                if (localBSubNamespaces == null) {
+                    localBSubNamespaces = new BSubNamespacesImpl(this);
+                    this.bSubNamespaces = localBSubNamespaces;
+                }
+            }
+        }
+        return localBSubNamespaces;
     }
 
     /**
      * The BOperationsImpl object to access its operations.
      */
-    private final BOperationsImpl bOperations;
+    private volatile BOperationsImpl bOperations;
 
     /**
      * Gets the BOperationsImpl object to access its operations.
@@ -97,7 +107,17 @@ public final class ServiceBClientImpl {
      * @return the BOperationsImpl object.
      */
     public BOperationsImpl getBOperations() {
-        return this.bOperations;
+        BOperationsImpl localBOperations = this.bOperations;
+        if (localBOperations == null) {
+            synchronized (this) {
+                localBOperations = this.bOperations;
+                if (localBOperations == null) {
+                    localBOperations = new BOperationsImpl(this);
+                    this.bOperations = localBOperations;
+                }
+            }
+        }
+        return localBOperations;
     }
 
     /**
@@ -136,7 +156,5 @@ public final class ServiceBClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.serviceVersion = serviceVersion;
-        this.bSubNamespaces = new BSubNamespacesImpl(this);
-        this.bOperations = new BOperationsImpl(this);
     }
 }
@@ -60,7 +60,7 @@ public final class CombinedImpl {
     /**
      * The FoosImpl object to access its operations.
      */
-    private final FoosImpl foos;
+    private volatile FoosImpl foos;
 
     /**
      * Gets the FoosImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class CombinedImpl {
      * @return the FoosImpl object.
      */
     public FoosImpl getFoos() {
-        return this.foos;
+        FoosImpl localFoos = this.foos;
+        if (localFoos == null) {
+            synchronized (this) {
+                localFoos = this.foos;
+                if (localFoos == null) {
+                    localFoos = new FoosImpl(this);
+                    this.foos = localFoos;
+                }
+            }
+        }
+        return localFoos;
     }
 
     /**
      * The BarsImpl object to access its operations.
      */
-    private final BarsImpl bars;
+    private volatile BarsImpl bars;
 
     /**
      * Gets the BarsImpl object to access its operations.
@@ -82,7 +92,17 @@ public final class CombinedImpl {
      * @return the BarsImpl object.
      */
     public BarsImpl getBars() {
-        return this.bars;
+        BarsImpl localBars = this.bars;
+        if (localBars == null) {
+            synchronized (this) {
+                localBars = this.bars;
+                if (localBars == null) {
+                    localBars = new BarsImpl(this);
+                    this.bars = localBars;
+                }
+            }
+        }
+        return localBars;
     }
 
     /**
@@ -116,7 +136,5 @@ public final class CombinedImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.foos = new FoosImpl(this);
-        this.bars = new BarsImpl(this);
     }
 }
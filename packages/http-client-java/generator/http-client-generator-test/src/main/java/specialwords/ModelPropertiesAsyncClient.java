@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import specialwords.implementation.JsonSerializableHelper;
 import specialwords.implementation.ModelPropertiesImpl;
 import specialwords.modelproperties.models.DictMethods;
 import specialwords.modelproperties.models.ModelWithList;
@@ -144,7 +145,8 @@ public final class ModelPropertiesAsyncClient {
     public Mono<Void> sameAsModel(SameAsModel body) {
         // Generated convenience method for sameAsModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return sameAsModelWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return sameAsModelWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -164,7 +166,8 @@ public final class ModelPropertiesAsyncClient {
     public Mono<Void> dictMethods(DictMethods body) {
         // Generated convenience method for dictMethodsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return dictMethodsWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return dictMethodsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -184,6 +187,7 @@ public final class ModelPropertiesAsyncClient {
     public Mono<Void> withList(ModelWithList body) {
         // Generated convenience method for withListWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withListWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withListWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 }
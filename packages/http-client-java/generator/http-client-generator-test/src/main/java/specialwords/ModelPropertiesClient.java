@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import specialwords.implementation.JsonSerializableHelper;
 import specialwords.implementation.ModelPropertiesImpl;
 import specialwords.modelproperties.models.DictMethods;
 import specialwords.modelproperties.models.ModelWithList;
@@ -141,7 +142,7 @@ public final class ModelPropertiesClient {
     public void sameAsModel(SameAsModel body) {
         // Generated convenience method for sameAsModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        sameAsModelWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        sameAsModelWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -160,7 +161,7 @@ public final class ModelPropertiesClient {
     public void dictMethods(DictMethods body) {
         // Generated convenience method for dictMethodsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        dictMethodsWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        dictMethodsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -179,6 +180,6 @@ public final class ModelPropertiesClient {
     public void withList(ModelWithList body) {
         // Generated convenience method for withListWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withListWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withListWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
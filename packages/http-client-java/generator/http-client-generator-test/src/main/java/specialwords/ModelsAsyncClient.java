@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import specialwords.implementation.JsonSerializableHelper;
 import specialwords.implementation.ModelsImpl;
 import specialwords.models.models.And;
 import specialwords.models.models.As;
@@ -945,7 +946,7 @@ public final class ModelsAsyncClient {
     public Mono<Void> withAnd(And body) {
         // Generated convenience method for withAndWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withAndWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withAndWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -965,7 +966,7 @@ public final class ModelsAsyncClient {
     public Mono<Void> withAs(As body) {
         // Generated convenience method for withAsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withAsWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withAsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -985,7 +986,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withAssert(Assert body) {
         // Generated convenience method for withAssertWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withAssertWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withAssertWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1005,7 +1007,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withAsync(Async body) {
         // Generated convenience method for withAsyncWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withAsyncWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withAsyncWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1025,7 +1028,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withAwait(Await body) {
         // Generated convenience method for withAwaitWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withAwaitWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withAwaitWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1045,7 +1049,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withBreak(Break body) {
         // Generated convenience method for withBreakWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withBreakWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withBreakWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1065,7 +1070,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withClass(ClassModel body) {
         // Generated convenience method for withClassWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withClassWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withClassWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1085,7 +1091,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withConstructor(Constructor body) {
         // Generated convenience method for withConstructorWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withConstructorWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withConstructorWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1105,7 +1112,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withContinue(Continue body) {
         // Generated convenience method for withContinueWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withContinueWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withContinueWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1125,7 +1133,7 @@ public final class ModelsAsyncClient {
     public Mono<Void> withDef(Def body) {
         // Generated convenience method for withDefWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withDefWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withDefWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1145,7 +1153,7 @@ public final class ModelsAsyncClient {
     public Mono<Void> withDel(Del body) {
         // Generated convenience method for withDelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withDelWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withDelWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1165,7 +1173,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withElif(Elif body) {
         // Generated convenience method for withElifWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withElifWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withElifWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1185,7 +1194,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withElse(Else body) {
         // Generated convenience method for withElseWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withElseWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withElseWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1205,7 +1215,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withExcept(Except body) {
         // Generated convenience method for withExceptWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withExceptWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withExceptWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1225,7 +1236,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withExec(Exec body) {
         // Generated convenience method for withExecWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withExecWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withExecWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1245,7 +1257,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withFinally(Finally body) {
         // Generated convenience method for withFinallyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withFinallyWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withFinallyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1265,7 +1278,7 @@ public final class ModelsAsyncClient {
     public Mono<Void> withFor(For body) {
         // Generated convenience method for withForWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withForWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withForWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1285,7 +1298,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withFrom(From body) {
         // Generated convenience method for withFromWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withFromWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withFromWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1305,7 +1319,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withGlobal(Global body) {
         // Generated convenience method for withGlobalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withGlobalWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withGlobalWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1325,7 +1340,7 @@ public final class ModelsAsyncClient {
     public Mono<Void> withIf(If body) {
         // Generated convenience method for withIfWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withIfWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withIfWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1345,7 +1360,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withImport(Import body) {
         // Generated convenience method for withImportWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withImportWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withImportWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1365,7 +1381,7 @@ public final class ModelsAsyncClient {
     public Mono<Void> withIn(In body) {
         // Generated convenience method for withInWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withInWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withInWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1385,7 +1401,7 @@ public final class ModelsAsyncClient {
     public Mono<Void> withIs(Is body) {
         // Generated convenience method for withIsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withIsWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withIsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1405,7 +1421,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withLambda(Lambda body) {
         // Generated convenience method for withLambdaWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withLambdaWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withLambdaWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1425,7 +1442,7 @@ public final class ModelsAsyncClient {
     public Mono<Void> withNot(Not body) {
         // Generated convenience method for withNotWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withNotWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withNotWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1445,7 +1462,7 @@ public final class ModelsAsyncClient {
     public Mono<Void> withOr(Or body) {
         // Generated convenience method for withOrWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withOrWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withOrWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1465,7 +1482,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withPass(Pass body) {
         // Generated convenience method for withPassWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withPassWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withPassWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1485,7 +1503,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withRaise(Raise body) {
         // Generated convenience method for withRaiseWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withRaiseWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withRaiseWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1505,7 +1524,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withReturn(Return body) {
         // Generated convenience method for withReturnWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withReturnWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withReturnWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1525,7 +1545,7 @@ public final class ModelsAsyncClient {
     public Mono<Void> withTry(Try body) {
         // Generated convenience method for withTryWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withTryWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withTryWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1545,7 +1565,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withWhile(While body) {
         // Generated convenience method for withWhileWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withWhileWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withWhileWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1565,7 +1586,8 @@ public final class ModelsAsyncClient {
     public Mono<Void> withWith(With body) {
         // Generated convenience method for withWithWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withWithWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withWithWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -1585,6 +1607,7 @@ public final class ModelsAsyncClient {
     public Mono<Void> withYield(Yield body) {
         // Generated convenience method for withYieldWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return withYieldWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return withYieldWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import specialwords.implementation.JsonSerializableHelper;
 import specialwords.implementation.ModelsImpl;
 import specialwords.models.models.And;
 import specialwords.models.models.As;
@@ -942,7 +943,7 @@ public final class ModelsClient {
     public void withAnd(And body) {
         // Generated convenience method for withAndWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withAndWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withAndWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -961,7 +962,7 @@ public final class ModelsClient {
     public void withAs(As body) {
         // Generated convenience method for withAsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withAsWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withAsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -980,7 +981,7 @@ public final class ModelsClient {
     public void withAssert(Assert body) {
         // Generated convenience method for withAssertWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withAssertWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withAssertWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -999,7 +1000,7 @@ public final class ModelsClient {
     public void withAsync(Async body) {
         // Generated convenience method for withAsyncWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withAsyncWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withAsyncWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1018,7 +1019,7 @@ public final class ModelsClient {
     public void withAwait(Await body) {
         // Generated convenience method for withAwaitWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withAwaitWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withAwaitWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1037,7 +1038,7 @@ public final class ModelsClient {
     public void withBreak(Break body) {
         // Generated convenience method for withBreakWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withBreakWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withBreakWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1056,7 +1057,7 @@ public final class ModelsClient {
     public void withClass(ClassModel body) {
         // Generated convenience method for withClassWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withClassWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withClassWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1075,7 +1076,7 @@ public final class ModelsClient {
     public void withConstructor(Constructor body) {
         // Generated convenience method for withConstructorWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withConstructorWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withConstructorWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1094,7 +1095,7 @@ public final class ModelsClient {
     public void withContinue(Continue body) {
         // Generated convenience method for withContinueWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withContinueWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withContinueWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1113,7 +1114,7 @@ public final class ModelsClient {
     public void withDef(Def body) {
         // Generated convenience method for withDefWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withDefWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withDefWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1132,7 +1133,7 @@ public final class ModelsClient {
     public void withDel(Del body) {
         // Generated convenience method for withDelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withDelWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withDelWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1151,7 +1152,7 @@ public final class ModelsClient {
     public void withElif(Elif body) {
         // Generated convenience method for withElifWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withElifWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withElifWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1170,7 +1171,7 @@ public final class ModelsClient {
     public void withElse(Else body) {
         // Generated convenience method for withElseWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withElseWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withElseWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1189,7 +1190,7 @@ public final class ModelsClient {
     public void withExcept(Except body) {
         // Generated convenience method for withExceptWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withExceptWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withExceptWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1208,7 +1209,7 @@ public final class ModelsClient {
     public void withExec(Exec body) {
         // Generated convenience method for withExecWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withExecWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withExecWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1227,7 +1228,7 @@ public final class ModelsClient {
     public void withFinally(Finally body) {
         // Generated convenience method for withFinallyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withFinallyWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withFinallyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1246,7 +1247,7 @@ public final class ModelsClient {
     public void withFor(For body) {
         // Generated convenience method for withForWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withForWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withForWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1265,7 +1266,7 @@ public final class ModelsClient {
     public void withFrom(From body) {
         // Generated convenience method for withFromWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withFromWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withFromWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1284,7 +1285,7 @@ public final class ModelsClient {
     public void withGlobal(Global body) {
         // Generated convenience method for withGlobalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withGlobalWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withGlobalWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1303,7 +1304,7 @@ public final class ModelsClient {
     public void withIf(If body) {
         // Generated convenience method for withIfWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withIfWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withIfWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1322,7 +1323,7 @@ public final class ModelsClient {
     public void withImport(Import body) {
         // Generated convenience method for withImportWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withImportWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withImportWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1341,7 +1342,7 @@ public final class ModelsClient {
     public void withIn(In body) {
         // Generated convenience method for withInWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withInWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withInWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1360,7 +1361,7 @@ public final class ModelsClient {
     public void withIs(Is body) {
         // Generated convenience method for withIsWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withIsWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withIsWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1379,7 +1380,7 @@ public final class ModelsClient {
     public void withLambda(Lambda body) {
         // Generated convenience method for withLambdaWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withLambdaWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withLambdaWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1398,7 +1399,7 @@ public final class ModelsClient {
     public void withNot(Not body) {
         // Generated convenience method for withNotWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withNotWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withNotWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1417,7 +1418,7 @@ public final class ModelsClient {
     public void withOr(Or body) {
         // Generated convenience method for withOrWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withOrWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withOrWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1436,7 +1437,7 @@ public final class ModelsClient {
     public void withPass(Pass body) {
         // Generated convenience method for withPassWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withPassWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withPassWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1455,7 +1456,7 @@ public final class ModelsClient {
     public void withRaise(Raise body) {
         // Generated convenience method for withRaiseWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withRaiseWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withRaiseWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1474,7 +1475,7 @@ public final class ModelsClient {
     public void withReturn(Return body) {
         // Generated convenience method for withReturnWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withReturnWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withReturnWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1493,7 +1494,7 @@ public final class ModelsClient {
     public void withTry(Try body) {
         // Generated convenience method for withTryWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withTryWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withTryWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1512,7 +1513,7 @@ public final class ModelsClient {
     public void withWhile(While body) {
         // Generated convenience method for withWhileWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withWhileWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withWhileWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1531,7 +1532,7 @@ public final class ModelsClient {
     public void withWith(With body) {
         // Generated convenience method for withWithWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withWithWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withWithWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -1550,6 +1551,6 @@ public final class ModelsClient {
     public void withYield(Yield body) {
         // Generated convenience method for withYieldWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        withYieldWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        withYieldWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
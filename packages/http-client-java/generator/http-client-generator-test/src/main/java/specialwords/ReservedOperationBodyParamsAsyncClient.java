@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import java.util.List;
 import reactor.core.publisher.Mono;
+import specialwords.implementation.JsonSerializableHelper;
 import specialwords.implementation.ReservedOperationBodyParamsImpl;
 import specialwords.reservedoperationbodyparams.implementation.models.WithItemsRequest;
 
@@ -85,7 +86,7 @@ public final class ReservedOperationBodyParamsAsyncClient {
         // Generated convenience method for withItemsWithResponse
         RequestOptions requestOptions = new RequestOptions();
         WithItemsRequest withItemsRequestObj = new WithItemsRequest(items);
-        BinaryData withItemsRequest = BinaryData.fromObject(withItemsRequestObj);
+        BinaryData withItemsRequest = JsonSerializableHelper.toBinaryData(withItemsRequestObj);
         return withItemsWithResponse(withItemsRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import java.util.List;
+import specialwords.implementation.JsonSerializableHelper;
 import specialwords.implementation.ReservedOperationBodyParamsImpl;
 import specialwords.reservedoperationbodyparams.implementation.models.WithItemsRequest;
 
@@ -82,7 +83,7 @@ public final class ReservedOperationBodyParamsClient {
         // Generated convenience method for withItemsWithResponse
         RequestOptions requestOptions = new RequestOptions();
         WithItemsRequest withItemsRequestObj = new WithItemsRequest(items);
-        BinaryData withItemsRequest = BinaryData.fromObject(withItemsRequestObj);
+        BinaryData withItemsRequest = JsonSerializableHelper.toBinaryData(withItemsRequestObj);
         withItemsWithResponse(withItemsRequest, requestOptions).getValue();
     }
 }
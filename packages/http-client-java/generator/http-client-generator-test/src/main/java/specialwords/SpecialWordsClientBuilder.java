@@ -68,6 +68,13 @@ public final class SpecialWordsClientBuilder implements HttpTrait<SpecialWordsCl
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the SpecialWordsClientBuilder.
      */
@@ -88,6 +95,7 @@ public final class SpecialWordsClientBuilder implements HttpTrait<SpecialWordsCl
     @Generated
     @Override
     public SpecialWordsClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -104,6 +112,7 @@ public final class SpecialWordsClientBuilder implements HttpTrait<SpecialWordsCl
     @Generated
     @Override
     public SpecialWordsClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -123,6 +132,7 @@ public final class SpecialWordsClientBuilder implements HttpTrait<SpecialWordsCl
     @Generated
     @Override
     public SpecialWordsClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -139,6 +149,7 @@ public final class SpecialWordsClientBuilder implements HttpTrait<SpecialWordsCl
     @Generated
     @Override
     public SpecialWordsClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -155,6 +166,7 @@ public final class SpecialWordsClientBuilder implements HttpTrait<SpecialWordsCl
     @Generated
     @Override
     public SpecialWordsClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -165,6 +177,7 @@ public final class SpecialWordsClientBuilder implements HttpTrait<SpecialWordsCl
     @Generated
     @Override
     public SpecialWordsClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -182,6 +195,7 @@ public final class SpecialWordsClientBuilder implements HttpTrait<SpecialWordsCl
     @Generated
     @Override
     public SpecialWordsClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -198,6 +212,7 @@ public final class SpecialWordsClientBuilder implements HttpTrait<SpecialWordsCl
     @Generated
     @Override
     public SpecialWordsClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -216,6 +231,7 @@ public final class SpecialWordsClientBuilder implements HttpTrait<SpecialWordsCl
      */
     @Generated
     public SpecialWordsClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -228,7 +244,7 @@ public final class SpecialWordsClientBuilder implements HttpTrait<SpecialWordsCl
     @Generated
     private SpecialWordsClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         SpecialWordsClientImpl client
             = new SpecialWordsClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -276,6 +292,15 @@ public final class SpecialWordsClientBuilder implements HttpTrait<SpecialWordsCl
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of ModelsAsyncClient class.
      * 
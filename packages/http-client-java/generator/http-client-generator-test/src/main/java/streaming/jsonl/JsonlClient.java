@@ -15,7 +15,12 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.ReadValueCallback;
+import java.util.stream.Stream;
 import streaming.jsonl.implementation.BasicsImpl;
+import streaming.jsonl.implementation.JsonLines;
 
 /**
  * Initializes a new instance of the synchronous JsonlClient type.
@@ -101,6 +106,25 @@ public final class JsonlClient {
         sendWithResponse(body, requestOptions).getValue();
     }
 
+    /**
+     * The send operation.
+     * <p>
+     * The records are serialized one at a time, as the request body is sent.
+     * 
+     * @param body the records of the JSON Lines request body.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws HttpResponseException thrown if the request is rejected by server.
+     * @throws ClientAuthenticationException thrown if the request is rejected by server on status code 401.
+     * @throws ResourceNotFoundException thrown if the request is rejected by server on status code 404.
+     * @throws ResourceModifiedException thrown if the request is rejected by server on status code 409.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     */
+    @Generated
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public void send(Iterable<? extends JsonSerializable<?>> body) {
+        send(JsonLines.write(body));
+    }
+
     /**
      * The receive operation.
      * 
@@ -118,4 +142,25 @@ public final class JsonlClient {
         RequestOptions requestOptions = new RequestOptions();
         return receiveWithResponse(requestOptions).getValue();
     }
+
+    /**
+     * The receive operation.
+     * <p>
+     * The records of the response body are read one line at a time, as the returned stream is consumed.
+     * 
+     * @param elementReader the function to read a record of the response body.
+     * @param <T> the type of the records of the response body.
+     * @throws IllegalArgumentException thrown if parameters fail the validation.
+     * @throws HttpResponseException thrown if the request is rejected by server.
+     * @throws ClientAuthenticationException thrown if the request is rejected by server on status code 401.
+     * @throws ResourceNotFoundException thrown if the request is rejected by server on status code 404.
+     * @throws ResourceModifiedException thrown if the request is rejected by server on status code 409.
+     * @throws RuntimeException all other wrapped checked exceptions if the request fails to be sent.
+     * @return the stream of the records of the response body.
+     */
+    @Generated
+    @ServiceMethod(returns = ReturnType.SINGLE)
+    public <T> Stream<T> receive(ReadValueCallback<JsonReader, T> elementReader) {
+        return JsonLines.read(receive(), elementReader);
+    }
 }
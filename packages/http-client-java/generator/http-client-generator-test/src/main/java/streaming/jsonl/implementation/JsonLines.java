@@ -0,0 +1,239 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package streaming.jsonl.implementation;
+
+import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonWriter;
+import com.azure.json.ReadValueCallback;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// DO NOT modify this helper class
+
+/**
+ * Reads and writes JSON Lines ("application/jsonl") bodies one record at a time.
+ * <p>
+ * Only the record being read or written is held in memory, so that a body of any number of records can be received
+ * or sent with memory bounded by the size of a single record.
+ */
+public final class JsonLines {
+
+    private JsonLines() {
+    }
+
+    /**
+     * Reads the records of the JSON Lines body, lazily, as the returned stream is consumed.
+     * <p>
+     * Empty lines are skipped. The stream should be closed after use, to release the body.
+     * <p>
+     * Content that is not replayable, e.g. the body of a response that is not yet read, is read buffer by buffer from
+     * {@link BinaryData#toFluxByteBuffer()}, as the records are consumed. {@link BinaryData#toStream()} is not used for
+     * it, as the stream of a Flux-backed body collects the whole body first. Closing the stream cancels the rest of the
+     * body.
+     *
+     * @param body the JSON Lines body.
+     * @param elementReader the function to read a record, e.g. "Model::fromJson".
+     * @param <T> the type of the records.
+     * @return the stream of the records.
+     * @throws NullPointerException if {@code body} or {@code elementReader} is null.
+     * @throws UncheckedIOException if reading the body, or a record, fails while the stream is consumed.
+     */
+    public static <T> Stream<T> read(BinaryData body, ReadValueCallback<JsonReader, T> elementReader) {
+        Objects.requireNonNull(body, "'body' cannot be null.");
+        Objects.requireNonNull(elementReader, "'elementReader' cannot be null.");
+
+        InputStream inputStream = body.isReplayable()
+            ? body.toStream()
+            : new ByteBufferStreamInputStream(body.toFluxByteBuffer().toStream(1));
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        return reader.lines()
+            .filter(line -> !line.trim().isEmpty())
+            .map(line -> readRecord(line, elementReader))
+            .onClose(() -> {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    /**
+     * Creates a JSON Lines body of the records. A record is serialized only when the body is read up to it, e.g. as
+     * the request body is sent.
+     * <p>
+     * The records are iterated twice. They are first serialized to count the length of the body, as the HTTP pipeline
+     * requires the Content-Length of the request body, then serialized again as the body is read. Neither pass holds
+     * more than a single record in memory. The records should not be modified until the body is sent.
+     * <p>
+     * The body can be read only once.
+     *
+     * @param elements the records.
+     * @return the JSON Lines body.
+     * @throws NullPointerException if {@code elements} is null.
+     * @throws UncheckedIOException if serializing a record fails while counting the length of the body.
+     */
+    public static BinaryData write(Iterable<? extends JsonSerializable<?>> elements) {
+        Objects.requireNonNull(elements, "'elements' cannot be null.");
+        long length;
+        try {
+            length = new JsonLinesInputStream(elements.iterator()).remainingLength();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return BinaryData.fromStream(new JsonLinesInputStream(elements.iterator()), length);
+    }
+
+    private static <T> T readRecord(String line, ReadValueCallback<JsonReader, T> elementReader) {
+        try (JsonReader jsonReader = JsonProviders.createReader(line)) {
+            return elementReader.read(jsonReader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+     * Reads the buffers of the content one at a time, as they are received. Closing the stream cancels the rest of the
+     * content.
+     */
+    private static final class ByteBufferStreamInputStream extends InputStream {
+        private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+        private final Stream<ByteBuffer> buffers;
+        private final Iterator<ByteBuffer> iterator;
+        private ByteBuffer buffer = EMPTY;
+
+        private ByteBufferStreamInputStream(Stream<ByteBuffer> buffers) {
+            this.buffers = buffers;
+            this.iterator = buffers.iterator();
+        }
+
+        @Override
+        public int read() {
+            return nextBuffer() ? (buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!nextBuffer()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public void close() {
+            buffers.close();
+        }
+
+        private boolean nextBuffer() {
+            while (!buffer.hasRemaining()) {
+                if (!iterator.hasNext()) {
+                    return false;
+                }
+                buffer = iterator.next();
+            }
+            return true;
+        }
+    }
+
+    private static final class JsonLinesInputStream extends InputStream {
+        private final Iterator<? extends JsonSerializable<?>> elements;
+        // the serialized record, and the line feed, not yet read
+        private final RecordBuffer record = new RecordBuffer();
+        private int position;
+
+        private JsonLinesInputStream(Iterator<? extends JsonSerializable<?>> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return record.buffer()[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            Objects.requireNonNull(b);
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(len, record.size() - position);
+            System.arraycopy(record.buffer(), position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return record.size() - position;
+        }
+
+        // the length of the rest of the body, the records are serialized without being kept
+        private long remainingLength() throws IOException {
+            long length = 0;
+            while (fill()) {
+                length += record.size() - position;
+                position = record.size();
+            }
+            return length;
+        }
+
+        // serializes the next record, if the current one is fully read; returns false at the end of the records
+        private boolean fill() throws IOException {
+            if (position < record.size()) {
+                return true;
+            }
+            if (!elements.hasNext()) {
+                return false;
+            }
+            JsonSerializable<?> element = elements.next();
+            record.reset();
+            position = 0;
+            try (JsonWriter jsonWriter = JsonProviders.createWriter(record)) {
+                if (element == null) {
+                    jsonWriter.writeNull();
+                } else {
+                    element.toJson(jsonWriter);
+                }
+            }
+            record.write('\n');
+            return true;
+        }
+    }
+
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+        // the internal buffer, to read the record without copying it
+        private byte[] buffer() {
+            return buf;
+        }
+    }
+}
@@ -133,7 +133,7 @@ public final class VaultInner extends Resource {
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeJsonField("properties", this.properties);
-        jsonWriter.writeMapField("tags", this.tags, (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("tags", this.tags, JsonWriter::writeString);
         jsonWriter.writeStringField("location", this.location);
         return jsonWriter.writeEndObject();
     }
@@ -162,7 +162,7 @@ public final class VaultInner extends Resource {
                 } else if ("properties".equals(fieldName)) {
                     deserializedVaultInner.properties = VaultProperties.fromJson(reader);
                 } else if ("tags".equals(fieldName)) {
-                    Map<String, String> tags = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> tags = reader.readMap(JsonReader::getString);
                     deserializedVaultInner.tags = tags;
                 } else if ("location".equals(fieldName)) {
                     deserializedVaultInner.location = reader.getString();
@@ -129,7 +129,7 @@ public final class ArmCustomizationClientImpl implements ArmCustomizationClient
     /**
      * The VaultsClient object to access its operations.
      */
-    private final VaultsClient vaults;
+    private volatile VaultsClient vaults;
 
     /**
      * Gets the VaultsClient object to access its operations.
@@ -137,7 +137,17 @@ public final class ArmCustomizationClientImpl implements ArmCustomizationClient
      * @return the VaultsClient object.
      */
     public VaultsClient getVaults() {
-        return this.vaults;
+        VaultsClient localVaults = this.vaults;
+        if (localVaults == null) {
+            synchronized (this) {
+                localVaults = this.vaults;
+                if (localVaults == null) {
+                    localVaults = new VaultsClientImpl(this);
+                    this.vaults = localVaults;
+                }
+            }
+        }
+        return localVaults;
     }
 
     /**
@@ -158,7 +168,6 @@ public final class ArmCustomizationClientImpl implements ArmCustomizationClient
         this.endpoint = endpoint;
         this.subscriptionId = subscriptionId;
         this.apiVersion = "2023-12-01-preview";
-        this.vaults = new VaultsClientImpl(this);
     }
 
     /**
@@ -129,7 +129,7 @@ public final class ArmLegacyClientImpl implements ArmLegacyClient {
     /**
      * The SkusClient object to access its operations.
      */
-    private final SkusClient skus;
+    private volatile SkusClient skus;
 
     /**
      * Gets the SkusClient object to access its operations.
@@ -137,7 +137,17 @@ public final class ArmLegacyClientImpl implements ArmLegacyClient {
      * @return the SkusClient object.
      */
     public SkusClient getSkus() {
-        return this.skus;
+        SkusClient localSkus = this.skus;
+        if (localSkus == null) {
+            synchronized (this) {
+                localSkus = this.skus;
+                if (localSkus == null) {
+                    localSkus = new SkusClientImpl(this);
+                    this.skus = localSkus;
+                }
+            }
+        }
+        return localSkus;
     }
 
     /**
@@ -158,7 +168,6 @@ public final class ArmLegacyClientImpl implements ArmLegacyClient {
         this.endpoint = endpoint;
         this.subscriptionId = subscriptionId;
         this.apiVersion = "2024-12-01";
-        this.skus = new SkusClientImpl(this);
     }
 
     /**
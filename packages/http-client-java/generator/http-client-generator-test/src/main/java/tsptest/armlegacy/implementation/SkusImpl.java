@@ -101,17 +101,18 @@ public final class SkusImpl implements Skus {
     }
 
     public SkuResource getRootById(String id) {
-        String providerNamespace = ResourceManagerUtils.getValueFromIdByName(id, "providerRegistrations");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String providerNamespace = parsedId.getValueByName("providerRegistrations");
         if (providerNamespace == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'providerRegistrations'.", id)));
         }
-        String resourceType = ResourceManagerUtils.getValueFromIdByName(id, "resourcetypeRegistrations");
+        String resourceType = parsedId.getValueByName("resourcetypeRegistrations");
         if (resourceType == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourcetypeRegistrations'.", id)));
         }
-        String sku = ResourceManagerUtils.getValueFromIdByName(id, "skus");
+        String sku = parsedId.getValueByName("skus");
         if (sku == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'skus'.", id)));
@@ -120,17 +121,18 @@ public final class SkusImpl implements Skus {
     }
 
     public Response<SkuResource> getRootByIdWithResponse(String id, Context context) {
-        String providerNamespace = ResourceManagerUtils.getValueFromIdByName(id, "providerRegistrations");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String providerNamespace = parsedId.getValueByName("providerRegistrations");
         if (providerNamespace == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'providerRegistrations'.", id)));
         }
-        String resourceType = ResourceManagerUtils.getValueFromIdByName(id, "resourcetypeRegistrations");
+        String resourceType = parsedId.getValueByName("resourcetypeRegistrations");
         if (resourceType == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourcetypeRegistrations'.", id)));
         }
-        String sku = ResourceManagerUtils.getValueFromIdByName(id, "skus");
+        String sku = parsedId.getValueByName("skus");
         if (sku == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'skus'.", id)));
@@ -139,17 +141,18 @@ public final class SkusImpl implements Skus {
     }
 
     public void deleteRootById(String id) {
-        String providerNamespace = ResourceManagerUtils.getValueFromIdByName(id, "providerRegistrations");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String providerNamespace = parsedId.getValueByName("providerRegistrations");
         if (providerNamespace == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'providerRegistrations'.", id)));
         }
-        String resourceType = ResourceManagerUtils.getValueFromIdByName(id, "resourcetypeRegistrations");
+        String resourceType = parsedId.getValueByName("resourcetypeRegistrations");
         if (resourceType == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourcetypeRegistrations'.", id)));
         }
-        String sku = ResourceManagerUtils.getValueFromIdByName(id, "skus");
+        String sku = parsedId.getValueByName("skus");
         if (sku == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'skus'.", id)));
@@ -158,17 +161,18 @@ public final class SkusImpl implements Skus {
     }
 
     public Response<Void> deleteRootByIdWithResponse(String id, Context context) {
-        String providerNamespace = ResourceManagerUtils.getValueFromIdByName(id, "providerRegistrations");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String providerNamespace = parsedId.getValueByName("providerRegistrations");
         if (providerNamespace == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'providerRegistrations'.", id)));
         }
-        String resourceType = ResourceManagerUtils.getValueFromIdByName(id, "resourcetypeRegistrations");
+        String resourceType = parsedId.getValueByName("resourcetypeRegistrations");
         if (resourceType == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(String
                 .format("The resource ID '%s' is not valid. Missing path segment 'resourcetypeRegistrations'.", id)));
         }
-        String sku = ResourceManagerUtils.getValueFromIdByName(id, "skus");
+        String sku = parsedId.getValueByName("skus");
         if (sku == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'skus'.", id)));
@@ -132,7 +132,7 @@ public final class ChildResourceInner extends Resource {
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("location", location());
-        jsonWriter.writeMapField("tags", tags(), (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("tags", tags(), JsonWriter::writeString);
         jsonWriter.writeJsonField("properties", this.innerProperties);
         return jsonWriter.writeEndObject();
     }
@@ -162,7 +162,7 @@ public final class ChildResourceInner extends Resource {
                 } else if ("location".equals(fieldName)) {
                     deserializedChildResourceInner.withLocation(reader.getString());
                 } else if ("tags".equals(fieldName)) {
-                    Map<String, String> tags = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> tags = reader.readMap(JsonReader::getString);
                     deserializedChildResourceInner.withTags(tags);
                 } else if ("properties".equals(fieldName)) {
                     deserializedChildResourceInner.innerProperties = ChildResourceProperties.fromJson(reader);
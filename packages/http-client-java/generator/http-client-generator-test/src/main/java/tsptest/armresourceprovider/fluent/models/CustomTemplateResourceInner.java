@@ -254,7 +254,7 @@ public final class CustomTemplateResourceInner extends Resource {
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("location", location());
-        jsonWriter.writeMapField("tags", tags(), (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("tags", tags(), JsonWriter::writeString);
         jsonWriter.writeJsonField("properties", this.innerProperties);
         jsonWriter.writeJsonField("identity", this.identity);
         return jsonWriter.writeEndObject();
@@ -285,7 +285,7 @@ public final class CustomTemplateResourceInner extends Resource {
                 } else if ("location".equals(fieldName)) {
                     deserializedCustomTemplateResourceInner.withLocation(reader.getString());
                 } else if ("tags".equals(fieldName)) {
-                    Map<String, String> tags = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> tags = reader.readMap(JsonReader::getString);
                     deserializedCustomTemplateResourceInner.withTags(tags);
                 } else if ("properties".equals(fieldName)) {
                     deserializedCustomTemplateResourceInner.innerProperties
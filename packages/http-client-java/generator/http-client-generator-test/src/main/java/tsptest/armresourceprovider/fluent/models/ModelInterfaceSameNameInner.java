@@ -113,7 +113,7 @@ public final class ModelInterfaceSameNameInner extends Resource {
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("location", location());
-        jsonWriter.writeMapField("tags", tags(), (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("tags", tags(), JsonWriter::writeString);
         jsonWriter.writeJsonField("properties", this.innerProperties);
         return jsonWriter.writeEndObject();
     }
@@ -143,7 +143,7 @@ public final class ModelInterfaceSameNameInner extends Resource {
                 } else if ("location".equals(fieldName)) {
                     deserializedModelInterfaceSameNameInner.withLocation(reader.getString());
                 } else if ("tags".equals(fieldName)) {
-                    Map<String, String> tags = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> tags = reader.readMap(JsonReader::getString);
                     deserializedModelInterfaceSameNameInner.withTags(tags);
                 } else if ("properties".equals(fieldName)) {
                     deserializedModelInterfaceSameNameInner.innerProperties
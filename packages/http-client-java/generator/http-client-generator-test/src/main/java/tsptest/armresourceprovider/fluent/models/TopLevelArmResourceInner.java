@@ -244,7 +244,7 @@ public final class TopLevelArmResourceInner extends Resource {
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("location", location());
-        jsonWriter.writeMapField("tags", tags(), (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("tags", tags(), JsonWriter::writeString);
         jsonWriter.writeJsonField("properties", this.innerProperties);
         return jsonWriter.writeEndObject();
     }
@@ -274,7 +274,7 @@ public final class TopLevelArmResourceInner extends Resource {
                 } else if ("location".equals(fieldName)) {
                     deserializedTopLevelArmResourceInner.withLocation(reader.getString());
                 } else if ("tags".equals(fieldName)) {
-                    Map<String, String> tags = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> tags = reader.readMap(JsonReader::getString);
                     deserializedTopLevelArmResourceInner.withTags(tags);
                 } else if ("properties".equals(fieldName)) {
                     deserializedTopLevelArmResourceInner.innerProperties
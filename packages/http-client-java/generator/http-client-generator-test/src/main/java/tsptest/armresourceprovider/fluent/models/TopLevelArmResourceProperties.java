@@ -210,7 +210,7 @@ public final class TopLevelArmResourceProperties implements JsonSerializable<Top
                     deserializedTopLevelArmResourceProperties.startTimeStamp = reader
                         .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
                 } else if ("configurationEndpoints".equals(fieldName)) {
-                    List<String> configurationEndpoints = reader.readArray(reader1 -> reader1.getString());
+                    List<String> configurationEndpoints = reader.readArray(JsonReader::getString);
                     deserializedTopLevelArmResourceProperties.configurationEndpoints = configurationEndpoints;
                 } else if ("size".equals(fieldName)) {
                     deserializedTopLevelArmResourceProperties.size = reader.getNullable(JsonReader::getFloat);
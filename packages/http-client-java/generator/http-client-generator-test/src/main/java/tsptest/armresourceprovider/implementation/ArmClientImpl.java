@@ -137,7 +137,7 @@ public final class ArmClientImpl implements ArmClient {
     /**
      * The ChildResourcesInterfacesClient object to access its operations.
      */
-    private final ChildResourcesInterfacesClient childResourcesInterfaces;
+    private volatile ChildResourcesInterfacesClient childResourcesInterfaces;
 
     /**
      * Gets the ChildResourcesInterfacesClient object to access its operations.
@@ -145,13 +145,23 @@ public final class ArmClientImpl implements ArmClient {
      * @return the ChildResourcesInterfacesClient object.
      */
     public ChildResourcesInterfacesClient getChildResourcesInterfaces() {
-        return this.childResourcesInterfaces;
+        ChildResourcesInterfacesClient localChildResourcesInterfaces = this.childResourcesInterfaces;
+        if (localChildResourcesInterfaces == null) {
+            synchronized (this) {
+                localChildResourcesInterfaces = this.childResourcesInterfaces;
+                if (localChildResourcesInterfaces == null) {
+                    localChildResourcesInterfaces = new ChildResourcesInterfacesClientImpl(this);
+                    this.childResourcesInterfaces = localChildResourcesInterfaces;
+                }
+            }
+        }
+        return localChildResourcesInterfaces;
     }
 
     /**
      * The TopLevelArmResourceInterfacesClient object to access its operations.
      */
-    private final TopLevelArmResourceInterfacesClient topLevelArmResourceInterfaces;
+    private volatile TopLevelArmResourceInterfacesClient topLevelArmResourceInterfaces;
 
     /**
      * Gets the TopLevelArmResourceInterfacesClient object to access its operations.
@@ -159,13 +169,23 @@ public final class ArmClientImpl implements ArmClient {
      * @return the TopLevelArmResourceInterfacesClient object.
      */
     public TopLevelArmResourceInterfacesClient getTopLevelArmResourceInterfaces() {
-        return this.topLevelArmResourceInterfaces;
+        TopLevelArmResourceInterfacesClient localTopLevelArmResourceInterfaces = this.topLevelArmResourceInterfaces;
+        if (localTopLevelArmResourceInterfaces == null) {
+            synchronized (this) {
+                localTopLevelArmResourceInterfaces = this.topLevelArmResourceInterfaces;
+                if (localTopLevelArmResourceInterfaces == null) {
+                    localTopLevelArmResourceInterfaces = new TopLevelArmResourceInterfacesClientImpl(this);
+                    this.topLevelArmResourceInterfaces = localTopLevelArmResourceInterfaces;
+                }
+            }
+        }
+        return localTopLevelArmResourceInterfaces;
     }
 
     /**
      * The CustomTemplateResourceInterfacesClient object to access its operations.
      */
-    private final CustomTemplateResourceInterfacesClient customTemplateResourceInterfaces;
+    private volatile CustomTemplateResourceInterfacesClient customTemplateResourceInterfaces;
 
     /**
      * Gets the CustomTemplateResourceInterfacesClient object to access its operations.
@@ -173,13 +193,24 @@ public final class ArmClientImpl implements ArmClient {
      * @return the CustomTemplateResourceInterfacesClient object.
      */
     public CustomTemplateResourceInterfacesClient getCustomTemplateResourceInterfaces() {
-        return this.customTemplateResourceInterfaces;
+        CustomTemplateResourceInterfacesClient localCustomTemplateResourceInterfaces
+            = this.customTemplateResourceInterfaces;
+        if (localCustomTemplateResourceInterfaces == null) {
+            synchronized (this) {
+                localCustomTemplateResourceInterfaces = this.customTemplateResourceInterfaces;
+                if (localCustomTemplateResourceInterfaces == null) {
+                    localCustomTemplateResourceInterfaces = new CustomTemplateResourceInterfacesClientImpl(this);
+                    this.customTemplateResourceInterfaces = localCustomTemplateResourceInterfaces;
+                }
+            }
+        }
+        return localCustomTemplateResourceInterfaces;
     }
 
     /**
      * The OperationsClient object to access its operations.
      */
-    private final OperationsClient operations;
+    private volatile OperationsClient operations;
 
     /**
      * Gets the OperationsClient object to access its operations.
@@ -187,13 +218,23 @@ public final class ArmClientImpl implements ArmClient {
      * @return the OperationsClient object.
      */
     public OperationsClient getOperations() {
-        return this.operations;
+        OperationsClient localOperations = this.operations;
+        if (localOperations == null) {
+            synchronized (this) {
+                localOperations = this.operations;
+                if (localOperations == null) {
+                    localOperations = new OperationsClientImpl(this);
+                    this.operations = localOperations;
+                }
+            }
+        }
+        return localOperations;
     }
 
     /**
      * The ChildExtensionResourceInterfacesClient object to access its operations.
      */
-    private final ChildExtensionResourceInterfacesClient childExtensionResourceInterfaces;
+    private volatile ChildExtensionResourceInterfacesClient childExtensionResourceInterfaces;
 
     /**
      * Gets the ChildExtensionResourceInterfacesClient object to access its operations.
@@ -201,13 +242,24 @@ public final class ArmClientImpl implements ArmClient {
      * @return the ChildExtensionResourceInterfacesClient object.
      */
     public ChildExtensionResourceInterfacesClient getChildExtensionResourceInterfaces() {
-        return this.childExtensionResourceInterfaces;
+        ChildExtensionResourceInterfacesClient localChildExtensionResourceInterfaces
+            = this.childExtensionResourceInterfaces;
+        if (localChildExtensionResourceInterfaces == null) {
+            synchronized (this) {
+                localChildExtensionResourceInterfaces = this.childExtensionResourceInterfaces;
+                if (localChildExtensionResourceInterfaces == null) {
+                    localChildExtensionResourceInterfaces = new ChildExtensionResourceInterfacesClientImpl(this);
+                    this.childExtensionResourceInterfaces = localChildExtensionResourceInterfaces;
+                }
+            }
+        }
+        return localChildExtensionResourceInterfaces;
     }
 
     /**
      * The ManagedMaintenanceWindowStatusOperationsClient object to access its operations.
      */
-    private final ManagedMaintenanceWindowStatusOperationsClient managedMaintenanceWindowStatusOperations;
+    private volatile ManagedMaintenanceWindowStatusOperationsClient managedMaintenanceWindowStatusOperations;
 
     /**
      * Gets the ManagedMaintenanceWindowStatusOperationsClient object to access its operations.
@@ -215,13 +267,25 @@ public final class ArmClientImpl implements ArmClient {
      * @return the ManagedMaintenanceWindowStatusOperationsClient object.
      */
     public ManagedMaintenanceWindowStatusOperationsClient getManagedMaintenanceWindowStatusOperations() {
-        return this.managedMaintenanceWindowStatusOperations;
+        ManagedMaintenanceWindowStatusOperationsClient localManagedMaintenanceWindowStatusOperations
+            = this.managedMaintenanceWindowStatusOperations;
+        if (localManagedMaintenanceWindowStatusOperations == null) {
+            synchronized (this) {
+                localManagedMaintenanceWindowStatusOperations = this.managedMaintenanceWindowStatusOperations;
+                if (localManagedMaintenanceWindowStatusOperations == null) {
+                    localManagedMaintenanceWindowStatusOperations
+                        = new ManagedMaintenanceWindowStatusOperationsClientImpl(this);
+                    this.managedMaintenanceWindowStatusOperations = localManagedMaintenanceWindowStatusOperations;
+                }
+            }
+        }
+        return localManagedMaintenanceWindowStatusOperations;
     }
 
     /**
      * The ModelInterfaceSameNamesClient object to access its operations.
      */
-    private final ModelInterfaceSameNamesClient modelInterfaceSameNames;
+    private volatile ModelInterfaceSameNamesClient modelInterfaceSameNames;
 
     /**
      * Gets the ModelInterfaceSameNamesClient object to access its operations.
@@ -229,13 +293,23 @@ public final class ArmClientImpl implements ArmClient {
      * @return the ModelInterfaceSameNamesClient object.
      */
     public ModelInterfaceSameNamesClient getModelInterfaceSameNames() {
-        return this.modelInterfaceSameNames;
+        ModelInterfaceSameNamesClient localModelInterfaceSameNames = this.modelInterfaceSameNames;
+        if (localModelInterfaceSameNames == null) {
+            synchronized (this) {
+                localModelInterfaceSameNames = this.modelInterfaceSameNames;
+                if (localModelInterfaceSameNames == null) {
+                    localModelInterfaceSameNames = new ModelInterfaceSameNamesClientImpl(this);
+                    this.modelInterfaceSameNames = localModelInterfaceSameNames;
+                }
+            }
+        }
+        return localModelInterfaceSameNames;
     }
 
     /**
      * The ImmutableResourceModelsClient object to access its operations.
      */
-    private final ImmutableResourceModelsClient immutableResourceModels;
+    private volatile ImmutableResourceModelsClient immutableResourceModels;
 
     /**
      * Gets the ImmutableResourceModelsClient object to access its operations.
@@ -243,13 +317,23 @@ public final class ArmClientImpl implements ArmClient {
      * @return the ImmutableResourceModelsClient object.
      */
     public ImmutableResourceModelsClient getImmutableResourceModels() {
-        return this.immutableResourceModels;
+        ImmutableResourceModelsClient localImmutableResourceModels = this.immutableResourceModels;
+        if (localImmutableResourceModels == null) {
+            synchronized (this) {
+                localImmutableResourceModels = this.immutableResourceModels;
+                if (localImmutableResourceModels == null) {
+                    localImmutableResourceModels = new ImmutableResourceModelsClientImpl(this);
+                    this.immutableResourceModels = localImmutableResourceModels;
+                }
+            }
+        }
+        return localImmutableResourceModels;
     }
 
     /**
      * The LroNoBodiesClient object to access its operations.
      */
-    private final LroNoBodiesClient lroNoBodies;
+    private volatile LroNoBodiesClient lroNoBodies;
 
     /**
      * Gets the LroNoBodiesClient object to access its operations.
@@ -257,7 +341,17 @@ public final class ArmClientImpl implements ArmClient {
      * @return the LroNoBodiesClient object.
      */
     public LroNoBodiesClient getLroNoBodies() {
-        return this.lroNoBodies;
+        LroNoBodiesClient localLroNoBodies = this.lroNoBodies;
+        if (localLroNoBodies == null) {
+            synchronized (this) {
+                localLroNoBodies = this.lroNoBodies;
+                if (localLroNoBodies == null) {
+                    localLroNoBodies = new LroNoBodiesClientImpl(this);
+                    this.lroNoBodies = localLroNoBodies;
+                }
+            }
+        }
+        return localLroNoBodies;
     }
 
     /**
@@ -278,15 +372,6 @@ public final class ArmClientImpl implements ArmClient {
         this.endpoint = endpoint;
         this.subscriptionId = subscriptionId;
         this.apiVersion = "2023-11-01";
-        this.childResourcesInterfaces = new ChildResourcesInterfacesClientImpl(this);
-        this.topLevelArmResourceInterfaces = new TopLevelArmResourceInterfacesClientImpl(this);
-        this.customTemplateResourceInterfaces = new CustomTemplateResourceInterfacesClientImpl(this);
-        this.operations = new OperationsClientImpl(this);
-        this.childExtensionResourceInterfaces = new ChildExtensionResourceInterfacesClientImpl(this);
-        this.managedMaintenanceWindowStatusOperations = new ManagedMaintenanceWindowStatusOperationsClientImpl(this);
-        this.modelInterfaceSameNames = new ModelInterfaceSameNamesClientImpl(this);
-        this.immutableResourceModels = new ImmutableResourceModelsClientImpl(this);
-        this.lroNoBodies = new LroNoBodiesClientImpl(this);
     }
 
     /**
@@ -109,13 +109,14 @@ public final class ChildExtensionResourceImpl
         tsptest.armresourceprovider.ArmResourceProviderManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.resourceUri = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "resourceUri");
-        this.topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
+        this.topLevelArmResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "topLevelArmResourceName");
-        this.childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(innerObject.id(),
+        this.childExtensionResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "childExtensionResourceName");
     }
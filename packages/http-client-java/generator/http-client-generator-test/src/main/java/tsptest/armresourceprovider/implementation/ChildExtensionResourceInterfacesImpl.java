@@ -70,21 +70,22 @@ public final class ChildExtensionResourceInterfacesImpl implements ChildExtensio
     }
 
     public ChildExtensionResource getById(String id) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceUri = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String topLevelArmResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "topLevelArmResourceName");
         if (topLevelArmResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'topLevelArmResources'.", id)));
         }
-        String childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String childExtensionResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "childExtensionResourceName");
         if (childExtensionResourceName == null) {
@@ -96,21 +97,22 @@ public final class ChildExtensionResourceInterfacesImpl implements ChildExtensio
     }
 
     public Response<ChildExtensionResource> getByIdWithResponse(String id, Context context) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceUri = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String topLevelArmResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "topLevelArmResourceName");
         if (topLevelArmResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'topLevelArmResources'.", id)));
         }
-        String childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String childExtensionResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "childExtensionResourceName");
         if (childExtensionResourceName == null) {
@@ -121,21 +123,22 @@ public final class ChildExtensionResourceInterfacesImpl implements ChildExtensio
     }
 
     public void deleteById(String id) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceUri = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String topLevelArmResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "topLevelArmResourceName");
         if (topLevelArmResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'topLevelArmResources'.", id)));
         }
-        String childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String childExtensionResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "childExtensionResourceName");
         if (childExtensionResourceName == null) {
@@ -146,21 +149,22 @@ public final class ChildExtensionResourceInterfacesImpl implements ChildExtensio
     }
 
     public void deleteByIdWithResponse(String id, Context context) {
-        String resourceUri = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(id);
+        String resourceUri = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "resourceUri");
         if (resourceUri == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'resourceUri'.", id)));
         }
-        String topLevelArmResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String topLevelArmResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "topLevelArmResourceName");
         if (topLevelArmResourceName == null) {
             throw LOGGER.logExceptionAsError(new IllegalArgumentException(
                 String.format("The resource ID '%s' is not valid. Missing path segment 'topLevelArmResources'.", id)));
         }
-        String childExtensionResourceName = ResourceManagerUtils.getValueFromIdByParameterName(id,
+        String childExtensionResourceName = parsedId.getValueByParameterName(
             "/{resourceUri}/providers/TspTest.ArmResourceProvider/topLevelArmResources/{topLevelArmResourceName}/childExtensionResources/{childExtensionResourceName}",
             "childExtensionResourceName");
         if (childExtensionResourceName == null) {
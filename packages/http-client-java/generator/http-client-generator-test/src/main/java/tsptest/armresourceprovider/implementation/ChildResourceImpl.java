@@ -134,10 +134,10 @@ public final class ChildResourceImpl implements ChildResource, ChildResource.Def
         tsptest.armresourceprovider.ArmResourceProviderManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.topLevelArmResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "topLevelArmResources");
-        this.childResourceName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "childResources");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.resourceGroupName = parsedId.getValueByName("resourceGroups");
+        this.topLevelArmResourceName = parsedId.getValueByName("topLevelArmResources");
+        this.childResourceName = parsedId.getValueByName("childResources");
     }
 
     public ChildResource refresh() {
@@ -160,9 +160,9 @@ public final class CustomTemplateResourceImpl
         tsptest.armresourceprovider.ArmResourceProviderManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.customTemplateResourceName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "customTemplateResources");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.resourceGroupName = parsedId.getValueByName("resourceGroups");
+        this.customTemplateResourceName = parsedId.getValueByName("customTemplateResources");
     }
 
     public CustomTemplateResourceImpl withRegion(Region location) {
@@ -58,7 +58,7 @@ public final class ChildExtensionResourceListResult implements JsonSerializable<
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("value", this.value, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("value", this.value, JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", this.nextLink);
         return jsonWriter.writeEndObject();
     }
@@ -81,8 +81,7 @@ public final class ChildExtensionResourceListResult implements JsonSerializable<
                 reader.nextToken();
 
                 if ("value".equals(fieldName)) {
-                    List<ChildExtensionResourceInner> value
-                        = reader.readArray(reader1 -> ChildExtensionResourceInner.fromJson(reader1));
+                    List<ChildExtensionResourceInner> value = reader.readArray(ChildExtensionResourceInner::fromJson);
                     deserializedChildExtensionResourceListResult.value = value;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedChildExtensionResourceListResult.nextLink = reader.getString();
@@ -58,7 +58,7 @@ public final class ChildResourceListResult implements JsonSerializable<ChildReso
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("value", this.value, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("value", this.value, JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", this.nextLink);
         return jsonWriter.writeEndObject();
     }
@@ -80,7 +80,7 @@ public final class ChildResourceListResult implements JsonSerializable<ChildReso
                 reader.nextToken();
 
                 if ("value".equals(fieldName)) {
-                    List<ChildResourceInner> value = reader.readArray(reader1 -> ChildResourceInner.fromJson(reader1));
+                    List<ChildResourceInner> value = reader.readArray(ChildResourceInner::fromJson);
                     deserializedChildResourceListResult.value = value;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedChildResourceListResult.nextLink = reader.getString();
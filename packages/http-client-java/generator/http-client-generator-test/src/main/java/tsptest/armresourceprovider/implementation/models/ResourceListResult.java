@@ -58,7 +58,7 @@ public final class ResourceListResult implements JsonSerializable<ResourceListRe
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("value", this.value, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("value", this.value, JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", this.nextLink);
         return jsonWriter.writeEndObject();
     }
@@ -80,8 +80,7 @@ public final class ResourceListResult implements JsonSerializable<ResourceListRe
                 reader.nextToken();
 
                 if ("value".equals(fieldName)) {
-                    List<TopLevelArmResourceInner> value
-                        = reader.readArray(reader1 -> TopLevelArmResourceInner.fromJson(reader1));
+                    List<TopLevelArmResourceInner> value = reader.readArray(TopLevelArmResourceInner::fromJson);
                     deserializedResourceListResult.value = value;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedResourceListResult.nextLink = reader.getString();
@@ -54,7 +54,7 @@ public final class ChildResourceUpdate implements JsonSerializable<ChildResource
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeMapField("tags", this.tags, (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("tags", this.tags, JsonWriter::writeString);
         return jsonWriter.writeEndObject();
     }
 
@@ -74,7 +74,7 @@ public final class ChildResourceUpdate implements JsonSerializable<ChildResource
                 reader.nextToken();
 
                 if ("tags".equals(fieldName)) {
-                    Map<String, String> tags = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> tags = reader.readMap(JsonReader::getString);
                     deserializedChildResourceUpdate.tags = tags;
                 } else {
                     reader.skipChildren();
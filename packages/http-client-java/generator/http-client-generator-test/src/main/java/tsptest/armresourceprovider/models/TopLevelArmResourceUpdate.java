@@ -138,7 +138,7 @@ public final class TopLevelArmResourceUpdate implements JsonSerializable<TopLeve
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeMapField("tags", this.tags, (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("tags", this.tags, JsonWriter::writeString);
         jsonWriter.writeJsonField("properties", this.innerProperties);
         return jsonWriter.writeEndObject();
     }
@@ -159,7 +159,7 @@ public final class TopLevelArmResourceUpdate implements JsonSerializable<TopLeve
                 reader.nextToken();
 
                 if ("tags".equals(fieldName)) {
-                    Map<String, String> tags = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> tags = reader.readMap(JsonReader::getString);
                     deserializedTopLevelArmResourceUpdate.tags = tags;
                 } else if ("properties".equals(fieldName)) {
                     deserializedTopLevelArmResourceUpdate.innerProperties
@@ -114,6 +114,11 @@ public final class AnotherFishProperties implements JsonSerializable<AnotherFish
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (innerEyeProperties() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException(
+                    "Missing required property innerEyeProperties in model AnotherFishProperties"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeJsonField("eyeProperties", this.innerEyeProperties);
         return jsonWriter.writeEndObject();
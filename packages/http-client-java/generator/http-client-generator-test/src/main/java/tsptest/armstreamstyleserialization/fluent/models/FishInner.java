@@ -276,6 +276,15 @@ public class FishInner implements JsonSerializable<FishInner> {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (innerProperties() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property innerProperties in model FishInner"));
+        }
+        if (innerAnotherProperties() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException(
+                    "Missing required property innerAnotherProperties in model FishInner"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeIntField("age", this.age);
         jsonWriter.writeJsonField("properties", this.innerProperties);
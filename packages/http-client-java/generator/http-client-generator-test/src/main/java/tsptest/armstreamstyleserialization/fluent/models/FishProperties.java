@@ -114,6 +114,11 @@ public final class FishProperties implements JsonSerializable<FishProperties> {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (innerTailProperties() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException(
+                    "Missing required property innerTailProperties in model FishProperties"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeJsonField("tailProperties", this.innerTailProperties);
         return jsonWriter.writeEndObject();
@@ -70,6 +70,10 @@ public final class FunctionInner implements JsonSerializable<FunctionInner> {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (properties() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property properties in model FunctionInner"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeJsonField("properties", this.properties);
         return jsonWriter.writeEndObject();
@@ -91,8 +91,12 @@ public final class ListResultSummary2Inner extends ListResult2 {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (items() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property items in model ListResultSummary2Inner"));
+        }
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("items", items(), (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("items", items(), JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", nextLink());
         jsonWriter.writeStringField("summary", this.summary);
         return jsonWriter.writeEndObject();
@@ -115,7 +119,7 @@ public final class ListResultSummary2Inner extends ListResult2 {
                 reader.nextToken();
 
                 if ("items".equals(fieldName)) {
-                    List<Result> items = reader.readArray(reader1 -> Result.fromJson(reader1));
+                    List<Result> items = reader.readArray(Result::fromJson);
                     deserializedListResultSummary2Inner.items = items;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedListResultSummary2Inner.nextLink = reader.getString();
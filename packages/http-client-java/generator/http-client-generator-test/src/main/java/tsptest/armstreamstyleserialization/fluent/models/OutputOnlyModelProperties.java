@@ -78,6 +78,15 @@ public final class OutputOnlyModelProperties implements JsonSerializable<OutputO
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (title() == null) {
+            throw LOGGER.atError()
+                .log(
+                    new IllegalArgumentException("Missing required property title in model OutputOnlyModelProperties"));
+        }
+        if (dog() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property dog in model OutputOnlyModelProperties"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("title", this.title);
         jsonWriter.writeJsonField("dog", this.dog);
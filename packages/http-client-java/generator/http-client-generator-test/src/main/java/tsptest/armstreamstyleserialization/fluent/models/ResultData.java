@@ -70,6 +70,10 @@ public final class ResultData implements JsonSerializable<ResultData> {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (prop1() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property prop1 in model ResultData"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("prop1", this.prop1);
         return jsonWriter.writeEndObject();
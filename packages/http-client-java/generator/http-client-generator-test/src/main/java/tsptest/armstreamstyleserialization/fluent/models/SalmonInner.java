@@ -319,13 +319,22 @@ public final class SalmonInner extends FishInner {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (innerProperties() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property innerProperties in model SalmonInner"));
+        }
+        if (innerAnotherProperties() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException(
+                    "Missing required property innerAnotherProperties in model SalmonInner"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeIntField("age", age());
         jsonWriter.writeJsonField("properties", innerProperties());
         jsonWriter.writeJsonField("anotherProperties", innerAnotherProperties());
         jsonWriter.writeStringField("kind", this.kind);
-        jsonWriter.writeArrayField("friends", this.friends, (writer, element) -> writer.writeJson(element));
-        jsonWriter.writeMapField("hate", this.hate, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("friends", this.friends, JsonWriter::writeJson);
+        jsonWriter.writeMapField("hate", this.hate, JsonWriter::writeJson);
         jsonWriter.writeJsonField("partner", this.partner);
         return jsonWriter.writeEndObject();
     }
@@ -357,10 +366,10 @@ public final class SalmonInner extends FishInner {
                 } else if ("kind".equals(fieldName)) {
                     deserializedSalmonInner.kind = reader.getString();
                 } else if ("friends".equals(fieldName)) {
-                    List<FishInner> friends = reader.readArray(reader1 -> FishInner.fromJson(reader1));
+                    List<FishInner> friends = reader.readArray(FishInner::fromJson);
                     deserializedSalmonInner.friends = friends;
                 } else if ("hate".equals(fieldName)) {
-                    Map<String, FishInner> hate = reader.readMap(reader1 -> FishInner.fromJson(reader1));
+                    Map<String, FishInner> hate = reader.readMap(FishInner::fromJson);
                     deserializedSalmonInner.hate = hate;
                 } else if ("partner".equals(fieldName)) {
                     deserializedSalmonInner.partner = FishInner.fromJson(reader);
@@ -106,6 +106,10 @@ public final class TailProperties implements JsonSerializable<TailProperties> {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (requiredString() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property requiredString in model TailProperties"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeDoubleField("length", this.length);
         jsonWriter.writeStringField("requiredString", this.requiredString);
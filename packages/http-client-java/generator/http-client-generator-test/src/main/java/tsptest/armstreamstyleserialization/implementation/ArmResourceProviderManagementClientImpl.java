@@ -133,7 +133,7 @@ public final class ArmResourceProviderManagementClientImpl implements ArmResourc
     /**
      * The FishesClient object to access its operations.
      */
-    private final FishesClient fishes;
+    private volatile FishesClient fishes;
 
     /**
      * Gets the FishesClient object to access its operations.
@@ -141,13 +141,23 @@ public final class ArmResourceProviderManagementClientImpl implements ArmResourc
      * @return the FishesClient object.
      */
     public FishesClient getFishes() {
-        return this.fishes;
+        FishesClient localFishes = this.fishes;
+        if (localFishes == null) {
+            synchronized (this) {
+                localFishes = this.fishes;
+                if (localFishes == null) {
+                    localFishes = new FishesClientImpl(this);
+                    this.fishes = localFishes;
+                }
+            }
+        }
+        return localFishes;
     }
 
     /**
      * The TopLevelArmResourcesClient object to access its operations.
      */
-    private final TopLevelArmResourcesClient topLevelArmResources;
+    private volatile TopLevelArmResourcesClient topLevelArmResources;
 
     /**
      * Gets the TopLevelArmResourcesClient object to access its operations.
@@ -155,13 +165,23 @@ public final class ArmResourceProviderManagementClientImpl implements ArmResourc
      * @return the TopLevelArmResourcesClient object.
      */
     public TopLevelArmResourcesClient getTopLevelArmResources() {
-        return this.topLevelArmResources;
+        TopLevelArmResourcesClient localTopLevelArmResources = this.topLevelArmResources;
+        if (localTopLevelArmResources == null) {
+            synchronized (this) {
+                localTopLevelArmResources = this.topLevelArmResources;
+                if (localTopLevelArmResources == null) {
+                    localTopLevelArmResources = new TopLevelArmResourcesClientImpl(this);
+                    this.topLevelArmResources = localTopLevelArmResources;
+                }
+            }
+        }
+        return localTopLevelArmResources;
     }
 
     /**
      * The FunctionsClient object to access its operations.
      */
-    private final FunctionsClient functions;
+    private volatile FunctionsClient functions;
 
     /**
      * Gets the FunctionsClient object to access its operations.
@@ -169,13 +189,23 @@ public final class ArmResourceProviderManagementClientImpl implements ArmResourc
      * @return the FunctionsClient object.
      */
     public FunctionsClient getFunctions() {
-        return this.functions;
+        FunctionsClient localFunctions = this.functions;
+        if (localFunctions == null) {
+            synchronized (this) {
+                localFunctions = this.functions;
+                if (localFunctions == null) {
+                    localFunctions = new FunctionsClientImpl(this);
+                    this.functions = localFunctions;
+                }
+            }
+        }
+        return localFunctions;
     }
 
     /**
      * The PrioritiesClient object to access its operations.
      */
-    private final PrioritiesClient priorities;
+    private volatile PrioritiesClient priorities;
 
     /**
      * Gets the PrioritiesClient object to access its operations.
@@ -183,13 +213,23 @@ public final class ArmResourceProviderManagementClientImpl implements ArmResourc
      * @return the PrioritiesClient object.
      */
     public PrioritiesClient getPriorities() {
-        return this.priorities;
+        PrioritiesClient localPriorities = this.priorities;
+        if (localPriorities == null) {
+            synchronized (this) {
+                localPriorities = this.priorities;
+                if (localPriorities == null) {
+                    localPriorities = new PrioritiesClientImpl(this);
+                    this.priorities = localPriorities;
+                }
+            }
+        }
+        return localPriorities;
     }
 
     /**
      * The ItemsClient object to access its operations.
      */
-    private final ItemsClient items;
+    private volatile ItemsClient items;
 
     /**
      * Gets the ItemsClient object to access its operations.
@@ -197,7 +237,17 @@ public final class ArmResourceProviderManagementClientImpl implements ArmResourc
      * @return the ItemsClient object.
      */
     public ItemsClient getItems() {
-        return this.items;
+        ItemsClient localItems = this.items;
+        if (localItems == null) {
+            synchronized (this) {
+                localItems = this.items;
+                if (localItems == null) {
+                    localItems = new ItemsClientImpl(this);
+                    this.items = localItems;
+                }
+            }
+        }
+        return localItems;
     }
 
     /**
@@ -218,11 +268,6 @@ public final class ArmResourceProviderManagementClientImpl implements ArmResourc
         this.endpoint = endpoint;
         this.subscriptionId = subscriptionId;
         this.apiVersion = "2023-12-01-preview";
-        this.fishes = new FishesClientImpl(this);
-        this.topLevelArmResources = new TopLevelArmResourcesClientImpl(this);
-        this.functions = new FunctionsClientImpl(this);
-        this.priorities = new PrioritiesClientImpl(this);
-        this.items = new ItemsClientImpl(this);
     }
 
     /**
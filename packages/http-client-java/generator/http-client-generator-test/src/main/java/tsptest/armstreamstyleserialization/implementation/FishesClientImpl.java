@@ -186,8 +186,6 @@ public final class FishesClientImpl implements FishesClient {
         }
         if (fish == null) {
             return Mono.error(new IllegalArgumentException("Parameter fish is required and cannot be null."));
-        } else {
-            fish.validate();
         }
         final String contentType = "application/json";
         final String accept = "application/json";
@@ -231,8 +229,6 @@ public final class FishesClientImpl implements FishesClient {
         }
         if (fish == null) {
             throw LOGGER.atError().log(new IllegalArgumentException("Parameter fish is required and cannot be null."));
-        } else {
-            fish.validate();
         }
         final String contentType = "application/json";
         final String accept = "application/json";
@@ -88,8 +88,6 @@ public final class FunctionsClientImpl implements FunctionsClient {
         }
         if (function == null) {
             return Mono.error(new IllegalArgumentException("Parameter function is required and cannot be null."));
-        } else {
-            function.validate();
         }
         final String contentType = "application/json";
         final String accept = "application/json";
@@ -133,8 +131,6 @@ public final class FunctionsClientImpl implements FunctionsClient {
         if (function == null) {
             throw LOGGER.atError()
                 .log(new IllegalArgumentException("Parameter function is required and cannot be null."));
-        } else {
-            function.validate();
         }
         final String contentType = "application/json";
         final String accept = "application/json";
@@ -707,8 +707,6 @@ public final class ItemsClientImpl implements ItemsClient {
         }
         if (body == null) {
             return Mono.error(new IllegalArgumentException("Parameter body is required and cannot be null."));
-        } else {
-            body.validate();
         }
         final String contentType = "application/json";
         return FluxUtil.withContext(context -> service.post(this.client.getEndpoint(), contentType, body, context))
@@ -748,8 +746,6 @@ public final class ItemsClientImpl implements ItemsClient {
         }
         if (body == null) {
             throw LOGGER.atError().log(new IllegalArgumentException("Parameter body is required and cannot be null."));
-        } else {
-            body.validate();
         }
         final String contentType = "application/json";
         return service.postSync(this.client.getEndpoint(), contentType, body, context);
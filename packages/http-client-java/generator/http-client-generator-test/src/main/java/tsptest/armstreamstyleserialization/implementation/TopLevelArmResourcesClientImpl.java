@@ -119,8 +119,6 @@ public final class TopLevelArmResourcesClientImpl implements TopLevelArmResource
         }
         if (properties == null) {
             return Mono.error(new IllegalArgumentException("Parameter properties is required and cannot be null."));
-        } else {
-            properties.validate();
         }
         final String contentType = "application/json";
         final String accept = "application/json";
@@ -167,8 +165,6 @@ public final class TopLevelArmResourcesClientImpl implements TopLevelArmResource
         if (properties == null) {
             throw LOGGER.atError()
                 .log(new IllegalArgumentException("Parameter properties is required and cannot be null."));
-        } else {
-            properties.validate();
         }
         final String contentType = "application/json";
         final String accept = "application/json";
@@ -214,8 +210,6 @@ public final class TopLevelArmResourcesClientImpl implements TopLevelArmResource
         if (properties == null) {
             throw LOGGER.atError()
                 .log(new IllegalArgumentException("Parameter properties is required and cannot be null."));
-        } else {
-            properties.validate();
         }
         final String contentType = "application/json";
         final String accept = "application/json";
@@ -96,8 +96,12 @@ public class ListResult implements JsonSerializable<ListResult> {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (items() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property items in model ListResult"));
+        }
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("items", this.items, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("items", this.items, JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", this.nextLink);
         return jsonWriter.writeEndObject();
     }
@@ -119,7 +123,7 @@ public class ListResult implements JsonSerializable<ListResult> {
                 reader.nextToken();
 
                 if ("items".equals(fieldName)) {
-                    List<Result> items = reader.readArray(reader1 -> Result.fromJson(reader1));
+                    List<Result> items = reader.readArray(Result::fromJson);
                     deserializedListResult.items = items;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedListResult.nextLink = reader.getString();
@@ -90,8 +90,12 @@ public final class ListResultSummary extends ListResult {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (items() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property items in model ListResultSummary"));
+        }
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("items", items(), (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("items", items(), JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", nextLink());
         jsonWriter.writeStringField("summary", this.summary);
         return jsonWriter.writeEndObject();
@@ -114,7 +118,7 @@ public final class ListResultSummary extends ListResult {
                 reader.nextToken();
 
                 if ("items".equals(fieldName)) {
-                    List<Result> items = reader.readArray(reader1 -> Result.fromJson(reader1));
+                    List<Result> items = reader.readArray(Result::fromJson);
                     deserializedListResultSummary.items = items;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedListResultSummary.nextLink = reader.getString();
@@ -107,6 +107,11 @@ public final class AggregateFunctionProperties extends FunctionProperties {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (innerProperties() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException(
+                    "Missing required property innerProperties in model AggregateFunctionProperties"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeJsonField("properties", innerProperties());
         jsonWriter.writeStringField("kind", this.kind);
@@ -661,6 +661,67 @@ public final class Builtin implements JsonSerializable<Builtin> {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (string() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property string in model Builtin"));
+        }
+        if (bytes() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property bytes in model Builtin"));
+        }
+        if (decimal() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property decimal in model Builtin"));
+        }
+        if (duration() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property duration in model Builtin"));
+        }
+        if (date() == null) {
+            throw LOGGER.atError().log(new IllegalArgumentException("Missing required property date in model Builtin"));
+        }
+        if (dateTime() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property dateTime in model Builtin"));
+        }
+        if (stringList() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property stringList in model Builtin"));
+        }
+        if (bytesDict() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property bytesDict in model Builtin"));
+        }
+        if (url() == null) {
+            throw LOGGER.atError().log(new IllegalArgumentException("Missing required property url in model Builtin"));
+        }
+        if (nullableFloatDict() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property nullableFloatDict in model Builtin"));
+        }
+        if (encoding() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property encoding in model Builtin"));
+        }
+        if (uuid() == null) {
+            throw LOGGER.atError().log(new IllegalArgumentException("Missing required property uuid in model Builtin"));
+        }
+        if (unknown() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property unknown in model Builtin"));
+        }
+        if (unknownDict() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property unknownDict in model Builtin"));
+        }
+        if (unknownArray() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property unknownArray in model Builtin"));
+        }
+        if (unknownDictArray() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property unknownDictArray in model Builtin"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeBooleanField("boolean", this.booleanProperty);
         jsonWriter.writeStringField("string", this.string);
@@ -675,11 +736,10 @@ public final class Builtin implements JsonSerializable<Builtin> {
         jsonWriter.writeStringField("date", Objects.toString(this.date, null));
         jsonWriter.writeStringField("dateTime",
             this.dateTime == null ? null : DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(this.dateTime));
-        jsonWriter.writeArrayField("stringList", this.stringList, (writer, element) -> writer.writeString(element));
-        jsonWriter.writeMapField("bytesDict", this.bytesDict, (writer, element) -> writer.writeBinary(element));
+        jsonWriter.writeArrayField("stringList", this.stringList, JsonWriter::writeString);
+        jsonWriter.writeMapField("bytesDict", this.bytesDict, JsonWriter::writeBinary);
         jsonWriter.writeStringField("url", this.url);
-        jsonWriter.writeMapField("nullableFloatDict", this.nullableFloatDict,
-            (writer, element) -> writer.writeNumber(element));
+        jsonWriter.writeMapField("nullableFloatDict", this.nullableFloatDict, JsonWriter::writeNumber);
         jsonWriter.writeJsonField("encoding", this.encoding);
         jsonWriter.writeStringField("uuid", this.uuid);
         jsonWriter.writeFieldName("unknown");
@@ -754,10 +814,10 @@ public final class Builtin implements JsonSerializable<Builtin> {
                     deserializedBuiltin.dateTime = reader
                         .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
                 } else if ("stringList".equals(fieldName)) {
-                    List<String> stringList = reader.readArray(reader1 -> reader1.getString());
+                    List<String> stringList = reader.readArray(JsonReader::getString);
                     deserializedBuiltin.stringList = stringList;
                 } else if ("bytesDict".equals(fieldName)) {
-                    Map<String, byte[]> bytesDict = reader.readMap(reader1 -> reader1.getBinary());
+                    Map<String, byte[]> bytesDict = reader.readMap(JsonReader::getBinary);
                     deserializedBuiltin.bytesDict = bytesDict;
                 } else if ("url".equals(fieldName)) {
                     deserializedBuiltin.url = reader.getString();
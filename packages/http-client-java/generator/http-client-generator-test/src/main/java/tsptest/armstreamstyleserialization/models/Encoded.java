@@ -434,6 +434,19 @@ public final class Encoded implements JsonSerializable<Encoded> {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (timeInSecondsPrimitive() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property timeInSecondsPrimitive in model Encoded"));
+        }
+        if (timeInSecondsFractionPrimitive() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException(
+                    "Missing required property timeInSecondsFractionPrimitive in model Encoded"));
+        }
+        if (unixTimestampPrimitive() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property unixTimestampPrimitive in model Encoded"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeLongField("timeInSecondsPrimitive", this.timeInSecondsPrimitive);
         jsonWriter.writeDoubleField("timeInSecondsFractionPrimitive", this.timeInSecondsFractionPrimitive);
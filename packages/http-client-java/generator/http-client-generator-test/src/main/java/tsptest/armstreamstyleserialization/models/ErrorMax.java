@@ -174,12 +174,12 @@ public final class ErrorMax extends ManagementError {
                 } else if ("target".equals(fieldName)) {
                     deserializedErrorMax.target = reader.getString();
                 } else if ("additionalInfo".equals(fieldName)) {
-                    List<AdditionalInfo> additionalInfo = reader.readArray(reader1 -> AdditionalInfo.fromJson(reader1));
+                    List<AdditionalInfo> additionalInfo = reader.readArray(AdditionalInfo::fromJson);
                     deserializedErrorMax.additionalInfo = additionalInfo;
                 } else if ("additionalProperty".equals(fieldName)) {
                     deserializedErrorMax.additionalProperty = reader.getString();
                 } else if ("details".equals(fieldName)) {
-                    List<ErrorMax> details = reader.readArray(reader1 -> ErrorMax.fromJson(reader1));
+                    List<ErrorMax> details = reader.readArray(ErrorMax::fromJson);
                     deserializedErrorMax.details = details;
                 } else {
                     reader.skipChildren();
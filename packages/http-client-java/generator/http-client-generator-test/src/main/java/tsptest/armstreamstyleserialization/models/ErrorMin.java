@@ -171,10 +171,10 @@ public final class ErrorMin extends ManagementError {
                 } else if ("target".equals(fieldName)) {
                     deserializedErrorMin.target = reader.getString();
                 } else if ("details".equals(fieldName)) {
-                    List<ManagementError> details = reader.readArray(reader1 -> ManagementError.fromJson(reader1));
+                    List<ManagementError> details = reader.readArray(ManagementError::fromJson);
                     deserializedErrorMin.details = details;
                 } else if ("additionalInfo".equals(fieldName)) {
-                    List<AdditionalInfo> additionalInfo = reader.readArray(reader1 -> AdditionalInfo.fromJson(reader1));
+                    List<AdditionalInfo> additionalInfo = reader.readArray(AdditionalInfo::fromJson);
                     deserializedErrorMin.additionalInfo = additionalInfo;
                 } else if ("additionalProperty".equals(fieldName)) {
                     deserializedErrorMin.additionalProperty = reader.getString();
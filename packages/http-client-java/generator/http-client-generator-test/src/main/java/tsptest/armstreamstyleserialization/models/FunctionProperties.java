@@ -131,6 +131,11 @@ public class FunctionProperties implements JsonSerializable<FunctionProperties>
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (innerProperties() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException(
+                    "Missing required property innerProperties in model FunctionProperties"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeJsonField("properties", this.innerProperties);
         jsonWriter.writeStringField("kind", this.kind);
@@ -16,16 +16,25 @@ public final class FunctionsCreateFunctionHeaders {
     /*
      * The ETag property.
      */
-    private final String etag;
+    private String etag;
 
     // HttpHeaders containing the raw property values.
+    private final HttpHeaders rawHeaders;
+
+    private volatile boolean etagDecoded;
+
     /**
      * Creates an instance of FunctionsCreateFunctionHeaders class.
      * 
      * @param rawHeaders The raw HttpHeaders that will be used to create the property values.
      */
     public FunctionsCreateFunctionHeaders(HttpHeaders rawHeaders) {
+        this.rawHeaders = rawHeaders;
+    }
+
+    private void decodeEtag() {
         this.etag = rawHeaders.getValue(HttpHeaderName.ETAG);
+        this.etagDecoded = true;
     }
 
     /**
@@ -34,6 +43,9 @@ public final class FunctionsCreateFunctionHeaders {
      * @return the etag value.
      */
     public String etag() {
+        if (!this.etagDecoded) {
+            decodeEtag();
+        }
         return this.etag;
     }
 
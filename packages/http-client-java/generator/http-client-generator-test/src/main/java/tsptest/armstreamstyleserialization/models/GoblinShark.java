@@ -245,6 +245,15 @@ public final class GoblinShark extends Shark {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (innerProperties() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property innerProperties in model GoblinShark"));
+        }
+        if (innerAnotherProperties() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException(
+                    "Missing required property innerAnotherProperties in model GoblinShark"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("kind", this.kind);
         jsonWriter.writeIntField("age", age());
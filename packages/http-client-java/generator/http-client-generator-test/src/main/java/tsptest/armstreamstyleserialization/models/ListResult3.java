@@ -95,8 +95,12 @@ public final class ListResult3 implements JsonSerializable<ListResult3> {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (items() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property items in model ListResult3"));
+        }
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("items", this.items, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("items", this.items, JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", this.nextLink);
         return jsonWriter.writeEndObject();
     }
@@ -118,7 +122,7 @@ public final class ListResult3 implements JsonSerializable<ListResult3> {
                 reader.nextToken();
 
                 if ("items".equals(fieldName)) {
-                    List<Result> items = reader.readArray(reader1 -> Result.fromJson(reader1));
+                    List<Result> items = reader.readArray(Result::fromJson);
                     deserializedListResult3.items = items;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedListResult3.nextLink = reader.getString();
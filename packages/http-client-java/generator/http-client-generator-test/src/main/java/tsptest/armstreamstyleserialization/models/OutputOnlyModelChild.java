@@ -146,6 +146,19 @@ public final class OutputOnlyModelChild extends OutputOnlyModelInner {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (childName() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property childName in model OutputOnlyModelChild"));
+        }
+        if (name() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property name in model OutputOnlyModelChild"));
+        }
+        if (innerProperties() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException(
+                    "Missing required property innerProperties in model OutputOnlyModelChild"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("name", name());
         jsonWriter.writeJsonField("properties", innerProperties());
@@ -12,28 +12,31 @@ import com.azure.json.JsonWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for Priority.
  */
 public final class Priority implements ExpandableEnum<Integer>, JsonSerializable<Priority> {
-    private static final Map<Integer, Priority> VALUES = new ConcurrentHashMap<>();
-
-    private static final Function<Integer, Priority> NEW_INSTANCE = Priority::new;
+    private static final Map<Integer, Priority> VALUES = new HashMap<>();
 
     /**
      * high priority.
      */
-    public static final Priority HIGH = fromValue(0);
+    public static final Priority HIGH = addKnownValue(0);
 
     /**
      * low priority.
      */
-    public static final Priority LOW = fromValue(1);
+    public static final Priority LOW = addKnownValue(1);
+
+    private static Priority addKnownValue(Integer value) {
+        Priority knownValue = new Priority(value);
+        VALUES.put(value, knownValue);
+        return knownValue;
+    }
 
     private final Integer value;
 
@@ -42,7 +45,7 @@ public final class Priority implements ExpandableEnum<Integer>, JsonSerializable
     }
 
     /**
-     * Creates or finds a Priority.
+     * Finds a known Priority, or creates a new Priority if the value is not known.
      * 
      * @param value a value to look for.
      * @return the corresponding Priority.
@@ -52,7 +55,8 @@ public final class Priority implements ExpandableEnum<Integer>, JsonSerializable
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        Priority knownValue = VALUES.get(value);
+        return knownValue != null ? knownValue : new Priority(value);
     }
 
     /**
@@ -110,7 +114,7 @@ public final class Priority implements ExpandableEnum<Integer>, JsonSerializable
 
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj || (obj instanceof Priority && Objects.equals(this.value, ((Priority) obj).value));
     }
 
     @Override
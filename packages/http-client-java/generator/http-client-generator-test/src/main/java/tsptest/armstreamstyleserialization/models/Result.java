@@ -102,6 +102,9 @@ public final class Result implements JsonSerializable<Result> {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (name() == null) {
+            throw LOGGER.atError().log(new IllegalArgumentException("Missing required property name in model Result"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("name", this.name);
         return jsonWriter.writeEndObject();
@@ -274,6 +274,18 @@ public final class SawShark extends Shark {
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (dna() == null) {
+            throw LOGGER.atError().log(new IllegalArgumentException("Missing required property dna in model SawShark"));
+        }
+        if (innerProperties() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException("Missing required property innerProperties in model SawShark"));
+        }
+        if (innerAnotherProperties() == null) {
+            throw LOGGER.atError()
+                .log(
+                    new IllegalArgumentException("Missing required property innerAnotherProperties in model SawShark"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("kind", this.kind);
         jsonWriter.writeJsonField("properties", innerProperties());
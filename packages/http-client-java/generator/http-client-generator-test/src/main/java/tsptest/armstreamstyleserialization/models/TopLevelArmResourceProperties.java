@@ -73,6 +73,11 @@ public final class TopLevelArmResourceProperties implements JsonSerializable<Top
      */
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        if (builtin() == null) {
+            throw LOGGER.atError()
+                .log(new IllegalArgumentException(
+                    "Missing required property builtin in model TopLevelArmResourceProperties"));
+        }
         jsonWriter.writeStartObject();
         jsonWriter.writeJsonField("builtin", this.builtin);
         jsonWriter.writeStringField("description", this.description);
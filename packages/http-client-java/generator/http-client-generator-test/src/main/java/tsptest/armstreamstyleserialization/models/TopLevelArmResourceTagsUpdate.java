@@ -62,7 +62,7 @@ public final class TopLevelArmResourceTagsUpdate implements JsonSerializable<Top
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeMapField("tags", this.tags, (writer, element) -> writer.writeString(element));
+        jsonWriter.writeMapField("tags", this.tags, JsonWriter::writeString);
         return jsonWriter.writeEndObject();
     }
 
@@ -83,7 +83,7 @@ public final class TopLevelArmResourceTagsUpdate implements JsonSerializable<Top
                 reader.nextToken();
 
                 if ("tags".equals(fieldName)) {
-                    Map<String, String> tags = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> tags = reader.readMap(JsonReader::getString);
                     deserializedTopLevelArmResourceTagsUpdate.tags = tags;
                 } else {
                     reader.skipChildren();
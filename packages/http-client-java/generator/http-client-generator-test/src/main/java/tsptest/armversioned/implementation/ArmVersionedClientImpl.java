@@ -129,7 +129,7 @@ public final class ArmVersionedClientImpl implements ArmVersionedClient {
     /**
      * The TopLevelArmResourcesClient object to access its operations.
      */
-    private final TopLevelArmResourcesClient topLevelArmResources;
+    private volatile TopLevelArmResourcesClient topLevelArmResources;
 
     /**
      * Gets the TopLevelArmResourcesClient object to access its operations.
@@ -137,7 +137,17 @@ public final class ArmVersionedClientImpl implements ArmVersionedClient {
      * @return the TopLevelArmResourcesClient object.
      */
     public TopLevelArmResourcesClient getTopLevelArmResources() {
-        return this.topLevelArmResources;
+        TopLevelArmResourcesClient localTopLevelArmResources = this.topLevelArmResources;
+        if (localTopLevelArmResources == null) {
+            synchronized (this) {
+                localTopLevelArmResources = this.topLevelArmResources;
+                if (localTopLevelArmResources == null) {
+                    localTopLevelArmResources = new TopLevelArmResourcesClientImpl(this);
+                    this.topLevelArmResources = localTopLevelArmResources;
+                }
+            }
+        }
+        return localTopLevelArmResources;
     }
 
     /**
@@ -158,7 +168,6 @@ public final class ArmVersionedClientImpl implements ArmVersionedClient {
         this.endpoint = endpoint;
         this.subscriptionId = subscriptionId;
         this.apiVersion = "2024-12-01";
-        this.topLevelArmResources = new TopLevelArmResourcesClientImpl(this);
     }
 
     /**
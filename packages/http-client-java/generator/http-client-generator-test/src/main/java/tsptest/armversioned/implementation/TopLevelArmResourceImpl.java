@@ -140,9 +140,9 @@ public final class TopLevelArmResourceImpl
         tsptest.armversioned.ArmVersionedManager serviceManager) {
         this.innerObject = innerObject;
         this.serviceManager = serviceManager;
-        this.resourceGroupName = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "resourceGroups");
-        this.topLevelArmResourcePropertiesName
-            = ResourceManagerUtils.getValueFromIdByName(innerObject.id(), "topLevelArmResources");
+        ResourceManagerUtils.ResourceId parsedId = ResourceManagerUtils.ResourceId.parse(innerObject.id());
+        this.resourceGroupName = parsedId.getValueByName("resourceGroups");
+        this.topLevelArmResourcePropertiesName = parsedId.getValueByName("topLevelArmResources");
     }
 
     public TopLevelArmResource refresh() {
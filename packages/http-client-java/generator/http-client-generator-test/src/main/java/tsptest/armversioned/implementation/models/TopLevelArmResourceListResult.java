@@ -58,7 +58,7 @@ public final class TopLevelArmResourceListResult implements JsonSerializable<Top
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("value", this.value, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("value", this.value, JsonWriter::writeJson);
         jsonWriter.writeStringField("nextLink", this.nextLink);
         return jsonWriter.writeEndObject();
     }
@@ -81,8 +81,7 @@ public final class TopLevelArmResourceListResult implements JsonSerializable<Top
                 reader.nextToken();
 
                 if ("value".equals(fieldName)) {
-                    List<TopLevelArmResourceInner> value
-                        = reader.readArray(reader1 -> TopLevelArmResourceInner.fromJson(reader1));
+                    List<TopLevelArmResourceInner> value = reader.readArray(TopLevelArmResourceInner::fromJson);
                     deserializedTopLevelArmResourceListResult.value = value;
                 } else if ("nextLink".equals(fieldName)) {
                     deserializedTopLevelArmResourceListResult.nextLink = reader.getString();
@@ -21,6 +21,7 @@ import com.azure.core.util.FluxUtil;
 import java.time.OffsetDateTime;
 import reactor.core.publisher.Mono;
 import tsptest.builtin.implementation.BuiltinOpsImpl;
+import tsptest.builtin.implementation.JsonSerializableHelper;
 import tsptest.builtin.models.Builtin;
 
 /**
@@ -221,7 +222,7 @@ public final class BuiltinAsyncClient {
             requestOptions.addQueryParam("query-opt-encoded", queryParamOptionalEncoded, true);
         }
         return readWithResponse(queryParam, queryParamEncoded, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Builtin.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Builtin::fromJson));
     }
 
     /**
@@ -243,7 +244,7 @@ public final class BuiltinAsyncClient {
         // Generated convenience method for readWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return readWithResponse(queryParam, queryParamEncoded, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Builtin.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Builtin::fromJson));
     }
 
     /**
@@ -263,6 +264,6 @@ public final class BuiltinAsyncClient {
     public Mono<Void> write(Builtin body) {
         // Generated convenience method for writeWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return writeWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return writeWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 }
@@ -19,6 +19,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.DateTimeRfc1123;
 import java.time.OffsetDateTime;
 import tsptest.builtin.implementation.BuiltinOpsImpl;
+import tsptest.builtin.implementation.JsonSerializableHelper;
 import tsptest.builtin.models.Builtin;
 
 /**
@@ -218,7 +219,8 @@ public final class BuiltinClient {
         if (queryParamOptionalEncoded != null) {
             requestOptions.addQueryParam("query-opt-encoded", queryParamOptionalEncoded, true);
         }
-        return readWithResponse(queryParam, queryParamEncoded, requestOptions).getValue().toObject(Builtin.class);
+        return JsonSerializableHelper.fromBinaryData(
+            readWithResponse(queryParam, queryParamEncoded, requestOptions).getValue(), Builtin::fromJson);
     }
 
     /**
@@ -239,7 +241,8 @@ public final class BuiltinClient {
     public Builtin read(String queryParam, String queryParamEncoded) {
         // Generated convenience method for readWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return readWithResponse(queryParam, queryParamEncoded, requestOptions).getValue().toObject(Builtin.class);
+        return JsonSerializableHelper.fromBinaryData(
+            readWithResponse(queryParam, queryParamEncoded, requestOptions).getValue(), Builtin::fromJson);
     }
 
     /**
@@ -258,6 +261,6 @@ public final class BuiltinClient {
     public void write(Builtin body) {
         // Generated convenience method for writeWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        writeWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        writeWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
@@ -381,11 +381,10 @@ public final class Builtin implements JsonSerializable<Builtin> {
         jsonWriter.writeStringField("date", Objects.toString(this.date, null));
         jsonWriter.writeStringField("dateTime",
             this.dateTime == null ? null : DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(this.dateTime));
-        jsonWriter.writeArrayField("stringList", this.stringList, (writer, element) -> writer.writeString(element));
-        jsonWriter.writeMapField("bytesDict", this.bytesDict, (writer, element) -> writer.writeBinary(element));
+        jsonWriter.writeArrayField("stringList", this.stringList, JsonWriter::writeString);
+        jsonWriter.writeMapField("bytesDict", this.bytesDict, JsonWriter::writeBinary);
         jsonWriter.writeStringField("url", this.url);
-        jsonWriter.writeMapField("nullableFloatDict", this.nullableFloatDict,
-            (writer, element) -> writer.writeNumber(element));
+        jsonWriter.writeMapField("nullableFloatDict", this.nullableFloatDict, JsonWriter::writeNumber);
         jsonWriter.writeJsonField("encoded", this.encoded);
         jsonWriter.writeStringField("uuid", this.uuid);
         return jsonWriter.writeEndObject();
@@ -451,9 +450,9 @@ public final class Builtin implements JsonSerializable<Builtin> {
                     dateTime = reader
                         .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
                 } else if ("stringList".equals(fieldName)) {
-                    stringList = reader.readArray(reader1 -> reader1.getString());
+                    stringList = reader.readArray(JsonReader::getString);
                 } else if ("bytesDict".equals(fieldName)) {
-                    bytesDict = reader.readMap(reader1 -> reader1.getBinary());
+                    bytesDict = reader.readMap(JsonReader::getBinary);
                 } else if ("url".equals(fieldName)) {
                     url = reader.getString();
                 } else if ("nullableFloatDict".equals(fieldName)) {
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import tsptest.clientoption.implementation.ClientRequiredsImpl;
+import tsptest.clientoption.implementation.JsonSerializableHelper;
 import tsptest.clientoption.models.ClientRequiredRequest;
 
 /**
@@ -84,6 +85,7 @@ public final class ClientOptionAsyncClient {
     public Mono<Void> post(String filter, ClientRequiredRequest body) {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postWithResponse(filter, BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return postWithResponse(filter, JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import tsptest.clientoption.implementation.ClientRequiredsImpl;
+import tsptest.clientoption.implementation.JsonSerializableHelper;
 import tsptest.clientoption.models.ClientRequiredRequest;
 
 /**
@@ -81,6 +82,6 @@ public final class ClientOptionClient {
     public void post(String filter, ClientRequiredRequest body) {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        postWithResponse(filter, BinaryData.fromObject(body), requestOptions).getValue();
+        postWithResponse(filter, JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
@@ -60,7 +60,7 @@ public final class ClientOptionClientImpl {
     /**
      * The ClientRequiredsImpl object to access its operations.
      */
-    private final ClientRequiredsImpl clientRequireds;
+    private volatile ClientRequiredsImpl clientRequireds;
 
     /**
      * Gets the ClientRequiredsImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class ClientOptionClientImpl {
      * @return the ClientRequiredsImpl object.
      */
     public ClientRequiredsImpl getClientRequireds() {
-        return this.clientRequireds;
+        ClientRequiredsImpl localClientRequireds = this.clientRequireds;
+        if (localClientRequireds == null) {
+            synchronized (this) {
+                localClientRequireds = this.clientRequireds;
+                if (localClientRequireds == null) {
+                    localClientRequireds = new ClientRequiredsImpl(this);
+                    this.clientRequireds = localClientRequireds;
+                }
+            }
+        }
+        return localClientRequireds;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class ClientOptionClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.clientRequireds = new ClientRequiredsImpl(this);
     }
 }
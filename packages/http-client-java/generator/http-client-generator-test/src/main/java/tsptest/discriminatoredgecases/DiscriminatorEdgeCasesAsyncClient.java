@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import tsptest.discriminatoredgecases.implementation.DiscriminatorEdgeCasesClientImpl;
+import tsptest.discriminatoredgecases.implementation.JsonSerializableHelper;
 import tsptest.discriminatoredgecases.models.ChildWithAnotherDiscriminator;
 import tsptest.discriminatoredgecases.models.ChildWithRequiredPropertyAsDiscriminator;
 import tsptest.discriminatoredgecases.models.ModelWithDiscriminatorNoSubtypes;
@@ -137,7 +138,8 @@ public final class DiscriminatorEdgeCasesAsyncClient {
         // Generated convenience method for getChildRequiredDiscrimWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getChildRequiredDiscrimWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ChildWithRequiredPropertyAsDiscriminator.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                ChildWithRequiredPropertyAsDiscriminator::fromJson));
     }
 
     /**
@@ -156,7 +158,8 @@ public final class DiscriminatorEdgeCasesAsyncClient {
         // Generated convenience method for getChildNewDiscrimWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getChildNewDiscrimWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ChildWithAnotherDiscriminator.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                ChildWithAnotherDiscriminator::fromJson));
     }
 
     /**
@@ -175,6 +178,7 @@ public final class DiscriminatorEdgeCasesAsyncClient {
         // Generated convenience method for getNoSubtypesWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getNoSubtypesWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ModelWithDiscriminatorNoSubtypes.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                ModelWithDiscriminatorNoSubtypes::fromJson));
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import tsptest.discriminatoredgecases.implementation.DiscriminatorEdgeCasesClientImpl;
+import tsptest.discriminatoredgecases.implementation.JsonSerializableHelper;
 import tsptest.discriminatoredgecases.models.ChildWithAnotherDiscriminator;
 import tsptest.discriminatoredgecases.models.ChildWithRequiredPropertyAsDiscriminator;
 import tsptest.discriminatoredgecases.models.ModelWithDiscriminatorNoSubtypes;
@@ -134,8 +135,8 @@ public final class DiscriminatorEdgeCasesClient {
     public ChildWithRequiredPropertyAsDiscriminator getChildRequiredDiscrim() {
         // Generated convenience method for getChildRequiredDiscrimWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getChildRequiredDiscrimWithResponse(requestOptions).getValue()
-            .toObject(ChildWithRequiredPropertyAsDiscriminator.class);
+        return JsonSerializableHelper.fromBinaryData(getChildRequiredDiscrimWithResponse(requestOptions).getValue(),
+            ChildWithRequiredPropertyAsDiscriminator::fromJson);
     }
 
     /**
@@ -153,7 +154,8 @@ public final class DiscriminatorEdgeCasesClient {
     public ChildWithAnotherDiscriminator getChildNewDiscrim() {
         // Generated convenience method for getChildNewDiscrimWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getChildNewDiscrimWithResponse(requestOptions).getValue().toObject(ChildWithAnotherDiscriminator.class);
+        return JsonSerializableHelper.fromBinaryData(getChildNewDiscrimWithResponse(requestOptions).getValue(),
+            ChildWithAnotherDiscriminator::fromJson);
     }
 
     /**
@@ -171,6 +173,7 @@ public final class DiscriminatorEdgeCasesClient {
     public ModelWithDiscriminatorNoSubtypes getNoSubtypes() {
         // Generated convenience method for getNoSubtypesWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getNoSubtypesWithResponse(requestOptions).getValue().toObject(ModelWithDiscriminatorNoSubtypes.class);
+        return JsonSerializableHelper.fromBinaryData(getNoSubtypesWithResponse(requestOptions).getValue(),
+            ModelWithDiscriminatorNoSubtypes::fromJson);
     }
 }
@@ -57,6 +57,13 @@ public final class EnumNestedDiscriminatorClientBuilder implements HttpTrait<Enu
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the EnumNestedDiscriminatorClientBuilder.
      */
@@ -77,6 +84,7 @@ public final class EnumNestedDiscriminatorClientBuilder implements HttpTrait<Enu
     @Generated
     @Override
     public EnumNestedDiscriminatorClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -93,6 +101,7 @@ public final class EnumNestedDiscriminatorClientBuilder implements HttpTrait<Enu
     @Generated
     @Override
     public EnumNestedDiscriminatorClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -112,6 +121,7 @@ public final class EnumNestedDiscriminatorClientBuilder implements HttpTrait<Enu
     @Generated
     @Override
     public EnumNestedDiscriminatorClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -128,6 +138,7 @@ public final class EnumNestedDiscriminatorClientBuilder implements HttpTrait<Enu
     @Generated
     @Override
     public EnumNestedDiscriminatorClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -144,6 +155,7 @@ public final class EnumNestedDiscriminatorClientBuilder implements HttpTrait<Enu
     @Generated
     @Override
     public EnumNestedDiscriminatorClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -154,6 +166,7 @@ public final class EnumNestedDiscriminatorClientBuilder implements HttpTrait<Enu
     @Generated
     @Override
     public EnumNestedDiscriminatorClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -171,6 +184,7 @@ public final class EnumNestedDiscriminatorClientBuilder implements HttpTrait<Enu
     @Generated
     @Override
     public EnumNestedDiscriminatorClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -187,6 +201,7 @@ public final class EnumNestedDiscriminatorClientBuilder implements HttpTrait<Enu
     @Generated
     @Override
     public EnumNestedDiscriminatorClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -205,6 +220,7 @@ public final class EnumNestedDiscriminatorClientBuilder implements HttpTrait<Enu
      */
     @Generated
     public EnumNestedDiscriminatorClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -217,7 +233,7 @@ public final class EnumNestedDiscriminatorClientBuilder implements HttpTrait<Enu
     @Generated
     private EnumNestedDiscriminatorClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         EnumNestedDiscriminatorClientImpl client = new EnumNestedDiscriminatorClientImpl(localPipeline,
             JacksonAdapter.createDefaultSerializerAdapter(), this.endpoint);
         return client;
@@ -265,6 +281,15 @@ public final class EnumNestedDiscriminatorClientBuilder implements HttpTrait<Enu
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of EnumNestedDiscriminatorAsyncClient class.
      * 
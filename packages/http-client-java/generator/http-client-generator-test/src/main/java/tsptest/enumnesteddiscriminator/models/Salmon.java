@@ -139,8 +139,8 @@ public final class Salmon extends Fish {
         jsonWriter.writeStartObject();
         jsonWriter.writeIntField("age", getAge());
         jsonWriter.writeStringField("kind", this.kind == null ? null : this.kind.toString());
-        jsonWriter.writeArrayField("friends", this.friends, (writer, element) -> writer.writeJson(element));
-        jsonWriter.writeMapField("hate", this.hate, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("friends", this.friends, JsonWriter::writeJson);
+        jsonWriter.writeMapField("hate", this.hate, JsonWriter::writeJson);
         jsonWriter.writeJsonField("partner", this.partner);
         return jsonWriter.writeEndObject();
     }
@@ -171,9 +171,9 @@ public final class Salmon extends Fish {
                 } else if ("kind".equals(fieldName)) {
                     kind = FishKind.fromString(reader.getString());
                 } else if ("friends".equals(fieldName)) {
-                    friends = reader.readArray(reader1 -> Fish.fromJson(reader1));
+                    friends = reader.readArray(Fish::fromJson);
                 } else if ("hate".equals(fieldName)) {
-                    hate = reader.readMap(reader1 -> Fish.fromJson(reader1));
+                    hate = reader.readMap(Fish::fromJson);
                 } else if ("partner".equals(fieldName)) {
                     partner = Fish.fromJson(reader);
                 } else {
@@ -16,12 +16,11 @@ import com.azure.core.http.HttpHeaderName;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
-import com.azure.core.util.serializer.CollectionFormat;
-import com.azure.core.util.serializer.JacksonAdapter;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import tsptest.enumservice.implementation.EnumServiceClientImpl;
+import tsptest.enumservice.implementation.JsonSerializableHelper;
 import tsptest.enumservice.models.Color;
 import tsptest.enumservice.models.ColorModel;
 import tsptest.enumservice.models.Operation;
@@ -555,7 +554,8 @@ public final class EnumServiceClient {
     public Operation setColorModel(ColorModel color) {
         // Generated convenience method for setColorModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return setColorModelWithResponse(color.toString(), requestOptions).getValue().toObject(Operation.class);
+        return JsonSerializableHelper.fromBinaryData(
+            setColorModelWithResponse(color.toString(), requestOptions).getValue(), Operation::fromJson);
     }
 
     /**
@@ -575,8 +575,8 @@ public final class EnumServiceClient {
     public Operation setPriority(Priority priority) {
         // Generated convenience method for setPriorityWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return setPriorityWithResponse(String.valueOf(priority.toInt()), requestOptions).getValue()
-            .toObject(Operation.class);
+        return JsonSerializableHelper.fromBinaryData(
+            setPriorityWithResponse(String.valueOf(priority.toInt()), requestOptions).getValue(), Operation::fromJson);
     }
 
     /**
@@ -594,7 +594,8 @@ public final class EnumServiceClient {
     public Operation getRunningOperation() {
         // Generated convenience method for getRunningOperationWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getRunningOperationWithResponse(requestOptions).getValue().toObject(Operation.class);
+        return JsonSerializableHelper.fromBinaryData(getRunningOperationWithResponse(requestOptions).getValue(),
+            Operation::fromJson);
     }
 
     /**
@@ -614,7 +615,8 @@ public final class EnumServiceClient {
     public Operation getOperation(OperationStateValues state) {
         // Generated convenience method for getOperationWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getOperationWithResponse(state.toString(), requestOptions).getValue().toObject(Operation.class);
+        return JsonSerializableHelper
+            .fromBinaryData(getOperationWithResponse(state.toString(), requestOptions).getValue(), Operation::fromJson);
     }
 
     /**
@@ -784,7 +786,9 @@ public final class EnumServiceClient {
         RequestOptions requestOptions = new RequestOptions();
         if (intArrayOpt != null) {
             requestOptions.addQueryParam("intArrayOpt",
-                JacksonAdapter.createDefaultSerializerAdapter().serializeIterable(intArrayOpt, CollectionFormat.CSV),
+                intArrayOpt.stream()
+                    .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+                    .collect(Collectors.joining(",")),
                 false);
         }
         setIntArrayWithResponse(intArray, requestOptions).getValue();
@@ -30,7 +30,6 @@ import com.azure.core.http.rest.RestProxy;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.Context;
 import com.azure.core.util.FluxUtil;
-import com.azure.core.util.serializer.CollectionFormat;
 import com.azure.core.util.serializer.JacksonAdapter;
 import com.azure.core.util.serializer.SerializerAdapter;
 import java.util.List;
@@ -1037,8 +1036,9 @@ public final class EnumServiceClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Mono<Response<Void>> setIntArrayWithResponseAsync(List<Integer> intArray, RequestOptions requestOptions) {
-        String intArrayConverted
-            = JacksonAdapter.createDefaultSerializerAdapter().serializeIterable(intArray, CollectionFormat.CSV);
+        String intArrayConverted = intArray.stream()
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
         return FluxUtil.withContext(
             context -> service.setIntArray(this.getEndpoint(), intArrayConverted, requestOptions, context));
     }
@@ -1064,8 +1064,9 @@ public final class EnumServiceClientImpl {
      */
     @ServiceMethod(returns = ReturnType.SINGLE)
     public Response<Void> setIntArrayWithResponse(List<Integer> intArray, RequestOptions requestOptions) {
-        String intArrayConverted
-            = JacksonAdapter.createDefaultSerializerAdapter().serializeIterable(intArray, CollectionFormat.CSV);
+        String intArrayConverted = intArray.stream()
+            .map(paramItemValue -> Objects.toString(paramItemValue, ""))
+            .collect(Collectors.joining(","));
         return service.setIntArraySync(this.getEndpoint(), intArrayConverted, requestOptions, Context.NONE);
     }
 
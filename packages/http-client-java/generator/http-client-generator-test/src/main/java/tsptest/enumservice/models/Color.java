@@ -4,6 +4,10 @@
 
 package tsptest.enumservice.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for Color.
  */
@@ -32,6 +36,17 @@ public enum Color {
         this.value = value;
     }
 
+    private static final Map<String, Color> VALUES = new HashMap<>();
+
+    private static final Map<String, Color> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (Color item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a Color instance.
      * 
@@ -42,13 +57,8 @@ public enum Color {
         if (value == null) {
             return null;
         }
-        Color[] items = Color.values();
-        for (Color item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        Color item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
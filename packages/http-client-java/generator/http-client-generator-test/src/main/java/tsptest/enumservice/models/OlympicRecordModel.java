@@ -13,30 +13,34 @@ import com.azure.json.JsonWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for OlympicRecordModel.
  */
 public final class OlympicRecordModel implements ExpandableEnum<Double>, JsonSerializable<OlympicRecordModel> {
-    private static final Map<Double, OlympicRecordModel> VALUES = new ConcurrentHashMap<>();
-
-    private static final Function<Double, OlympicRecordModel> NEW_INSTANCE = OlympicRecordModel::new;
+    private static final Map<Double, OlympicRecordModel> VALUES = new HashMap<>();
 
     /**
      * Static value 9.58 for OlympicRecordModel.
      */
     @Generated
-    public static final OlympicRecordModel OLYMPIC_100_METERS = fromValue(9.58);
+    public static final OlympicRecordModel OLYMPIC_100_METERS = addKnownValue(9.58);
 
     /**
      * Static value 19.3 for OlympicRecordModel.
      */
     @Generated
-    public static final OlympicRecordModel OLYMPIC_200_METERS = fromValue(19.3);
+    public static final OlympicRecordModel OLYMPIC_200_METERS = addKnownValue(19.3);
+
+    @Generated
+    private static OlympicRecordModel addKnownValue(Double value) {
+        OlympicRecordModel knownValue = new OlympicRecordModel(value);
+        VALUES.put(value, knownValue);
+        return knownValue;
+    }
 
     private final Double value;
 
@@ -45,7 +49,7 @@ public final class OlympicRecordModel implements ExpandableEnum<Double>, JsonSer
     }
 
     /**
-     * Creates or finds a OlympicRecordModel.
+     * Finds a known OlympicRecordModel, or creates a new OlympicRecordModel if the value is not known.
      * 
      * @param value a value to look for.
      * @return the corresponding OlympicRecordModel.
@@ -56,7 +60,8 @@ public final class OlympicRecordModel implements ExpandableEnum<Double>, JsonSer
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        OlympicRecordModel knownValue = VALUES.get(value);
+        return knownValue != null ? knownValue : new OlympicRecordModel(value);
     }
 
     /**
@@ -120,7 +125,8 @@ public final class OlympicRecordModel implements ExpandableEnum<Double>, JsonSer
     @Generated
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj
+            || (obj instanceof OlympicRecordModel && Objects.equals(this.value, ((OlympicRecordModel) obj).value));
     }
 
     @Generated
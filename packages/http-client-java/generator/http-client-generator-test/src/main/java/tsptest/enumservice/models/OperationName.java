@@ -4,6 +4,10 @@
 
 package tsptest.enumservice.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for OperationName.
  */
@@ -27,6 +31,17 @@ public enum OperationName {
         this.value = value;
     }
 
+    private static final Map<String, OperationName> VALUES = new HashMap<>();
+
+    private static final Map<String, OperationName> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (OperationName item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a OperationName instance.
      * 
@@ -37,13 +52,8 @@ public enum OperationName {
         if (value == null) {
             return null;
         }
-        OperationName[] items = OperationName.values();
-        for (OperationName item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        OperationName item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -4,6 +4,10 @@
 
 package tsptest.enumservice.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for OperationStateValues.
  */
@@ -32,6 +36,17 @@ public enum OperationStateValues {
         this.value = value;
     }
 
+    private static final Map<String, OperationStateValues> VALUES = new HashMap<>();
+
+    private static final Map<String, OperationStateValues> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (OperationStateValues item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a OperationStateValues instance.
      * 
@@ -42,13 +57,8 @@ public enum OperationStateValues {
         if (value == null) {
             return null;
         }
-        OperationStateValues[] items = OperationStateValues.values();
-        for (OperationStateValues item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        OperationStateValues item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
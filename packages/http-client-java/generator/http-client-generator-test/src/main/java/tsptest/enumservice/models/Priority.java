@@ -27,6 +27,8 @@ public enum Priority {
         this.value = value;
     }
 
+    private static final Priority[] VALUES = values();
+
     /**
      * Parses a serialized value to a Priority instance.
      * 
@@ -34,8 +36,7 @@ public enum Priority {
      * @return the parsed Priority object, or null if unable to parse.
      */
     public static Priority fromInt(int value) {
-        Priority[] items = Priority.values();
-        for (Priority item : items) {
+        for (Priority item : VALUES) {
             if (item.toInt() == value) {
                 return item;
             }
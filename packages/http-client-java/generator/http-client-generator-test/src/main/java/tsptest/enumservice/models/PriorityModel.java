@@ -13,30 +13,34 @@ import com.azure.json.JsonWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
 
 /**
  * Defines values for PriorityModel.
  */
 public final class PriorityModel implements ExpandableEnum<Integer>, JsonSerializable<PriorityModel> {
-    private static final Map<Integer, PriorityModel> VALUES = new ConcurrentHashMap<>();
-
-    private static final Function<Integer, PriorityModel> NEW_INSTANCE = PriorityModel::new;
+    private static final Map<Integer, PriorityModel> VALUES = new HashMap<>();
 
     /**
      * Static value 100 for PriorityModel.
      */
     @Generated
-    public static final PriorityModel HIGH = fromValue(100);
+    public static final PriorityModel HIGH = addKnownValue(100);
 
     /**
      * Static value 0 for PriorityModel.
      */
     @Generated
-    public static final PriorityModel LOW = fromValue(0);
+    public static final PriorityModel LOW = addKnownValue(0);
+
+    @Generated
+    private static PriorityModel addKnownValue(Integer value) {
+        PriorityModel knownValue = new PriorityModel(value);
+        VALUES.put(value, knownValue);
+        return knownValue;
+    }
 
     private final Integer value;
 
@@ -45,7 +49,7 @@ public final class PriorityModel implements ExpandableEnum<Integer>, JsonSeriali
     }
 
     /**
-     * Creates or finds a PriorityModel.
+     * Finds a known PriorityModel, or creates a new PriorityModel if the value is not known.
      * 
      * @param value a value to look for.
      * @return the corresponding PriorityModel.
@@ -56,7 +60,8 @@ public final class PriorityModel implements ExpandableEnum<Integer>, JsonSeriali
         if (value == null) {
             throw new IllegalArgumentException("'value' cannot be null.");
         }
-        return VALUES.computeIfAbsent(value, NEW_INSTANCE);
+        PriorityModel knownValue = VALUES.get(value);
+        return knownValue != null ? knownValue : new PriorityModel(value);
     }
 
     /**
@@ -120,7 +125,7 @@ public final class PriorityModel implements ExpandableEnum<Integer>, JsonSeriali
     @Generated
     @Override
     public boolean equals(Object obj) {
-        return this == obj;
+        return this == obj || (obj instanceof PriorityModel && Objects.equals(this.value, ((PriorityModel) obj).value));
     }
 
     @Generated
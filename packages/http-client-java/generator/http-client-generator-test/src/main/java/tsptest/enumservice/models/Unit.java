@@ -32,6 +32,8 @@ public enum Unit {
         this.value = value;
     }
 
+    private static final Unit[] VALUES = values();
+
     /**
      * Parses a serialized value to a Unit instance.
      * 
@@ -39,8 +41,7 @@ public enum Unit {
      * @return the parsed Unit object, or null if unable to parse.
      */
     public static Unit fromDouble(double value) {
-        Unit[] items = Unit.values();
-        for (Unit item : items) {
+        for (Unit item : VALUES) {
             if (Double.doubleToLongBits(item.toDouble()) == Double.doubleToLongBits(value)) {
                 return item;
             }
@@ -15,6 +15,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import tsptest.errormodel.implementation.ErrorOpsImpl;
+import tsptest.errormodel.implementation.JsonSerializableHelper;
 import tsptest.errormodel.models.BadResponseErrorException;
 import tsptest.errormodel.models.BatchErrorException;
 import tsptest.errormodel.models.Diagnostic;
@@ -98,6 +99,6 @@ public final class ErrorModelAsyncClient {
         // Generated convenience method for readWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return readWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Diagnostic.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Diagnostic::fromJson));
     }
 }
@@ -13,6 +13,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import tsptest.errormodel.implementation.ErrorOpsImpl;
+import tsptest.errormodel.implementation.JsonSerializableHelper;
 import tsptest.errormodel.models.BadResponseErrorException;
 import tsptest.errormodel.models.BatchErrorException;
 import tsptest.errormodel.models.Diagnostic;
@@ -95,6 +96,6 @@ public final class ErrorModelClient {
     public Diagnostic read() {
         // Generated convenience method for readWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return readWithResponse(requestOptions).getValue().toObject(Diagnostic.class);
+        return JsonSerializableHelper.fromBinaryData(readWithResponse(requestOptions).getValue(), Diagnostic::fromJson);
     }
 }
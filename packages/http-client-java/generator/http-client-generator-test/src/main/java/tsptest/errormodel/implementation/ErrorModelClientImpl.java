@@ -60,7 +60,7 @@ public final class ErrorModelClientImpl {
     /**
      * The ErrorOpsImpl object to access its operations.
      */
-    private final ErrorOpsImpl errorOps;
+    private volatile ErrorOpsImpl errorOps;
 
     /**
      * Gets the ErrorOpsImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class ErrorModelClientImpl {
      * @return the ErrorOpsImpl object.
      */
     public ErrorOpsImpl getErrorOps() {
-        return this.errorOps;
+        ErrorOpsImpl localErrorOps = this.errorOps;
+        if (localErrorOps == null) {
+            synchronized (this) {
+                localErrorOps = this.errorOps;
+                if (localErrorOps == null) {
+                    localErrorOps = new ErrorOpsImpl(this);
+                    this.errorOps = localErrorOps;
+                }
+            }
+        }
+        return localErrorOps;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class ErrorModelClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.errorOps = new ErrorOpsImpl(this);
     }
 }
@@ -141,7 +141,7 @@ public final class SubError implements JsonSerializable<SubError> {
         jsonWriter.writeStringField("message", this.message);
         jsonWriter.writeStringField("subCode", this.subCode);
         jsonWriter.writeStringField("target", this.target);
-        jsonWriter.writeArrayField("details", this.details, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("details", this.details, JsonWriter::writeJson);
         jsonWriter.writeJsonField("innererror", this.innerError);
         return jsonWriter.writeEndObject();
     }
@@ -177,7 +177,7 @@ public final class SubError implements JsonSerializable<SubError> {
                 } else if ("target".equals(fieldName)) {
                     target = reader.getString();
                 } else if ("details".equals(fieldName)) {
-                    details = reader.readArray(reader1 -> ResponseError.fromJson(reader1));
+                    details = reader.readArray(ResponseError::fromJson);
                 } else if ("innererror".equals(fieldName)) {
                     innerError = InnerError.fromJson(reader);
                 } else {
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import tsptest.external.implementation.ExternalOpsImpl;
+import tsptest.external.implementation.JsonSerializableHelper;
 import tsptest.external.models.Body;
 
 /**
@@ -93,7 +94,8 @@ public final class ExternalAsyncClient {
     public Mono<Body> postExternal(Body body) {
         // Generated convenience method for postExternalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postExternalWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Body.class));
+        return postExternalWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Body::fromJson));
     }
 }
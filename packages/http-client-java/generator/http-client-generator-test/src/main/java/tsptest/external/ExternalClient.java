@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import tsptest.external.implementation.ExternalOpsImpl;
+import tsptest.external.implementation.JsonSerializableHelper;
 import tsptest.external.models.Body;
 
 /**
@@ -91,6 +92,8 @@ public final class ExternalClient {
     public Body postExternal(Body body) {
         // Generated convenience method for postExternalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postExternalWithResponse(BinaryData.fromObject(body), requestOptions).getValue().toObject(Body.class);
+        return JsonSerializableHelper.fromBinaryData(
+            postExternalWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Body::fromJson);
     }
 }
@@ -60,7 +60,7 @@ public final class ExternalClientImpl {
     /**
      * The ExternalOpsImpl object to access its operations.
      */
-    private final ExternalOpsImpl externalOps;
+    private volatile ExternalOpsImpl externalOps;
 
     /**
      * Gets the ExternalOpsImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class ExternalClientImpl {
      * @return the ExternalOpsImpl object.
      */
     public ExternalOpsImpl getExternalOps() {
-        return this.externalOps;
+        ExternalOpsImpl localExternalOps = this.externalOps;
+        if (localExternalOps == null) {
+            synchronized (this) {
+                localExternalOps = this.externalOps;
+                if (localExternalOps == null) {
+                    localExternalOps = new ExternalOpsImpl(this);
+                    this.externalOps = localExternalOps;
+                }
+            }
+        }
+        return localExternalOps;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class ExternalClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.externalOps = new ExternalOpsImpl(this);
     }
 }
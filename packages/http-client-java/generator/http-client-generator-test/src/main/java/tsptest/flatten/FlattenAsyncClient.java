@@ -19,6 +19,7 @@ import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import tsptest.flatten.implementation.FlattenClientImpl;
 import tsptest.flatten.implementation.JsonMergePatchHelper;
+import tsptest.flatten.implementation.JsonSerializableHelper;
 import tsptest.flatten.implementation.models.SendLongRequest;
 import tsptest.flatten.implementation.models.SendOptionalBodyRequest;
 import tsptest.flatten.implementation.models.SendProjectedNameRequest;
@@ -262,7 +263,7 @@ public final class FlattenAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest sendRequestObj = new SendRequest(endpoint, input, requiredInt).setUser(user);
-        BinaryData sendRequest = BinaryData.fromObject(sendRequestObj);
+        BinaryData sendRequest = JsonSerializableHelper.toBinaryData(sendRequestObj);
         if (maxPageSize != null) {
             requestOptions.addQueryParam("maxpagesize", String.valueOf(maxPageSize), false);
         }
@@ -290,7 +291,7 @@ public final class FlattenAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest sendRequestObj = new SendRequest(endpoint, input, requiredInt);
-        BinaryData sendRequest = BinaryData.fromObject(sendRequestObj);
+        BinaryData sendRequest = JsonSerializableHelper.toBinaryData(sendRequestObj);
         return sendWithResponse(id, sendRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 
@@ -313,7 +314,7 @@ public final class FlattenAsyncClient {
         // Generated convenience method for sendProjectedNameWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendProjectedNameRequest sendProjectedNameRequestObj = new SendProjectedNameRequest(fileIdentifier);
-        BinaryData sendProjectedNameRequest = BinaryData.fromObject(sendProjectedNameRequestObj);
+        BinaryData sendProjectedNameRequest = JsonSerializableHelper.toBinaryData(sendProjectedNameRequestObj);
         return sendProjectedNameWithResponse(id, sendProjectedNameRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 
@@ -344,7 +345,7 @@ public final class FlattenAsyncClient {
                 .setLongProperty(options.getLongParameter())
                 .setDescription(options.getDescription())
                 .setDummy(options.getDummy());
-        BinaryData sendLongRequest = BinaryData.fromObject(sendLongRequestObj);
+        BinaryData sendLongRequest = JsonSerializableHelper.toBinaryData(sendLongRequestObj);
         if (filter != null) {
             requestOptions.addQueryParam("filter", filter, false);
         }
@@ -369,13 +370,10 @@ public final class FlattenAsyncClient {
     public Mono<TodoItem> update(long id, UpdatePatchRequest updateRequest) {
         // Generated convenience method for updateWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getUpdatePatchRequestAccessor().prepareModelForJsonMergePatch(updateRequest, true);
-        BinaryData updateRequestInBinaryData = BinaryData.fromObject(updateRequest);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        updateRequestInBinaryData.getLength();
-        JsonMergePatchHelper.getUpdatePatchRequestAccessor().prepareModelForJsonMergePatch(updateRequest, false);
+        BinaryData updateRequestInBinaryData = JsonSerializableHelper.toBinaryData(updateRequest,
+            JsonMergePatchHelper.getUpdatePatchRequestAccessor()::toJsonMergePatch);
         return updateWithResponse(id, updateRequestInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(TodoItem.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, TodoItem::fromJson));
     }
 
     /**
@@ -396,7 +394,7 @@ public final class FlattenAsyncClient {
         // Generated convenience method for sendOptionalBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendOptionalBodyRequest sendOptionalBodyRequestObj = new SendOptionalBodyRequest().setName(name);
-        BinaryData sendOptionalBodyRequest = BinaryData.fromObject(sendOptionalBodyRequestObj);
+        BinaryData sendOptionalBodyRequest = JsonSerializableHelper.toBinaryData(sendOptionalBodyRequestObj);
         return sendOptionalBodyWithResponse(sendOptionalBodyRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 
@@ -416,7 +414,7 @@ public final class FlattenAsyncClient {
         // Generated convenience method for sendOptionalBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendOptionalBodyRequest sendOptionalBodyRequestObj = new SendOptionalBodyRequest();
-        BinaryData sendOptionalBodyRequest = BinaryData.fromObject(sendOptionalBodyRequestObj);
+        BinaryData sendOptionalBodyRequest = JsonSerializableHelper.toBinaryData(sendOptionalBodyRequestObj);
         return sendOptionalBodyWithResponse(sendOptionalBodyRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import tsptest.flatten.implementation.FlattenClientImpl;
 import tsptest.flatten.implementation.JsonMergePatchHelper;
+import tsptest.flatten.implementation.JsonSerializableHelper;
 import tsptest.flatten.implementation.models.SendLongRequest;
 import tsptest.flatten.implementation.models.SendOptionalBodyRequest;
 import tsptest.flatten.implementation.models.SendProjectedNameRequest;
@@ -257,7 +258,7 @@ public final class FlattenClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest sendRequestObj = new SendRequest(endpoint, input, requiredInt).setUser(user);
-        BinaryData sendRequest = BinaryData.fromObject(sendRequestObj);
+        BinaryData sendRequest = JsonSerializableHelper.toBinaryData(sendRequestObj);
         if (maxPageSize != null) {
             requestOptions.addQueryParam("maxpagesize", String.valueOf(maxPageSize), false);
         }
@@ -284,7 +285,7 @@ public final class FlattenClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest sendRequestObj = new SendRequest(endpoint, input, requiredInt);
-        BinaryData sendRequest = BinaryData.fromObject(sendRequestObj);
+        BinaryData sendRequest = JsonSerializableHelper.toBinaryData(sendRequestObj);
         sendWithResponse(id, sendRequest, requestOptions).getValue();
     }
 
@@ -306,7 +307,7 @@ public final class FlattenClient {
         // Generated convenience method for sendProjectedNameWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendProjectedNameRequest sendProjectedNameRequestObj = new SendProjectedNameRequest(fileIdentifier);
-        BinaryData sendProjectedNameRequest = BinaryData.fromObject(sendProjectedNameRequestObj);
+        BinaryData sendProjectedNameRequest = JsonSerializableHelper.toBinaryData(sendProjectedNameRequestObj);
         sendProjectedNameWithResponse(id, sendProjectedNameRequest, requestOptions).getValue();
     }
 
@@ -336,7 +337,7 @@ public final class FlattenClient {
                 .setLongProperty(options.getLongParameter())
                 .setDescription(options.getDescription())
                 .setDummy(options.getDummy());
-        BinaryData sendLongRequest = BinaryData.fromObject(sendLongRequestObj);
+        BinaryData sendLongRequest = JsonSerializableHelper.toBinaryData(sendLongRequestObj);
         if (filter != null) {
             requestOptions.addQueryParam("filter", filter, false);
         }
@@ -361,12 +362,10 @@ public final class FlattenClient {
     public TodoItem update(long id, UpdatePatchRequest updateRequest) {
         // Generated convenience method for updateWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getUpdatePatchRequestAccessor().prepareModelForJsonMergePatch(updateRequest, true);
-        BinaryData updateRequestInBinaryData = BinaryData.fromObject(updateRequest);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        updateRequestInBinaryData.getLength();
-        JsonMergePatchHelper.getUpdatePatchRequestAccessor().prepareModelForJsonMergePatch(updateRequest, false);
-        return updateWithResponse(id, updateRequestInBinaryData, requestOptions).getValue().toObject(TodoItem.class);
+        BinaryData updateRequestInBinaryData = JsonSerializableHelper.toBinaryData(updateRequest,
+            JsonMergePatchHelper.getUpdatePatchRequestAccessor()::toJsonMergePatch);
+        return JsonSerializableHelper.fromBinaryData(
+            updateWithResponse(id, updateRequestInBinaryData, requestOptions).getValue(), TodoItem::fromJson);
     }
 
     /**
@@ -386,7 +385,7 @@ public final class FlattenClient {
         // Generated convenience method for sendOptionalBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendOptionalBodyRequest sendOptionalBodyRequestObj = new SendOptionalBodyRequest().setName(name);
-        BinaryData sendOptionalBodyRequest = BinaryData.fromObject(sendOptionalBodyRequestObj);
+        BinaryData sendOptionalBodyRequest = JsonSerializableHelper.toBinaryData(sendOptionalBodyRequestObj);
         sendOptionalBodyWithResponse(sendOptionalBodyRequest, requestOptions).getValue();
     }
 
@@ -405,7 +404,7 @@ public final class FlattenClient {
         // Generated convenience method for sendOptionalBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendOptionalBodyRequest sendOptionalBodyRequestObj = new SendOptionalBodyRequest();
-        BinaryData sendOptionalBodyRequest = BinaryData.fromObject(sendOptionalBodyRequestObj);
+        BinaryData sendOptionalBodyRequest = JsonSerializableHelper.toBinaryData(sendOptionalBodyRequestObj);
         sendOptionalBodyWithResponse(sendOptionalBodyRequest, requestOptions).getValue();
     }
 }
@@ -4,6 +4,8 @@
 
 package tsptest.flatten.implementation;
 
+import com.azure.json.JsonWriter;
+import java.io.IOException;
 import tsptest.flatten.models.TodoItemPatch;
 import tsptest.flatten.models.UpdatePatchRequest;
 
@@ -18,6 +20,8 @@ public class JsonMergePatchHelper {
             boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(UpdatePatchRequest updatePatchRequest);
+
+        JsonWriter toJsonMergePatch(UpdatePatchRequest updatePatchRequest, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setUpdatePatchRequestAccessor(UpdatePatchRequestAccessor accessor) {
@@ -34,6 +38,8 @@ public class JsonMergePatchHelper {
         TodoItemPatch prepareModelForJsonMergePatch(TodoItemPatch todoItemPatch, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(TodoItemPatch todoItemPatch);
+
+        JsonWriter toJsonMergePatch(TodoItemPatch todoItemPatch, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setTodoItemPatchAccessor(TodoItemPatchAccessor accessor) {
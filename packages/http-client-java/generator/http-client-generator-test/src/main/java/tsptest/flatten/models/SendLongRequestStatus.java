@@ -4,6 +4,10 @@
 
 package tsptest.flatten.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for SendLongRequestStatus.
  */
@@ -32,6 +36,17 @@ public enum SendLongRequestStatus {
         this.value = value;
     }
 
+    private static final Map<String, SendLongRequestStatus> VALUES = new HashMap<>();
+
+    private static final Map<String, SendLongRequestStatus> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (SendLongRequestStatus item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a SendLongRequestStatus instance.
      * 
@@ -42,13 +57,8 @@ public enum SendLongRequestStatus {
         if (value == null) {
             return null;
         }
-        SendLongRequestStatus[] items = SendLongRequestStatus.values();
-        for (SendLongRequestStatus item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        SendLongRequestStatus item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -64,6 +64,11 @@ public final class TodoItemPatch implements JsonSerializable<TodoItemPatch> {
             public boolean isJsonMergePatch(TodoItemPatch model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(TodoItemPatch model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
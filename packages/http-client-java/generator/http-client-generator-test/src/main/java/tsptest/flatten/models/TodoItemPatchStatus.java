@@ -4,6 +4,10 @@
 
 package tsptest.flatten.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for TodoItemPatchStatus.
  */
@@ -32,6 +36,17 @@ public enum TodoItemPatchStatus {
         this.value = value;
     }
 
+    private static final Map<String, TodoItemPatchStatus> VALUES = new HashMap<>();
+
+    private static final Map<String, TodoItemPatchStatus> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (TodoItemPatchStatus item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a TodoItemPatchStatus instance.
      * 
@@ -42,13 +57,8 @@ public enum TodoItemPatchStatus {
         if (value == null) {
             return null;
         }
-        TodoItemPatchStatus[] items = TodoItemPatchStatus.values();
-        for (TodoItemPatchStatus item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        TodoItemPatchStatus item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
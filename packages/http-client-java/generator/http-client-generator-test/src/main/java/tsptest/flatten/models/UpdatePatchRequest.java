@@ -53,6 +53,11 @@ public final class UpdatePatchRequest implements JsonSerializable<UpdatePatchReq
             public boolean isJsonMergePatch(UpdatePatchRequest model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(UpdatePatchRequest model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
@@ -109,9 +114,8 @@ public final class UpdatePatchRequest implements JsonSerializable<UpdatePatchReq
             if (this.patch == null) {
                 jsonWriter.writeNullField("patch");
             } else {
-                JsonMergePatchHelper.getTodoItemPatchAccessor().prepareModelForJsonMergePatch(this.patch, true);
-                jsonWriter.writeJsonField("patch", this.patch);
-                JsonMergePatchHelper.getTodoItemPatchAccessor().prepareModelForJsonMergePatch(this.patch, false);
+                jsonWriter.writeFieldName("patch");
+                JsonMergePatchHelper.getTodoItemPatchAccessor().toJsonMergePatch(this.patch, jsonWriter);
             }
         }
         return jsonWriter.writeEndObject();
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import tsptest.internal.implementation.InternalOpsImpl;
+import tsptest.internal.implementation.JsonSerializableHelper;
 import tsptest.internal.models.ApiRequest;
 import tsptest.internal.models.ApiResponse;
 import tsptest.internal.models.ResponseInternal;
@@ -148,8 +149,10 @@ public final class InternalAsyncClient {
     public Mono<ResponseInternal> postInternal(ApiRequest body) {
         // Generated convenience method for postInternalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postInternalWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ResponseInternal.class));
+        return postInternalWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                ResponseInternal::fromJson));
     }
 
     /**
@@ -168,6 +171,7 @@ public final class InternalAsyncClient {
         // Generated convenience method for getInternalWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getInternalWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ApiResponse.class));
+            .map(
+                protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, ApiResponse::fromJson));
     }
 }
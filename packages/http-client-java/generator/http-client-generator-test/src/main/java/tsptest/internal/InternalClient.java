@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import tsptest.internal.implementation.InternalOpsImpl;
+import tsptest.internal.implementation.JsonSerializableHelper;
 import tsptest.internal.models.ApiRequest;
 import tsptest.internal.models.ApiResponse;
 import tsptest.internal.models.ResponseInternal;
@@ -146,8 +147,9 @@ public final class InternalClient {
     public ResponseInternal postInternal(ApiRequest body) {
         // Generated convenience method for postInternalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postInternalWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(ResponseInternal.class);
+        return JsonSerializableHelper.fromBinaryData(
+            postInternalWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            ResponseInternal::fromJson);
     }
 
     /**
@@ -165,6 +167,7 @@ public final class InternalClient {
     ApiResponse getInternal() {
         // Generated convenience method for getInternalWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getInternalWithResponse(requestOptions).getValue().toObject(ApiResponse.class);
+        return JsonSerializableHelper.fromBinaryData(getInternalWithResponse(requestOptions).getValue(),
+            ApiResponse::fromJson);
     }
 }
@@ -60,7 +60,7 @@ public final class InternalClientImpl {
     /**
      * The InternalOpsImpl object to access its operations.
      */
-    private final InternalOpsImpl internalOps;
+    private volatile InternalOpsImpl internalOps;
 
     /**
      * Gets the InternalOpsImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class InternalClientImpl {
      * @return the InternalOpsImpl object.
      */
     public InternalOpsImpl getInternalOps() {
-        return this.internalOps;
+        InternalOpsImpl localInternalOps = this.internalOps;
+        if (localInternalOps == null) {
+            synchronized (this) {
+                localInternalOps = this.internalOps;
+                if (localInternalOps == null) {
+                    localInternalOps = new InternalOpsImpl(this);
+                    this.internalOps = localInternalOps;
+                }
+            }
+        }
+        return localInternalOps;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class InternalClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.internalOps = new InternalOpsImpl(this);
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import tsptest.literalservice.implementation.JsonSerializableHelper;
 import tsptest.literalservice.implementation.LiteralOpsImpl;
 import tsptest.literalservice.models.Model;
 import tsptest.literalservice.models.PutRequestOptionalLiteralParam;
@@ -106,8 +107,8 @@ public final class LiteralServiceAsyncClient {
         if (optionalLiteralParam != null) {
             requestOptions.addQueryParam("optionalLiteralParam", optionalLiteralParam.toString(), false);
         }
-        return putWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Model.class));
+        return putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Model::fromJson));
     }
 
     /**
@@ -127,7 +128,7 @@ public final class LiteralServiceAsyncClient {
     public Mono<Model> put(Model body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Model.class));
+        return putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Model::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import tsptest.literalservice.implementation.JsonSerializableHelper;
 import tsptest.literalservice.implementation.LiteralOpsImpl;
 import tsptest.literalservice.models.Model;
 import tsptest.literalservice.models.PutRequestOptionalLiteralParam;
@@ -104,7 +105,8 @@ public final class LiteralServiceClient {
         if (optionalLiteralParam != null) {
             requestOptions.addQueryParam("optionalLiteralParam", optionalLiteralParam.toString(), false);
         }
-        return putWithResponse(BinaryData.fromObject(body), requestOptions).getValue().toObject(Model.class);
+        return JsonSerializableHelper.fromBinaryData(
+            putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(), Model::fromJson);
     }
 
     /**
@@ -124,6 +126,7 @@ public final class LiteralServiceClient {
     public Model put(Model body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(BinaryData.fromObject(body), requestOptions).getValue().toObject(Model.class);
+        return JsonSerializableHelper.fromBinaryData(
+            putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(), Model::fromJson);
     }
 }
@@ -60,7 +60,7 @@ public final class LiteralServiceClientImpl {
     /**
      * The LiteralOpsImpl object to access its operations.
      */
-    private final LiteralOpsImpl literalOps;
+    private volatile LiteralOpsImpl literalOps;
 
     /**
      * Gets the LiteralOpsImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class LiteralServiceClientImpl {
      * @return the LiteralOpsImpl object.
      */
     public LiteralOpsImpl getLiteralOps() {
-        return this.literalOps;
+        LiteralOpsImpl localLiteralOps = this.literalOps;
+        if (localLiteralOps == null) {
+            synchronized (this) {
+                localLiteralOps = this.literalOps;
+                if (localLiteralOps == null) {
+                    localLiteralOps = new LiteralOpsImpl(this);
+                    this.literalOps = localLiteralOps;
+                }
+            }
+        }
+        return localLiteralOps;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class LiteralServiceClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.literalOps = new LiteralOpsImpl(this);
     }
 }
@@ -4,6 +4,10 @@
 
 package tsptest.literalservice.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for ModelOptionalLiteral.
  */
@@ -22,6 +26,17 @@ public enum ModelOptionalLiteral {
         this.value = value;
     }
 
+    private static final Map<String, ModelOptionalLiteral> VALUES = new HashMap<>();
+
+    private static final Map<String, ModelOptionalLiteral> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (ModelOptionalLiteral item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a ModelOptionalLiteral instance.
      * 
@@ -32,13 +47,8 @@ public enum ModelOptionalLiteral {
         if (value == null) {
             return null;
         }
-        ModelOptionalLiteral[] items = ModelOptionalLiteral.values();
-        for (ModelOptionalLiteral item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        ModelOptionalLiteral item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -4,6 +4,10 @@
 
 package tsptest.literalservice.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for PutRequestOptionalLiteralParam.
  */
@@ -22,6 +26,17 @@ public enum PutRequestOptionalLiteralParam {
         this.value = value;
     }
 
+    private static final Map<String, PutRequestOptionalLiteralParam> VALUES = new HashMap<>();
+
+    private static final Map<String, PutRequestOptionalLiteralParam> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (PutRequestOptionalLiteralParam item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a PutRequestOptionalLiteralParam instance.
      * 
@@ -32,13 +47,8 @@ public enum PutRequestOptionalLiteralParam {
         if (value == null) {
             return null;
         }
-        PutRequestOptionalLiteralParam[] items = PutRequestOptionalLiteralParam.values();
-        for (PutRequestOptionalLiteralParam item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        PutRequestOptionalLiteralParam item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import com.azure.core.util.polling.PollerFlux;
 import reactor.core.publisher.Mono;
+import tsptest.longrunning.implementation.JsonSerializableHelper;
 import tsptest.longrunning.implementation.LongRunningClientImpl;
 import tsptest.longrunning.models.JobData;
 import tsptest.longrunning.models.JobResult;
@@ -203,7 +204,7 @@ public final class LongRunningAsyncClient {
         // Generated convenience method for getJobWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getJobWithResponse(id, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(JobResult.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, JobResult::fromJson));
     }
 
     /**
@@ -223,6 +224,6 @@ public final class LongRunningAsyncClient {
     public PollerFlux<JobResult, JobResultResult> beginCreateJob(JobData body) {
         // Generated convenience method for beginCreateJobWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginCreateJobWithModelAsync(BinaryData.fromObject(body), requestOptions);
+        return serviceClient.beginCreateJobWithModelAsync(JsonSerializableHelper.toBinaryData(body), requestOptions);
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.polling.SyncPoller;
+import tsptest.longrunning.implementation.JsonSerializableHelper;
 import tsptest.longrunning.implementation.LongRunningClientImpl;
 import tsptest.longrunning.models.JobData;
 import tsptest.longrunning.models.JobResult;
@@ -200,7 +201,8 @@ public final class LongRunningClient {
     public JobResult getJob(String id) {
         // Generated convenience method for getJobWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getJobWithResponse(id, requestOptions).getValue().toObject(JobResult.class);
+        return JsonSerializableHelper.fromBinaryData(getJobWithResponse(id, requestOptions).getValue(),
+            JobResult::fromJson);
     }
 
     /**
@@ -220,6 +222,6 @@ public final class LongRunningClient {
     public SyncPoller<JobResult, JobResultResult> beginCreateJob(JobData body) {
         // Generated convenience method for beginCreateJobWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginCreateJobWithModel(BinaryData.fromObject(body), requestOptions);
+        return serviceClient.beginCreateJobWithModel(JsonSerializableHelper.toBinaryData(body), requestOptions);
     }
 }
@@ -79,8 +79,7 @@ public final class JobData implements JsonSerializable<JobData> {
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeMapField("nullableFloatDict", this.nullableFloatDict,
-            (writer, element) -> writer.writeNumber(element));
+        jsonWriter.writeMapField("nullableFloatDict", this.nullableFloatDict, JsonWriter::writeNumber);
         jsonWriter.writeStringField("configuration", this.configuration);
         return jsonWriter.writeEndObject();
     }
@@ -21,6 +21,7 @@ import com.azure.core.util.DateTimeRfc1123;
 import com.azure.core.util.FluxUtil;
 import java.time.OffsetDateTime;
 import reactor.core.publisher.Mono;
+import tsptest.methodoverride.implementation.JsonSerializableHelper;
 import tsptest.methodoverride.implementation.MethodOverrideClientImpl;
 import tsptest.methodoverride.implementation.models.GroupAllRequest;
 import tsptest.methodoverride.implementation.models.GroupNoneRequest;
@@ -336,7 +337,7 @@ public final class MethodOverrideAsyncClient {
         String foo = options.getFoo();
         String bar = options.getBar();
         GroupAllRequest groupAllRequestObj = new GroupAllRequest(options.getProp1()).setProp2(options.getProp2());
-        BinaryData groupAllRequest = BinaryData.fromObject(groupAllRequestObj);
+        BinaryData groupAllRequest = JsonSerializableHelper.toBinaryData(groupAllRequestObj);
         if (foo != null) {
             requestOptions.addQueryParam("foo", foo, false);
         }
@@ -366,7 +367,7 @@ public final class MethodOverrideAsyncClient {
         // Generated convenience method for groupPartWithResponse
         RequestOptions requestOptions = new RequestOptions();
         GroupPartRequest groupPartRequestObj = new GroupPartRequest(prop1).setProp2(options.getProp2());
-        BinaryData groupPartRequest = BinaryData.fromObject(groupPartRequestObj);
+        BinaryData groupPartRequest = JsonSerializableHelper.toBinaryData(groupPartRequestObj);
         String bar = options == null ? null : options.getBar();
         if (foo != null) {
             requestOptions.addQueryParam("foo", foo, false);
@@ -395,7 +396,7 @@ public final class MethodOverrideAsyncClient {
         // Generated convenience method for groupPartWithResponse
         RequestOptions requestOptions = new RequestOptions();
         GroupPartRequest groupPartRequestObj = new GroupPartRequest(prop1);
-        BinaryData groupPartRequest = BinaryData.fromObject(groupPartRequestObj);
+        BinaryData groupPartRequest = JsonSerializableHelper.toBinaryData(groupPartRequestObj);
         return groupPartWithResponse(groupPartRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 
@@ -421,7 +422,7 @@ public final class MethodOverrideAsyncClient {
         // Generated convenience method for groupPartETagWithResponse
         RequestOptions requestOptions = new RequestOptions();
         GroupPartETagRequest groupPartETagRequestObj = new GroupPartETagRequest(prop1).setProp2(options.getProp2());
-        BinaryData groupPartETagRequest = BinaryData.fromObject(groupPartETagRequestObj);
+        BinaryData groupPartETagRequest = JsonSerializableHelper.toBinaryData(groupPartETagRequestObj);
         String bar = options == null ? null : options.getBar();
         OffsetDateTime ifModifiedSince = requestConditions == null ? null : requestConditions.getIfModifiedSince();
         OffsetDateTime ifUnmodifiedSince = requestConditions == null ? null : requestConditions.getIfUnmodifiedSince();
@@ -468,7 +469,7 @@ public final class MethodOverrideAsyncClient {
         // Generated convenience method for groupPartETagWithResponse
         RequestOptions requestOptions = new RequestOptions();
         GroupPartETagRequest groupPartETagRequestObj = new GroupPartETagRequest(prop1);
-        BinaryData groupPartETagRequest = BinaryData.fromObject(groupPartETagRequestObj);
+        BinaryData groupPartETagRequest = JsonSerializableHelper.toBinaryData(groupPartETagRequestObj);
         return groupPartETagWithResponse(groupPartETagRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 
@@ -498,7 +499,8 @@ public final class MethodOverrideAsyncClient {
         if (bar != null) {
             requestOptions.addQueryParam("bar", bar, false);
         }
-        return groupExcludeBodyWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return groupExcludeBodyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -518,7 +520,8 @@ public final class MethodOverrideAsyncClient {
     public Mono<Void> groupExcludeBody(GroupExcludeBodyModel body) {
         // Generated convenience method for groupExcludeBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return groupExcludeBodyWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return groupExcludeBodyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -551,7 +554,7 @@ public final class MethodOverrideAsyncClient {
             .setProp4(prop4)
             .setProp5(prop5)
             .setProp6(prop6);
-        BinaryData groupNoneRequest = BinaryData.fromObject(groupNoneRequestObj);
+        BinaryData groupNoneRequest = JsonSerializableHelper.toBinaryData(groupNoneRequestObj);
         if (foo != null) {
             requestOptions.addQueryParam("foo", foo, false);
         }
@@ -579,7 +582,7 @@ public final class MethodOverrideAsyncClient {
         // Generated convenience method for groupNoneWithResponse
         RequestOptions requestOptions = new RequestOptions();
         GroupNoneRequest groupNoneRequestObj = new GroupNoneRequest(prop1);
-        BinaryData groupNoneRequest = BinaryData.fromObject(groupNoneRequestObj);
+        BinaryData groupNoneRequest = JsonSerializableHelper.toBinaryData(groupNoneRequestObj);
         return groupNoneWithResponse(groupNoneRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
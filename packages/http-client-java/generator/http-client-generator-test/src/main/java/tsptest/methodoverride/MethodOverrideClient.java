@@ -19,6 +19,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.DateTimeRfc1123;
 import java.time.OffsetDateTime;
+import tsptest.methodoverride.implementation.JsonSerializableHelper;
 import tsptest.methodoverride.implementation.MethodOverrideClientImpl;
 import tsptest.methodoverride.implementation.models.GroupAllRequest;
 import tsptest.methodoverride.implementation.models.GroupNoneRequest;
@@ -330,7 +331,7 @@ public final class MethodOverrideClient {
         String foo = options.getFoo();
         String bar = options.getBar();
         GroupAllRequest groupAllRequestObj = new GroupAllRequest(options.getProp1()).setProp2(options.getProp2());
-        BinaryData groupAllRequest = BinaryData.fromObject(groupAllRequestObj);
+        BinaryData groupAllRequest = JsonSerializableHelper.toBinaryData(groupAllRequestObj);
         if (foo != null) {
             requestOptions.addQueryParam("foo", foo, false);
         }
@@ -359,7 +360,7 @@ public final class MethodOverrideClient {
         // Generated convenience method for groupPartWithResponse
         RequestOptions requestOptions = new RequestOptions();
         GroupPartRequest groupPartRequestObj = new GroupPartRequest(prop1).setProp2(options.getProp2());
-        BinaryData groupPartRequest = BinaryData.fromObject(groupPartRequestObj);
+        BinaryData groupPartRequest = JsonSerializableHelper.toBinaryData(groupPartRequestObj);
         String bar = options == null ? null : options.getBar();
         if (foo != null) {
             requestOptions.addQueryParam("foo", foo, false);
@@ -387,7 +388,7 @@ public final class MethodOverrideClient {
         // Generated convenience method for groupPartWithResponse
         RequestOptions requestOptions = new RequestOptions();
         GroupPartRequest groupPartRequestObj = new GroupPartRequest(prop1);
-        BinaryData groupPartRequest = BinaryData.fromObject(groupPartRequestObj);
+        BinaryData groupPartRequest = JsonSerializableHelper.toBinaryData(groupPartRequestObj);
         groupPartWithResponse(groupPartRequest, requestOptions).getValue();
     }
 
@@ -412,7 +413,7 @@ public final class MethodOverrideClient {
         // Generated convenience method for groupPartETagWithResponse
         RequestOptions requestOptions = new RequestOptions();
         GroupPartETagRequest groupPartETagRequestObj = new GroupPartETagRequest(prop1).setProp2(options.getProp2());
-        BinaryData groupPartETagRequest = BinaryData.fromObject(groupPartETagRequestObj);
+        BinaryData groupPartETagRequest = JsonSerializableHelper.toBinaryData(groupPartETagRequestObj);
         String bar = options == null ? null : options.getBar();
         OffsetDateTime ifModifiedSince = requestConditions == null ? null : requestConditions.getIfModifiedSince();
         OffsetDateTime ifUnmodifiedSince = requestConditions == null ? null : requestConditions.getIfUnmodifiedSince();
@@ -458,7 +459,7 @@ public final class MethodOverrideClient {
         // Generated convenience method for groupPartETagWithResponse
         RequestOptions requestOptions = new RequestOptions();
         GroupPartETagRequest groupPartETagRequestObj = new GroupPartETagRequest(prop1);
-        BinaryData groupPartETagRequest = BinaryData.fromObject(groupPartETagRequestObj);
+        BinaryData groupPartETagRequest = JsonSerializableHelper.toBinaryData(groupPartETagRequestObj);
         groupPartETagWithResponse(groupPartETagRequest, requestOptions).getValue();
     }
 
@@ -487,7 +488,7 @@ public final class MethodOverrideClient {
         if (bar != null) {
             requestOptions.addQueryParam("bar", bar, false);
         }
-        groupExcludeBodyWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        groupExcludeBodyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -506,7 +507,7 @@ public final class MethodOverrideClient {
     public void groupExcludeBody(GroupExcludeBodyModel body) {
         // Generated convenience method for groupExcludeBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        groupExcludeBodyWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        groupExcludeBodyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -538,7 +539,7 @@ public final class MethodOverrideClient {
             .setProp4(prop4)
             .setProp5(prop5)
             .setProp6(prop6);
-        BinaryData groupNoneRequest = BinaryData.fromObject(groupNoneRequestObj);
+        BinaryData groupNoneRequest = JsonSerializableHelper.toBinaryData(groupNoneRequestObj);
         if (foo != null) {
             requestOptions.addQueryParam("foo", foo, false);
         }
@@ -565,7 +566,7 @@ public final class MethodOverrideClient {
         // Generated convenience method for groupNoneWithResponse
         RequestOptions requestOptions = new RequestOptions();
         GroupNoneRequest groupNoneRequestObj = new GroupNoneRequest(prop1);
-        BinaryData groupNoneRequest = BinaryData.fromObject(groupNoneRequestObj);
+        BinaryData groupNoneRequest = JsonSerializableHelper.toBinaryData(groupNoneRequestObj);
         groupNoneWithResponse(groupNoneRequest, requestOptions).getValue();
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import tsptest.model.implementation.JsonSerializableHelper;
 import tsptest.model.implementation.ModelOpsImpl;
 import tsptest.model.models.NestedModel;
 import tsptest.model.models.Resource1;
@@ -220,8 +221,8 @@ public final class ModelAsyncClient {
     public Mono<Resource1> put1(Resource1 body) {
         // Generated convenience method for put1WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return put1WithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource1.class));
+        return put1WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource1::fromJson));
     }
 
     /**
@@ -241,8 +242,8 @@ public final class ModelAsyncClient {
     public Mono<Resource2> put2(Resource2 body) {
         // Generated convenience method for put2WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return put2WithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource2.class));
+        return put2WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource2::fromJson));
     }
 
     /**
@@ -261,7 +262,7 @@ public final class ModelAsyncClient {
         // Generated convenience method for get3WithResponse
         RequestOptions requestOptions = new RequestOptions();
         return get3WithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource3.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource3::fromJson));
     }
 
     /**
@@ -281,7 +282,9 @@ public final class ModelAsyncClient {
     public Mono<NestedModel> putNested(NestedModel body) {
         // Generated convenience method for putNestedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putNestedWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(NestedModel.class));
+        return putNestedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(
+                protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, NestedModel::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import tsptest.model.implementation.JsonSerializableHelper;
 import tsptest.model.implementation.ModelOpsImpl;
 import tsptest.model.models.NestedModel;
 import tsptest.model.models.Resource1;
@@ -218,7 +219,9 @@ public final class ModelClient {
     public Resource1 put1(Resource1 body) {
         // Generated convenience method for put1WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return put1WithResponse(BinaryData.fromObject(body), requestOptions).getValue().toObject(Resource1.class);
+        return JsonSerializableHelper.fromBinaryData(
+            put1WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Resource1::fromJson);
     }
 
     /**
@@ -238,7 +241,9 @@ public final class ModelClient {
     public Resource2 put2(Resource2 body) {
         // Generated convenience method for put2WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return put2WithResponse(BinaryData.fromObject(body), requestOptions).getValue().toObject(Resource2.class);
+        return JsonSerializableHelper.fromBinaryData(
+            put2WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Resource2::fromJson);
     }
 
     /**
@@ -256,7 +261,7 @@ public final class ModelClient {
     public Resource3 get3() {
         // Generated convenience method for get3WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return get3WithResponse(requestOptions).getValue().toObject(Resource3.class);
+        return JsonSerializableHelper.fromBinaryData(get3WithResponse(requestOptions).getValue(), Resource3::fromJson);
     }
 
     /**
@@ -276,7 +281,8 @@ public final class ModelClient {
     public NestedModel putNested(NestedModel body) {
         // Generated convenience method for putNestedWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putNestedWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(NestedModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            putNestedWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            NestedModel::fromJson);
     }
 }
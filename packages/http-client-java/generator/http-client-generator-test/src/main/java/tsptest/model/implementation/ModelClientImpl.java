@@ -60,7 +60,7 @@ public final class ModelClientImpl {
     /**
      * The ModelOpsImpl object to access its operations.
      */
-    private final ModelOpsImpl modelOps;
+    private volatile ModelOpsImpl modelOps;
 
     /**
      * Gets the ModelOpsImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class ModelClientImpl {
      * @return the ModelOpsImpl object.
      */
     public ModelOpsImpl getModelOps() {
-        return this.modelOps;
+        ModelOpsImpl localModelOps = this.modelOps;
+        if (localModelOps == null) {
+            synchronized (this) {
+                localModelOps = this.modelOps;
+                if (localModelOps == null) {
+                    localModelOps = new ModelOpsImpl(this);
+                    this.modelOps = localModelOps;
+                }
+            }
+        }
+        return localModelOps;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class ModelClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.modelOps = new ModelOpsImpl(this);
     }
 }
@@ -63,6 +63,13 @@ public final class MultiContentTypesClientBuilder implements HttpTrait<MultiCont
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the MultiContentTypesClientBuilder.
      */
@@ -83,6 +90,7 @@ public final class MultiContentTypesClientBuilder implements HttpTrait<MultiCont
     @Generated
     @Override
     public MultiContentTypesClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -99,6 +107,7 @@ public final class MultiContentTypesClientBuilder implements HttpTrait<MultiCont
     @Generated
     @Override
     public MultiContentTypesClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -118,6 +127,7 @@ public final class MultiContentTypesClientBuilder implements HttpTrait<MultiCont
     @Generated
     @Override
     public MultiContentTypesClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -134,6 +144,7 @@ public final class MultiContentTypesClientBuilder implements HttpTrait<MultiCont
     @Generated
     @Override
     public MultiContentTypesClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -150,6 +161,7 @@ public final class MultiContentTypesClientBuilder implements HttpTrait<MultiCont
     @Generated
     @Override
     public MultiContentTypesClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -160,6 +172,7 @@ public final class MultiContentTypesClientBuilder implements HttpTrait<MultiCont
     @Generated
     @Override
     public MultiContentTypesClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -177,6 +190,7 @@ public final class MultiContentTypesClientBuilder implements HttpTrait<MultiCont
     @Generated
     @Override
     public MultiContentTypesClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -193,6 +207,7 @@ public final class MultiContentTypesClientBuilder implements HttpTrait<MultiCont
     @Generated
     @Override
     public MultiContentTypesClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -211,6 +226,7 @@ public final class MultiContentTypesClientBuilder implements HttpTrait<MultiCont
      */
     @Generated
     public MultiContentTypesClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -223,7 +239,7 @@ public final class MultiContentTypesClientBuilder implements HttpTrait<MultiCont
     @Generated
     private MultiContentTypesClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         MultiContentTypesClientImpl client = new MultiContentTypesClientImpl(localPipeline,
             JacksonAdapter.createDefaultSerializerAdapter(), this.endpoint);
         return client;
@@ -271,6 +287,15 @@ public final class MultiContentTypesClientBuilder implements HttpTrait<MultiCont
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of MultiContentTypesAsyncClient class.
      * 
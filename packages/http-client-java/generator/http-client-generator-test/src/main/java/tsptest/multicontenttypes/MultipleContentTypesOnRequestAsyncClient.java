@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import tsptest.multicontenttypes.implementation.JsonSerializableHelper;
 import tsptest.multicontenttypes.implementation.MultipleContentTypesOnRequestsImpl;
 import tsptest.multicontenttypes.models.Resource;
 
@@ -177,7 +178,7 @@ public final class MultipleContentTypesOnRequestAsyncClient {
     public Mono<Void> uploadJsonWithMultiBodyTypesForMultiContentTypes(Resource data) {
         // Generated convenience method for uploadJsonWithMultiBodyTypesForMultiContentTypesWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return uploadJsonWithMultiBodyTypesForMultiContentTypesWithResponse(BinaryData.fromObject(data), requestOptions)
-            .flatMap(FluxUtil::toMono);
+        return uploadJsonWithMultiBodyTypesForMultiContentTypesWithResponse(JsonSerializableHelper.toBinaryData(data),
+            requestOptions).flatMap(FluxUtil::toMono);
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import tsptest.multicontenttypes.implementation.JsonSerializableHelper;
 import tsptest.multicontenttypes.implementation.MultipleContentTypesOnRequestsImpl;
 import tsptest.multicontenttypes.models.Resource;
 
@@ -173,7 +174,7 @@ public final class MultipleContentTypesOnRequestClient {
     public void uploadJsonWithMultiBodyTypesForMultiContentTypes(Resource data) {
         // Generated convenience method for uploadJsonWithMultiBodyTypesForMultiContentTypesWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        uploadJsonWithMultiBodyTypesForMultiContentTypesWithResponse(BinaryData.fromObject(data), requestOptions)
-            .getValue();
+        uploadJsonWithMultiBodyTypesForMultiContentTypesWithResponse(JsonSerializableHelper.toBinaryData(data),
+            requestOptions).getValue();
     }
 }
@@ -86,7 +86,7 @@ public final class MultiContentTypesClientImpl {
     /**
      * The SingleContentTypesImpl object to access its operations.
      */
-    private final SingleContentTypesImpl singleContentTypes;
+    private volatile SingleContentTypesImpl singleContentTypes;
 
     /**
      * Gets the SingleContentTypesImpl object to access its operations.
@@ -94,13 +94,23 @@ public final class MultiContentTypesClientImpl {
      * @return the SingleContentTypesImpl object.
      */
     public SingleContentTypesImpl getSingleContentTypes() {
-        return this.singleContentTypes;
+        SingleContentTypesImpl localSingleContentTypes = this.singleContentTypes;
+        if (localSingleContentTypes == null) {
+            synchronized (this) {
+                localSingleContentTypes = this.singleContentTypes;
+                if (localSingleContentTypes == null) {
+                    localSingleContentTypes = new SingleContentTypesImpl(this);
+                    this.singleContentTypes = localSingleContentTypes;
+                }
+            }
+        }
+        return localSingleContentTypes;
     }
 
     /**
      * The MultipleContentTypesOnRequestsImpl object to access its operations.
      */
-    private final MultipleContentTypesOnRequestsImpl multipleContentTypesOnRequests;
+    private volatile MultipleContentTypesOnRequestsImpl multipleContentTypesOnRequests;
 
     /**
      * Gets the MultipleContentTypesOnRequestsImpl object to access its operations.
@@ -108,7 +118,17 @@ public final class MultiContentTypesClientImpl {
      * @return the MultipleContentTypesOnRequestsImpl object.
      */
     public MultipleContentTypesOnRequestsImpl getMultipleContentTypesOnRequests() {
-        return this.multipleContentTypesOnRequests;
+        MultipleContentTypesOnRequestsImpl localMultipleContentTypesOnRequests = this.multipleContentTypesOnRequests;
+        if (localMultipleContentTypesOnRequests == null) {
+            synchronized (this) {
+                localMultipleContentTypesOnRequests = this.multipleContentTypesOnRequests;
+                if (localMultipleContentTypesOnRequests == null) {
+                    localMultipleContentTypesOnRequests = new MultipleContentTypesOnRequestsImpl(this);
+                    this.multipleContentTypesOnRequests = localMultipleContentTypesOnRequests;
+                }
+            }
+        }
+        return localMultipleContentTypesOnRequests;
     }
 
     /**
@@ -143,8 +163,6 @@ public final class MultiContentTypesClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.singleContentTypes = new SingleContentTypesImpl(this);
-        this.multipleContentTypesOnRequests = new MultipleContentTypesOnRequestsImpl(this);
         this.service
             = RestProxy.create(MultiContentTypesClientService.class, this.httpPipeline, this.getSerializerAdapter());
     }
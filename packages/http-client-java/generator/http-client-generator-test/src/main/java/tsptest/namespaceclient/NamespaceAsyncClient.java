@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import tsptest.namespaceclient.implementation.JsonSerializableHelper;
 import tsptest.namespaceclient.implementation.NamespaceClientImpl;
 import tsptest.namespacemodel.models.Model;
 
@@ -79,6 +80,6 @@ public final class NamespaceAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Model.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Model::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import tsptest.namespaceclient.implementation.JsonSerializableHelper;
 import tsptest.namespaceclient.implementation.NamespaceClientImpl;
 import tsptest.namespacemodel.models.Model;
 
@@ -76,6 +77,6 @@ public final class NamespaceClient {
     public Model get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(Model.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(), Model::fromJson);
     }
 }
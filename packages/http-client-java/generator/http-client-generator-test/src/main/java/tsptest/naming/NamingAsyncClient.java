@@ -18,6 +18,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import tsptest.naming.implementation.JsonSerializableHelper;
 import tsptest.naming.implementation.NamingOpsImpl;
 import tsptest.naming.models.DataRequest;
 import tsptest.naming.models.DataResponse;
@@ -159,8 +160,10 @@ public final class NamingAsyncClient {
         if (etag != null) {
             requestOptions.setHeader(HttpHeaderName.ETAG, etag);
         }
-        return postWithResponse(name, BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(DataResponse.class));
+        return postWithResponse(name, JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                DataResponse::fromJson));
     }
 
     /**
@@ -185,8 +188,10 @@ public final class NamingAsyncClient {
     public Mono<DataResponse> post(String name, DataRequest body) {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postWithResponse(name, BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(DataResponse.class));
+        return postWithResponse(name, JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                DataResponse::fromJson));
     }
 
     /**
@@ -205,6 +210,7 @@ public final class NamingAsyncClient {
         // Generated convenience method for getAnonymousWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getAnonymousWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(GetAnonymousResponse.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                GetAnonymousResponse::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.http.HttpHeaderName;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import tsptest.naming.implementation.JsonSerializableHelper;
 import tsptest.naming.implementation.NamingOpsImpl;
 import tsptest.naming.models.DataRequest;
 import tsptest.naming.models.DataResponse;
@@ -112,8 +113,9 @@ public final class NamingClient {
         if (etag != null) {
             requestOptions.setHeader(HttpHeaderName.ETAG, etag);
         }
-        return postWithResponse(name, BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(DataResponse.class);
+        return JsonSerializableHelper.fromBinaryData(
+            postWithResponse(name, JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            DataResponse::fromJson);
     }
 
     /**
@@ -138,8 +140,9 @@ public final class NamingClient {
     public DataResponse post(String name, DataRequest body) {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postWithResponse(name, BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(DataResponse.class);
+        return JsonSerializableHelper.fromBinaryData(
+            postWithResponse(name, JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            DataResponse::fromJson);
     }
 
     /**
@@ -157,6 +160,7 @@ public final class NamingClient {
     public GetAnonymousResponse getAnonymous() {
         // Generated convenience method for getAnonymousWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getAnonymousWithResponse(requestOptions).getValue().toObject(GetAnonymousResponse.class);
+        return JsonSerializableHelper.fromBinaryData(getAnonymousWithResponse(requestOptions).getValue(),
+            GetAnonymousResponse::fromJson);
     }
 }
@@ -60,7 +60,7 @@ public final class NamingClientImpl {
     /**
      * The NamingOpsImpl object to access its operations.
      */
-    private final NamingOpsImpl namingOps;
+    private volatile NamingOpsImpl namingOps;
 
     /**
      * Gets the NamingOpsImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class NamingClientImpl {
      * @return the NamingOpsImpl object.
      */
     public NamingOpsImpl getNamingOps() {
-        return this.namingOps;
+        NamingOpsImpl localNamingOps = this.namingOps;
+        if (localNamingOps == null) {
+            synchronized (this) {
+                localNamingOps = this.namingOps;
+                if (localNamingOps == null) {
+                    localNamingOps = new NamingOpsImpl(this);
+                    this.namingOps = localNamingOps;
+                }
+            }
+        }
+        return localNamingOps;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class NamingClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.namingOps = new NamingOpsImpl(this);
     }
 }
@@ -4,6 +4,10 @@
 
 package tsptest.naming.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for RunObjectLastErrorCodeRenamed.
  */
@@ -32,6 +36,17 @@ public enum RunObjectLastErrorCodeRenamed {
         this.value = value;
     }
 
+    private static final Map<String, RunObjectLastErrorCodeRenamed> VALUES = new HashMap<>();
+
+    private static final Map<String, RunObjectLastErrorCodeRenamed> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (RunObjectLastErrorCodeRenamed item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a RunObjectLastErrorCodeRenamed instance.
      * 
@@ -42,13 +57,8 @@ public enum RunObjectLastErrorCodeRenamed {
         if (value == null) {
             return null;
         }
-        RunObjectLastErrorCodeRenamed[] items = RunObjectLastErrorCodeRenamed.values();
-        for (RunObjectLastErrorCodeRenamed item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        RunObjectLastErrorCodeRenamed item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -4,6 +4,10 @@
 
 package tsptest.naming.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * summary of Types
  * 
@@ -29,6 +33,17 @@ public enum TypesModel {
         this.value = value;
     }
 
+    private static final Map<String, TypesModel> VALUES = new HashMap<>();
+
+    private static final Map<String, TypesModel> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (TypesModel item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a TypesModel instance.
      * 
@@ -39,13 +54,8 @@ public enum TypesModel {
         if (value == null) {
             return null;
         }
-        TypesModel[] items = TypesModel.values();
-        for (TypesModel item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        TypesModel item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -18,6 +18,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import tsptest.namingjavaparser.implementation.JsonSerializableHelper;
 import tsptest.namingjavaparser.implementation.NamingOpsImpl;
 import tsptest.namingjavaparser.models.DataRequest;
 import tsptest.namingjavaparser.models.DataResponse;
@@ -158,8 +159,10 @@ public final class NamingJavaParserAsyncClient {
         if (etag != null) {
             requestOptions.setHeader(HttpHeaderName.ETAG, etag);
         }
-        return postWithResponse(name, BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(DataResponse.class));
+        return postWithResponse(name, JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                DataResponse::fromJson));
     }
 
     /**
@@ -184,8 +187,10 @@ public final class NamingJavaParserAsyncClient {
     public Mono<DataResponse> post(String name, DataRequest body) {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postWithResponse(name, BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(DataResponse.class));
+        return postWithResponse(name, JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                DataResponse::fromJson));
     }
 
     /**
@@ -204,6 +209,7 @@ public final class NamingJavaParserAsyncClient {
         // Generated convenience method for getAnonymousWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getAnonymousWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(GetAnonymousResponse.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                GetAnonymousResponse::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.http.HttpHeaderName;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import tsptest.namingjavaparser.implementation.JsonSerializableHelper;
 import tsptest.namingjavaparser.implementation.NamingOpsImpl;
 import tsptest.namingjavaparser.models.DataRequest;
 import tsptest.namingjavaparser.models.DataResponse;
@@ -156,8 +157,9 @@ public final class NamingJavaParserClient {
         if (etag != null) {
             requestOptions.setHeader(HttpHeaderName.ETAG, etag);
         }
-        return postWithResponse(name, BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(DataResponse.class);
+        return JsonSerializableHelper.fromBinaryData(
+            postWithResponse(name, JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            DataResponse::fromJson);
     }
 
     /**
@@ -182,8 +184,9 @@ public final class NamingJavaParserClient {
     public DataResponse post(String name, DataRequest body) {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postWithResponse(name, BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(DataResponse.class);
+        return JsonSerializableHelper.fromBinaryData(
+            postWithResponse(name, JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            DataResponse::fromJson);
     }
 
     /**
@@ -201,6 +204,7 @@ public final class NamingJavaParserClient {
     public GetAnonymousResponse getAnonymous() {
         // Generated convenience method for getAnonymousWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getAnonymousWithResponse(requestOptions).getValue().toObject(GetAnonymousResponse.class);
+        return JsonSerializableHelper.fromBinaryData(getAnonymousWithResponse(requestOptions).getValue(),
+            GetAnonymousResponse::fromJson);
     }
 }
@@ -4,6 +4,10 @@
 
 package tsptest.namingjavaparser.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for RequestParametersType.
  */
@@ -27,6 +31,17 @@ public enum RequestParametersType {
         this.value = value;
     }
 
+    private static final Map<String, RequestParametersType> VALUES = new HashMap<>();
+
+    private static final Map<String, RequestParametersType> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (RequestParametersType item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a RequestParametersType instance.
      * 
@@ -37,13 +52,8 @@ public enum RequestParametersType {
         if (value == null) {
             return null;
         }
-        RequestParametersType[] items = RequestParametersType.values();
-        for (RequestParametersType item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        RequestParametersType item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
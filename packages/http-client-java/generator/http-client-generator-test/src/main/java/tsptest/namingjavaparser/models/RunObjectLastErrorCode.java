@@ -4,6 +4,10 @@
 
 package tsptest.namingjavaparser.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for RunObjectLastErrorCode.
  */
@@ -32,6 +36,17 @@ public enum RunObjectLastErrorCode {
         this.value = value;
     }
 
+    private static final Map<String, RunObjectLastErrorCode> VALUES = new HashMap<>();
+
+    private static final Map<String, RunObjectLastErrorCode> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (RunObjectLastErrorCode item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a RunObjectLastErrorCode instance.
      * 
@@ -42,13 +57,8 @@ public enum RunObjectLastErrorCode {
         if (value == null) {
             return null;
         }
-        RunObjectLastErrorCode[] items = RunObjectLastErrorCode.values();
-        for (RunObjectLastErrorCode item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        RunObjectLastErrorCode item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -18,6 +18,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import tsptest.optional.implementation.JsonSerializableHelper;
 import tsptest.optional.implementation.OptionalOpsImpl;
 import tsptest.optional.models.AllPropertiesOptional;
 import tsptest.optional.models.Optional;
@@ -191,11 +192,12 @@ public final class OptionalAsyncClient {
             requestOptions.addQueryParam("stringNullable", stringNullable, false);
         }
         if (optional != null) {
-            requestOptions.setBody(BinaryData.fromObject(optional));
+            requestOptions.setBody(JsonSerializableHelper.toBinaryData(optional));
         }
         return putWithResponse(requestHeaderRequired, booleanRequired, booleanRequiredNullable, stringRequired,
             stringRequiredNullable, requestOptions).flatMap(FluxUtil::toMono)
-                .map(protocolMethodData -> protocolMethodData.toObject(AllPropertiesOptional.class));
+                .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                    AllPropertiesOptional::fromJson));
     }
 
     /**
@@ -222,6 +224,7 @@ public final class OptionalAsyncClient {
         RequestOptions requestOptions = new RequestOptions();
         return putWithResponse(requestHeaderRequired, booleanRequired, booleanRequiredNullable, stringRequired,
             stringRequiredNullable, requestOptions).flatMap(FluxUtil::toMono)
-                .map(protocolMethodData -> protocolMethodData.toObject(AllPropertiesOptional.class));
+                .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                    AllPropertiesOptional::fromJson));
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.HttpHeaderName;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import tsptest.optional.implementation.JsonSerializableHelper;
 import tsptest.optional.implementation.OptionalOpsImpl;
 import tsptest.optional.models.AllPropertiesOptional;
 import tsptest.optional.models.Optional;
@@ -189,10 +190,11 @@ public final class OptionalClient {
             requestOptions.addQueryParam("stringNullable", stringNullable, false);
         }
         if (optional != null) {
-            requestOptions.setBody(BinaryData.fromObject(optional));
+            requestOptions.setBody(JsonSerializableHelper.toBinaryData(optional));
         }
-        return putWithResponse(requestHeaderRequired, booleanRequired, booleanRequiredNullable, stringRequired,
-            stringRequiredNullable, requestOptions).getValue().toObject(AllPropertiesOptional.class);
+        return JsonSerializableHelper.fromBinaryData(putWithResponse(requestHeaderRequired, booleanRequired,
+            booleanRequiredNullable, stringRequired, stringRequiredNullable, requestOptions).getValue(),
+            AllPropertiesOptional::fromJson);
     }
 
     /**
@@ -217,7 +219,8 @@ public final class OptionalClient {
         Boolean booleanRequiredNullable, String stringRequired, String stringRequiredNullable) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(requestHeaderRequired, booleanRequired, booleanRequiredNullable, stringRequired,
-            stringRequiredNullable, requestOptions).getValue().toObject(AllPropertiesOptional.class);
+        return JsonSerializableHelper.fromBinaryData(putWithResponse(requestHeaderRequired, booleanRequired,
+            booleanRequiredNullable, stringRequired, stringRequiredNullable, requestOptions).getValue(),
+            AllPropertiesOptional::fromJson);
     }
 }
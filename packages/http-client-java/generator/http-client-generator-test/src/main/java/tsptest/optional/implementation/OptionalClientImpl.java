@@ -60,7 +60,7 @@ public final class OptionalClientImpl {
     /**
      * The OptionalOpsImpl object to access its operations.
      */
-    private final OptionalOpsImpl optionalOps;
+    private volatile OptionalOpsImpl optionalOps;
 
     /**
      * Gets the OptionalOpsImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class OptionalClientImpl {
      * @return the OptionalOpsImpl object.
      */
     public OptionalOpsImpl getOptionalOps() {
-        return this.optionalOps;
+        OptionalOpsImpl localOptionalOps = this.optionalOps;
+        if (localOptionalOps == null) {
+            synchronized (this) {
+                localOptionalOps = this.optionalOps;
+                if (localOptionalOps == null) {
+                    localOptionalOps = new OptionalOpsImpl(this);
+                    this.optionalOps = localOptionalOps;
+                }
+            }
+        }
+        return localOptionalOps;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class OptionalClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.optionalOps = new OptionalOpsImpl(this);
     }
 }
@@ -381,8 +381,8 @@ public final class AllPropertiesOptional implements JsonSerializable<AllProperti
         jsonWriter.writeStringField("duration", CoreUtils.durationToStringWithDays(this.duration));
         jsonWriter.writeStringField("dateTime",
             this.dateTime == null ? null : DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(this.dateTime));
-        jsonWriter.writeArrayField("stringList", this.stringList, (writer, element) -> writer.writeString(element));
-        jsonWriter.writeMapField("bytesDict", this.bytesDict, (writer, element) -> writer.writeBinary(element));
+        jsonWriter.writeArrayField("stringList", this.stringList, JsonWriter::writeString);
+        jsonWriter.writeMapField("bytesDict", this.bytesDict, JsonWriter::writeBinary);
         jsonWriter.writeNumberField("epochDateTimeRequiredNullable", this.epochDateTimeRequiredNullable);
         jsonWriter.writeNumberField("epochDateTimeNullable", this.epochDateTimeNullable);
         jsonWriter.writeJsonField("immutable", this.immutable);
@@ -439,10 +439,10 @@ public final class AllPropertiesOptional implements JsonSerializable<AllProperti
                     deserializedAllPropertiesOptional.dateTime = reader
                         .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
                 } else if ("stringList".equals(fieldName)) {
-                    List<String> stringList = reader.readArray(reader1 -> reader1.getString());
+                    List<String> stringList = reader.readArray(JsonReader::getString);
                     deserializedAllPropertiesOptional.stringList = stringList;
                 } else if ("bytesDict".equals(fieldName)) {
-                    Map<String, byte[]> bytesDict = reader.readMap(reader1 -> reader1.getBinary());
+                    Map<String, byte[]> bytesDict = reader.readMap(JsonReader::getBinary);
                     deserializedAllPropertiesOptional.bytesDict = bytesDict;
                 } else if ("epochDateTimeRequiredNullable".equals(fieldName)) {
                     deserializedAllPropertiesOptional.epochDateTimeRequiredNullable
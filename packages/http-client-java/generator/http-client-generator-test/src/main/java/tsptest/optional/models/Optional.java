@@ -554,8 +554,8 @@ public final class Optional implements JsonSerializable<Optional> {
         jsonWriter.writeStringField("duration", CoreUtils.durationToStringWithDays(this.duration));
         jsonWriter.writeStringField("dateTime",
             this.dateTime == null ? null : DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(this.dateTime));
-        jsonWriter.writeArrayField("stringList", this.stringList, (writer, element) -> writer.writeString(element));
-        jsonWriter.writeMapField("bytesDict", this.bytesDict, (writer, element) -> writer.writeBinary(element));
+        jsonWriter.writeArrayField("stringList", this.stringList, JsonWriter::writeString);
+        jsonWriter.writeMapField("bytesDict", this.bytesDict, JsonWriter::writeBinary);
         jsonWriter.writeNumberField("epochDateTimeNullable", this.epochDateTimeNullable);
         return jsonWriter.writeEndObject();
     }
@@ -633,9 +633,9 @@ public final class Optional implements JsonSerializable<Optional> {
                     dateTime = reader
                         .getNullable(nonNullReader -> CoreUtils.parseBestOffsetDateTime(nonNullReader.getString()));
                 } else if ("stringList".equals(fieldName)) {
-                    stringList = reader.readArray(reader1 -> reader1.getString());
+                    stringList = reader.readArray(JsonReader::getString);
                 } else if ("bytesDict".equals(fieldName)) {
-                    bytesDict = reader.readMap(reader1 -> reader1.getBinary());
+                    bytesDict = reader.readMap(JsonReader::getBinary);
                 } else if ("epochDateTimeNullable".equals(fieldName)) {
                     epochDateTimeNullable = reader.getNullable(JsonReader::getLong);
                 } else {
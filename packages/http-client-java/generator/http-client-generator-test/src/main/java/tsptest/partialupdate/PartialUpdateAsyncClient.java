@@ -16,6 +16,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import tsptest.partialupdate.implementation.JsonSerializableHelper;
 import tsptest.partialupdate.implementation.PartialUpdateClientImpl;
 import tsptest.partialupdate.models.PartialUpdateModel;
 
@@ -82,6 +83,7 @@ public final class PartialUpdateAsyncClient {
         // Generated convenience method for readWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return readWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(PartialUpdateModel.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                PartialUpdateModel::fromJson));
     }
 }
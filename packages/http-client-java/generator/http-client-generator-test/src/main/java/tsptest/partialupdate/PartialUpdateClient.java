@@ -14,6 +14,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import tsptest.partialupdate.implementation.JsonSerializableHelper;
 import tsptest.partialupdate.implementation.PartialUpdateClientImpl;
 import tsptest.partialupdate.models.PartialUpdateModel;
 
@@ -79,7 +80,8 @@ public final class PartialUpdateClient {
     public PartialUpdateModel read() {
         // Generated convenience method for readWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return readWithResponse(requestOptions).getValue().toObject(PartialUpdateModel.class);
+        return JsonSerializableHelper.fromBinaryData(readWithResponse(requestOptions).getValue(),
+            PartialUpdateModel::fromJson);
     }
 
     /**
@@ -55,6 +55,13 @@ public final class PartialUpdateClientBuilder implements HttpTrait<PartialUpdate
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the PartialUpdateClientBuilder.
      */
@@ -75,6 +82,7 @@ public final class PartialUpdateClientBuilder implements HttpTrait<PartialUpdate
     @Generated
     @Override
     public PartialUpdateClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -94,6 +102,7 @@ public final class PartialUpdateClientBuilder implements HttpTrait<PartialUpdate
     @Generated
     @Override
     public PartialUpdateClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -110,6 +119,7 @@ public final class PartialUpdateClientBuilder implements HttpTrait<PartialUpdate
     @Generated
     @Override
     public PartialUpdateClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -126,6 +136,7 @@ public final class PartialUpdateClientBuilder implements HttpTrait<PartialUpdate
     @Generated
     @Override
     public PartialUpdateClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -142,6 +153,7 @@ public final class PartialUpdateClientBuilder implements HttpTrait<PartialUpdate
     @Generated
     @Override
     public PartialUpdateClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -152,6 +164,7 @@ public final class PartialUpdateClientBuilder implements HttpTrait<PartialUpdate
     @Generated
     @Override
     public PartialUpdateClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -169,6 +182,7 @@ public final class PartialUpdateClientBuilder implements HttpTrait<PartialUpdate
     @Generated
     @Override
     public PartialUpdateClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -185,6 +199,7 @@ public final class PartialUpdateClientBuilder implements HttpTrait<PartialUpdate
     @Generated
     @Override
     public PartialUpdateClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -203,6 +218,7 @@ public final class PartialUpdateClientBuilder implements HttpTrait<PartialUpdate
      */
     @Generated
     public PartialUpdateClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -215,7 +231,7 @@ public final class PartialUpdateClientBuilder implements HttpTrait<PartialUpdate
     @Generated
     private PartialUpdateClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         PartialUpdateClientImpl client = new PartialUpdateClientImpl(localPipeline,
             JacksonAdapter.createDefaultSerializerAdapter(), this.endpoint);
         return client;
@@ -256,6 +272,15 @@ public final class PartialUpdateClientBuilder implements HttpTrait<PartialUpdate
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of PartialUpdateAsyncClient class.
      *
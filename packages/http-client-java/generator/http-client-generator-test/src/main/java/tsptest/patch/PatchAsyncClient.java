@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import tsptest.patch.implementation.JsonMergePatchHelper;
+import tsptest.patch.implementation.JsonSerializableHelper;
 import tsptest.patch.implementation.PatchesImpl;
 import tsptest.patch.models.Fish;
 import tsptest.patch.models.Resource;
@@ -342,13 +343,10 @@ public final class PatchAsyncClient {
     public Mono<Resource> createOrUpdateResource(Resource resource) {
         // Generated convenience method for createOrUpdateResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        resourceInBinaryData.getLength();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
+        BinaryData resourceInBinaryData = JsonSerializableHelper.toBinaryData(resource,
+            JsonMergePatchHelper.getResourceAccessor()::toJsonMergePatch);
         return createOrUpdateResourceWithResponse(resourceInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -369,15 +367,12 @@ public final class PatchAsyncClient {
         // Generated convenience method for createOrUpdateOptionalResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (resource != null) {
-            JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-            BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-            // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-            resourceInBinaryData.getLength();
-            JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
+            BinaryData resourceInBinaryData = JsonSerializableHelper.toBinaryData(resource,
+                JsonMergePatchHelper.getResourceAccessor()::toJsonMergePatch);
             requestOptions.setBody(resourceInBinaryData);
         }
         return createOrUpdateOptionalResourceWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -396,7 +391,7 @@ public final class PatchAsyncClient {
         // Generated convenience method for createOrUpdateOptionalResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return createOrUpdateOptionalResourceWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -417,13 +412,10 @@ public final class PatchAsyncClient {
     public Mono<Fish> createOrUpdateFish(Fish fish) {
         // Generated convenience method for createOrUpdateFishWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, true);
-        BinaryData fishInBinaryData = BinaryData.fromObject(fish);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        fishInBinaryData.getLength();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, false);
+        BinaryData fishInBinaryData
+            = JsonSerializableHelper.toBinaryData(fish, JsonMergePatchHelper.getFishAccessor()::toJsonMergePatch);
         return createOrUpdateFishWithResponse(fishInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Fish.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Fish::fromJson));
     }
 
     /**
@@ -444,12 +436,9 @@ public final class PatchAsyncClient {
     public Mono<Salmon> createOrUpdateSalmon(Salmon fish) {
         // Generated convenience method for createOrUpdateSalmonWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, true);
-        BinaryData fishInBinaryData = BinaryData.fromObject(fish);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        fishInBinaryData.getLength();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, false);
+        BinaryData fishInBinaryData
+            = JsonSerializableHelper.toBinaryData(fish, JsonMergePatchHelper.getFishAccessor()::toJsonMergePatch);
         return createOrUpdateSalmonWithResponse(fishInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Salmon.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Salmon::fromJson));
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import tsptest.patch.implementation.JsonMergePatchHelper;
+import tsptest.patch.implementation.JsonSerializableHelper;
 import tsptest.patch.implementation.PatchesImpl;
 import tsptest.patch.models.Fish;
 import tsptest.patch.models.Resource;
@@ -339,13 +340,10 @@ public final class PatchClient {
     public Resource createOrUpdateResource(Resource resource) {
         // Generated convenience method for createOrUpdateResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        resourceInBinaryData.getLength();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
-        return createOrUpdateResourceWithResponse(resourceInBinaryData, requestOptions).getValue()
-            .toObject(Resource.class);
+        BinaryData resourceInBinaryData = JsonSerializableHelper.toBinaryData(resource,
+            JsonMergePatchHelper.getResourceAccessor()::toJsonMergePatch);
+        return JsonSerializableHelper.fromBinaryData(
+            createOrUpdateResourceWithResponse(resourceInBinaryData, requestOptions).getValue(), Resource::fromJson);
     }
 
     /**
@@ -366,14 +364,12 @@ public final class PatchClient {
         // Generated convenience method for createOrUpdateOptionalResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
         if (resource != null) {
-            JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-            BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-            // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-            resourceInBinaryData.getLength();
-            JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
+            BinaryData resourceInBinaryData = JsonSerializableHelper.toBinaryData(resource,
+                JsonMergePatchHelper.getResourceAccessor()::toJsonMergePatch);
             requestOptions.setBody(resourceInBinaryData);
         }
-        return createOrUpdateOptionalResourceWithResponse(requestOptions).getValue().toObject(Resource.class);
+        return JsonSerializableHelper
+            .fromBinaryData(createOrUpdateOptionalResourceWithResponse(requestOptions).getValue(), Resource::fromJson);
     }
 
     /**
@@ -391,7 +387,8 @@ public final class PatchClient {
     public Resource createOrUpdateOptionalResource() {
         // Generated convenience method for createOrUpdateOptionalResourceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return createOrUpdateOptionalResourceWithResponse(requestOptions).getValue().toObject(Resource.class);
+        return JsonSerializableHelper
+            .fromBinaryData(createOrUpdateOptionalResourceWithResponse(requestOptions).getValue(), Resource::fromJson);
     }
 
     /**
@@ -411,12 +408,10 @@ public final class PatchClient {
     public Fish createOrUpdateFish(Fish fish) {
         // Generated convenience method for createOrUpdateFishWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, true);
-        BinaryData fishInBinaryData = BinaryData.fromObject(fish);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        fishInBinaryData.getLength();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, false);
-        return createOrUpdateFishWithResponse(fishInBinaryData, requestOptions).getValue().toObject(Fish.class);
+        BinaryData fishInBinaryData
+            = JsonSerializableHelper.toBinaryData(fish, JsonMergePatchHelper.getFishAccessor()::toJsonMergePatch);
+        return JsonSerializableHelper.fromBinaryData(
+            createOrUpdateFishWithResponse(fishInBinaryData, requestOptions).getValue(), Fish::fromJson);
     }
 
     /**
@@ -437,11 +432,9 @@ public final class PatchClient {
     public Salmon createOrUpdateSalmon(Salmon fish) {
         // Generated convenience method for createOrUpdateSalmonWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, true);
-        BinaryData fishInBinaryData = BinaryData.fromObject(fish);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        fishInBinaryData.getLength();
-        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(fish, false);
-        return createOrUpdateSalmonWithResponse(fishInBinaryData, requestOptions).getValue().toObject(Salmon.class);
+        BinaryData fishInBinaryData
+            = JsonSerializableHelper.toBinaryData(fish, JsonMergePatchHelper.getFishAccessor()::toJsonMergePatch);
+        return JsonSerializableHelper.fromBinaryData(
+            createOrUpdateSalmonWithResponse(fishInBinaryData, requestOptions).getValue(), Salmon::fromJson);
     }
 }
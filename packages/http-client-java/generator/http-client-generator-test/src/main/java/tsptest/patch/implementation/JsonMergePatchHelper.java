@@ -4,6 +4,8 @@
 
 package tsptest.patch.implementation;
 
+import com.azure.json.JsonWriter;
+import java.io.IOException;
 import tsptest.patch.models.Fish;
 import tsptest.patch.models.InnerModel;
 import tsptest.patch.models.Resource;
@@ -19,6 +21,8 @@ public class JsonMergePatchHelper {
         Resource prepareModelForJsonMergePatch(Resource resource, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(Resource resource);
+
+        JsonWriter toJsonMergePatch(Resource resource, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setResourceAccessor(ResourceAccessor accessor) {
@@ -35,6 +39,8 @@ public class JsonMergePatchHelper {
         InnerModel prepareModelForJsonMergePatch(InnerModel innerModel, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(InnerModel innerModel);
+
+        JsonWriter toJsonMergePatch(InnerModel innerModel, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setInnerModelAccessor(InnerModelAccessor accessor) {
@@ -52,6 +58,8 @@ public class JsonMergePatchHelper {
 
         boolean isJsonMergePatch(Fish fish);
 
+        JsonWriter toJsonMergePatch(Fish fish, JsonWriter jsonWriter) throws IOException;
+
         void setId(Fish fish, String id);
 
         void setName(Fish fish, String name);
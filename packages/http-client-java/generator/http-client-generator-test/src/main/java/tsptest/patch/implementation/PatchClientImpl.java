@@ -60,7 +60,7 @@ public final class PatchClientImpl {
     /**
      * The PatchesImpl object to access its operations.
      */
-    private final PatchesImpl patches;
+    private volatile PatchesImpl patches;
 
     /**
      * Gets the PatchesImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class PatchClientImpl {
      * @return the PatchesImpl object.
      */
     public PatchesImpl getPatches() {
-        return this.patches;
+        PatchesImpl localPatches = this.patches;
+        if (localPatches == null) {
+            synchronized (this) {
+                localPatches = this.patches;
+                if (localPatches == null) {
+                    localPatches = new PatchesImpl(this);
+                    this.patches = localPatches;
+                }
+            }
+        }
+        return localPatches;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class PatchClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.patches = new PatchesImpl(this);
     }
 }
@@ -77,6 +77,11 @@ public class Fish implements JsonSerializable<Fish> {
                 return model.jsonMergePatch;
             }
 
+            @Override
+            public JsonWriter toJsonMergePatch(Fish model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
+
             @Override
             public void setId(Fish model, String id) {
                 model.id = id;
@@ -201,7 +206,7 @@ public class Fish implements JsonSerializable<Fish> {
     }
 
     @Generated
-    private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
+    JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("kind", this.kind);
         if (updatedProperties.contains("age")) {
@@ -108,6 +108,11 @@ public final class Resource implements JsonSerializable<Resource> {
             public boolean isJsonMergePatch(Resource model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(Resource model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
@@ -334,12 +339,12 @@ public final class Resource implements JsonSerializable<Resource> {
         } else {
             jsonWriter.writeStartObject();
             jsonWriter.writeStringField("description", this.description);
-            jsonWriter.writeMapField("map", this.map, (writer, element) -> writer.writeJson(element));
+            jsonWriter.writeMapField("map", this.map, JsonWriter::writeJson);
             jsonWriter.writeNumberField("longValue", this.longValue);
             jsonWriter.writeNumberField("intValue", this.intValue);
             jsonWriter.writeStringField("enumValue", this.enumValue == null ? null : this.enumValue.toString());
             jsonWriter.writeJsonField("wireNameForInnerModelProperty", this.innerModelProperty);
-            jsonWriter.writeArrayField("array", this.array, (writer, element) -> writer.writeJson(element));
+            jsonWriter.writeArrayField("array", this.array, JsonWriter::writeJson);
             jsonWriter.writeJsonField("fish", this.fish);
             return jsonWriter.writeEndObject();
         }
@@ -361,9 +366,7 @@ public final class Resource implements JsonSerializable<Resource> {
             } else {
                 jsonWriter.writeMapField("map", this.map, (writer, element) -> {
                     if (element != null) {
-                        JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(element, true);
-                        writer.writeJson(element);
-                        JsonMergePatchHelper.getInnerModelAccessor().prepareModelForJsonMergePatch(element, false);
+                        JsonMergePatchHelper.getInnerModelAccessor().toJsonMergePatch(element, writer);
                     } else {
                         writer.writeNull();
                     }
@@ -395,27 +398,23 @@ public final class Resource implements JsonSerializable<Resource> {
             if (this.innerModelProperty == null) {
                 jsonWriter.writeNullField("wireNameForInnerModelProperty");
             } else {
-                JsonMergePatchHelper.getInnerModelAccessor()
-                    .prepareModelForJsonMergePatch(this.innerModelProperty, true);
-                jsonWriter.writeJsonField("wireNameForInnerModelProperty", this.innerModelProperty);
-                JsonMergePatchHelper.getInnerModelAccessor()
-                    .prepareModelForJsonMergePatch(this.innerModelProperty, false);
+                jsonWriter.writeFieldName("wireNameForInnerModelProperty");
+                JsonMergePatchHelper.getInnerModelAccessor().toJsonMergePatch(this.innerModelProperty, jsonWriter);
             }
         }
         if (updatedProperties.contains("array")) {
             if (this.array == null) {
                 jsonWriter.writeNullField("array");
             } else {
-                jsonWriter.writeArrayField("array", this.array, (writer, element) -> writer.writeJson(element));
+                jsonWriter.writeArrayField("array", this.array, JsonWriter::writeJson);
             }
         }
         if (updatedProperties.contains("fish")) {
             if (this.fish == null) {
                 jsonWriter.writeNullField("fish");
             } else {
-                JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(this.fish, true);
-                jsonWriter.writeJsonField("fish", this.fish);
-                JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(this.fish, false);
+                jsonWriter.writeFieldName("fish");
+                JsonMergePatchHelper.getFishAccessor().toJsonMergePatch(this.fish, jsonWriter);
             }
         }
         return jsonWriter.writeEndObject();
@@ -445,7 +444,7 @@ public final class Resource implements JsonSerializable<Resource> {
                 } else if ("description".equals(fieldName)) {
                     deserializedResource.description = reader.getString();
                 } else if ("map".equals(fieldName)) {
-                    Map<String, InnerModel> map = reader.readMap(reader1 -> InnerModel.fromJson(reader1));
+                    Map<String, InnerModel> map = reader.readMap(InnerModel::fromJson);
                     deserializedResource.map = map;
                 } else if ("longValue".equals(fieldName)) {
                     deserializedResource.longValue = reader.getNullable(JsonReader::getLong);
@@ -456,7 +455,7 @@ public final class Resource implements JsonSerializable<Resource> {
                 } else if ("wireNameForInnerModelProperty".equals(fieldName)) {
                     deserializedResource.innerModelProperty = InnerModel.fromJson(reader);
                 } else if ("array".equals(fieldName)) {
-                    List<InnerModel> array = reader.readArray(reader1 -> InnerModel.fromJson(reader1));
+                    List<InnerModel> array = reader.readArray(InnerModel::fromJson);
                     deserializedResource.array = array;
                 } else if ("fish".equals(fieldName)) {
                     deserializedResource.fish = Fish.fromJson(reader);
@@ -4,6 +4,10 @@
 
 package tsptest.patch.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for ResourceEnumValue.
  */
@@ -32,6 +36,17 @@ public enum ResourceEnumValue {
         this.value = value;
     }
 
+    private static final Map<String, ResourceEnumValue> VALUES = new HashMap<>();
+
+    private static final Map<String, ResourceEnumValue> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (ResourceEnumValue item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a ResourceEnumValue instance.
      * 
@@ -42,13 +57,8 @@ public enum ResourceEnumValue {
         if (value == null) {
             return null;
         }
-        ResourceEnumValue[] items = ResourceEnumValue.values();
-        for (ResourceEnumValue item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        ResourceEnumValue item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
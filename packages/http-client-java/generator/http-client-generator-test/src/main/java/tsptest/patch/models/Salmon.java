@@ -174,15 +174,16 @@ public final class Salmon extends Fish {
             jsonWriter.writeIntField("age", getAge());
             jsonWriter.writeStringField("color", getColor());
             jsonWriter.writeStringField("kind", this.kind);
-            jsonWriter.writeArrayField("friends", this.friends, (writer, element) -> writer.writeJson(element));
-            jsonWriter.writeMapField("hate", this.hate, (writer, element) -> writer.writeJson(element));
+            jsonWriter.writeArrayField("friends", this.friends, JsonWriter::writeJson);
+            jsonWriter.writeMapField("hate", this.hate, JsonWriter::writeJson);
             jsonWriter.writeJsonField("partner", this.partner);
             return jsonWriter.writeEndObject();
         }
     }
 
     @Generated
-    private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
+    @Override
+    JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         if (updatedProperties.contains("age")) {
             jsonWriter.writeIntField("age", getAge());
@@ -199,7 +200,7 @@ public final class Salmon extends Fish {
             if (this.friends == null) {
                 jsonWriter.writeNullField("friends");
             } else {
-                jsonWriter.writeArrayField("friends", this.friends, (writer, element) -> writer.writeJson(element));
+                jsonWriter.writeArrayField("friends", this.friends, JsonWriter::writeJson);
             }
         }
         if (updatedProperties.contains("hate")) {
@@ -208,9 +209,7 @@ public final class Salmon extends Fish {
             } else {
                 jsonWriter.writeMapField("hate", this.hate, (writer, element) -> {
                     if (element != null) {
-                        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(element, true);
-                        writer.writeJson(element);
-                        JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(element, false);
+                        JsonMergePatchHelper.getFishAccessor().toJsonMergePatch(element, writer);
                     } else {
                         writer.writeNull();
                     }
@@ -221,9 +220,8 @@ public final class Salmon extends Fish {
             if (this.partner == null) {
                 jsonWriter.writeNullField("partner");
             } else {
-                JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(this.partner, true);
-                jsonWriter.writeJsonField("partner", this.partner);
-                JsonMergePatchHelper.getFishAccessor().prepareModelForJsonMergePatch(this.partner, false);
+                jsonWriter.writeFieldName("partner");
+                JsonMergePatchHelper.getFishAccessor().toJsonMergePatch(this.partner, jsonWriter);
             }
         }
         return jsonWriter.writeEndObject();
@@ -257,10 +255,10 @@ public final class Salmon extends Fish {
                 } else if ("kind".equals(fieldName)) {
                     deserializedSalmon.kind = reader.getString();
                 } else if ("friends".equals(fieldName)) {
-                    List<Fish> friends = reader.readArray(reader1 -> Fish.fromJson(reader1));
+                    List<Fish> friends = reader.readArray(Fish::fromJson);
                     deserializedSalmon.friends = friends;
                 } else if ("hate".equals(fieldName)) {
-                    Map<String, Fish> hate = reader.readMap(reader1 -> Fish.fromJson(reader1));
+                    Map<String, Fish> hate = reader.readMap(Fish::fromJson);
                     deserializedSalmon.hate = hate;
                 } else if ("partner".equals(fieldName)) {
                     deserializedSalmon.partner = Fish.fromJson(reader);
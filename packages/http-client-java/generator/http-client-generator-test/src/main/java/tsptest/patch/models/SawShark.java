@@ -119,7 +119,8 @@ public final class SawShark extends Shark {
     }
 
     @Generated
-    private JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
+    @Override
+    JsonWriter toJsonMergePatch(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("kind", this.kind);
         if (updatedProperties.contains("age")) {
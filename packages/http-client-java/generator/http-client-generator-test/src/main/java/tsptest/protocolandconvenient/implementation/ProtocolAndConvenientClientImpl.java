@@ -75,7 +75,7 @@ public final class ProtocolAndConvenientClientImpl {
     /**
      * The ProtocolAndConvenienceOpsImpl object to access its operations.
      */
-    private final ProtocolAndConvenienceOpsImpl protocolAndConvenienceOps;
+    private volatile ProtocolAndConvenienceOpsImpl protocolAndConvenienceOps;
 
     /**
      * Gets the ProtocolAndConvenienceOpsImpl object to access its operations.
@@ -83,7 +83,17 @@ public final class ProtocolAndConvenientClientImpl {
      * @return the ProtocolAndConvenienceOpsImpl object.
      */
     public ProtocolAndConvenienceOpsImpl getProtocolAndConvenienceOps() {
-        return this.protocolAndConvenienceOps;
+        ProtocolAndConvenienceOpsImpl localProtocolAndConvenienceOps = this.protocolAndConvenienceOps;
+        if (localProtocolAndConvenienceOps == null) {
+            synchronized (this) {
+                localProtocolAndConvenienceOps = this.protocolAndConvenienceOps;
+                if (localProtocolAndConvenienceOps == null) {
+                    localProtocolAndConvenienceOps = new ProtocolAndConvenienceOpsImpl(this);
+                    this.protocolAndConvenienceOps = localProtocolAndConvenienceOps;
+                }
+            }
+        }
+        return localProtocolAndConvenienceOps;
     }
 
     /**
@@ -123,6 +133,5 @@ public final class ProtocolAndConvenientClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.serviceVersion = serviceVersion;
-        this.protocolAndConvenienceOps = new ProtocolAndConvenienceOpsImpl(this);
     }
 }
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import tsptest.response.implementation.JsonSerializableHelper;
 import tsptest.response.implementation.ResponseClientImpl;
 import tsptest.response.models.OperationDetails1;
 import tsptest.response.models.OperationDetails2;
@@ -615,7 +616,7 @@ public final class ResponseAsyncClient {
         // Generated convenience method for createWithHeadersWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return createWithHeadersWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -670,7 +671,8 @@ public final class ResponseAsyncClient {
     public PollerFlux<OperationDetails1, Resource> beginLroInvalidPollResponse(Resource request) {
         // Generated convenience method for beginLroInvalidPollResponseWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginLroInvalidPollResponseWithModelAsync(BinaryData.fromObject(request), requestOptions);
+        return serviceClient.beginLroInvalidPollResponseWithModelAsync(JsonSerializableHelper.toBinaryData(request),
+            requestOptions);
     }
 
     /**
@@ -690,7 +692,8 @@ public final class ResponseAsyncClient {
     public PollerFlux<OperationDetails2, Resource> beginLroInvalidResult(Resource request) {
         // Generated convenience method for beginLroInvalidResultWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginLroInvalidResultWithModelAsync(BinaryData.fromObject(request), requestOptions);
+        return serviceClient.beginLroInvalidResultWithModelAsync(JsonSerializableHelper.toBinaryData(request),
+            requestOptions);
     }
 
     /**
@@ -769,7 +772,7 @@ public final class ResponseAsyncClient {
         // Generated convenience method for getJsonUtf8ResponseWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getJsonUtf8ResponseWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -788,7 +791,7 @@ public final class ResponseAsyncClient {
         // Generated convenience method for getPlusJsonResponseWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getPlusJsonResponseWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
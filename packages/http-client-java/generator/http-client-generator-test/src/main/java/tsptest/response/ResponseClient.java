@@ -19,6 +19,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.polling.SyncPoller;
 import com.azure.core.util.serializer.TypeReference;
 import java.util.List;
+import tsptest.response.implementation.JsonSerializableHelper;
 import tsptest.response.implementation.ResponseClientImpl;
 import tsptest.response.models.OperationDetails1;
 import tsptest.response.models.OperationDetails2;
@@ -605,7 +606,8 @@ public final class ResponseClient {
     public Resource createWithHeaders() {
         // Generated convenience method for createWithHeadersWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return createWithHeadersWithResponse(requestOptions).getValue().toObject(Resource.class);
+        return JsonSerializableHelper.fromBinaryData(createWithHeadersWithResponse(requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -659,7 +661,8 @@ public final class ResponseClient {
     public SyncPoller<OperationDetails1, Resource> beginLroInvalidPollResponse(Resource request) {
         // Generated convenience method for beginLroInvalidPollResponseWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginLroInvalidPollResponseWithModel(BinaryData.fromObject(request), requestOptions);
+        return serviceClient.beginLroInvalidPollResponseWithModel(JsonSerializableHelper.toBinaryData(request),
+            requestOptions);
     }
 
     /**
@@ -679,7 +682,8 @@ public final class ResponseClient {
     public SyncPoller<OperationDetails2, Resource> beginLroInvalidResult(Resource request) {
         // Generated convenience method for beginLroInvalidResultWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginLroInvalidResultWithModel(BinaryData.fromObject(request), requestOptions);
+        return serviceClient.beginLroInvalidResultWithModel(JsonSerializableHelper.toBinaryData(request),
+            requestOptions);
     }
 
     /**
@@ -734,7 +738,8 @@ public final class ResponseClient {
     public Resource getJsonUtf8Response() {
         // Generated convenience method for getJsonUtf8ResponseWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getJsonUtf8ResponseWithResponse(requestOptions).getValue().toObject(Resource.class);
+        return JsonSerializableHelper.fromBinaryData(getJsonUtf8ResponseWithResponse(requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -752,7 +757,8 @@ public final class ResponseClient {
     public Resource getPlusJsonResponse() {
         // Generated convenience method for getPlusJsonResponseWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getPlusJsonResponseWithResponse(requestOptions).getValue().toObject(Resource.class);
+        return JsonSerializableHelper.fromBinaryData(getPlusJsonResponseWithResponse(requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -17,10 +17,10 @@ import com.azure.core.util.polling.SyncOperationResourcePollingStrategy;
 import com.azure.core.util.serializer.JsonSerializerProviders;
 import com.azure.core.util.serializer.ObjectSerializer;
 import com.azure.core.util.serializer.TypeReference;
+import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.util.Map;
 
 // DO NOT modify this helper class
 
@@ -116,13 +116,15 @@ public final class SyncOperationLocationPollingStrategy<T, U> extends SyncOperat
         if (propertyName != null) {
             // take the last poll response body from PollingContext,
             // and de-serialize the <propertyName> property as final result
-            BinaryData latestResponseBody
-                = BinaryData.fromString(pollingContext.getData(PollingUtils.POLL_RESPONSE_BODY));
-            Map<String, Object> pollResult = PollingUtils.deserializeResponseSync(latestResponseBody, serializer,
-                PollingUtils.POST_POLL_RESULT_TYPE_REFERENCE);
-            if (pollResult != null && pollResult.get(propertyName) != null) {
-                return PollingUtils.deserializeResponseSync(BinaryData.fromObject(pollResult.get(propertyName)),
-                    serializer, resultType);
+            U result;
+            try {
+                result = PollingUtils.readPropertyValue(pollingContext.getData(PollingUtils.POLL_RESPONSE_BODY),
+                    propertyName, serializer, resultType);
+            } catch (IOException e) {
+                throw LOGGER.logExceptionAsError(new UncheckedIOException(e));
+            }
+            if (result != null) {
+                return result;
             } else {
                 throw LOGGER.logExceptionAsError(new AzureException("Cannot get final result"));
             }
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import tsptest.specialchars.implementation.BuiltinOpsImpl;
+import tsptest.specialchars.implementation.JsonSerializableHelper;
 import tsptest.specialchars.implementation.models.ReadRequest;
 import tsptest.specialchars.models.Resource;
 
@@ -97,8 +98,8 @@ public final class SpecialCharsAsyncClient {
         // Generated convenience method for readWithResponse
         RequestOptions requestOptions = new RequestOptions();
         ReadRequest readRequestObj = new ReadRequest(id);
-        BinaryData readRequest = BinaryData.fromObject(readRequestObj);
+        BinaryData readRequest = JsonSerializableHelper.toBinaryData(readRequestObj);
         return readWithResponse(readRequest, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 }
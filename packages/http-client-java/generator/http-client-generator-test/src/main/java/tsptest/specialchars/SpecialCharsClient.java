@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import tsptest.specialchars.implementation.BuiltinOpsImpl;
+import tsptest.specialchars.implementation.JsonSerializableHelper;
 import tsptest.specialchars.implementation.models.ReadRequest;
 import tsptest.specialchars.models.Resource;
 
@@ -95,7 +96,8 @@ public final class SpecialCharsClient {
         // Generated convenience method for readWithResponse
         RequestOptions requestOptions = new RequestOptions();
         ReadRequest readRequestObj = new ReadRequest(id);
-        BinaryData readRequest = BinaryData.fromObject(readRequestObj);
-        return readWithResponse(readRequest, requestOptions).getValue().toObject(Resource.class);
+        BinaryData readRequest = JsonSerializableHelper.toBinaryData(readRequestObj);
+        return JsonSerializableHelper.fromBinaryData(readWithResponse(readRequest, requestOptions).getValue(),
+            Resource::fromJson);
     }
 }
@@ -60,7 +60,7 @@ public final class SpecialCharsClientImpl {
     /**
      * The BuiltinOpsImpl object to access its operations.
      */
-    private final BuiltinOpsImpl builtinOps;
+    private volatile BuiltinOpsImpl builtinOps;
 
     /**
      * Gets the BuiltinOpsImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class SpecialCharsClientImpl {
      * @return the BuiltinOpsImpl object.
      */
     public BuiltinOpsImpl getBuiltinOps() {
-        return this.builtinOps;
+        BuiltinOpsImpl localBuiltinOps = this.builtinOps;
+        if (localBuiltinOps == null) {
+            synchronized (this) {
+                localBuiltinOps = this.builtinOps;
+                if (localBuiltinOps == null) {
+                    localBuiltinOps = new BuiltinOpsImpl(this);
+                    this.builtinOps = localBuiltinOps;
+                }
+            }
+        }
+        return localBuiltinOps;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class SpecialCharsClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.builtinOps = new BuiltinOpsImpl(this);
     }
 }
@@ -29,6 +29,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import tsptest.specialheaders.implementation.EtagHeadersImpl;
 import tsptest.specialheaders.implementation.JsonMergePatchHelper;
+import tsptest.specialheaders.implementation.JsonSerializableHelper;
 import tsptest.specialheaders.models.Resource;
 
 /**
@@ -226,9 +227,9 @@ public final class EtagHeadersAsyncClient {
             requestOptions.setHeader(HttpHeaderName.IF_MODIFIED_SINCE,
                 String.valueOf(new DateTimeRfc1123(ifModifiedSince)));
         }
-        return putWithRequestHeadersWithResponse(name, BinaryData.fromObject(resource), requestOptions)
+        return putWithRequestHeadersWithResponse(name, JsonSerializableHelper.toBinaryData(resource), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -249,9 +250,9 @@ public final class EtagHeadersAsyncClient {
     public Mono<Resource> putWithRequestHeaders(String name, Resource resource) {
         // Generated convenience method for putWithRequestHeadersWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithRequestHeadersWithResponse(name, BinaryData.fromObject(resource), requestOptions)
+        return putWithRequestHeadersWithResponse(name, JsonSerializableHelper.toBinaryData(resource), requestOptions)
             .flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -281,13 +282,10 @@ public final class EtagHeadersAsyncClient {
         if (ifNoneMatch != null) {
             requestOptions.setHeader(HttpHeaderName.IF_NONE_MATCH, ifNoneMatch);
         }
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        resourceInBinaryData.getLength();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
+        BinaryData resourceInBinaryData = JsonSerializableHelper.toBinaryData(resource,
+            JsonMergePatchHelper.getResourceAccessor()::toJsonMergePatch);
         return patchWithMatchHeadersWithResponse(name, resourceInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -308,13 +306,10 @@ public final class EtagHeadersAsyncClient {
     public Mono<Resource> patchWithMatchHeaders(String name, Resource resource) {
         // Generated convenience method for patchWithMatchHeadersWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        resourceInBinaryData.getLength();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
+        BinaryData resourceInBinaryData = JsonSerializableHelper.toBinaryData(resource,
+            JsonMergePatchHelper.getResourceAccessor()::toJsonMergePatch);
         return patchWithMatchHeadersWithResponse(name, resourceInBinaryData, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -341,7 +336,8 @@ public final class EtagHeadersAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(Resource.class))
+                    .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                        Resource::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
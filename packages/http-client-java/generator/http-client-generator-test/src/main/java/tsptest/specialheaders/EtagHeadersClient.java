@@ -23,6 +23,7 @@ import com.azure.core.util.DateTimeRfc1123;
 import java.time.OffsetDateTime;
 import tsptest.specialheaders.implementation.EtagHeadersImpl;
 import tsptest.specialheaders.implementation.JsonMergePatchHelper;
+import tsptest.specialheaders.implementation.JsonSerializableHelper;
 import tsptest.specialheaders.models.Resource;
 
 /**
@@ -220,8 +221,10 @@ public final class EtagHeadersClient {
             requestOptions.setHeader(HttpHeaderName.IF_MODIFIED_SINCE,
                 String.valueOf(new DateTimeRfc1123(ifModifiedSince)));
         }
-        return putWithRequestHeadersWithResponse(name, BinaryData.fromObject(resource), requestOptions).getValue()
-            .toObject(Resource.class);
+        return JsonSerializableHelper.fromBinaryData(
+            putWithRequestHeadersWithResponse(name, JsonSerializableHelper.toBinaryData(resource), requestOptions)
+                .getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -242,8 +245,10 @@ public final class EtagHeadersClient {
     public Resource putWithRequestHeaders(String name, Resource resource) {
         // Generated convenience method for putWithRequestHeadersWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithRequestHeadersWithResponse(name, BinaryData.fromObject(resource), requestOptions).getValue()
-            .toObject(Resource.class);
+        return JsonSerializableHelper.fromBinaryData(
+            putWithRequestHeadersWithResponse(name, JsonSerializableHelper.toBinaryData(resource), requestOptions)
+                .getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -273,13 +278,11 @@ public final class EtagHeadersClient {
         if (ifNoneMatch != null) {
             requestOptions.setHeader(HttpHeaderName.IF_NONE_MATCH, ifNoneMatch);
         }
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        resourceInBinaryData.getLength();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
-        return patchWithMatchHeadersWithResponse(name, resourceInBinaryData, requestOptions).getValue()
-            .toObject(Resource.class);
+        BinaryData resourceInBinaryData = JsonSerializableHelper.toBinaryData(resource,
+            JsonMergePatchHelper.getResourceAccessor()::toJsonMergePatch);
+        return JsonSerializableHelper.fromBinaryData(
+            patchWithMatchHeadersWithResponse(name, resourceInBinaryData, requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -300,13 +303,11 @@ public final class EtagHeadersClient {
     public Resource patchWithMatchHeaders(String name, Resource resource) {
         // Generated convenience method for patchWithMatchHeadersWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        resourceInBinaryData.getLength();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
-        return patchWithMatchHeadersWithResponse(name, resourceInBinaryData, requestOptions).getValue()
-            .toObject(Resource.class);
+        BinaryData resourceInBinaryData = JsonSerializableHelper.toBinaryData(resource,
+            JsonMergePatchHelper.getResourceAccessor()::toJsonMergePatch);
+        return JsonSerializableHelper.fromBinaryData(
+            patchWithMatchHeadersWithResponse(name, resourceInBinaryData, requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -20,6 +20,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.DateTimeRfc1123;
 import java.time.OffsetDateTime;
 import tsptest.specialheaders.implementation.EtagHeadersOptionalBodiesImpl;
+import tsptest.specialheaders.implementation.JsonSerializableHelper;
 import tsptest.specialheaders.models.Resource;
 
 /**
@@ -139,7 +140,7 @@ public final class EtagHeadersOptionalBodyClient {
             requestOptions.setHeader(HttpHeaderName.fromString("timestamp"), String.valueOf(timestamp.toEpochSecond()));
         }
         if (body != null) {
-            requestOptions.setBody(BinaryData.fromObject(body));
+            requestOptions.setBody(JsonSerializableHelper.toBinaryData(body));
         }
         if (ifMatch != null) {
             requestOptions.setHeader(HttpHeaderName.IF_MATCH, ifMatch);
@@ -155,7 +156,8 @@ public final class EtagHeadersOptionalBodyClient {
             requestOptions.setHeader(HttpHeaderName.IF_MODIFIED_SINCE,
                 String.valueOf(new DateTimeRfc1123(ifModifiedSince)));
         }
-        return putWithOptionalBodyWithResponse(format, requestOptions).getValue().toObject(Resource.class);
+        return JsonSerializableHelper.fromBinaryData(putWithOptionalBodyWithResponse(format, requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -175,6 +177,7 @@ public final class EtagHeadersOptionalBodyClient {
     public Resource putWithOptionalBody(String format) {
         // Generated convenience method for putWithOptionalBodyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithOptionalBodyWithResponse(format, requestOptions).getValue().toObject(Resource.class);
+        return JsonSerializableHelper.fromBinaryData(putWithOptionalBodyWithResponse(format, requestOptions).getValue(),
+            Resource::fromJson);
     }
 }
@@ -20,6 +20,7 @@ import com.azure.core.util.polling.PollOperationDetails;
 import com.azure.core.util.polling.PollerFlux;
 import reactor.core.publisher.Mono;
 import tsptest.specialheaders.implementation.JsonMergePatchHelper;
+import tsptest.specialheaders.implementation.JsonSerializableHelper;
 import tsptest.specialheaders.implementation.RepeatabilityHeadersImpl;
 import tsptest.specialheaders.models.Resource;
 
@@ -231,7 +232,7 @@ public final class RepeatabilityHeadersAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(name, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -252,8 +253,9 @@ public final class RepeatabilityHeadersAsyncClient {
     public Mono<Resource> put(String name, Resource resource) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(name, BinaryData.fromObject(resource), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+        return putWithResponse(name, JsonSerializableHelper.toBinaryData(resource), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -274,7 +276,7 @@ public final class RepeatabilityHeadersAsyncClient {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return postWithResponse(name, requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Resource.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Resource::fromJson));
     }
 
     /**
@@ -295,11 +297,8 @@ public final class RepeatabilityHeadersAsyncClient {
     public PollerFlux<PollOperationDetails, Resource> beginCreateLro(String name, Resource resource) {
         // Generated convenience method for beginCreateLroWithModel
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        resourceInBinaryData.getLength();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
+        BinaryData resourceInBinaryData = JsonSerializableHelper.toBinaryData(resource,
+            JsonMergePatchHelper.getResourceAccessor()::toJsonMergePatch);
         return serviceClient.beginCreateLroWithModelAsync(name, resourceInBinaryData, requestOptions);
     }
 }
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.polling.PollOperationDetails;
 import com.azure.core.util.polling.SyncPoller;
 import tsptest.specialheaders.implementation.JsonMergePatchHelper;
+import tsptest.specialheaders.implementation.JsonSerializableHelper;
 import tsptest.specialheaders.implementation.RepeatabilityHeadersImpl;
 import tsptest.specialheaders.models.Resource;
 
@@ -228,7 +229,8 @@ public final class RepeatabilityHeadersClient {
     public Resource get(String name) {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(name, requestOptions).getValue().toObject(Resource.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(name, requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -249,8 +251,9 @@ public final class RepeatabilityHeadersClient {
     public Resource put(String name, Resource resource) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(name, BinaryData.fromObject(resource), requestOptions).getValue()
-            .toObject(Resource.class);
+        return JsonSerializableHelper.fromBinaryData(
+            putWithResponse(name, JsonSerializableHelper.toBinaryData(resource), requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -270,7 +273,8 @@ public final class RepeatabilityHeadersClient {
     public Resource post(String name) {
         // Generated convenience method for postWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postWithResponse(name, requestOptions).getValue().toObject(Resource.class);
+        return JsonSerializableHelper.fromBinaryData(postWithResponse(name, requestOptions).getValue(),
+            Resource::fromJson);
     }
 
     /**
@@ -291,11 +295,8 @@ public final class RepeatabilityHeadersClient {
     public SyncPoller<PollOperationDetails, Resource> beginCreateLro(String name, Resource resource) {
         // Generated convenience method for beginCreateLroWithModel
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
-        BinaryData resourceInBinaryData = BinaryData.fromObject(resource);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        resourceInBinaryData.getLength();
-        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
+        BinaryData resourceInBinaryData = JsonSerializableHelper.toBinaryData(resource,
+            JsonMergePatchHelper.getResourceAccessor()::toJsonMergePatch);
         return serviceClient.beginCreateLroWithModel(name, resourceInBinaryData, requestOptions);
     }
 }
@@ -64,6 +64,13 @@ public final class SpecialHeadersClientBuilder implements HttpTrait<SpecialHeade
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the SpecialHeadersClientBuilder.
      */
@@ -84,6 +91,7 @@ public final class SpecialHeadersClientBuilder implements HttpTrait<SpecialHeade
     @Generated
     @Override
     public SpecialHeadersClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -100,6 +108,7 @@ public final class SpecialHeadersClientBuilder implements HttpTrait<SpecialHeade
     @Generated
     @Override
     public SpecialHeadersClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -119,6 +128,7 @@ public final class SpecialHeadersClientBuilder implements HttpTrait<SpecialHeade
     @Generated
     @Override
     public SpecialHeadersClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -135,6 +145,7 @@ public final class SpecialHeadersClientBuilder implements HttpTrait<SpecialHeade
     @Generated
     @Override
     public SpecialHeadersClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -151,6 +162,7 @@ public final class SpecialHeadersClientBuilder implements HttpTrait<SpecialHeade
     @Generated
     @Override
     public SpecialHeadersClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -161,6 +173,7 @@ public final class SpecialHeadersClientBuilder implements HttpTrait<SpecialHeade
     @Generated
     @Override
     public SpecialHeadersClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -178,6 +191,7 @@ public final class SpecialHeadersClientBuilder implements HttpTrait<SpecialHeade
     @Generated
     @Override
     public SpecialHeadersClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -194,6 +208,7 @@ public final class SpecialHeadersClientBuilder implements HttpTrait<SpecialHeade
     @Generated
     @Override
     public SpecialHeadersClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -212,6 +227,7 @@ public final class SpecialHeadersClientBuilder implements HttpTrait<SpecialHeade
      */
     @Generated
     public SpecialHeadersClientBuilder serviceVersion(SpecialHeadersServiceVersion serviceVersion) {
+        this.createdHttpPipeline = null;
         this.serviceVersion = serviceVersion;
         return this;
     }
@@ -230,6 +246,7 @@ public final class SpecialHeadersClientBuilder implements HttpTrait<SpecialHeade
      */
     @Generated
     public SpecialHeadersClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -242,7 +259,7 @@ public final class SpecialHeadersClientBuilder implements HttpTrait<SpecialHeade
     @Generated
     private SpecialHeadersClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         SpecialHeadersServiceVersion localServiceVersion
             = (serviceVersion != null) ? serviceVersion : SpecialHeadersServiceVersion.getLatest();
         SpecialHeadersClientImpl client = new SpecialHeadersClientImpl(localPipeline,
@@ -292,6 +309,15 @@ public final class SpecialHeadersClientBuilder implements HttpTrait<SpecialHeade
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of RepeatabilityHeadersAsyncClient class.
      * 
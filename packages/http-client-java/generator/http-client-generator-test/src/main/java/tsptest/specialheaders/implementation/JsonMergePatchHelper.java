@@ -4,6 +4,8 @@
 
 package tsptest.specialheaders.implementation;
 
+import com.azure.json.JsonWriter;
+import java.io.IOException;
 import tsptest.specialheaders.models.Resource;
 
 /**
@@ -16,6 +18,8 @@ public class JsonMergePatchHelper {
         Resource prepareModelForJsonMergePatch(Resource resource, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(Resource resource);
+
+        JsonWriter toJsonMergePatch(Resource resource, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setResourceAccessor(ResourceAccessor accessor) {
@@ -75,7 +75,7 @@ public final class SpecialHeadersClientImpl {
     /**
      * The RepeatabilityHeadersImpl object to access its operations.
      */
-    private final RepeatabilityHeadersImpl repeatabilityHeaders;
+    private volatile RepeatabilityHeadersImpl repeatabilityHeaders;
 
     /**
      * Gets the RepeatabilityHeadersImpl object to access its operations.
@@ -83,13 +83,23 @@ public final class SpecialHeadersClientImpl {
      * @return the RepeatabilityHeadersImpl object.
      */
     public RepeatabilityHeadersImpl getRepeatabilityHeaders() {
-        return this.repeatabilityHeaders;
+        RepeatabilityHeadersImpl localRepeatabilityHeaders = this.repeatabilityHeaders;
+        if (localRepeatabilityHeaders == null) {
+            synchronized (this) {
+                localRepeatabilityHeaders = this.repeatabilityHeaders;
+                if (localRepeatabilityHeaders == null) {
+                    localRepeatabilityHeaders = new RepeatabilityHeadersImpl(this);
+                    this.repeatabilityHeaders = localRepeatabilityHeaders;
+                }
+            }
+        }
+        return localRepeatabilityHeaders;
     }
 
     /**
      * The EtagHeadersImpl object to access its operations.
      */
-    private final EtagHeadersImpl etagHeaders;
+    private volatile EtagHeadersImpl etagHeaders;
 
     /**
      * Gets the EtagHeadersImpl object to access its operations.
@@ -97,13 +107,23 @@ public final class SpecialHeadersClientImpl {
      * @return the EtagHeadersImpl object.
      */
     public EtagHeadersImpl getEtagHeaders() {
-        return this.etagHeaders;
+        EtagHeadersImpl localEtagHeaders = this.etagHeaders;
+        if (localEtagHeaders == null) {
+            synchronized (this) {
+                localEtagHeaders = this.etagHeaders;
+                if (localEtagHeaders == null) {
+                    localEtagHeaders = new EtagHeadersImpl(this);
+                    this.etagHeaders = localEtagHeaders;
+                }
+            }
+        }
+        return localEtagHeaders;
     }
 
     /**
      * The EtagHeadersOptionalBodiesImpl object to access its operations.
      */
-    private final EtagHeadersOptionalBodiesImpl etagHeadersOptionalBodies;
+    private volatile EtagHeadersOptionalBodiesImpl etagHeadersOptionalBodies;
 
     /**
      * Gets the EtagHeadersOptionalBodiesImpl object to access its operations.
@@ -111,13 +131,23 @@ public final class SpecialHeadersClientImpl {
      * @return the EtagHeadersOptionalBodiesImpl object.
      */
     public EtagHeadersOptionalBodiesImpl getEtagHeadersOptionalBodies() {
-        return this.etagHeadersOptionalBodies;
+        EtagHeadersOptionalBodiesImpl localEtagHeadersOptionalBodies = this.etagHeadersOptionalBodies;
+        if (localEtagHeadersOptionalBodies == null) {
+            synchronized (this) {
+                localEtagHeadersOptionalBodies = this.etagHeadersOptionalBodies;
+                if (localEtagHeadersOptionalBodies == null) {
+                    localEtagHeadersOptionalBodies = new EtagHeadersOptionalBodiesImpl(this);
+                    this.etagHeadersOptionalBodies = localEtagHeadersOptionalBodies;
+                }
+            }
+        }
+        return localEtagHeadersOptionalBodies;
     }
 
     /**
      * The SkipSpecialHeadersImpl object to access its operations.
      */
-    private final SkipSpecialHeadersImpl skipSpecialHeaders;
+    private volatile SkipSpecialHeadersImpl skipSpecialHeaders;
 
     /**
      * Gets the SkipSpecialHeadersImpl object to access its operations.
@@ -125,7 +155,17 @@ public final class SpecialHeadersClientImpl {
      * @return the SkipSpecialHeadersImpl object.
      */
     public SkipSpecialHeadersImpl getSkipSpecialHeaders() {
-        return this.skipSpecialHeaders;
+        SkipSpecialHeadersImpl localSkipSpecialHeaders = this.skipSpecialHeaders;
+        if (localSkipSpecialHeaders == null) {
+            synchronized (this) {
+                localSkipSpecialHeaders = this.skipSpecialHeaders;
+                if (localSkipSpecialHeaders == null) {
+                    localSkipSpecialHeaders = new SkipSpecialHeadersImpl(this);
+                    this.skipSpecialHeaders = localSkipSpecialHeaders;
+                }
+            }
+        }
+        return localSkipSpecialHeaders;
     }
 
     /**
@@ -165,9 +205,5 @@ public final class SpecialHeadersClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.serviceVersion = serviceVersion;
-        this.repeatabilityHeaders = new RepeatabilityHeadersImpl(this);
-        this.etagHeaders = new EtagHeadersImpl(this);
-        this.etagHeadersOptionalBodies = new EtagHeadersOptionalBodiesImpl(this);
-        this.skipSpecialHeaders = new SkipSpecialHeadersImpl(this);
     }
 }
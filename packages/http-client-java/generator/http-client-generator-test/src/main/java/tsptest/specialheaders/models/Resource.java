@@ -70,6 +70,11 @@ public final class Resource implements JsonSerializable<Resource> {
             public boolean isJsonMergePatch(Resource model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(Resource model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
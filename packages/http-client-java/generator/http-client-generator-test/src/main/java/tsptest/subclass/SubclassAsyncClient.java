@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import tsptest.subclass.implementation.JsonSerializableHelper;
 import tsptest.subclass.implementation.SubclassImpl;
 import tsptest.subclass.models.Body;
 
@@ -109,7 +110,8 @@ public final class SubclassAsyncClient {
     public Mono<Body> propertyInSubclass(Body body) {
         // Generated convenience method for propertyInSubclassWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return propertyInSubclassWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Body.class));
+        return propertyInSubclassWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Body::fromJson));
     }
 }
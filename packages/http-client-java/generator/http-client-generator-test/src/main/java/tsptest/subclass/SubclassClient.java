@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import tsptest.subclass.implementation.JsonSerializableHelper;
 import tsptest.subclass.implementation.SubclassImpl;
 import tsptest.subclass.models.Body;
 
@@ -107,7 +108,8 @@ public final class SubclassClient {
     public Body propertyInSubclass(Body body) {
         // Generated convenience method for propertyInSubclassWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return propertyInSubclassWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(Body.class);
+        return JsonSerializableHelper.fromBinaryData(
+            propertyInSubclassWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            Body::fromJson);
     }
 }
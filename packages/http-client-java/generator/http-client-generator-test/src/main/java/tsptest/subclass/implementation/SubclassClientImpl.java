@@ -60,7 +60,7 @@ public final class SubclassClientImpl {
     /**
      * The SubclassImpl object to access its operations.
      */
-    private final SubclassImpl subclass;
+    private volatile SubclassImpl subclass;
 
     /**
      * Gets the SubclassImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class SubclassClientImpl {
      * @return the SubclassImpl object.
      */
     public SubclassImpl getSubclass() {
-        return this.subclass;
+        SubclassImpl localSubclass = this.subclass;
+        if (localSubclass == null) {
+            synchronized (this) {
+                localSubclass = this.subclass;
+                if (localSubclass == null) {
+                    localSubclass = new SubclassImpl(this);
+                    this.subclass = localSubclass;
+                }
+            }
+        }
+        return localSubclass;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class SubclassClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.subclass = new SubclassImpl(this);
     }
 }
@@ -19,6 +19,7 @@ import com.azure.core.util.FluxUtil;
 import com.azure.core.util.polling.PollOperationDetails;
 import com.azure.core.util.polling.PollerFlux;
 import reactor.core.publisher.Mono;
+import tsptest.union.implementation.JsonSerializableHelper;
 import tsptest.union.implementation.UnionFlattenOpsImpl;
 import tsptest.union.implementation.models.SendLongRequest;
 import tsptest.union.implementation.models.SendRequest;
@@ -202,7 +203,7 @@ public final class UnionAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest sendRequestObj = new SendRequest(input).setUser(user);
-        BinaryData sendRequest = BinaryData.fromObject(sendRequestObj);
+        BinaryData sendRequest = JsonSerializableHelper.toBinaryData(sendRequestObj);
         return sendWithResponse(id, sendRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 
@@ -225,7 +226,7 @@ public final class UnionAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest sendRequestObj = new SendRequest(input);
-        BinaryData sendRequest = BinaryData.fromObject(sendRequestObj);
+        BinaryData sendRequest = JsonSerializableHelper.toBinaryData(sendRequestObj);
         return sendWithResponse(id, sendRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 
@@ -253,7 +254,7 @@ public final class UnionAsyncClient {
                 .setDataUnion(options.getDataUnion())
                 .setDataLong(options.getDataLong())
                 .setDataFloat(options.getDataFloat());
-        BinaryData sendLongRequest = BinaryData.fromObject(sendLongRequestObj);
+        BinaryData sendLongRequest = JsonSerializableHelper.toBinaryData(sendLongRequestObj);
         if (filter != null) {
             requestOptions.addQueryParam("filter", filter, false);
         }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.polling.PollOperationDetails;
 import com.azure.core.util.polling.SyncPoller;
+import tsptest.union.implementation.JsonSerializableHelper;
 import tsptest.union.implementation.UnionFlattenOpsImpl;
 import tsptest.union.implementation.models.SendLongRequest;
 import tsptest.union.implementation.models.SendRequest;
@@ -198,7 +199,7 @@ public final class UnionClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest sendRequestObj = new SendRequest(input).setUser(user);
-        BinaryData sendRequest = BinaryData.fromObject(sendRequestObj);
+        BinaryData sendRequest = JsonSerializableHelper.toBinaryData(sendRequestObj);
         sendWithResponse(id, sendRequest, requestOptions).getValue();
     }
 
@@ -220,7 +221,7 @@ public final class UnionClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest sendRequestObj = new SendRequest(input);
-        BinaryData sendRequest = BinaryData.fromObject(sendRequestObj);
+        BinaryData sendRequest = JsonSerializableHelper.toBinaryData(sendRequestObj);
         sendWithResponse(id, sendRequest, requestOptions).getValue();
     }
 
@@ -247,7 +248,7 @@ public final class UnionClient {
                 .setDataUnion(options.getDataUnion())
                 .setDataLong(options.getDataLong())
                 .setDataFloat(options.getDataFloat());
-        BinaryData sendLongRequest = BinaryData.fromObject(sendLongRequestObj);
+        BinaryData sendLongRequest = JsonSerializableHelper.toBinaryData(sendLongRequestObj);
         if (filter != null) {
             requestOptions.addQueryParam("filter", filter, false);
         }
@@ -74,7 +74,7 @@ public final class UnionClientImpl {
     /**
      * The UnionFlattenOpsImpl object to access its operations.
      */
-    private final UnionFlattenOpsImpl unionFlattenOps;
+    private volatile UnionFlattenOpsImpl unionFlattenOps;
 
     /**
      * Gets the UnionFlattenOpsImpl object to access its operations.
@@ -82,7 +82,17 @@ public final class UnionClientImpl {
      * @return the UnionFlattenOpsImpl object.
      */
     public UnionFlattenOpsImpl getUnionFlattenOps() {
-        return this.unionFlattenOps;
+        UnionFlattenOpsImpl localUnionFlattenOps = this.unionFlattenOps;
+        if (localUnionFlattenOps == null) {
+            synchronized (this) {
+                localUnionFlattenOps = this.unionFlattenOps;
+                if (localUnionFlattenOps == null) {
+                    localUnionFlattenOps = new UnionFlattenOpsImpl(this);
+                    this.unionFlattenOps = localUnionFlattenOps;
+                }
+            }
+        }
+        return localUnionFlattenOps;
     }
 
     /**
@@ -121,6 +131,5 @@ public final class UnionClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.serviceVersion = serviceVersion;
-        this.unionFlattenOps = new UnionFlattenOpsImpl(this);
     }
 }
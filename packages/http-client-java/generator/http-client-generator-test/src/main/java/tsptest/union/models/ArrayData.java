@@ -51,7 +51,7 @@ public final class ArrayData implements JsonSerializable<ArrayData> {
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("data", this.data, (writer, element) -> writer.writeString(element));
+        jsonWriter.writeArrayField("data", this.data, JsonWriter::writeString);
         return jsonWriter.writeEndObject();
     }
 
@@ -73,7 +73,7 @@ public final class ArrayData implements JsonSerializable<ArrayData> {
                 reader.nextToken();
 
                 if ("data".equals(fieldName)) {
-                    data = reader.readArray(reader1 -> reader1.getString());
+                    data = reader.readArray(JsonReader::getString);
                 } else {
                     reader.skipChildren();
                 }
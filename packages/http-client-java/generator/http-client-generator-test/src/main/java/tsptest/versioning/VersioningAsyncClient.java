@@ -22,6 +22,7 @@ import com.azure.core.util.polling.PollerFlux;
 import java.util.List;
 import java.util.stream.Collectors;
 import reactor.core.publisher.Flux;
+import tsptest.versioning.implementation.JsonSerializableHelper;
 import tsptest.versioning.implementation.VersioningOpsImpl;
 import tsptest.versioning.models.ExportedResource;
 import tsptest.versioning.models.Resource;
@@ -253,7 +254,8 @@ public final class VersioningAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(Resource.class))
+                    .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                        Resource::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
@@ -283,7 +285,8 @@ public final class VersioningAsyncClient {
                 pagedResponse.getStatusCode(), pagedResponse.getHeaders(),
                 pagedResponse.getValue()
                     .stream()
-                    .map(protocolMethodData -> protocolMethodData.toObject(Resource.class))
+                    .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                        Resource::fromJson))
                     .collect(Collectors.toList()),
                 pagedResponse.getContinuationToken(), null));
         });
@@ -307,7 +310,7 @@ public final class VersioningAsyncClient {
     public PollerFlux<PollOperationDetails, Resource> beginCreateLongRunning(String name, Resource resource) {
         // Generated convenience method for beginCreateLongRunningWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginCreateLongRunningWithModelAsync(name, BinaryData.fromObject(resource),
+        return serviceClient.beginCreateLongRunningWithModelAsync(name, JsonSerializableHelper.toBinaryData(resource),
             requestOptions);
     }
 }
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.polling.PollOperationDetails;
 import com.azure.core.util.polling.SyncPoller;
 import java.util.List;
+import tsptest.versioning.implementation.JsonSerializableHelper;
 import tsptest.versioning.implementation.VersioningOpsImpl;
 import tsptest.versioning.models.ExportedResource;
 import tsptest.versioning.models.Resource;
@@ -279,6 +280,7 @@ public final class VersioningClient {
     public SyncPoller<PollOperationDetails, Resource> beginCreateLongRunning(String name, Resource resource) {
         // Generated convenience method for beginCreateLongRunningWithModel
         RequestOptions requestOptions = new RequestOptions();
-        return serviceClient.beginCreateLongRunningWithModel(name, BinaryData.fromObject(resource), requestOptions);
+        return serviceClient.beginCreateLongRunningWithModel(name, JsonSerializableHelper.toBinaryData(resource),
+            requestOptions);
     }
 }
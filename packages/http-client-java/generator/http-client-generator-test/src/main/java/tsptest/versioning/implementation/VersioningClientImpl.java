@@ -75,7 +75,7 @@ public final class VersioningClientImpl {
     /**
      * The VersioningOpsImpl object to access its operations.
      */
-    private final VersioningOpsImpl versioningOps;
+    private volatile VersioningOpsImpl versioningOps;
 
     /**
      * Gets the VersioningOpsImpl object to access its operations.
@@ -83,7 +83,17 @@ public final class VersioningClientImpl {
      * @return the VersioningOpsImpl object.
      */
     public VersioningOpsImpl getVersioningOps() {
-        return this.versioningOps;
+        VersioningOpsImpl localVersioningOps = this.versioningOps;
+        if (localVersioningOps == null) {
+            synchronized (this) {
+                localVersioningOps = this.versioningOps;
+                if (localVersioningOps == null) {
+                    localVersioningOps = new VersioningOpsImpl(this);
+                    this.versioningOps = localVersioningOps;
+                }
+            }
+        }
+        return localVersioningOps;
     }
 
     /**
@@ -122,6 +132,5 @@ public final class VersioningClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.serviceVersion = serviceVersion;
-        this.versioningOps = new VersioningOpsImpl(this);
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import tsptest.visibility.implementation.JsonSerializableHelper;
 import tsptest.visibility.implementation.VisibilityOpsImpl;
 import tsptest.visibility.models.Dog;
 import tsptest.visibility.models.ReadDog;
@@ -199,7 +200,7 @@ public final class VisibilityOpAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Dog.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Dog::fromJson));
     }
 
     /**
@@ -219,8 +220,8 @@ public final class VisibilityOpAsyncClient {
     public Mono<Dog> create(WriteDog dog) {
         // Generated convenience method for createWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return createWithResponse(BinaryData.fromObject(dog), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Dog.class));
+        return createWithResponse(JsonSerializableHelper.toBinaryData(dog), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Dog::fromJson));
     }
 
     /**
@@ -240,8 +241,8 @@ public final class VisibilityOpAsyncClient {
     public Mono<ReadDog> query(WriteDog dog) {
         // Generated convenience method for queryWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return queryWithResponse(BinaryData.fromObject(dog), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ReadDog.class));
+        return queryWithResponse(JsonSerializableHelper.toBinaryData(dog), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, ReadDog::fromJson));
     }
 
     /**
@@ -261,7 +262,9 @@ public final class VisibilityOpAsyncClient {
     public Mono<RoundTripModel> roundtrip(RoundTripModel body) {
         // Generated convenience method for roundtripWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return roundtripWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(RoundTripModel.class));
+        return roundtripWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                RoundTripModel::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import tsptest.visibility.implementation.JsonSerializableHelper;
 import tsptest.visibility.implementation.VisibilityOpsImpl;
 import tsptest.visibility.models.Dog;
 import tsptest.visibility.models.ReadDog;
@@ -196,7 +197,7 @@ public final class VisibilityOpClient {
     public Dog get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(Dog.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(), Dog::fromJson);
     }
 
     /**
@@ -216,7 +217,8 @@ public final class VisibilityOpClient {
     public Dog create(WriteDog dog) {
         // Generated convenience method for createWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return createWithResponse(BinaryData.fromObject(dog), requestOptions).getValue().toObject(Dog.class);
+        return JsonSerializableHelper.fromBinaryData(
+            createWithResponse(JsonSerializableHelper.toBinaryData(dog), requestOptions).getValue(), Dog::fromJson);
     }
 
     /**
@@ -236,7 +238,8 @@ public final class VisibilityOpClient {
     public ReadDog query(WriteDog dog) {
         // Generated convenience method for queryWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return queryWithResponse(BinaryData.fromObject(dog), requestOptions).getValue().toObject(ReadDog.class);
+        return JsonSerializableHelper.fromBinaryData(
+            queryWithResponse(JsonSerializableHelper.toBinaryData(dog), requestOptions).getValue(), ReadDog::fromJson);
     }
 
     /**
@@ -256,7 +259,8 @@ public final class VisibilityOpClient {
     public RoundTripModel roundtrip(RoundTripModel body) {
         // Generated convenience method for roundtripWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return roundtripWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(RoundTripModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            roundtripWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            RoundTripModel::fromJson);
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import tsptest.visibility.implementation.JsonSerializableHelper;
 import tsptest.visibility.implementation.VisibilityReadsImpl;
 import tsptest.visibility.models.Dog;
 
@@ -81,6 +82,6 @@ public final class VisibilityReadAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Dog.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Dog::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import tsptest.visibility.implementation.JsonSerializableHelper;
 import tsptest.visibility.implementation.VisibilityReadsImpl;
 import tsptest.visibility.models.Dog;
 
@@ -78,6 +79,6 @@ public final class VisibilityReadClient {
     public Dog get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(Dog.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(), Dog::fromJson);
     }
 }
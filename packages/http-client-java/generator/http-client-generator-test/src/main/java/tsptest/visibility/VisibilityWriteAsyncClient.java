@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import tsptest.visibility.implementation.JsonSerializableHelper;
 import tsptest.visibility.implementation.VisibilityWritesImpl;
 import tsptest.visibility.models.Dog;
 import tsptest.visibility.models.WriteDog;
@@ -95,7 +96,7 @@ public final class VisibilityWriteAsyncClient {
     public Mono<Dog> create(WriteDog dog) {
         // Generated convenience method for createWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return createWithResponse(BinaryData.fromObject(dog), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Dog.class));
+        return createWithResponse(JsonSerializableHelper.toBinaryData(dog), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Dog::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import tsptest.visibility.implementation.JsonSerializableHelper;
 import tsptest.visibility.implementation.VisibilityWritesImpl;
 import tsptest.visibility.models.Dog;
 import tsptest.visibility.models.WriteDog;
@@ -93,6 +94,7 @@ public final class VisibilityWriteClient {
     public Dog create(WriteDog dog) {
         // Generated convenience method for createWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return createWithResponse(BinaryData.fromObject(dog), requestOptions).getValue().toObject(Dog.class);
+        return JsonSerializableHelper.fromBinaryData(
+            createWithResponse(JsonSerializableHelper.toBinaryData(dog), requestOptions).getValue(), Dog::fromJson);
     }
 }
@@ -60,7 +60,7 @@ public final class VisibilityClientImpl {
     /**
      * The VisibilityReadsImpl object to access its operations.
      */
-    private final VisibilityReadsImpl visibilityReads;
+    private volatile VisibilityReadsImpl visibilityReads;
 
     /**
      * Gets the VisibilityReadsImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class VisibilityClientImpl {
      * @return the VisibilityReadsImpl object.
      */
     public VisibilityReadsImpl getVisibilityReads() {
-        return this.visibilityReads;
+        VisibilityReadsImpl localVisibilityReads = this.visibilityReads;
+        if (localVisibilityReads == null) {
+            synchronized (this) {
+                localVisibilityReads = this.visibilityReads;
+                if (localVisibilityReads == null) {
+                    localVisibilityReads = new VisibilityReadsImpl(this);
+                    this.visibilityReads = localVisibilityReads;
+                }
+            }
+        }
+        return localVisibilityReads;
     }
 
     /**
      * The VisibilityWritesImpl object to access its operations.
      */
-    private final VisibilityWritesImpl visibilityWrites;
+    private volatile VisibilityWritesImpl visibilityWrites;
 
     /**
      * Gets the VisibilityWritesImpl object to access its operations.
@@ -82,13 +92,23 @@ public final class VisibilityClientImpl {
      * @return the VisibilityWritesImpl object.
      */
     public VisibilityWritesImpl getVisibilityWrites() {
-        return this.visibilityWrites;
+        VisibilityWritesImpl localVisibilityWrites = this.visibilityWrites;
+        if (localVisibilityWrites == null) {
+            synchronized (this) {
+                localVisibilityWrites = this.visibilityWrites;
+                if (localVisibilityWrites == null) {
+                    localVisibilityWrites = new VisibilityWritesImpl(this);
+                    this.visibilityWrites = localVisibilityWrites;
+                }
+            }
+        }
+        return localVisibilityWrites;
     }
 
     /**
      * The VisibilityOpsImpl object to access its operations.
      */
-    private final VisibilityOpsImpl visibilityOps;
+    private volatile VisibilityOpsImpl visibilityOps;
 
     /**
      * Gets the VisibilityOpsImpl object to access its operations.
@@ -96,7 +116,17 @@ public final class VisibilityClientImpl {
      * @return the VisibilityOpsImpl object.
      */
     public VisibilityOpsImpl getVisibilityOps() {
-        return this.visibilityOps;
+        VisibilityOpsImpl localVisibilityOps = this.visibilityOps;
+        if (localVisibilityOps == null) {
+            synchronized (this) {
+                localVisibilityOps = this.visibilityOps;
+                if (localVisibilityOps == null) {
+                    localVisibilityOps = new VisibilityOpsImpl(this);
+                    this.visibilityOps = localVisibilityOps;
+                }
+            }
+        }
+        return localVisibilityOps;
     }
 
     /**
@@ -130,8 +160,5 @@ public final class VisibilityClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.visibilityReads = new VisibilityReadsImpl(this);
-        this.visibilityWrites = new VisibilityWritesImpl(this);
-        this.visibilityOps = new VisibilityOpsImpl(this);
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import tsptest.wiretype.implementation.JsonSerializableHelper;
 import tsptest.wiretype.implementation.WireTypeOpsImpl;
 import tsptest.wiretype.models.SubClass;
 import tsptest.wiretype.models.SubClassBothMismatch;
@@ -171,8 +172,9 @@ public final class WireTypeAsyncClient {
     public Mono<SubClass> superClassMismatch(SubClass body) {
         // Generated convenience method for superClassMismatchWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return superClassMismatchWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(SubClass.class));
+        return superClassMismatchWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, SubClass::fromJson));
     }
 
     /**
@@ -192,8 +194,10 @@ public final class WireTypeAsyncClient {
     public Mono<SubClassMismatch> subClassMismatch(SubClassMismatch body) {
         // Generated convenience method for subClassMismatchWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return subClassMismatchWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(SubClassMismatch.class));
+        return subClassMismatchWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                SubClassMismatch::fromJson));
     }
 
     /**
@@ -213,7 +217,9 @@ public final class WireTypeAsyncClient {
     public Mono<SubClassBothMismatch> bothClassMismatch(SubClassBothMismatch body) {
         // Generated convenience method for bothClassMismatchWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return bothClassMismatchWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(SubClassBothMismatch.class));
+        return bothClassMismatchWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                SubClassBothMismatch::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import tsptest.wiretype.implementation.JsonSerializableHelper;
 import tsptest.wiretype.implementation.WireTypeOpsImpl;
 import tsptest.wiretype.models.SubClass;
 import tsptest.wiretype.models.SubClassBothMismatch;
@@ -169,8 +170,9 @@ public final class WireTypeClient {
     public SubClass superClassMismatch(SubClass body) {
         // Generated convenience method for superClassMismatchWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return superClassMismatchWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(SubClass.class);
+        return JsonSerializableHelper.fromBinaryData(
+            superClassMismatchWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            SubClass::fromJson);
     }
 
     /**
@@ -190,8 +192,9 @@ public final class WireTypeClient {
     public SubClassMismatch subClassMismatch(SubClassMismatch body) {
         // Generated convenience method for subClassMismatchWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return subClassMismatchWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(SubClassMismatch.class);
+        return JsonSerializableHelper.fromBinaryData(
+            subClassMismatchWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            SubClassMismatch::fromJson);
     }
 
     /**
@@ -211,7 +214,8 @@ public final class WireTypeClient {
     public SubClassBothMismatch bothClassMismatch(SubClassBothMismatch body) {
         // Generated convenience method for bothClassMismatchWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return bothClassMismatchWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(SubClassBothMismatch.class);
+        return JsonSerializableHelper.fromBinaryData(
+            bothClassMismatchWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            SubClassBothMismatch::fromJson);
     }
 }
@@ -60,7 +60,7 @@ public final class WireTypeClientImpl {
     /**
      * The WireTypeOpsImpl object to access its operations.
      */
-    private final WireTypeOpsImpl wireTypeOps;
+    private volatile WireTypeOpsImpl wireTypeOps;
 
     /**
      * Gets the WireTypeOpsImpl object to access its operations.
@@ -68,7 +68,17 @@ public final class WireTypeClientImpl {
      * @return the WireTypeOpsImpl object.
      */
     public WireTypeOpsImpl getWireTypeOps() {
-        return this.wireTypeOps;
+        WireTypeOpsImpl localWireTypeOps = this.wireTypeOps;
+        if (localWireTypeOps == null) {
+            synchronized (this) {
+                localWireTypeOps = this.wireTypeOps;
+                if (localWireTypeOps == null) {
+                    localWireTypeOps = new WireTypeOpsImpl(this);
+                    this.wireTypeOps = localWireTypeOps;
+                }
+            }
+        }
+        return localWireTypeOps;
     }
 
     /**
@@ -102,6 +112,5 @@ public final class WireTypeClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.wireTypeOps = new WireTypeOpsImpl(this);
     }
 }
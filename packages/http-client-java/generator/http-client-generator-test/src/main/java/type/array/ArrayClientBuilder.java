@@ -84,6 +84,13 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the ArrayClientBuilder.
      */
@@ -104,6 +111,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Generated
     @Override
     public ArrayClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -120,6 +128,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Generated
     @Override
     public ArrayClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -139,6 +148,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Generated
     @Override
     public ArrayClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -155,6 +165,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Generated
     @Override
     public ArrayClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -171,6 +182,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Generated
     @Override
     public ArrayClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -181,6 +193,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Generated
     @Override
     public ArrayClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -198,6 +211,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Generated
     @Override
     public ArrayClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -214,6 +228,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Generated
     @Override
     public ArrayClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -232,6 +247,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
      */
     @Generated
     public ArrayClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -244,7 +260,7 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
     @Generated
     private ArrayClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         ArrayClientImpl client
             = new ArrayClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -292,6 +308,15 @@ public final class ArrayClientBuilder implements HttpTrait<ArrayClientBuilder>,
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of Int32ValueAsyncClient class.
      * 
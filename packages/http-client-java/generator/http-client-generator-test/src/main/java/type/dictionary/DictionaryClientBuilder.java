@@ -78,6 +78,13 @@ public final class DictionaryClientBuilder implements HttpTrait<DictionaryClient
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the DictionaryClientBuilder.
      */
@@ -98,6 +105,7 @@ public final class DictionaryClientBuilder implements HttpTrait<DictionaryClient
     @Generated
     @Override
     public DictionaryClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -114,6 +122,7 @@ public final class DictionaryClientBuilder implements HttpTrait<DictionaryClient
     @Generated
     @Override
     public DictionaryClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -133,6 +142,7 @@ public final class DictionaryClientBuilder implements HttpTrait<DictionaryClient
     @Generated
     @Override
     public DictionaryClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -149,6 +159,7 @@ public final class DictionaryClientBuilder implements HttpTrait<DictionaryClient
     @Generated
     @Override
     public DictionaryClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -165,6 +176,7 @@ public final class DictionaryClientBuilder implements HttpTrait<DictionaryClient
     @Generated
     @Override
     public DictionaryClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -175,6 +187,7 @@ public final class DictionaryClientBuilder implements HttpTrait<DictionaryClient
     @Generated
     @Override
     public DictionaryClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -192,6 +205,7 @@ public final class DictionaryClientBuilder implements HttpTrait<DictionaryClient
     @Generated
     @Override
     public DictionaryClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -208,6 +222,7 @@ public final class DictionaryClientBuilder implements HttpTrait<DictionaryClient
     @Generated
     @Override
     public DictionaryClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -226,6 +241,7 @@ public final class DictionaryClientBuilder implements HttpTrait<DictionaryClient
      */
     @Generated
     public DictionaryClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -238,7 +254,7 @@ public final class DictionaryClientBuilder implements HttpTrait<DictionaryClient
     @Generated
     private DictionaryClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         DictionaryClientImpl client
             = new DictionaryClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -286,6 +302,15 @@ public final class DictionaryClientBuilder implements HttpTrait<DictionaryClient
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of Int32ValueAsyncClient class.
      * 
@@ -60,7 +60,7 @@ public final class DictionaryClientImpl {
     /**
      * The Int32ValuesImpl object to access its operations.
      */
-    private final Int32ValuesImpl int32Values;
+    private volatile Int32ValuesImpl int32Values;
 
     /**
      * Gets the Int32ValuesImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class DictionaryClientImpl {
      * @return the Int32ValuesImpl object.
      */
     public Int32ValuesImpl getInt32Values() {
-        return this.int32Values;
+        Int32ValuesImpl localInt32Values = this.int32Values;
+        if (localInt32Values == null) {
+            synchronized (this) {
+                localInt32Values = this.int32Values;
+                if (localInt32Values == null) {
+                    localInt32Values = new Int32ValuesImpl(this);
+                    this.int32Values = localInt32Values;
+                }
+            }
+        }
+        return localInt32Values;
     }
 
     /**
      * The Int64ValuesImpl object to access its operations.
      */
-    private final Int64ValuesImpl int64Values;
+    private volatile Int64ValuesImpl int64Values;
 
     /**
      * Gets the Int64ValuesImpl object to access its operations.
@@ -82,13 +92,23 @@ public final class DictionaryClientImpl {
      * @return the Int64ValuesImpl object.
      */
     public Int64ValuesImpl getInt64Values() {
-        return this.int64Values;
+        Int64ValuesImpl localInt64Values = this.int64Values;
+        if (localInt64Values == null) {
+            synchronized (this) {
+                localInt64Values = this.int64Values;
+                if (localInt64Values == null) {
+                    localInt64Values = new Int64ValuesImpl(this);
+                    this.int64Values = localInt64Values;
+                }
+            }
+        }
+        return localInt64Values;
     }
 
     /**
      * The BooleanValuesImpl object to access its operations.
      */
-    private final BooleanValuesImpl booleanValues;
+    private volatile BooleanValuesImpl booleanValues;
 
     /**
      * Gets the BooleanValuesImpl object to access its operations.
@@ -96,13 +116,23 @@ public final class DictionaryClientImpl {
      * @return the BooleanValuesImpl object.
      */
     public BooleanValuesImpl getBooleanValues() {
-        return this.booleanValues;
+        BooleanValuesImpl localBooleanValues = this.booleanValues;
+        if (localBooleanValues == null) {
+            synchronized (this) {
+                localBooleanValues = this.booleanValues;
+                if (localBooleanValues == null) {
+                    localBooleanValues = new BooleanValuesImpl(this);
+                    this.booleanValues = localBooleanValues;
+                }
+            }
+        }
+        return localBooleanValues;
     }
 
     /**
      * The StringValuesImpl object to access its operations.
      */
-    private final StringValuesImpl stringValues;
+    private volatile StringValuesImpl stringValues;
 
     /**
      * Gets the StringValuesImpl object to access its operations.
@@ -110,13 +140,23 @@ public final class DictionaryClientImpl {
      * @return the StringValuesImpl object.
      */
     public StringValuesImpl getStringValues() {
-        return this.stringValues;
+        StringValuesImpl localStringValues = this.stringValues;
+        if (localStringValues == null) {
+            synchronized (this) {
+                localStringValues = this.stringValues;
+                if (localStringValues == null) {
+                    localStringValues = new StringValuesImpl(this);
+                    this.stringValues = localStringValues;
+                }
+            }
+        }
+        return localStringValues;
     }
 
     /**
      * The Float32ValuesImpl object to access its operations.
      */
-    private final Float32ValuesImpl float32Values;
+    private volatile Float32ValuesImpl float32Values;
 
     /**
      * Gets the Float32ValuesImpl object to access its operations.
@@ -124,13 +164,23 @@ public final class DictionaryClientImpl {
      * @return the Float32ValuesImpl object.
      */
     public Float32ValuesImpl getFloat32Values() {
-        return this.float32Values;
+        Float32ValuesImpl localFloat32Values = this.float32Values;
+        if (localFloat32Values == null) {
+            synchronized (this) {
+                localFloat32Values = this.float32Values;
+                if (localFloat32Values == null) {
+                    localFloat32Values = new Float32ValuesImpl(this);
+                    this.float32Values = localFloat32Values;
+                }
+            }
+        }
+        return localFloat32Values;
     }
 
     /**
      * The DatetimeValuesImpl object to access its operations.
      */
-    private final DatetimeValuesImpl datetimeValues;
+    private volatile DatetimeValuesImpl datetimeValues;
 
     /**
      * Gets the DatetimeValuesImpl object to access its operations.
@@ -138,13 +188,23 @@ public final class DictionaryClientImpl {
      * @return the DatetimeValuesImpl object.
      */
     public DatetimeValuesImpl getDatetimeValues() {
-        return this.datetimeValues;
+        DatetimeValuesImpl localDatetimeValues = this.datetimeValues;
+        if (localDatetimeValues == null) {
+            synchronized (this) {
+                localDatetimeValues = this.datetimeValues;
+                if (localDatetimeValues == null) {
+                    localDatetimeValues = new DatetimeValuesImpl(this);
+                    this.datetimeValues = localDatetimeValues;
+                }
+            }
+        }
+        return localDatetimeValues;
     }
 
     /**
      * The DurationValuesImpl object to access its operations.
      */
-    private final DurationValuesImpl durationValues;
+    private volatile DurationValuesImpl durationValues;
 
     /**
      * Gets the DurationValuesImpl object to access its operations.
@@ -152,13 +212,23 @@ public final class DictionaryClientImpl {
      * @return the DurationValuesImpl object.
      */
     public DurationValuesImpl getDurationValues() {
-        return this.durationValues;
+        DurationValuesImpl localDurationValues = this.durationValues;
+        if (localDurationValues == null) {
+            synchronized (this) {
+                localDurationValues = this.durationValues;
+                if (localDurationValues == null) {
+                    localDurationValues = new DurationValuesImpl(this);
+                    this.durationValues = localDurationValues;
+                }
+            }
+        }
+        return localDurationValues;
     }
 
     /**
      * The UnknownValuesImpl object to access its operations.
      */
-    private final UnknownValuesImpl unknownValues;
+    private volatile UnknownValuesImpl unknownValues;
 
     /**
      * Gets the UnknownValuesImpl object to access its operations.
@@ -166,13 +236,23 @@ public final class DictionaryClientImpl {
      * @return the UnknownValuesImpl object.
      */
     public UnknownValuesImpl getUnknownValues() {
-        return this.unknownValues;
+        UnknownValuesImpl localUnknownValues = this.unknownValues;
+        if (localUnknownValues == null) {
+            synchronized (this) {
+                localUnknownValues = this.unknownValues;
+                if (localUnknownValues == null) {
+                    localUnknownValues = new UnknownValuesImpl(this);
+                    this.unknownValues = localUnknownValues;
+                }
+            }
+        }
+        return localUnknownValues;
     }
 
     /**
      * The ModelValuesImpl object to access its operations.
      */
-    private final ModelValuesImpl modelValues;
+    private volatile ModelValuesImpl modelValues;
 
     /**
      * Gets the ModelValuesImpl object to access its operations.
@@ -180,13 +260,23 @@ public final class DictionaryClientImpl {
      * @return the ModelValuesImpl object.
      */
     public ModelValuesImpl getModelValues() {
-        return this.modelValues;
+        ModelValuesImpl localModelValues = this.modelValues;
+        if (localModelValues == null) {
+            synchronized (this) {
+                localModelValues = this.modelValues;
+                if (localModelValues == null) {
+                    localModelValues = new ModelValuesImpl(this);
+                    this.modelValues = localModelValues;
+                }
+            }
+        }
+        return localModelValues;
     }
 
     /**
      * The RecursiveModelValuesImpl object to access its operations.
      */
-    private final RecursiveModelValuesImpl recursiveModelValues;
+    private volatile RecursiveModelValuesImpl recursiveModelValues;
 
     /**
      * Gets the RecursiveModelValuesImpl object to access its operations.
@@ -194,13 +284,23 @@ public final class DictionaryClientImpl {
      * @return the RecursiveModelValuesImpl object.
      */
     public RecursiveModelValuesImpl getRecursiveModelValues() {
-        return this.recursiveModelValues;
+        RecursiveModelValuesImpl localRecursiveModelValues = this.recursiveModelValues;
+        if (localRecursiveModelValues == null) {
+            synchronized (this) {
+                localRecursiveModelValues = this.recursiveModelValues;
+                if (localRecursiveModelValues == null) {
+                    localRecursiveModelValues = new RecursiveModelValuesImpl(this);
+                    this.recursiveModelValues = localRecursiveModelValues;
+                }
+            }
+        }
+        return localRecursiveModelValues;
     }
 
     /**
      * The NullableFloatValuesImpl object to access its operations.
      */
-    private final NullableFloatValuesImpl nullableFloatValues;
+    private volatile NullableFloatValuesImpl nullableFloatValues;
 
     /**
      * Gets the NullableFloatValuesImpl object to access its operations.
@@ -208,7 +308,17 @@ public final class DictionaryClientImpl {
      * @return the NullableFloatValuesImpl object.
      */
     public NullableFloatValuesImpl getNullableFloatValues() {
-        return this.nullableFloatValues;
+        NullableFloatValuesImpl localNullableFloatValues = this.nullableFloatValues;
+        if (localNullableFloatValues == null) {
+            synchronized (this) {
+                localNullableFloatValues = this.nullableFloatValues;
+                if (localNullableFloatValues == null) {
+                    localNullableFloatValues = new NullableFloatValuesImpl(this);
+                    this.nullableFloatValues = localNullableFloatValues;
+                }
+            }
+        }
+        return localNullableFloatValues;
     }
 
     /**
@@ -242,16 +352,5 @@ public final class DictionaryClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.int32Values = new Int32ValuesImpl(this);
-        this.int64Values = new Int64ValuesImpl(this);
-        this.booleanValues = new BooleanValuesImpl(this);
-        this.stringValues = new StringValuesImpl(this);
-        this.float32Values = new Float32ValuesImpl(this);
-        this.datetimeValues = new DatetimeValuesImpl(this);
-        this.durationValues = new DurationValuesImpl(this);
-        this.unknownValues = new UnknownValuesImpl(this);
-        this.modelValues = new ModelValuesImpl(this);
-        this.recursiveModelValues = new RecursiveModelValuesImpl(this);
-        this.nullableFloatValues = new NullableFloatValuesImpl(this);
     }
 }
@@ -4,6 +4,10 @@
 
 package type.enums.fixed.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Days of the week.
  */
@@ -52,6 +56,17 @@ public enum DaysOfWeekEnum {
         this.value = value;
     }
 
+    private static final Map<String, DaysOfWeekEnum> VALUES = new HashMap<>();
+
+    private static final Map<String, DaysOfWeekEnum> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (DaysOfWeekEnum item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a DaysOfWeekEnum instance.
      * 
@@ -62,13 +77,8 @@ public enum DaysOfWeekEnum {
         if (value == null) {
             return null;
         }
-        DaysOfWeekEnum[] items = DaysOfWeekEnum.values();
-        for (DaysOfWeekEnum item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        DaysOfWeekEnum item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
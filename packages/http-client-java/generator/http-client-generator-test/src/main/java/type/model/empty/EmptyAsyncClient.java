@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.model.empty.implementation.EmptyClientImpl;
+import type.model.empty.implementation.JsonSerializableHelper;
 import type.model.empty.models.EmptyInput;
 import type.model.empty.models.EmptyInputOutput;
 import type.model.empty.models.EmptyOutput;
@@ -142,7 +143,8 @@ public final class EmptyAsyncClient {
     public Mono<Void> putEmpty(EmptyInput input) {
         // Generated convenience method for putEmptyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putEmptyWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return putEmptyWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -161,7 +163,8 @@ public final class EmptyAsyncClient {
         // Generated convenience method for getEmptyWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getEmptyWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(EmptyOutput.class));
+            .map(
+                protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, EmptyOutput::fromJson));
     }
 
     /**
@@ -181,7 +184,9 @@ public final class EmptyAsyncClient {
     public Mono<EmptyInputOutput> postRoundTripEmpty(EmptyInputOutput body) {
         // Generated convenience method for postRoundTripEmptyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postRoundTripEmptyWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(EmptyInputOutput.class));
+        return postRoundTripEmptyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                EmptyInputOutput::fromJson));
     }
 }
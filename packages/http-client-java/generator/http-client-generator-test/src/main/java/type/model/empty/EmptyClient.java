@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.model.empty.implementation.EmptyClientImpl;
+import type.model.empty.implementation.JsonSerializableHelper;
 import type.model.empty.models.EmptyInput;
 import type.model.empty.models.EmptyInputOutput;
 import type.model.empty.models.EmptyOutput;
@@ -137,7 +138,7 @@ public final class EmptyClient {
     public void putEmpty(EmptyInput input) {
         // Generated convenience method for putEmptyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putEmptyWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        putEmptyWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -155,7 +156,8 @@ public final class EmptyClient {
     public EmptyOutput getEmpty() {
         // Generated convenience method for getEmptyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getEmptyWithResponse(requestOptions).getValue().toObject(EmptyOutput.class);
+        return JsonSerializableHelper.fromBinaryData(getEmptyWithResponse(requestOptions).getValue(),
+            EmptyOutput::fromJson);
     }
 
     /**
@@ -175,7 +177,8 @@ public final class EmptyClient {
     public EmptyInputOutput postRoundTripEmpty(EmptyInputOutput body) {
         // Generated convenience method for postRoundTripEmptyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postRoundTripEmptyWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(EmptyInputOutput.class);
+        return JsonSerializableHelper.fromBinaryData(
+            postRoundTripEmptyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            EmptyInputOutput::fromJson);
     }
 }
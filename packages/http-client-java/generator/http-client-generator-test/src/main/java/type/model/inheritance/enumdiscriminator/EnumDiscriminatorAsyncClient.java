@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.model.inheritance.enumdiscriminator.implementation.EnumDiscriminatorClientImpl;
+import type.model.inheritance.enumdiscriminator.implementation.JsonSerializableHelper;
 import type.model.inheritance.enumdiscriminator.models.Dog;
 import type.model.inheritance.enumdiscriminator.models.Snake;
 
@@ -270,7 +271,7 @@ public final class EnumDiscriminatorAsyncClient {
         // Generated convenience method for getExtensibleModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getExtensibleModelWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Dog.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Dog::fromJson));
     }
 
     /**
@@ -290,7 +291,8 @@ public final class EnumDiscriminatorAsyncClient {
     public Mono<Void> putExtensibleModel(Dog input) {
         // Generated convenience method for putExtensibleModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putExtensibleModelWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return putExtensibleModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -309,7 +311,7 @@ public final class EnumDiscriminatorAsyncClient {
         // Generated convenience method for getExtensibleModelMissingDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getExtensibleModelMissingDiscriminatorWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Dog.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Dog::fromJson));
     }
 
     /**
@@ -328,7 +330,7 @@ public final class EnumDiscriminatorAsyncClient {
         // Generated convenience method for getExtensibleModelWrongDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getExtensibleModelWrongDiscriminatorWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Dog.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Dog::fromJson));
     }
 
     /**
@@ -347,7 +349,7 @@ public final class EnumDiscriminatorAsyncClient {
         // Generated convenience method for getFixedModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getFixedModelWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Snake.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Snake::fromJson));
     }
 
     /**
@@ -367,7 +369,8 @@ public final class EnumDiscriminatorAsyncClient {
     public Mono<Void> putFixedModel(Snake input) {
         // Generated convenience method for putFixedModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putFixedModelWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return putFixedModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -386,7 +389,7 @@ public final class EnumDiscriminatorAsyncClient {
         // Generated convenience method for getFixedModelMissingDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getFixedModelMissingDiscriminatorWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Snake.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Snake::fromJson));
     }
 
     /**
@@ -405,6 +408,6 @@ public final class EnumDiscriminatorAsyncClient {
         // Generated convenience method for getFixedModelWrongDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getFixedModelWrongDiscriminatorWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Snake.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Snake::fromJson));
     }
 }
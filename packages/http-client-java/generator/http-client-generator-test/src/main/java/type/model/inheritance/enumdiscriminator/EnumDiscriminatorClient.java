@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.model.inheritance.enumdiscriminator.implementation.EnumDiscriminatorClientImpl;
+import type.model.inheritance.enumdiscriminator.implementation.JsonSerializableHelper;
 import type.model.inheritance.enumdiscriminator.models.Dog;
 import type.model.inheritance.enumdiscriminator.models.Snake;
 
@@ -262,7 +263,8 @@ public final class EnumDiscriminatorClient {
     public Dog getExtensibleModel() {
         // Generated convenience method for getExtensibleModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getExtensibleModelWithResponse(requestOptions).getValue().toObject(Dog.class);
+        return JsonSerializableHelper.fromBinaryData(getExtensibleModelWithResponse(requestOptions).getValue(),
+            Dog::fromJson);
     }
 
     /**
@@ -281,7 +283,7 @@ public final class EnumDiscriminatorClient {
     public void putExtensibleModel(Dog input) {
         // Generated convenience method for putExtensibleModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putExtensibleModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        putExtensibleModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -299,7 +301,8 @@ public final class EnumDiscriminatorClient {
     public Dog getExtensibleModelMissingDiscriminator() {
         // Generated convenience method for getExtensibleModelMissingDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getExtensibleModelMissingDiscriminatorWithResponse(requestOptions).getValue().toObject(Dog.class);
+        return JsonSerializableHelper.fromBinaryData(
+            getExtensibleModelMissingDiscriminatorWithResponse(requestOptions).getValue(), Dog::fromJson);
     }
 
     /**
@@ -317,7 +320,8 @@ public final class EnumDiscriminatorClient {
     public Dog getExtensibleModelWrongDiscriminator() {
         // Generated convenience method for getExtensibleModelWrongDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getExtensibleModelWrongDiscriminatorWithResponse(requestOptions).getValue().toObject(Dog.class);
+        return JsonSerializableHelper
+            .fromBinaryData(getExtensibleModelWrongDiscriminatorWithResponse(requestOptions).getValue(), Dog::fromJson);
     }
 
     /**
@@ -335,7 +339,8 @@ public final class EnumDiscriminatorClient {
     public Snake getFixedModel() {
         // Generated convenience method for getFixedModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getFixedModelWithResponse(requestOptions).getValue().toObject(Snake.class);
+        return JsonSerializableHelper.fromBinaryData(getFixedModelWithResponse(requestOptions).getValue(),
+            Snake::fromJson);
     }
 
     /**
@@ -354,7 +359,7 @@ public final class EnumDiscriminatorClient {
     public void putFixedModel(Snake input) {
         // Generated convenience method for putFixedModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putFixedModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        putFixedModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -372,7 +377,8 @@ public final class EnumDiscriminatorClient {
     public Snake getFixedModelMissingDiscriminator() {
         // Generated convenience method for getFixedModelMissingDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getFixedModelMissingDiscriminatorWithResponse(requestOptions).getValue().toObject(Snake.class);
+        return JsonSerializableHelper
+            .fromBinaryData(getFixedModelMissingDiscriminatorWithResponse(requestOptions).getValue(), Snake::fromJson);
     }
 
     /**
@@ -390,6 +396,7 @@ public final class EnumDiscriminatorClient {
     public Snake getFixedModelWrongDiscriminator() {
         // Generated convenience method for getFixedModelWrongDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getFixedModelWrongDiscriminatorWithResponse(requestOptions).getValue().toObject(Snake.class);
+        return JsonSerializableHelper
+            .fromBinaryData(getFixedModelWrongDiscriminatorWithResponse(requestOptions).getValue(), Snake::fromJson);
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.model.inheritance.nesteddiscriminator.implementation.JsonSerializableHelper;
 import type.model.inheritance.nesteddiscriminator.implementation.NestedDiscriminatorClientImpl;
 import type.model.inheritance.nesteddiscriminator.models.Fish;
 
@@ -217,7 +218,7 @@ public final class NestedDiscriminatorAsyncClient {
         // Generated convenience method for getModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getModelWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Fish.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Fish::fromJson));
     }
 
     /**
@@ -237,7 +238,8 @@ public final class NestedDiscriminatorAsyncClient {
     public Mono<Void> putModel(Fish input) {
         // Generated convenience method for putModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putModelWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return putModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -257,7 +259,7 @@ public final class NestedDiscriminatorAsyncClient {
         // Generated convenience method for getRecursiveModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getRecursiveModelWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Fish.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Fish::fromJson));
     }
 
     /**
@@ -277,7 +279,8 @@ public final class NestedDiscriminatorAsyncClient {
     public Mono<Void> putRecursiveModel(Fish input) {
         // Generated convenience method for putRecursiveModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putRecursiveModelWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return putRecursiveModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -297,7 +300,7 @@ public final class NestedDiscriminatorAsyncClient {
         // Generated convenience method for getMissingDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getMissingDiscriminatorWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Fish.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Fish::fromJson));
     }
 
     /**
@@ -317,6 +320,6 @@ public final class NestedDiscriminatorAsyncClient {
         // Generated convenience method for getWrongDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWrongDiscriminatorWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Fish.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Fish::fromJson));
     }
 }
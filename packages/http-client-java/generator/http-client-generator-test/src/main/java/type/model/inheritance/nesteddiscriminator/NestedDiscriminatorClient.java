@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.model.inheritance.nesteddiscriminator.implementation.JsonSerializableHelper;
 import type.model.inheritance.nesteddiscriminator.implementation.NestedDiscriminatorClientImpl;
 import type.model.inheritance.nesteddiscriminator.models.Fish;
 
@@ -213,7 +214,7 @@ public final class NestedDiscriminatorClient {
     public Fish getModel() {
         // Generated convenience method for getModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getModelWithResponse(requestOptions).getValue().toObject(Fish.class);
+        return JsonSerializableHelper.fromBinaryData(getModelWithResponse(requestOptions).getValue(), Fish::fromJson);
     }
 
     /**
@@ -232,7 +233,7 @@ public final class NestedDiscriminatorClient {
     public void putModel(Fish input) {
         // Generated convenience method for putModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        putModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -250,7 +251,8 @@ public final class NestedDiscriminatorClient {
     public Fish getRecursiveModel() {
         // Generated convenience method for getRecursiveModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getRecursiveModelWithResponse(requestOptions).getValue().toObject(Fish.class);
+        return JsonSerializableHelper.fromBinaryData(getRecursiveModelWithResponse(requestOptions).getValue(),
+            Fish::fromJson);
     }
 
     /**
@@ -269,7 +271,7 @@ public final class NestedDiscriminatorClient {
     public void putRecursiveModel(Fish input) {
         // Generated convenience method for putRecursiveModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putRecursiveModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        putRecursiveModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -287,7 +289,8 @@ public final class NestedDiscriminatorClient {
     public Fish getMissingDiscriminator() {
         // Generated convenience method for getMissingDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getMissingDiscriminatorWithResponse(requestOptions).getValue().toObject(Fish.class);
+        return JsonSerializableHelper.fromBinaryData(getMissingDiscriminatorWithResponse(requestOptions).getValue(),
+            Fish::fromJson);
     }
 
     /**
@@ -305,6 +308,7 @@ public final class NestedDiscriminatorClient {
     public Fish getWrongDiscriminator() {
         // Generated convenience method for getWrongDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWrongDiscriminatorWithResponse(requestOptions).getValue().toObject(Fish.class);
+        return JsonSerializableHelper.fromBinaryData(getWrongDiscriminatorWithResponse(requestOptions).getValue(),
+            Fish::fromJson);
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.model.inheritance.notdiscriminated.implementation.JsonSerializableHelper;
 import type.model.inheritance.notdiscriminated.implementation.NotDiscriminatedClientImpl;
 import type.model.inheritance.notdiscriminated.models.Siamese;
 
@@ -152,7 +153,8 @@ public final class NotDiscriminatedAsyncClient {
     public Mono<Void> postValid(Siamese input) {
         // Generated convenience method for postValidWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postValidWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return postValidWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -171,7 +173,7 @@ public final class NotDiscriminatedAsyncClient {
         // Generated convenience method for getValidWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getValidWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Siamese.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Siamese::fromJson));
     }
 
     /**
@@ -191,7 +193,8 @@ public final class NotDiscriminatedAsyncClient {
     public Mono<Siamese> putValid(Siamese input) {
         // Generated convenience method for putValidWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putValidWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Siamese.class));
+        return putValidWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Siamese::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.model.inheritance.notdiscriminated.implementation.JsonSerializableHelper;
 import type.model.inheritance.notdiscriminated.implementation.NotDiscriminatedClientImpl;
 import type.model.inheritance.notdiscriminated.models.Siamese;
 
@@ -147,7 +148,7 @@ public final class NotDiscriminatedClient {
     public void postValid(Siamese input) {
         // Generated convenience method for postValidWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        postValidWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        postValidWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -165,7 +166,8 @@ public final class NotDiscriminatedClient {
     public Siamese getValid() {
         // Generated convenience method for getValidWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getValidWithResponse(requestOptions).getValue().toObject(Siamese.class);
+        return JsonSerializableHelper.fromBinaryData(getValidWithResponse(requestOptions).getValue(),
+            Siamese::fromJson);
     }
 
     /**
@@ -185,6 +187,8 @@ public final class NotDiscriminatedClient {
     public Siamese putValid(Siamese input) {
         // Generated convenience method for putValidWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putValidWithResponse(BinaryData.fromObject(input), requestOptions).getValue().toObject(Siamese.class);
+        return JsonSerializableHelper.fromBinaryData(
+            putValidWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue(),
+            Siamese::fromJson);
     }
 }
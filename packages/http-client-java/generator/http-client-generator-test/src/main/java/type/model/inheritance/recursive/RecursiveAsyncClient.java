@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.model.inheritance.recursive.implementation.JsonSerializableHelper;
 import type.model.inheritance.recursive.implementation.RecursiveClientImpl;
 import type.model.inheritance.recursive.models.Extension;
 
@@ -112,7 +113,7 @@ public final class RecursiveAsyncClient {
     public Mono<Void> put(Extension input) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return putWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -131,6 +132,6 @@ public final class RecursiveAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Extension.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Extension::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.model.inheritance.recursive.implementation.JsonSerializableHelper;
 import type.model.inheritance.recursive.implementation.RecursiveClientImpl;
 import type.model.inheritance.recursive.models.Extension;
 
@@ -109,7 +110,7 @@ public final class RecursiveClient {
     public void put(Extension input) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -127,6 +128,6 @@ public final class RecursiveClient {
     public Extension get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(Extension.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(), Extension::fromJson);
     }
 }
@@ -60,7 +60,7 @@ public class Element implements JsonSerializable<Element> {
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("extension", this.extension, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("extension", this.extension, JsonWriter::writeJson);
         return jsonWriter.writeEndObject();
     }
 
@@ -81,7 +81,7 @@ public class Element implements JsonSerializable<Element> {
                 reader.nextToken();
 
                 if ("extension".equals(fieldName)) {
-                    List<Extension> extension = reader.readArray(reader1 -> Extension.fromJson(reader1));
+                    List<Extension> extension = reader.readArray(Extension::fromJson);
                     deserializedElement.extension = extension;
                 } else {
                     reader.skipChildren();
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.model.inheritance.singlediscriminator.implementation.JsonSerializableHelper;
 import type.model.inheritance.singlediscriminator.implementation.SingleDiscriminatorClientImpl;
 import type.model.inheritance.singlediscriminator.models.Bird;
 import type.model.inheritance.singlediscriminator.models.Dinosaur;
@@ -245,7 +246,7 @@ public final class SingleDiscriminatorAsyncClient {
         // Generated convenience method for getModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getModelWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Bird.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Bird::fromJson));
     }
 
     /**
@@ -265,7 +266,8 @@ public final class SingleDiscriminatorAsyncClient {
     public Mono<Void> putModel(Bird input) {
         // Generated convenience method for putModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putModelWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return putModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -285,7 +287,7 @@ public final class SingleDiscriminatorAsyncClient {
         // Generated convenience method for getRecursiveModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getRecursiveModelWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Bird.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Bird::fromJson));
     }
 
     /**
@@ -305,7 +307,8 @@ public final class SingleDiscriminatorAsyncClient {
     public Mono<Void> putRecursiveModel(Bird input) {
         // Generated convenience method for putRecursiveModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putRecursiveModelWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return putRecursiveModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -325,7 +328,7 @@ public final class SingleDiscriminatorAsyncClient {
         // Generated convenience method for getMissingDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getMissingDiscriminatorWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Bird.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Bird::fromJson));
     }
 
     /**
@@ -345,7 +348,7 @@ public final class SingleDiscriminatorAsyncClient {
         // Generated convenience method for getWrongDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWrongDiscriminatorWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Bird.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Bird::fromJson));
     }
 
     /**
@@ -364,6 +367,6 @@ public final class SingleDiscriminatorAsyncClient {
         // Generated convenience method for getLegacyModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getLegacyModelWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(Dinosaur.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, Dinosaur::fromJson));
     }
 }
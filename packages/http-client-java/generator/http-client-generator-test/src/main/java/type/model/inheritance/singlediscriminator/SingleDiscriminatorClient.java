@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.model.inheritance.singlediscriminator.implementation.JsonSerializableHelper;
 import type.model.inheritance.singlediscriminator.implementation.SingleDiscriminatorClientImpl;
 import type.model.inheritance.singlediscriminator.models.Bird;
 import type.model.inheritance.singlediscriminator.models.Dinosaur;
@@ -240,7 +241,7 @@ public final class SingleDiscriminatorClient {
     public Bird getModel() {
         // Generated convenience method for getModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getModelWithResponse(requestOptions).getValue().toObject(Bird.class);
+        return JsonSerializableHelper.fromBinaryData(getModelWithResponse(requestOptions).getValue(), Bird::fromJson);
     }
 
     /**
@@ -259,7 +260,7 @@ public final class SingleDiscriminatorClient {
     public void putModel(Bird input) {
         // Generated convenience method for putModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        putModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -277,7 +278,8 @@ public final class SingleDiscriminatorClient {
     public Bird getRecursiveModel() {
         // Generated convenience method for getRecursiveModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getRecursiveModelWithResponse(requestOptions).getValue().toObject(Bird.class);
+        return JsonSerializableHelper.fromBinaryData(getRecursiveModelWithResponse(requestOptions).getValue(),
+            Bird::fromJson);
     }
 
     /**
@@ -296,7 +298,7 @@ public final class SingleDiscriminatorClient {
     public void putRecursiveModel(Bird input) {
         // Generated convenience method for putRecursiveModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putRecursiveModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        putRecursiveModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -314,7 +316,8 @@ public final class SingleDiscriminatorClient {
     public Bird getMissingDiscriminator() {
         // Generated convenience method for getMissingDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getMissingDiscriminatorWithResponse(requestOptions).getValue().toObject(Bird.class);
+        return JsonSerializableHelper.fromBinaryData(getMissingDiscriminatorWithResponse(requestOptions).getValue(),
+            Bird::fromJson);
     }
 
     /**
@@ -332,7 +335,8 @@ public final class SingleDiscriminatorClient {
     public Bird getWrongDiscriminator() {
         // Generated convenience method for getWrongDiscriminatorWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWrongDiscriminatorWithResponse(requestOptions).getValue().toObject(Bird.class);
+        return JsonSerializableHelper.fromBinaryData(getWrongDiscriminatorWithResponse(requestOptions).getValue(),
+            Bird::fromJson);
     }
 
     /**
@@ -350,6 +354,7 @@ public final class SingleDiscriminatorClient {
     public Dinosaur getLegacyModel() {
         // Generated convenience method for getLegacyModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getLegacyModelWithResponse(requestOptions).getValue().toObject(Dinosaur.class);
+        return JsonSerializableHelper.fromBinaryData(getLegacyModelWithResponse(requestOptions).getValue(),
+            Dinosaur::fromJson);
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.model.usage.implementation.JsonSerializableHelper;
 import type.model.usage.implementation.UsageClientImpl;
 import type.model.usage.models.InputOutputRecord;
 import type.model.usage.models.InputRecord;
@@ -146,7 +147,7 @@ public final class UsageAsyncClient {
     public Mono<Void> input(InputRecord input) {
         // Generated convenience method for inputWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return inputWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return inputWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -165,7 +166,8 @@ public final class UsageAsyncClient {
         // Generated convenience method for outputWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return outputWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(OutputRecord.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                OutputRecord::fromJson));
     }
 
     /**
@@ -185,7 +187,9 @@ public final class UsageAsyncClient {
     public Mono<InputOutputRecord> inputAndOutput(InputOutputRecord body) {
         // Generated convenience method for inputAndOutputWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return inputAndOutputWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(InputOutputRecord.class));
+        return inputAndOutputWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                InputOutputRecord::fromJson));
     }
 }
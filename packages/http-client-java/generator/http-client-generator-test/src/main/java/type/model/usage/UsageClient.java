@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.model.usage.implementation.JsonSerializableHelper;
 import type.model.usage.implementation.UsageClientImpl;
 import type.model.usage.models.InputOutputRecord;
 import type.model.usage.models.InputRecord;
@@ -141,7 +142,7 @@ public final class UsageClient {
     public void input(InputRecord input) {
         // Generated convenience method for inputWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        inputWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        inputWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -159,7 +160,8 @@ public final class UsageClient {
     public OutputRecord output() {
         // Generated convenience method for outputWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return outputWithResponse(requestOptions).getValue().toObject(OutputRecord.class);
+        return JsonSerializableHelper.fromBinaryDataStream(outputWithResponse(requestOptions).getValue(),
+            OutputRecord::fromJson);
     }
 
     /**
@@ -179,7 +181,8 @@ public final class UsageClient {
     public InputOutputRecord inputAndOutput(InputOutputRecord body) {
         // Generated convenience method for inputAndOutputWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return inputAndOutputWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(InputOutputRecord.class);
+        return JsonSerializableHelper.fromBinaryDataStream(
+            inputAndOutputWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            InputOutputRecord::fromJson);
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.model.visibility.implementation.JsonSerializableHelper;
 import type.model.visibility.implementation.VisibilityClientImpl;
 import type.model.visibility.models.ReadOnlyModel;
 import type.model.visibility.models.VisibilityModel;
@@ -323,8 +324,10 @@ public final class VisibilityAsyncClient {
     public Mono<VisibilityModel> getModel(int queryProp, VisibilityModel input) {
         // Generated convenience method for getModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getModelWithResponse(queryProp, BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(VisibilityModel.class));
+        return getModelWithResponse(queryProp, JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                VisibilityModel::fromJson));
     }
 
     /**
@@ -345,7 +348,8 @@ public final class VisibilityAsyncClient {
     public Mono<Void> headModel(int queryProp, VisibilityModel input) {
         // Generated convenience method for headModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return headModelWithResponse(queryProp, BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return headModelWithResponse(queryProp, JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -365,7 +369,8 @@ public final class VisibilityAsyncClient {
     public Mono<Void> putModel(VisibilityModel input) {
         // Generated convenience method for putModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putModelWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return putModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -385,7 +390,8 @@ public final class VisibilityAsyncClient {
     public Mono<Void> patchModel(VisibilityModel input) {
         // Generated convenience method for patchModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return patchModelWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return patchModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -405,7 +411,8 @@ public final class VisibilityAsyncClient {
     public Mono<Void> postModel(VisibilityModel input) {
         // Generated convenience method for postModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return postModelWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return postModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -425,7 +432,8 @@ public final class VisibilityAsyncClient {
     public Mono<Void> deleteModel(VisibilityModel input) {
         // Generated convenience method for deleteModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return deleteModelWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono);
+        return deleteModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -445,7 +453,9 @@ public final class VisibilityAsyncClient {
     public Mono<ReadOnlyModel> putReadOnlyModel(ReadOnlyModel input) {
         // Generated convenience method for putReadOnlyModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putReadOnlyModelWithResponse(BinaryData.fromObject(input), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ReadOnlyModel.class));
+        return putReadOnlyModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                ReadOnlyModel::fromJson));
     }
 }
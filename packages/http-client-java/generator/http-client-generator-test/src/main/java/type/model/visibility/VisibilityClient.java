@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.model.visibility.implementation.JsonSerializableHelper;
 import type.model.visibility.implementation.VisibilityClientImpl;
 import type.model.visibility.models.ReadOnlyModel;
 import type.model.visibility.models.VisibilityModel;
@@ -318,8 +319,9 @@ public final class VisibilityClient {
     public VisibilityModel getModel(int queryProp, VisibilityModel input) {
         // Generated convenience method for getModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getModelWithResponse(queryProp, BinaryData.fromObject(input), requestOptions).getValue()
-            .toObject(VisibilityModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            getModelWithResponse(queryProp, JsonSerializableHelper.toBinaryData(input), requestOptions).getValue(),
+            VisibilityModel::fromJson);
     }
 
     /**
@@ -339,7 +341,7 @@ public final class VisibilityClient {
     public void headModel(int queryProp, VisibilityModel input) {
         // Generated convenience method for headModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        headModelWithResponse(queryProp, BinaryData.fromObject(input), requestOptions).getValue();
+        headModelWithResponse(queryProp, JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -358,7 +360,7 @@ public final class VisibilityClient {
     public void putModel(VisibilityModel input) {
         // Generated convenience method for putModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        putModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -377,7 +379,7 @@ public final class VisibilityClient {
     public void patchModel(VisibilityModel input) {
         // Generated convenience method for patchModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        patchModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        patchModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -396,7 +398,7 @@ public final class VisibilityClient {
     public void postModel(VisibilityModel input) {
         // Generated convenience method for postModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        postModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        postModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -415,7 +417,7 @@ public final class VisibilityClient {
     public void deleteModel(VisibilityModel input) {
         // Generated convenience method for deleteModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        deleteModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue();
+        deleteModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue();
     }
 
     /**
@@ -435,7 +437,8 @@ public final class VisibilityClient {
     public ReadOnlyModel putReadOnlyModel(ReadOnlyModel input) {
         // Generated convenience method for putReadOnlyModelWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putReadOnlyModelWithResponse(BinaryData.fromObject(input), requestOptions).getValue()
-            .toObject(ReadOnlyModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            putReadOnlyModelWithResponse(JsonSerializableHelper.toBinaryData(input), requestOptions).getValue(),
+            ReadOnlyModel::fromJson);
     }
 }
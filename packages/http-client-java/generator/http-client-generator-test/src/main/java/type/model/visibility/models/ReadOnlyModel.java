@@ -85,10 +85,10 @@ public final class ReadOnlyModel implements JsonSerializable<ReadOnlyModel> {
                 reader.nextToken();
 
                 if ("optionalNullableIntList".equals(fieldName)) {
-                    List<Integer> optionalNullableIntList = reader.readArray(reader1 -> reader1.getInt());
+                    List<Integer> optionalNullableIntList = reader.readArray(JsonReader::getInt);
                     deserializedReadOnlyModel.optionalNullableIntList = optionalNullableIntList;
                 } else if ("optionalStringRecord".equals(fieldName)) {
-                    Map<String, String> optionalStringRecord = reader.readMap(reader1 -> reader1.getString());
+                    Map<String, String> optionalStringRecord = reader.readMap(JsonReader::getString);
                     deserializedReadOnlyModel.optionalStringRecord = optionalStringRecord;
                 } else {
                     reader.skipChildren();
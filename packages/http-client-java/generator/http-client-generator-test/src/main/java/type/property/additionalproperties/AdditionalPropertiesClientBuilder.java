@@ -119,6 +119,13 @@ public final class AdditionalPropertiesClientBuilder implements HttpTrait<Additi
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the AdditionalPropertiesClientBuilder.
      */
@@ -139,6 +146,7 @@ public final class AdditionalPropertiesClientBuilder implements HttpTrait<Additi
     @Generated
     @Override
     public AdditionalPropertiesClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -155,6 +163,7 @@ public final class AdditionalPropertiesClientBuilder implements HttpTrait<Additi
     @Generated
     @Override
     public AdditionalPropertiesClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -174,6 +183,7 @@ public final class AdditionalPropertiesClientBuilder implements HttpTrait<Additi
     @Generated
     @Override
     public AdditionalPropertiesClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -190,6 +200,7 @@ public final class AdditionalPropertiesClientBuilder implements HttpTrait<Additi
     @Generated
     @Override
     public AdditionalPropertiesClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -206,6 +217,7 @@ public final class AdditionalPropertiesClientBuilder implements HttpTrait<Additi
     @Generated
     @Override
     public AdditionalPropertiesClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -216,6 +228,7 @@ public final class AdditionalPropertiesClientBuilder implements HttpTrait<Additi
     @Generated
     @Override
     public AdditionalPropertiesClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -233,6 +246,7 @@ public final class AdditionalPropertiesClientBuilder implements HttpTrait<Additi
     @Generated
     @Override
     public AdditionalPropertiesClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -249,6 +263,7 @@ public final class AdditionalPropertiesClientBuilder implements HttpTrait<Additi
     @Generated
     @Override
     public AdditionalPropertiesClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -267,6 +282,7 @@ public final class AdditionalPropertiesClientBuilder implements HttpTrait<Additi
      */
     @Generated
     public AdditionalPropertiesClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -279,7 +295,7 @@ public final class AdditionalPropertiesClientBuilder implements HttpTrait<Additi
     @Generated
     private AdditionalPropertiesClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         AdditionalPropertiesClientImpl client = new AdditionalPropertiesClientImpl(localPipeline,
             JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -327,6 +343,15 @@ public final class AdditionalPropertiesClientBuilder implements HttpTrait<Additi
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of ExtendsUnknownAsyncClient class.
      * 
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.additionalproperties.implementation.ExtendsDifferentSpreadFloatsImpl;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.models.DifferentSpreadFloatDerived;
 
 /**
@@ -110,7 +111,8 @@ public final class ExtendsDifferentSpreadFloatClient {
     public DifferentSpreadFloatDerived get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(DifferentSpreadFloatDerived.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            DifferentSpreadFloatDerived::fromJson);
     }
 
     /**
@@ -129,6 +131,6 @@ public final class ExtendsDifferentSpreadFloatClient {
     public void put(DifferentSpreadFloatDerived body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
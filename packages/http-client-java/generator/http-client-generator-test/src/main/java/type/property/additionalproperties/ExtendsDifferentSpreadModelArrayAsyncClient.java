@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.property.additionalproperties.implementation.ExtendsDifferentSpreadModelArraysImpl;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.models.DifferentSpreadModelArrayDerived;
 
 /**
@@ -125,7 +126,8 @@ public final class ExtendsDifferentSpreadModelArrayAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(DifferentSpreadModelArrayDerived.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                DifferentSpreadModelArrayDerived::fromJson));
     }
 
     /**
@@ -145,6 +147,6 @@ public final class ExtendsDifferentSpreadModelArrayAsyncClient {
     public Mono<Void> put(DifferentSpreadModelArrayDerived body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 }
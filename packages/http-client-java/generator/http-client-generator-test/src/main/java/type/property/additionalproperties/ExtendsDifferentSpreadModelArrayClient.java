@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.additionalproperties.implementation.ExtendsDifferentSpreadModelArraysImpl;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.models.DifferentSpreadModelArrayDerived;
 
 /**
@@ -122,7 +123,8 @@ public final class ExtendsDifferentSpreadModelArrayClient {
     public DifferentSpreadModelArrayDerived get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(DifferentSpreadModelArrayDerived.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            DifferentSpreadModelArrayDerived::fromJson);
     }
 
     /**
@@ -141,6 +143,6 @@ public final class ExtendsDifferentSpreadModelArrayClient {
     public void put(DifferentSpreadModelArrayDerived body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
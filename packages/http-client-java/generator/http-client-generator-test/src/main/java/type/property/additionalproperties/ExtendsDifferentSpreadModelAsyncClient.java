@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.property.additionalproperties.implementation.ExtendsDifferentSpreadModelsImpl;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.models.DifferentSpreadModelDerived;
 
 /**
@@ -117,7 +118,8 @@ public final class ExtendsDifferentSpreadModelAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(DifferentSpreadModelDerived.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                DifferentSpreadModelDerived::fromJson));
     }
 
     /**
@@ -137,6 +139,6 @@ public final class ExtendsDifferentSpreadModelAsyncClient {
     public Mono<Void> put(DifferentSpreadModelDerived body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.additionalproperties.implementation.ExtendsDifferentSpreadModelsImpl;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.models.DifferentSpreadModelDerived;
 
 /**
@@ -114,7 +115,8 @@ public final class ExtendsDifferentSpreadModelClient {
     public DifferentSpreadModelDerived get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(DifferentSpreadModelDerived.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            DifferentSpreadModelDerived::fromJson);
     }
 
     /**
@@ -133,6 +135,6 @@ public final class ExtendsDifferentSpreadModelClient {
     public void put(DifferentSpreadModelDerived body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.additionalproperties.implementation.ExtendsDifferentSpreadStringsImpl;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.models.DifferentSpreadStringDerived;
 
 /**
@@ -110,7 +111,8 @@ public final class ExtendsDifferentSpreadStringClient {
     public DifferentSpreadStringDerived get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(DifferentSpreadStringDerived.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            DifferentSpreadStringDerived::fromJson);
     }
 
     /**
@@ -129,6 +131,6 @@ public final class ExtendsDifferentSpreadStringClient {
     public void put(DifferentSpreadStringDerived body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.additionalproperties.implementation.ExtendsFloatsImpl;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.models.ExtendsFloatAdditionalProperties;
 
 /**
@@ -108,7 +109,8 @@ public final class ExtendsFloatClient {
     public ExtendsFloatAdditionalProperties get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(ExtendsFloatAdditionalProperties.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            ExtendsFloatAdditionalProperties::fromJson);
     }
 
     /**
@@ -127,6 +129,6 @@ public final class ExtendsFloatClient {
     public void put(ExtendsFloatAdditionalProperties body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
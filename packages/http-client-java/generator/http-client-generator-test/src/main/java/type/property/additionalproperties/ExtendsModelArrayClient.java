@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.additionalproperties.implementation.ExtendsModelArraysImpl;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.models.ExtendsModelArrayAdditionalProperties;
 
 /**
@@ -120,7 +121,8 @@ public final class ExtendsModelArrayClient {
     public ExtendsModelArrayAdditionalProperties get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(ExtendsModelArrayAdditionalProperties.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            ExtendsModelArrayAdditionalProperties::fromJson);
     }
 
     /**
@@ -139,6 +141,6 @@ public final class ExtendsModelArrayClient {
     public void put(ExtendsModelArrayAdditionalProperties body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.additionalproperties.implementation.ExtendsUnknownDiscriminatedsImpl;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.models.ExtendsUnknownAdditionalPropertiesDiscriminated;
 
 /**
@@ -110,8 +111,8 @@ public final class ExtendsUnknownDiscriminatedClient {
     public ExtendsUnknownAdditionalPropertiesDiscriminated get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue()
-            .toObject(ExtendsUnknownAdditionalPropertiesDiscriminated.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            ExtendsUnknownAdditionalPropertiesDiscriminated::fromJson);
     }
 
     /**
@@ -130,6 +131,6 @@ public final class ExtendsUnknownDiscriminatedClient {
     public void put(ExtendsUnknownAdditionalPropertiesDiscriminated body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
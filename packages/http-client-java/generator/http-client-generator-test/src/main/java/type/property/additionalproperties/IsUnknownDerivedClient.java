@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.additionalproperties.implementation.IsUnknownDerivedsImpl;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.models.IsUnknownAdditionalPropertiesDerived;
 
 /**
@@ -112,7 +113,8 @@ public final class IsUnknownDerivedClient {
     public IsUnknownAdditionalPropertiesDerived get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(IsUnknownAdditionalPropertiesDerived.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            IsUnknownAdditionalPropertiesDerived::fromJson);
     }
 
     /**
@@ -131,6 +133,6 @@ public final class IsUnknownDerivedClient {
     public void put(IsUnknownAdditionalPropertiesDerived body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.property.additionalproperties.implementation.IsUnknownDiscriminatedsImpl;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.models.IsUnknownAdditionalPropertiesDiscriminated;
 
 /**
@@ -113,7 +114,8 @@ public final class IsUnknownDiscriminatedAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(IsUnknownAdditionalPropertiesDiscriminated.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                IsUnknownAdditionalPropertiesDiscriminated::fromJson));
     }
 
     /**
@@ -133,6 +135,6 @@ public final class IsUnknownDiscriminatedAsyncClient {
     public Mono<Void> put(IsUnknownAdditionalPropertiesDiscriminated body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.additionalproperties.implementation.IsUnknownDiscriminatedsImpl;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.models.IsUnknownAdditionalPropertiesDiscriminated;
 
 /**
@@ -110,7 +111,8 @@ public final class IsUnknownDiscriminatedClient {
     public IsUnknownAdditionalPropertiesDiscriminated get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(IsUnknownAdditionalPropertiesDiscriminated.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            IsUnknownAdditionalPropertiesDiscriminated::fromJson);
     }
 
     /**
@@ -129,6 +131,6 @@ public final class IsUnknownDiscriminatedClient {
     public void put(IsUnknownAdditionalPropertiesDiscriminated body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
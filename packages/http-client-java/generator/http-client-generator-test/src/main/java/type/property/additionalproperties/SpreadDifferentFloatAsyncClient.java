@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.implementation.SpreadDifferentFloatsImpl;
 import type.property.additionalproperties.models.DifferentSpreadFloatRecord;
 
@@ -111,7 +112,8 @@ public final class SpreadDifferentFloatAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(DifferentSpreadFloatRecord.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                DifferentSpreadFloatRecord::fromJson));
     }
 
     /**
@@ -131,6 +133,6 @@ public final class SpreadDifferentFloatAsyncClient {
     public Mono<Void> put(DifferentSpreadFloatRecord body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 }
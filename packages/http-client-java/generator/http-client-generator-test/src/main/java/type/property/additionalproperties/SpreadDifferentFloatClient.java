@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.implementation.SpreadDifferentFloatsImpl;
 import type.property.additionalproperties.models.DifferentSpreadFloatRecord;
 
@@ -108,7 +109,8 @@ public final class SpreadDifferentFloatClient {
     public DifferentSpreadFloatRecord get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(DifferentSpreadFloatRecord.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            DifferentSpreadFloatRecord::fromJson);
     }
 
     /**
@@ -127,6 +129,6 @@ public final class SpreadDifferentFloatClient {
     public void put(DifferentSpreadFloatRecord body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.implementation.SpreadDifferentModelArraysImpl;
 import type.property.additionalproperties.models.DifferentSpreadModelArrayRecord;
 
@@ -119,7 +120,8 @@ public final class SpreadDifferentModelArrayAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(DifferentSpreadModelArrayRecord.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                DifferentSpreadModelArrayRecord::fromJson));
     }
 
     /**
@@ -139,6 +141,6 @@ public final class SpreadDifferentModelArrayAsyncClient {
     public Mono<Void> put(DifferentSpreadModelArrayRecord body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 }
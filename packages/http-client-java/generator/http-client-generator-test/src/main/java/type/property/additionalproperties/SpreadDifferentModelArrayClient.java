@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.implementation.SpreadDifferentModelArraysImpl;
 import type.property.additionalproperties.models.DifferentSpreadModelArrayRecord;
 
@@ -116,7 +117,8 @@ public final class SpreadDifferentModelArrayClient {
     public DifferentSpreadModelArrayRecord get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(DifferentSpreadModelArrayRecord.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            DifferentSpreadModelArrayRecord::fromJson);
     }
 
     /**
@@ -135,6 +137,6 @@ public final class SpreadDifferentModelArrayClient {
     public void put(DifferentSpreadModelArrayRecord body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
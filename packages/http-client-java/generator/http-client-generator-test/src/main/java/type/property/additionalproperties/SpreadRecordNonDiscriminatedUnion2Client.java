@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.property.additionalproperties.implementation.JsonSerializableHelper;
 import type.property.additionalproperties.implementation.SpreadRecordNonDiscriminatedUnion2sImpl;
 import type.property.additionalproperties.models.SpreadRecordForNonDiscriminatedUnion2;
 
@@ -108,7 +109,8 @@ public final class SpreadRecordNonDiscriminatedUnion2Client {
     public SpreadRecordForNonDiscriminatedUnion2 get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(SpreadRecordForNonDiscriminatedUnion2.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            SpreadRecordForNonDiscriminatedUnion2::fromJson);
     }
 
     /**
@@ -127,6 +129,6 @@ public final class SpreadRecordNonDiscriminatedUnion2Client {
     public void put(SpreadRecordForNonDiscriminatedUnion2 body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
@@ -55,7 +55,7 @@ public final class DifferentSpreadModelArrayDerived extends DifferentSpreadModel
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
         jsonWriter.writeStringField("knownProp", getKnownProp());
-        jsonWriter.writeArrayField("derivedProp", this.derivedProp, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("derivedProp", this.derivedProp, JsonWriter::writeJson);
         if (getAdditionalProperties() != null) {
             for (Map.Entry<String, List<ModelForRecord>> additionalProperty : getAdditionalProperties().entrySet()) {
                 jsonWriter.writeUntypedField(additionalProperty.getKey(), additionalProperty.getValue());
@@ -86,14 +86,13 @@ public final class DifferentSpreadModelArrayDerived extends DifferentSpreadModel
                 if ("knownProp".equals(fieldName)) {
                     knownProp = reader.getString();
                 } else if ("derivedProp".equals(fieldName)) {
-                    derivedProp = reader.readArray(reader1 -> ModelForRecord.fromJson(reader1));
+                    derivedProp = reader.readArray(ModelForRecord::fromJson);
                 } else {
                     if (additionalProperties == null) {
                         additionalProperties = new LinkedHashMap<>();
                     }
 
-                    List<ModelForRecord> additionalPropertiesArrayItem
-                        = reader.readArray(reader1 -> ModelForRecord.fromJson(reader1));
+                    List<ModelForRecord> additionalPropertiesArrayItem = reader.readArray(ModelForRecord::fromJson);
                     additionalProperties.put(fieldName, additionalPropertiesArrayItem);
                 }
             }
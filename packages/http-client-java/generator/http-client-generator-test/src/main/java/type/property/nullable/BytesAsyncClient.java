@@ -19,6 +19,7 @@ import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.property.nullable.implementation.BytesImpl;
 import type.property.nullable.implementation.JsonMergePatchHelper;
+import type.property.nullable.implementation.JsonSerializableHelper;
 import type.property.nullable.models.BytesProperty;
 
 /**
@@ -163,7 +164,8 @@ public final class BytesAsyncClient {
         // Generated convenience method for getNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getNonNullWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(BytesProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                BytesProperty::fromJson));
     }
 
     /**
@@ -182,7 +184,8 @@ public final class BytesAsyncClient {
         // Generated convenience method for getNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getNullWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(BytesProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                BytesProperty::fromJson));
     }
 
     /**
@@ -202,11 +205,8 @@ public final class BytesAsyncClient {
     public Mono<Void> patchNonNull(BytesProperty body) {
         // Generated convenience method for patchNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getBytesPropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getBytesPropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getBytesPropertyAccessor()::toJsonMergePatch);
         return patchNonNullWithResponse(bodyInBinaryData, requestOptions).flatMap(FluxUtil::toMono);
     }
 
@@ -227,11 +227,8 @@ public final class BytesAsyncClient {
     public Mono<Void> patchNull(BytesProperty body) {
         // Generated convenience method for patchNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getBytesPropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getBytesPropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getBytesPropertyAccessor()::toJsonMergePatch);
         return patchNullWithResponse(bodyInBinaryData, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
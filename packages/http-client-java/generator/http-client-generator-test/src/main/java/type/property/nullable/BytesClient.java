@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.nullable.implementation.BytesImpl;
 import type.property.nullable.implementation.JsonMergePatchHelper;
+import type.property.nullable.implementation.JsonSerializableHelper;
 import type.property.nullable.models.BytesProperty;
 
 /**
@@ -158,7 +159,8 @@ public final class BytesClient {
     public BytesProperty getNonNull() {
         // Generated convenience method for getNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getNonNullWithResponse(requestOptions).getValue().toObject(BytesProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getNonNullWithResponse(requestOptions).getValue(),
+            BytesProperty::fromJson);
     }
 
     /**
@@ -176,7 +178,8 @@ public final class BytesClient {
     public BytesProperty getNull() {
         // Generated convenience method for getNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getNullWithResponse(requestOptions).getValue().toObject(BytesProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getNullWithResponse(requestOptions).getValue(),
+            BytesProperty::fromJson);
     }
 
     /**
@@ -195,11 +198,8 @@ public final class BytesClient {
     public void patchNonNull(BytesProperty body) {
         // Generated convenience method for patchNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getBytesPropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getBytesPropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getBytesPropertyAccessor()::toJsonMergePatch);
         patchNonNullWithResponse(bodyInBinaryData, requestOptions).getValue();
     }
 
@@ -219,11 +219,8 @@ public final class BytesClient {
     public void patchNull(BytesProperty body) {
         // Generated convenience method for patchNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getBytesPropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getBytesPropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getBytesPropertyAccessor()::toJsonMergePatch);
         patchNullWithResponse(bodyInBinaryData, requestOptions).getValue();
     }
 }
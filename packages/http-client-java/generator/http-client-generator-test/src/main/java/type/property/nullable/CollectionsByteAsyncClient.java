@@ -19,6 +19,7 @@ import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.property.nullable.implementation.CollectionsBytesImpl;
 import type.property.nullable.implementation.JsonMergePatchHelper;
+import type.property.nullable.implementation.JsonSerializableHelper;
 import type.property.nullable.models.CollectionsByteProperty;
 
 /**
@@ -171,7 +172,8 @@ public final class CollectionsByteAsyncClient {
         // Generated convenience method for getNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getNonNullWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(CollectionsByteProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                CollectionsByteProperty::fromJson));
     }
 
     /**
@@ -190,7 +192,8 @@ public final class CollectionsByteAsyncClient {
         // Generated convenience method for getNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getNullWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(CollectionsByteProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                CollectionsByteProperty::fromJson));
     }
 
     /**
@@ -210,11 +213,8 @@ public final class CollectionsByteAsyncClient {
     public Mono<Void> patchNonNull(CollectionsByteProperty body) {
         // Generated convenience method for patchNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getCollectionsBytePropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getCollectionsBytePropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getCollectionsBytePropertyAccessor()::toJsonMergePatch);
         return patchNonNullWithResponse(bodyInBinaryData, requestOptions).flatMap(FluxUtil::toMono);
     }
 
@@ -235,11 +235,8 @@ public final class CollectionsByteAsyncClient {
     public Mono<Void> patchNull(CollectionsByteProperty body) {
         // Generated convenience method for patchNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getCollectionsBytePropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getCollectionsBytePropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getCollectionsBytePropertyAccessor()::toJsonMergePatch);
         return patchNullWithResponse(bodyInBinaryData, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
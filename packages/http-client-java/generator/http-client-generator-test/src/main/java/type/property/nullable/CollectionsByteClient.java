@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.nullable.implementation.CollectionsBytesImpl;
 import type.property.nullable.implementation.JsonMergePatchHelper;
+import type.property.nullable.implementation.JsonSerializableHelper;
 import type.property.nullable.models.CollectionsByteProperty;
 
 /**
@@ -166,7 +167,8 @@ public final class CollectionsByteClient {
     public CollectionsByteProperty getNonNull() {
         // Generated convenience method for getNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getNonNullWithResponse(requestOptions).getValue().toObject(CollectionsByteProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getNonNullWithResponse(requestOptions).getValue(),
+            CollectionsByteProperty::fromJson);
     }
 
     /**
@@ -184,7 +186,8 @@ public final class CollectionsByteClient {
     public CollectionsByteProperty getNull() {
         // Generated convenience method for getNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getNullWithResponse(requestOptions).getValue().toObject(CollectionsByteProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getNullWithResponse(requestOptions).getValue(),
+            CollectionsByteProperty::fromJson);
     }
 
     /**
@@ -203,11 +206,8 @@ public final class CollectionsByteClient {
     public void patchNonNull(CollectionsByteProperty body) {
         // Generated convenience method for patchNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getCollectionsBytePropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getCollectionsBytePropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getCollectionsBytePropertyAccessor()::toJsonMergePatch);
         patchNonNullWithResponse(bodyInBinaryData, requestOptions).getValue();
     }
 
@@ -227,11 +227,8 @@ public final class CollectionsByteClient {
     public void patchNull(CollectionsByteProperty body) {
         // Generated convenience method for patchNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getCollectionsBytePropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getCollectionsBytePropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getCollectionsBytePropertyAccessor()::toJsonMergePatch);
         patchNullWithResponse(bodyInBinaryData, requestOptions).getValue();
     }
 }
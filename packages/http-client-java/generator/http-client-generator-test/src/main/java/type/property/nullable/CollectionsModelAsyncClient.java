@@ -19,6 +19,7 @@ import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.property.nullable.implementation.CollectionsModelsImpl;
 import type.property.nullable.implementation.JsonMergePatchHelper;
+import type.property.nullable.implementation.JsonSerializableHelper;
 import type.property.nullable.models.CollectionsModelProperty;
 
 /**
@@ -179,7 +180,8 @@ public final class CollectionsModelAsyncClient {
         // Generated convenience method for getNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getNonNullWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(CollectionsModelProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                CollectionsModelProperty::fromJson));
     }
 
     /**
@@ -198,7 +200,8 @@ public final class CollectionsModelAsyncClient {
         // Generated convenience method for getNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getNullWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(CollectionsModelProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                CollectionsModelProperty::fromJson));
     }
 
     /**
@@ -218,11 +221,8 @@ public final class CollectionsModelAsyncClient {
     public Mono<Void> patchNonNull(CollectionsModelProperty body) {
         // Generated convenience method for patchNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getCollectionsModelPropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getCollectionsModelPropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getCollectionsModelPropertyAccessor()::toJsonMergePatch);
         return patchNonNullWithResponse(bodyInBinaryData, requestOptions).flatMap(FluxUtil::toMono);
     }
 
@@ -243,11 +243,8 @@ public final class CollectionsModelAsyncClient {
     public Mono<Void> patchNull(CollectionsModelProperty body) {
         // Generated convenience method for patchNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getCollectionsModelPropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getCollectionsModelPropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getCollectionsModelPropertyAccessor()::toJsonMergePatch);
         return patchNullWithResponse(bodyInBinaryData, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
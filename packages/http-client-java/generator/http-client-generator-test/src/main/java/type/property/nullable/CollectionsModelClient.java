@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.nullable.implementation.CollectionsModelsImpl;
 import type.property.nullable.implementation.JsonMergePatchHelper;
+import type.property.nullable.implementation.JsonSerializableHelper;
 import type.property.nullable.models.CollectionsModelProperty;
 
 /**
@@ -174,7 +175,8 @@ public final class CollectionsModelClient {
     public CollectionsModelProperty getNonNull() {
         // Generated convenience method for getNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getNonNullWithResponse(requestOptions).getValue().toObject(CollectionsModelProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getNonNullWithResponse(requestOptions).getValue(),
+            CollectionsModelProperty::fromJson);
     }
 
     /**
@@ -192,7 +194,8 @@ public final class CollectionsModelClient {
     public CollectionsModelProperty getNull() {
         // Generated convenience method for getNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getNullWithResponse(requestOptions).getValue().toObject(CollectionsModelProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getNullWithResponse(requestOptions).getValue(),
+            CollectionsModelProperty::fromJson);
     }
 
     /**
@@ -211,11 +214,8 @@ public final class CollectionsModelClient {
     public void patchNonNull(CollectionsModelProperty body) {
         // Generated convenience method for patchNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getCollectionsModelPropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getCollectionsModelPropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getCollectionsModelPropertyAccessor()::toJsonMergePatch);
         patchNonNullWithResponse(bodyInBinaryData, requestOptions).getValue();
     }
 
@@ -235,11 +235,8 @@ public final class CollectionsModelClient {
     public void patchNull(CollectionsModelProperty body) {
         // Generated convenience method for patchNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getCollectionsModelPropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getCollectionsModelPropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getCollectionsModelPropertyAccessor()::toJsonMergePatch);
         patchNullWithResponse(bodyInBinaryData, requestOptions).getValue();
     }
 }
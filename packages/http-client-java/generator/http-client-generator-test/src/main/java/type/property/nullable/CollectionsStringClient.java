@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.nullable.implementation.CollectionsStringsImpl;
 import type.property.nullable.implementation.JsonMergePatchHelper;
+import type.property.nullable.implementation.JsonSerializableHelper;
 import type.property.nullable.models.CollectionsStringProperty;
 
 /**
@@ -166,7 +167,8 @@ public final class CollectionsStringClient {
     public CollectionsStringProperty getNonNull() {
         // Generated convenience method for getNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getNonNullWithResponse(requestOptions).getValue().toObject(CollectionsStringProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getNonNullWithResponse(requestOptions).getValue(),
+            CollectionsStringProperty::fromJson);
     }
 
     /**
@@ -184,7 +186,8 @@ public final class CollectionsStringClient {
     public CollectionsStringProperty getNull() {
         // Generated convenience method for getNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getNullWithResponse(requestOptions).getValue().toObject(CollectionsStringProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getNullWithResponse(requestOptions).getValue(),
+            CollectionsStringProperty::fromJson);
     }
 
     /**
@@ -203,11 +206,8 @@ public final class CollectionsStringClient {
     public void patchNonNull(CollectionsStringProperty body) {
         // Generated convenience method for patchNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getCollectionsStringPropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getCollectionsStringPropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getCollectionsStringPropertyAccessor()::toJsonMergePatch);
         patchNonNullWithResponse(bodyInBinaryData, requestOptions).getValue();
     }
 
@@ -227,11 +227,8 @@ public final class CollectionsStringClient {
     public void patchNull(CollectionsStringProperty body) {
         // Generated convenience method for patchNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getCollectionsStringPropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getCollectionsStringPropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getCollectionsStringPropertyAccessor()::toJsonMergePatch);
         patchNullWithResponse(bodyInBinaryData, requestOptions).getValue();
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.nullable.implementation.DatetimeOperationsImpl;
 import type.property.nullable.implementation.JsonMergePatchHelper;
+import type.property.nullable.implementation.JsonSerializableHelper;
 import type.property.nullable.models.DatetimeProperty;
 
 /**
@@ -158,7 +159,8 @@ public final class DatetimeOperationClient {
     public DatetimeProperty getNonNull() {
         // Generated convenience method for getNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getNonNullWithResponse(requestOptions).getValue().toObject(DatetimeProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getNonNullWithResponse(requestOptions).getValue(),
+            DatetimeProperty::fromJson);
     }
 
     /**
@@ -176,7 +178,8 @@ public final class DatetimeOperationClient {
     public DatetimeProperty getNull() {
         // Generated convenience method for getNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getNullWithResponse(requestOptions).getValue().toObject(DatetimeProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getNullWithResponse(requestOptions).getValue(),
+            DatetimeProperty::fromJson);
     }
 
     /**
@@ -195,11 +198,8 @@ public final class DatetimeOperationClient {
     public void patchNonNull(DatetimeProperty body) {
         // Generated convenience method for patchNonNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getDatetimePropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getDatetimePropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getDatetimePropertyAccessor()::toJsonMergePatch);
         patchNonNullWithResponse(bodyInBinaryData, requestOptions).getValue();
     }
 
@@ -219,11 +219,8 @@ public final class DatetimeOperationClient {
     public void patchNull(DatetimeProperty body) {
         // Generated convenience method for patchNullWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        JsonMergePatchHelper.getDatetimePropertyAccessor().prepareModelForJsonMergePatch(body, true);
-        BinaryData bodyInBinaryData = BinaryData.fromObject(body);
-        // BinaryData.fromObject() will not fire serialization, use getLength() to fire serialization.
-        bodyInBinaryData.getLength();
-        JsonMergePatchHelper.getDatetimePropertyAccessor().prepareModelForJsonMergePatch(body, false);
+        BinaryData bodyInBinaryData = JsonSerializableHelper.toBinaryData(body,
+            JsonMergePatchHelper.getDatetimePropertyAccessor()::toJsonMergePatch);
         patchNullWithResponse(bodyInBinaryData, requestOptions).getValue();
     }
 }
@@ -4,6 +4,8 @@
 
 package type.property.nullable.implementation;
 
+import com.azure.json.JsonWriter;
+import java.io.IOException;
 import type.property.nullable.models.BytesProperty;
 import type.property.nullable.models.CollectionsByteProperty;
 import type.property.nullable.models.CollectionsModelProperty;
@@ -23,6 +25,8 @@ public class JsonMergePatchHelper {
         StringProperty prepareModelForJsonMergePatch(StringProperty stringProperty, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(StringProperty stringProperty);
+
+        JsonWriter toJsonMergePatch(StringProperty stringProperty, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setStringPropertyAccessor(StringPropertyAccessor accessor) {
@@ -39,6 +43,8 @@ public class JsonMergePatchHelper {
         BytesProperty prepareModelForJsonMergePatch(BytesProperty bytesProperty, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(BytesProperty bytesProperty);
+
+        JsonWriter toJsonMergePatch(BytesProperty bytesProperty, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setBytesPropertyAccessor(BytesPropertyAccessor accessor) {
@@ -56,6 +62,8 @@ public class JsonMergePatchHelper {
             boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(DatetimeProperty datetimeProperty);
+
+        JsonWriter toJsonMergePatch(DatetimeProperty datetimeProperty, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setDatetimePropertyAccessor(DatetimePropertyAccessor accessor) {
@@ -73,6 +81,8 @@ public class JsonMergePatchHelper {
             boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(DurationProperty durationProperty);
+
+        JsonWriter toJsonMergePatch(DurationProperty durationProperty, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setDurationPropertyAccessor(DurationPropertyAccessor accessor) {
@@ -90,6 +100,9 @@ public class JsonMergePatchHelper {
             boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(CollectionsByteProperty collectionsByteProperty);
+
+        JsonWriter toJsonMergePatch(CollectionsByteProperty collectionsByteProperty, JsonWriter jsonWriter)
+            throws IOException;
     }
 
     public static void setCollectionsBytePropertyAccessor(CollectionsBytePropertyAccessor accessor) {
@@ -107,6 +120,9 @@ public class JsonMergePatchHelper {
             boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(CollectionsModelProperty collectionsModelProperty);
+
+        JsonWriter toJsonMergePatch(CollectionsModelProperty collectionsModelProperty, JsonWriter jsonWriter)
+            throws IOException;
     }
 
     public static void setCollectionsModelPropertyAccessor(CollectionsModelPropertyAccessor accessor) {
@@ -123,6 +139,8 @@ public class JsonMergePatchHelper {
         InnerModel prepareModelForJsonMergePatch(InnerModel innerModel, boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(InnerModel innerModel);
+
+        JsonWriter toJsonMergePatch(InnerModel innerModel, JsonWriter jsonWriter) throws IOException;
     }
 
     public static void setInnerModelAccessor(InnerModelAccessor accessor) {
@@ -140,6 +158,9 @@ public class JsonMergePatchHelper {
             boolean jsonMergePatchEnabled);
 
         boolean isJsonMergePatch(CollectionsStringProperty collectionsStringProperty);
+
+        JsonWriter toJsonMergePatch(CollectionsStringProperty collectionsStringProperty, JsonWriter jsonWriter)
+            throws IOException;
     }
 
     public static void setCollectionsStringPropertyAccessor(CollectionsStringPropertyAccessor accessor) {
@@ -60,7 +60,7 @@ public final class NullableClientImpl {
     /**
      * The StringOperationsImpl object to access its operations.
      */
-    private final StringOperationsImpl stringOperations;
+    private volatile StringOperationsImpl stringOperations;
 
     /**
      * Gets the StringOperationsImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class NullableClientImpl {
      * @return the StringOperationsImpl object.
      */
     public StringOperationsImpl getStringOperations() {
-        return this.stringOperations;
+        StringOperationsImpl localStringOperations = this.stringOperations;
+        if (localStringOperations == null) {
+            synchronized (this) {
+                localStringOperations = this.stringOperations;
+                if (localStringOperations == null) {
+                    localStringOperations = new StringOperationsImpl(this);
+                    this.stringOperations = localStringOperations;
+                }
+            }
+        }
+        return localStringOperations;
     }
 
     /**
      * The BytesImpl object to access its operations.
      */
-    private final BytesImpl bytes;
+    private volatile BytesImpl bytes;
 
     /**
      * Gets the BytesImpl object to access its operations.
@@ -82,13 +92,23 @@ public final class NullableClientImpl {
      * @return the BytesImpl object.
      */
     public BytesImpl getBytes() {
-        return this.bytes;
+        BytesImpl localBytes = this.bytes;
+        if (localBytes == null) {
+            synchronized (this) {
+                localBytes = this.bytes;
+                if (localBytes == null) {
+                    localBytes = new BytesImpl(this);
+                    this.bytes = localBytes;
+                }
+            }
+        }
+        return localBytes;
     }
 
     /**
      * The DatetimeOperationsImpl object to access its operations.
      */
-    private final DatetimeOperationsImpl datetimeOperations;
+    private volatile DatetimeOperationsImpl datetimeOperations;
 
     /**
      * Gets the DatetimeOperationsImpl object to access its operations.
@@ -96,13 +116,23 @@ public final class NullableClientImpl {
      * @return the DatetimeOperationsImpl object.
      */
     public DatetimeOperationsImpl getDatetimeOperations() {
-        return this.datetimeOperations;
+        DatetimeOperationsImpl localDatetimeOperations = this.datetimeOperations;
+        if (localDatetimeOperations == null) {
+            synchronized (this) {
+                localDatetimeOperations = this.datetimeOperations;
+                if (localDatetimeOperations == null) {
+                    localDatetimeOperations = new DatetimeOperationsImpl(this);
+                    this.datetimeOperations = localDatetimeOperations;
+                }
+            }
+        }
+        return localDatetimeOperations;
     }
 
     /**
      * The DurationOperationsImpl object to access its operations.
      */
-    private final DurationOperationsImpl durationOperations;
+    private volatile DurationOperationsImpl durationOperations;
 
     /**
      * Gets the DurationOperationsImpl object to access its operations.
@@ -110,13 +140,23 @@ public final class NullableClientImpl {
      * @return the DurationOperationsImpl object.
      */
     public DurationOperationsImpl getDurationOperations() {
-        return this.durationOperations;
+        DurationOperationsImpl localDurationOperations = this.durationOperations;
+        if (localDurationOperations == null) {
+            synchronized (this) {
+                localDurationOperations = this.durationOperations;
+                if (localDurationOperations == null) {
+                    localDurationOperations = new DurationOperationsImpl(this);
+                    this.durationOperations = localDurationOperations;
+                }
+            }
+        }
+        return localDurationOperations;
     }
 
     /**
      * The CollectionsBytesImpl object to access its operations.
      */
-    private final CollectionsBytesImpl collectionsBytes;
+    private volatile CollectionsBytesImpl collectionsBytes;
 
     /**
      * Gets the CollectionsBytesImpl object to access its operations.
@@ -124,13 +164,23 @@ public final class NullableClientImpl {
      * @return the CollectionsBytesImpl object.
      */
     public CollectionsBytesImpl getCollectionsBytes() {
-        return this.collectionsBytes;
+        CollectionsBytesImpl localCollectionsBytes = this.collectionsBytes;
+        if (localCollectionsBytes == null) {
+            synchronized (this) {
+                localCollectionsBytes = this.collectionsBytes;
+                if (localCollectionsBytes == null) {
+                    localCollectionsBytes = new CollectionsBytesImpl(this);
+                    this.collectionsBytes = localCollectionsBytes;
+                }
+            }
+        }
+        return localCollectionsBytes;
     }
 
     /**
      * The CollectionsModelsImpl object to access its operations.
      */
-    private final CollectionsModelsImpl collectionsModels;
+    private volatile CollectionsModelsImpl collectionsModels;
 
     /**
      * Gets the CollectionsModelsImpl object to access its operations.
@@ -138,13 +188,23 @@ public final class NullableClientImpl {
      * @return the CollectionsModelsImpl object.
      */
     public CollectionsModelsImpl getCollectionsModels() {
-        return this.collectionsModels;
+        CollectionsModelsImpl localCollectionsModels = this.collectionsModels;
+        if (localCollectionsModels == null) {
+            synchronized (this) {
+                localCollectionsModels = this.collectionsModels;
+                if (localCollectionsModels == null) {
+                    localCollectionsModels = new CollectionsModelsImpl(this);
+                    this.collectionsModels = localCollectionsModels;
+                }
+            }
+        }
+        return localCollectionsModels;
     }
 
     /**
      * The CollectionsStringsImpl object to access its operations.
      */
-    private final CollectionsStringsImpl collectionsStrings;
+    private volatile CollectionsStringsImpl collectionsStrings;
 
     /**
      * Gets the CollectionsStringsImpl object to access its operations.
@@ -152,7 +212,17 @@ public final class NullableClientImpl {
      * @return the CollectionsStringsImpl object.
      */
     public CollectionsStringsImpl getCollectionsStrings() {
-        return this.collectionsStrings;
+        CollectionsStringsImpl localCollectionsStrings = this.collectionsStrings;
+        if (localCollectionsStrings == null) {
+            synchronized (this) {
+                localCollectionsStrings = this.collectionsStrings;
+                if (localCollectionsStrings == null) {
+                    localCollectionsStrings = new CollectionsStringsImpl(this);
+                    this.collectionsStrings = localCollectionsStrings;
+                }
+            }
+        }
+        return localCollectionsStrings;
     }
 
     /**
@@ -186,12 +256,5 @@ public final class NullableClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.stringOperations = new StringOperationsImpl(this);
-        this.bytes = new BytesImpl(this);
-        this.datetimeOperations = new DatetimeOperationsImpl(this);
-        this.durationOperations = new DurationOperationsImpl(this);
-        this.collectionsBytes = new CollectionsBytesImpl(this);
-        this.collectionsModels = new CollectionsModelsImpl(this);
-        this.collectionsStrings = new CollectionsStringsImpl(this);
     }
 }
@@ -59,6 +59,11 @@ public final class BytesProperty implements JsonSerializable<BytesProperty> {
             public boolean isJsonMergePatch(BytesProperty model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(BytesProperty model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
@@ -61,6 +61,12 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
                 public boolean isJsonMergePatch(CollectionsByteProperty model) {
                     return model.jsonMergePatch;
                 }
+
+                @Override
+                public JsonWriter toJsonMergePatch(CollectionsByteProperty model, JsonWriter jsonWriter)
+                    throws IOException {
+                    return model.toJsonMergePatch(jsonWriter);
+                }
             });
     }
 
@@ -130,8 +136,7 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
         } else {
             jsonWriter.writeStartObject();
             jsonWriter.writeStringField("requiredProperty", this.requiredProperty);
-            jsonWriter.writeArrayField("nullableProperty", this.nullableProperty,
-                (writer, element) -> writer.writeBinary(element));
+            jsonWriter.writeArrayField("nullableProperty", this.nullableProperty, JsonWriter::writeBinary);
             return jsonWriter.writeEndObject();
         }
     }
@@ -150,8 +155,7 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
             if (this.nullableProperty == null) {
                 jsonWriter.writeNullField("nullableProperty");
             } else {
-                jsonWriter.writeArrayField("nullableProperty", this.nullableProperty,
-                    (writer, element) -> writer.writeBinary(element));
+                jsonWriter.writeArrayField("nullableProperty", this.nullableProperty, JsonWriter::writeBinary);
             }
         }
         return jsonWriter.writeEndObject();
@@ -176,7 +180,7 @@ public final class CollectionsByteProperty implements JsonSerializable<Collectio
                 if ("requiredProperty".equals(fieldName)) {
                     deserializedCollectionsByteProperty.requiredProperty = reader.getString();
                 } else if ("nullableProperty".equals(fieldName)) {
-                    List<byte[]> nullableProperty = reader.readArray(reader1 -> reader1.getBinary());
+                    List<byte[]> nullableProperty = reader.readArray(JsonReader::getBinary);
                     deserializedCollectionsByteProperty.nullableProperty = nullableProperty;
                 } else {
                     reader.skipChildren();
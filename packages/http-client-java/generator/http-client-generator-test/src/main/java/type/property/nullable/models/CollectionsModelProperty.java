@@ -61,6 +61,12 @@ public final class CollectionsModelProperty implements JsonSerializable<Collecti
                 public boolean isJsonMergePatch(CollectionsModelProperty model) {
                     return model.jsonMergePatch;
                 }
+
+                @Override
+                public JsonWriter toJsonMergePatch(CollectionsModelProperty model, JsonWriter jsonWriter)
+                    throws IOException {
+                    return model.toJsonMergePatch(jsonWriter);
+                }
             });
     }
 
@@ -130,8 +136,7 @@ public final class CollectionsModelProperty implements JsonSerializable<Collecti
         } else {
             jsonWriter.writeStartObject();
             jsonWriter.writeStringField("requiredProperty", this.requiredProperty);
-            jsonWriter.writeArrayField("nullableProperty", this.nullableProperty,
-                (writer, element) -> writer.writeJson(element));
+            jsonWriter.writeArrayField("nullableProperty", this.nullableProperty, JsonWriter::writeJson);
             return jsonWriter.writeEndObject();
         }
     }
@@ -150,8 +155,7 @@ public final class CollectionsModelProperty implements JsonSerializable<Collecti
             if (this.nullableProperty == null) {
                 jsonWriter.writeNullField("nullableProperty");
             } else {
-                jsonWriter.writeArrayField("nullableProperty", this.nullableProperty,
-                    (writer, element) -> writer.writeJson(element));
+                jsonWriter.writeArrayField("nullableProperty", this.nullableProperty, JsonWriter::writeJson);
             }
         }
         return jsonWriter.writeEndObject();
@@ -176,7 +180,7 @@ public final class CollectionsModelProperty implements JsonSerializable<Collecti
                 if ("requiredProperty".equals(fieldName)) {
                     deserializedCollectionsModelProperty.requiredProperty = reader.getString();
                 } else if ("nullableProperty".equals(fieldName)) {
-                    List<InnerModel> nullableProperty = reader.readArray(reader1 -> InnerModel.fromJson(reader1));
+                    List<InnerModel> nullableProperty = reader.readArray(InnerModel::fromJson);
                     deserializedCollectionsModelProperty.nullableProperty = nullableProperty;
                 } else {
                     reader.skipChildren();
@@ -61,6 +61,12 @@ public final class CollectionsStringProperty implements JsonSerializable<Collect
                 public boolean isJsonMergePatch(CollectionsStringProperty model) {
                     return model.jsonMergePatch;
                 }
+
+                @Override
+                public JsonWriter toJsonMergePatch(CollectionsStringProperty model, JsonWriter jsonWriter)
+                    throws IOException {
+                    return model.toJsonMergePatch(jsonWriter);
+                }
             });
     }
 
@@ -130,8 +136,7 @@ public final class CollectionsStringProperty implements JsonSerializable<Collect
         } else {
             jsonWriter.writeStartObject();
             jsonWriter.writeStringField("requiredProperty", this.requiredProperty);
-            jsonWriter.writeArrayField("nullableProperty", this.nullableProperty,
-                (writer, element) -> writer.writeString(element));
+            jsonWriter.writeArrayField("nullableProperty", this.nullableProperty, JsonWriter::writeString);
             return jsonWriter.writeEndObject();
         }
     }
@@ -150,8 +155,7 @@ public final class CollectionsStringProperty implements JsonSerializable<Collect
             if (this.nullableProperty == null) {
                 jsonWriter.writeNullField("nullableProperty");
             } else {
-                jsonWriter.writeArrayField("nullableProperty", this.nullableProperty,
-                    (writer, element) -> writer.writeString(element));
+                jsonWriter.writeArrayField("nullableProperty", this.nullableProperty, JsonWriter::writeString);
             }
         }
         return jsonWriter.writeEndObject();
@@ -176,7 +180,7 @@ public final class CollectionsStringProperty implements JsonSerializable<Collect
                 if ("requiredProperty".equals(fieldName)) {
                     deserializedCollectionsStringProperty.requiredProperty = reader.getString();
                 } else if ("nullableProperty".equals(fieldName)) {
-                    List<String> nullableProperty = reader.readArray(reader1 -> reader1.getString());
+                    List<String> nullableProperty = reader.readArray(JsonReader::getString);
                     deserializedCollectionsStringProperty.nullableProperty = nullableProperty;
                 } else {
                     reader.skipChildren();
@@ -61,6 +61,11 @@ public final class DurationProperty implements JsonSerializable<DurationProperty
             public boolean isJsonMergePatch(DurationProperty model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(DurationProperty model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
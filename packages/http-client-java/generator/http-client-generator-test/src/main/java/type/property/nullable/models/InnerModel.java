@@ -52,6 +52,11 @@ public final class InnerModel implements JsonSerializable<InnerModel> {
             public boolean isJsonMergePatch(InnerModel model) {
                 return model.jsonMergePatch;
             }
+
+            @Override
+            public JsonWriter toJsonMergePatch(InnerModel model, JsonWriter jsonWriter) throws IOException {
+                return model.toJsonMergePatch(jsonWriter);
+            }
         });
     }
 
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.property.optional.implementation.BooleanLiteralsImpl;
+import type.property.optional.implementation.JsonSerializableHelper;
 import type.property.optional.models.BooleanLiteralProperty;
 
 /**
@@ -158,7 +159,8 @@ public final class BooleanLiteralAsyncClient {
         // Generated convenience method for getAllWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getAllWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(BooleanLiteralProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                BooleanLiteralProperty::fromJson));
     }
 
     /**
@@ -177,7 +179,8 @@ public final class BooleanLiteralAsyncClient {
         // Generated convenience method for getDefaultWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getDefaultWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(BooleanLiteralProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                BooleanLiteralProperty::fromJson));
     }
 
     /**
@@ -197,7 +200,7 @@ public final class BooleanLiteralAsyncClient {
     public Mono<Void> putAll(BooleanLiteralProperty body) {
         // Generated convenience method for putAllWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putAllWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return putAllWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -217,6 +220,7 @@ public final class BooleanLiteralAsyncClient {
     public Mono<Void> putDefault(BooleanLiteralProperty body) {
         // Generated convenience method for putDefaultWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putDefaultWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return putDefaultWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.optional.implementation.CollectionsBytesImpl;
+import type.property.optional.implementation.JsonSerializableHelper;
 import type.property.optional.models.CollectionsByteProperty;
 
 /**
@@ -161,7 +162,8 @@ public final class CollectionsByteClient {
     public CollectionsByteProperty getAll() {
         // Generated convenience method for getAllWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getAllWithResponse(requestOptions).getValue().toObject(CollectionsByteProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getAllWithResponse(requestOptions).getValue(),
+            CollectionsByteProperty::fromJson);
     }
 
     /**
@@ -179,7 +181,8 @@ public final class CollectionsByteClient {
     public CollectionsByteProperty getDefault() {
         // Generated convenience method for getDefaultWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getDefaultWithResponse(requestOptions).getValue().toObject(CollectionsByteProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getDefaultWithResponse(requestOptions).getValue(),
+            CollectionsByteProperty::fromJson);
     }
 
     /**
@@ -198,7 +201,7 @@ public final class CollectionsByteClient {
     public void putAll(CollectionsByteProperty body) {
         // Generated convenience method for putAllWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putAllWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putAllWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -217,6 +220,6 @@ public final class CollectionsByteClient {
     public void putDefault(CollectionsByteProperty body) {
         // Generated convenience method for putDefaultWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putDefaultWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putDefaultWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
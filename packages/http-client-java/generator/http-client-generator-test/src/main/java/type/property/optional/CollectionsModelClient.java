@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.optional.implementation.CollectionsModelsImpl;
+import type.property.optional.implementation.JsonSerializableHelper;
 import type.property.optional.models.CollectionsModelProperty;
 
 /**
@@ -169,7 +170,8 @@ public final class CollectionsModelClient {
     public CollectionsModelProperty getAll() {
         // Generated convenience method for getAllWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getAllWithResponse(requestOptions).getValue().toObject(CollectionsModelProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getAllWithResponse(requestOptions).getValue(),
+            CollectionsModelProperty::fromJson);
     }
 
     /**
@@ -187,7 +189,8 @@ public final class CollectionsModelClient {
     public CollectionsModelProperty getDefault() {
         // Generated convenience method for getDefaultWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getDefaultWithResponse(requestOptions).getValue().toObject(CollectionsModelProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getDefaultWithResponse(requestOptions).getValue(),
+            CollectionsModelProperty::fromJson);
     }
 
     /**
@@ -206,7 +209,7 @@ public final class CollectionsModelClient {
     public void putAll(CollectionsModelProperty body) {
         // Generated convenience method for putAllWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putAllWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putAllWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -225,6 +228,6 @@ public final class CollectionsModelClient {
     public void putDefault(CollectionsModelProperty body) {
         // Generated convenience method for putDefaultWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putDefaultWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putDefaultWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.optional.implementation.DatetimeOperationsImpl;
+import type.property.optional.implementation.JsonSerializableHelper;
 import type.property.optional.models.DatetimeProperty;
 
 /**
@@ -153,7 +154,8 @@ public final class DatetimeOperationClient {
     public DatetimeProperty getAll() {
         // Generated convenience method for getAllWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getAllWithResponse(requestOptions).getValue().toObject(DatetimeProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getAllWithResponse(requestOptions).getValue(),
+            DatetimeProperty::fromJson);
     }
 
     /**
@@ -171,7 +173,8 @@ public final class DatetimeOperationClient {
     public DatetimeProperty getDefault() {
         // Generated convenience method for getDefaultWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getDefaultWithResponse(requestOptions).getValue().toObject(DatetimeProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getDefaultWithResponse(requestOptions).getValue(),
+            DatetimeProperty::fromJson);
     }
 
     /**
@@ -190,7 +193,7 @@ public final class DatetimeOperationClient {
     public void putAll(DatetimeProperty body) {
         // Generated convenience method for putAllWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putAllWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putAllWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -209,6 +212,6 @@ public final class DatetimeOperationClient {
     public void putDefault(DatetimeProperty body) {
         // Generated convenience method for putDefaultWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putDefaultWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putDefaultWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
@@ -88,6 +88,13 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the OptionalClientBuilder.
      */
@@ -108,6 +115,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Generated
     @Override
     public OptionalClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -124,6 +132,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Generated
     @Override
     public OptionalClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -143,6 +152,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Generated
     @Override
     public OptionalClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -159,6 +169,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Generated
     @Override
     public OptionalClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -175,6 +186,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Generated
     @Override
     public OptionalClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -185,6 +197,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Generated
     @Override
     public OptionalClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -202,6 +215,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Generated
     @Override
     public OptionalClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -218,6 +232,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Generated
     @Override
     public OptionalClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -236,6 +251,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
      */
     @Generated
     public OptionalClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -248,7 +264,7 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
     @Generated
     private OptionalClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         OptionalClientImpl client
             = new OptionalClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -296,6 +312,15 @@ public final class OptionalClientBuilder implements HttpTrait<OptionalClientBuil
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of StringOperationAsyncClient class.
      * 
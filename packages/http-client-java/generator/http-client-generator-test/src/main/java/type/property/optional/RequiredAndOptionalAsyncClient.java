@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.property.optional.implementation.JsonSerializableHelper;
 import type.property.optional.implementation.RequiredAndOptionalsImpl;
 import type.property.optional.models.RequiredAndOptionalProperty;
 
@@ -162,7 +163,8 @@ public final class RequiredAndOptionalAsyncClient {
         // Generated convenience method for getAllWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getAllWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(RequiredAndOptionalProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                RequiredAndOptionalProperty::fromJson));
     }
 
     /**
@@ -181,7 +183,8 @@ public final class RequiredAndOptionalAsyncClient {
         // Generated convenience method for getRequiredOnlyWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getRequiredOnlyWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(RequiredAndOptionalProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                RequiredAndOptionalProperty::fromJson));
     }
 
     /**
@@ -201,7 +204,7 @@ public final class RequiredAndOptionalAsyncClient {
     public Mono<Void> putAll(RequiredAndOptionalProperty body) {
         // Generated convenience method for putAllWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putAllWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return putAllWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 
     /**
@@ -221,6 +224,7 @@ public final class RequiredAndOptionalAsyncClient {
     public Mono<Void> putRequiredOnly(RequiredAndOptionalProperty body) {
         // Generated convenience method for putRequiredOnlyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putRequiredOnlyWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return putRequiredOnlyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono);
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.property.optional.implementation.JsonSerializableHelper;
 import type.property.optional.implementation.RequiredAndOptionalsImpl;
 import type.property.optional.models.RequiredAndOptionalProperty;
 
@@ -157,7 +158,8 @@ public final class RequiredAndOptionalClient {
     public RequiredAndOptionalProperty getAll() {
         // Generated convenience method for getAllWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getAllWithResponse(requestOptions).getValue().toObject(RequiredAndOptionalProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getAllWithResponse(requestOptions).getValue(),
+            RequiredAndOptionalProperty::fromJson);
     }
 
     /**
@@ -175,7 +177,8 @@ public final class RequiredAndOptionalClient {
     public RequiredAndOptionalProperty getRequiredOnly() {
         // Generated convenience method for getRequiredOnlyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getRequiredOnlyWithResponse(requestOptions).getValue().toObject(RequiredAndOptionalProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getRequiredOnlyWithResponse(requestOptions).getValue(),
+            RequiredAndOptionalProperty::fromJson);
     }
 
     /**
@@ -194,7 +197,7 @@ public final class RequiredAndOptionalClient {
     public void putAll(RequiredAndOptionalProperty body) {
         // Generated convenience method for putAllWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putAllWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putAllWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 
     /**
@@ -213,6 +216,6 @@ public final class RequiredAndOptionalClient {
     public void putRequiredOnly(RequiredAndOptionalProperty body) {
         // Generated convenience method for putRequiredOnlyWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putRequiredOnlyWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putRequiredOnlyWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
@@ -22,6 +22,8 @@ public enum BooleanLiteralPropertyProperty {
         this.value = value;
     }
 
+    private static final BooleanLiteralPropertyProperty[] VALUES = values();
+
     /**
      * Parses a serialized value to a BooleanLiteralPropertyProperty instance.
      * 
@@ -29,8 +31,7 @@ public enum BooleanLiteralPropertyProperty {
      * @return the parsed BooleanLiteralPropertyProperty object, or null if unable to parse.
      */
     public static BooleanLiteralPropertyProperty fromBoolean(boolean value) {
-        BooleanLiteralPropertyProperty[] items = BooleanLiteralPropertyProperty.values();
-        for (BooleanLiteralPropertyProperty item : items) {
+        for (BooleanLiteralPropertyProperty item : VALUES) {
             if (item.toBoolean() == value) {
                 return item;
             }
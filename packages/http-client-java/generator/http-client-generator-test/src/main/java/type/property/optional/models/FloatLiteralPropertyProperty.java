@@ -22,6 +22,8 @@ public enum FloatLiteralPropertyProperty {
         this.value = value;
     }
 
+    private static final FloatLiteralPropertyProperty[] VALUES = values();
+
     /**
      * Parses a serialized value to a FloatLiteralPropertyProperty instance.
      * 
@@ -29,8 +31,7 @@ public enum FloatLiteralPropertyProperty {
      * @return the parsed FloatLiteralPropertyProperty object, or null if unable to parse.
      */
     public static FloatLiteralPropertyProperty fromDouble(double value) {
-        FloatLiteralPropertyProperty[] items = FloatLiteralPropertyProperty.values();
-        for (FloatLiteralPropertyProperty item : items) {
+        for (FloatLiteralPropertyProperty item : VALUES) {
             if (Double.doubleToLongBits(item.toDouble()) == Double.doubleToLongBits(value)) {
                 return item;
             }
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.property.valuetypes.implementation.BooleanLiteralsImpl;
+import type.property.valuetypes.implementation.JsonSerializableHelper;
 import type.property.valuetypes.models.BooleanLiteralProperty;
 
 /**
@@ -105,7 +106,8 @@ public final class BooleanLiteralAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(BooleanLiteralProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                BooleanLiteralProperty::fromJson));
     }
 
     /**
@@ -125,6 +127,6 @@ public final class BooleanLiteralAsyncClient {
     public Mono<Void> put(BooleanLiteralProperty body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.property.valuetypes.implementation.BooleanLiteralsImpl;
+import type.property.valuetypes.implementation.JsonSerializableHelper;
 import type.property.valuetypes.models.BooleanLiteralProperty;
 
 /**
@@ -102,7 +103,8 @@ public final class BooleanLiteralClient {
     public BooleanLiteralProperty get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(BooleanLiteralProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            BooleanLiteralProperty::fromJson);
     }
 
     /**
@@ -121,6 +123,6 @@ public final class BooleanLiteralClient {
     public void put(BooleanLiteralProperty body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
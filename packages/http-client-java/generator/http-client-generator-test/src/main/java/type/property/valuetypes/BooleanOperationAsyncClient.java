@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.property.valuetypes.implementation.BooleanOperationsImpl;
+import type.property.valuetypes.implementation.JsonSerializableHelper;
 import type.property.valuetypes.models.BooleanProperty;
 
 /**
@@ -105,7 +106,8 @@ public final class BooleanOperationAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(BooleanProperty.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                BooleanProperty::fromJson));
     }
 
     /**
@@ -125,6 +127,6 @@ public final class BooleanOperationAsyncClient {
     public Mono<Void> put(BooleanProperty body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return putWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono);
+        return putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono);
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.property.valuetypes.implementation.JsonSerializableHelper;
 import type.property.valuetypes.implementation.ModelsImpl;
 import type.property.valuetypes.models.ModelProperty;
 
@@ -106,7 +107,8 @@ public final class ModelClient {
     public ModelProperty get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(ModelProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            ModelProperty::fromJson);
     }
 
     /**
@@ -125,6 +127,6 @@ public final class ModelClient {
     public void put(ModelProperty body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
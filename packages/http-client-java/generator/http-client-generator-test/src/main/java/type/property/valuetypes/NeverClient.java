@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.property.valuetypes.implementation.JsonSerializableHelper;
 import type.property.valuetypes.implementation.NeversImpl;
 import type.property.valuetypes.models.NeverProperty;
 
@@ -100,7 +101,8 @@ public final class NeverClient {
     public NeverProperty get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(NeverProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            NeverProperty::fromJson);
     }
 
     /**
@@ -119,6 +121,6 @@ public final class NeverClient {
     public void put(NeverProperty body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.property.valuetypes.implementation.JsonSerializableHelper;
 import type.property.valuetypes.implementation.UnionFloatLiteralsImpl;
 import type.property.valuetypes.models.UnionFloatLiteralProperty;
 
@@ -102,7 +103,8 @@ public final class UnionFloatLiteralClient {
     public UnionFloatLiteralProperty get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(UnionFloatLiteralProperty.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            UnionFloatLiteralProperty::fromJson);
     }
 
     /**
@@ -121,6 +123,6 @@ public final class UnionFloatLiteralClient {
     public void put(UnionFloatLiteralProperty body) {
         // Generated convenience method for putWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        putWithResponse(BinaryData.fromObject(body), requestOptions).getValue();
+        putWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue();
     }
 }
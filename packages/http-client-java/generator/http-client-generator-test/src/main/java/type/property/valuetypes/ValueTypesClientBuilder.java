@@ -115,6 +115,13 @@ public final class ValueTypesClientBuilder implements HttpTrait<ValueTypesClient
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the ValueTypesClientBuilder.
      */
@@ -135,6 +142,7 @@ public final class ValueTypesClientBuilder implements HttpTrait<ValueTypesClient
     @Generated
     @Override
     public ValueTypesClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -151,6 +159,7 @@ public final class ValueTypesClientBuilder implements HttpTrait<ValueTypesClient
     @Generated
     @Override
     public ValueTypesClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -170,6 +179,7 @@ public final class ValueTypesClientBuilder implements HttpTrait<ValueTypesClient
     @Generated
     @Override
     public ValueTypesClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -186,6 +196,7 @@ public final class ValueTypesClientBuilder implements HttpTrait<ValueTypesClient
     @Generated
     @Override
     public ValueTypesClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -202,6 +213,7 @@ public final class ValueTypesClientBuilder implements HttpTrait<ValueTypesClient
     @Generated
     @Override
     public ValueTypesClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -212,6 +224,7 @@ public final class ValueTypesClientBuilder implements HttpTrait<ValueTypesClient
     @Generated
     @Override
     public ValueTypesClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -229,6 +242,7 @@ public final class ValueTypesClientBuilder implements HttpTrait<ValueTypesClient
     @Generated
     @Override
     public ValueTypesClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -245,6 +259,7 @@ public final class ValueTypesClientBuilder implements HttpTrait<ValueTypesClient
     @Generated
     @Override
     public ValueTypesClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -263,6 +278,7 @@ public final class ValueTypesClientBuilder implements HttpTrait<ValueTypesClient
      */
     @Generated
     public ValueTypesClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -275,7 +291,7 @@ public final class ValueTypesClientBuilder implements HttpTrait<ValueTypesClient
     @Generated
     private ValueTypesClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         ValueTypesClientImpl client
             = new ValueTypesClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -323,6 +339,15 @@ public final class ValueTypesClientBuilder implements HttpTrait<ValueTypesClient
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of BooleanOperationAsyncClient class.
      * 
@@ -60,7 +60,7 @@ public final class ValueTypesClientImpl {
     /**
      * The BooleanOperationsImpl object to access its operations.
      */
-    private final BooleanOperationsImpl booleanOperations;
+    private volatile BooleanOperationsImpl booleanOperations;
 
     /**
      * Gets the BooleanOperationsImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class ValueTypesClientImpl {
      * @return the BooleanOperationsImpl object.
      */
     public BooleanOperationsImpl getBooleanOperations() {
-        return this.booleanOperations;
+        BooleanOperationsImpl localBooleanOperations = this.booleanOperations;
+        if (localBooleanOperations == null) {
+            synchronized (this) {
+                localBooleanOperations = this.booleanOperations;
+                if (localBooleanOperations == null) {
+                    localBooleanOperations = new BooleanOperationsImpl(this);
+                    this.booleanOperations = localBooleanOperations;
+                }
+            }
+        }
+        return localBooleanOperations;
     }
 
     /**
      * The StringOperationsImpl object to access its operations.
      */
-    private final StringOperationsImpl stringOperations;
+    private volatile StringOperationsImpl stringOperations;
 
     /**
      * Gets the StringOperationsImpl object to access its operations.
@@ -82,13 +92,23 @@ public final class ValueTypesClientImpl {
      * @return the StringOperationsImpl object.
      */
     public StringOperationsImpl getStringOperations() {
-        return this.stringOperations;
+        StringOperationsImpl localStringOperations = this.stringOperations;
+        if (localStringOperations == null) {
+            synchronized (this) {
+                localStringOperations = this.stringOperations;
+                if (localStringOperations == null) {
+                    localStringOperations = new StringOperationsImpl(this);
+                    this.stringOperations = localStringOperations;
+                }
+            }
+        }
+        return localStringOperations;
     }
 
     /**
      * The BytesImpl object to access its operations.
      */
-    private final BytesImpl bytes;
+    private volatile BytesImpl bytes;
 
     /**
      * Gets the BytesImpl object to access its operations.
@@ -96,13 +116,23 @@ public final class ValueTypesClientImpl {
      * @return the BytesImpl object.
      */
     public BytesImpl getBytes() {
-        return this.bytes;
+        BytesImpl localBytes = this.bytes;
+        if (localBytes == null) {
+            synchronized (this) {
+                localBytes = this.bytes;
+                if (localBytes == null) {
+                    localBytes = new BytesImpl(this);
+                    this.bytes = localBytes;
+                }
+            }
+        }
+        return localBytes;
     }
 
     /**
      * The IntsImpl object to access its operations.
      */
-    private final IntsImpl ints;
+    private volatile IntsImpl ints;
 
     /**
      * Gets the IntsImpl object to access its operations.
@@ -110,13 +140,23 @@ public final class ValueTypesClientImpl {
      * @return the IntsImpl object.
      */
     public IntsImpl getInts() {
-        return this.ints;
+        IntsImpl localInts = this.ints;
+        if (localInts == null) {
+            synchronized (this) {
+                localInts = this.ints;
+                if (localInts == null) {
+                    localInts = new IntsImpl(this);
+                    this.ints = localInts;
+                }
+            }
+        }
+        return localInts;
     }
 
     /**
      * The FloatOperationsImpl object to access its operations.
      */
-    private final FloatOperationsImpl floatOperations;
+    private volatile FloatOperationsImpl floatOperations;
 
     /**
      * Gets the FloatOperationsImpl object to access its operations.
@@ -124,13 +164,23 @@ public final class ValueTypesClientImpl {
      * @return the FloatOperationsImpl object.
      */
     public FloatOperationsImpl getFloatOperations() {
-        return this.floatOperations;
+        FloatOperationsImpl localFloatOperations = this.floatOperations;
+        if (localFloatOperations == null) {
+            synchronized (this) {
+                localFloatOperations = this.floatOperations;
+                if (localFloatOperations == null) {
+                    localFloatOperations = new FloatOperationsImpl(this);
+                    this.floatOperations = localFloatOperations;
+                }
+            }
+        }
+        return localFloatOperations;
     }
 
     /**
      * The DecimalsImpl object to access its operations.
      */
-    private final DecimalsImpl decimals;
+    private volatile DecimalsImpl decimals;
 
     /**
      * Gets the DecimalsImpl object to access its operations.
@@ -138,13 +188,23 @@ public final class ValueTypesClientImpl {
      * @return the DecimalsImpl object.
      */
     public DecimalsImpl getDecimals() {
-        return this.decimals;
+        DecimalsImpl localDecimals = this.decimals;
+        if (localDecimals == null) {
+            synchronized (this) {
+                localDecimals = this.decimals;
+                if (localDecimals == null) {
+                    localDecimals = new DecimalsImpl(this);
+                    this.decimals = localDecimals;
+                }
+            }
+        }
+        return localDecimals;
     }
 
     /**
      * The Decimal128sImpl object to access its operations.
      */
-    private final Decimal128sImpl decimal128s;
+    private volatile Decimal128sImpl decimal128s;
 
     /**
      * Gets the Decimal128sImpl object to access its operations.
@@ -152,13 +212,23 @@ public final class ValueTypesClientImpl {
      * @return the Decimal128sImpl object.
      */
     public Decimal128sImpl getDecimal128s() {
-        return this.decimal128s;
+        Decimal128sImpl localDecimal128s = this.decimal128s;
+        if (localDecimal128s == null) {
+            synchronized (this) {
+                localDecimal128s = this.decimal128s;
+                if (localDecimal128s == null) {
+                    localDecimal128s = new Decimal128sImpl(this);
+                    this.decimal128s = localDecimal128s;
+                }
+            }
+        }
+        return localDecimal128s;
     }
 
     /**
      * The DatetimeOperationsImpl object to access its operations.
      */
-    private final DatetimeOperationsImpl datetimeOperations;
+    private volatile DatetimeOperationsImpl datetimeOperations;
 
     /**
      * Gets the DatetimeOperationsImpl object to access its operations.
@@ -166,13 +236,23 @@ public final class ValueTypesClientImpl {
      * @return the DatetimeOperationsImpl object.
      */
     public DatetimeOperationsImpl getDatetimeOperations() {
-        return this.datetimeOperations;
+        DatetimeOperationsImpl localDatetimeOperations = this.datetimeOperations;
+        if (localDatetimeOperations == null) {
+            synchronized (this) {
+                localDatetimeOperations = this.datetimeOperations;
+                if (localDatetimeOperations == null) {
+                    localDatetimeOperations = new DatetimeOperationsImpl(this);
+                    this.datetimeOperations = localDatetimeOperations;
+                }
+            }
+        }
+        return localDatetimeOperations;
     }
 
     /**
      * The DurationOperationsImpl object to access its operations.
      */
-    private final DurationOperationsImpl durationOperations;
+    private volatile DurationOperationsImpl durationOperations;
 
     /**
      * Gets the DurationOperationsImpl object to access its operations.
@@ -180,13 +260,23 @@ public final class ValueTypesClientImpl {
      * @return the DurationOperationsImpl object.
      */
     public DurationOperationsImpl getDurationOperations() {
-        return this.durationOperations;
+        DurationOperationsImpl localDurationOperations = this.durationOperations;
+        if (localDurationOperations == null) {
+            synchronized (this) {
+                localDurationOperations = this.durationOperations;
+                if (localDurationOperations == null) {
+                    localDurationOperations = new DurationOperationsImpl(this);
+                    this.durationOperations = localDurationOperations;
+                }
+            }
+        }
+        return localDurationOperations;
     }
 
     /**
      * The EnumsImpl object to access its operations.
      */
-    private final EnumsImpl enums;
+    private volatile EnumsImpl enums;
 
     /**
      * Gets the EnumsImpl object to access its operations.
@@ -194,13 +284,23 @@ public final class ValueTypesClientImpl {
      * @return the EnumsImpl object.
      */
     public EnumsImpl getEnums() {
-        return this.enums;
+        EnumsImpl localEnums = this.enums;
+        if (localEnums == null) {
+            synchronized (this) {
+                localEnums = this.enums;
+                if (localEnums == null) {
+                    localEnums = new EnumsImpl(this);
+                    this.enums = localEnums;
+                }
+            }
+        }
+        return localEnums;
     }
 
     /**
      * The ExtensibleEnumsImpl object to access its operations.
      */
-    private final ExtensibleEnumsImpl extensibleEnums;
+    private volatile ExtensibleEnumsImpl extensibleEnums;
 
     /**
      * Gets the ExtensibleEnumsImpl object to access its operations.
@@ -208,13 +308,23 @@ public final class ValueTypesClientImpl {
      * @return the ExtensibleEnumsImpl object.
      */
     public ExtensibleEnumsImpl getExtensibleEnums() {
-        return this.extensibleEnums;
+        ExtensibleEnumsImpl localExtensibleEnums = this.extensibleEnums;
+        if (localExtensibleEnums == null) {
+            synchronized (this) {
+                localExtensibleEnums = this.extensibleEnums;
+                if (localExtensibleEnums == null) {
+                    localExtensibleEnums = new ExtensibleEnumsImpl(this);
+                    this.extensibleEnums = localExtensibleEnums;
+                }
+            }
+        }
+        return localExtensibleEnums;
     }
 
     /**
      * The ModelsImpl object to access its operations.
      */
-    private final ModelsImpl models;
+    private volatile ModelsImpl models;
 
     /**
      * Gets the ModelsImpl object to access its operations.
@@ -222,13 +332,23 @@ public final class ValueTypesClientImpl {
      * @return the ModelsImpl object.
      */
     public ModelsImpl getModels() {
-        return this.models;
+        ModelsImpl localModels = this.models;
+        if (localModels == null) {
+            synchronized (this) {
+                localModels = this.models;
+                if (localModels == null) {
+                    localModels = new ModelsImpl(this);
+                    this.models = localModels;
+                }
+            }
+        }
+        return localModels;
     }
 
     /**
      * The CollectionsStringsImpl object to access its operations.
      */
-    private final CollectionsStringsImpl collectionsStrings;
+    private volatile CollectionsStringsImpl collectionsStrings;
 
     /**
      * Gets the CollectionsStringsImpl object to access its operations.
@@ -236,13 +356,23 @@ public final class ValueTypesClientImpl {
      * @return the CollectionsStringsImpl object.
      */
     public CollectionsStringsImpl getCollectionsStrings() {
-        return this.collectionsStrings;
+        CollectionsStringsImpl localCollectionsStrings = this.collectionsStrings;
+        if (localCollectionsStrings == null) {
+            synchronized (this) {
+                localCollectionsStrings = this.collectionsStrings;
+                if (localCollectionsStrings == null) {
+                    localCollectionsStrings = new CollectionsStringsImpl(this);
+                    this.collectionsStrings = localCollectionsStrings;
+                }
+            }
+        }
+        return localCollectionsStrings;
     }
 
     /**
      * The CollectionsIntsImpl object to access its operations.
      */
-    private final CollectionsIntsImpl collectionsInts;
+    private volatile CollectionsIntsImpl collectionsInts;
 
     /**
      * Gets the CollectionsIntsImpl object to access its operations.
@@ -250,13 +380,23 @@ public final class ValueTypesClientImpl {
      * @return the CollectionsIntsImpl object.
      */
     public CollectionsIntsImpl getCollectionsInts() {
-        return this.collectionsInts;
+        CollectionsIntsImpl localCollectionsInts = this.collectionsInts;
+        if (localCollectionsInts == null) {
+            synchronized (this) {
+                localCollectionsInts = this.collectionsInts;
+                if (localCollectionsInts == null) {
+                    localCollectionsInts = new CollectionsIntsImpl(this);
+                    this.collectionsInts = localCollectionsInts;
+                }
+            }
+        }
+        return localCollectionsInts;
     }
 
     /**
      * The CollectionsModelsImpl object to access its operations.
      */
-    private final CollectionsModelsImpl collectionsModels;
+    private volatile CollectionsModelsImpl collectionsModels;
 
     /**
      * Gets the CollectionsModelsImpl object to access its operations.
@@ -264,13 +404,23 @@ public final class ValueTypesClientImpl {
      * @return the CollectionsModelsImpl object.
      */
     public CollectionsModelsImpl getCollectionsModels() {
-        return this.collectionsModels;
+        CollectionsModelsImpl localCollectionsModels = this.collectionsModels;
+        if (localCollectionsModels == null) {
+            synchronized (this) {
+                localCollectionsModels = this.collectionsModels;
+                if (localCollectionsModels == null) {
+                    localCollectionsModels = new CollectionsModelsImpl(this);
+                    this.collectionsModels = localCollectionsModels;
+                }
+            }
+        }
+        return localCollectionsModels;
     }
 
     /**
      * The DictionaryStringsImpl object to access its operations.
      */
-    private final DictionaryStringsImpl dictionaryStrings;
+    private volatile DictionaryStringsImpl dictionaryStrings;
 
     /**
      * Gets the DictionaryStringsImpl object to access its operations.
@@ -278,13 +428,23 @@ public final class ValueTypesClientImpl {
      * @return the DictionaryStringsImpl object.
      */
     public DictionaryStringsImpl getDictionaryStrings() {
-        return this.dictionaryStrings;
+        DictionaryStringsImpl localDictionaryStrings = this.dictionaryStrings;
+        if (localDictionaryStrings == null) {
+            synchronized (this) {
+                localDictionaryStrings = this.dictionaryStrings;
+                if (localDictionaryStrings == null) {
+                    localDictionaryStrings = new DictionaryStringsImpl(this);
+                    this.dictionaryStrings = localDictionaryStrings;
+                }
+            }
+        }
+        return localDictionaryStrings;
     }
 
     /**
      * The NeversImpl object to access its operations.
      */
-    private final NeversImpl nevers;
+    private volatile NeversImpl nevers;
 
     /**
      * Gets the NeversImpl object to access its operations.
@@ -292,13 +452,23 @@ public final class ValueTypesClientImpl {
      * @return the NeversImpl object.
      */
     public NeversImpl getNevers() {
-        return this.nevers;
+        NeversImpl localNevers = this.nevers;
+        if (localNevers == null) {
+            synchronized (this) {
+                localNevers = this.nevers;
+                if (localNevers == null) {
+                    localNevers = new NeversImpl(this);
+                    this.nevers = localNevers;
+                }
+            }
+        }
+        return localNevers;
     }
 
     /**
      * The UnknownStringsImpl object to access its operations.
      */
-    private final UnknownStringsImpl unknownStrings;
+    private volatile UnknownStringsImpl unknownStrings;
 
     /**
      * Gets the UnknownStringsImpl object to access its operations.
@@ -306,13 +476,23 @@ public final class ValueTypesClientImpl {
      * @return the UnknownStringsImpl object.
      */
     public UnknownStringsImpl getUnknownStrings() {
-        return this.unknownStrings;
+        UnknownStringsImpl localUnknownStrings = this.unknownStrings;
+        if (localUnknownStrings == null) {
+            synchronized (this) {
+                localUnknownStrings = this.unknownStrings;
+                if (localUnknownStrings == null) {
+                    localUnknownStrings = new UnknownStringsImpl(this);
+                    this.unknownStrings = localUnknownStrings;
+                }
+            }
+        }
+        return localUnknownStrings;
     }
 
     /**
      * The UnknownIntsImpl object to access its operations.
      */
-    private final UnknownIntsImpl unknownInts;
+    private volatile UnknownIntsImpl unknownInts;
 
     /**
      * Gets the UnknownIntsImpl object to access its operations.
@@ -320,13 +500,23 @@ public final class ValueTypesClientImpl {
      * @return the UnknownIntsImpl object.
      */
     public UnknownIntsImpl getUnknownInts() {
-        return this.unknownInts;
+        UnknownIntsImpl localUnknownInts = this.unknownInts;
+        if (localUnknownInts == null) {
+            synchronized (this) {
+                localUnknownInts = this.unknownInts;
+                if (localUnknownInts == null) {
+                    localUnknownInts = new UnknownIntsImpl(this);
+                    this.unknownInts = localUnknownInts;
+                }
+            }
+        }
+        return localUnknownInts;
     }
 
     /**
      * The UnknownDictsImpl object to access its operations.
      */
-    private final UnknownDictsImpl unknownDicts;
+    private volatile UnknownDictsImpl unknownDicts;
 
     /**
      * Gets the UnknownDictsImpl object to access its operations.
@@ -334,13 +524,23 @@ public final class ValueTypesClientImpl {
      * @return the UnknownDictsImpl object.
      */
     public UnknownDictsImpl getUnknownDicts() {
-        return this.unknownDicts;
+        UnknownDictsImpl localUnknownDicts = this.unknownDicts;
+        if (localUnknownDicts == null) {
+            synchronized (this) {
+                localUnknownDicts = this.unknownDicts;
+                if (localUnknownDicts == null) {
+                    localUnknownDicts = new UnknownDictsImpl(this);
+                    this.unknownDicts = localUnknownDicts;
+                }
+            }
+        }
+        return localUnknownDicts;
     }
 
     /**
      * The UnknownArraysImpl object to access its operations.
      */
-    private final UnknownArraysImpl unknownArrays;
+    private volatile UnknownArraysImpl unknownArrays;
 
     /**
      * Gets the UnknownArraysImpl object to access its operations.
@@ -348,13 +548,23 @@ public final class ValueTypesClientImpl {
      * @return the UnknownArraysImpl object.
      */
     public UnknownArraysImpl getUnknownArrays() {
-        return this.unknownArrays;
+        UnknownArraysImpl localUnknownArrays = this.unknownArrays;
+        if (localUnknownArrays == null) {
+            synchronized (this) {
+                localUnknownArrays = this.unknownArrays;
+                if (localUnknownArrays == null) {
+                    localUnknownArrays = new UnknownArraysImpl(this);
+                    this.unknownArrays = localUnknownArrays;
+                }
+            }
+        }
+        return localUnknownArrays;
     }
 
     /**
      * The StringLiteralsImpl object to access its operations.
      */
-    private final StringLiteralsImpl stringLiterals;
+    private volatile StringLiteralsImpl stringLiterals;
 
     /**
      * Gets the StringLiteralsImpl object to access its operations.
@@ -362,13 +572,23 @@ public final class ValueTypesClientImpl {
      * @return the StringLiteralsImpl object.
      */
     public StringLiteralsImpl getStringLiterals() {
-        return this.stringLiterals;
+        StringLiteralsImpl localStringLiterals = this.stringLiterals;
+        if (localStringLiterals == null) {
+            synchronized (this) {
+                localStringLiterals = this.stringLiterals;
+                if (localStringLiterals == null) {
+                    localStringLiterals = new StringLiteralsImpl(this);
+                    this.stringLiterals = localStringLiterals;
+                }
+            }
+        }
+        return localStringLiterals;
     }
 
     /**
      * The IntLiteralsImpl object to access its operations.
      */
-    private final IntLiteralsImpl intLiterals;
+    private volatile IntLiteralsImpl intLiterals;
 
     /**
      * Gets the IntLiteralsImpl object to access its operations.
@@ -376,13 +596,23 @@ public final class ValueTypesClientImpl {
      * @return the IntLiteralsImpl object.
      */
     public IntLiteralsImpl getIntLiterals() {
-        return this.intLiterals;
+        IntLiteralsImpl localIntLiterals = this.intLiterals;
+        if (localIntLiterals == null) {
+            synchronized (this) {
+                localIntLiterals = this.intLiterals;
+                if (localIntLiterals == null) {
+                    localIntLiterals = new IntLiteralsImpl(this);
+                    this.intLiterals = localIntLiterals;
+                }
+            }
+        }
+        return localIntLiterals;
     }
 
     /**
      * The FloatLiteralsImpl object to access its operations.
      */
-    private final FloatLiteralsImpl floatLiterals;
+    private volatile FloatLiteralsImpl floatLiterals;
 
     /**
      * Gets the FloatLiteralsImpl object to access its operations.
@@ -390,13 +620,23 @@ public final class ValueTypesClientImpl {
      * @return the FloatLiteralsImpl object.
      */
     public FloatLiteralsImpl getFloatLiterals() {
-        return this.floatLiterals;
+        FloatLiteralsImpl localFloatLiterals = this.floatLiterals;
+        if (localFloatLiterals == null) {
+            synchronized (this) {
+                localFloatLiterals = this.floatLiterals;
+                if (localFloatLiterals == null) {
+                    localFloatLiterals = new FloatLiteralsImpl(this);
+                    this.floatLiterals = localFloatLiterals;
+                }
+            }
+        }
+        return localFloatLiterals;
     }
 
     /**
      * The BooleanLiteralsImpl object to access its operations.
      */
-    private final BooleanLiteralsImpl booleanLiterals;
+    private volatile BooleanLiteralsImpl booleanLiterals;
 
     /**
      * Gets the BooleanLiteralsImpl object to access its operations.
@@ -404,13 +644,23 @@ public final class ValueTypesClientImpl {
      * @return the BooleanLiteralsImpl object.
      */
     public BooleanLiteralsImpl getBooleanLiterals() {
-        return this.booleanLiterals;
+        BooleanLiteralsImpl localBooleanLiterals = this.booleanLiterals;
+        if (localBooleanLiterals == null) {
+            synchronized (this) {
+                localBooleanLiterals = this.booleanLiterals;
+                if (localBooleanLiterals == null) {
+                    localBooleanLiterals = new BooleanLiteralsImpl(this);
+                    this.booleanLiterals = localBooleanLiterals;
+                }
+            }
+        }
+        return localBooleanLiterals;
     }
 
     /**
      * The UnionStringLiteralsImpl object to access its operations.
      */
-    private final UnionStringLiteralsImpl unionStringLiterals;
+    private volatile UnionStringLiteralsImpl unionStringLiterals;
 
     /**
      * Gets the UnionStringLiteralsImpl object to access its operations.
@@ -418,13 +668,23 @@ public final class ValueTypesClientImpl {
      * @return the UnionStringLiteralsImpl object.
      */
     public UnionStringLiteralsImpl getUnionStringLiterals() {
-        return this.unionStringLiterals;
+        UnionStringLiteralsImpl localUnionStringLiterals = this.unionStringLiterals;
+        if (localUnionStringLiterals == null) {
+            synchronized (this) {
+                localUnionStringLiterals = this.unionStringLiterals;
+                if (localUnionStringLiterals == null) {
+                    localUnionStringLiterals = new UnionStringLiteralsImpl(this);
+                    this.unionStringLiterals = localUnionStringLiterals;
+                }
+            }
+        }
+        return localUnionStringLiterals;
     }
 
     /**
      * The UnionIntLiteralsImpl object to access its operations.
      */
-    private final UnionIntLiteralsImpl unionIntLiterals;
+    private volatile UnionIntLiteralsImpl unionIntLiterals;
 
     /**
      * Gets the UnionIntLiteralsImpl object to access its operations.
@@ -432,13 +692,23 @@ public final class ValueTypesClientImpl {
      * @return the UnionIntLiteralsImpl object.
      */
     public UnionIntLiteralsImpl getUnionIntLiterals() {
-        return this.unionIntLiterals;
+        UnionIntLiteralsImpl localUnionIntLiterals = this.unionIntLiterals;
+        if (localUnionIntLiterals == null) {
+            synchronized (this) {
+                localUnionIntLiterals = this.unionIntLiterals;
+                if (localUnionIntLiterals == null) {
+                    localUnionIntLiterals = new UnionIntLiteralsImpl(this);
+                    this.unionIntLiterals = localUnionIntLiterals;
+                }
+            }
+        }
+        return localUnionIntLiterals;
     }
 
     /**
      * The UnionFloatLiteralsImpl object to access its operations.
      */
-    private final UnionFloatLiteralsImpl unionFloatLiterals;
+    private volatile UnionFloatLiteralsImpl unionFloatLiterals;
 
     /**
      * Gets the UnionFloatLiteralsImpl object to access its operations.
@@ -446,13 +716,23 @@ public final class ValueTypesClientImpl {
      * @return the UnionFloatLiteralsImpl object.
      */
     public UnionFloatLiteralsImpl getUnionFloatLiterals() {
-        return this.unionFloatLiterals;
+        UnionFloatLiteralsImpl localUnionFloatLiterals = this.unionFloatLiterals;
+        if (localUnionFloatLiterals == null) {
+            synchronized (this) {
+                localUnionFloatLiterals = this.unionFloatLiterals;
+                if (localUnionFloatLiterals == null) {
+                    localUnionFloatLiterals = new UnionFloatLiteralsImpl(this);
+                    this.unionFloatLiterals = localUnionFloatLiterals;
+                }
+            }
+        }
+        return localUnionFloatLiterals;
     }
 
     /**
      * The UnionEnumValuesImpl object to access its operations.
      */
-    private final UnionEnumValuesImpl unionEnumValues;
+    private volatile UnionEnumValuesImpl unionEnumValues;
 
     /**
      * Gets the UnionEnumValuesImpl object to access its operations.
@@ -460,7 +740,17 @@ public final class ValueTypesClientImpl {
      * @return the UnionEnumValuesImpl object.
      */
     public UnionEnumValuesImpl getUnionEnumValues() {
-        return this.unionEnumValues;
+        UnionEnumValuesImpl localUnionEnumValues = this.unionEnumValues;
+        if (localUnionEnumValues == null) {
+            synchronized (this) {
+                localUnionEnumValues = this.unionEnumValues;
+                if (localUnionEnumValues == null) {
+                    localUnionEnumValues = new UnionEnumValuesImpl(this);
+                    this.unionEnumValues = localUnionEnumValues;
+                }
+            }
+        }
+        return localUnionEnumValues;
     }
 
     /**
@@ -494,34 +784,5 @@ public final class ValueTypesClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.booleanOperations = new BooleanOperationsImpl(this);
-        this.stringOperations = new StringOperationsImpl(this);
-        this.bytes = new BytesImpl(this);
-        this.ints = new IntsImpl(this);
-        this.floatOperations = new FloatOperationsImpl(this);
-        this.decimals = new DecimalsImpl(this);
-        this.decimal128s = new Decimal128sImpl(this);
-        this.datetimeOperations = new DatetimeOperationsImpl(this);
-        this.durationOperations = new DurationOperationsImpl(this);
-        this.enums = new EnumsImpl(this);
-        this.extensibleEnums = new ExtensibleEnumsImpl(this);
-        this.models = new ModelsImpl(this);
-        this.collectionsStrings = new CollectionsStringsImpl(this);
-        this.collectionsInts = new CollectionsIntsImpl(this);
-        this.collectionsModels = new CollectionsModelsImpl(this);
-        this.dictionaryStrings = new DictionaryStringsImpl(this);
-        this.nevers = new NeversImpl(this);
-        this.unknownStrings = new UnknownStringsImpl(this);
-        this.unknownInts = new UnknownIntsImpl(this);
-        this.unknownDicts = new UnknownDictsImpl(this);
-        this.unknownArrays = new UnknownArraysImpl(this);
-        this.stringLiterals = new StringLiteralsImpl(this);
-        this.intLiterals = new IntLiteralsImpl(this);
-        this.floatLiterals = new FloatLiteralsImpl(this);
-        this.booleanLiterals = new BooleanLiteralsImpl(this);
-        this.unionStringLiterals = new UnionStringLiteralsImpl(this);
-        this.unionIntLiterals = new UnionIntLiteralsImpl(this);
-        this.unionFloatLiterals = new UnionFloatLiteralsImpl(this);
-        this.unionEnumValues = new UnionEnumValuesImpl(this);
     }
 }
@@ -51,7 +51,7 @@ public final class CollectionsModelProperty implements JsonSerializable<Collecti
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeArrayField("property", this.property, (writer, element) -> writer.writeJson(element));
+        jsonWriter.writeArrayField("property", this.property, JsonWriter::writeJson);
         return jsonWriter.writeEndObject();
     }
 
@@ -73,7 +73,7 @@ public final class CollectionsModelProperty implements JsonSerializable<Collecti
                 reader.nextToken();
 
                 if ("property".equals(fieldName)) {
-                    property = reader.readArray(reader1 -> InnerModel.fromJson(reader1));
+                    property = reader.readArray(InnerModel::fromJson);
                 } else {
                     reader.skipChildren();
                 }
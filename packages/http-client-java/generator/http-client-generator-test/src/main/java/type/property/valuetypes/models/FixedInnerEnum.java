@@ -4,6 +4,10 @@
 
 package type.property.valuetypes.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Enum that will be used as a property for model EnumProperty. Non-extensible.
  */
@@ -27,6 +31,17 @@ public enum FixedInnerEnum {
         this.value = value;
     }
 
+    private static final Map<String, FixedInnerEnum> VALUES = new HashMap<>();
+
+    private static final Map<String, FixedInnerEnum> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (FixedInnerEnum item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a FixedInnerEnum instance.
      * 
@@ -37,13 +52,8 @@ public enum FixedInnerEnum {
         if (value == null) {
             return null;
         }
-        FixedInnerEnum[] items = FixedInnerEnum.values();
-        for (FixedInnerEnum item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        FixedInnerEnum item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -27,6 +27,8 @@ public enum UnionIntLiteralPropertyProperty {
         this.value = value;
     }
 
+    private static final UnionIntLiteralPropertyProperty[] VALUES = values();
+
     /**
      * Parses a serialized value to a UnionIntLiteralPropertyProperty instance.
      * 
@@ -34,8 +36,7 @@ public enum UnionIntLiteralPropertyProperty {
      * @return the parsed UnionIntLiteralPropertyProperty object, or null if unable to parse.
      */
     public static UnionIntLiteralPropertyProperty fromInt(int value) {
-        UnionIntLiteralPropertyProperty[] items = UnionIntLiteralPropertyProperty.values();
-        for (UnionIntLiteralPropertyProperty item : items) {
+        for (UnionIntLiteralPropertyProperty item : VALUES) {
             if (item.toInt() == value) {
                 return item;
             }
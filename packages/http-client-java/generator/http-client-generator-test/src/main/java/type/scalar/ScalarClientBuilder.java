@@ -70,6 +70,13 @@ public final class ScalarClientBuilder implements HttpTrait<ScalarClientBuilder>
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the ScalarClientBuilder.
      */
@@ -90,6 +97,7 @@ public final class ScalarClientBuilder implements HttpTrait<ScalarClientBuilder>
     @Generated
     @Override
     public ScalarClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -106,6 +114,7 @@ public final class ScalarClientBuilder implements HttpTrait<ScalarClientBuilder>
     @Generated
     @Override
     public ScalarClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -125,6 +134,7 @@ public final class ScalarClientBuilder implements HttpTrait<ScalarClientBuilder>
     @Generated
     @Override
     public ScalarClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -141,6 +151,7 @@ public final class ScalarClientBuilder implements HttpTrait<ScalarClientBuilder>
     @Generated
     @Override
     public ScalarClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -157,6 +168,7 @@ public final class ScalarClientBuilder implements HttpTrait<ScalarClientBuilder>
     @Generated
     @Override
     public ScalarClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -167,6 +179,7 @@ public final class ScalarClientBuilder implements HttpTrait<ScalarClientBuilder>
     @Generated
     @Override
     public ScalarClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -184,6 +197,7 @@ public final class ScalarClientBuilder implements HttpTrait<ScalarClientBuilder>
     @Generated
     @Override
     public ScalarClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -200,6 +214,7 @@ public final class ScalarClientBuilder implements HttpTrait<ScalarClientBuilder>
     @Generated
     @Override
     public ScalarClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -218,6 +233,7 @@ public final class ScalarClientBuilder implements HttpTrait<ScalarClientBuilder>
      */
     @Generated
     public ScalarClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -230,7 +246,7 @@ public final class ScalarClientBuilder implements HttpTrait<ScalarClientBuilder>
     @Generated
     private ScalarClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         ScalarClientImpl client
             = new ScalarClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -278,6 +294,15 @@ public final class ScalarClientBuilder implements HttpTrait<ScalarClientBuilder>
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of StringOperationAsyncClient class.
      * 
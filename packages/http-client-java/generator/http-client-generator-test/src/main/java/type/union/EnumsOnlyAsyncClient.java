@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.union.implementation.EnumsOnliesImpl;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.models.SendRequest6;
 import type.union.models.EnumsOnlyCases;
 import type.union.models.GetResponse6;
@@ -113,7 +114,8 @@ public final class EnumsOnlyAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(GetResponse6.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                GetResponse6::fromJson));
     }
 
     /**
@@ -134,7 +136,7 @@ public final class EnumsOnlyAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest6 sendRequest6Obj = new SendRequest6(prop);
-        BinaryData sendRequest6 = BinaryData.fromObject(sendRequest6Obj);
+        BinaryData sendRequest6 = JsonSerializableHelper.toBinaryData(sendRequest6Obj);
         return sendWithResponse(sendRequest6, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
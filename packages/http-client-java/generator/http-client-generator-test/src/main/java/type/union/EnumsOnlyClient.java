@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.union.implementation.EnumsOnliesImpl;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.models.SendRequest6;
 import type.union.models.EnumsOnlyCases;
 import type.union.models.GetResponse6;
@@ -110,7 +111,8 @@ public final class EnumsOnlyClient {
     public GetResponse6 get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(GetResponse6.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            GetResponse6::fromJson);
     }
 
     /**
@@ -130,7 +132,7 @@ public final class EnumsOnlyClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest6 sendRequest6Obj = new SendRequest6(prop);
-        BinaryData sendRequest6 = BinaryData.fromObject(sendRequest6Obj);
+        BinaryData sendRequest6 = JsonSerializableHelper.toBinaryData(sendRequest6Obj);
         sendWithResponse(sendRequest6, requestOptions).getValue();
     }
 }
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.union.implementation.FloatsOnliesImpl;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.models.SendRequest4;
 import type.union.models.GetResponse4;
 import type.union.models.GetResponseProp3;
@@ -107,7 +108,8 @@ public final class FloatsOnlyAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(GetResponse4.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                GetResponse4::fromJson));
     }
 
     /**
@@ -128,7 +130,7 @@ public final class FloatsOnlyAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest4 sendRequest4Obj = new SendRequest4(prop);
-        BinaryData sendRequest4 = BinaryData.fromObject(sendRequest4Obj);
+        BinaryData sendRequest4 = JsonSerializableHelper.toBinaryData(sendRequest4Obj);
         return sendWithResponse(sendRequest4, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
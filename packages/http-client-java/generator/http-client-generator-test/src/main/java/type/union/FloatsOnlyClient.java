@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.union.implementation.FloatsOnliesImpl;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.models.SendRequest4;
 import type.union.models.GetResponse4;
 import type.union.models.GetResponseProp3;
@@ -104,7 +105,8 @@ public final class FloatsOnlyClient {
     public GetResponse4 get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(GetResponse4.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            GetResponse4::fromJson);
     }
 
     /**
@@ -124,7 +126,7 @@ public final class FloatsOnlyClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest4 sendRequest4Obj = new SendRequest4(prop);
-        BinaryData sendRequest4 = BinaryData.fromObject(sendRequest4Obj);
+        BinaryData sendRequest4 = JsonSerializableHelper.toBinaryData(sendRequest4Obj);
         sendWithResponse(sendRequest4, requestOptions).getValue();
     }
 }
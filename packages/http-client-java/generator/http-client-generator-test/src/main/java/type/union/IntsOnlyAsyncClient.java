@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import type.union.implementation.IntsOnliesImpl;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.models.SendRequest3;
 import type.union.models.GetResponse3;
 import type.union.models.GetResponseProp2;
@@ -107,7 +108,8 @@ public final class IntsOnlyAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(GetResponse3.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                GetResponse3::fromJson));
     }
 
     /**
@@ -128,7 +130,7 @@ public final class IntsOnlyAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest3 sendRequest3Obj = new SendRequest3(prop);
-        BinaryData sendRequest3 = BinaryData.fromObject(sendRequest3Obj);
+        BinaryData sendRequest3 = JsonSerializableHelper.toBinaryData(sendRequest3Obj);
         return sendWithResponse(sendRequest3, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
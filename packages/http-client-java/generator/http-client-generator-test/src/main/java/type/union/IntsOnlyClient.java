@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import type.union.implementation.IntsOnliesImpl;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.models.SendRequest3;
 import type.union.models.GetResponse3;
 import type.union.models.GetResponseProp2;
@@ -104,7 +105,8 @@ public final class IntsOnlyClient {
     public GetResponse3 get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(GetResponse3.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            GetResponse3::fromJson);
     }
 
     /**
@@ -124,7 +126,7 @@ public final class IntsOnlyClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest3 sendRequest3Obj = new SendRequest3(prop);
-        BinaryData sendRequest3 = BinaryData.fromObject(sendRequest3Obj);
+        BinaryData sendRequest3 = JsonSerializableHelper.toBinaryData(sendRequest3Obj);
         sendWithResponse(sendRequest3, requestOptions).getValue();
     }
 }
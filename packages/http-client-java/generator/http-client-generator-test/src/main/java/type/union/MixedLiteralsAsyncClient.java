@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.MixedLiteralsImpl;
 import type.union.implementation.models.SendRequest8;
 import type.union.models.GetResponse8;
@@ -117,7 +118,8 @@ public final class MixedLiteralsAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(GetResponse8.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                GetResponse8::fromJson));
     }
 
     /**
@@ -138,7 +140,7 @@ public final class MixedLiteralsAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest8 sendRequest8Obj = new SendRequest8(prop);
-        BinaryData sendRequest8 = BinaryData.fromObject(sendRequest8Obj);
+        BinaryData sendRequest8 = JsonSerializableHelper.toBinaryData(sendRequest8Obj);
         return sendWithResponse(sendRequest8, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
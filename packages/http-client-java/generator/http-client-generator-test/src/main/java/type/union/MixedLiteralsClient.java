@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.MixedLiteralsImpl;
 import type.union.implementation.models.SendRequest8;
 import type.union.models.GetResponse8;
@@ -114,7 +115,8 @@ public final class MixedLiteralsClient {
     public GetResponse8 get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(GetResponse8.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            GetResponse8::fromJson);
     }
 
     /**
@@ -134,7 +136,7 @@ public final class MixedLiteralsClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest8 sendRequest8Obj = new SendRequest8(prop);
-        BinaryData sendRequest8 = BinaryData.fromObject(sendRequest8Obj);
+        BinaryData sendRequest8 = JsonSerializableHelper.toBinaryData(sendRequest8Obj);
         sendWithResponse(sendRequest8, requestOptions).getValue();
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.MixedTypesImpl;
 import type.union.implementation.models.SendRequest9;
 import type.union.models.GetResponse9;
@@ -123,7 +124,8 @@ public final class MixedTypesAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(GetResponse9.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                GetResponse9::fromJson));
     }
 
     /**
@@ -144,7 +146,7 @@ public final class MixedTypesAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest9 sendRequest9Obj = new SendRequest9(prop);
-        BinaryData sendRequest9 = BinaryData.fromObject(sendRequest9Obj);
+        BinaryData sendRequest9 = JsonSerializableHelper.toBinaryData(sendRequest9Obj);
         return sendWithResponse(sendRequest9, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
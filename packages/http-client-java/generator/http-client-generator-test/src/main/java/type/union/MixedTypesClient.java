@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.MixedTypesImpl;
 import type.union.implementation.models.SendRequest9;
 import type.union.models.GetResponse9;
@@ -120,7 +121,8 @@ public final class MixedTypesClient {
     public GetResponse9 get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(GetResponse9.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            GetResponse9::fromJson);
     }
 
     /**
@@ -140,7 +142,7 @@ public final class MixedTypesClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest9 sendRequest9Obj = new SendRequest9(prop);
-        BinaryData sendRequest9 = BinaryData.fromObject(sendRequest9Obj);
+        BinaryData sendRequest9 = JsonSerializableHelper.toBinaryData(sendRequest9Obj);
         sendWithResponse(sendRequest9, requestOptions).getValue();
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.ModelsOnliesImpl;
 import type.union.implementation.models.SendRequest5;
 import type.union.models.GetResponse5;
@@ -106,7 +107,8 @@ public final class ModelsOnlyAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(GetResponse5.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                GetResponse5::fromJson));
     }
 
     /**
@@ -127,7 +129,7 @@ public final class ModelsOnlyAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest5 sendRequest5Obj = new SendRequest5(prop);
-        BinaryData sendRequest5 = BinaryData.fromObject(sendRequest5Obj);
+        BinaryData sendRequest5 = JsonSerializableHelper.toBinaryData(sendRequest5Obj);
         return sendWithResponse(sendRequest5, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
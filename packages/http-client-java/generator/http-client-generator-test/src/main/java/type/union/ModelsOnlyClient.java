@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.ModelsOnliesImpl;
 import type.union.implementation.models.SendRequest5;
 import type.union.models.GetResponse5;
@@ -103,7 +104,8 @@ public final class ModelsOnlyClient {
     public GetResponse5 get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(GetResponse5.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            GetResponse5::fromJson);
     }
 
     /**
@@ -123,7 +125,7 @@ public final class ModelsOnlyClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest5 sendRequest5Obj = new SendRequest5(prop);
-        BinaryData sendRequest5 = BinaryData.fromObject(sendRequest5Obj);
+        BinaryData sendRequest5 = JsonSerializableHelper.toBinaryData(sendRequest5Obj);
         sendWithResponse(sendRequest5, requestOptions).getValue();
     }
 }
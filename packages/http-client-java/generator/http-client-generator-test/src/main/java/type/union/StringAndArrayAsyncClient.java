@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.StringAndArraysImpl;
 import type.union.implementation.models.SendRequest7;
 import type.union.models.GetResponse7;
@@ -113,7 +114,8 @@ public final class StringAndArrayAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(GetResponse7.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                GetResponse7::fromJson));
     }
 
     /**
@@ -134,7 +136,7 @@ public final class StringAndArrayAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest7 sendRequest7Obj = new SendRequest7(prop);
-        BinaryData sendRequest7 = BinaryData.fromObject(sendRequest7Obj);
+        BinaryData sendRequest7 = JsonSerializableHelper.toBinaryData(sendRequest7Obj);
         return sendWithResponse(sendRequest7, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.StringAndArraysImpl;
 import type.union.implementation.models.SendRequest7;
 import type.union.models.GetResponse7;
@@ -110,7 +111,8 @@ public final class StringAndArrayClient {
     public GetResponse7 get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(GetResponse7.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            GetResponse7::fromJson);
     }
 
     /**
@@ -130,7 +132,7 @@ public final class StringAndArrayClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest7 sendRequest7Obj = new SendRequest7(prop);
-        BinaryData sendRequest7 = BinaryData.fromObject(sendRequest7Obj);
+        BinaryData sendRequest7 = JsonSerializableHelper.toBinaryData(sendRequest7Obj);
         sendWithResponse(sendRequest7, requestOptions).getValue();
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.StringExtensiblesImpl;
 import type.union.implementation.models.SendRequest1;
 import type.union.models.GetResponse1;
@@ -107,7 +108,8 @@ public final class StringExtensibleAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(GetResponse1.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                GetResponse1::fromJson));
     }
 
     /**
@@ -128,7 +130,7 @@ public final class StringExtensibleAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest1 sendRequest1Obj = new SendRequest1(prop);
-        BinaryData sendRequest1 = BinaryData.fromObject(sendRequest1Obj);
+        BinaryData sendRequest1 = JsonSerializableHelper.toBinaryData(sendRequest1Obj);
         return sendWithResponse(sendRequest1, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
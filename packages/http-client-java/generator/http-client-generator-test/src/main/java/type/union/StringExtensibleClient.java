@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.StringExtensiblesImpl;
 import type.union.implementation.models.SendRequest1;
 import type.union.models.GetResponse1;
@@ -104,7 +105,8 @@ public final class StringExtensibleClient {
     public GetResponse1 get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(GetResponse1.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            GetResponse1::fromJson);
     }
 
     /**
@@ -124,7 +126,7 @@ public final class StringExtensibleClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest1 sendRequest1Obj = new SendRequest1(prop);
-        BinaryData sendRequest1 = BinaryData.fromObject(sendRequest1Obj);
+        BinaryData sendRequest1 = JsonSerializableHelper.toBinaryData(sendRequest1Obj);
         sendWithResponse(sendRequest1, requestOptions).getValue();
     }
 }
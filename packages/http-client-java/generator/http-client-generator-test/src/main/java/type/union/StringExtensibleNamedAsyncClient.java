@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.StringExtensibleNamedsImpl;
 import type.union.implementation.models.SendRequest2;
 import type.union.models.GetResponse2;
@@ -107,7 +108,8 @@ public final class StringExtensibleNamedAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(GetResponse2.class));
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData,
+                GetResponse2::fromJson));
     }
 
     /**
@@ -128,7 +130,7 @@ public final class StringExtensibleNamedAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest2 sendRequest2Obj = new SendRequest2(prop);
-        BinaryData sendRequest2 = BinaryData.fromObject(sendRequest2Obj);
+        BinaryData sendRequest2 = JsonSerializableHelper.toBinaryData(sendRequest2Obj);
         return sendWithResponse(sendRequest2, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
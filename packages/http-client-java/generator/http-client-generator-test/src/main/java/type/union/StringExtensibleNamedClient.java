@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.StringExtensibleNamedsImpl;
 import type.union.implementation.models.SendRequest2;
 import type.union.models.GetResponse2;
@@ -104,7 +105,8 @@ public final class StringExtensibleNamedClient {
     public GetResponse2 get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(GetResponse2.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(),
+            GetResponse2::fromJson);
     }
 
     /**
@@ -124,7 +126,7 @@ public final class StringExtensibleNamedClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest2 sendRequest2Obj = new SendRequest2(prop);
-        BinaryData sendRequest2 = BinaryData.fromObject(sendRequest2Obj);
+        BinaryData sendRequest2 = JsonSerializableHelper.toBinaryData(sendRequest2Obj);
         sendWithResponse(sendRequest2, requestOptions).getValue();
     }
 }
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.StringsOnliesImpl;
 import type.union.implementation.models.SendRequest;
 import type.union.models.GetResponse;
@@ -107,7 +108,8 @@ public final class StringsOnlyAsyncClient {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
         return getWithResponse(requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(GetResponse.class));
+            .map(
+                protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, GetResponse::fromJson));
     }
 
     /**
@@ -128,7 +130,7 @@ public final class StringsOnlyAsyncClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest sendRequestObj = new SendRequest(prop);
-        BinaryData sendRequest = BinaryData.fromObject(sendRequestObj);
+        BinaryData sendRequest = JsonSerializableHelper.toBinaryData(sendRequestObj);
         return sendWithResponse(sendRequest, requestOptions).flatMap(FluxUtil::toMono);
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import type.union.implementation.JsonSerializableHelper;
 import type.union.implementation.StringsOnliesImpl;
 import type.union.implementation.models.SendRequest;
 import type.union.models.GetResponse;
@@ -104,7 +105,7 @@ public final class StringsOnlyClient {
     public GetResponse get() {
         // Generated convenience method for getWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return getWithResponse(requestOptions).getValue().toObject(GetResponse.class);
+        return JsonSerializableHelper.fromBinaryData(getWithResponse(requestOptions).getValue(), GetResponse::fromJson);
     }
 
     /**
@@ -124,7 +125,7 @@ public final class StringsOnlyClient {
         // Generated convenience method for sendWithResponse
         RequestOptions requestOptions = new RequestOptions();
         SendRequest sendRequestObj = new SendRequest(prop);
-        BinaryData sendRequest = BinaryData.fromObject(sendRequestObj);
+        BinaryData sendRequest = JsonSerializableHelper.toBinaryData(sendRequestObj);
         sendWithResponse(sendRequest, requestOptions).getValue();
     }
 }
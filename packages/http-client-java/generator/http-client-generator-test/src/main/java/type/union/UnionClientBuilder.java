@@ -76,6 +76,13 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the UnionClientBuilder.
      */
@@ -96,6 +103,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Generated
     @Override
     public UnionClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -112,6 +120,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Generated
     @Override
     public UnionClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -131,6 +140,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Generated
     @Override
     public UnionClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -147,6 +157,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Generated
     @Override
     public UnionClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -163,6 +174,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Generated
     @Override
     public UnionClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -173,6 +185,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Generated
     @Override
     public UnionClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -190,6 +203,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Generated
     @Override
     public UnionClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -206,6 +220,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Generated
     @Override
     public UnionClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -224,6 +239,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
      */
     @Generated
     public UnionClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -236,7 +252,7 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
     @Generated
     private UnionClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         UnionClientImpl client
             = new UnionClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -284,6 +300,15 @@ public final class UnionClientBuilder implements HttpTrait<UnionClientBuilder>,
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of StringsOnlyAsyncClient class.
      * 
@@ -65,6 +65,13 @@ public final class DiscriminatedClientBuilder implements HttpTrait<Discriminated
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the DiscriminatedClientBuilder.
      */
@@ -85,6 +92,7 @@ public final class DiscriminatedClientBuilder implements HttpTrait<Discriminated
     @Generated
     @Override
     public DiscriminatedClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -101,6 +109,7 @@ public final class DiscriminatedClientBuilder implements HttpTrait<Discriminated
     @Generated
     @Override
     public DiscriminatedClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -120,6 +129,7 @@ public final class DiscriminatedClientBuilder implements HttpTrait<Discriminated
     @Generated
     @Override
     public DiscriminatedClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -136,6 +146,7 @@ public final class DiscriminatedClientBuilder implements HttpTrait<Discriminated
     @Generated
     @Override
     public DiscriminatedClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -152,6 +163,7 @@ public final class DiscriminatedClientBuilder implements HttpTrait<Discriminated
     @Generated
     @Override
     public DiscriminatedClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -162,6 +174,7 @@ public final class DiscriminatedClientBuilder implements HttpTrait<Discriminated
     @Generated
     @Override
     public DiscriminatedClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -179,6 +192,7 @@ public final class DiscriminatedClientBuilder implements HttpTrait<Discriminated
     @Generated
     @Override
     public DiscriminatedClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -195,6 +209,7 @@ public final class DiscriminatedClientBuilder implements HttpTrait<Discriminated
     @Generated
     @Override
     public DiscriminatedClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -213,6 +228,7 @@ public final class DiscriminatedClientBuilder implements HttpTrait<Discriminated
      */
     @Generated
     public DiscriminatedClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -225,7 +241,7 @@ public final class DiscriminatedClientBuilder implements HttpTrait<Discriminated
     @Generated
     private DiscriminatedClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         String localEndpoint = (endpoint != null) ? endpoint : "http://localhost:3000";
         DiscriminatedClientImpl client = new DiscriminatedClientImpl(localPipeline,
             JacksonAdapter.createDefaultSerializerAdapter(), localEndpoint);
@@ -273,6 +289,15 @@ public final class DiscriminatedClientBuilder implements HttpTrait<Discriminated
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of EnvelopeObjectDefaultAsyncClient class.
      * 
@@ -60,7 +60,7 @@ public final class UnionClientImpl {
     /**
      * The StringsOnliesImpl object to access its operations.
      */
-    private final StringsOnliesImpl stringsOnlies;
+    private volatile StringsOnliesImpl stringsOnlies;
 
     /**
      * Gets the StringsOnliesImpl object to access its operations.
@@ -68,13 +68,23 @@ public final class UnionClientImpl {
      * @return the StringsOnliesImpl object.
      */
     public StringsOnliesImpl getStringsOnlies() {
-        return this.stringsOnlies;
+        StringsOnliesImpl localStringsOnlies = this.stringsOnlies;
+        if (localStringsOnlies == null) {
+            synchronized (this) {
+                localStringsOnlies = this.stringsOnlies;
+                if (localStringsOnlies == null) {
+                    localStringsOnlies = new StringsOnliesImpl(this);
+                    this.stringsOnlies = localStringsOnlies;
+                }
+            }
+        }
+        return localStringsOnlies;
     }
 
     /**
      * The StringExtensiblesImpl object to access its operations.
      */
-    private final StringExtensiblesImpl stringExtensibles;
+    private volatile StringExtensiblesImpl stringExtensibles;
 
     /**
      * Gets the StringExtensiblesImpl object to access its operations.
@@ -82,13 +92,23 @@ public final class UnionClientImpl {
      * @return the StringExtensiblesImpl object.
      */
     public StringExtensiblesImpl getStringExtensibles() {
-        return this.stringExtensibles;
+        StringExtensiblesImpl localStringExtensibles = this.stringExtensibles;
+        if (localStringExtensibles == null) {
+            synchronized (this) {
+                localStringExtensibles = this.stringExtensibles;
+                if (localStringExtensibles == null) {
+                    localStringExtensibles = new StringExtensiblesImpl(this);
+                    this.stringExtensibles = localStringExtensibles;
+                }
+            }
+        }
+        return localStringExtensibles;
     }
 
     /**
      * The StringExtensibleNamedsImpl object to access its operations.
      */
-    private final StringExtensibleNamedsImpl stringExtensibleNameds;
+    private volatile StringExtensibleNamedsImpl stringExtensibleNameds;
 
     /**
      * Gets the StringExtensibleNamedsImpl object to access its operations.
@@ -96,13 +116,23 @@ public final class UnionClientImpl {
      * @return the StringExtensibleNamedsImpl object.
      */
     public StringExtensibleNamedsImpl getStringExtensibleNameds() {
-        return this.stringExtensibleNameds;
+        StringExtensibleNamedsImpl localStringExtensibleNameds = this.stringExtensibleNameds;
+        if (localStringExtensibleNameds == null) {
+            synchronized (this) {
+                localStringExtensibleNameds = this.stringExtensibleNameds;
+                if (localStringExtensibleNameds == null) {
+                    localStringExtensibleNameds = new StringExtensibleNamedsImpl(this);
+                    this.stringExtensibleNameds = localStringExtensibleNameds;
+                }
+            }
+        }
+        return localStringExtensibleNameds;
     }
 
     /**
      * The IntsOnliesImpl object to access its operations.
      */
-    private final IntsOnliesImpl intsOnlies;
+    private volatile IntsOnliesImpl intsOnlies;
 
     /**
      * Gets the IntsOnliesImpl object to access its operations.
@@ -110,13 +140,23 @@ public final class UnionClientImpl {
      * @return the IntsOnliesImpl object.
      */
     public IntsOnliesImpl getIntsOnlies() {
-        return this.intsOnlies;
+        IntsOnliesImpl localIntsOnlies = this.intsOnlies;
+        if (localIntsOnlies == null) {
+            synchronized (this) {
+                localIntsOnlies = this.intsOnlies;
+                if (localIntsOnlies == null) {
+                    localIntsOnlies = new IntsOnliesImpl(this);
+                    this.intsOnlies = localIntsOnlies;
+                }
+            }
+        }
+        return localIntsOnlies;
     }
 
     /**
      * The FloatsOnliesImpl object to access its operations.
      */
-    private final FloatsOnliesImpl floatsOnlies;
+    private volatile FloatsOnliesImpl floatsOnlies;
 
     /**
      * Gets the FloatsOnliesImpl object to access its operations.
@@ -124,13 +164,23 @@ public final class UnionClientImpl {
      * @return the FloatsOnliesImpl object.
      */
     public FloatsOnliesImpl getFloatsOnlies() {
-        return this.floatsOnlies;
+        FloatsOnliesImpl localFloatsOnlies = this.floatsOnlies;
+        if (localFloatsOnlies == null) {
+            synchronized (this) {
+                localFloatsOnlies = this.floatsOnlies;
+                if (localFloatsOnlies == null) {
+                    localFloatsOnlies = new FloatsOnliesImpl(this);
+                    this.floatsOnlies = localFloatsOnlies;
+                }
+            }
+        }
+        return localFloatsOnlies;
     }
 
     /**
      * The ModelsOnliesImpl object to access its operations.
      */
-    private final ModelsOnliesImpl modelsOnlies;
+    private volatile ModelsOnliesImpl modelsOnlies;
 
     /**
      * Gets the ModelsOnliesImpl object to access its operations.
@@ -138,13 +188,23 @@ public final class UnionClientImpl {
      * @return the ModelsOnliesImpl object.
      */
     public ModelsOnliesImpl getModelsOnlies() {
-        return this.modelsOnlies;
+        ModelsOnliesImpl localModelsOnlies = this.modelsOnlies;
+        if (localModelsOnlies == null) {
+            synchronized (this) {
+                localModelsOnlies = this.modelsOnlies;
+                if (localModelsOnlies == null) {
+                    localModelsOnlies = new ModelsOnliesImpl(this);
+                    this.modelsOnlies = localModelsOnlies;
+                }
+            }
+        }
+        return localModelsOnlies;
     }
 
     /**
      * The EnumsOnliesImpl object to access its operations.
      */
-    private final EnumsOnliesImpl enumsOnlies;
+    private volatile EnumsOnliesImpl enumsOnlies;
 
     /**
      * Gets the EnumsOnliesImpl object to access its operations.
@@ -152,13 +212,23 @@ public final class UnionClientImpl {
      * @return the EnumsOnliesImpl object.
      */
     public EnumsOnliesImpl getEnumsOnlies() {
-        return this.enumsOnlies;
+        EnumsOnliesImpl localEnumsOnlies = this.enumsOnlies;
+        if (localEnumsOnlies == null) {
+            synchronized (this) {
+                localEnumsOnlies = this.enumsOnlies;
+                if (localEnumsOnlies == null) {
+                    localEnumsOnlies = new EnumsOnliesImpl(this);
+                    this.enumsOnlies = localEnumsOnlies;
+                }
+            }
+        }
+        return localEnumsOnlies;
     }
 
     /**
      * The StringAndArraysImpl object to access its operations.
      */
-    private final StringAndArraysImpl stringAndArrays;
+    private volatile StringAndArraysImpl stringAndArrays;
 
     /**
      * Gets the StringAndArraysImpl object to access its operations.
@@ -166,13 +236,23 @@ public final class UnionClientImpl {
      * @return the StringAndArraysImpl object.
      */
     public StringAndArraysImpl getStringAndArrays() {
-        return this.stringAndArrays;
+        StringAndArraysImpl localStringAndArrays = this.stringAndArrays;
+        if (localStringAndArrays == null) {
+            synchronized (this) {
+                localStringAndArrays = this.stringAndArrays;
+                if (localStringAndArrays == null) {
+                    localStringAndArrays = new StringAndArraysImpl(this);
+                    this.stringAndArrays = localStringAndArrays;
+                }
+            }
+        }
+        return localStringAndArrays;
     }
 
     /**
      * The MixedLiteralsImpl object to access its operations.
      */
-    private final MixedLiteralsImpl mixedLiterals;
+    private volatile MixedLiteralsImpl mixedLiterals;
 
     /**
      * Gets the MixedLiteralsImpl object to access its operations.
@@ -180,13 +260,23 @@ public final class UnionClientImpl {
      * @return the MixedLiteralsImpl object.
      */
     public MixedLiteralsImpl getMixedLiterals() {
-        return this.mixedLiterals;
+        MixedLiteralsImpl localMixedLiterals = this.mixedLiterals;
+        if (localMixedLiterals == null) {
+            synchronized (this) {
+                localMixedLiterals = this.mixedLiterals;
+                if (localMixedLiterals == null) {
+                    localMixedLiterals = new MixedLiteralsImpl(this);
+                    this.mixedLiterals = localMixedLiterals;
+                }
+            }
+        }
+        return localMixedLiterals;
     }
 
     /**
      * The MixedTypesImpl object to access its operations.
      */
-    private final MixedTypesImpl mixedTypes;
+    private volatile MixedTypesImpl mixedTypes;
 
     /**
      * Gets the MixedTypesImpl object to access its operations.
@@ -194,7 +284,17 @@ public final class UnionClientImpl {
      * @return the MixedTypesImpl object.
      */
     public MixedTypesImpl getMixedTypes() {
-        return this.mixedTypes;
+        MixedTypesImpl localMixedTypes = this.mixedTypes;
+        if (localMixedTypes == null) {
+            synchronized (this) {
+                localMixedTypes = this.mixedTypes;
+                if (localMixedTypes == null) {
+                    localMixedTypes = new MixedTypesImpl(this);
+                    this.mixedTypes = localMixedTypes;
+                }
+            }
+        }
+        return localMixedTypes;
     }
 
     /**
@@ -228,15 +328,5 @@ public final class UnionClientImpl {
         this.httpPipeline = httpPipeline;
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
-        this.stringsOnlies = new StringsOnliesImpl(this);
-        this.stringExtensibles = new StringExtensiblesImpl(this);
-        this.stringExtensibleNameds = new StringExtensibleNamedsImpl(this);
-        this.intsOnlies = new IntsOnliesImpl(this);
-        this.floatsOnlies = new FloatsOnliesImpl(this);
-        this.modelsOnlies = new ModelsOnliesImpl(this);
-        this.enumsOnlies = new EnumsOnliesImpl(this);
-        this.stringAndArrays = new StringAndArraysImpl(this);
-        this.mixedLiterals = new MixedLiteralsImpl(this);
-        this.mixedTypes = new MixedTypesImpl(this);
     }
 }
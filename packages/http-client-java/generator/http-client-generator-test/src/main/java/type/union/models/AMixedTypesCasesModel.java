@@ -0,0 +1,43 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package type.union.models;
+
+import com.azure.core.annotation.Immutable;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+
+/**
+ * The AMixedTypesCasesModel model.
+ */
+@Immutable
+public final class AMixedTypesCasesModel extends MixedTypesCasesModelBase {
+    private final String value;
+
+    /**
+     * Creates an instance of AMixedTypesCasesModel class.
+     * 
+     * @param value the value.
+     */
+    public AMixedTypesCasesModel(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the value.
+     * 
+     * @return the value.
+     */
+    public String getValue() {
+        return this.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        return jsonWriter.writeString(this.value);
+    }
+}
@@ -0,0 +1,43 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package type.union.models;
+
+import com.azure.core.annotation.Immutable;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+
+/**
+ * The BooleanMixedTypesCasesModel model.
+ */
+@Immutable
+public final class BooleanMixedTypesCasesModel extends MixedTypesCasesModelBase {
+    private final boolean value;
+
+    /**
+     * Creates an instance of BooleanMixedTypesCasesModel class.
+     * 
+     * @param value the value.
+     */
+    public BooleanMixedTypesCasesModel(boolean value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the value.
+     * 
+     * @return the value.
+     */
+    public boolean isValue() {
+        return this.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        return jsonWriter.writeBoolean(this.value);
+    }
+}
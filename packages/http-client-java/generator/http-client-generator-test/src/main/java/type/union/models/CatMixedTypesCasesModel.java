@@ -0,0 +1,43 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package type.union.models;
+
+import com.azure.core.annotation.Immutable;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+
+/**
+ * The CatMixedTypesCasesModel model.
+ */
+@Immutable
+public final class CatMixedTypesCasesModel extends MixedTypesCasesModelBase {
+    private final Cat value;
+
+    /**
+     * Creates an instance of CatMixedTypesCasesModel class.
+     * 
+     * @param value the value.
+     */
+    public CatMixedTypesCasesModel(Cat value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the value.
+     * 
+     * @return the value.
+     */
+    public Cat getValue() {
+        return this.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        return jsonWriter.writeJson(this.value);
+    }
+}
@@ -4,6 +4,10 @@
 
 package type.union.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for EnumsOnlyCasesLr.
  */
@@ -37,6 +41,17 @@ public enum EnumsOnlyCasesLr {
         this.value = value;
     }
 
+    private static final Map<String, EnumsOnlyCasesLr> VALUES = new HashMap<>();
+
+    private static final Map<String, EnumsOnlyCasesLr> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (EnumsOnlyCasesLr item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a EnumsOnlyCasesLr instance.
      * 
@@ -47,13 +62,8 @@ public enum EnumsOnlyCasesLr {
         if (value == null) {
             return null;
         }
-        EnumsOnlyCasesLr[] items = EnumsOnlyCasesLr.values();
-        for (EnumsOnlyCasesLr item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        EnumsOnlyCasesLr item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -4,6 +4,10 @@
 
 package type.union.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for GetResponseProp.
  */
@@ -32,6 +36,17 @@ public enum GetResponseProp {
         this.value = value;
     }
 
+    private static final Map<String, GetResponseProp> VALUES = new HashMap<>();
+
+    private static final Map<String, GetResponseProp> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (GetResponseProp item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a GetResponseProp instance.
      * 
@@ -42,13 +57,8 @@ public enum GetResponseProp {
         if (value == null) {
             return null;
         }
-        GetResponseProp[] items = GetResponseProp.values();
-        for (GetResponseProp item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        GetResponseProp item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -32,6 +32,8 @@ public enum GetResponseProp3 {
         this.value = value;
     }
 
+    private static final GetResponseProp3[] VALUES = values();
+
     /**
      * Parses a serialized value to a GetResponseProp3 instance.
      * 
@@ -39,8 +41,7 @@ public enum GetResponseProp3 {
      * @return the parsed GetResponseProp3 object, or null if unable to parse.
      */
     public static GetResponseProp3 fromDouble(double value) {
-        GetResponseProp3[] items = GetResponseProp3.values();
-        for (GetResponseProp3 item : items) {
+        for (GetResponseProp3 item : VALUES) {
             if (Double.doubleToLongBits(item.toDouble()) == Double.doubleToLongBits(value)) {
                 return item;
             }
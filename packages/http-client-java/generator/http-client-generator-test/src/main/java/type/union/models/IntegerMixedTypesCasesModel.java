@@ -0,0 +1,43 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package type.union.models;
+
+import com.azure.core.annotation.Immutable;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+
+/**
+ * The IntegerMixedTypesCasesModel model.
+ */
+@Immutable
+public final class IntegerMixedTypesCasesModel extends MixedTypesCasesModelBase {
+    private final int value;
+
+    /**
+     * Creates an instance of IntegerMixedTypesCasesModel class.
+     * 
+     * @param value the value.
+     */
+    public IntegerMixedTypesCasesModel(int value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the value.
+     * 
+     * @return the value.
+     */
+    public int getValue() {
+        return this.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        return jsonWriter.writeInt(this.value);
+    }
+}
@@ -6,7 +6,6 @@ package type.union.models;
 
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.Immutable;
-import com.azure.core.util.BinaryData;
 import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
@@ -23,31 +22,31 @@ public final class MixedTypesCases implements JsonSerializable<MixedTypesCases>
      * This should be receive/send the Cat variant
      */
     @Generated
-    private final BinaryData model;
+    private final MixedTypesCasesModelBase model;
 
     /*
      * This should be receive/send the "a" variant
      */
     @Generated
-    private final BinaryData literal;
+    private final MixedTypesCasesModelBase literal;
 
     /*
      * This should be receive/send the int variant
      */
     @Generated
-    private final BinaryData intProperty;
+    private final MixedTypesCasesModelBase intProperty;
 
     /*
      * This should be receive/send the boolean variant
      */
     @Generated
-    private final BinaryData booleanProperty;
+    private final MixedTypesCasesModelBase booleanProperty;
 
     /*
      * This should be receive/send 4 element with Cat, "a", int, and boolean
      */
     @Generated
-    private final List<BinaryData> array;
+    private final List<MixedTypesCasesModelBase> array;
 
     /**
      * Creates an instance of MixedTypesCases class.
@@ -59,8 +58,9 @@ public final class MixedTypesCases implements JsonSerializable<MixedTypesCases>
      * @param array the array value to set.
      */
     @Generated
-    public MixedTypesCases(BinaryData model, BinaryData literal, BinaryData intProperty, BinaryData booleanProperty,
-        List<BinaryData> array) {
+    public MixedTypesCases(MixedTypesCasesModelBase model, MixedTypesCasesModelBase literal,
+        MixedTypesCasesModelBase intProperty, MixedTypesCasesModelBase booleanProperty,
+        List<MixedTypesCasesModelBase> array) {
         this.model = model;
         this.literal = literal;
         this.intProperty = intProperty;
@@ -74,7 +74,7 @@ public final class MixedTypesCases implements JsonSerializable<MixedTypesCases>
      * @return the model value.
      */
     @Generated
-    public BinaryData getModel() {
+    public MixedTypesCasesModelBase getModel() {
         return this.model;
     }
 
@@ -84,7 +84,7 @@ public final class MixedTypesCases implements JsonSerializable<MixedTypesCases>
      * @return the literal value.
      */
     @Generated
-    public BinaryData getLiteral() {
+    public MixedTypesCasesModelBase getLiteral() {
         return this.literal;
     }
 
@@ -94,7 +94,7 @@ public final class MixedTypesCases implements JsonSerializable<MixedTypesCases>
      * @return the intProperty value.
      */
     @Generated
-    public BinaryData getIntProperty() {
+    public MixedTypesCasesModelBase getIntProperty() {
         return this.intProperty;
     }
 
@@ -104,7 +104,7 @@ public final class MixedTypesCases implements JsonSerializable<MixedTypesCases>
      * @return the booleanProperty value.
      */
     @Generated
-    public BinaryData getBooleanProperty() {
+    public MixedTypesCasesModelBase getBooleanProperty() {
         return this.booleanProperty;
     }
 
@@ -114,7 +114,7 @@ public final class MixedTypesCases implements JsonSerializable<MixedTypesCases>
      * @return the array value.
      */
     @Generated
-    public List<BinaryData> getArray() {
+    public List<MixedTypesCasesModelBase> getArray() {
         return this.array;
     }
 
@@ -125,21 +125,11 @@ public final class MixedTypesCases implements JsonSerializable<MixedTypesCases>
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeFieldName("model");
-        this.model.writeTo(jsonWriter);
-        jsonWriter.writeFieldName("literal");
-        this.literal.writeTo(jsonWriter);
-        jsonWriter.writeFieldName("int");
-        this.intProperty.writeTo(jsonWriter);
-        jsonWriter.writeFieldName("boolean");
-        this.booleanProperty.writeTo(jsonWriter);
-        jsonWriter.writeArrayField("array", this.array, (writer, element) -> {
-            if (element == null) {
-                writer.writeNull();
-            } else {
-                element.writeTo(writer);
-            }
-        });
+        jsonWriter.writeJsonField("model", this.model);
+        jsonWriter.writeJsonField("literal", this.literal);
+        jsonWriter.writeJsonField("int", this.intProperty);
+        jsonWriter.writeJsonField("boolean", this.booleanProperty);
+        jsonWriter.writeArrayField("array", this.array, JsonWriter::writeJson);
         return jsonWriter.writeEndObject();
     }
 
@@ -155,28 +145,25 @@ public final class MixedTypesCases implements JsonSerializable<MixedTypesCases>
     @Generated
     public static MixedTypesCases fromJson(JsonReader jsonReader) throws IOException {
         return jsonReader.readObject(reader -> {
-            BinaryData model = null;
-            BinaryData literal = null;
-            BinaryData intProperty = null;
-            BinaryData booleanProperty = null;
-            List<BinaryData> array = null;
+            MixedTypesCasesModelBase model = null;
+            MixedTypesCasesModelBase literal = null;
+            MixedTypesCasesModelBase intProperty = null;
+            MixedTypesCasesModelBase booleanProperty = null;
+            List<MixedTypesCasesModelBase> array = null;
             while (reader.nextToken() != JsonToken.END_OBJECT) {
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
                 if ("model".equals(fieldName)) {
-                    model = reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped()));
+                    model = MixedTypesCasesModelBase.fromJson(reader);
                 } else if ("literal".equals(fieldName)) {
-                    literal = reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped()));
+                    literal = MixedTypesCasesModelBase.fromJson(reader);
                 } else if ("int".equals(fieldName)) {
-                    intProperty
-                        = reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped()));
+                    intProperty = MixedTypesCasesModelBase.fromJson(reader);
                 } else if ("boolean".equals(fieldName)) {
-                    booleanProperty
-                        = reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped()));
+                    booleanProperty = MixedTypesCasesModelBase.fromJson(reader);
                 } else if ("array".equals(fieldName)) {
-                    array = reader.readArray(reader1 -> reader1
-                        .getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped())));
+                    array = reader.readArray(MixedTypesCasesModelBase::fromJson);
                 } else {
                     reader.skipChildren();
                 }
@@ -0,0 +1,50 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package type.union.models;
+
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonToken;
+import java.io.IOException;
+
+/**
+ * The MixedTypesCasesModelBase model.
+ */
+public abstract class MixedTypesCasesModelBase implements JsonSerializable<MixedTypesCasesModelBase> {
+    /**
+     * Creates an instance of MixedTypesCasesModelBase class.
+     */
+    protected MixedTypesCasesModelBase() {
+    }
+
+    /**
+     * Reads an instance of MixedTypesCasesModelBase from the JsonReader.
+     * 
+     * @param jsonReader The JsonReader being read.
+     * @return An instance of MixedTypesCasesModelBase if the JsonReader was pointing to an instance of it, or null if
+     * it was pointing to JSON null.
+     * @throws IllegalStateException If the JSON token does not match any variant of MixedTypesCasesModelBase.
+     * @throws IOException If an error occurs while reading the MixedTypesCasesModelBase.
+     */
+    public static MixedTypesCasesModelBase fromJson(JsonReader jsonReader) throws IOException {
+        JsonToken token = jsonReader.currentToken();
+        if (token == null) {
+            token = jsonReader.nextToken();
+        }
+        if (token == JsonToken.NULL) {
+            return null;
+        } else if (token == JsonToken.START_OBJECT) {
+            return new CatMixedTypesCasesModel(Cat.fromJson(jsonReader));
+        } else if (token == JsonToken.STRING) {
+            return new AMixedTypesCasesModel(jsonReader.getString());
+        } else if (token == JsonToken.NUMBER) {
+            return new IntegerMixedTypesCasesModel(jsonReader.getInt());
+        } else if (token == JsonToken.BOOLEAN) {
+            return new BooleanMixedTypesCasesModel(jsonReader.getBoolean());
+        } else {
+            throw new IllegalStateException("Unexpected JSON token for MixedTypesCasesModelBase: " + token);
+        }
+    }
+}
@@ -6,7 +6,6 @@ package type.union.models;
 
 import com.azure.core.annotation.Generated;
 import com.azure.core.annotation.Immutable;
-import com.azure.core.util.BinaryData;
 import com.azure.json.JsonReader;
 import com.azure.json.JsonSerializable;
 import com.azure.json.JsonToken;
@@ -22,13 +21,13 @@ public final class StringAndArrayCases implements JsonSerializable<StringAndArra
      * This should be receive/send the string variant
      */
     @Generated
-    private final BinaryData string;
+    private final StringAndArrayCasesStringBase string;
 
     /*
      * This should be receive/send the array variant
      */
     @Generated
-    private final BinaryData array;
+    private final StringAndArrayCasesArrayBase array;
 
     /**
      * Creates an instance of StringAndArrayCases class.
@@ -37,7 +36,7 @@ public final class StringAndArrayCases implements JsonSerializable<StringAndArra
      * @param array the array value to set.
      */
     @Generated
-    public StringAndArrayCases(BinaryData string, BinaryData array) {
+    public StringAndArrayCases(StringAndArrayCasesStringBase string, StringAndArrayCasesArrayBase array) {
         this.string = string;
         this.array = array;
     }
@@ -48,7 +47,7 @@ public final class StringAndArrayCases implements JsonSerializable<StringAndArra
      * @return the string value.
      */
     @Generated
-    public BinaryData getString() {
+    public StringAndArrayCasesStringBase getString() {
         return this.string;
     }
 
@@ -58,7 +57,7 @@ public final class StringAndArrayCases implements JsonSerializable<StringAndArra
      * @return the array value.
      */
     @Generated
-    public BinaryData getArray() {
+    public StringAndArrayCasesArrayBase getArray() {
         return this.array;
     }
 
@@ -69,10 +68,8 @@ public final class StringAndArrayCases implements JsonSerializable<StringAndArra
     @Override
     public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
         jsonWriter.writeStartObject();
-        jsonWriter.writeFieldName("string");
-        this.string.writeTo(jsonWriter);
-        jsonWriter.writeFieldName("array");
-        this.array.writeTo(jsonWriter);
+        jsonWriter.writeJsonField("string", this.string);
+        jsonWriter.writeJsonField("array", this.array);
         return jsonWriter.writeEndObject();
     }
 
@@ -88,16 +85,16 @@ public final class StringAndArrayCases implements JsonSerializable<StringAndArra
     @Generated
     public static StringAndArrayCases fromJson(JsonReader jsonReader) throws IOException {
         return jsonReader.readObject(reader -> {
-            BinaryData string = null;
-            BinaryData array = null;
+            StringAndArrayCasesStringBase string = null;
+            StringAndArrayCasesArrayBase array = null;
             while (reader.nextToken() != JsonToken.END_OBJECT) {
                 String fieldName = reader.getFieldName();
                 reader.nextToken();
 
                 if ("string".equals(fieldName)) {
-                    string = reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped()));
+                    string = StringAndArrayCasesStringBase.fromJson(reader);
                 } else if ("array".equals(fieldName)) {
-                    array = reader.getNullable(nonNullReader -> BinaryData.fromObject(nonNullReader.readUntyped()));
+                    array = StringAndArrayCasesArrayBase.fromJson(reader);
                 } else {
                     reader.skipChildren();
                 }
@@ -0,0 +1,46 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package type.union.models;
+
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonToken;
+import java.io.IOException;
+
+/**
+ * The StringAndArrayCasesStringBase model.
+ */
+public abstract class StringAndArrayCasesStringBase implements JsonSerializable<StringAndArrayCasesStringBase> {
+    /**
+     * Creates an instance of StringAndArrayCasesStringBase class.
+     */
+    protected StringAndArrayCasesStringBase() {
+    }
+
+    /**
+     * Reads an instance of StringAndArrayCasesStringBase from the JsonReader.
+     * 
+     * @param jsonReader The JsonReader being read.
+     * @return An instance of StringAndArrayCasesStringBase if the JsonReader was pointing to an instance of it, or null
+     * if it was pointing to JSON null.
+     * @throws IllegalStateException If the JSON token does not match any variant of StringAndArrayCasesStringBase.
+     * @throws IOException If an error occurs while reading the StringAndArrayCasesStringBase.
+     */
+    public static StringAndArrayCasesStringBase fromJson(JsonReader jsonReader) throws IOException {
+        JsonToken token = jsonReader.currentToken();
+        if (token == null) {
+            token = jsonReader.nextToken();
+        }
+        if (token == JsonToken.NULL) {
+            return null;
+        } else if (token == JsonToken.STRING) {
+            return new StringStringAndArrayCasesString(jsonReader.getString());
+        } else if (token == JsonToken.START_ARRAY) {
+            return new StringListStringAndArrayCasesString(jsonReader.readArray(reader -> reader.getString()));
+        } else {
+            throw new IllegalStateException("Unexpected JSON token for StringAndArrayCasesStringBase: " + token);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+// Code generated by Microsoft (R) TypeSpec Code Generator.
+
+package type.union.models;
+
+import com.azure.core.annotation.Immutable;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The StringListStringAndArrayCasesArray model.
+ */
+@Immutable
+public final class StringListStringAndArrayCasesArray extends StringAndArrayCasesArrayBase {
+    private final List<String> value;
+
+    /**
+     * Creates an instance of StringListStringAndArrayCasesArray class.
+     * 
+     * @param value the value.
+     */
+    public StringListStringAndArrayCasesArray(List<String> value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the value.
+     * 
+     * @return the value.
+     */
+    public List<String> getValue() {
+        return this.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+        return jsonWriter.writeArray(this.value, (writer, element) -> writer.writeString(element));
+    }
+}
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import versioning.added.implementation.AddedClientImpl;
+import versioning.added.implementation.JsonSerializableHelper;
 import versioning.added.models.ModelV1;
 import versioning.added.models.ModelV2;
 
@@ -138,8 +139,9 @@ public final class AddedAsyncClient {
     public Mono<ModelV1> v1(String headerV2, ModelV1 body) {
         // Generated convenience method for v1WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return v1WithResponse(headerV2, BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ModelV1.class));
+        return v1WithResponse(headerV2, JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, ModelV1::fromJson));
     }
 
     /**
@@ -159,7 +161,7 @@ public final class AddedAsyncClient {
     public Mono<ModelV2> v2(ModelV2 body) {
         // Generated convenience method for v2WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return v2WithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ModelV2.class));
+        return v2WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, ModelV2::fromJson));
     }
 }
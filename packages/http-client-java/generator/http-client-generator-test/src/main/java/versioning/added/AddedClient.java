@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import versioning.added.implementation.AddedClientImpl;
+import versioning.added.implementation.JsonSerializableHelper;
 import versioning.added.models.ModelV1;
 import versioning.added.models.ModelV2;
 
@@ -136,7 +137,9 @@ public final class AddedClient {
     public ModelV1 v1(String headerV2, ModelV1 body) {
         // Generated convenience method for v1WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return v1WithResponse(headerV2, BinaryData.fromObject(body), requestOptions).getValue().toObject(ModelV1.class);
+        return JsonSerializableHelper.fromBinaryData(
+            v1WithResponse(headerV2, JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            ModelV1::fromJson);
     }
 
     /**
@@ -156,6 +159,7 @@ public final class AddedClient {
     public ModelV2 v2(ModelV2 body) {
         // Generated convenience method for v2WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return v2WithResponse(BinaryData.fromObject(body), requestOptions).getValue().toObject(ModelV2.class);
+        return JsonSerializableHelper.fromBinaryData(
+            v2WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(), ModelV2::fromJson);
     }
 }
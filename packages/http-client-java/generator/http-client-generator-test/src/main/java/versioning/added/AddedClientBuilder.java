@@ -60,6 +60,13 @@ public final class AddedClientBuilder implements HttpTrait<AddedClientBuilder>,
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the AddedClientBuilder.
      */
@@ -80,6 +87,7 @@ public final class AddedClientBuilder implements HttpTrait<AddedClientBuilder>,
     @Generated
     @Override
     public AddedClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -96,6 +104,7 @@ public final class AddedClientBuilder implements HttpTrait<AddedClientBuilder>,
     @Generated
     @Override
     public AddedClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -115,6 +124,7 @@ public final class AddedClientBuilder implements HttpTrait<AddedClientBuilder>,
     @Generated
     @Override
     public AddedClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -131,6 +141,7 @@ public final class AddedClientBuilder implements HttpTrait<AddedClientBuilder>,
     @Generated
     @Override
     public AddedClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -147,6 +158,7 @@ public final class AddedClientBuilder implements HttpTrait<AddedClientBuilder>,
     @Generated
     @Override
     public AddedClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -157,6 +169,7 @@ public final class AddedClientBuilder implements HttpTrait<AddedClientBuilder>,
     @Generated
     @Override
     public AddedClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -174,6 +187,7 @@ public final class AddedClientBuilder implements HttpTrait<AddedClientBuilder>,
     @Generated
     @Override
     public AddedClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -190,6 +204,7 @@ public final class AddedClientBuilder implements HttpTrait<AddedClientBuilder>,
     @Generated
     @Override
     public AddedClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -208,6 +223,7 @@ public final class AddedClientBuilder implements HttpTrait<AddedClientBuilder>,
      */
     @Generated
     public AddedClientBuilder serviceVersion(AddedServiceVersion serviceVersion) {
+        this.createdHttpPipeline = null;
         this.serviceVersion = serviceVersion;
         return this;
     }
@@ -226,6 +242,7 @@ public final class AddedClientBuilder implements HttpTrait<AddedClientBuilder>,
      */
     @Generated
     public AddedClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -238,7 +255,7 @@ public final class AddedClientBuilder implements HttpTrait<AddedClientBuilder>,
     @Generated
     private AddedClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         AddedServiceVersion localServiceVersion
             = (serviceVersion != null) ? serviceVersion : AddedServiceVersion.getLatest();
         AddedClientImpl client = new AddedClientImpl(localPipeline, JacksonAdapter.createDefaultSerializerAdapter(),
@@ -288,6 +305,15 @@ public final class AddedClientBuilder implements HttpTrait<AddedClientBuilder>,
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of AddedAsyncClient class.
      * 
@@ -18,6 +18,7 @@ import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
 import versioning.added.implementation.InterfaceV2sImpl;
+import versioning.added.implementation.JsonSerializableHelper;
 import versioning.added.models.ModelV2;
 
 /**
@@ -95,7 +96,8 @@ public final class InterfaceV2AsyncClient {
     public Mono<ModelV2> v2InInterface(ModelV2 body) {
         // Generated convenience method for v2InInterfaceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return v2InInterfaceWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ModelV2.class));
+        return v2InInterfaceWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, ModelV2::fromJson));
     }
 }
@@ -16,6 +16,7 @@ import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import versioning.added.implementation.InterfaceV2sImpl;
+import versioning.added.implementation.JsonSerializableHelper;
 import versioning.added.models.ModelV2;
 
 /**
@@ -93,7 +94,8 @@ public final class InterfaceV2Client {
     public ModelV2 v2InInterface(ModelV2 body) {
         // Generated convenience method for v2InInterfaceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return v2InInterfaceWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(ModelV2.class);
+        return JsonSerializableHelper.fromBinaryData(
+            v2InInterfaceWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            ModelV2::fromJson);
     }
 }
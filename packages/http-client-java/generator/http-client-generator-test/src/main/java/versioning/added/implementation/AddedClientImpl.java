@@ -101,7 +101,7 @@ public final class AddedClientImpl {
     /**
      * The InterfaceV2sImpl object to access its operations.
      */
-    private final InterfaceV2sImpl interfaceV2s;
+    private volatile InterfaceV2sImpl interfaceV2s;
 
     /**
      * Gets the InterfaceV2sImpl object to access its operations.
@@ -109,7 +109,17 @@ public final class AddedClientImpl {
      * @return the InterfaceV2sImpl object.
      */
     public InterfaceV2sImpl getInterfaceV2s() {
-        return this.interfaceV2s;
+        InterfaceV2sImpl localInterfaceV2s = this.interfaceV2s;
+        if (localInterfaceV2s == null) {
+            synchronized (this) {
+                localInterfaceV2s = this.interfaceV2s;
+                if (localInterfaceV2s == null) {
+                    localInterfaceV2s = new InterfaceV2sImpl(this);
+                    this.interfaceV2s = localInterfaceV2s;
+                }
+            }
+        }
+        return localInterfaceV2s;
     }
 
     /**
@@ -148,7 +158,6 @@ public final class AddedClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.serviceVersion = serviceVersion;
-        this.interfaceV2s = new InterfaceV2sImpl(this);
         this.service = RestProxy.create(AddedClientService.class, this.httpPipeline, this.getSerializerAdapter());
     }
 
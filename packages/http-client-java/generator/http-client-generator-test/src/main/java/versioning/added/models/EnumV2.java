@@ -4,6 +4,10 @@
 
 package versioning.added.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for EnumV2.
  */
@@ -22,6 +26,17 @@ public enum EnumV2 {
         this.value = value;
     }
 
+    private static final Map<String, EnumV2> VALUES = new HashMap<>();
+
+    private static final Map<String, EnumV2> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (EnumV2 item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a EnumV2 instance.
      * 
@@ -32,13 +47,8 @@ public enum EnumV2 {
         if (value == null) {
             return null;
         }
-        EnumV2[] items = EnumV2.values();
-        for (EnumV2 item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        EnumV2 item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import versioning.madeoptional.implementation.JsonSerializableHelper;
 import versioning.madeoptional.implementation.MadeOptionalClientImpl;
 import versioning.madeoptional.models.TestModel;
 
@@ -104,8 +105,8 @@ public final class MadeOptionalAsyncClient {
         if (param != null) {
             requestOptions.addQueryParam("param", param, false);
         }
-        return testWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(TestModel.class));
+        return testWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, TestModel::fromJson));
     }
 
     /**
@@ -125,7 +126,7 @@ public final class MadeOptionalAsyncClient {
     public Mono<TestModel> test(TestModel body) {
         // Generated convenience method for testWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return testWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(TestModel.class));
+        return testWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, TestModel::fromJson));
     }
 }
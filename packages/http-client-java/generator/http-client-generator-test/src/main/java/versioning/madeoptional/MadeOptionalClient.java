@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import versioning.madeoptional.implementation.JsonSerializableHelper;
 import versioning.madeoptional.implementation.MadeOptionalClientImpl;
 import versioning.madeoptional.models.TestModel;
 
@@ -102,7 +103,9 @@ public final class MadeOptionalClient {
         if (param != null) {
             requestOptions.addQueryParam("param", param, false);
         }
-        return testWithResponse(BinaryData.fromObject(body), requestOptions).getValue().toObject(TestModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            testWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            TestModel::fromJson);
     }
 
     /**
@@ -122,6 +125,8 @@ public final class MadeOptionalClient {
     public TestModel test(TestModel body) {
         // Generated convenience method for testWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return testWithResponse(BinaryData.fromObject(body), requestOptions).getValue().toObject(TestModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            testWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            TestModel::fromJson);
     }
 }
@@ -55,6 +55,13 @@ public final class MadeOptionalClientBuilder implements HttpTrait<MadeOptionalCl
     @Generated
     private final List<HttpPipelinePolicy> pipelinePolicies;
 
+    /*
+     * The HTTP pipeline created from the configuration of the builder.
+     * It is shared by the clients built from the builder, until the configuration changes.
+     */
+    @Generated
+    private HttpPipeline createdHttpPipeline;
+
     /**
      * Create an instance of the MadeOptionalClientBuilder.
      */
@@ -75,6 +82,7 @@ public final class MadeOptionalClientBuilder implements HttpTrait<MadeOptionalCl
     @Generated
     @Override
     public MadeOptionalClientBuilder httpClient(HttpClient httpClient) {
+        this.createdHttpPipeline = null;
         this.httpClient = httpClient;
         return this;
     }
@@ -91,6 +99,7 @@ public final class MadeOptionalClientBuilder implements HttpTrait<MadeOptionalCl
     @Generated
     @Override
     public MadeOptionalClientBuilder pipeline(HttpPipeline pipeline) {
+        this.createdHttpPipeline = null;
         if (this.pipeline != null && pipeline == null) {
             LOGGER.atInfo().log("HttpPipeline is being set to 'null' when it was previously configured.");
         }
@@ -110,6 +119,7 @@ public final class MadeOptionalClientBuilder implements HttpTrait<MadeOptionalCl
     @Generated
     @Override
     public MadeOptionalClientBuilder httpLogOptions(HttpLogOptions httpLogOptions) {
+        this.createdHttpPipeline = null;
         this.httpLogOptions = httpLogOptions;
         return this;
     }
@@ -126,6 +136,7 @@ public final class MadeOptionalClientBuilder implements HttpTrait<MadeOptionalCl
     @Generated
     @Override
     public MadeOptionalClientBuilder clientOptions(ClientOptions clientOptions) {
+        this.createdHttpPipeline = null;
         this.clientOptions = clientOptions;
         return this;
     }
@@ -142,6 +153,7 @@ public final class MadeOptionalClientBuilder implements HttpTrait<MadeOptionalCl
     @Generated
     @Override
     public MadeOptionalClientBuilder retryOptions(RetryOptions retryOptions) {
+        this.createdHttpPipeline = null;
         this.retryOptions = retryOptions;
         return this;
     }
@@ -152,6 +164,7 @@ public final class MadeOptionalClientBuilder implements HttpTrait<MadeOptionalCl
     @Generated
     @Override
     public MadeOptionalClientBuilder addPolicy(HttpPipelinePolicy customPolicy) {
+        this.createdHttpPipeline = null;
         Objects.requireNonNull(customPolicy, "'customPolicy' cannot be null.");
         pipelinePolicies.add(customPolicy);
         return this;
@@ -169,6 +182,7 @@ public final class MadeOptionalClientBuilder implements HttpTrait<MadeOptionalCl
     @Generated
     @Override
     public MadeOptionalClientBuilder configuration(Configuration configuration) {
+        this.createdHttpPipeline = null;
         this.configuration = configuration;
         return this;
     }
@@ -185,6 +199,7 @@ public final class MadeOptionalClientBuilder implements HttpTrait<MadeOptionalCl
     @Generated
     @Override
     public MadeOptionalClientBuilder endpoint(String endpoint) {
+        this.createdHttpPipeline = null;
         this.endpoint = endpoint;
         return this;
     }
@@ -203,6 +218,7 @@ public final class MadeOptionalClientBuilder implements HttpTrait<MadeOptionalCl
      */
     @Generated
     public MadeOptionalClientBuilder serviceVersion(MadeOptionalServiceVersion serviceVersion) {
+        this.createdHttpPipeline = null;
         this.serviceVersion = serviceVersion;
         return this;
     }
@@ -221,6 +237,7 @@ public final class MadeOptionalClientBuilder implements HttpTrait<MadeOptionalCl
      */
     @Generated
     public MadeOptionalClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.createdHttpPipeline = null;
         this.retryPolicy = retryPolicy;
         return this;
     }
@@ -233,7 +250,7 @@ public final class MadeOptionalClientBuilder implements HttpTrait<MadeOptionalCl
     @Generated
     private MadeOptionalClientImpl buildInnerClient() {
         this.validateClient();
-        HttpPipeline localPipeline = (pipeline != null) ? pipeline : createHttpPipeline();
+        HttpPipeline localPipeline = (pipeline != null) ? pipeline : getOrCreateHttpPipeline();
         MadeOptionalServiceVersion localServiceVersion
             = (serviceVersion != null) ? serviceVersion : MadeOptionalServiceVersion.getLatest();
         MadeOptionalClientImpl client = new MadeOptionalClientImpl(localPipeline,
@@ -283,6 +300,15 @@ public final class MadeOptionalClientBuilder implements HttpTrait<MadeOptionalCl
         return httpPipeline;
     }
 
+    @Generated
+    private HttpPipeline getOrCreateHttpPipeline() {
+        // The pipeline is created once, and reused by the clients built with the same configuration.
+        if (this.createdHttpPipeline == null) {
+            this.createdHttpPipeline = createHttpPipeline();
+        }
+        return this.createdHttpPipeline;
+    }
+
     /**
      * Builds an instance of MadeOptionalAsyncClient class.
      * 
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import versioning.removed.implementation.JsonSerializableHelper;
 import versioning.removed.implementation.RemovedClientImpl;
 import versioning.removed.models.ModelV2;
 import versioning.removed.models.ModelV3;
@@ -134,8 +135,8 @@ public final class RemovedAsyncClient {
     public Mono<ModelV2> v2(ModelV2 body) {
         // Generated convenience method for v2WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return v2WithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ModelV2.class));
+        return v2WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, ModelV2::fromJson));
     }
 
     /**
@@ -155,7 +156,7 @@ public final class RemovedAsyncClient {
     public Mono<ModelV3> modelV3(ModelV3 body) {
         // Generated convenience method for modelV3WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return modelV3WithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(ModelV3.class));
+        return modelV3WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, ModelV3::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import versioning.removed.implementation.JsonSerializableHelper;
 import versioning.removed.implementation.RemovedClientImpl;
 import versioning.removed.models.ModelV2;
 import versioning.removed.models.ModelV3;
@@ -132,7 +133,8 @@ public final class RemovedClient {
     public ModelV2 v2(ModelV2 body) {
         // Generated convenience method for v2WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return v2WithResponse(BinaryData.fromObject(body), requestOptions).getValue().toObject(ModelV2.class);
+        return JsonSerializableHelper.fromBinaryData(
+            v2WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(), ModelV2::fromJson);
     }
 
     /**
@@ -152,6 +154,8 @@ public final class RemovedClient {
     public ModelV3 modelV3(ModelV3 body) {
         // Generated convenience method for modelV3WithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return modelV3WithResponse(BinaryData.fromObject(body), requestOptions).getValue().toObject(ModelV3.class);
+        return JsonSerializableHelper.fromBinaryData(
+            modelV3WithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            ModelV3::fromJson);
     }
 }
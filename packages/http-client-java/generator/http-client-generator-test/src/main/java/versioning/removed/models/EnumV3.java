@@ -4,6 +4,10 @@
 
 package versioning.removed.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for EnumV3.
  */
@@ -27,6 +31,17 @@ public enum EnumV3 {
         this.value = value;
     }
 
+    private static final Map<String, EnumV3> VALUES = new HashMap<>();
+
+    private static final Map<String, EnumV3> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (EnumV3 item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a EnumV3 instance.
      * 
@@ -37,13 +52,8 @@ public enum EnumV3 {
         if (value == null) {
             return null;
         }
-        EnumV3[] items = EnumV3.values();
-        for (EnumV3 item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        EnumV3 item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import versioning.renamedfrom.implementation.JsonSerializableHelper;
 import versioning.renamedfrom.implementation.NewInterfacesImpl;
 import versioning.renamedfrom.models.NewModel;
 
@@ -95,7 +96,8 @@ public final class NewInterfaceAsyncClient {
     public Mono<NewModel> newOpInNewInterface(NewModel body) {
         // Generated convenience method for newOpInNewInterfaceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return newOpInNewInterfaceWithResponse(BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(NewModel.class));
+        return newOpInNewInterfaceWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, NewModel::fromJson));
     }
 }
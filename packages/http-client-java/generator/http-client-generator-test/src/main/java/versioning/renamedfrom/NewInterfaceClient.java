@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import versioning.renamedfrom.implementation.JsonSerializableHelper;
 import versioning.renamedfrom.implementation.NewInterfacesImpl;
 import versioning.renamedfrom.models.NewModel;
 
@@ -93,7 +94,8 @@ public final class NewInterfaceClient {
     public NewModel newOpInNewInterface(NewModel body) {
         // Generated convenience method for newOpInNewInterfaceWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return newOpInNewInterfaceWithResponse(BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(NewModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            newOpInNewInterfaceWithResponse(JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            NewModel::fromJson);
     }
 }
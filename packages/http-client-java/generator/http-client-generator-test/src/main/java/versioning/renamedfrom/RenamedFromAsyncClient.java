@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import versioning.renamedfrom.implementation.JsonSerializableHelper;
 import versioning.renamedfrom.implementation.RenamedFromClientImpl;
 import versioning.renamedfrom.models.NewModel;
 
@@ -98,7 +99,8 @@ public final class RenamedFromAsyncClient {
     public Mono<NewModel> newOp(String newQuery, NewModel body) {
         // Generated convenience method for newOpWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return newOpWithResponse(newQuery, BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(NewModel.class));
+        return newOpWithResponse(newQuery, JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, NewModel::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import versioning.renamedfrom.implementation.JsonSerializableHelper;
 import versioning.renamedfrom.implementation.RenamedFromClientImpl;
 import versioning.renamedfrom.models.NewModel;
 
@@ -95,7 +96,8 @@ public final class RenamedFromClient {
     public NewModel newOp(String newQuery, NewModel body) {
         // Generated convenience method for newOpWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return newOpWithResponse(newQuery, BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(NewModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            newOpWithResponse(newQuery, JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            NewModel::fromJson);
     }
 }
@@ -102,7 +102,7 @@ public final class RenamedFromClientImpl {
     /**
      * The NewInterfacesImpl object to access its operations.
      */
-    private final NewInterfacesImpl newInterfaces;
+    private volatile NewInterfacesImpl newInterfaces;
 
     /**
      * Gets the NewInterfacesImpl object to access its operations.
@@ -110,7 +110,17 @@ public final class RenamedFromClientImpl {
      * @return the NewInterfacesImpl object.
      */
     public NewInterfacesImpl getNewInterfaces() {
-        return this.newInterfaces;
+        NewInterfacesImpl localNewInterfaces = this.newInterfaces;
+        if (localNewInterfaces == null) {
+            synchronized (this) {
+                localNewInterfaces = this.newInterfaces;
+                if (localNewInterfaces == null) {
+                    localNewInterfaces = new NewInterfacesImpl(this);
+                    this.newInterfaces = localNewInterfaces;
+                }
+            }
+        }
+        return localNewInterfaces;
     }
 
     /**
@@ -149,7 +159,6 @@ public final class RenamedFromClientImpl {
         this.serializerAdapter = serializerAdapter;
         this.endpoint = endpoint;
         this.serviceVersion = serviceVersion;
-        this.newInterfaces = new NewInterfacesImpl(this);
         this.service = RestProxy.create(RenamedFromClientService.class, this.httpPipeline, this.getSerializerAdapter());
     }
 
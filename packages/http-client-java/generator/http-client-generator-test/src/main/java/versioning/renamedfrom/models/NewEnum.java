@@ -4,6 +4,10 @@
 
 package versioning.renamedfrom.models;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Defines values for NewEnum.
  */
@@ -22,6 +26,17 @@ public enum NewEnum {
         this.value = value;
     }
 
+    private static final Map<String, NewEnum> VALUES = new HashMap<>();
+
+    private static final Map<String, NewEnum> CASE_INSENSITIVE_VALUES = new HashMap<>();
+
+    static {
+        for (NewEnum item : values()) {
+            VALUES.put(item.toString(), item);
+            CASE_INSENSITIVE_VALUES.putIfAbsent(item.toString().toLowerCase(Locale.ROOT), item);
+        }
+    }
+
     /**
      * Parses a serialized value to a NewEnum instance.
      * 
@@ -32,13 +47,8 @@ public enum NewEnum {
         if (value == null) {
             return null;
         }
-        NewEnum[] items = NewEnum.values();
-        for (NewEnum item : items) {
-            if (item.toString().equalsIgnoreCase(value)) {
-                return item;
-            }
-        }
-        return null;
+        NewEnum item = VALUES.get(value);
+        return item != null ? item : CASE_INSENSITIVE_VALUES.get(value.toLowerCase(Locale.ROOT));
     }
 
     /**
@@ -17,6 +17,7 @@ import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
 import com.azure.core.util.FluxUtil;
 import reactor.core.publisher.Mono;
+import versioning.typechangedfrom.implementation.JsonSerializableHelper;
 import versioning.typechangedfrom.implementation.TypeChangedFromClientImpl;
 import versioning.typechangedfrom.models.TestModel;
 
@@ -95,7 +96,8 @@ public final class TypeChangedFromAsyncClient {
     public Mono<TestModel> test(String param, TestModel body) {
         // Generated convenience method for testWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return testWithResponse(param, BinaryData.fromObject(body), requestOptions).flatMap(FluxUtil::toMono)
-            .map(protocolMethodData -> protocolMethodData.toObject(TestModel.class));
+        return testWithResponse(param, JsonSerializableHelper.toBinaryData(body), requestOptions)
+            .flatMap(FluxUtil::toMono)
+            .map(protocolMethodData -> JsonSerializableHelper.fromBinaryData(protocolMethodData, TestModel::fromJson));
     }
 }
@@ -15,6 +15,7 @@ import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.http.rest.RequestOptions;
 import com.azure.core.http.rest.Response;
 import com.azure.core.util.BinaryData;
+import versioning.typechangedfrom.implementation.JsonSerializableHelper;
 import versioning.typechangedfrom.implementation.TypeChangedFromClientImpl;
 import versioning.typechangedfrom.models.TestModel;
 
@@ -93,7 +94,8 @@ public final class TypeChangedFromClient {
     public TestModel test(String param, TestModel body) {
         // Generated convenience method for testWithResponse
         RequestOptions requestOptions = new RequestOptions();
-        return testWithResponse(param, BinaryData.fromObject(body), requestOptions).getValue()
-            .toObject(TestModel.class);
+        return JsonSerializableHelper.fromBinaryData(
+            testWithResponse(param, JsonSerializableHelper.toBinaryData(body), requestOptions).getValue(),
+            TestModel::fromJson);
     }
 }
@@ -0,0 +1,310 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package azure.core.basic;
+
+import azure.core.basic.models.User;
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpPipeline;
+import com.azure.core.http.HttpPipelineBuilder;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.test.http.MockHttpResponse;
+import com.azure.core.util.Context;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+public class ConditionalRequestCacheTests {
+
+    private static final String ENDPOINT = "http://localhost:3000";
+
+    @Test
+    public void testSync() {
+        MockService service = new MockService();
+        BasicClient client = new BasicClientBuilder().endpoint(ENDPOINT).httpClient(service).buildClient();
+
+        testClient(service, id -> client.get(id), (id, name) -> client.createOrReplace(id, new User().setName(name)));
+    }
+
+    @Test
+    public void testAsync() {
+        MockService service = new MockService();
+        BasicAsyncClient client = new BasicClientBuilder().endpoint(ENDPOINT).httpClient(service).buildAsyncClient();
+
+        testClient(service, id -> client.get(id).block(),
+            (id, name) -> client.createOrReplace(id, new User().setName(name)).block());
+    }
+
+    @Test
+    public void testBuilderPolicy() {
+        MockService service = new MockService();
+        ConditionalRequestCachePolicy policy = new ConditionalRequestCachePolicy(1024);
+        BasicClient client = new BasicClientBuilder().endpoint(ENDPOINT)
+            .httpClient(service)
+            .conditionalRequestCache(policy)
+            .buildClient();
+
+        // the request id added by the pipeline differs on each request, and is not part of the key
+        client.get(1);
+        client.get(1);
+        Assertions.assertEquals(304, service.lastStatusCode);
+        Assertions.assertEquals(1, policy.getHitCount());
+        Assertions.assertEquals(1, policy.getMissCount());
+        Assertions.assertEquals(service.bodyOf(1).length(), policy.getSizeInBytes());
+    }
+
+    @Test
+    public void testDisabled() {
+        MockService service = new MockService();
+        ConditionalRequestCachePolicy policy = new ConditionalRequestCachePolicy(0);
+        BasicClient client = new BasicClientBuilder().endpoint(ENDPOINT)
+            .httpClient(service)
+            .conditionalRequestCache(policy)
+            .buildClient();
+
+        client.get(1);
+        client.get(1);
+        Assertions.assertNull(service.lastIfNoneMatch);
+        Assertions.assertEquals(200, service.lastStatusCode);
+        Assertions.assertEquals(0, policy.getHitCount());
+        Assertions.assertEquals(0, policy.getSizeInBytes());
+    }
+
+    @Test
+    public void testKeyedByHeaders() {
+        MockService service = new MockService();
+        ConditionalRequestCachePolicy policy = new ConditionalRequestCachePolicy();
+        HttpPipeline pipeline = new HttpPipelineBuilder().policies(policy).httpClient(service).build();
+        String url = ENDPOINT + "/users/1";
+
+        sendSync(pipeline, url, "application/json", "a");
+        sendSync(pipeline, url, "application/json", "a");
+        Assertions.assertEquals(304, service.lastStatusCode);
+
+        // other Accept, or other header parameter, is another entry
+        sendSync(pipeline, url, "text/plain", "a");
+        Assertions.assertNull(service.lastIfNoneMatch);
+        sendSync(pipeline, url, "application/json", "b");
+        Assertions.assertNull(service.lastIfNoneMatch);
+        sendSync(pipeline, url, "application/json", "b");
+        Assertions.assertEquals(304, service.lastStatusCode);
+        Assertions.assertEquals(service.bodyOf(1).length() * 3L, policy.getSizeInBytes());
+
+        // PUT invalidates all the entries of the URL
+        pipeline.sendSync(new HttpRequest(HttpMethod.PUT, url).setBody("{\"name\":\"updated\"}"), Context.NONE).close();
+        Assertions.assertEquals(0, policy.getSizeInBytes());
+    }
+
+    @Test
+    public void testRevalidatedHeaders() {
+        MockService service = new MockService();
+        HttpPipeline pipeline
+            = new HttpPipelineBuilder().policies(new ConditionalRequestCachePolicy()).httpClient(service).build();
+        String url = ENDPOINT + "/users/1";
+
+        try (HttpResponse response = pipeline.sendSync(new HttpRequest(HttpMethod.GET, url), Context.NONE)) {
+            Assertions.assertEquals("1", response.getHeaderValue(MockService.RESPONSE_COUNT));
+        }
+        // the headers of the 304 response update the cached response, the body headers are kept
+        for (int count = 2; count <= 3; ++count) {
+            try (HttpResponse response = pipeline.sendSync(new HttpRequest(HttpMethod.GET, url), Context.NONE)) {
+                Assertions.assertEquals(304, service.lastStatusCode);
+                Assertions.assertEquals(200, response.getStatusCode());
+                Assertions.assertEquals(String.valueOf(count), response.getHeaderValue(MockService.RESPONSE_COUNT));
+                Assertions.assertEquals(String.valueOf(service.bodyOf(1).length()),
+                    response.getHeaderValue(HttpHeaderName.CONTENT_LENGTH));
+                Assertions.assertEquals(service.bodyOf(1), response.getBodyAsBinaryData().toString());
+            }
+        }
+    }
+
+    @Test
+    public void testEvictionSync() {
+        testEviction((pipeline, request) -> pipeline.sendSync(request, Context.NONE));
+    }
+
+    @Test
+    public void testEvictionAsync() {
+        testEviction((pipeline, request) -> pipeline.send(request).block());
+    }
+
+    @Test
+    public void testCachedBodyNotShared() {
+        MockService service = new MockService();
+        HttpPipeline pipeline
+            = new HttpPipelineBuilder().policies(new ConditionalRequestCachePolicy()).httpClient(service).build();
+        String url = ENDPOINT + "/users/1";
+        pipeline.sendSync(new HttpRequest(HttpMethod.GET, url), Context.NONE).close();
+
+        // served from cache, modify the bytes of the response
+        try (HttpResponse response = pipeline.sendSync(new HttpRequest(HttpMethod.GET, url), Context.NONE)) {
+            Assertions.assertEquals(304, service.lastStatusCode);
+            response.getBodyAsBinaryData().toBytes()[0] = 'x';
+        }
+        try (HttpResponse response = pipeline.sendSync(new HttpRequest(HttpMethod.GET, url), Context.NONE)) {
+            Assertions.assertEquals(304, service.lastStatusCode);
+            Assertions.assertEquals(service.bodyOf(1), response.getBodyAsBinaryData().toString());
+        }
+    }
+
+    private static void testClient(MockService service, Function<Integer, User> get, UserUpdate update) {
+        // miss, response cached
+        Assertions.assertEquals("user1", get.apply(1).getName());
+        Assertions.assertNull(service.lastIfNoneMatch);
+        Assertions.assertEquals(200, service.lastStatusCode);
+
+        // hit, revalidated by 304
+        Assertions.assertEquals("user1", get.apply(1).getName());
+        Assertions.assertEquals(service.etagOf(1), service.lastIfNoneMatch);
+        Assertions.assertEquals(304, service.lastStatusCode);
+        User user = get.apply(1);
+        Assertions.assertEquals("user1", user.getName());
+        Assertions.assertEquals(service.etagOf(1), user.getEtag());
+        Assertions.assertEquals(304, service.lastStatusCode);
+
+        // other URL is not affected
+        Assertions.assertEquals("user2", get.apply(2).getName());
+        Assertions.assertNull(service.lastIfNoneMatch);
+
+        // PUT invalidates the cached response
+        update.apply(1, "updated");
+        Assertions.assertEquals("updated", get.apply(1).getName());
+        Assertions.assertNull(service.lastIfNoneMatch);
+        Assertions.assertEquals(200, service.lastStatusCode);
+        Assertions.assertEquals("updated", get.apply(1).getName());
+        Assertions.assertEquals(304, service.lastStatusCode);
+
+        // 304 of URL 2 still served from cache
+        Assertions.assertEquals("user2", get.apply(2).getName());
+        Assertions.assertEquals(304, service.lastStatusCode);
+    }
+
+    private static void testEviction(Sender sender) {
+        MockService service = new MockService();
+        int bodySize = service.bodyOf(1).length();
+        // room for 2 bodies
+        ConditionalRequestCachePolicy policy = new ConditionalRequestCachePolicy(bodySize * 2L + bodySize / 2);
+        HttpPipeline pipeline = new HttpPipelineBuilder().policies(policy).httpClient(service).build();
+
+        List<String> urls = new ArrayList<>();
+        for (int id = 1; id <= 3; ++id) {
+            urls.add(ENDPOINT + "/users/" + id);
+        }
+
+        send(sender, pipeline, urls.get(0));
+        send(sender, pipeline, urls.get(1));
+        Assertions.assertEquals(bodySize * 2L, policy.getSizeInBytes());
+        // access 1, so that 2 is the least recently used
+        send(sender, pipeline, urls.get(0));
+        Assertions.assertEquals(304, service.lastStatusCode);
+        Assertions.assertEquals(1, policy.getHitCount());
+
+        // store of 3 evicts 2
+        send(sender, pipeline, urls.get(2));
+        Assertions.assertEquals(bodySize * 2L, policy.getSizeInBytes());
+        send(sender, pipeline, urls.get(1));
+        Assertions.assertNull(service.lastIfNoneMatch);
+        Assertions.assertEquals(200, service.lastStatusCode);
+        // store of 2 evicts 1
+        send(sender, pipeline, urls.get(0));
+        Assertions.assertNull(service.lastIfNoneMatch);
+        send(sender, pipeline, urls.get(2));
+        Assertions.assertNull(service.lastIfNoneMatch);
+
+        Assertions.assertEquals(1, policy.getHitCount());
+        Assertions.assertEquals(6, policy.getMissCount());
+        Assertions.assertEquals(1 / 7.0, policy.getHitRate(), 1e-9);
+        Assertions.assertEquals(bodySize * 2L, policy.getSizeInBytes());
+
+        // body larger than the cache is not cached
+        ConditionalRequestCachePolicy smallPolicy = new ConditionalRequestCachePolicy(bodySize - 1);
+        pipeline = new HttpPipelineBuilder().policies(smallPolicy).httpClient(service).build();
+        send(sender, pipeline, urls.get(0));
+        send(sender, pipeline, urls.get(0));
+        Assertions.assertNull(service.lastIfNoneMatch);
+        Assertions.assertEquals(0, smallPolicy.getSizeInBytes());
+    }
+
+    private static void sendSync(HttpPipeline pipeline, String url, String accept, String headerParameter) {
+        HttpRequest request = new HttpRequest(HttpMethod.GET, url).setHeader(HttpHeaderName.ACCEPT, accept)
+            .setHeader(HttpHeaderName.fromString("x-ms-header-parameter"), headerParameter);
+        try (HttpResponse response = pipeline.sendSync(request, Context.NONE)) {
+            Assertions.assertEquals(200, response.getStatusCode());
+        }
+    }
+
+    private static void send(Sender sender, HttpPipeline pipeline, String url) {
+        try (HttpResponse response = sender.send(pipeline, new HttpRequest(HttpMethod.GET, url))) {
+            Assertions.assertEquals(200, response.getStatusCode());
+            Assertions.assertEquals(response.getHeaderValue(HttpHeaderName.CONTENT_LENGTH),
+                String.valueOf(response.getBodyAsBinaryData().toBytes().length));
+        }
+    }
+
+    @FunctionalInterface
+    private interface UserUpdate {
+        void apply(int id, String name);
+    }
+
+    @FunctionalInterface
+    private interface Sender {
+        HttpResponse send(HttpPipeline pipeline, HttpRequest request);
+    }
+
+    /*
+     * Service of users, supports GET and PUT on "/users/{id}". Each update changes the ETag.
+     */
+    private static final class MockService implements HttpClient {
+        private static final HttpHeaderName RESPONSE_COUNT = HttpHeaderName.fromString("x-ms-response-count");
+
+        private final AtomicInteger responseCount = new AtomicInteger();
+        private final Map<Integer, String> names = new ConcurrentHashMap<>();
+        private final Map<Integer, Integer> versions = new ConcurrentHashMap<>();
+
+        private volatile String lastIfNoneMatch;
+        private volatile int lastStatusCode;
+
+        @Override
+        public Mono<HttpResponse> send(HttpRequest request) {
+            String path = request.getUrl().getPath();
+            int id = Integer.parseInt(path.substring(path.lastIndexOf('/') + 1));
+            if (request.getHttpMethod() == HttpMethod.PUT) {
+                names.put(id, request.getBodyAsBinaryData().toObject(User.class).getName());
+                versions.merge(id, 1, Integer::sum);
+            }
+            lastIfNoneMatch = request.getHeaders().getValue(HttpHeaderName.IF_NONE_MATCH);
+
+            HttpHeaders headers = new HttpHeaders().set(HttpHeaderName.ETAG, etagOf(id))
+                .set(HttpHeaderName.CONTENT_TYPE, "application/json")
+                .set(RESPONSE_COUNT, String.valueOf(responseCount.incrementAndGet()));
+            if (request.getHttpMethod() == HttpMethod.GET && etagOf(id).equals(lastIfNoneMatch)) {
+                lastStatusCode = 304;
+                return Mono.just(new MockHttpResponse(request, 304, headers));
+            }
+            byte[] body = bodyOf(id).getBytes(StandardCharsets.UTF_8);
+            headers.set(HttpHeaderName.CONTENT_LENGTH, String.valueOf(body.length));
+            lastStatusCode = 200;
+            return Mono.just(new MockHttpResponse(request, 200, headers, body));
+        }
+
+        private String etagOf(int id) {
+            return "\"" + id + "-" + versions.getOrDefault(id, 0) + "\"";
+        }
+
+        private String bodyOf(int id) {
+            return "{\"id\":" + id + ",\"name\":\"" + names.getOrDefault(id, "user" + id) + "\",\"etag\":\""
+                + etagOf(id).replace("\"", "\\\"") + "\"}";
+        }
+    }
+}
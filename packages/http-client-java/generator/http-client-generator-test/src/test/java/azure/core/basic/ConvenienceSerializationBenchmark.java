@@ -0,0 +1,94 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package azure.core.basic;
+
+import azure.core.basic.models.User;
+import azure.core.basic.models.UserOrder;
+import com.azure.core.util.BinaryData;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the request/response body handling of convenience methods.
+ * <p>
+ * "jsonSerializer" is the previous code, "BinaryData.fromObject(resource)" and "toObject(User.class)".
+ * "jsonSerializable" is the code of JsonSerializableHelper, which calls "toJson" and "fromJson" of the model.
+ * <p>
+ * Run with "mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main
+ * -Dexec.args=ConvenienceSerializationBenchmark".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConvenienceSerializationBenchmark {
+
+    private User user;
+    private byte[] responseBody;
+
+    @Setup
+    public void setup() throws IOException {
+        List<UserOrder> orders = new ArrayList<>();
+        for (int i = 0; i < 50; ++i) {
+            orders.add(new UserOrder().setUserId(1).setDetail("order detail " + i));
+        }
+        user = new User().setName("Madge").setOrders(orders);
+
+        StringBuilder sb = new StringBuilder("{\"id\":1,\"name\":\"Madge\",\"etag\":\"11bdc430\",\"orders\":[");
+        for (int i = 0; i < 50; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i).append(",\"userId\":1,\"detail\":\"order detail ").append(i).append("\"}");
+        }
+        sb.append("]}");
+        responseBody = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public long serializeWithJsonSerializer() {
+        return BinaryData.fromObject(user).getLength();
+    }
+
+    @Benchmark
+    public long serializeWithJsonSerializable() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(256);
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(outputStream)) {
+            user.toJson(jsonWriter).flush();
+        }
+        return BinaryData.fromByteBuffer(ByteBuffer.wrap(outputStream.toByteArray())).getLength();
+    }
+
+    @Benchmark
+    public User deserializeWithJsonSerializer() {
+        return BinaryData.fromBytes(responseBody).toObject(User.class);
+    }
+
+    @Benchmark
+    public User deserializeWithJsonSerializable() throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(BinaryData.fromBytes(responseBody).toBytes())) {
+            return User.fromJson(jsonReader);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package azure.core.basic;
+
+import azure.core.basic.models.User;
+import com.azure.core.util.BinaryData;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import type.model.usage.implementation.JsonSerializableHelper;
+
+/**
+ * Compares the deserialization of a response body that is not yet read, in convenience methods.
+ * <p>
+ * "buffered" is "JsonSerializableHelper.fromBinaryData", which reads the whole body into bytes before calling
+ * "fromJson". "stream" is "JsonSerializableHelper.fromBinaryDataStream", which calls "fromJson" on the buffers of the
+ * body as they are received. The body is either backed by an InputStream, as returned from OkHttp, or by a Flux of
+ * buffers, as returned from Netty.
+ * <p>
+ * Run with "mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main
+ * -Dexec.args='ResponseStreamDeserializationBenchmark -prof gc'", and compare "gc.alloc.rate.norm".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseStreamDeserializationBenchmark {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    @Param({ "1000", "100000" })
+    private int orderCount;
+
+    @Param({ "inputStream", "flux" })
+    private String bodySource;
+
+    private byte[] responseBody;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder("{\"id\":1,\"name\":\"Madge\",\"etag\":\"11bdc430\",\"orders\":[");
+        for (int i = 0; i < orderCount; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i).append(",\"userId\":1,\"detail\":\"order detail ").append(i).append("\"}");
+        }
+        sb.append("]}");
+        responseBody = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public User deserializeBuffered() {
+        return JsonSerializableHelper.fromBinaryData(responseBody(), User::fromJson);
+    }
+
+    @Benchmark
+    public User deserializeStream() {
+        return JsonSerializableHelper.fromBinaryDataStream(responseBody(), User::fromJson);
+    }
+
+    // the body of a response not eagerly read, as returned from the HTTP client
+    private BinaryData responseBody() {
+        if ("flux".equals(bodySource)) {
+            Flux<ByteBuffer> body = Flux.range(0, (responseBody.length + CHUNK_SIZE - 1) / CHUNK_SIZE)
+                .map(i -> ByteBuffer.wrap(responseBody, i * CHUNK_SIZE,
+                    Math.min(CHUNK_SIZE, responseBody.length - i * CHUNK_SIZE)));
+            return BinaryData.fromFlux(body, null, false).block();
+        } else {
+            return BinaryData.fromStream(new ByteArrayInputStream(responseBody));
+        }
+    }
+}
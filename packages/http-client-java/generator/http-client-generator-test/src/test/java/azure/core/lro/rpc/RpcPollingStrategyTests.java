@@ -0,0 +1,124 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package azure.core.lro.rpc;
+
+import azure.core.lro.rpc.models.GenerationOptions;
+import azure.core.lro.rpc.models.GenerationResult;
+import com.azure.core.exception.AzureException;
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.rest.RequestOptions;
+import com.azure.core.test.http.MockHttpResponse;
+import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
+import com.azure.core.util.polling.LongRunningOperationStatus;
+import com.azure.core.util.polling.PollerFlux;
+import com.azure.core.util.polling.SyncPoller;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+public class RpcPollingStrategyTests {
+
+    private static final String ENDPOINT = "http://localhost:3000";
+
+    // "result" follows properties of other shapes, which are skipped by the reader
+    private static final String SUCCEEDED_BODY = "{\"id\":\"operation1\",\"status\":\"Succeeded\","
+        + "\"error\":null,\"extra\":{\"result\":\"nested\",\"values\":[1,{\"result\":2}]},\"other\":\"result\","
+        + "\"result\":{\"data\":\"text data\"}}";
+
+    @Test
+    public void testSync() {
+        RpcClient client = new RpcClientBuilder().endpoint(ENDPOINT).httpClient(new MockService(SUCCEEDED_BODY)).buildClient();
+
+        SyncPoller<?, GenerationResult> poller = client.beginLongRunningRpc(new GenerationOptions("text"));
+        Assertions.assertEquals(LongRunningOperationStatus.SUCCESSFULLY_COMPLETED, poller.waitForCompletion().getStatus());
+        Assertions.assertEquals("text data", poller.getFinalResult().getData());
+    }
+
+    @Test
+    public void testAsync() {
+        RpcAsyncClient client
+            = new RpcClientBuilder().endpoint(ENDPOINT).httpClient(new MockService(SUCCEEDED_BODY)).buildAsyncClient();
+
+        PollerFlux<?, GenerationResult> poller = client.beginLongRunningRpc(new GenerationOptions("text"));
+        GenerationResult result = poller.last().flatMap(response -> response.getFinalResult()).block();
+        Assertions.assertEquals("text data", result.getData());
+    }
+
+    @Test
+    public void testProtocolMethod() {
+        RpcClientBuilder builder = new RpcClientBuilder().endpoint(ENDPOINT).httpClient(new MockService(SUCCEEDED_BODY));
+        BinaryData body = BinaryData.fromString("{\"prompt\":\"text\"}");
+
+        BinaryData result = builder.buildClient().beginLongRunningRpc(body, new RequestOptions()).getFinalResult();
+        Assertions.assertEquals("text data", result.toObject(GenerationResult.class).getData());
+
+        result = builder.buildAsyncClient()
+            .beginLongRunningRpc(body, new RequestOptions())
+            .last()
+            .flatMap(response -> response.getFinalResult())
+            .block();
+        Assertions.assertEquals("text data", result.toObject(GenerationResult.class).getData());
+    }
+
+    @Test
+    public void testMissingResult() {
+        String[] bodies = new String[] {
+            "{\"id\":\"operation1\",\"status\":\"Succeeded\"}",
+            "{\"id\":\"operation1\",\"status\":\"Succeeded\",\"result\":null}" };
+        for (String body : bodies) {
+            RpcClientBuilder builder = new RpcClientBuilder().endpoint(ENDPOINT).httpClient(new MockService(body));
+
+            SyncPoller<?, GenerationResult> syncPoller
+                = builder.buildClient().beginLongRunningRpc(new GenerationOptions("text"));
+            Assertions.assertThrows(AzureException.class, syncPoller::getFinalResult);
+
+            PollerFlux<?, GenerationResult> poller
+                = builder.buildAsyncClient().beginLongRunningRpc(new GenerationOptions("text"));
+            Assertions.assertThrows(AzureException.class,
+                () -> poller.last().flatMap(response -> response.getFinalResult()).block());
+        }
+    }
+
+    private static final class MockService implements HttpClient {
+        private static final String OPERATION_LOCATION
+            = ENDPOINT + "/azure/core/lro/rpc/generations/operations/operation1";
+
+        private final String succeededBody;
+
+        private MockService(String succeededBody) {
+            this.succeededBody = succeededBody;
+        }
+
+        @Override
+        public Mono<HttpResponse> send(HttpRequest request) {
+            return Mono.just(sendSync(request, null));
+        }
+
+        @Override
+        public HttpResponse sendSync(HttpRequest request, Context context) {
+            HttpHeaders headers = new HttpHeaders().set(HttpHeaderName.CONTENT_TYPE, "application/json")
+                .set(HttpHeaderName.fromString("retry-after-ms"), "1");
+            String path = request.getUrl().getPath();
+            if (request.getHttpMethod() == HttpMethod.POST && path.endsWith("/generations:submit")) {
+                headers.set(HttpHeaderName.fromString("Operation-Location"), OPERATION_LOCATION);
+                return response(request, 202, headers, "{\"id\":\"operation1\",\"status\":\"InProgress\"}");
+            } else if (request.getHttpMethod() == HttpMethod.GET && OPERATION_LOCATION.endsWith(path)) {
+                return response(request, 200, headers, succeededBody);
+            } else {
+                return response(request, 404, headers, "{}");
+            }
+        }
+
+        private static HttpResponse response(HttpRequest request, int statusCode, HttpHeaders headers, String body) {
+            return new MockHttpResponse(request, statusCode, headers, body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
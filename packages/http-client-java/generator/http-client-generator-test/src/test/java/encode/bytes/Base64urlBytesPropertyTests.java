@@ -0,0 +1,68 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package encode.bytes;
+
+import com.azure.core.util.Base64Url;
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonWriter;
+import encode.bytes.models.Base64urlBytesProperty;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Base64urlBytesPropertyTests {
+
+    @Test
+    public void testWireFormat() throws IOException {
+        // "-" and "_" are the characters where base64url differs from base64
+        byte[] data = new byte[] { (byte) 0xfb, (byte) 0xff, (byte) 0xbf };
+        String json = "{\"value\":\"-_-_\"}";
+
+        Assertions.assertEquals(json, toJsonString(new Base64urlBytesProperty(data)));
+        Assertions.assertArrayEquals(data, fromJsonString(json).getValue());
+
+        // null value is not written
+        Assertions.assertEquals("{}", toJsonString(new Base64urlBytesProperty(null)));
+        Assertions.assertNull(fromJsonString("{\"value\":null}").getValue());
+    }
+
+    @Test
+    public void testRoundTripMatchesBase64Url() throws IOException {
+        Random random = new Random(42);
+        for (int length = 0; length < 64; ++length) {
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+
+            // same wire format as the Base64Url wrapper, unpadded
+            String json = toJsonString(new Base64urlBytesProperty(data));
+            Assertions.assertEquals("{\"value\":\"" + Base64Url.encode(data) + "\"}", json);
+            Assertions.assertArrayEquals(data, fromJsonString(json).getValue());
+        }
+    }
+
+    @Test
+    public void testReadPadded() throws IOException {
+        // padding is accepted on read, as by the Base64Url wrapper
+        byte[] data = new byte[] { 1, 2, 3, 4 };
+        Assertions.assertArrayEquals(data, fromJsonString("{\"value\":\"AQIDBA==\"}").getValue());
+        Assertions.assertArrayEquals(data, new Base64Url("AQIDBA==").decodedBytes());
+    }
+
+    private static String toJsonString(Base64urlBytesProperty model) throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(stringWriter)) {
+            model.toJson(jsonWriter);
+        }
+        return stringWriter.toString();
+    }
+
+    private static Base64urlBytesProperty fromJsonString(String json) throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            return Base64urlBytesProperty.fromJson(jsonReader);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package encode.datetime;
+
+import com.azure.core.util.CoreUtils;
+import encode.datetime.implementation.DateTimeCodec;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DateTimeCodecTests {
+
+    private static final List<String> DATE_TIMES = List.of(
+        // fractional digits
+        "2024-01-02T03:04:05Z", "2024-01-02T03:04:05.1Z", "2024-01-02T03:04:05.12Z", "2024-01-02T03:04:05.123Z",
+        "2024-01-02T03:04:05.1234Z", "2024-01-02T03:04:05.12345Z", "2024-01-02T03:04:05.123456Z",
+        "2024-01-02T03:04:05.1234567Z", "2024-01-02T03:04:05.12345678Z", "2024-01-02T03:04:05.123456789Z",
+        "2024-01-02T03:04:05.000000000Z", "2024-01-02T03:04:05.1234567890Z", "2024-01-02T03:04:05.Z",
+        // offsets
+        "2024-01-02T03:04:05+00:00", "2024-01-02T03:04:05-00:00", "2024-01-02T03:04:05+08:00",
+        "2024-01-02T03:04:05.678-05:30", "2024-01-02T03:04:05+18:00", "2024-01-02T03:04:05-18:00",
+        "2024-01-02T03:04:05+18:01", "2024-01-02T03:04:05+19:00", "2024-01-02T03:04:05+08:60",
+        "2024-01-02T03:04:05+0800", "2024-01-02T03:04:05+08", "2024-01-02T03:04:05+08:00:30",
+        // "z" and "t"
+        "2024-01-02T03:04:05z", "2024-01-02t03:04:05Z", "2024-01-02t03:04:05.5z",
+        // years outside 0000-9999
+        "0000-01-01T00:00:00Z", "9999-12-31T23:59:59.999999999Z", "+10000-01-01T00:00:00Z", "-0001-01-01T00:00:00Z",
+        "+999999999-12-31T23:59:59Z", "10000-01-01T00:00:00Z",
+        // invalid fields
+        "2024-02-30T00:00:00Z", "2023-02-29T00:00:00Z", "2024-02-29T00:00:00Z", "2024-13-01T00:00:00Z",
+        "2024-01-01T24:00:00Z", "2024-01-01T23:60:00Z", "2024-01-01T23:59:60Z", "2024-1-01T00:00:00Z",
+        "2024-01-01 00:00:00Z", "2024-01-01T00:00Z", "2024-01-01T00:00:00", "2024-01-01T00:00:00.123",
+        "2024-01-01T00:00:00 Z", "2024-01-01T00:00:00Zabc", "", "abc", "2024-01-0aT00:00:00Z",
+        "2024-01-01T00:00:00[UTC]", "2024-01-01T00:00:00+08:00[Asia/Shanghai]");
+
+    private static final List<String> DURATIONS = List.of("PT0S", "PT1S", "PT1.5S", "PT0.000000001S",
+        "PT0.123456789S", "PT0.1234567891S", "PT1H", "PT1M", "PT1H30M", "PT36H", "P1D", "P1DT2H", "P1DT2.5S",
+        "P2DT3H4M5.678S", "PT999999999S", "PT9999999999S", "P999999999D", "PT-1S", "-PT1S", "PT+1S", "P-1D",
+        "PT1.S", "PT.5S", "PT1.5M", "P1.5D", "P1W", "P1M", "P1Y", "P", "PT", "P1DT", "PT1M1H", "PT1H1H", "pt1s",
+        "PT1s", "P1DT1H1M1S", "PT1H1M1.000000000S", "");
+
+    @Test
+    public void testParseDateTime() {
+        for (String value : DATE_TIMES) {
+            assertSameResult(OffsetDateTime::parse, DateTimeCodec::parseDateTime, value);
+            assertSameResult(CoreUtils::parseBestOffsetDateTime, DateTimeCodec::parseBestDateTime, value);
+        }
+    }
+
+    @Test
+    public void testParseDuration() {
+        for (String value : DURATIONS) {
+            assertSameResult(Duration::parse, DateTimeCodec::parseDuration, value);
+        }
+    }
+
+    @Test
+    public void testFormatDateTime() {
+        Assertions.assertNull(DateTimeCodec.formatDateTime(null));
+        for (String value : DATE_TIMES) {
+            OffsetDateTime dateTime;
+            try {
+                dateTime = OffsetDateTime.parse(value);
+            } catch (RuntimeException e) {
+                continue;
+            }
+            assertSameFormat(dateTime);
+        }
+        // offset of seconds
+        assertSameFormat(OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.ofTotalSeconds(3600 + 30)));
+    }
+
+    @Test
+    public void testRandomValues() {
+        Random random = new Random(42);
+        int[] nanos = { 0, 100_000_000, 120_000_000, 123_000_000, 123_400_000, 123_456_000, 123_456_700, 1, 10 };
+        for (int i = 0; i < 100_000; ++i) {
+            // years outside 0000-9999 as well
+            int year = random.nextInt(20) == 0 ? random.nextInt(40000) - 20000 : random.nextInt(10000);
+            int nano = random.nextBoolean() ? nanos[random.nextInt(nanos.length)] : random.nextInt(1_000_000_000);
+            int offsetSeconds = random.nextInt(10) == 0
+                ? random.nextInt(18 * 3600 * 2 + 1) - 18 * 3600
+                : (random.nextInt(18 * 4 * 2 + 1) - 18 * 4) * 15 * 60;
+            OffsetDateTime dateTime = OffsetDateTime.of(year, 1 + random.nextInt(12), 1 + random.nextInt(28),
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), nano,
+                ZoneOffset.ofTotalSeconds(offsetSeconds));
+
+            String value = assertSameFormat(dateTime);
+            assertSameResult(OffsetDateTime::parse, DateTimeCodec::parseDateTime, value);
+            assertSameResult(CoreUtils::parseBestOffsetDateTime, DateTimeCodec::parseBestDateTime, value);
+
+            Duration duration = Duration.ofSeconds(random.nextInt(Integer.MAX_VALUE), nano);
+            assertSameResult(Duration::parse, DateTimeCodec::parseDuration, duration.toString());
+            // days are written by CoreUtils.durationToStringWithDays
+            String durationWithDays = CoreUtils.durationToStringWithDays(duration);
+            assertSameResult(Duration::parse, DateTimeCodec::parseDuration, durationWithDays);
+        }
+    }
+
+    private static String assertSameFormat(OffsetDateTime dateTime) {
+        String expected = DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime);
+        Assertions.assertEquals(expected, DateTimeCodec.formatDateTime(dateTime));
+        return expected;
+    }
+
+    private static <T> void assertSameResult(Function<String, T> expected, Function<String, T> actual, String value) {
+        T expectedResult;
+        try {
+            expectedResult = expected.apply(value);
+        } catch (RuntimeException expectedException) {
+            RuntimeException actualException
+                = Assertions.assertThrows(RuntimeException.class, () -> actual.apply(value), value);
+            Assertions.assertEquals(expectedException.getClass(), actualException.getClass(), value);
+            Assertions.assertEquals(expectedException.getMessage(), actualException.getMessage(), value);
+            return;
+        }
+        Assertions.assertEquals(expectedResult, actual.apply(value), value);
+    }
+}
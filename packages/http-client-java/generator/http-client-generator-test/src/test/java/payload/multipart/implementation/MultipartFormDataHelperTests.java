@@ -0,0 +1,100 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package payload.multipart.implementation;
+
+import com.azure.core.http.rest.RequestOptions;
+import com.azure.core.util.BinaryData;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MultipartFormDataHelperTests {
+
+    private static final int FILE_COUNT = 5000;
+
+    @Test
+    public void testRequestBody() throws IOException {
+        BinaryData file = BinaryData.fromBytes("file-content".getBytes(StandardCharsets.UTF_8));
+        MultipartFormDataHelper helper
+            = new MultipartFormDataHelper(new RequestOptions()).serializeTextField("id", "123")
+                .serializeJsonField("address", Collections.singletonMap("city", "X"))
+                .serializeFileField("profileImage", file, "image/jpg", "image.jpg")
+                .serializeFileField("document", BinaryData.fromBytes(new byte[0]), null, null)
+                .serializeTextField("skipped", null)
+                .end();
+
+        BinaryData requestBody = helper.getRequestBody();
+        byte[] body = readAllBytes(requestBody);
+        String boundary = getBoundary(body);
+
+        String expected = "--" + boundary + "\r\n" + "Content-Disposition: form-data; name=\"id\"\r\n\r\n123\r\n" + "--"
+            + boundary + "\r\n" + "Content-Disposition: form-data; name=\"address\"\r\n"
+            + "Content-Type: application/json\r\n\r\n{\"city\":\"X\"}\r\n" + "--" + boundary + "\r\n"
+            + "Content-Disposition: form-data; name=\"profileImage\"; filename=\"image.jpg\"\r\n"
+            + "Content-Type: image/jpg\r\n\r\nfile-content\r\n" + "--" + boundary + "\r\n"
+            + "Content-Disposition: form-data; name=\"document\"\r\n"
+            + "Content-Type: application/octet-stream\r\n\r\n\r\n" + "--" + boundary + "--";
+        Assertions.assertEquals(expected, new String(body, StandardCharsets.UTF_8));
+        Assertions.assertEquals(body.length, requestBody.getLength());
+    }
+
+    @Test
+    public void testManyFileParts() throws IOException {
+        // each file is a separate part of the stream, parts are read one after another without nesting
+        List<BinaryData> files = new ArrayList<>(FILE_COUNT);
+        List<String> contentTypes = new ArrayList<>(FILE_COUNT);
+        List<String> filenames = new ArrayList<>(FILE_COUNT);
+        for (int i = 0; i < FILE_COUNT; ++i) {
+            byte[] content = String.valueOf(i).getBytes(StandardCharsets.UTF_8);
+            files.add(BinaryData.fromStream(new ByteArrayInputStream(content), (long) content.length));
+            contentTypes.add("text/plain");
+            filenames.add("file" + i + ".txt");
+        }
+
+        MultipartFormDataHelper helper = new MultipartFormDataHelper(new RequestOptions())
+            .serializeFileFields("files", files, contentTypes, filenames)
+            .end();
+
+        BinaryData requestBody = helper.getRequestBody();
+        byte[] body = readAllBytes(requestBody);
+        String boundary = getBoundary(body);
+        Assertions.assertEquals(body.length, requestBody.getLength());
+
+        String bodyString = new String(body, StandardCharsets.UTF_8);
+        Assertions.assertTrue(bodyString.endsWith("--" + boundary + "--"));
+        List<String> parts = Arrays.asList(bodyString.split("--" + boundary + "(\r\n|--)"));
+        // leading empty string before the first separator
+        Assertions.assertEquals(FILE_COUNT + 1, parts.size());
+        for (int i = 0; i < FILE_COUNT; ++i) {
+            Assertions.assertEquals("Content-Disposition: form-data; name=\"files\"; filename=\"file" + i
+                + ".txt\"\r\nContent-Type: text/plain\r\n\r\n" + i + "\r\n", parts.get(i + 1));
+        }
+    }
+
+    private static byte[] readAllBytes(BinaryData data) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (InputStream inputStream = data.toStream()) {
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static String getBoundary(byte[] body) {
+        String bodyString = new String(body, StandardCharsets.UTF_8);
+        Assertions.assertTrue(bodyString.startsWith("--"));
+        return bodyString.substring(2, bodyString.indexOf("\r\n"));
+    }
+}
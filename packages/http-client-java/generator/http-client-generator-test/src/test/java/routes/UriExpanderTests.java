@@ -0,0 +1,79 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package routes;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import routes.implementation.UriExpander;
+
+public class UriExpanderTests {
+
+    private static final List<String> ARRAY = List.of("a", "b");
+    private static final Map<String, Integer> RECORD = new LinkedHashMap<>();
+
+    static {
+        RECORD.put("a", 1);
+        RECORD.put("b", 2);
+    }
+
+    @Test
+    public void testPathExpansion() {
+        // expected paths of routes/path/path
+        Assertions.assertEquals("/a", UriExpander.path("a", false));
+        Assertions.assertEquals("/a,b", UriExpander.path(ARRAY, false));
+        Assertions.assertEquals("/a,1,b,2", UriExpander.path(RECORD, false));
+
+        Assertions.assertEquals("/a", UriExpander.path("a", true));
+        Assertions.assertEquals("/a/b", UriExpander.path(ARRAY, true));
+        Assertions.assertEquals("/a=1/b=2", UriExpander.path(RECORD, true));
+    }
+
+    @Test
+    public void testLabelExpansion() {
+        // expected paths of routes/path/label
+        Assertions.assertEquals(".a", UriExpander.label("a", false));
+        Assertions.assertEquals(".a,b", UriExpander.label(ARRAY, false));
+        Assertions.assertEquals(".a,1,b,2", UriExpander.label(RECORD, false));
+
+        Assertions.assertEquals(".a", UriExpander.label("a", true));
+        Assertions.assertEquals(".a.b", UriExpander.label(ARRAY, true));
+        Assertions.assertEquals(".a=1.b=2", UriExpander.label(RECORD, true));
+    }
+
+    @Test
+    public void testMatrixExpansion() {
+        // expected paths of routes/path/matrix
+        Assertions.assertEquals(";param=a", UriExpander.matrix("param", "a", false));
+        Assertions.assertEquals(";param=a,b", UriExpander.matrix("param", ARRAY, false));
+        Assertions.assertEquals(";param=a,1,b,2", UriExpander.matrix("param", RECORD, false));
+
+        Assertions.assertEquals(";param=a", UriExpander.matrix("param", "a", true));
+        Assertions.assertEquals(";param=a;param=b", UriExpander.matrix("param", ARRAY, true));
+        Assertions.assertEquals(";a=1;b=2", UriExpander.matrix("param", RECORD, true));
+    }
+
+    @Test
+    public void testReservedExpansion() {
+        // reserved characters are kept, other characters are encoded
+        Assertions.assertEquals("foo/bar%20baz", UriExpander.reserved("foo/bar baz", false));
+        // percent-encoded triplet is not encoded again
+        Assertions.assertEquals("foo/bar%20baz", UriExpander.reserved("foo/bar%20baz", false));
+        Assertions.assertEquals("#foo/bar", UriExpander.fragment("foo/bar", false));
+    }
+
+    @Test
+    public void testEncoding() {
+        Assertions.assertEquals(".foo%2Fbar%20baz", UriExpander.label("foo/bar baz", false));
+        Assertions.assertEquals("/%C3%A9%E2%82%AC%F0%9F%98%80", UriExpander.path("é€😀", false));
+        // null and empty values are undefined
+        Assertions.assertEquals("", UriExpander.label(null, false));
+        Assertions.assertEquals("", UriExpander.path(List.of(), true));
+        Assertions.assertEquals("/a", UriExpander.path(Arrays.asList(null, "a"), true));
+        Assertions.assertEquals(";param", UriExpander.matrix("param", "", false));
+    }
+}
@@ -0,0 +1,168 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package streaming.jsonl;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.test.http.MockHttpResponse;
+import com.azure.core.util.BinaryData;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonToken;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import streaming.jsonl.implementation.JsonLines;
+
+public class JsonLinesTests {
+
+    private static final int RECORD_COUNT = 1024;
+
+    @Test
+    public void testReadReplayableBody() {
+        BinaryData body = BinaryData.fromString("{\"desc\":\"one\"}\n\n{\"desc\":\"two\"}\n");
+        try (Stream<Info> records = JsonLines.read(body, Info::fromJson)) {
+            Assertions.assertEquals(List.of("one", "two"), records.map(Info::getDesc).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testReadLazily() {
+        // e.g. body of Netty, one record per buffer
+        AtomicInteger emittedCount = new AtomicInteger();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flux<ByteBuffer> flux = Flux.range(0, RECORD_COUNT)
+            .map(i -> ByteBuffer.wrap(("{\"desc\":\"" + i + "\"}\n").getBytes(StandardCharsets.UTF_8)))
+            .doOnNext(buffer -> emittedCount.incrementAndGet())
+            .doOnCancel(() -> cancelled.set(true));
+        BinaryData body = BinaryData.fromFlux(flux, null, false).block();
+        Assertions.assertFalse(body.isReplayable());
+
+        try (Stream<Info> records = JsonLines.read(body, Info::fromJson)) {
+            Iterator<Info> iterator = records.iterator();
+            Assertions.assertEquals("0", iterator.next().getDesc());
+            Assertions.assertEquals("1", iterator.next().getDesc());
+
+            // the body is not collected before the records are read
+            Assertions.assertTrue(emittedCount.get() < RECORD_COUNT, "emitted " + emittedCount.get());
+        }
+        // the rest of the body is cancelled when the stream is closed
+        Assertions.assertTrue(cancelled.get());
+        Assertions.assertTrue(emittedCount.get() < RECORD_COUNT, "emitted " + emittedCount.get());
+    }
+
+    @Test
+    public void testWriteChunked() throws IOException {
+        AtomicInteger serializedCount = new AtomicInteger();
+        List<Info> records = IntStream.range(0, RECORD_COUNT)
+            .mapToObj(i -> new Info(String.valueOf(i), serializedCount))
+            .collect(Collectors.toList());
+        String expected
+            = IntStream.range(0, RECORD_COUNT).mapToObj(i -> "{\"desc\":\"" + i + "\"}\n").collect(Collectors.joining());
+
+        BinaryData body = JsonLines.write(records);
+        Assertions.assertFalse(body.isReplayable());
+        // the records are serialized once to count the length, for the Content-Length of the request
+        Assertions.assertEquals(expected.length(), body.getLength());
+        Assertions.assertEquals(RECORD_COUNT, serializedCount.get());
+
+        StringBuilder content = new StringBuilder();
+        try (InputStream inputStream = body.toStream()) {
+            byte[] chunk = new byte[8];
+            int count = inputStream.read(chunk);
+            content.append(new String(chunk, 0, count, StandardCharsets.UTF_8));
+            // a record is serialized again only when the body is read up to it
+            Assertions.assertEquals(RECORD_COUNT + 1, serializedCount.get());
+
+            while ((count = inputStream.read(chunk)) != -1) {
+                content.append(new String(chunk, 0, count, StandardCharsets.UTF_8));
+            }
+        }
+        Assertions.assertEquals(2 * RECORD_COUNT, serializedCount.get());
+        Assertions.assertEquals(expected, content.toString());
+    }
+
+    @Test
+    public void testClient() {
+        AtomicReference<String> requestBody = new AtomicReference<>();
+        HttpClient httpClient = request -> {
+            HttpHeaders headers = new HttpHeaders().set(HttpHeaderName.CONTENT_TYPE, "application/jsonl");
+            if (request.getHttpMethod() == HttpMethod.POST) {
+                requestBody.set(request.getBodyAsBinaryData().toString());
+                return Mono.just(new MockHttpResponse(request, 204, headers));
+            } else {
+                return Mono.just(new MockHttpResponse(request, 200, headers,
+                    "{\"desc\":\"one\"}\n{\"desc\":\"two\"}\n".getBytes(StandardCharsets.UTF_8)));
+            }
+        };
+        JsonlClient client
+            = new JsonlClientBuilder().endpoint("http://localhost:3000").httpClient(httpClient).buildClient();
+
+        client.send(List.of(new Info("one"), new Info("two")));
+        Assertions.assertEquals("{\"desc\":\"one\"}\n{\"desc\":\"two\"}\n", requestBody.get());
+
+        try (Stream<Info> records = client.receive(Info::fromJson)) {
+            Assertions.assertEquals(List.of("one", "two"), records.map(Info::getDesc).collect(Collectors.toList()));
+        }
+    }
+
+    private static final class Info implements JsonSerializable<Info> {
+        private final String desc;
+        private final AtomicInteger serializedCount;
+
+        private Info(String desc) {
+            this(desc, new AtomicInteger());
+        }
+
+        private Info(String desc, AtomicInteger serializedCount) {
+            this.desc = desc;
+            this.serializedCount = serializedCount;
+        }
+
+        private String getDesc() {
+            return desc;
+        }
+
+        @Override
+        public JsonWriter toJson(JsonWriter jsonWriter) throws IOException {
+            serializedCount.incrementAndGet();
+            jsonWriter.writeStartObject();
+            jsonWriter.writeStringField("desc", this.desc);
+            return jsonWriter.writeEndObject();
+        }
+
+        private static Info fromJson(JsonReader jsonReader) throws IOException {
+            return jsonReader.readObject(reader -> {
+                String desc = null;
+                while (reader.nextToken() != JsonToken.END_OBJECT) {
+                    String fieldName = reader.getFieldName();
+                    reader.nextToken();
+
+                    if ("desc".equals(fieldName)) {
+                        desc = reader.getString();
+                    } else {
+                        reader.skipChildren();
+                    }
+                }
+                return new Info(desc);
+            });
+        }
+    }
+}
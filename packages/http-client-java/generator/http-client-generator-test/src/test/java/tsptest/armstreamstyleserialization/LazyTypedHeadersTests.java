@@ -0,0 +1,75 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package tsptest.armstreamstyleserialization;
+
+import com.azure.core.http.HttpHeaderName;
+import com.azure.core.http.HttpHeaders;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import tsptest.armstreamstyleserialization.models.FunctionsCreateFunctionHeaders;
+
+public class LazyTypedHeadersTests {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int ITERATION_COUNT = 100;
+
+    @Test
+    public void testFirstAccess() {
+        HttpHeaders rawHeaders = Mockito.spy(new HttpHeaders().set(HttpHeaderName.ETAG, "etag1"));
+        FunctionsCreateFunctionHeaders headers = new FunctionsCreateFunctionHeaders(rawHeaders);
+
+        // not decoded in constructor
+        Mockito.verify(rawHeaders, Mockito.never()).getValue(Mockito.any(HttpHeaderName.class));
+        rawHeaders.set(HttpHeaderName.ETAG, "etag2");
+
+        // decoded on first access, then only once
+        Assertions.assertEquals("etag2", headers.etag());
+        rawHeaders.set(HttpHeaderName.ETAG, "etag3");
+        Assertions.assertEquals("etag2", headers.etag());
+        Mockito.verify(rawHeaders, Mockito.times(1)).getValue(HttpHeaderName.ETAG);
+
+        // absent header is decoded as null, and only once as well
+        rawHeaders = Mockito.spy(new HttpHeaders());
+        headers = new FunctionsCreateFunctionHeaders(rawHeaders);
+        Assertions.assertNull(headers.etag());
+        rawHeaders.set(HttpHeaderName.ETAG, "etag1");
+        Assertions.assertNull(headers.etag());
+        Mockito.verify(rawHeaders, Mockito.times(1)).getValue(HttpHeaderName.ETAG);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            for (int i = 0; i < ITERATION_COUNT; ++i) {
+                String etag = "etag" + i;
+                FunctionsCreateFunctionHeaders headers
+                    = new FunctionsCreateFunctionHeaders(new HttpHeaders().set(HttpHeaderName.ETAG, etag));
+
+                // all threads access the property of the same instance for the first time
+                CyclicBarrier barrier = new CyclicBarrier(THREAD_COUNT);
+                List<Future<String>> results = new ArrayList<>();
+                for (int j = 0; j < THREAD_COUNT; ++j) {
+                    results.add(executor.submit(() -> {
+                        barrier.await();
+                        return headers.etag();
+                    }));
+                }
+                for (Future<String> result : results) {
+                    Assertions.assertEquals(etag, result.get(10, TimeUnit.SECONDS));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
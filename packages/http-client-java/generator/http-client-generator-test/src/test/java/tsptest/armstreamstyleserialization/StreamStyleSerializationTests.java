@@ -27,6 +27,7 @@ import org.utils.ArmUtils;
 import reactor.core.publisher.Mono;
 import tsptest.armstreamstyleserialization.fluent.models.FunctionConfiguration;
 import tsptest.armstreamstyleserialization.models.ErrorMax;
+import tsptest.armstreamstyleserialization.models.Fish;
 import tsptest.armstreamstyleserialization.models.Priority;
 import tsptest.armstreamstyleserialization.models.SawShark;
 import tsptest.armstreamstyleserialization.models.Shark;
@@ -36,7 +37,10 @@ public class StreamStyleSerializationTests {
     public void testDuplicatePropertiesSerialization() throws IOException {
         // SawShark has "age" property in both itself, and its parent "Fish".
         int age = 10;
-        SawShark model = new SawShark().withAge(age).withDna("upi");
+        SawShark model = new SawShark().withAge(age)
+            .withDna("upi")
+            .withRequiredString("any")
+            .withRequiredStringAnotherPropertiesRequiredString("any");
         StringWriter stringWriter = new StringWriter();
         JsonWriter jsonWriter = JsonProviders.createWriter(stringWriter);
         model.toJson(jsonWriter);
@@ -76,6 +80,35 @@ public class StreamStyleSerializationTests {
         shark.validate();
     }
 
+    @Test
+    public void testValidateInSerialization() {
+        AtomicInteger callCount = new AtomicInteger();
+        HttpClient httpClient = request -> {
+            callCount.incrementAndGet();
+            return Mono.just(new MockHttpResponse(request, 200, request.getHeaders(),
+                request.getBodyAsBinaryData().toBytes()));
+        };
+        ArmResourceProviderManager manager = ArmResourceProviderManager
+            .authenticate(new HttpPipelineBuilder().httpClient(httpClient).build(), ArmUtils.getAzureProfile());
+
+        // required property of the nested model is checked in its toJson, with the same message as validate()
+        Shark shark = new Shark().withAge(1).withRequiredString("any");
+        IllegalArgumentException validateException
+            = Assertions.assertThrows(IllegalArgumentException.class, shark::validate);
+        IllegalArgumentException serializeException
+            = Assertions.assertThrows(IllegalArgumentException.class, () -> toJsonString(shark));
+        Assertions.assertEquals(validateException.getMessage(), serializeException.getMessage());
+
+        // the client method does not call validate(), the request fails in serialization before it is sent
+        Assertions.assertThrows(RuntimeException.class, () -> manager.fishes().putModel(shark));
+        Assertions.assertEquals(0, callCount.get());
+
+        shark.withRequiredStringAnotherPropertiesRequiredString("any");
+        Fish fish = manager.fishes().putModel(shark);
+        Assertions.assertEquals(1, callCount.get());
+        Assertions.assertEquals(1, fish.age());
+    }
+
     @Test
     public void testExpandableEnum() {
         HttpClient httpClient = createExpandableEnumHttpClient();
@@ -183,6 +216,14 @@ public class StreamStyleSerializationTests {
         Instant.ofEpochSecond(Integer.MAX_VALUE);
     }
 
+    private static String toJsonString(JsonSerializable<?> model) throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(stringWriter)) {
+            model.toJson(jsonWriter);
+        }
+        return stringWriter.toString();
+    }
+
     private static HttpClient createExpandableEnumHttpClient() {
         AtomicInteger callCount = new AtomicInteger();
         HttpClient httpClient = request -> {
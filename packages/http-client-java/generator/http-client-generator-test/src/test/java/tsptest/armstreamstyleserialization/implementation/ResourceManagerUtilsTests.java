@@ -0,0 +1,293 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package tsptest.armstreamstyleserialization.implementation;
+
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.rest.PagedIterable;
+import com.azure.core.http.rest.PagedResponse;
+import com.azure.core.http.rest.PagedResponseBase;
+import com.azure.core.util.CoreUtils;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ResourceManagerUtilsTests {
+
+    private static final int PAGE_COUNT = 3;
+    private static final int PAGE_SIZE = 4;
+
+    private static final String ID
+        = "/subscriptions/sub1/resourceGroups/rg1/providers/Microsoft.Foo/foos/foo1/bars/bar1";
+    private static final String PATH_TEMPLATE
+        = "/subscriptions/{subscriptionId}/resourceGroups/{resourceGroupName}/providers/Microsoft.Foo/foos/{fooName}/bars/{barName}";
+    private static final String SCOPE_PATH_TEMPLATE = "/{resourceUri}/providers/Microsoft.Foo/bars/{barName}";
+
+    @Test
+    public void testGetValueFromIdByName() {
+        Assertions.assertEquals("sub1", ResourceManagerUtils.getValueFromIdByName(ID, "subscriptions"));
+        Assertions.assertEquals("rg1", ResourceManagerUtils.getValueFromIdByName(ID, "resourceGroups"));
+        Assertions.assertEquals("bar1", ResourceManagerUtils.getValueFromIdByName(ID, "bars"));
+        // name is case-insensitive, value keeps its case
+        Assertions.assertEquals("rg1", ResourceManagerUtils.getValueFromIdByName(ID, "RESOURCEGROUPS"));
+        Assertions.assertEquals("Microsoft.Foo", ResourceManagerUtils.getValueFromIdByName(ID, "Providers"));
+        // value of the first match
+        Assertions.assertEquals("b", ResourceManagerUtils.getValueFromIdByName("/a/b/a/c", "a"));
+
+        // empty segments, no leading slash, trailing slash
+        Assertions.assertEquals("rg1",
+            ResourceManagerUtils.getValueFromIdByName("//subscriptions/sub1//resourceGroups/rg1/", "resourceGroups"));
+        // value is the next segment, even if empty
+        Assertions.assertEquals("",
+            ResourceManagerUtils.getValueFromIdByName("/subscriptions//sub1/resourceGroups/rg1", "subscriptions"));
+        Assertions.assertEquals("rg1",
+            ResourceManagerUtils.getValueFromIdByName("subscriptions/sub1/resourceGroups/rg1", "resourceGroups"));
+        Assertions.assertEquals("rg1",
+            ResourceManagerUtils.getValueFromIdByName("subscriptions/sub1/resourceGroups/rg1///", "resourceGroups"));
+
+        // name at the end, or not in the id
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByName("/subscriptions/sub1/foos", "foos"));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByName("/subscriptions/sub1/foos/", "foos"));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByName(ID, "bazs"));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByName(ID, "sub"));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByName(ID, ""));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByName(ID, null));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByName(null, "subscriptions"));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByName("", "subscriptions"));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByName("///", "subscriptions"));
+    }
+
+    @Test
+    public void testGetValueFromIdByParameterName() {
+        Assertions.assertEquals("sub1",
+            ResourceManagerUtils.getValueFromIdByParameterName(ID, PATH_TEMPLATE, "subscriptionId"));
+        Assertions.assertEquals("rg1",
+            ResourceManagerUtils.getValueFromIdByParameterName(ID, PATH_TEMPLATE, "resourceGroupName"));
+        Assertions.assertEquals("foo1",
+            ResourceManagerUtils.getValueFromIdByParameterName(ID, PATH_TEMPLATE, "fooName"));
+        Assertions.assertEquals("bar1",
+            ResourceManagerUtils.getValueFromIdByParameterName(ID, PATH_TEMPLATE, "barName"));
+        // parameter name is case-insensitive
+        Assertions.assertEquals("rg1",
+            ResourceManagerUtils.getValueFromIdByParameterName(ID, PATH_TEMPLATE, "RESOURCEGROUPNAME"));
+
+        // id is matched to the template from the end, empty segments of the id are skipped
+        Assertions.assertEquals("bar1",
+            ResourceManagerUtils.getValueFromIdByParameterName(ID + "/", PATH_TEMPLATE, "barName"));
+        Assertions.assertEquals("foo1",
+            ResourceManagerUtils.getValueFromIdByParameterName("foos/foo1/bars/bar1", PATH_TEMPLATE, "fooName"));
+        Assertions.assertNull(
+            ResourceManagerUtils.getValueFromIdByParameterName("foos/foo1/bars/bar1", PATH_TEMPLATE, "subscriptionId"));
+
+        // parameter not in the template
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByParameterName(ID, PATH_TEMPLATE, "bazName"));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByParameterName(ID, PATH_TEMPLATE, "bars"));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByParameterName(ID, PATH_TEMPLATE, null));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByParameterName(ID, null, "barName"));
+        Assertions.assertNull(ResourceManagerUtils.getValueFromIdByParameterName(null, PATH_TEMPLATE, "barName"));
+    }
+
+    @Test
+    public void testGetValueFromIdByScopeParameterName() {
+        // scope takes the remaining segments of the id, without the leading slash
+        String id = "/subscriptions/sub1/resourceGroups/rg1/providers/Microsoft.Foo/bars/bar1";
+        Assertions.assertEquals("subscriptions/sub1/resourceGroups/rg1",
+            ResourceManagerUtils.getValueFromIdByParameterName(id, SCOPE_PATH_TEMPLATE, "resourceUri"));
+        Assertions.assertEquals("bar1",
+            ResourceManagerUtils.getValueFromIdByParameterName(id, SCOPE_PATH_TEMPLATE, "barName"));
+        Assertions.assertEquals("subscriptions/sub1/resourceGroups/rg1/providers/Microsoft.Foo/foos/foo1",
+            ResourceManagerUtils.getValueFromIdByParameterName(ID, "/{scope}/bars/{barName}", "scope"));
+        Assertions.assertEquals("subscriptions/sub1", ResourceManagerUtils.getValueFromIdByParameterName(
+            "subscriptions/sub1/providers/Microsoft.Foo/bars/bar1", SCOPE_PATH_TEMPLATE.substring(1), "resourceUri"));
+        // only the empty segment of the leading slash is removed, other empty segments within the scope are kept
+        Assertions.assertEquals("subscriptions//sub1", ResourceManagerUtils.getValueFromIdByParameterName(
+            "/subscriptions//sub1/providers/Microsoft.Foo/bars/bar1", SCOPE_PATH_TEMPLATE, "resourceUri"));
+        Assertions.assertEquals("/subscriptions/sub1", ResourceManagerUtils.getValueFromIdByParameterName(
+            "//subscriptions/sub1/providers/Microsoft.Foo/bars/bar1", SCOPE_PATH_TEMPLATE, "resourceUri"));
+    }
+
+    @Test
+    public void testPathTemplateSegmentsCache() throws ReflectiveOperationException {
+        Field field = ResourceManagerUtils.ResourceId.class.getDeclaredField("PATH_TEMPLATE_SEGMENTS");
+        field.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        Map<String, String[]> pathTemplateSegments = (Map<String, String[]>) field.get(null);
+
+        String pathTemplate = PATH_TEMPLATE + "/bazs/{bazName}";
+        Assertions.assertEquals("baz1",
+            ResourceManagerUtils.getValueFromIdByParameterName(ID + "/bazs/baz1", pathTemplate, "bazName"));
+        String[] segments = pathTemplateSegments.get(pathTemplate);
+        Assertions.assertArrayEquals(pathTemplate.split("/"), segments);
+
+        // template is split once, the segments are shared by the lookups
+        Assertions.assertEquals("foo1",
+            ResourceManagerUtils.getValueFromIdByParameterName(ID + "/bazs/baz1", pathTemplate, "fooName"));
+        Assertions.assertEquals("baz2",
+            ResourceManagerUtils.getValueFromIdByParameterName(ID + "/bazs/baz2", pathTemplate, "bazName"));
+        Assertions.assertSame(segments, pathTemplateSegments.get(pathTemplate));
+    }
+
+    @Test
+    public void testSameAsSplit() {
+        // randomized ids and templates, compared with the lookups on "split"
+        String[] idSegments = { "", "a", "A", "b", "{a}", "{b}", " " };
+        String[] pathSegments = { "", "a", "b", "{a}", "{A}", "{b}" };
+        String[] names = { "a", "A", "b", "{a}", "c" };
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; ++i) {
+            String id = randomPath(random, idSegments);
+            String pathTemplate = randomPath(random, pathSegments);
+            String name = names[random.nextInt(names.length)];
+            Assertions.assertEquals(getValueFromIdByNameOnSplit(id, name),
+                ResourceManagerUtils.getValueFromIdByName(id, name), () -> id + " " + name);
+            Assertions.assertEquals(getValueFromIdByParameterNameOnSplit(id, pathTemplate, name),
+                ResourceManagerUtils.getValueFromIdByParameterName(id, pathTemplate, name),
+                () -> id + " " + pathTemplate + " " + name);
+        }
+    }
+
+    @Test
+    public void testMapPageByPage() {
+        AtomicInteger mappedCount = new AtomicInteger();
+        PagedIterable<String> pagedIterable = ResourceManagerUtils.mapPage(pagedIterable(), item -> {
+            mappedCount.incrementAndGet();
+            return "item" + item;
+        });
+
+        Iterator<PagedResponse<String>> pages = pagedIterable.iterableByPage().iterator();
+        PagedResponse<String> page = pages.next();
+        Assertions.assertEquals("1", page.getContinuationToken());
+
+        // the elements are mapped on iteration
+        Iterator<String> elements = page.getElements().iterator();
+        Assertions.assertEquals(0, mappedCount.get());
+        Assertions.assertEquals("item0", elements.next());
+        Assertions.assertEquals(1, mappedCount.get());
+
+        // the value is a view of the inner page, element is mapped on each access
+        mappedCount.set(0);
+        List<String> items = page.getValue();
+        Assertions.assertEquals(PAGE_SIZE, items.size());
+        Assertions.assertEquals(0, mappedCount.get());
+        Assertions.assertEquals("item2", items.get(2));
+        Assertions.assertEquals(1, mappedCount.get());
+        Assertions.assertEquals("item2", items.get(2));
+        Assertions.assertEquals(2, mappedCount.get());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> items.get(PAGE_SIZE));
+
+        List<String> allItems = new ArrayList<>(items);
+        pages.forEachRemaining(p -> allItems.addAll(p.getValue()));
+        Assertions.assertEquals(expectedItems(0), allItems);
+    }
+
+    @Test
+    public void testMapPageByItem() {
+        PagedIterable<String> pagedIterable = ResourceManagerUtils.mapPage(pagedIterable(), item -> "item" + item);
+
+        Assertions.assertEquals(expectedItems(0), pagedIterable.stream().collect(Collectors.toList()));
+
+        List<String> items = new ArrayList<>();
+        pagedIterable.forEach(items::add);
+        Assertions.assertEquals(expectedItems(0), items);
+
+        // resumed from the continuation token of the first page
+        items.clear();
+        pagedIterable.iterableByPage("1").forEach(page -> items.addAll(page.getValue()));
+        Assertions.assertEquals(expectedItems(1), items);
+        Assertions.assertEquals(expectedItems(1),
+            pagedIterable.streamByPage("1").flatMap(page -> page.getValue().stream()).collect(Collectors.toList()));
+    }
+
+    private static String randomPath(Random random, String[] segments) {
+        int segmentCount = random.nextInt(8);
+        StringBuilder path = new StringBuilder();
+        for (int i = 0; i < segmentCount; ++i) {
+            if (i > 0) {
+                path.append('/');
+            }
+            path.append(segments[random.nextInt(segments.length)]);
+        }
+        return path.toString();
+    }
+
+    // lookup on "split", as ResourceManagerUtils did before ResourceId
+    private static String getValueFromIdByNameOnSplit(String id, String name) {
+        if (id == null) {
+            return null;
+        }
+        Iterator<String> itr = Arrays.stream(id.split("/")).iterator();
+        while (itr.hasNext()) {
+            String part = itr.next();
+            if (part != null && !part.trim().isEmpty()) {
+                if (part.equalsIgnoreCase(name)) {
+                    if (itr.hasNext()) {
+                        return itr.next();
+                    } else {
+                        return null;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String getValueFromIdByParameterNameOnSplit(String id, String pathTemplate, String parameterName) {
+        if (id == null || pathTemplate == null) {
+            return null;
+        }
+        String parameterNameParentheses = "{" + parameterName + "}";
+        List<String> idSegmentsReverted = Arrays.asList(id.split("/"));
+        List<String> pathSegments = Arrays.asList(pathTemplate.split("/"));
+        Collections.reverse(idSegmentsReverted);
+        Iterator<String> idItrReverted = idSegmentsReverted.iterator();
+        int pathIndex = pathSegments.size();
+        while (idItrReverted.hasNext() && pathIndex > 0) {
+            String idSegment = idItrReverted.next();
+            String pathSegment = pathSegments.get(--pathIndex);
+            if (!CoreUtils.isNullOrEmpty(idSegment) && !CoreUtils.isNullOrEmpty(pathSegment)) {
+                if (pathSegment.equalsIgnoreCase(parameterNameParentheses)) {
+                    if (pathIndex == 0 || (pathIndex == 1 && pathSegments.get(0).isEmpty())) {
+                        List<String> segments = new ArrayList<>();
+                        segments.add(idSegment);
+                        idItrReverted.forEachRemaining(segments::add);
+                        Collections.reverse(segments);
+                        if (!segments.isEmpty() && segments.get(0).isEmpty()) {
+                            segments.remove(0);
+                        }
+                        return String.join("/", segments);
+                    } else {
+                        return idSegment;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static PagedIterable<Integer> pagedIterable() {
+        return new PagedIterable<>(() -> page(0), continuationToken -> page(Integer.parseInt(continuationToken)));
+    }
+
+    private static PagedResponse<Integer> page(int index) {
+        List<Integer> items
+            = IntStream.range(index * PAGE_SIZE, (index + 1) * PAGE_SIZE).boxed().collect(Collectors.toList());
+        String continuationToken = index + 1 < PAGE_COUNT ? String.valueOf(index + 1) : null;
+        return new PagedResponseBase<Void, Integer>(null, 200, new HttpHeaders(), items, continuationToken, null);
+    }
+
+    private static List<String> expectedItems(int firstPageIndex) {
+        return IntStream.range(firstPageIndex * PAGE_SIZE, PAGE_COUNT * PAGE_SIZE)
+            .mapToObj(i -> "item" + i)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,123 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package tsptest.longrunning;
+
+import com.azure.core.util.polling.LongRunningOperationStatus;
+import com.azure.core.util.polling.PollResponse;
+import com.azure.core.util.polling.SyncPoller;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PollingSchedulerTests {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    @Test
+    public void testCompleted() throws Exception {
+        try (PollingScheduler scheduler = new PollingScheduler(2, POLL_INTERVAL)) {
+            CompletableFuture<String> future1 = scheduler.submit(createPoller(3));
+            CompletableFuture<String> future2 = scheduler.submit(createPoller(1));
+
+            Assertions.assertEquals("result", future1.get(10, TimeUnit.SECONDS));
+            Assertions.assertEquals("result", future2.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testRetryAfter() throws Exception {
+        // retry-after of the poll response is honored over the default interval
+        Duration defaultPollInterval = Duration.ofSeconds(30);
+        Duration retryAfter = Duration.ofMillis(50);
+        List<Long> pollTimes = new CopyOnWriteArrayList<>();
+        try (PollingScheduler scheduler = new PollingScheduler(1, defaultPollInterval)) {
+            CompletableFuture<String> future
+                = scheduler.submit(createPoller(3, retryAfter, () -> pollTimes.add(System.nanoTime())));
+
+            Assertions.assertEquals("result", future.get(10, TimeUnit.SECONDS));
+        }
+
+        Assertions.assertEquals(3, pollTimes.size());
+        for (int i = 1; i < pollTimes.size(); ++i) {
+            long delayMillis = TimeUnit.NANOSECONDS.toMillis(pollTimes.get(i) - pollTimes.get(i - 1));
+            Assertions.assertTrue(delayMillis >= retryAfter.toMillis() - 5, "delay " + delayMillis);
+            Assertions.assertTrue(delayMillis < defaultPollInterval.toMillis(), "delay " + delayMillis);
+        }
+    }
+
+    @Test
+    public void testDefaultPollInterval() throws Exception {
+        // poll response without retry-after waits the default interval
+        Duration defaultPollInterval = Duration.ofMillis(300);
+        List<Long> pollTimes = new CopyOnWriteArrayList<>();
+        try (PollingScheduler scheduler = new PollingScheduler(1, defaultPollInterval)) {
+            CompletableFuture<String> future
+                = scheduler.submit(createPoller(2, null, () -> pollTimes.add(System.nanoTime())));
+
+            Assertions.assertEquals("result", future.get(10, TimeUnit.SECONDS));
+        }
+
+        Assertions.assertEquals(2, pollTimes.size());
+        long delayMillis = TimeUnit.NANOSECONDS.toMillis(pollTimes.get(1) - pollTimes.get(0));
+        Assertions.assertTrue(delayMillis >= defaultPollInterval.toMillis() - 5, "delay " + delayMillis);
+    }
+
+    @Test
+    public void testFailed() {
+        try (PollingScheduler scheduler = new PollingScheduler(1, POLL_INTERVAL)) {
+            SyncPoller<String, String> poller = SyncPoller.createPoller(POLL_INTERVAL,
+                context -> new PollResponse<>(LongRunningOperationStatus.IN_PROGRESS, "activated"), context -> {
+                    throw new IllegalStateException("poll failed");
+                }, (context, response) -> null, context -> "result");
+
+            ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                () -> scheduler.submit(poller).get(10, TimeUnit.SECONDS));
+            Assertions.assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+    }
+
+    @Test
+    public void testCloseCompletesInProgress() throws Exception {
+        PollingScheduler scheduler = new PollingScheduler(1, POLL_INTERVAL);
+        // never completes
+        CompletableFuture<String> future = scheduler.submit(createPoller(Integer.MAX_VALUE));
+        // queued behind the first operation on the single worker, or waiting on the timer
+        CompletableFuture<String> queuedFuture = scheduler.submit(createPoller(Integer.MAX_VALUE));
+        Thread.sleep(50);
+
+        scheduler.close();
+
+        // callers blocked on the futures are released
+        ExecutionException e
+            = Assertions.assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IllegalStateException.class, e.getCause());
+        e = Assertions.assertThrows(ExecutionException.class, () -> queuedFuture.get(10, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IllegalStateException.class, e.getCause());
+
+        Assertions.assertThrows(RejectedExecutionException.class, () -> scheduler.submit(createPoller(1)));
+    }
+
+    private static SyncPoller<String, String> createPoller(int pollCount) {
+        return createPoller(pollCount, POLL_INTERVAL, () -> {
+        });
+    }
+
+    private static SyncPoller<String, String> createPoller(int pollCount, Duration retryAfter, Runnable onPoll) {
+        AtomicInteger count = new AtomicInteger();
+        return SyncPoller.createPoller(POLL_INTERVAL,
+            context -> new PollResponse<>(LongRunningOperationStatus.IN_PROGRESS, "activated"), context -> {
+                onPoll.run();
+                return count.incrementAndGet() >= pollCount
+                    ? new PollResponse<>(LongRunningOperationStatus.SUCCESSFULLY_COMPLETED, "completed")
+                    : new PollResponse<>(LongRunningOperationStatus.IN_PROGRESS, "in progress", retryAfter);
+            }, (context, response) -> null, context -> "result");
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import tsptest.patch.implementation.JsonMergePatchHelper;
+import tsptest.patch.implementation.JsonSerializableHelper;
 import tsptest.patch.models.Fish;
 import tsptest.patch.models.InnerModel;
 import tsptest.patch.models.Resource;
@@ -193,4 +194,40 @@ public class PatchClientTest {
         Assertions.assertNull(node.get("description"));
         Assertions.assertEquals(JsonNodeType.NULL, node.get("intValue").getNodeType());
     }
+
+    @Test
+    public void testSerializationViaAccessor() throws JsonProcessingException {
+        // serialized as the convenience method does, the model is not modified
+        Resource resource = new Resource();
+        resource.setIntValue(null);
+        Fish partner = new Salmon().setAge(3);
+        partner.setColor(null);
+        resource.setFish(new Salmon().setAge(2).setPartner(partner));
+        BinaryData data = JsonSerializableHelper.toBinaryData(resource,
+            JsonMergePatchHelper.getResourceAccessor()::toJsonMergePatch);
+        Assertions.assertFalse(JsonMergePatchHelper.getResourceAccessor().isJsonMergePatch(resource));
+        JsonNode node = OBJECT_MAPPER.readTree(data.toString());
+        Assertions.assertEquals(JsonNodeType.NULL, node.get("intValue").getNodeType());
+        Assertions.assertNull(node.get("description"));
+        Assertions.assertEquals("salmon", node.get("fish").get("kind").asText());
+        Assertions.assertEquals(2, node.get("fish").get("age").asInt());
+        Assertions.assertEquals(JsonNodeType.NULL, node.get("fish").get("partner").get("color").getNodeType());
+
+        // same as serialized via the jsonMergePatch flag
+        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, true);
+        BinaryData flagData = BinaryData.fromObject(resource);
+        flagData.getLength(); // fire serialization
+        JsonMergePatchHelper.getResourceAccessor().prepareModelForJsonMergePatch(resource, false);
+        Assertions.assertEquals(OBJECT_MAPPER.readTree(flagData.toString()), node);
+
+        // polymorphic model dispatches to the derived model
+        Fish fish = new Salmon().setAge(1);
+        fish.setColor(null);
+        JsonNode fishNode = OBJECT_MAPPER.readTree(
+            JsonSerializableHelper.toBinaryData(fish, JsonMergePatchHelper.getFishAccessor()::toJsonMergePatch)
+                .toString());
+        Assertions.assertEquals("salmon", fishNode.get("kind").asText());
+        Assertions.assertEquals(JsonNodeType.NULL, fishNode.get("color").getNodeType());
+        Assertions.assertFalse(JsonMergePatchHelper.getFishAccessor().isJsonMergePatch(fish));
+    }
 }
@@ -0,0 +1,99 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package type.model.usage;
+
+import com.azure.core.util.BinaryData;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import type.model.usage.implementation.JsonSerializableHelper;
+import type.model.usage.models.OutputRecord;
+
+public class JsonSerializableHelperTests {
+
+    private static final String JSON = "{\"requiredProp\":\"example-value\"}";
+
+    private static final int CHUNK_SIZE = 1024;
+    private static final int CHUNK_COUNT = 1024;
+
+    @Test
+    public void testReplayableBody() {
+        // e.g. body buffered for logging, parsed from its bytes
+        BinaryData data = Mockito.spy(BinaryData.fromString(JSON));
+        Assertions.assertTrue(data.isReplayable());
+
+        OutputRecord output = JsonSerializableHelper.fromBinaryDataStream(data, OutputRecord::fromJson);
+        Assertions.assertEquals("example-value", output.getRequiredProp());
+
+        Mockito.verify(data).toBytes();
+        Mockito.verify(data, Mockito.never()).toStream();
+        Mockito.verify(data, Mockito.never()).toFluxByteBuffer();
+        // still readable
+        Assertions.assertEquals(JSON, data.toString());
+    }
+
+    @Test
+    public void testInputStreamBody() {
+        // e.g. body of OkHttp
+        BinaryData data
+            = Mockito.spy(BinaryData.fromStream(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8))));
+        Assertions.assertFalse(data.isReplayable());
+
+        OutputRecord output = JsonSerializableHelper.fromBinaryDataStream(data, OutputRecord::fromJson);
+        Assertions.assertEquals("example-value", output.getRequiredProp());
+
+        Mockito.verify(data).toFluxByteBuffer();
+        Mockito.verify(data, Mockito.never()).toBytes();
+    }
+
+    @Test
+    public void testEmptyBody() {
+        // e.g. body of 204 response, read as null the same as BinaryData.toObject
+        Assertions.assertNull(
+            JsonSerializableHelper.fromBinaryData(BinaryData.fromBytes(new byte[0]), OutputRecord::fromJson));
+        Assertions
+            .assertNull(JsonSerializableHelper.fromBinaryData(BinaryData.fromString("null"), OutputRecord::fromJson));
+
+        BinaryData data = BinaryData.fromFlux(Flux.<ByteBuffer>empty(), null, false).block();
+        Assertions.assertFalse(data.isReplayable());
+        Assertions.assertNull(JsonSerializableHelper.fromBinaryDataStream(data, OutputRecord::fromJson));
+    }
+
+    @Test
+    public void testFluxBody() {
+        // e.g. body of Netty, JSON in first chunk, followed by whitespace
+        AtomicInteger emittedCount = new AtomicInteger();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flux<ByteBuffer> body = Flux.range(0, CHUNK_COUNT).map(i -> {
+            byte[] chunk = new byte[CHUNK_SIZE];
+            Arrays.fill(chunk, (byte) ' ');
+            if (i == 0) {
+                byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+                System.arraycopy(json, 0, chunk, 0, json.length);
+            }
+            return ByteBuffer.wrap(chunk);
+        }).doOnNext(chunk -> emittedCount.incrementAndGet()).doOnCancel(() -> cancelled.set(true));
+        BinaryData data = BinaryData.fromFlux(body, null, false).block();
+        Assertions.assertFalse(data.isReplayable());
+
+        AtomicInteger emittedCountBeforeRead = new AtomicInteger();
+        OutputRecord output = JsonSerializableHelper.fromBinaryDataStream(data, jsonReader -> {
+            emittedCountBeforeRead.set(emittedCount.get());
+            return OutputRecord.fromJson(jsonReader);
+        });
+        Assertions.assertEquals("example-value", output.getRequiredProp());
+
+        // the body is not collected before it is parsed, and the rest is cancelled after the model is read
+        Assertions.assertTrue(emittedCountBeforeRead.get() < CHUNK_COUNT, "emitted " + emittedCountBeforeRead.get());
+        Assertions.assertTrue(emittedCount.get() < CHUNK_COUNT, "emitted " + emittedCount.get());
+        Assertions.assertTrue(cancelled.get());
+    }
+}
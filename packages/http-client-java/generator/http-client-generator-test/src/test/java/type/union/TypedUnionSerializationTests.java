@@ -0,0 +1,104 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License.
+
+package type.union;
+
+import com.azure.json.JsonProviders;
+import com.azure.json.JsonReader;
+import com.azure.json.JsonSerializable;
+import com.azure.json.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import type.union.models.AMixedTypesCasesModel;
+import type.union.models.BooleanMixedTypesCasesModel;
+import type.union.models.Cat;
+import type.union.models.CatMixedTypesCasesModel;
+import type.union.models.IntegerMixedTypesCasesModel;
+import type.union.models.MixedTypesCases;
+import type.union.models.MixedTypesCasesModelBase;
+import type.union.models.StringAndArrayCases;
+import type.union.models.StringAndArrayCasesStringBase;
+import type.union.models.StringListStringAndArrayCasesArray;
+import type.union.models.StringListStringAndArrayCasesString;
+import type.union.models.StringStringAndArrayCasesArray;
+import type.union.models.StringStringAndArrayCasesString;
+
+public class TypedUnionSerializationTests {
+
+    private static final String MIXED_TYPES_JSON
+        = "{\"model\":{\"name\":\"test\"},\"literal\":\"a\",\"int\":2,\"boolean\":true,"
+            + "\"array\":[{\"name\":\"test\"},\"a\",2,true]}";
+
+    @Test
+    public void testMixedTypesRoundTrip() throws IOException {
+        MixedTypesCases cases;
+        try (JsonReader jsonReader = JsonProviders.createReader(MIXED_TYPES_JSON)) {
+            cases = MixedTypesCases.fromJson(jsonReader);
+        }
+
+        // each variant is read from the JSON token of the value
+        Assertions.assertEquals("test", ((CatMixedTypesCasesModel) cases.getModel()).getValue().getName());
+        Assertions.assertEquals("a", ((AMixedTypesCasesModel) cases.getLiteral()).getValue());
+        Assertions.assertEquals(2, ((IntegerMixedTypesCasesModel) cases.getIntProperty()).getValue());
+        Assertions.assertTrue(((BooleanMixedTypesCasesModel) cases.getBooleanProperty()).isValue());
+        List<MixedTypesCasesModelBase> array = cases.getArray();
+        Assertions.assertInstanceOf(CatMixedTypesCasesModel.class, array.get(0));
+        Assertions.assertInstanceOf(AMixedTypesCasesModel.class, array.get(1));
+        Assertions.assertInstanceOf(IntegerMixedTypesCasesModel.class, array.get(2));
+        Assertions.assertInstanceOf(BooleanMixedTypesCasesModel.class, array.get(3));
+
+        Assertions.assertEquals(MIXED_TYPES_JSON, toJsonString(cases));
+    }
+
+    @Test
+    public void testMixedTypesWrite() throws IOException {
+        MixedTypesCasesModelBase cat = new CatMixedTypesCasesModel(new Cat("test"));
+        MixedTypesCases cases = new MixedTypesCases(cat, new AMixedTypesCasesModel("a"),
+            new IntegerMixedTypesCasesModel(2), new BooleanMixedTypesCasesModel(true),
+            Arrays.asList(cat, new AMixedTypesCasesModel("a"), new IntegerMixedTypesCasesModel(2),
+                new BooleanMixedTypesCasesModel(true)));
+
+        Assertions.assertEquals(MIXED_TYPES_JSON, toJsonString(cases));
+    }
+
+    @Test
+    public void testStringAndArrayRoundTrip() throws IOException {
+        String json = "{\"string\":[\"test1\",\"test2\"],\"array\":\"test\"}";
+
+        StringAndArrayCases cases;
+        try (JsonReader jsonReader = JsonProviders.createReader(json)) {
+            cases = StringAndArrayCases.fromJson(jsonReader);
+        }
+
+        Assertions.assertEquals(Arrays.asList("test1", "test2"),
+            ((StringListStringAndArrayCasesString) cases.getString()).getValue());
+        Assertions.assertEquals("test", ((StringStringAndArrayCasesArray) cases.getArray()).getValue());
+        Assertions.assertEquals(json, toJsonString(cases));
+
+        cases = new StringAndArrayCases(new StringStringAndArrayCasesString("test"),
+            new StringListStringAndArrayCasesArray(Arrays.asList("test1", "test2")));
+        Assertions.assertEquals("{\"string\":\"test\",\"array\":[\"test1\",\"test2\"]}", toJsonString(cases));
+    }
+
+    @Test
+    public void testUnexpectedToken() throws IOException {
+        try (JsonReader jsonReader = JsonProviders.createReader("{\"string\":1,\"array\":\"test\"}")) {
+            Assertions.assertThrows(IllegalStateException.class, () -> StringAndArrayCases.fromJson(jsonReader));
+        }
+        try (JsonReader jsonReader = JsonProviders.createReader("null")) {
+            Assertions.assertNull(StringAndArrayCasesStringBase.fromJson(jsonReader));
+        }
+    }
+
+    private static String toJsonString(JsonSerializable<?> model) throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonWriter jsonWriter = JsonProviders.createWriter(stringWriter)) {
+            model.toJson(jsonWriter);
+        }
+        return stringWriter.toString();
+    }
+}
@@ -4,12 +4,14 @@
 package type.union;
 
 import com.azure.core.util.BinaryData;
-import com.azure.core.util.serializer.TypeReference;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import type.union.models.AMixedTypesCasesModel;
+import type.union.models.BooleanMixedTypesCasesModel;
 import type.union.models.Cat;
+import type.union.models.CatMixedTypesCasesModel;
 import type.union.models.EnumsOnlyCases;
 import type.union.models.EnumsOnlyCasesLr;
 import type.union.models.EnumsOnlyCasesUd;
@@ -17,10 +19,14 @@ import type.union.models.GetResponseProp;
 import type.union.models.GetResponseProp1;
 import type.union.models.GetResponseProp2;
 import type.union.models.GetResponseProp3;
+import type.union.models.IntegerMixedTypesCasesModel;
 import type.union.models.MixedLiteralsCases;
 import type.union.models.MixedTypesCases;
+import type.union.models.MixedTypesCasesModelBase;
 import type.union.models.StringAndArrayCases;
 import type.union.models.StringExtensibleNamedUnion;
+import type.union.models.StringListStringAndArrayCasesArray;
+import type.union.models.StringStringAndArrayCasesString;
 
 public class UnionsClientTest {
 
@@ -88,10 +94,9 @@ public class UnionsClientTest {
     @Test
     public void testStringAndArrayClient() {
         StringAndArrayCases prop = client8.get().getProp();
-        Assertions.assertEquals("test", prop.getString().toObject(String.class));
+        Assertions.assertEquals("test", ((StringStringAndArrayCasesString) prop.getString()).getValue());
         Assertions.assertEquals(Arrays.asList("test1", "test2"),
-            prop.getArray().toObject(new TypeReference<List<String>>() {
-            }));
+            ((StringListStringAndArrayCasesArray) prop.getArray()).getValue());
         client8.send(prop);
     }
 
@@ -108,15 +113,15 @@ public class UnionsClientTest {
     @Test
     public void testMixedTypesClient() {
         MixedTypesCases prop = client10.get().getProp();
-        Assertions.assertEquals("test", prop.getModel().toObject(Cat.class).getName());
-        Assertions.assertEquals("a", prop.getLiteral().toObject(String.class));
-        Assertions.assertEquals(2L, prop.getIntProperty().toObject(Long.class));
-        Assertions.assertEquals(true, prop.getBooleanProperty().toObject(Boolean.class));
-        List<BinaryData> array = prop.getArray();
-        Assertions.assertEquals("test", array.get(0).toObject(Cat.class).getName());
-        Assertions.assertEquals("a", array.get(1).toObject(String.class));
-        Assertions.assertEquals(2L, array.get(2).toObject(Long.class));
-        Assertions.assertEquals(true, array.get(3).toObject(Boolean.class));
+        Assertions.assertEquals("test", ((CatMixedTypesCasesModel) prop.getModel()).getValue().getName());
+        Assertions.assertEquals("a", ((AMixedTypesCasesModel) prop.getLiteral()).getValue());
+        Assertions.assertEquals(2, ((IntegerMixedTypesCasesModel) prop.getIntProperty()).getValue());
+        Assertions.assertTrue(((BooleanMixedTypesCasesModel) prop.getBooleanProperty()).isValue());
+        List<MixedTypesCasesModelBase> array = prop.getArray();
+        Assertions.assertEquals("test", ((CatMixedTypesCasesModel) array.get(0)).getValue().getName());
+        Assertions.assertEquals("a", ((AMixedTypesCasesModel) array.get(1)).getValue());
+        Assertions.assertEquals(2, ((IntegerMixedTypesCasesModel) array.get(2)).getValue());
+        Assertions.assertTrue(((BooleanMixedTypesCasesModel) array.get(3)).isValue());
 
         client10.send(prop);
     }
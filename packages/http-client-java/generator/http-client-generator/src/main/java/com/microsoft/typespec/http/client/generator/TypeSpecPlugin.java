@@ -129,6 +129,42 @@ public class TypeSpecPlugin extends Javagen {
             }
         }
 
+        // JsonSerializableHelper
+        if (ClientModelUtil.requireJsonSerializableHelper(client.getSyncClients(), client.getAsyncClients(),
+            settings)) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.JSON_SERIALIZABLE_HELPER_CLASS_NAME);
+        }
+
+        // DateTimeCodec
+        if (settings.isUseDateTimeCodec()) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.DATE_TIME_CODEC);
+        }
+
+        // JsonLines
+        if (ClientModelUtil.requireJsonLines(client.getSyncClients(), settings)) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.JSON_LINES);
+        }
+
+        // PagePrefetcher
+        if (ClientModelUtil.requirePagePrefetcher(client.getServiceClient(), client.getServiceClients(), settings)) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.PAGE_PREFETCHER);
+        }
+
+        // UriExpander
+        if (ClientModelUtil.requireUriExpander(client.getServiceClient(), client.getServiceClients())) {
+            javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
+                ClientModelUtil.URI_EXPANDER);
+        }
+
+        // ConditionalRequestCachePolicy
+        if (settings.isConditionalRequestCache()) {
+            javaPackage.addJavaFromResources(settings.getPackage(), ClientModelUtil.CONDITIONAL_REQUEST_CACHE_POLICY);
+        }
+
         // OperationLocationPollingStrategy
         if (ClientModelUtil.requireOperationLocationPollingStrategy(codeModel)) {
             if (JavaSettings.getInstance().isAzureV2()) {
@@ -144,6 +180,10 @@ public class TypeSpecPlugin extends Javagen {
                     ClientModelUtil.SYNC_OPERATION_LOCATION_POLLING_STRATEGY);
                 javaPackage.addJavaFromResources(settings.getPackage(settings.getImplementationSubpackage()),
                     ClientModelUtil.POLLING_UTILS);
+                if (settings.isGeneratePollingScheduler()) {
+                    // public API, used with the SyncPoller returned from the client
+                    javaPackage.addJavaFromResources(settings.getPackage(), ClientModelUtil.POLLING_SCHEDULER);
+                }
             }
 
         }
@@ -234,6 +274,39 @@ public class TypeSpecPlugin extends Javagen {
         if (options.getUseRestProxy() != null) {
             SETTINGS_MAP.put("use-rest-proxy", emitterOptions.getUseRestProxy());
         }
+        if (options.getLazyTypedHeaders() != null) {
+            SETTINGS_MAP.put("lazy-typed-headers", options.getLazyTypedHeaders());
+        }
+        if (options.getGeneratePollingScheduler() != null) {
+            SETTINGS_MAP.put("generate-polling-scheduler", options.getGeneratePollingScheduler());
+        }
+        if (options.getEnablePagePrefetch() != null) {
+            SETTINGS_MAP.put("enable-page-prefetch", options.getEnablePagePrefetch());
+        }
+        if (options.getTypedUnions() != null) {
+            SETTINGS_MAP.put("typed-unions", options.getTypedUnions());
+        }
+        if (options.getUseDateTimeCodec() != null) {
+            SETTINGS_MAP.put("use-date-time-codec", options.getUseDateTimeCodec());
+        }
+        if (options.getUseByteArrayForBase64Url() != null) {
+            SETTINGS_MAP.put("use-byte-array-for-base64url", options.getUseByteArrayForBase64Url());
+        }
+        if (options.getValidateInSerialization() != null) {
+            SETTINGS_MAP.put("validate-in-serialization", options.getValidateInSerialization());
+        }
+        if (options.getJsonLinesStreaming() != null) {
+            SETTINGS_MAP.put("jsonl-streaming", options.getJsonLinesStreaming());
+        }
+        if (options.getGenerateFileUploadOverloads() != null) {
+            SETTINGS_MAP.put("generate-file-upload-overloads", options.getGenerateFileUploadOverloads());
+        }
+        if (options.getStreamResponseDeserialization() != null) {
+            SETTINGS_MAP.put("stream-response-deserialization", options.getStreamResponseDeserialization());
+        }
+        if (options.getConditionalRequestCache() != null) {
+            SETTINGS_MAP.put("conditional-request-cache", options.getConditionalRequestCache());
+        }
 
         SETTINGS_MAP.put("sdk-integration", sdkIntegration);
         SETTINGS_MAP.put("regenerate-pom", sdkIntegration);
@@ -58,6 +58,12 @@ public class TypeSpecFluentPlugin extends FluentGen {
         if (options.getClientSideValidations() != null) {
             SETTINGS_MAP.put("client-side-validations", options.getClientSideValidations());
         }
+        if (options.getLazyTypedHeaders() != null) {
+            SETTINGS_MAP.put("lazy-typed-headers", options.getLazyTypedHeaders());
+        }
+        if (options.getValidateInSerialization() != null) {
+            SETTINGS_MAP.put("validate-in-serialization", options.getValidateInSerialization());
+        }
         if (options.getArm()) {
             if (options.getPremium()) {
                 SETTINGS_MAP.put("fluent", "premium");
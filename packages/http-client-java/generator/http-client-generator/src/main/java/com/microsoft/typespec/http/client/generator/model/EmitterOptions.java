@@ -41,6 +41,17 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
     private Boolean useDefaultHttpStatusCodeToExceptionTypeMapping = true;
     private Boolean clientSideValidations = false;
     private Boolean uuidAsString = true;
+    private Boolean lazyTypedHeaders;
+    private Boolean generatePollingScheduler;
+    private Boolean enablePagePrefetch;
+    private Boolean typedUnions;
+    private Boolean useDateTimeCodec;
+    private Boolean useByteArrayForBase64Url;
+    private Boolean validateInSerialization;
+    private Boolean jsonLinesStreaming;
+    private Boolean generateFileUploadOverloads;
+    private Boolean streamResponseDeserialization;
+    private Boolean conditionalRequestCache;
     private DevOptions devOptions;
 
     // mgmt
@@ -165,6 +176,50 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
         return useRestProxy;
     }
 
+    public Boolean getLazyTypedHeaders() {
+        return lazyTypedHeaders;
+    }
+
+    public Boolean getGeneratePollingScheduler() {
+        return generatePollingScheduler;
+    }
+
+    public Boolean getEnablePagePrefetch() {
+        return enablePagePrefetch;
+    }
+
+    public Boolean getTypedUnions() {
+        return typedUnions;
+    }
+
+    public Boolean getUseDateTimeCodec() {
+        return useDateTimeCodec;
+    }
+
+    public Boolean getUseByteArrayForBase64Url() {
+        return useByteArrayForBase64Url;
+    }
+
+    public Boolean getValidateInSerialization() {
+        return validateInSerialization;
+    }
+
+    public Boolean getJsonLinesStreaming() {
+        return jsonLinesStreaming;
+    }
+
+    public Boolean getGenerateFileUploadOverloads() {
+        return generateFileUploadOverloads;
+    }
+
+    public Boolean getStreamResponseDeserialization() {
+        return streamResponseDeserialization;
+    }
+
+    public Boolean getConditionalRequestCache() {
+        return conditionalRequestCache;
+    }
+
     public Boolean getUseDefaultHttpStatusCodeToExceptionTypeMapping() {
         return useDefaultHttpStatusCodeToExceptionTypeMapping;
     }
@@ -263,6 +318,28 @@ public class EmitterOptions implements JsonSerializable<EmitterOptions> {
                 options.apiVersion = emptyToNull(reader.getString());
             } else if ("use-rest-proxy".equals(fieldName)) {
                 options.useRestProxy = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("lazy-typed-headers".equals(fieldName)) {
+                options.lazyTypedHeaders = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("generate-polling-scheduler".equals(fieldName)) {
+                options.generatePollingScheduler = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("enable-page-prefetch".equals(fieldName)) {
+                options.enablePagePrefetch = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("typed-unions".equals(fieldName)) {
+                options.typedUnions = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("use-date-time-codec".equals(fieldName)) {
+                options.useDateTimeCodec = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("use-byte-array-for-base64url".equals(fieldName)) {
+                options.useByteArrayForBase64Url = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("validate-in-serialization".equals(fieldName)) {
+                options.validateInSerialization = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("jsonl-streaming".equals(fieldName)) {
+                options.jsonLinesStreaming = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("generate-file-upload-overloads".equals(fieldName)) {
+                options.generateFileUploadOverloads = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("stream-response-deserialization".equals(fieldName)) {
+                options.streamResponseDeserialization = reader.getNullable(EmitterOptions::getBoolean);
+            } else if ("conditional-request-cache".equals(fieldName)) {
+                options.conditionalRequestCache = reader.getNullable(EmitterOptions::getBoolean);
             } else if ("use-default-http-status-code-to-exception-type-mapping".equals(fieldName)) {
                 options.useDefaultHttpStatusCodeToExceptionTypeMapping = reader.getNullable(EmitterOptions::getBoolean);
             } else if ("rename-model".equals(fieldName)) {